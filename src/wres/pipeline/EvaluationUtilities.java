@@ -66,6 +66,7 @@ import wres.metrics.SummaryStatisticsCalculator;
 import wres.pipeline.pooling.PoolFactory;
 import wres.pipeline.pooling.PoolParameters;
 import wres.io.project.Project;
+import wres.io.retrieving.RetentionBudget;
 import wres.io.retrieving.RetrieverFactory;
 import wres.io.retrieving.database.EnsembleRetrieverFactory;
 import wres.io.retrieving.database.SingleValuedRetrieverFactory;
@@ -74,6 +75,8 @@ import wres.io.retrieving.memory.SingleValuedRetrieverFactoryInMemory;
 import wres.writing.SharedSampleDataWriters;
 import wres.writing.csv.pairs.PairsWriter;
 import wres.writing.netcdf.NetcdfOutputWriter;
+import wres.pipeline.pooling.PoolAdmissionScheduler;
+import wres.pipeline.pooling.PoolProcessingResult;
 import wres.pipeline.pooling.PoolProcessor;
 import wres.pipeline.pooling.PoolReporter;
 import wres.pipeline.statistics.StatisticsProcessor;
@@ -561,7 +564,9 @@ class EvaluationUtilities
         if ( Objects.nonNull( evaluationDetails.declaration()
                                                .eventDetection() ) )
         {
-            retriever = EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails );
+            // No time-series are retained ahead of the pools, which are not admitted yet
+            retriever = EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails,
+                                                                             RetentionBudget.of( 0 ) );
         }
 
         List<PoolRequest> poolRequests = poolFactory.getPoolRequests( evaluation, retriever );
@@ -715,9 +720,11 @@ class EvaluationUtilities
     /**
      * Returns a {@link RetrieverFactory} for single-valued datasets.
      * @param details the evaluation details
+     * @param retention the budget for the time-series events retrieved ahead of the pools that need them
      * @return the retriever factory
      */
-    static RetrieverFactory<Double, Double, Double> getSingleValuedRetrieverFactory( EvaluationDetails details )
+    static RetrieverFactory<Double, Double, Double> getSingleValuedRetrieverFactory( EvaluationDetails details,
+                                                                                     RetentionBudget retention )
     {
         // Create a retriever factory to support retrieval for this project
         RetrieverFactory<Double, Double, Double> retrieverFactory;
@@ -733,7 +740,10 @@ class EvaluationUtilities
             retrieverFactory = SingleValuedRetrieverFactory.of( details.project(),
                                                                 details.databaseServices()
                                                                        .database(),
-                                                                details.caches() );
+                                                                details.caches(),
+                                                                details.systemSettings()
+                                                                       .getTimeWindowBatchSize(),
+                                                                retention );
         }
 
         return retrieverFactory;
@@ -879,46 +889,87 @@ class EvaluationUtilities
         // Ensemble pairs
         if ( type == DataType.ENSEMBLE_FORECASTS )
         {
+            int memberCount = evaluationDetails.project()
+                                               .getEnsembleLabels( DatasetOrientation.RIGHT )
+                                               .size();
+            PoolAdmissionScheduler scheduler = EvaluationUtilities.getPoolAdmissionScheduler( evaluationDetails,
+                                                                                              executors,
+                                                                                              memberCount );
+
+            // The time-series retrieved ahead of the pools that need them count against the admission budget
             List<PoolProcessor<Double, Ensemble>> poolProcessors =
                     EvaluationUtilities.getEnsemblePoolProcessors( evaluationDetails,
                                                                    poolDetails,
                                                                    sharedWriters,
-                                                                   executors );
-
+                                                                   executors,
+                                                                   scheduler.getRetentionBudget() );
             poolTasks = EvaluationUtilities.getPoolTaskChain( poolProcessors,
-                                                              executors.poolExecutor(),
+                                                              scheduler,
                                                               poolDetails.poolReporter() );
         }
         // All other single-valued types
         else
         {
+            PoolAdmissionScheduler scheduler = EvaluationUtilities.getPoolAdmissionScheduler( evaluationDetails,
+                                                                                              executors,
+                                                                                              0 );
+
+            // The time-series retrieved ahead of the pools that need them count against the admission budget
             List<PoolProcessor<Double, Double>> poolProcessors =
                     EvaluationUtilities.getSingleValuedPoolProcessors( evaluationDetails,
                                                                        poolDetails,
                                                                        sharedWriters,
-                                                                       executors );
-
+                                                                       executors,
+                                                                       scheduler.getRetentionBudget() );
             poolTasks = EvaluationUtilities.getPoolTaskChain( poolProcessors,
-                                                              executors.poolExecutor(),
+                                                              scheduler,
                                                               poolDetails.poolReporter() );
         }
 
         return poolTasks;
     }
 
+    /**
+     * Creates a scheduler that admits pools to the pool executor against a heap budget, which is a fraction of the
+     * maximum heap.
+     *
+     * @param evaluationDetails the evaluation details
+     * @param executors the executor services
+     * @param ensembleMemberCount the number of ensemble members in each paired event, zero for single-valued pairs
+     * @return the pool admission scheduler
+     */
+
+    private static PoolAdmissionScheduler getPoolAdmissionScheduler( EvaluationDetails evaluationDetails,
+                                                                     EvaluationExecutors executors,
+                                                                     int ensembleMemberCount )
+    {
+        double fraction = evaluationDetails.systemSettings()
+                                           .getPoolHeapFraction();
+        long budget = Math.max( 1, ( long ) ( Runtime.getRuntime()
+                                                     .maxMemory() * fraction ) );
+
+        LOGGER.debug( "Admitting pools against a heap budget of {} bytes, which is {} of the maximum heap.",
+                      budget,
+                      fraction );
+
+        return PoolAdmissionScheduler.of( executors.poolExecutor(), budget, ensembleMemberCount );
+    }
+
     /**
      * Returns a list of processors for processing single-valued pools, one for each pool request.
      * @param evaluationDetails the evaluation details
      * @param poolDetails the pool details
      * @param sharedWriters the shared writers
      * @param executors the executors
+     * @param retention the budget for the time-series events retrieved ahead of the pools that need them
      * @return the single-valued processors
      */
 
     private static List<PoolProcessor<Double, Double>> getSingleValuedPoolProcessors( EvaluationDetails evaluationDetails,
                                                                                       PoolDetails poolDetails,
                                                                                       SharedWriters sharedWriters,
-                                                                                      EvaluationExecutors executors )
+                                                                                      EvaluationExecutors executors,
+                                                                                      RetentionBudget retention )
     {
         Project project = evaluationDetails.project();
 
@@ -945,7 +996,7 @@ class EvaluationUtilities
 
         // Create a retriever factory to support retrieval for this project
         RetrieverFactory<Double, Double, Double> retrieverFactory =
-                EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails );
+                EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails, retention );
 
         // Create the pool suppliers for all pools in this evaluation
         PoolFactory poolFactory = poolDetails.poolFactory();
@@ -1028,13 +1079,15 @@ class EvaluationUtilities
      * @param poolDetails the pool details
      * @param sharedWriters the shared writers
      * @param executors the executors
+     * @param retention the budget for the time-series events retrieved ahead of the pools that need them
      * @return the ensemble processors
      */
 
     private static List<PoolProcessor<Double, Ensemble>> getEnsemblePoolProcessors( EvaluationDetails evaluationDetails,
                                                                                     PoolDetails poolDetails,
                                                                                     SharedWriters sharedWriters,
-                                                                                    EvaluationExecutors executors )
+                                                                                    EvaluationExecutors executors,
+                                                                                    RetentionBudget retention )
     {
         Project project = evaluationDetails.project();
         EvaluationDeclaration declaration = evaluationDetails.declaration();
@@ -1122,7 +1175,10 @@ class EvaluationUtilities
                 retrieverFactory = EnsembleRetrieverFactory.of( project,
                                                                 evaluationDetails.databaseServices()
                                                                                  .database(),
-                                                                evaluationDetails.caches() );
+                                                                evaluationDetails.caches(),
+                                                                evaluationDetails.systemSettings()
+                                                                                 .getTimeWindowBatchSize(),
+                                                                retention );
             }
 
             // Create the pool suppliers for all pools in this evaluation
@@ -1229,13 +1285,13 @@ class EvaluationUtilities
      * @param <L> the left type of pooled data
      * @param <R> the right type of pooled data
      * @param poolProcessors the pool processors
-     * @param poolExecutor the pool executor
+     * @param scheduler the scheduler that admits pools to the pool executor
      * @param poolReporter the pool reporter
      * @return the pool tasks
      */
 
     private static <L, R> CompletableFuture<Object> getPoolTaskChain( List<PoolProcessor<L, R>> poolProcessors,
-                                                                      ExecutorService poolExecutor,
+                                                                      PoolAdmissionScheduler scheduler,
                                                                       PoolReporter poolReporter )
     {
         // Create the composition of pool tasks for completion
@@ -1244,18 +1300,17 @@ class EvaluationUtilities
         // Create a future that completes when any one pool task completes exceptionally
         CompletableFuture<Void> oneExceptional = new CompletableFuture<>();
 
-        for ( PoolProcessor<L, R> nextProcessor : poolProcessors )
+        // Admit the pools against the heap budget, rather than submitting them all at once
+        for ( CompletableFuture<PoolProcessingResult> nextPool : scheduler.submit( poolProcessors ) )
         {
-            CompletableFuture<Void> nextPoolTask = CompletableFuture.supplyAsync( nextProcessor,
-                                                                                  poolExecutor )
-                                                                    .thenAccept( poolReporter )
-                                                                    // When one pool completes exceptionally, propagate
-                                                                    // Once chained below, all others that have not
-                                                                    // excepted will get a RejectedExecutionException
-                                                                    .exceptionally( exception -> {
-                                                                        oneExceptional.completeExceptionally( exception );
-                                                                        return null;
-                                                                    } );
+            CompletableFuture<Void> nextPoolTask = nextPool.thenAccept( poolReporter )
+                                                           // When one pool completes exceptionally, propagate
+                                                           // Once chained below, all others that have not
+                                                           // excepted will get a RejectedExecutionException
+                                                           .exceptionally( exception -> {
+                                                               oneExceptional.completeExceptionally( exception );
+                                                               return null;
+                                                           } );
 
             poolTasks.add( nextPoolTask );
         }
@@ -1265,7 +1320,10 @@ class EvaluationUtilities
                 CompletableFuture.allOf( poolTasks.toArray( new CompletableFuture[0] ) );
 
         // Chain the two futures together so that either: 1) all pool tasks succeed; or 2) one fails exceptionally.
-        return CompletableFuture.anyOf( allDone, oneExceptional );
+        // Either way, no more time-series will be requested, so release any that were retrieved ahead of their pools
+        return CompletableFuture.anyOf( allDone, oneExceptional )
+                                .whenComplete( ( result, exception ) -> scheduler.getRetentionBudget()
+                                                                                 .releaseAll() );
     }
 
     /**
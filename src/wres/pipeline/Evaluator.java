@@ -58,6 +58,7 @@ import wres.io.ingesting.SourceLoader;
 import wres.io.ingesting.TimeSeriesIngester;
 import wres.io.ingesting.database.DatabaseTimeSeriesIngester;
 import wres.io.ingesting.memory.InMemoryTimeSeriesIngester;
+import wres.io.ingesting.memory.TimeSeriesSourceCache;
 import wres.io.project.Project;
 import wres.io.project.Projects;
 import wres.reading.ReaderUtilities;
@@ -349,6 +350,9 @@ public class Evaluator
         // Register the executors for cancellation
         canceller.setEvaluationExecutors( executors );
 
+        // Expose the work queues to the flight recorder
+        ExecutorQueueEvent.register( executors );
+
         String projectHash;
         Set<Path> pathsWrittenTo = new TreeSet<>();
         ScheduledExecutorService monitoringService = null;
@@ -417,6 +421,7 @@ public class Evaluator
         // Shutdown
         finally
         {
+            ExecutorQueueEvent.unregister( executors );
             Canceller.closeGracefully( monitoringService );
             Canceller.closeGracefully( readingExecutor );
             Canceller.closeGracefully( ingestExecutor );
@@ -628,8 +633,13 @@ public class Evaluator
                 // Builder for an in-memory store of time-series
                 TimeSeriesStore.Builder timeSeriesStoreBuilder = new TimeSeriesStore.Builder();
 
-                // Ingester that ingests into the in-memory store
-                TimeSeriesIngester timeSeriesIngester = InMemoryTimeSeriesIngester.of( timeSeriesStoreBuilder );
+                // Ingester that ingests into the in-memory store, re-using any time-series that were read by an
+                // earlier evaluation in this process
+                TimeSeriesSourceCache sourceCache = TimeSeriesSourceCache.of( evaluationDetails.systemSettings() );
+                TimeSeriesIngester timeSeriesIngester =
+                        InMemoryTimeSeriesIngester.of( timeSeriesStoreBuilder,
+                                                       sourceCache,
+                                                       declarationWithFeaturesAndThresholds );
 
                 // Load the sources using the ingester and create the ingest results to share
                 List<IngestResult> ingestResults = SourceLoader.load( timeSeriesIngester,
@@ -698,11 +708,17 @@ public class Evaluator
             // In order to build an evaluation description before ingest, those parts of the evaluation description that
             // depend on the data would need to be part of the pool description instead (e.g., the measurement units).
             // Indeed, the timescale is part of the pool description for this reason.
-            evaluationMessager = EvaluationMessager.of( evaluationDescription,
-                                                        connections,
-                                                        Evaluator.CLIENT_ID,
-                                                        evaluationDetails.evaluationId(),
-                                                        evaluationDetails.subscriberApprover() );
+            SystemSettings settings = evaluationDetails.systemSettings();
+            evaluationMessager = new EvaluationMessager.Builder()
+                    .setBroker( connections )
+                    .setEvaluationDescription( evaluationDescription )
+                    .setClientId( Evaluator.CLIENT_ID )
+                    .setEvaluationId( evaluationDetails.evaluationId() )
+                    .setSubscriberApprover( evaluationDetails.subscriberApprover() )
+                    .setStatisticsEnvelopeBytes( settings.getStatisticsEnvelopeBytes() )
+                    .setStatisticsEnvelopeMilliseconds( settings.getStatisticsEnvelopeMilliseconds() )
+                    .setStatisticsEnvelopeDeflateLevel( settings.getStatisticsEnvelopeDeflateLevel() )
+                    .build();
 
             // Register the messager for cancellation
             canceller.setEvaluationMessager( evaluationMessager );
@@ -710,7 +726,7 @@ public class Evaluator
             // Start the evaluation
             evaluationMessager.start();
 
-            PoolFactory poolFactory = PoolFactory.of( project );
+            PoolFactory poolFactory = PoolFactory.of( project, executors.slicingExecutor() );
             List<PoolRequest> poolRequests = EvaluationUtilities.getPoolRequests( poolFactory,
                                                                                   evaluationDescription,
                                                                                   evaluationDetails );
@@ -796,6 +812,7 @@ public class Evaluator
 
             // Report on the pools
             poolReporter.report();
+            poolFactory.logCacheStatistics();
 
             // Wait for all async consumption tasks to complete, including all format writing tasks
             evaluationMessager.await();
@@ -0,0 +1,143 @@
+package wres.pipeline;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+
+/**
+ * A custom event for periodically exposing the work queued on the {@link EvaluationExecutors} to the Java Flight
+ * Recorder. One event is emitted per period for each conceptual activity, such as pooling or metric calculation, and
+ * the counts are summed across all evaluations in progress. No events are emitted unless a recording enables them.
+ *
+ * @author James Brown
+ */
+
+@Name( "wres.pipeline.ExecutorQueueEvent" )
+@Label( "Executor Queue Event" )
+@Category( { "Java Application", "Water Resources Evaluation Service", "Core", "Executors" } )
+@Period( "1 s" )
+@SuppressWarnings( { "unused", "FieldCanBeLocal" } )
+class ExecutorQueueEvent extends Event
+{
+    /** The executors of the evaluations in progress. */
+    private static final Set<EvaluationExecutors> EXECUTORS = ConcurrentHashMap.newKeySet();
+
+    static
+    {
+        FlightRecorder.addPeriodicEvent( ExecutorQueueEvent.class, ExecutorQueueEvent::emit );
+    }
+
+    @Label( "Executor" )
+    @Description( "The name of the activity performed by the executor." )
+    private final String executor;
+
+    @Label( "Queued Task Count" )
+    @Description( "The number of tasks waiting in the queue of the executor." )
+    private final int queuedTaskCount;
+
+    @Label( "Active Thread Count" )
+    @Description( "The number of threads that are actively executing tasks." )
+    private final int activeThreadCount;
+
+    /**
+     * Registers the executors of an evaluation in progress.
+     * @param executors the executors
+     * @throws NullPointerException if the executors is null
+     */
+
+    static void register( EvaluationExecutors executors )
+    {
+        Objects.requireNonNull( executors );
+        EXECUTORS.add( executors );
+    }
+
+    /**
+     * Unregisters the executors of an evaluation that has completed.
+     * @param executors the executors
+     * @throws NullPointerException if the executors is null
+     */
+
+    static void unregister( EvaluationExecutors executors )
+    {
+        Objects.requireNonNull( executors );
+        EXECUTORS.remove( executors );
+    }
+
+    /**
+     * Emits one event for each activity, summing the queued tasks and active threads across the evaluations in
+     * progress. An event is emitted for each activity when no evaluation is in progress, so that consumers see the
+     * queues drain.
+     */
+
+    private static void emit()
+    {
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        counts.put( "reading", new int[2] );
+        counts.put( "ingest", new int[2] );
+        counts.put( "pool", new int[2] );
+        counts.put( "slicing", new int[2] );
+        counts.put( "metric", new int[2] );
+        counts.put( "product", new int[2] );
+        counts.put( "samplingUncertainty", new int[2] );
+
+        for ( EvaluationExecutors next : EXECUTORS )
+        {
+            ExecutorQueueEvent.add( counts.get( "reading" ), next.readingExecutor() );
+            ExecutorQueueEvent.add( counts.get( "ingest" ), next.ingestExecutor() );
+            ExecutorQueueEvent.add( counts.get( "pool" ), next.poolExecutor() );
+            ExecutorQueueEvent.add( counts.get( "slicing" ), next.slicingExecutor() );
+            ExecutorQueueEvent.add( counts.get( "metric" ), next.metricExecutor() );
+            ExecutorQueueEvent.add( counts.get( "product" ), next.productExecutor() );
+            ExecutorQueueEvent.add( counts.get( "samplingUncertainty" ), next.samplingUncertaintyExecutor() );
+        }
+
+        for ( Map.Entry<String, int[]> next : counts.entrySet() )
+        {
+            int[] count = next.getValue();
+            ExecutorQueueEvent event = new ExecutorQueueEvent( next.getKey(), count[0], count[1] );
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds the queued tasks and active threads of an executor to the counts.
+     * @param counts the queued tasks and active threads
+     * @param executor the executor, possibly null
+     */
+
+    private static void add( int[] counts, ExecutorService executor )
+    {
+        if ( executor instanceof ThreadPoolExecutor threadPool )
+        {
+            counts[0] += threadPool.getQueue()
+                                   .size();
+            counts[1] += threadPool.getActiveCount();
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     * @param executor the name of the activity performed by the executor
+     * @param queuedTaskCount the number of queued tasks
+     * @param activeThreadCount the number of active threads
+     */
+
+    private ExecutorQueueEvent( String executor, int queuedTaskCount, int activeThreadCount )
+    {
+        this.executor = executor;
+        this.queuedTaskCount = queuedTaskCount;
+        this.activeThreadCount = activeThreadCount;
+    }
+}
@@ -1,6 +1,7 @@
 package wres.pipeline.pooling;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
@@ -149,6 +150,13 @@ class CachingRetrieverFactory<L, R, B> implements RetrieverFactory<L, R, B>
         return this.delegate.getRightRetriever( features, timeWindow );
     }
 
+    @Override
+    public Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>> getRightRetrievers( Set<Feature> features,
+                                                                                    Set<TimeWindowOuter> timeWindows )
+    {
+        return this.delegate.getRightRetrievers( features, timeWindows );
+    }
+
     @Override
     public Supplier<Stream<TimeSeries<B>>> getBaselineRetriever( Set<Feature> features, TimeWindowOuter timeWindow )
     {
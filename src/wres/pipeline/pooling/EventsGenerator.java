@@ -2,12 +2,20 @@ package wres.pipeline.pooling;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
@@ -50,7 +58,8 @@ import wres.statistics.generated.TimeWindow;
 
 /**
  * Generates {@link TimeWindowOuter} corresponding to events from {@link TimeSeries} and combines them with any declared
- * time windows and/or time constraints.
+ * time windows and/or time constraints. Events are detected for each time-series concurrently on the supplied
+ * executor, with a bounded number of time-series in flight at once.
  *
  * @param leftUpscaler the upscaler for single-valued time-series with a left orientation
  * @param rightUpscaler the upscaler for single-valued time-series with a right orientation
@@ -58,6 +67,7 @@ import wres.statistics.generated.TimeWindow;
  * @param covariateUpscaler the upscaler for single-valued time-series with a covariate orientation
  * @param measurementUnit the measurement unit
  * @param eventDetector the event detector
+ * @param detectionExecutor the executor for detecting events in each time-series
  * @author James Brown
  */
 record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
@@ -65,7 +75,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                         TimeSeriesUpscaler<Double> baselineUpscaler,
                         TimeSeriesUpscaler<Double> covariateUpscaler,
                         String measurementUnit,
-                        EventDetector eventDetector )
+                        EventDetector eventDetector,
+                        Executor detectionExecutor )
 {
     /** Repeated message. */
     private static final String DETECTED_EVENTS_IN_THE_DATASET = "Detected {} events in the {} dataset for feature "
@@ -74,6 +85,10 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( EventsGenerator.class );
 
+    /** The maximum number of time-series whose events are being detected at once, which bounds the memory used. */
+    private static final int MAXIMUM_SERIES_IN_FLIGHT = Runtime.getRuntime()
+                                                               .availableProcessors() * 2;
+
     /**
      * Construct and validate.
      *
@@ -83,6 +98,7 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
      * @param covariateUpscaler the upscaler for single-valued time-series with a covariate orientation
      * @param measurementUnit the measurement unit
      * @param eventDetector the event detector
+     * @param detectionExecutor the executor for detecting events in each time-series
      */
     EventsGenerator
     {
@@ -92,6 +108,7 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
         Objects.requireNonNull( covariateUpscaler );
         Objects.requireNonNull( measurementUnit );
         Objects.requireNonNull( eventDetector );
+        Objects.requireNonNull( detectionExecutor );
     }
 
     /**
@@ -326,11 +343,10 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                   .get();
 
                 Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.leftUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
+                        this.detectEvents( series,
+                                           s -> this.adjustTimeSeriesAndDetectEvents( s,
+                                                                                      details,
+                                                                                      this.leftUpscaler() ) );
                 LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
                              innerEvents.size(),
                              EventDetectionDataset.OBSERVED,
@@ -343,11 +359,10 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                   .get();
 
                 Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.rightUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
+                        this.detectEvents( series,
+                                           s -> this.adjustTimeSeriesAndDetectEvents( s,
+                                                                                      details,
+                                                                                      this.rightUpscaler() ) );
                 LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
                              innerEvents.size(),
                              EventDetectionDataset.PREDICTED,
@@ -360,11 +375,10 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                   .get();
 
                 Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.baselineUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
+                        this.detectEvents( series,
+                                           s -> this.adjustTimeSeriesAndDetectEvents( s,
+                                                                                      details,
+                                                                                      this.baselineUpscaler() ) );
                 LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
                              innerEvents.size(),
                              EventDetectionDataset.BASELINE,
@@ -410,15 +424,13 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                     seriesCount.incrementAndGet();
                     return s;
                 };
-                Set<TimeWindowOuter> innerEvents =
-                        series.map( counter )
-                              .flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   this.getAdjustedDetails( details,
-                                                                                                            s.getMetadata()
-                                                                                                             .getUnit() ),
-                                                                                   this.covariateUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
+                Function<TimeSeries<Double>, Set<TimeWindowOuter>> detector =
+                        s -> this.adjustTimeSeriesAndDetectEvents( s,
+                                                                   this.getAdjustedDetails( details,
+                                                                                            s.getMetadata()
+                                                                                             .getUnit() ),
+                                                                   this.covariateUpscaler() );
+                Set<TimeWindowOuter> innerEvents = this.detectEvents( series.map( counter ), detector );
                 LOGGER.info( "Detected {} events in the {} dataset containing {} time-series for feature group {} "
                              + "with variable name, '{}'.",
                              innerEvents.size(),
@@ -433,6 +445,76 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
         return Collections.unmodifiableSet( events );
     }
 
+    /**
+     * Detects events in each time-series concurrently, using the {@link #detectionExecutor()}. The time-series are
+     * consumed from the stream no faster than events are detected, so that no more than
+     * {@link #MAXIMUM_SERIES_IN_FLIGHT} time-series are held at once.
+     *
+     * @param series the time-series
+     * @param detector the function that adjusts a time-series and detects events
+     * @return the detected events
+     * @throws EventDetectionException if the detection is interrupted
+     */
+    private Set<TimeWindowOuter> detectEvents( Stream<TimeSeries<Double>> series,
+                                               Function<TimeSeries<Double>, Set<TimeWindowOuter>> detector )
+    {
+        Set<TimeWindowOuter> events = ConcurrentHashMap.newKeySet();
+        Semaphore permits = new Semaphore( MAXIMUM_SERIES_IN_FLIGHT );
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        try
+        {
+            Iterator<TimeSeries<Double>> iterator = series.iterator();
+
+            // Stop early on failure
+            while ( iterator.hasNext()
+                    && !failed.get() )
+            {
+                TimeSeries<Double> next = iterator.next();
+                permits.acquire();
+
+                CompletableFuture<Void> task =
+                        CompletableFuture.runAsync( () -> events.addAll( detector.apply( next ) ),
+                                                    this.detectionExecutor() )
+                                         .whenComplete( ( result, exception ) ->
+                                                        {
+                                                            if ( Objects.nonNull( exception ) )
+                                                            {
+                                                                failed.set( true );
+                                                            }
+
+                                                            permits.release();
+                                                        } );
+                tasks.add( task );
+            }
+
+            CompletableFuture.allOf( tasks.toArray( new CompletableFuture[0] ) )
+                             .join();
+        }
+        catch ( InterruptedException e )
+        {
+            tasks.forEach( next -> next.cancel( true ) );
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new EventDetectionException( "Interrupted while performing event detection." );
+        }
+        catch ( CompletionException e )
+        {
+            tasks.forEach( next -> next.cancel( true ) );
+
+            if ( e.getCause() instanceof RuntimeException runtime )
+            {
+                throw runtime;
+            }
+
+            throw e;
+        }
+
+        return Collections.unmodifiableSet( events );
+    }
+
     /**
      * Returns the time window for retrieval of the time-series data used in event detection, accounting for any valid
      * time constraints and desired time-scale.
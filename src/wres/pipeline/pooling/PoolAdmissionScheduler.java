@@ -0,0 +1,502 @@
+package wres.pipeline.pooling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.space.FeatureGroup;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.io.retrieving.RetentionBudget;
+
+/**
+ * <p>Admits {@link PoolProcessor} to an executor against a heap budget, rather than submitting all pools at once. The
+ * footprint of each pool is estimated from its {@link PoolRequest}, namely the number of features, the span of the
+ * time window and the number of ensemble members, and the estimate is calibrated against the number of events that
+ * were measured in each pool that completed. A pool is admitted when its estimated footprint fits within the budget
+ * that remains or when no other pool is running, so that a pool whose estimate exceeds the budget is not starved.
+ *
+ * <p>The time-series that are retrieved ahead of the pools that need them, such as the time-series for a batch of
+ * time windows that are retrieved together, are held against a {@link RetentionBudget}, which is a fraction of the
+ * heap budget. The events retained count against the heap budget when admitting pools. When a pool fails, all retained
+ * time-series are released, since the evaluation will not request them.
+ *
+ * <p>Pools are admitted in submission order, after grouping pools that share a feature group, because the left-ish
+ * data for a feature group is cached by a {@link CachingRetrieverFactory} and becomes eligible for garbage collection
+ * once the last pool in that group has been created.
+ *
+ * <p>The scheduler is thread-safe.
+ *
+ * @author James Brown
+ */
+
+public class PoolAdmissionScheduler
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( PoolAdmissionScheduler.class );
+
+    /** Approximate number of bytes on the heap for each paired event, excluding any ensemble members. */
+    private static final long EVENT_BYTES = 112;
+
+    /** Approximate number of bytes on the heap for each ensemble member within a paired event. */
+    private static final long MEMBER_BYTES = Double.BYTES;
+
+    /** The fraction of the heap budget that may be retained by time-series retrieved ahead of the pools. */
+    private static final double RETAINED_FRACTION = 0.5;
+
+    /** The number of events per feature per hour assumed when no pool has completed. */
+    private static final double DEFAULT_EVENTS_PER_UNIT = 1.0;
+
+    /** The executor to which pools are admitted. */
+    private final ExecutorService executor;
+
+    /** The heap budget in bytes. */
+    private final long budget;
+
+    /** The estimated number of bytes on the heap for each paired event. */
+    private final long bytesPerEvent;
+
+    /** The budget for the time-series events retrieved ahead of the pools that need them. */
+    private final RetentionBudget retention;
+
+    /** The pools awaiting admission. Guarded by this. */
+    private final Queue<PendingPool<?, ?>> pending = new ArrayDeque<>();
+
+    /** The estimated number of bytes admitted and not yet released. Guarded by this. */
+    private long admittedBytes;
+
+    /** The number of pools admitted and not yet completed. Guarded by this. */
+    private int admittedCount;
+
+    /** The total number of events measured in the completed pools. Guarded by this. */
+    private double measuredEvents;
+
+    /** The total number of estimation units in the completed pools. Guarded by this. */
+    private double measuredUnits;
+
+    /**
+     * Creates an instance.
+     *
+     * @param executor the executor to which pools are admitted
+     * @param budget the heap budget in bytes
+     * @param ensembleMemberCount the number of ensemble members in each paired event, zero for single-valued pairs
+     * @return an instance
+     * @throws NullPointerException if the executor is null
+     * @throws IllegalArgumentException if the budget is not positive or the ensemble member count is negative
+     */
+
+    public static PoolAdmissionScheduler of( ExecutorService executor, long budget, int ensembleMemberCount )
+    {
+        return new PoolAdmissionScheduler( executor, budget, ensembleMemberCount );
+    }
+
+    /**
+     * Submits the pool processors for admission, grouping together the processors that share a feature group and
+     * otherwise preserving the order of the processors.
+     *
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param poolProcessors the pool processors
+     * @return one future for each pool processor, in the order of admission
+     * @throws NullPointerException if the poolProcessors is null
+     */
+
+    public <L, R> List<CompletableFuture<PoolProcessingResult>> submit( List<PoolProcessor<L, R>> poolProcessors )
+    {
+        Objects.requireNonNull( poolProcessors );
+
+        List<PoolProcessor<L, R>> ordered = PoolAdmissionScheduler.groupByFeatureGroup( poolProcessors );
+
+        List<CompletableFuture<PoolProcessingResult>> futures = new ArrayList<>( ordered.size() );
+
+        synchronized ( this )
+        {
+            for ( PoolProcessor<L, R> next : ordered )
+            {
+                PendingPool<L, R> pool = new PendingPool<>( next,
+                                                            PoolAdmissionScheduler.getUnits( next.getPoolRequest() ),
+                                                            new CompletableFuture<>() );
+                this.pending.add( pool );
+                futures.add( pool.result() );
+            }
+        }
+
+        LOGGER.debug( "Submitted {} pools for admission against a heap budget of {} bytes.",
+                      ordered.size(),
+                      this.budget );
+
+        this.admit();
+
+        return Collections.unmodifiableList( futures );
+    }
+
+    /**
+     * Estimates the footprint of a pool in bytes, which is calibrated by the pools that completed.
+     *
+     * @param poolRequest the pool request
+     * @return the estimated footprint in bytes
+     * @throws NullPointerException if the poolRequest is null
+     */
+
+    public synchronized long getEstimatedBytes( PoolRequest poolRequest )
+    {
+        Objects.requireNonNull( poolRequest );
+
+        double units = PoolAdmissionScheduler.getUnits( poolRequest );
+        return this.getEstimatedBytes( units );
+    }
+
+    /**
+     * Returns the budget for the time-series events that are retrieved ahead of the pools that need them. The events
+     * retained count against the heap budget when admitting pools.
+     *
+     * @return the retention budget
+     */
+
+    public RetentionBudget getRetentionBudget()
+    {
+        return this.retention;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "PoolAdmissionScheduler[budget=" + this.budget
+               + ", bytesPerEvent="
+               + this.bytesPerEvent
+               + ", retention="
+               + this.retention
+               + "]";
+    }
+
+    /**
+     * Estimates the footprint of a pool in bytes from its estimation units.
+     *
+     * @param units the estimation units
+     * @return the estimated footprint in bytes
+     */
+
+    private long getEstimatedBytes( double units )
+    {
+        double eventsPerUnit = DEFAULT_EVENTS_PER_UNIT;
+
+        // Calibrate against the completed pools
+        if ( this.measuredUnits > 0 )
+        {
+            eventsPerUnit = this.measuredEvents / this.measuredUnits;
+        }
+
+        double bytes = units * eventsPerUnit * this.bytesPerEvent;
+
+        return ( long ) Math.min( Long.MAX_VALUE, Math.ceil( bytes ) );
+    }
+
+    /**
+     * Admits pending pools in order while they fit within the budget that remains after the admitted pools and the
+     * retained time-series.
+     */
+
+    private void admit()
+    {
+        List<AdmittedPool<?, ?>> admitted = new ArrayList<>();
+
+        synchronized ( this )
+        {
+            while ( !this.pending.isEmpty() )
+            {
+                PendingPool<?, ?> next = this.pending.peek();
+                long bytes = this.getEstimatedBytes( next.units() );
+                long usedBytes = this.admittedBytes + this.retention.getRetainedEvents() * this.bytesPerEvent;
+
+                // Always admit one pool when none is running
+                if ( this.admittedCount > 0
+                     && usedBytes + bytes > this.budget )
+                {
+                    LOGGER.debug( "Deferred the admission of pool {}, whose estimated footprint of {} bytes exceeds "
+                                  + "the remaining heap budget of {} bytes.",
+                                  next.processor()
+                                      .getPoolRequest(),
+                                  bytes,
+                                  this.budget - usedBytes );
+                    break;
+                }
+
+                this.pending.remove();
+                this.admittedBytes += bytes;
+                this.admittedCount++;
+                admitted.add( new AdmittedPool<>( next, bytes ) );
+            }
+        }
+
+        // Start outside the lock
+        for ( AdmittedPool<?, ?> next : admitted )
+        {
+            this.start( next );
+        }
+    }
+
+    /**
+     * Starts an admitted pool.
+     *
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param admitted the admitted pool
+     */
+
+    private <L, R> void start( AdmittedPool<L, R> admitted )
+    {
+        PendingPool<L, R> pool = admitted.pool();
+
+        try
+        {
+            CompletableFuture.supplyAsync( pool.processor(), this.executor )
+                             .whenComplete( ( result, exception ) -> {
+                                 this.release( admitted, result );
+
+                                 if ( Objects.nonNull( exception ) )
+                                 {
+                                     this.retention.releaseAll();
+                                     pool.result()
+                                         .completeExceptionally( exception );
+                                 }
+                                 else
+                                 {
+                                     pool.result()
+                                         .complete( result );
+                                 }
+
+                                 this.admit();
+                             } );
+        }
+        // The executor was shut down because another pool failed
+        catch ( RejectedExecutionException e )
+        {
+            this.release( admitted, null );
+            this.retention.releaseAll();
+            pool.result()
+                .completeExceptionally( e );
+
+            // No pending pool can start either, so fail them rather than leave them waiting
+            this.reject( e );
+        }
+    }
+
+    /**
+     * Removes all pending pools and completes them exceptionally.
+     *
+     * @param exception the reason the pools could not be admitted
+     */
+
+    private void reject( RejectedExecutionException exception )
+    {
+        List<PendingPool<?, ?>> rejected;
+
+        synchronized ( this )
+        {
+            rejected = new ArrayList<>( this.pending );
+            this.pending.clear();
+        }
+
+        if ( !rejected.isEmpty() )
+        {
+            LOGGER.debug( "Rejected {} pools that were awaiting admission because the executor rejected a pool.",
+                          rejected.size() );
+        }
+
+        // Complete outside the lock
+        for ( PendingPool<?, ?> next : rejected )
+        {
+            next.result()
+                .completeExceptionally( exception );
+        }
+    }
+
+    /**
+     * Releases the budget of a pool and calibrates the estimates against its measured size.
+     *
+     * @param admitted the admitted pool
+     * @param result the result, possibly null
+     */
+
+    private synchronized void release( AdmittedPool<?, ?> admitted, PoolProcessingResult result )
+    {
+        this.admittedBytes -= admitted.bytes();
+        this.admittedCount--;
+
+        if ( Objects.nonNull( result ) )
+        {
+            this.measuredEvents += result.getEventCount();
+            this.measuredUnits += admitted.pool()
+                                          .units();
+        }
+    }
+
+    /**
+     * Groups the pool processors by feature group, preserving the order in which each feature group first appears and
+     * the order of the processors within each group.
+     *
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param poolProcessors the pool processors
+     * @return the grouped pool processors
+     */
+
+    private static <L, R> List<PoolProcessor<L, R>> groupByFeatureGroup( List<PoolProcessor<L, R>> poolProcessors )
+    {
+        Map<FeatureGroup, List<PoolProcessor<L, R>>> groups = new LinkedHashMap<>();
+        for ( PoolProcessor<L, R> next : poolProcessors )
+        {
+            FeatureGroup group = next.getPoolRequest()
+                                     .getMetadata()
+                                     .getFeatureGroup();
+            groups.computeIfAbsent( group, k -> new ArrayList<>() )
+                  .add( next );
+        }
+
+        return groups.values()
+                     .stream()
+                     .flatMap( List::stream )
+                     .toList();
+    }
+
+    /**
+     * Returns the estimation units for a pool, which are proportional to the number of paired events it should contain,
+     * namely the number of features multiplied by the number of hours spanned by the time window and by the number of
+     * datasets. When the time window is unbounded, the span is one hour and the calibration against completed pools
+     * is relied upon.
+     *
+     * @param poolRequest the pool request
+     * @return the estimation units
+     */
+
+    private static double getUnits( PoolRequest poolRequest )
+    {
+        PoolMetadata metadata = poolRequest.getMetadata();
+
+        double features = Math.max( 1, metadata.getFeatureTuples()
+                                               .size() );
+        double hours = 1;
+
+        if ( metadata.hasTimeWindow() )
+        {
+            TimeWindowOuter timeWindow = metadata.getTimeWindow();
+
+            if ( !timeWindow.hasUnboundedValidTimes() )
+            {
+                hours = PoolAdmissionScheduler.getHours( timeWindow.getEarliestValidTime(),
+                                                         timeWindow.getLatestValidTime() );
+            }
+            else
+            {
+                if ( !timeWindow.hasUnboundedReferenceTimes() )
+                {
+                    hours = PoolAdmissionScheduler.getHours( timeWindow.getEarliestReferenceTime(),
+                                                             timeWindow.getLatestReferenceTime() );
+                }
+
+                if ( !TimeWindowOuter.DURATION_MIN.equals( timeWindow.getEarliestLeadDuration() )
+                     && !TimeWindowOuter.DURATION_MAX.equals( timeWindow.getLatestLeadDuration() ) )
+                {
+                    hours *= PoolAdmissionScheduler.getHours( timeWindow.getLatestLeadDuration()
+                                                                        .minus( timeWindow.getEarliestLeadDuration() ) );
+                }
+            }
+        }
+
+        double datasets = poolRequest.hasBaseline() ? 2 : 1;
+
+        return features * hours * datasets;
+    }
+
+    /**
+     * @param earliest the earliest time
+     * @param latest the latest time
+     * @return the number of hours between the two times, which is at least one
+     */
+
+    private static double getHours( Instant earliest, Instant latest )
+    {
+        return PoolAdmissionScheduler.getHours( Duration.between( earliest, latest ) );
+    }
+
+    /**
+     * @param duration the duration
+     * @return the number of hours in the duration, which is at least one
+     */
+
+    private static double getHours( Duration duration )
+    {
+        return Math.max( 1, duration.getSeconds() / 3600.0 );
+    }
+
+    /**
+     * A pool that awaits admission.
+     *
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param processor the processor
+     * @param units the estimation units
+     * @param result the result that completes when the processor completes
+     */
+
+    private record PendingPool<L, R>( PoolProcessor<L, R> processor,
+                                      double units,
+                                      CompletableFuture<PoolProcessingResult> result ) {}
+
+    /**
+     * A pool that was admitted.
+     *
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param pool the pool
+     * @param bytes the estimated footprint in bytes that was admitted
+     */
+
+    private record AdmittedPool<L, R>( PendingPool<L, R> pool, long bytes ) {}
+
+    /**
+     * Hidden constructor.
+     *
+     * @param executor the executor to which pools are admitted
+     * @param budget the heap budget in bytes
+     * @param ensembleMemberCount the number of ensemble members in each paired event, zero for single-valued pairs
+     */
+
+    private PoolAdmissionScheduler( ExecutorService executor, long budget, int ensembleMemberCount )
+    {
+        Objects.requireNonNull( executor );
+
+        if ( budget <= 0 )
+        {
+            throw new IllegalArgumentException( "The heap budget for admitting pools must be greater than zero: "
+                                                + budget
+                                                + "." );
+        }
+
+        if ( ensembleMemberCount < 0 )
+        {
+            throw new IllegalArgumentException( "The ensemble member count cannot be negative: "
+                                                + ensembleMemberCount
+                                                + "." );
+        }
+
+        this.executor = executor;
+        this.budget = budget;
+        this.bytesPerEvent = EVENT_BYTES + ensembleMemberCount * MEMBER_BYTES;
+        this.retention = RetentionBudget.of( ( long ) ( budget * RETAINED_FRACTION ) / this.bytesPerEvent );
+    }
+}
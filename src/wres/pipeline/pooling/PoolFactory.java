@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
@@ -161,6 +162,9 @@ public class PoolFactory
     /** Upscaler for single-valued time-series with a left-ish orientation. */
     private final TimeSeriesUpscaler<Double> leftSingleValuedUpscaler;
 
+    /** A cache of the upscaled time-series with a left-ish orientation, which is shared between pools. */
+    private final RescaledTimeSeriesCache<Double> leftRescalingCache = RescaledTimeSeriesCache.of();
+
     /** Upscaler for single-valued time-series with a right-ish orientation. */
     private final TimeSeriesUpscaler<Double> rightSingleValuedUpscaler;
 
@@ -192,7 +196,22 @@ public class PoolFactory
 
     public static PoolFactory of( Project project )
     {
-        return new PoolFactory( project );
+        return new PoolFactory( project, Runnable::run );
+    }
+
+    /**
+     * Creates an instance from a {@link Project} with an executor for tasks that are performed when generating pool
+     * requests, such as event detection.
+     *
+     * @param project the project
+     * @param executor the executor
+     * @return an instance
+     * @throws NullPointerException if any input is null
+     */
+
+    public static PoolFactory of( Project project, Executor executor )
+    {
+        return new PoolFactory( project, executor );
     }
 
     /**
@@ -485,6 +504,16 @@ public class PoolFactory
                             .toList();
     }
 
+    /**
+     * Logs the statistics of any caches that are shared between the pools created by this factory, such as the hits
+     * and misses of the cache of upscaled left-ish time-series.
+     */
+
+    public void logCacheStatistics()
+    {
+        this.leftRescalingCache.logStatistics();
+    }
+
     /**
      * Warns about a large pool count.
      * @param timeWindowsByFeature the time windows by feature from which to obtain the pool count
@@ -730,6 +759,7 @@ public class PoolFactory
                         .setRightMissingFilter( missingFilter )
                         .setBaselineMissingFilter( missingFilter )
                         .setLeftUpscaler( leftUpscaler )
+                        .setLeftRescalingCache( this.leftRescalingCache )
                         .setRightUpscaler( rightUpscaler )
                         .setBaselineUpscaler( baselineUpscaler )
                         .setClimatologyUpscaler( climatologyUpscaler )
@@ -877,6 +907,7 @@ public class PoolFactory
                         .setBaselineTransformerPostRescaling( postRescalingBaselineTransformer )
                         .setClimatologyTransformerPostRescaling( postRescalingClimatologyTransformer )
                         .setLeftUpscaler( leftUpscaler )
+                        .setLeftRescalingCache( this.leftRescalingCache )
                         .setRightUpscaler( rightUpscaler )
                         .setBaselineUpscaler( baselineUpscaler )
                         .setClimatologyUpscaler( climatologyUpscaler )
@@ -1052,6 +1083,7 @@ public class PoolFactory
                         .setBaselineTransformerPostRescaling( postRescalingBaselineTransformer )
                         .setClimatologyTransformerPostRescaling( postRescalingClimatologyTransformer )
                         .setLeftUpscaler( leftUpscaler )
+                        .setLeftRescalingCache( this.leftRescalingCache )
                         .setRightUpscaler( rightUpscaler )
                         .setBaselineUpscaler( baselineUpscaler )
                         .setClimatologyUpscaler( climatologyUpscaler )
@@ -2924,12 +2956,14 @@ public class PoolFactory
      * Creates an instance from a {@link Project}.
      *
      * @param project the project
-     * @throws NullPointerException if the project is null
+     * @param executor the executor for tasks that are performed when generating pool requests
+     * @throws NullPointerException if any input is null
      */
 
-    private PoolFactory( Project project )
+    private PoolFactory( Project project, Executor executor )
     {
         Objects.requireNonNull( project, CANNOT_CREATE_POOLS_FROM_A_NULL_PROJECT );
+        Objects.requireNonNull( executor );
         this.project = project;
 
         // Create a unit mapper
@@ -2986,7 +3020,8 @@ public class PoolFactory
                                                         this.getCovariateSingleValuedUpscaler(),
                                                         this.getUnitMapper()
                                                             .getDesiredMeasurementUnitName(),
-                                                        eventDetector );
+                                                        eventDetector,
+                                                        executor );
         }
         else
         {
@@ -37,15 +37,20 @@ public class PoolProcessingResult
     /** Status events encountered when creating the pool. */
     private final List<EvaluationStatusMessage> statusEvents;
 
+    /** The number of paired events in the pool, including any baseline pairs. */
+    private final long eventCount;
+
     /**
      * @param poolRequest the pool description
      * @param status the status the status
      * @param statusEvents the evaluation status events encountered while creating the pool, if any
+     * @param eventCount the number of paired events in the pool, including any baseline pairs
      * @throws NullPointerException if any input is null
      */
     PoolProcessingResult( PoolRequest poolRequest,
                           Status status,
-                          List<EvaluationStatusMessage> statusEvents )
+                          List<EvaluationStatusMessage> statusEvents,
+                          long eventCount )
     {
         Objects.requireNonNull( poolRequest );
         Objects.requireNonNull( statusEvents );
@@ -54,6 +59,7 @@ public class PoolProcessingResult
         this.status = status;
         this.poolRequest = poolRequest;
         this.statusEvents = Collections.unmodifiableList( statusEvents );
+        this.eventCount = eventCount;
     }
 
     /**
@@ -83,6 +89,15 @@ public class PoolProcessingResult
         return this.statusEvents;
     }
 
+    /**
+     * @return the number of paired events in the pool, including any baseline pairs
+     */
+
+    long getEventCount()
+    {
+        return this.eventCount;
+    }
+
     @Override
     public String toString()
     {
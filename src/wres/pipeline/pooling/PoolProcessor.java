@@ -10,6 +10,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -29,6 +32,7 @@ import wres.config.components.SamplingUncertainty;
 import wres.datamodel.bootstrap.BootstrapUtilities;
 import wres.datamodel.pools.PoolSlicer;
 import wres.metrics.FunctionFactory;
+import wres.metrics.IntermediateStatistic;
 import wres.metrics.ScalarSummaryStatisticFunction;
 import wres.metrics.SummaryStatisticsCalculator;
 import wres.datamodel.Slicer;
@@ -38,6 +42,7 @@ import wres.datamodel.messages.EvaluationStatusMessage;
 import wres.datamodel.messages.MessageFactory;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.statistics.Statistic;
 import wres.datamodel.statistics.StatisticsStore;
 import wres.datamodel.thresholds.OneOrTwoThresholds;
 import wres.datamodel.thresholds.ThresholdOuter;
@@ -63,6 +68,9 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( PoolProcessor.class );
 
+    /** The number of integers in the state of a {@link Well512a} generator, which are seeded for each replicate. */
+    private static final int WELL_512_A_SEED_SIZE = 16;
+
     /** The evaluation. */
     private final EvaluationMessager evaluation;
 
@@ -203,7 +211,10 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         List<EvaluationStatusMessage> statusEvents = pool.getMetadata()
                                                          .getEvaluationStatusEvents();
 
-        return new PoolProcessingResult( this.poolRequest, status, statusEvents );
+        // Measured size of the pool for admission of later pools
+        long eventCount = PoolProcessor.getEventCount( pool );
+
+        return new PoolProcessingResult( this.poolRequest, status, statusEvents, eventCount );
     }
 
     @Override
@@ -212,6 +223,15 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         return "Pool processor for pool: " + this.poolRequest;
     }
 
+    /**
+     * @return the pool request
+     */
+
+    PoolRequest getPoolRequest()
+    {
+        return this.poolRequest;
+    }
+
     /**
      * Builder.
      *
@@ -503,6 +523,9 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
             {
                 List<Statistics> nextStatistics = MessageFactory.getStatistics( nextStore );
                 statistics.addAll( nextStatistics );
+
+                // Carry the intermediate statistics forward to the summary statistics calculators
+                this.addIntermediateStatistics( nextStore.getIntermediateStatistics() );
             }
 
             // Generate any sampling uncertainty estimates
@@ -530,6 +553,37 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         return Collections.unmodifiableList( statistics );
     }
 
+    /**
+     * Registers the intermediate statistics of a pool, such as the sufficient statistics of several single-valued
+     * scores, with any summary statistics calculators, which combine them across pools and complete them at the end.
+     *
+     * @param intermediates the intermediate statistics
+     */
+
+    private void addIntermediateStatistics( List<Statistic<?>> intermediates )
+    {
+        Map<DatasetOrientation, List<Statistic<?>>> groups = Slicer.getGroupedStatistics( intermediates );
+
+        List<Statistic<?>> right = groups.getOrDefault( DatasetOrientation.RIGHT, List.of() );
+        for ( Statistic<?> next : right )
+        {
+            if ( next instanceof IntermediateStatistic<?, ?> intermediate )
+            {
+                this.summaryStatistics.forEach( p -> p.combine( intermediate ) );
+            }
+        }
+
+        // Summary statistics for a separate baseline?
+        List<Statistic<?>> baseline = groups.getOrDefault( DatasetOrientation.BASELINE, List.of() );
+        for ( Statistic<?> next : baseline )
+        {
+            if ( next instanceof IntermediateStatistic<?, ?> intermediate )
+            {
+                this.summaryStatisticsForBaseline.forEach( p -> p.combine( intermediate ) );
+            }
+        }
+    }
+
     /**
      * Generates sampling uncertainty statistics, as needed.
      *
@@ -588,7 +642,7 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
             Map<OneOrTwoThresholds, Map<DatasetOrientation, SummaryStatisticsCalculator>> quantileCalculators =
                     this.getQuantileCalculators( nominalStatistics, samplingUncertainty );
 
-            // Create the resampling structure
+            // Create the resampling structure, which is shared by all replicates
             RandomGenerator randomGenerator = new Well512a( seed );
 
             StationaryBootstrapResampler<Pair<L, R>> resampler;
@@ -609,24 +663,70 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
                 return List.of();
             }
 
-            // Iterate the samples and register the statistics for quantile calculation
+            // Generate the replicates in parallel. Each replicate has its own random number generator, which is seeded
+            // from a stream that is split from the overall seed in replicate order. Thus, each replicate depends only on
+            // the seed and its position in the sequence, not on the number of threads or the order of completion
+            SplittableRandom streams = new SplittableRandom( seed );
+            List<CompletableFuture<Map<OneOrTwoThresholds, Map<DatasetOrientation, List<Statistics>>>>> replicates =
+                    new ArrayList<>( sampleSize );
             for ( int i = 0; i < sampleSize; i++ )
             {
-                Pool<TimeSeries<Pair<L, R>>> nextPool = resampler.resample();
-                List<StatisticsStore> stores = processor.apply( nextPool );
-                this.updateSampleStatistics( stores, quantileCalculators );
-
-                // Log progress every 100 samples
-                if ( LOGGER.isDebugEnabled()
-                     && i > 1
-                     && ( i + 1 ) % 100 == 0 )
+                RandomGenerator replicateGenerator = new Well512a( streams.split()
+                                                                          .ints( WELL_512_A_SEED_SIZE )
+                                                                          .toArray() );
+                CompletableFuture<Map<OneOrTwoThresholds, Map<DatasetOrientation, List<Statistics>>>> replicate =
+                        CompletableFuture.supplyAsync( () -> this.getReplicateStatistics( resampler,
+                                                                                          processor,
+                                                                                          replicateGenerator ),
+                                                       this.samplingUncertaintyExecutor );
+                replicates.add( replicate );
+            }
+
+            // Register the statistics for quantile calculation in replicate order, so that the quantiles are
+            // reproducible for a given seed
+            try
+            {
+                for ( int i = 0; i < sampleSize; i++ )
                 {
-                    LOGGER.debug( "Completed resample {} of {} for pool request {}.",
-                                  ( i + 1 ),
-                                  sampleSize,
-                                  this.poolRequest );
+                    this.updateSampleStatistics( replicates.get( i )
+                                                           .get(),
+                                                 quantileCalculators );
+
+                    // Log progress every 100 samples
+                    if ( LOGGER.isDebugEnabled()
+                         && i > 1
+                         && ( i + 1 ) % 100 == 0 )
+                    {
+                        LOGGER.debug( "Completed resample {} of {} for pool request {}.",
+                                      ( i + 1 ),
+                                      sampleSize,
+                                      this.poolRequest );
+                    }
                 }
             }
+            catch ( InterruptedException e )
+            {
+                replicates.forEach( next -> next.cancel( true ) );
+
+                Thread.currentThread()
+                      .interrupt();
+
+                throw new WresProcessingException( "Interrupted while estimating the sampling uncertainties for "
+                                                   + "evaluation "
+                                                   + this.evaluation.getEvaluationId()
+                                                   + ".",
+                                                   e );
+            }
+            catch ( ExecutionException e )
+            {
+                replicates.forEach( next -> next.cancel( true ) );
+
+                throw new WresProcessingException( "Encountered an error while estimating the sampling uncertainties "
+                                                   + "for pool request "
+                                                   + this.poolRequest
+                                                   + ".",
+                                                   e );
+            }
 
             // Calculate the quantiles
             quantileCalculators.values()
@@ -640,61 +740,24 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
     }
 
     /**
-     * Updates the quantile calculators with the supplied statistics
-     * @param stores the statistics
-     * @param calculators the quantile calculators
+     * Generates one replicate of the pool and computes the statistics for it.
+     * @param resampler the resampler
+     * @param processor the statistics processor
+     * @param randomGenerator the random number generator for the replicate
+     * @return the statistics, grouped by threshold and dataset orientation
      */
 
-    private void updateSampleStatistics( List<StatisticsStore> stores,
-                                         Map<OneOrTwoThresholds, Map<DatasetOrientation, SummaryStatisticsCalculator>> calculators )
+    private Map<OneOrTwoThresholds, Map<DatasetOrientation, List<Statistics>>> getReplicateStatistics( StationaryBootstrapResampler<Pair<L, R>> resampler,
+                                                                                                       Function<Pool<TimeSeries<Pair<L, R>>>, List<StatisticsStore>> processor,
+                                                                                                       RandomGenerator randomGenerator )
     {
+        Pool<TimeSeries<Pair<L, R>>> nextPool = resampler.resample( randomGenerator );
+        List<StatisticsStore> stores = processor.apply( nextPool );
+
         try
         {
             // Split the statistics by threshold and dataset orientation
-            Map<OneOrTwoThresholds, Map<DatasetOrientation, List<Statistics>>> grouped = this.groupStatistics( stores );
-
-            // Iterate through the calculators and increment the statistics
-            for ( Map.Entry<OneOrTwoThresholds, Map<DatasetOrientation, SummaryStatisticsCalculator>> nextEntry : calculators.entrySet() )
-            {
-                OneOrTwoThresholds nextThreshold = nextEntry.getKey();
-                Map<DatasetOrientation, SummaryStatisticsCalculator> orientedCalculators = nextEntry.getValue();
-
-                if ( grouped.containsKey( nextThreshold ) )
-                {
-                    Map<DatasetOrientation, List<Statistics>> statistics = grouped.get( nextThreshold );
-
-                    for ( Map.Entry<DatasetOrientation, List<Statistics>> nextOrientation : statistics.entrySet() )
-                    {
-                        DatasetOrientation orientation = nextOrientation.getKey();
-                        List<Statistics> nextStatistics = nextOrientation.getValue();
-                        SummaryStatisticsCalculator calculator = orientedCalculators.get( orientation );
-
-                        // Quantile calculator available?
-                        if ( Objects.nonNull( calculator ) )
-                        {
-                            nextStatistics.forEach( calculator::test );
-                        }
-                        // Log a missing quantile calculator, which can happen when resampling generates novel data for
-                        // which nominal statistics were unavailable. This is rare, but can happen, for example, when a
-                        // minimum sample size is required for the nominal statistics and the resampled pairs meets the
-                        // condition, but the nominal pairs do not
-                        else if ( LOGGER.isDebugEnabled() )
-                        {
-                            LOGGER.debug(
-                                    "Discovered sample statistics for which a quantile calculator was unavailable."
-                                    + " This can happen when resampling produces a dataset that meets some "
-                                    + "constraint (e.g., a minimum sample size) that was not met for the dataset "
-                                    + "that produced the nominal statistics and for which the quantiles are "
-                                    + "calculated. These statistics will not contribute towards sampling uncertainty "
-                                    + "estimation. The pool metadata is: {}. The quantile calculator was missing for "
-                                    + "threshold {} and dataset orientation {}.",
-                                    this.poolRequest.getMetadata(),
-                                    nextThreshold,
-                                    orientation );
-                        }
-                    }
-                }
-            }
+            return this.groupStatistics( stores );
         }
         catch ( InterruptedException e )
         {
@@ -708,6 +771,59 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         }
     }
 
+    /**
+     * Updates the quantile calculators with the supplied statistics
+     * @param grouped the statistics, grouped by threshold and dataset orientation
+     * @param calculators the quantile calculators
+     */
+
+    private void updateSampleStatistics( Map<OneOrTwoThresholds, Map<DatasetOrientation, List<Statistics>>> grouped,
+                                         Map<OneOrTwoThresholds, Map<DatasetOrientation, SummaryStatisticsCalculator>> calculators )
+    {
+        // Iterate through the calculators and increment the statistics
+        for ( Map.Entry<OneOrTwoThresholds, Map<DatasetOrientation, SummaryStatisticsCalculator>> nextEntry : calculators.entrySet() )
+        {
+            OneOrTwoThresholds nextThreshold = nextEntry.getKey();
+            Map<DatasetOrientation, SummaryStatisticsCalculator> orientedCalculators = nextEntry.getValue();
+
+            if ( grouped.containsKey( nextThreshold ) )
+            {
+                Map<DatasetOrientation, List<Statistics>> statistics = grouped.get( nextThreshold );
+
+                for ( Map.Entry<DatasetOrientation, List<Statistics>> nextOrientation : statistics.entrySet() )
+                {
+                    DatasetOrientation orientation = nextOrientation.getKey();
+                    List<Statistics> nextStatistics = nextOrientation.getValue();
+                    SummaryStatisticsCalculator calculator = orientedCalculators.get( orientation );
+
+                    // Quantile calculator available?
+                    if ( Objects.nonNull( calculator ) )
+                    {
+                        nextStatistics.forEach( calculator::test );
+                    }
+                    // Log a missing quantile calculator, which can happen when resampling generates novel data for
+                    // which nominal statistics were unavailable. This is rare, but can happen, for example, when a
+                    // minimum sample size is required for the nominal statistics and the resampled pairs meets the
+                    // condition, but the nominal pairs do not
+                    else if ( LOGGER.isDebugEnabled() )
+                    {
+                        LOGGER.debug(
+                                "Discovered sample statistics for which a quantile calculator was unavailable."
+                                + " This can happen when resampling produces a dataset that meets some "
+                                + "constraint (e.g., a minimum sample size) that was not met for the dataset "
+                                + "that produced the nominal statistics and for which the quantiles are "
+                                + "calculated. These statistics will not contribute towards sampling uncertainty "
+                                + "estimation. The pool metadata is: {}. The quantile calculator was missing for "
+                                + "threshold {} and dataset orientation {}.",
+                                this.poolRequest.getMetadata(),
+                                nextThreshold,
+                                orientation );
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Groups the statistics by threshold and dataset orientation.
      * @param stores the statistics
@@ -1071,7 +1187,31 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
     }
 
     /**
-     * Build a pool processor. 
+     * Counts the paired events in a pool, including any baseline pairs.
+     * @param <L> the left data type
+     * @param <R> the right data type
+     * @param pool the pool
+     * @return the number of paired events
+     */
+
+    private static <L, R> long getEventCount( Pool<TimeSeries<Pair<L, R>>> pool )
+    {
+        long count = pool.get()
+                         .stream()
+                         .mapToLong( next -> next.getEvents()
+                                                 .size() )
+                         .sum();
+
+        if ( pool.hasBaseline() )
+        {
+            count += PoolProcessor.getEventCount( pool.getBaselineData() );
+        }
+
+        return count;
+    }
+
+    /**
+     * Build a pool processor.
      *
      * @param builder the builder
      * @throws NullPointerException if any required input is null
@@ -44,6 +44,10 @@ class PoolRescalingEvent extends Event
     @Description( "The metadata of the time series that was rescaled." )
     private final String seriesMetadata;
 
+    @Label( "Cached" )
+    @Description( "Whether the rescaled time series was re-used from an earlier rescaling." )
+    private boolean cached;
+
     /**
      * @param type the type of rescaling performed
      * @param lrb the orientation of the time-series data
@@ -57,6 +61,16 @@ class PoolRescalingEvent extends Event
         return new PoolRescalingEvent( type, lrb, seriesMetadata );
     }
 
+    /**
+     * Sets whether the rescaled time-series was re-used from an earlier rescaling.
+     * @param cached is true if the rescaled time-series was re-used, false if it was rescaled
+     */
+
+    void setCached( boolean cached )
+    {
+        this.cached = cached;
+    }
+
     /**
      * Hidden constructor.
      * @param type the type of rescaling performed
@@ -44,6 +44,8 @@ import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.Feature;
 import wres.datamodel.space.FeatureCorrelator;
 import wres.datamodel.space.FeatureTuple;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.IndexedTimeSeries;
 import wres.datamodel.time.RescaledTimeSeriesPlusValidation;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesCrossPairer;
@@ -108,6 +110,9 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
     /** Upscaler for left-type data. Optional on construction, but may be exceptional if absent and later required. */
     private final TimeSeriesUpscaler<L> leftUpscaler;
 
+    /** A cache of upscaled left-type data that is shared between pools. Optional. */
+    private final RescaledTimeSeriesCache<L> leftRescalingCache;
+
     /** Upscaler for right-type data. Optional on construction, but may be exceptional if later required. */
     private final TimeSeriesUpscaler<R> rightUpscaler;
 
@@ -331,6 +336,9 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         /** Upscaler for left-type data. Optional on construction, but may be exceptional if later required. */
         private TimeSeriesUpscaler<L> leftUpscaler;
 
+        /** A cache of upscaled left-type data that is shared between pools. Optional. */
+        private RescaledTimeSeriesCache<L> leftRescalingCache;
+
         /** Upscaler for right-type data. Optional on construction, but may be exceptional if later required. */
         private TimeSeriesUpscaler<R> rightUpscaler;
 
@@ -519,6 +527,17 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
             return this;
         }
 
+        /**
+         * @param leftRescalingCache a cache of upscaled left-ish data that is shared between pools
+         * @return the builder
+         */
+        Builder<L, R, B> setLeftRescalingCache( RescaledTimeSeriesCache<L> leftRescalingCache )
+        {
+            this.leftRescalingCache = leftRescalingCache;
+
+            return this;
+        }
+
         /**
          * @param rightUpscaler the right upscaler
          * @return the builder
@@ -1203,6 +1222,17 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                           .collect( Collectors.toMap( Map.Entry::getKey,
                                                       Map.Entry::getValue ) );
 
+        // Index the left-ish series once for pairing with every right-ish series, unless they require upscaling, in
+        // which case they are upscaled to the right-ish series on pairing
+        Map<Feature, List<IndexedLeftSeries<L>>> indexedLeftSeries =
+                consolidatedLeftSeries.entrySet()
+                                      .stream()
+                                      .map( e -> Map.entry( e.getKey(),
+                                                            this.getIndexedLeftSeries( e.getValue(),
+                                                                                       timeParameters ) ) )
+                                      .collect( Collectors.toMap( Map.Entry::getKey,
+                                                                  Map.Entry::getValue ) );
+
         Map<FeatureTuple, List<TimeSeries<Pair<L, R>>>> pairsPerFeature = new HashMap<>();
 
         // Generated baseline, if needed
@@ -1247,8 +1277,8 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                                      // Add the pairs for each left feature
                                      for ( Feature nextLeftFeature : nextLeftFeatures )
                                      {
-                                         List<TimeSeries<L>> nextLeftSeries =
-                                                 consolidatedLeftSeries.get( nextLeftFeature );
+                                         List<IndexedLeftSeries<L>> nextLeftSeries =
+                                                 indexedLeftSeries.get( nextLeftFeature );
                                          List<TimeSeriesPlusValidation<L, R>> nextPairedSeries =
                                                  this.createPairsPerLeftSeries( nextLeftSeries,
                                                                                 transformedRightOrBaseline,
@@ -1344,9 +1374,69 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         }
     }
 
+    /**
+     * Indexes each left time-series for pairing with many right time-series. The post-rescaling transformations and
+     * missing value filter are applied once to each left time-series, which is then indexed by valid time. A left
+     * time-series that requires upscaling is not indexed because it is upscaled with respect to each right
+     * time-series. Instead, it is identified in the rescaling cache, if any, so that it can be upscaled once for each
+     * distinct set of end times across all pools.
+     *
+     * @param leftSeries the left time-series
+     * @param timeParameters the time parameters for pairing
+     * @return the indexed left time-series
+     */
+
+    private List<IndexedLeftSeries<L>> getIndexedLeftSeries( List<TimeSeries<L>> leftSeries,
+                                                             TimeParameters timeParameters )
+    {
+        List<IndexedLeftSeries<L>> returnMe = new ArrayList<>();
+
+        for ( TimeSeries<L> nextLeftSeries : leftSeries )
+        {
+            IndexedTimeSeries<L> index = null;
+            Object rescalingToken = null;
+
+            if ( !this.isLeftUpscalingRequired( nextLeftSeries, timeParameters ) )
+            {
+                TimeSeries<L> transformedLeft = this.getLeftTransformerPostRescaling()
+                                                    .apply( nextLeftSeries );
+                TimeSeries<L> filteredLeft = TimeSeriesSlicer.filter( transformedLeft,
+                                                                      this.getLeftMissingFilter() );
+                index = IndexedTimeSeries.of( filteredLeft );
+            }
+            // Identify the series once, rather than comparing its content for each right-ish series
+            else if ( Objects.nonNull( this.leftRescalingCache ) )
+            {
+                rescalingToken = this.leftRescalingCache.getToken( nextLeftSeries );
+            }
+
+            returnMe.add( new IndexedLeftSeries<>( nextLeftSeries, index, rescalingToken ) );
+        }
+
+        return Collections.unmodifiableList( returnMe );
+    }
+
+    /**
+     * Determines whether a left time-series requires upscaling to the desired time scale.
+     *
+     * @param leftSeries the left time-series
+     * @param timeParameters the time parameters for pairing
+     * @return true if the left time-series requires upscaling, otherwise false
+     */
+
+    private boolean isLeftUpscalingRequired( TimeSeries<L> leftSeries, TimeParameters timeParameters )
+    {
+        return Objects.nonNull( timeParameters.desiredTimeScale() )
+               && Objects.nonNull( leftSeries.getTimeScale() )
+               && TimeScaleOuter.isRescalingRequired( leftSeries.getTimeScale(),
+                                                      timeParameters.desiredTimeScale() )
+               && !timeParameters.desiredTimeScale()
+                                 .equals( leftSeries.getTimeScale() );
+    }
+
     /**
      * Creates a time-series of pairs for each left series.
-     * @param leftSeries the left time-series, which may be null
+     * @param leftSeries the indexed left time-series, which may be null
      * @param rightOrBaselineSeries the right time-series
      * @param timeParameters the time parameters for pairing
      * @param rightOrBaselineOrientation the orientation of the pairs
@@ -1355,7 +1445,7 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
      * @throws NullPointerException if any required input is null
      */
 
-    private List<TimeSeriesPlusValidation<L, R>> createPairsPerLeftSeries( List<TimeSeries<L>> leftSeries,
+    private List<TimeSeriesPlusValidation<L, R>> createPairsPerLeftSeries( List<IndexedLeftSeries<L>> leftSeries,
                                                                            TimeSeries<R> rightOrBaselineSeries,
                                                                            TimeParameters timeParameters,
                                                                            DatasetOrientation rightOrBaselineOrientation,
@@ -1374,7 +1464,7 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
 
         List<TimeSeriesPlusValidation<L, R>> returnMe = new ArrayList<>();
 
-        for ( TimeSeries<L> nextLeftSeries : leftSeries )
+        for ( IndexedLeftSeries<L> nextLeftSeries : leftSeries )
         {
             TimeSeriesPlusValidation<L, R> pairsPlus = this.createSeriesPairs( nextLeftSeries,
                                                                                rightOrBaselineSeries,
@@ -1396,7 +1486,8 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                 if ( pairs.getEvents().isEmpty() )
                 {
                     LOGGER.trace( "Found zero pairs while intersecting time-series {} with time-series {}.",
-                                  nextLeftSeries.getMetadata(),
+                                  nextLeftSeries.series()
+                                                .getMetadata(),
                                   rightOrBaselineSeries.getMetadata() );
                 }
             }
@@ -1406,9 +1497,10 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
     }
 
     /**
-     * Returns a time-series of pairs from a left and right or baseline series, rescaling as needed.
+     * Returns a time-series of pairs from a left and right or baseline series, rescaling as needed. When the left
+     * series is indexed, the pairs are formed from the index.
      *
-     * @param leftSeries the left time-series
+     * @param indexedLeftSeries the left time-series and its index, if available
      * @param rightOrBaselineSeries the right or baseline time-series
      * @param timeParameters the timing parameters for pairing
      * @param orientation the orientation of the non-left data, one of {@link DatasetOrientation#RIGHT} or
@@ -1418,17 +1510,19 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
      * @throws NullPointerException if the left, rightOrBaseline or timeWindow is null
      */
 
-    private TimeSeriesPlusValidation<L, R> createSeriesPairs( TimeSeries<L> leftSeries,
+    private TimeSeriesPlusValidation<L, R> createSeriesPairs( IndexedLeftSeries<L> indexedLeftSeries,
                                                               TimeSeries<R> rightOrBaselineSeries,
                                                               TimeParameters timeParameters,
                                                               DatasetOrientation orientation,
                                                               Transformers<R> rightOrBaselineTransformers )
     {
-        Objects.requireNonNull( leftSeries );
+        Objects.requireNonNull( indexedLeftSeries );
         Objects.requireNonNull( rightOrBaselineSeries );
         Objects.requireNonNull( timeParameters );
         Objects.requireNonNull( timeParameters.timeWindow() );
 
+        TimeSeries<L> leftSeries = indexedLeftSeries.series();
+
         // Desired unit
         String desiredUnit = this.getMetadata()
                                  .getMeasurementUnit()
@@ -1455,12 +1549,7 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                                                    List.of() );
         }
 
-        boolean upscaleLeft = Objects.nonNull( timeParameters.desiredTimeScale() )
-                              && Objects.nonNull( leftSeries.getTimeScale() )
-                              && TimeScaleOuter.isRescalingRequired( leftSeries.getTimeScale(),
-                                                                     timeParameters.desiredTimeScale() )
-                              && !timeParameters.desiredTimeScale()
-                                                .equals( leftSeries.getTimeScale() );
+        boolean upscaleLeft = this.isLeftUpscalingRequired( leftSeries, timeParameters );
 
         boolean upscaleRight = Objects.nonNull( timeParameters.desiredTimeScale() )
                                && Objects.nonNull( rightOrBaselineSeries.getTimeScale() )
@@ -1507,12 +1596,13 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                               timeParameters.desiredTimeScale() );
             }
 
-            TimeSeriesUpscaler<L> leftUp = this.getLeftUpscaler();
             // #92892
-            RescaledTimeSeriesPlusValidation<L> upscaledLeft = leftUp.upscale( scaledLeft,
-                                                                               timeParameters.desiredTimeScale(),
-                                                                               endsAt,
-                                                                               desiredUnit );
+            RescaledTimeSeriesPlusValidation<L> upscaledLeft = this.getUpscaledLeft( indexedLeftSeries,
+                                                                                     scaledLeft,
+                                                                                     timeParameters.desiredTimeScale(),
+                                                                                     endsAt,
+                                                                                     desiredUnit,
+                                                                                     rescalingMonitor );
 
             scaledLeft = upscaledLeft.getTimeSeries();
             statusEvents.addAll( upscaledLeft.getValidationEvents() );
@@ -1581,22 +1671,43 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         }
 
         // Transform the rescaled values (e.g., this could contain unit transformations, among others)
-        TimeSeries<L> scaledAndTransformedLeft = this.getLeftTransformerPostRescaling()
-                                                     .apply( scaledLeft );
-
         TimeSeries<R> scaledAndTransformedRight = rightOrBaselineTransformers.rightTransformer()
                                                                              .apply( scaledRight );
 
         // Remove any missing values
-        TimeSeries<L> filteredLeft = TimeSeriesSlicer.filter( scaledAndTransformedLeft,
-                                                              this.getLeftMissingFilter() );
-
         TimeSeries<R> filteredRight = TimeSeriesSlicer.filter( scaledAndTransformedRight,
                                                                rightOrBaselineTransformers.rightMissingFilter() );
 
-        // Create the pairs, if any
-        TimeSeries<Pair<L, R>> pairs = this.getPairer()
-                                           .pair( filteredLeft, filteredRight );
+        // The indexed left series is already transformed and filtered, so only transform the snipped left series
+        // when it is needed
+        TimeSeries<L> scaledAndTransformedLeft = null;
+        TimeSeries<Pair<L, R>> pairs;
+        IndexedTimeSeries<L> leftIndex = indexedLeftSeries.index();
+
+        if ( upscaleLeft || Objects.isNull( leftIndex ) )
+        {
+            scaledAndTransformedLeft = this.getLeftTransformerPostRescaling()
+                                           .apply( scaledLeft );
+
+            TimeSeries<L> filteredLeft = TimeSeriesSlicer.filter( scaledAndTransformedLeft,
+                                                                  this.getLeftMissingFilter() );
+
+            // Create the pairs, if any
+            pairs = this.getPairer()
+                        .pair( filteredLeft, filteredRight );
+        }
+        else
+        {
+            // Create the pairs, if any, by merging with the index
+            pairs = this.getPairer()
+                        .pairIndexed( leftIndex, filteredRight );
+
+            if ( this.hasBaselineGenerator() )
+            {
+                scaledAndTransformedLeft = this.getLeftTransformerPostRescaling()
+                                               .apply( scaledLeft );
+            }
+        }
 
         // Snip the pairs to the pool boundary
         TimeSeries<Pair<L, R>> snippedPairs = TimeSeriesSlicer.snip( pairs, timeParameters.timeWindow() );
@@ -1610,9 +1721,9 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
                           + " which contained {} values: "
                           + "created {} pairs at the desired time scale of {}.",
                           DatasetOrientation.LEFT,
-                          filteredLeft.getMetadata(),
-                          filteredLeft.getEvents()
-                                      .size(),
+                          scaledLeft.getMetadata(),
+                          scaledLeft.getEvents()
+                                    .size(),
                           orientation,
                           filteredRight.getMetadata(),
                           filteredRight.getEvents()
@@ -1787,6 +1898,90 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         return Collections.unmodifiableSortedSet( endsAt );
     }
 
+    /**
+     * Upscales a left time-series, re-using the upscaled time-series from the rescaling cache when the same left
+     * time-series was upscaled to the same end times by an earlier pairing. A time-series that is added to the cache is
+     * upscaled from the events between the start of the first upscaling period and the last end time, so that the
+     * upscaled values do not depend on the right time-series that happened to be paired first.
+     *
+     * @param indexedLeftSeries the left time-series
+     * @param snippedLeft the left time-series snipped to the right time-series
+     * @param desiredTimeScale the desired time scale
+     * @param endsAt the end times
+     * @param desiredUnit the desired measurement unit
+     * @param rescalingMonitor the rescaling monitor
+     * @return the upscaled time-series
+     */
+
+    private RescaledTimeSeriesPlusValidation<L> getUpscaledLeft( IndexedLeftSeries<L> indexedLeftSeries,
+                                                                 TimeSeries<L> snippedLeft,
+                                                                 TimeScaleOuter desiredTimeScale,
+                                                                 SortedSet<Instant> endsAt,
+                                                                 String desiredUnit,
+                                                                 PoolRescalingEvent rescalingMonitor )
+    {
+        TimeSeriesUpscaler<L> leftUp = this.getLeftUpscaler();
+        Object token = indexedLeftSeries.rescalingToken();
+
+        // Without end times, the upscaled values depend on the snipped time-series
+        if ( Objects.isNull( token )
+             || endsAt.isEmpty() )
+        {
+            return leftUp.upscale( snippedLeft, desiredTimeScale, endsAt, desiredUnit );
+        }
+
+        RescaledTimeSeriesCache.Key key = this.leftRescalingCache.getKey( token,
+                                                                          desiredTimeScale,
+                                                                          endsAt,
+                                                                          desiredUnit );
+        RescaledTimeSeriesPlusValidation<L> upscaled = this.leftRescalingCache.get( key );
+
+        if ( Objects.nonNull( upscaled ) )
+        {
+            rescalingMonitor.setCached( true );
+            return upscaled;
+        }
+
+        Duration period = this.getPeriodFromTimeScale( desiredTimeScale );
+        TimeSeries<L> toUpscale = this.snipToEndTimes( snippedLeft, endsAt, period );
+        upscaled = leftUp.upscale( toUpscale, desiredTimeScale, endsAt, desiredUnit );
+        this.leftRescalingCache.put( key, upscaled );
+
+        return upscaled;
+    }
+
+    /**
+     * Snips a time-series to the events that are required to upscale values that end at the prescribed times.
+     *
+     * @param <T> the time-series event value type
+     * @param toSnip the time-series to snip
+     * @param endsAt the end times, not empty
+     * @param period the upscaling period
+     * @return the snipped time-series
+     */
+
+    private <T> TimeSeries<T> snipToEndTimes( TimeSeries<T> toSnip, SortedSet<Instant> endsAt, Duration period )
+    {
+        SortedSet<Event<T>> events = toSnip.getEvents();
+
+        if ( events.isEmpty() )
+        {
+            return toSnip;
+        }
+
+        // Events are ordered by time, so bound the subset with events at the bounding times
+        T value = events.first()
+                        .getValue();
+        Event<T> lower = Event.of( endsAt.first()
+                                         .minus( period ), value );
+        Event<T> upper = Event.of( endsAt.last()
+                                         .plusNanos( 1 ), value );
+
+        return new TimeSeries.Builder<T>().setMetadata( toSnip.getMetadata() )
+                                          .setEvents( events.subSet( lower, upper ) )
+                                          .build();
+    }
+
     /**
      * Creates a generated baseline dataset, as needed.
      * @param orientation the dataset orientation
@@ -2606,6 +2801,7 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         this.covariateFilters = Map.copyOf( builder.covariateFilters );
         this.pairer = builder.pairer;
         this.leftUpscaler = builder.leftUpscaler;
+        this.leftRescalingCache = builder.leftRescalingCache;
         this.rightUpscaler = builder.rightUpscaler;
         this.baselineUpscaler = builder.baselineUpscaler;
         this.desiredTimeScale = builder.desiredTimeScale;
@@ -2782,6 +2978,19 @@ public class PoolSupplier<L, R, B> implements Supplier<Pool<TimeSeries<Pair<L, R
         }
     }
 
+    /**
+     * Record of a left-ish time-series and its index for pairing.
+     * @param <L> the left-ish data type
+     * @param series the unscaled and untransformed left-ish time-series
+     * @param index the transformed and filtered left-ish time-series indexed for pairing or null if upscaling is
+     *            required
+     * @param rescalingToken the token that identifies the left-ish time-series in the rescaling cache or null if
+     *            upscaling is not required or there is no cache
+     */
+    private record IndexedLeftSeries<L>( TimeSeries<L> series, IndexedTimeSeries<L> index, Object rescalingToken )
+    {
+    }
+
     /** Record class to bundle right-ish transformers and filters. */
     private record Transformers<R>( UnaryOperator<TimeSeries<R>> rightTransformer,
                                     Predicate<R> rightMissingFilter,
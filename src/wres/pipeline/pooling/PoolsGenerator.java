@@ -79,6 +79,9 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
     /** The upscaler for left-ish values. */
     private final TimeSeriesUpscaler<L> leftUpscaler;
 
+    /** A cache of upscaled left-ish values that is shared between pools, possibly null. */
+    private final RescaledTimeSeriesCache<L> leftRescalingCache;
+
     /** The upscaler for right-ish values. */
     private final TimeSeriesUpscaler<R> rightUpscaler;
 
@@ -194,6 +197,9 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
         /** A function to upscale left data. */
         private TimeSeriesUpscaler<L> leftUpscaler;
 
+        /** A cache of upscaled left data that is shared between pools. */
+        private RescaledTimeSeriesCache<L> leftRescalingCache;
+
         /** A function to upscale right data. */
         private TimeSeriesUpscaler<R> rightUpscaler;
 
@@ -338,6 +344,17 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
             return this;
         }
 
+        /**
+         * @param leftRescalingCache a cache of upscaled left values that is shared between pools
+         * @return the builder
+         */
+        Builder<L, R, B> setLeftRescalingCache( RescaledTimeSeriesCache<L> leftRescalingCache )
+        {
+            this.leftRescalingCache = leftRescalingCache;
+
+            return this;
+        }
+
         /**
          * @param rightUpscaler the upscaler for right values
          * @return the builder
@@ -659,6 +676,7 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
         PoolSupplier.Builder<L, R, B> builder =
                 new PoolSupplier.Builder<L, R, B>()
                         .setLeftUpscaler( this.getLeftUpscaler() )
+                        .setLeftRescalingCache( this.leftRescalingCache )
                         .setRightUpscaler( this.getRightUpscaler() )
                         .setBaselineUpscaler( this.getBaselineUpscaler() )
                         .setPairer( this.getPairer() )
@@ -723,6 +741,10 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
                                                              .type() );
             }
 
+            // Right-ish retrievers, which may retrieve several time windows together
+            Map<Set<Feature>, Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>>> rightRetrievers =
+                    this.getRightRetrievers( this.getPoolRequests() );
+
             List<PoolSupplier<L, R, B>> returnMe = new ArrayList<>();
 
             // Create the retrievers for each pool
@@ -741,9 +763,8 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
                 Set<Feature> rightFeatures = this.getFeatures( features,
                                                                FeatureTuple::getRight );
 
-                Supplier<Stream<TimeSeries<R>>> rightSupplier = this.getRetrieverFactory()
-                                                                    .getRightRetriever( rightFeatures,
-                                                                                        nextWindow );
+                Supplier<Stream<TimeSeries<R>>> rightSupplier = rightRetrievers.get( rightFeatures )
+                                                                               .get( nextWindow );
 
                 builder.setRight( rightSupplier );
                 builder.setMetadata( nextPool.getMetadata() );
@@ -877,6 +898,42 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
         }
     }
 
+    /**
+     * Builds a right-ish retriever for each {@link TimeWindowOuter} in the input, grouped by the right-ish features
+     * of each pool. The {@link RetrieverFactory} may retrieve several time windows for the same features together.
+     *
+     * @param poolRequests the pool requests
+     * @return a right-ish retriever for each time window, grouped by features
+     */
+
+    private Map<Set<Feature>, Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>>> getRightRetrievers( List<PoolRequest> poolRequests )
+    {
+        RetrieverFactory<L, R, B> factory = this.getRetrieverFactory();
+        TimeScaleOuter timeScale = this.getProject()
+                                       .getDesiredTimeScale();
+
+        // Adjusted time windows for retrieval by features
+        Map<Set<Feature>, Set<TimeWindowOuter>> timeWindows = new HashMap<>();
+        for ( PoolRequest next : poolRequests )
+        {
+            Set<Feature> features = this.getFeatures( next.getMetadata()
+                                                          .getFeatureTuples(),
+                                                      FeatureTuple::getRight );
+            TimeWindowOuter timeWindow = this.getRetrievalTimeWindow( next.getMetadata()
+                                                                          .getTimeWindow(),
+                                                                      timeScale );
+            timeWindows.computeIfAbsent( features, k -> new HashSet<>() )
+                       .add( timeWindow );
+        }
+
+        Map<Set<Feature>, Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>>> returnMe = new HashMap<>();
+        timeWindows.forEach( ( features, windows ) -> returnMe.put( features,
+                                                                   factory.getRightRetrievers( features,
+                                                                                               windows ) ) );
+
+        return Collections.unmodifiableMap( returnMe );
+    }
+
     /**
      * Returns a time window for retrieval that is expanded to account for the desired timescale of the pairs. This
      * ensures that pairs can be created from data at a native scale that falls outside the pool window, but falls
@@ -1618,6 +1675,7 @@ public class PoolsGenerator<L, R, B> implements Supplier<List<Supplier<Pool<Time
         this.baselineGenerator = builder.baselineGenerator;
         this.pairer = builder.pairer;
         this.leftUpscaler = builder.leftUpscaler;
+        this.leftRescalingCache = builder.leftRescalingCache;
         this.rightUpscaler = builder.rightUpscaler;
         this.baselineUpscaler = builder.baselineUpscaler;
         this.climatologyUpscaler = builder.climatologyUpscaler;
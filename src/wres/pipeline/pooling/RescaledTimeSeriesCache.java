@@ -0,0 +1,234 @@
+package wres.pipeline.pooling;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.time.RescaledTimeSeriesPlusValidation;
+import wres.datamodel.time.TimeSeries;
+
+/**
+ * <p>A cache of rescaled time-series that is shared between the pools of one evaluation. Each pool transforms, shifts
+ * and consolidates the left-ish time-series for a feature before rescaling them to each right-ish time-series. When
+ * the pools of an evaluation share the same left-ish data, such as many lead duration pools that share the same
+ * observations, the same left-ish time-series would otherwise be rescaled to the same end times in each pool.
+ *
+ * <p>A time-series is identified by a token, which is obtained once per pool with {@link #getToken(TimeSeries)}. The
+ * token is shared by all time-series with equal content, which includes the feature and any transformations or valid
+ * time offsets applied before rescaling. Thus, a rescaled time-series is identified by the token, the desired time
+ * scale, the times at which the rescaled values end and the desired measurement unit, without comparing the content
+ * of the time-series on each lookup. The rescaled time-series is expected to depend only on these things, so the cache
+ * should be used with one upscaler only.
+ *
+ * <p>The cache is bounded by an estimate of the heap occupied by the time-series and evicts the least recently used
+ * time-series first.
+ *
+ * @param <T> the type of time-series event value
+ * @author James Brown
+ */
+
+@ThreadSafe
+class RescaledTimeSeriesCache<T>
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( RescaledTimeSeriesCache.class );
+
+    /** The estimated bytes occupied by each event, including the time, the value and the entry in the series. */
+    private static final long BYTES_PER_EVENT = 112;
+
+    /** The fraction of the maximum heap that may be occupied by default. */
+    private static final double DEFAULT_HEAP_FRACTION = 0.05;
+
+    /** The tokens of the time-series to rescale. */
+    private final Cache<TimeSeries<T>, Object> tokens;
+
+    /** The rescaled time-series. */
+    private final Cache<Key, RescaledTimeSeriesPlusValidation<T>> rescaled;
+
+    /**
+     * Creates a cache that may occupy a small fraction of the maximum heap.
+     *
+     * @param <T> the type of time-series event value
+     * @return the cache
+     */
+
+    static <T> RescaledTimeSeriesCache<T> of()
+    {
+        long maximumBytes = ( long ) ( Runtime.getRuntime()
+                                              .maxMemory() * DEFAULT_HEAP_FRACTION );
+        return new RescaledTimeSeriesCache<>( maximumBytes );
+    }
+
+    /**
+     * Creates a cache with a prescribed bound.
+     *
+     * @param <T> the type of time-series event value
+     * @param maximumBytes the maximum number of bytes occupied by the cached time-series
+     * @return the cache
+     * @throws IllegalArgumentException if the maximum bytes is not positive
+     */
+
+    static <T> RescaledTimeSeriesCache<T> of( long maximumBytes )
+    {
+        return new RescaledTimeSeriesCache<>( maximumBytes );
+    }
+
+    /**
+     * Returns the token for a time-series to rescale, which is shared by all time-series with equal content. Obtaining
+     * the token compares the content of the time-series, so it should be obtained once for each time-series and then
+     * re-used for each rescaling.
+     *
+     * @param timeSeries the time-series to rescale
+     * @return the token
+     * @throws NullPointerException if the time-series is null
+     */
+
+    Object getToken( TimeSeries<T> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        return this.tokens.get( timeSeries, k -> new Object() );
+    }
+
+    /**
+     * Returns the key for a rescaled time-series.
+     *
+     * @param token the token of the time-series to rescale
+     * @param desiredTimeScale the desired time scale
+     * @param endsAt the times at which the rescaled values end
+     * @param desiredUnit the desired measurement unit
+     * @return the key
+     * @throws NullPointerException if any input is null
+     */
+
+    Key getKey( Object token, TimeScaleOuter desiredTimeScale, SortedSet<Instant> endsAt, String desiredUnit )
+    {
+        Objects.requireNonNull( token );
+        Objects.requireNonNull( desiredTimeScale );
+        Objects.requireNonNull( endsAt );
+        Objects.requireNonNull( desiredUnit );
+
+        return new Key( token, desiredTimeScale, endsAt, desiredUnit );
+    }
+
+    /**
+     * @param key the key
+     * @return the rescaled time-series or null if the time-series is not cached
+     * @throws NullPointerException if the key is null
+     */
+
+    RescaledTimeSeriesPlusValidation<T> get( Key key )
+    {
+        Objects.requireNonNull( key );
+
+        return this.rescaled.getIfPresent( key );
+    }
+
+    /**
+     * @param key the key
+     * @param rescaledTimeSeries the rescaled time-series
+     * @throws NullPointerException if either input is null
+     */
+
+    void put( Key key, RescaledTimeSeriesPlusValidation<T> rescaledTimeSeries )
+    {
+        Objects.requireNonNull( key );
+        Objects.requireNonNull( rescaledTimeSeries );
+
+        this.rescaled.put( key, rescaledTimeSeries );
+    }
+
+    /**
+     * @return the statistics of the rescaled time-series, including the hits and misses
+     */
+
+    CacheStats getStatistics()
+    {
+        return this.rescaled.stats();
+    }
+
+    /**
+     * Logs the statistics of the rescaled time-series.
+     */
+
+    void logStatistics()
+    {
+        if ( LOGGER.isDebugEnabled() )
+        {
+            CacheStats statistics = this.getStatistics();
+
+            LOGGER.debug( "The cache of rescaled time-series recorded {} hits and {} misses with a hit rate of {}. "
+                          + "Evicted {} rescaled time-series.",
+                          statistics.hitCount(),
+                          statistics.missCount(),
+                          statistics.hitRate(),
+                          statistics.evictionCount() );
+        }
+    }
+
+    /**
+     * Estimates the bytes occupied by a time-series.
+     *
+     * @param timeSeries the time-series
+     * @return the estimated bytes, up to {@link Integer#MAX_VALUE}
+     */
+
+    private static int getWeight( TimeSeries<?> timeSeries )
+    {
+        long bytes = timeSeries.getEvents()
+                               .size() * BYTES_PER_EVENT;
+
+        return ( int ) Math.min( Integer.MAX_VALUE, bytes );
+    }
+
+    /**
+     * Identifies a rescaled time-series.
+     *
+     * @param token the token of the time-series to rescale
+     * @param desiredTimeScale the desired time scale
+     * @param endsAt the times at which the rescaled values end
+     * @param desiredUnit the desired measurement unit
+     */
+
+    record Key( Object token, TimeScaleOuter desiredTimeScale, SortedSet<Instant> endsAt, String desiredUnit )
+    {
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param maximumBytes the maximum number of bytes occupied by the cached time-series
+     * @throws IllegalArgumentException if the maximum bytes is not positive
+     */
+
+    private RescaledTimeSeriesCache( long maximumBytes )
+    {
+        if ( maximumBytes <= 0 )
+        {
+            throw new IllegalArgumentException( "The maximum bytes occupied by the cached time-series must be "
+                                                + "positive: "
+                                                + maximumBytes
+                                                + "." );
+        }
+
+        // Divide the bytes between the time-series to rescale and the rescaled time-series
+        this.tokens = Caffeine.newBuilder()
+                              .maximumWeight( maximumBytes / 2 )
+                              .weigher( ( TimeSeries<T> timeSeries, Object token ) -> getWeight( timeSeries ) )
+                              .build();
+        this.rescaled = Caffeine.newBuilder()
+                                .maximumWeight( maximumBytes / 2 )
+                                .weigher( ( Key key, RescaledTimeSeriesPlusValidation<T> value ) ->
+                                                  getWeight( value.getTimeSeries() ) )
+                                .recordStats()
+                                .build();
+    }
+}
@@ -30,6 +30,7 @@ import wres.datamodel.Slicer;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.space.FeatureTuple;
 import wres.config.MetricConstants;
@@ -621,17 +622,20 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
             return;
         }
 
+        // Sort the ensemble members once for all metrics in the collection, which share the matrix
+        SortedEnsembleMatrix matrix = SortedEnsembleMatrix.of( pairs.get() );
+
         if ( outGroup == StatisticType.DOUBLE_SCORE )
         {
-            futures.addDoubleScoreStatistics( this.processEnsemblePairs( pairs, this.ensembleScore ) );
+            futures.addDoubleScoreStatistics( this.processEnsemblePairs( pairs, matrix, this.ensembleScore ) );
         }
         else if ( outGroup == StatisticType.DIAGRAM )
         {
-            futures.addDiagramStatistics( this.processEnsemblePairs( pairs, this.ensembleDiagrams ) );
+            futures.addDiagramStatistics( this.processEnsemblePairs( pairs, matrix, this.ensembleDiagrams ) );
         }
         else if ( outGroup == StatisticType.BOXPLOT_PER_PAIR )
         {
-            futures.addBoxPlotStatisticsPerPair( this.processEnsemblePairs( pairs, this.ensembleBoxPlot ) );
+            futures.addBoxPlotStatisticsPerPair( this.processEnsemblePairs( pairs, matrix, this.ensembleBoxPlot ) );
         }
     }
 
@@ -925,12 +929,14 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
      *
      * @param <T> the type of {@link Statistic}
      * @param pairs the pairs
+     * @param matrix the sorted ensemble members of the pairs, which are shared by the metrics in the collection
      * @param collection the metric collection
      * @return the future result
      */
 
     private <T extends Statistic<?>> Future<List<T>>
     processEnsemblePairs( Pool<Pair<Double, Ensemble>> pairs,
+                          SortedEnsembleMatrix matrix,
                           MetricCollection<Pool<Pair<Double, Ensemble>>, T, T> collection )
     {
 
@@ -967,7 +973,11 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
         }
 
         // Are there skill metrics and does the baseline also meet the minimum sample size constraint?
-        return super.processMetricsRequiredForThisPool( pairs, collection );
+        return super.processMetricsRequiredForThisPool( pairs,
+                                                        collection,
+                                                        ( pool, metrics ) -> collection.apply( pool,
+                                                                                               metrics,
+                                                                                               matrix ) );
     }
 
     /**
@@ -5,11 +5,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
@@ -25,9 +27,9 @@ import wres.config.components.ThresholdType;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.pools.SortedPool;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.space.FeatureTuple;
-import wres.datamodel.Slicer;
 import wres.datamodel.statistics.DurationScoreStatisticOuter;
 import wres.datamodel.statistics.PairsStatisticOuter;
 import wres.datamodel.statistics.ScoreStatistic;
@@ -276,23 +278,22 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
     }
 
     /**
-     * Helper that returns a predicate for filtering single-valued pairs based on the 
+     * Helper that returns the side of the single-valued pairs to which a threshold is applied based on the 
      * {@link ThresholdOuter#getOrientation()} of the input threshold.
      *
      * @param threshold the threshold
-     * @return the predicate for filtering pairs
+     * @return the side of the pairs to filter
      * @throws NullPointerException if the {@link ThresholdOuter#getOrientation()} is null
-     * @throws IllegalStateException if the {@link ThresholdOuter#getOrientation()} is not recognized
      */
 
-    private static Predicate<Pair<Double, Double>> getFilterForSingleValuedPairs( ThresholdOuter threshold )
+    private static SortedPool.Side getSideForSingleValuedPairs( ThresholdOuter threshold )
     {
         return switch ( threshold.getOrientation() )
         {
-            case OBSERVED -> Slicer.left( threshold );
+            case OBSERVED -> SortedPool.Side.LEFT;
             case OBSERVED_AND_PREDICTED, OBSERVED_AND_ANY_PREDICTED, OBSERVED_AND_PREDICTED_MEAN ->
-                    Slicer.leftAndRight( threshold );
-            case PREDICTED, ANY_PREDICTED, PREDICTED_MEAN -> Slicer.right( threshold );
+                    SortedPool.Side.LEFT_AND_RIGHT;
+            case PREDICTED, ANY_PREDICTED, PREDICTED_MEAN -> SortedPool.Side.RIGHT;
         };
     }
 
@@ -391,13 +392,13 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         // example, a logical threshold is a threshold that is consistently named "banana" across all features
         List<Map<FeatureTuple, ThresholdOuter>> decomposedThresholds = ThresholdSlicer.decompose( unique );
 
+        // Decompose by feature and sort the pairs once, so that each threshold is found with a binary search
+        Map<FeatureTuple, SortedPool> pools =
+                PoolSlicer.sort( PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() ) );
+
         // Iterate the thresholds
         for ( Map<FeatureTuple, ThresholdOuter> thresholds : decomposedThresholds )
         {
-            Map<FeatureTuple, Predicate<Pair<Double, Double>>> slicers =
-                    ThresholdSlicer.getFiltersFromThresholds( thresholds,
-                                                              SingleValuedStatisticsProcessor::getFilterForSingleValuedPairs );
-
             // Add the threshold to the pool metadata            
             ThresholdOuter outer = ThresholdSlicer.compose( Set.copyOf( thresholds.values() ) );
             OneOrTwoThresholds composed = OneOrTwoThresholds.of( outer );
@@ -405,14 +406,11 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
             UnaryOperator<PoolMetadata> metaTransformer =
                     untransformed -> PoolMetadata.of( untransformed, composed );
 
-            // Decompose by feature
-            Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
-                    PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
-
             // Filter by threshold using the feature as a hook to tie a pool to a threshold
             Pool<Pair<Double, Double>> sliced =
                     this.doWorkWithSlicingExecutor( () -> PoolSlicer.filter( pools,
-                                                                             slicers,
+                                                                             thresholds,
+                                                                             SingleValuedStatisticsProcessor::getSideForSingleValuedPairs,
                                                                              pool.getMetadata(),
                                                                              super.getBaselineMetadata( pool ),
                                                                              metaTransformer,
@@ -449,8 +447,7 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
 
         switch ( outGroup )
         {
-            case DOUBLE_SCORE -> futures.addDoubleScoreStatistics( this.processSingleValuedPairs( pairs,
-                                                                                                  this.singleValuedScore ) );
+            case DOUBLE_SCORE -> this.processSingleValuedScores( pairs, futures );
             case DIAGRAM -> futures.addDiagramStatistics( this.processSingleValuedPairs( pairs,
                                                                                          this.singleValuedDiagrams ) );
             case BOXPLOT_PER_POOL -> futures.addBoxPlotStatisticsPerPool( this.processSingleValuedPairs( pairs,
@@ -460,6 +457,26 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         }
     }
 
+    /**
+     * Processes one threshold for the scores that consume single-valued pairs, carrying forward the sufficient
+     * statistics of the pool so that the scores can be combined across pools.
+     *
+     * @param pairs the input pairs
+     * @param futures the metric futures
+     */
+
+    private void processSingleValuedScores( Pool<Pair<Double, Double>> pairs,
+                                            StatisticsStore.Builder futures )
+    {
+        Queue<Statistic<?>> intermediates = new ConcurrentLinkedQueue<>();
+        BiFunction<Pool<Pair<Double, Double>>, Set<MetricConstants>, List<DoubleScoreStatisticOuter>> calculator =
+                this.getIncrementalCalculator( this.singleValuedScore, intermediates );
+        CompletableFuture<List<DoubleScoreStatisticOuter>> scores =
+                this.processSingleValuedPairs( pairs, this.singleValuedScore, calculator );
+        futures.addDoubleScoreStatistics( scores );
+        futures.addIntermediateStatistics( scores.thenApply( s -> List.copyOf( intermediates ) ) );
+    }
+
     /**
      * Builds a metric future for a {@link MetricCollection} that consumes single-valued pairs at a specific 
      * {@link TimeWindowOuter} and {@link ThresholdOuter}.
@@ -470,9 +487,28 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
      * @return the future result
      */
 
-    private <T extends Statistic<?>> Future<List<T>>
+    private <T extends Statistic<?>> CompletableFuture<List<T>>
     processSingleValuedPairs( Pool<Pair<Double, Double>> pairs,
                               MetricCollection<Pool<Pair<Double, Double>>, T, T> collection )
+    {
+        return this.processSingleValuedPairs( pairs, collection, collection::apply );
+    }
+
+    /**
+     * Builds a metric future for a {@link MetricCollection} that consumes single-valued pairs at a specific
+     * {@link TimeWindowOuter} and {@link ThresholdOuter} and computes the metrics with the prescribed calculator.
+     *
+     * @param <T> the type of {@link Statistic}
+     * @param pairs the pairs
+     * @param collection the collection of metrics
+     * @param calculator computes the prescribed metrics from the pairs
+     * @return the future result
+     */
+
+    private <T extends Statistic<?>> CompletableFuture<List<T>>
+    processSingleValuedPairs( Pool<Pair<Double, Double>> pairs,
+                              MetricCollection<Pool<Pair<Double, Double>>, T, T> collection,
+                              BiFunction<Pool<Pair<Double, Double>>, Set<MetricConstants>, List<T>> calculator )
     {
         // More samples than the minimum sample size?
         int minimumSampleSize = super.getMinimumSampleSize();
@@ -507,7 +543,7 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
             return CompletableFuture.completedFuture( List.of() );
         }
 
-        return this.processMetricsRequiredForThisPool( pairs, collection );
+        return this.processMetricsRequiredForThisPool( pairs, collection, calculator );
     }
 
     /**
@@ -562,35 +598,27 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         // example, a logical threshold is a threshold that is consistently named "banana" across all features
         List<Map<FeatureTuple, ThresholdOuter>> decomposedThresholds = ThresholdSlicer.decompose( unique );
 
-        // Define a mapper to convert the single-valued pairs to dichotomous pairs
-        Function<ThresholdOuter, Function<Pair<Double, Double>, Pair<Boolean, Boolean>>> transformerGenerator =
-                threshold -> pair -> Pair.of( threshold.test( pair.getLeft() ),
-                                              threshold.test( pair.getRight() ) );
+        // Decompose by feature and sort the pairs once, so that the contingency table for each threshold is counted
+        // with a binary search
+        Map<FeatureTuple, SortedPool> pools =
+                PoolSlicer.sort( PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() ) );
 
         // Iterate the thresholds
         for ( Map<FeatureTuple, ThresholdOuter> thresholds : decomposedThresholds )
         {
-            Map<FeatureTuple, Function<Pair<Double, Double>, Pair<Boolean, Boolean>>> transformers =
-                    ThresholdSlicer.getTransformersFromThresholds( thresholds,
-                                                                   transformerGenerator );
-
             // Add the threshold to the metadata
             ThresholdOuter outer = ThresholdSlicer.compose( Set.copyOf( thresholds.values() ) );
             OneOrTwoThresholds composed = OneOrTwoThresholds.of( outer );
             UnaryOperator<PoolMetadata> metaTransformer =
                     untransformed -> PoolMetadata.of( untransformed, composed );
 
-            // Decompose by feature
-            Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
-                    PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
-
             // Transform by threshold using the feature as a hook to tie a pool to a threshold
             Pool<Pair<Boolean, Boolean>> transformed =
-                    this.doWorkWithSlicingExecutor( () -> PoolSlicer.transform( pools,
-                                                                                transformers,
-                                                                                pool.getMetadata(),
-                                                                                this.getBaselineMetadata( pool ),
-                                                                                metaTransformer ) );
+                    this.doWorkWithSlicingExecutor( () -> PoolSlicer.transformToDichotomous( pools,
+                                                                                             thresholds,
+                                                                                             pool.getMetadata(),
+                                                                                             this.getBaselineMetadata( pool ),
+                                                                                             metaTransformer ) );
 
             super.processDichotomousPairs( transformed,
                                            futures );
@@ -6,11 +6,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -39,6 +42,7 @@ import wres.datamodel.thresholds.ThresholdOuter;
 import wres.config.components.ThresholdOperator;
 import wres.config.components.ThresholdOrientation;
 import wres.datamodel.thresholds.ThresholdSlicer;
+import wres.metrics.IntermediateStatistic;
 import wres.metrics.Metric;
 import wres.metrics.MetricCalculationException;
 import wres.metrics.MetricCollection;
@@ -130,9 +134,14 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
             return;
         }
 
-        Future<List<DoubleScoreStatisticOuter>> scores = this.processDichotomousPairs( pairs,
-                                                                                       this.dichotomousScalar );
+        // Carry the contingency tables forward so that the scores can be combined across pools
+        Queue<Statistic<?>> intermediates = new ConcurrentLinkedQueue<>();
+        BiFunction<Pool<Pair<Boolean, Boolean>>, Set<MetricConstants>, List<DoubleScoreStatisticOuter>> calculator =
+                this.getIncrementalCalculator( this.dichotomousScalar, intermediates );
+        CompletableFuture<List<DoubleScoreStatisticOuter>> scores =
+                this.processDichotomousPairs( pairs, this.dichotomousScalar, calculator );
         futures.addDoubleScoreStatistics( scores );
+        futures.addIntermediateStatistics( scores.thenApply( s -> List.copyOf( intermediates ) ) );
     }
 
     /**
@@ -148,8 +157,30 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
      * @return the future result
      */
 
-    <U, T extends Statistic<?>> Future<List<T>> processMetricsRequiredForThisPool( Pool<U> pairs,
-                                                                                   MetricCollection<Pool<U>, T, T> collection )
+    <U, T extends Statistic<?>> CompletableFuture<List<T>>
+    processMetricsRequiredForThisPool( Pool<U> pairs,
+                                       MetricCollection<Pool<U>, T, T> collection )
+    {
+        return this.processMetricsRequiredForThisPool( pairs, collection, collection::apply );
+    }
+
+    /**
+     * Inspects the metrics that are required for the pool, as described in
+     * {@link #processMetricsRequiredForThisPool(Pool, MetricCollection)}, and computes them with the prescribed
+     * calculator, which may supply other inputs to the metrics in the collection that were built once for the pool.
+     *
+     * @param <U> the type of pooled data
+     * @param <T> the type of {@link Statistic}
+     * @param pairs the pairs
+     * @param collection the metric collection
+     * @param calculator computes the prescribed metrics from the pairs
+     * @return the future result
+     */
+
+    <U, T extends Statistic<?>> CompletableFuture<List<T>>
+    processMetricsRequiredForThisPool( Pool<U> pairs,
+                                       MetricCollection<Pool<U>, T, T> collection,
+                                       BiFunction<Pool<U>, Set<MetricConstants>, List<T>> calculator )
     {
         int minimumSampleSizeInner = this.getMinimumSampleSize();
 
@@ -182,10 +213,33 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
         }
 
         // Dispatch from a different executor than the metric executor, which does the underlying work
-        return CompletableFuture.supplyAsync( () -> collection.apply( pairs, all ),
+        return CompletableFuture.supplyAsync( () -> calculator.apply( pairs, all ),
                                               this.getSlicingExecutor() );
     }
 
+    /**
+     * Returns a calculator that computes the intermediate statistics of the incremental metrics in the collection, such
+     * as the sufficient statistics of several single-valued scores, adds them to the prescribed queue, and completes
+     * the metrics from them, so that the intermediate statistics can be combined across pools without computing them
+     * again, such as when calculating summary statistics.
+     *
+     * @param <U> the type of pooled data
+     * @param <T> the type of {@link Statistic}
+     * @param collection the metric collection
+     * @param intermediates the queue to which the intermediate statistics are added
+     * @return the calculator
+     */
+
+    <U, T extends Statistic<?>> BiFunction<Pool<U>, Set<MetricConstants>, List<T>>
+    getIncrementalCalculator( MetricCollection<Pool<U>, T, T> collection, Queue<Statistic<?>> intermediates )
+    {
+        return ( pool, metrics ) -> {
+            List<IntermediateStatistic<?, T>> next = collection.getIntermediateStatistics( pool, metrics );
+            intermediates.addAll( next );
+            return collection.applyIntermediate( pool, metrics, next );
+        };
+    }
+
     /**
      * Returns true if metrics are available for the input {@link SampleDataGroup} and {@link StatisticType}, false
      * otherwise.
@@ -389,12 +443,14 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
      * @param <T> the type of {@link Statistic}
      * @param pairs the pairs
      * @param collection the metric collection
+     * @param calculator computes the prescribed metrics from the pairs
      * @return the future result
      */
 
-    private <T extends Statistic<?>> Future<List<T>>
+    private <T extends Statistic<?>> CompletableFuture<List<T>>
     processDichotomousPairs( Pool<Pair<Boolean, Boolean>> pairs,
-                             MetricCollection<Pool<Pair<Boolean, Boolean>>, T, T> collection )
+                             MetricCollection<Pool<Pair<Boolean, Boolean>>, T, T> collection,
+                             BiFunction<Pool<Pair<Boolean, Boolean>>, Set<MetricConstants>, List<T>> calculator )
     {
         // More samples than the minimum sample size?
         int minimumSampleSizeInner = this.getMinimumSampleSize();
@@ -417,7 +473,7 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
             return CompletableFuture.completedFuture( List.of() );
         }
 
-        return this.processMetricsRequiredForThisPool( pairs, collection );
+        return this.processMetricsRequiredForThisPool( pairs, collection, calculator );
     }
 
     /**
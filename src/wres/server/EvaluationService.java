@@ -94,6 +94,10 @@ public class EvaluationService implements ServletContextListener
     private static final String REDIS_PORT_SYSTEM_PROPERTY_NAME = "wres.redisPort";
     private static final String REDIS_TIMEOUT_IN_HOURS_SYSTEM_PROPERTY_NAME = "wres.redisTimeoutInHours";
     private static final String ENABLE_SERVER_CACHE_SYSTEM_PROPERTY_NAME = "wres.enableServerCache";
+    private static final String SOURCE_CACHE_HEAP_FRACTION_SYSTEM_PROPERTY_NAME = "wres.sourceCacheHeapFraction";
+
+    /** The default fraction of the heap that may be occupied by time-series cached between evaluations. */
+    private static final double DEFAULT_SOURCE_CACHE_HEAP_FRACTION = 0.2;
 
     /** A shared map of job metadata by ID */
     private static final RMapCache<String, EvaluationMetadata> EVALUATION_METADATA_MAP;
@@ -210,7 +214,7 @@ public class EvaluationService implements ServletContextListener
         }
     }
 
-    private static SystemSettings systemSettings = SettingsFactory.createSettingsFromDefaultXml();
+    private static SystemSettings systemSettings = EvaluationService.createSystemSettings();
 
     /**
      * Public constructor to allow registration.
@@ -979,6 +983,29 @@ public class EvaluationService implements ServletContextListener
         }
     }
 
+    /**
+     * Creates the system settings. Unless declared otherwise, an in-memory server caches the time-series read from
+     * sources between evaluations, since consecutive evaluations often declare the same sources.
+     *
+     * @return the system settings
+     */
+
+    private static SystemSettings createSystemSettings()
+    {
+        SystemSettings settings = SettingsFactory.createSettingsFromDefaultXml();
+
+        if ( Objects.isNull( System.getProperty( SOURCE_CACHE_HEAP_FRACTION_SYSTEM_PROPERTY_NAME ) )
+             && settings.getSourceCacheHeapFraction() == 0
+             && !settings.isUseDatabase() )
+        {
+            return settings.toBuilder()
+                           .sourceCacheHeapFraction( DEFAULT_SOURCE_CACHE_HEAP_FRACTION )
+                           .build();
+        }
+
+        return settings;
+    }
+
     /**
      * If the job contains database information different from the current database then change the systemSettings
      * @param host the database host if a user wants to specify
@@ -0,0 +1,49 @@
+package wres.server;
+
+import java.util.Objects;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Exposes the {@link PerformanceTelemetry} of the server for scraping by Prometheus.
+ *
+ * @author James Brown
+ */
+
+@Path( "/metrics" )
+public class MetricsService
+{
+    /** The media type of the Prometheus text exposition format. */
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The telemetry. */
+    private final PerformanceTelemetry telemetry;
+
+    /**
+     * Creates an instance.
+     * @param telemetry the telemetry
+     * @throws NullPointerException if the telemetry is null
+     */
+
+    MetricsService( PerformanceTelemetry telemetry )
+    {
+        Objects.requireNonNull( telemetry );
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * Returns the performance metrics of the server in the Prometheus text exposition format.
+     * @return the metrics
+     */
+
+    @GET
+    @Produces( PROMETHEUS_TEXT )
+    public Response metrics()
+    {
+        return Response.ok( this.telemetry.scrape() )
+                       .build();
+    }
+}
@@ -0,0 +1,456 @@
+package wres.server;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Aggregates the custom events that are emitted to the Java Flight Recorder during evaluations and renders them in
+ * the Prometheus text exposition format. The events are consumed from a {@link RecordingStream} within the same
+ * process, so no recording needs to be captured and analyzed by hand. The following metrics are exposed:
+ *
+ * <ol>
+ * <li>A histogram of the latency of each pipeline stage, such as retrieval, rescaling or pool creation;</li>
+ * <li>The total bytes read from web services and the total bytes of statistics written to formats;</li>
+ * <li>The rate at which pools were created during the last minute; and</li>
+ * <li>The number of tasks queued and threads active for each executor of the evaluation pipeline.</li>
+ * </ol>
+ *
+ * <p>The histograms are cumulative, as required by Prometheus, which calculates rolling quantiles from the increase in
+ * each bucket over a window.
+ *
+ * @author James Brown
+ */
+
+class PerformanceTelemetry implements AutoCloseable
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( PerformanceTelemetry.class );
+
+    /** The pipeline stages by event name. */
+    private static final Map<String, String> STAGES = Map.of( "wres.control.EvaluationEvent", "evaluation",
+                                                              "wres.pooling.pipeline.PoolCreationEvent",
+                                                              "pool_creation",
+                                                              "wres.pipeline.pooling.PoolRescalingEvent",
+                                                              "pool_rescaling",
+                                                              "wres.io.retrieving.RetrievalEvent", "retrieval",
+                                                              "wres.io.ingesting.SourceLoadEvent", "source_load",
+                                                              "wres.io.ingesting.database.DatabaseIngestEvent",
+                                                              "database_ingest",
+                                                              "wres.io.database.locking.DatabaseLockEvent",
+                                                              "database_lock",
+                                                              "wres.http.WebClientEvent", "web_request",
+                                                              "wres.events.subscribe.EvaluationConsumptionEvent",
+                                                              "evaluation_consumption" );
+
+    /** The name of the periodic event that records the executor queues. */
+    private static final String EXECUTOR_QUEUE_EVENT = "wres.pipeline.ExecutorQueueEvent";
+
+    /** The name of the event that records the creation of a pool. */
+    private static final String POOL_CREATION_EVENT = "wres.pooling.pipeline.PoolCreationEvent";
+
+    /** The upper bounds of the latency buckets in seconds. */
+    private static final double[] BUCKETS = { 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60, 300, 1800 };
+
+    /** The window over which the pool rate is calculated, in seconds. */
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    /** The period at which the executor queues are sampled. */
+    private static final Duration EXECUTOR_QUEUE_PERIOD = Duration.ofSeconds( 1 );
+
+    /** The maximum age of the events retained by the stream. */
+    private static final Duration MAXIMUM_AGE = Duration.ofMinutes( 1 );
+
+    /** The latency histograms by stage. */
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    /** The queued task count and active thread count by executor. */
+    private final Map<String, long[]> executors = new ConcurrentHashMap<>();
+
+    /** The pools created within each second of the rate window, by second modulo the window. */
+    private final AtomicLongArray poolsBySecond = new AtomicLongArray( RATE_WINDOW_SECONDS );
+
+    /** The epoch second counted by each slot of {@link #poolsBySecond}. */
+    private final AtomicLongArray poolSeconds = new AtomicLongArray( RATE_WINDOW_SECONDS );
+
+    /** The total bytes read from web services. */
+    private final AtomicLong webResponseBytes = new AtomicLong();
+
+    /** The total bytes of statistics messages consumed by format writers. */
+    private final AtomicLong statisticsBytes = new AtomicLong();
+
+    /** The total bytes of resources written by format writers. */
+    private final AtomicLong resourceBytes = new AtomicLong();
+
+    /** The stream of events. */
+    private final RecordingStream stream;
+
+    /**
+     * Creates and starts the telemetry.
+     *
+     * @return the telemetry
+     */
+
+    static PerformanceTelemetry start()
+    {
+        PerformanceTelemetry telemetry = PerformanceTelemetry.of( new RecordingStream() );
+        telemetry.stream.startAsync();
+
+        LOGGER.info( "Started streaming performance telemetry from the flight recorder." );
+
+        return telemetry;
+    }
+
+    /**
+     * Creates the telemetry without starting the stream of events.
+     *
+     * @param stream the stream of events
+     * @return the telemetry
+     * @throws NullPointerException if the stream is null
+     */
+
+    static PerformanceTelemetry of( RecordingStream stream )
+    {
+        return new PerformanceTelemetry( stream );
+    }
+
+    /**
+     * Renders the metrics in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @return the metrics
+     */
+
+    String scrape()
+    {
+        return this.scrape( Instant.now() );
+    }
+
+    /**
+     * Renders the metrics in the Prometheus text exposition format, version 0.0.4, with the pool rate calculated over
+     * the window that ends at the prescribed time.
+     *
+     * @param now the current time
+     * @return the metrics
+     * @throws NullPointerException if the time is null
+     */
+
+    String scrape( Instant now )
+    {
+        Objects.requireNonNull( now );
+
+        StringBuilder metrics = new StringBuilder();
+
+        metrics.append( "# HELP wres_stage_duration_seconds The duration of each stage of the evaluation pipeline.\n" )
+               .append( "# TYPE wres_stage_duration_seconds histogram\n" );
+        new TreeMap<>( this.latencies ).forEach( ( stage, histogram ) -> histogram.write( metrics, stage ) );
+
+        this.writeCounter( metrics,
+                           "wres_web_response_bytes_total",
+                           "The total bytes read from web services, where declared.",
+                           this.webResponseBytes.get() );
+        this.writeCounter( metrics,
+                           "wres_statistics_message_bytes_total",
+                           "The total bytes of statistics messages consumed by format writers.",
+                           this.statisticsBytes.get() );
+        this.writeCounter( metrics,
+                           "wres_resource_bytes_total",
+                           "The total estimated bytes of resources written by format writers.",
+                           this.resourceBytes.get() );
+
+        double poolRate = this.getPoolRate( now.getEpochSecond() );
+        metrics.append( "# HELP wres_pools_per_second The rate of pool creation over the last minute.\n" )
+               .append( "# TYPE wres_pools_per_second gauge\n" )
+               .append( "wres_pools_per_second " )
+               .append( PerformanceTelemetry.format( poolRate ) )
+               .append( '\n' );
+
+        Map<String, long[]> sorted = new TreeMap<>( this.executors );
+        metrics.append( "# HELP wres_executor_queued_tasks The number of tasks queued for each executor.\n" )
+               .append( "# TYPE wres_executor_queued_tasks gauge\n" );
+        sorted.forEach( ( executor, counts ) -> metrics.append( "wres_executor_queued_tasks{executor=\"" )
+                                                       .append( executor )
+                                                       .append( "\"} " )
+                                                       .append( counts[0] )
+                                                       .append( '\n' ) );
+        metrics.append( "# HELP wres_executor_active_threads The number of active threads for each executor.\n" )
+               .append( "# TYPE wres_executor_active_threads gauge\n" );
+        sorted.forEach( ( executor, counts ) -> metrics.append( "wres_executor_active_threads{executor=\"" )
+                                                       .append( executor )
+                                                       .append( "\"} " )
+                                                       .append( counts[1] )
+                                                       .append( '\n' ) );
+
+        return metrics.toString();
+    }
+
+    /**
+     * Stops the telemetry.
+     */
+
+    @Override
+    public void close()
+    {
+        this.stream.close();
+    }
+
+    /**
+     * Records the latency of a timed event and, for the creation of a pool, the time at which the pool was created.
+     * @param name the name of the event
+     * @param duration the duration of the event
+     * @param endTime the time at which the event ended
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the event is not a pipeline stage
+     */
+
+    void recordStage( String name, Duration duration, Instant endTime )
+    {
+        Objects.requireNonNull( name );
+        Objects.requireNonNull( duration );
+        Objects.requireNonNull( endTime );
+
+        String stage = STAGES.get( name );
+
+        if ( Objects.isNull( stage ) )
+        {
+            throw new IllegalArgumentException( "Unrecognized pipeline stage: " + name + "." );
+        }
+
+        this.latencies.computeIfAbsent( stage, k -> new Histogram() )
+                      .add( duration );
+
+        if ( POOL_CREATION_EVENT.equals( name ) )
+        {
+            this.recordPool( endTime.getEpochSecond() );
+        }
+    }
+
+    /**
+     * Records the state of an executor queue.
+     * @param executor the name of the activity performed by the executor
+     * @param queuedTaskCount the number of queued tasks
+     * @param activeThreadCount the number of active threads
+     * @throws NullPointerException if the executor is null
+     */
+
+    void recordExecutor( String executor, int queuedTaskCount, int activeThreadCount )
+    {
+        Objects.requireNonNull( executor );
+
+        this.executors.put( executor, new long[] { queuedTaskCount, activeThreadCount } );
+    }
+
+    /**
+     * Records a timed event.
+     * @param event the event
+     */
+
+    private void recordStage( RecordedEvent event )
+    {
+        String name = event.getEventType()
+                           .getName();
+        String stage = STAGES.get( name );
+
+        this.recordStage( name, event.getDuration(), event.getEndTime() );
+
+        if ( "web_request".equals( stage ) && event.hasField( "responseBytes" ) )
+        {
+            long bytes = event.getLong( "responseBytes" );
+            if ( bytes > 0 )
+            {
+                this.webResponseBytes.addAndGet( bytes );
+            }
+        }
+        else if ( "evaluation_consumption".equals( stage ) )
+        {
+            this.statisticsBytes.addAndGet( event.getLong( "statisticsMessageBytes" ) );
+            this.resourceBytes.addAndGet( event.getLong( "resourceBytes" ) );
+        }
+    }
+
+    /**
+     * Records the state of an executor queue.
+     * @param event the event
+     */
+
+    private void recordExecutor( RecordedEvent event )
+    {
+        this.recordExecutor( event.getString( "executor" ),
+                             event.getInt( "queuedTaskCount" ),
+                             event.getInt( "activeThreadCount" ) );
+    }
+
+    /**
+     * Records the creation of a pool within the rate window.
+     * @param second the epoch second at which the pool was created
+     */
+
+    private void recordPool( long second )
+    {
+        int slot = Math.floorMod( second, RATE_WINDOW_SECONDS );
+
+        // Events are consumed by one thread, so only a stale slot needs to be reset
+        if ( this.poolSeconds.get( slot ) != second )
+        {
+            this.poolSeconds.set( slot, second );
+            this.poolsBySecond.set( slot, 0 );
+        }
+
+        this.poolsBySecond.incrementAndGet( slot );
+    }
+
+    /**
+     * @param now the current epoch second
+     * @return the mean number of pools created per second within the rate window
+     */
+
+    private double getPoolRate( long now )
+    {
+        long pools = 0;
+        for ( int i = 0; i < RATE_WINDOW_SECONDS; i++ )
+        {
+            long second = this.poolSeconds.get( i );
+            if ( second > now - RATE_WINDOW_SECONDS && second <= now )
+            {
+                pools += this.poolsBySecond.get( i );
+            }
+        }
+
+        return ( double ) pools / RATE_WINDOW_SECONDS;
+    }
+
+    /**
+     * Writes a counter.
+     * @param metrics the metrics to append
+     * @param name the counter name
+     * @param help the help text
+     * @param value the value
+     */
+
+    private void writeCounter( StringBuilder metrics, String name, String help, long value )
+    {
+        metrics.append( "# HELP " )
+               .append( name )
+               .append( ' ' )
+               .append( help )
+               .append( "\n# TYPE " )
+               .append( name )
+               .append( " counter\n" )
+               .append( name )
+               .append( ' ' )
+               .append( value )
+               .append( '\n' );
+    }
+
+    /**
+     * @param value the value
+     * @return the value formatted for exposition
+     */
+
+    private static String format( double value )
+    {
+        return String.format( Locale.ROOT, "%s", value );
+    }
+
+    /**
+     * A cumulative histogram of durations with fixed buckets.
+     */
+
+    private static class Histogram
+    {
+        /** The count of durations within each bucket, plus one for durations above the last bucket. */
+        private final AtomicLongArray counts = new AtomicLongArray( BUCKETS.length + 1 );
+
+        /** The sum of the durations in seconds. */
+        private final DoubleAdder sum = new DoubleAdder();
+
+        /**
+         * Adds a duration.
+         * @param duration the duration
+         */
+
+        private void add( Duration duration )
+        {
+            double seconds = duration.toNanos() / 1.0e9;
+            int bucket = 0;
+            while ( bucket < BUCKETS.length && seconds > BUCKETS[bucket] )
+            {
+                bucket++;
+            }
+
+            this.counts.incrementAndGet( bucket );
+            this.sum.add( seconds );
+        }
+
+        /**
+         * Writes the histogram.
+         * @param metrics the metrics to append
+         * @param stage the stage
+         */
+
+        private void write( StringBuilder metrics, String stage )
+        {
+            long cumulative = 0;
+            for ( int i = 0; i <= BUCKETS.length; i++ )
+            {
+                cumulative += this.counts.get( i );
+                String bound = i < BUCKETS.length ? PerformanceTelemetry.format( BUCKETS[i] ) : "+Inf";
+                metrics.append( "wres_stage_duration_seconds_bucket{stage=\"" )
+                       .append( stage )
+                       .append( "\",le=\"" )
+                       .append( bound )
+                       .append( "\"} " )
+                       .append( cumulative )
+                       .append( '\n' );
+            }
+
+            metrics.append( "wres_stage_duration_seconds_sum{stage=\"" )
+                   .append( stage )
+                   .append( "\"} " )
+                   .append( PerformanceTelemetry.format( this.sum.sum() ) )
+                   .append( '\n' )
+                   .append( "wres_stage_duration_seconds_count{stage=\"" )
+                   .append( stage )
+                   .append( "\"} " )
+                   .append( cumulative )
+                   .append( '\n' );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     * @param stream the stream of events
+     * @throws NullPointerException if the stream is null
+     */
+
+    private PerformanceTelemetry( RecordingStream stream )
+    {
+        Objects.requireNonNull( stream );
+
+        this.stream = stream;
+        this.stream.setMaxAge( MAXIMUM_AGE );
+
+        // Record every timed event, regardless of any threshold declared on the event type
+        for ( String name : STAGES.keySet() )
+        {
+            this.stream.enable( name )
+                       .withThreshold( Duration.ZERO );
+            this.stream.onEvent( name, this::recordStage );
+        }
+
+        this.stream.enable( EXECUTOR_QUEUE_EVENT )
+                   .withPeriod( EXECUTOR_QUEUE_PERIOD );
+        this.stream.onEvent( EXECUTOR_QUEUE_EVENT, this::recordExecutor );
+    }
+}
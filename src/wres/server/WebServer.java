@@ -76,8 +76,13 @@ public class WebServer
         context.setContextPath( "/" );
         ServletHolder dynamicHolder = context.addServlet( ServletContainer.class, "/*" );
 
+        // Aggregate the flight recorder events for scraping
+        PerformanceTelemetry telemetry = PerformanceTelemetry.start();
+
         // Registering the EvaluationService explicitly so stream redirects are sent real time
-        ServletContainer servlet = new ServletContainer( new ResourceConfig( EvaluationService.class ) );
+        ResourceConfig resourceConfig = new ResourceConfig( EvaluationService.class );
+        resourceConfig.register( new MetricsService( telemetry ) );
+        ServletContainer servlet = new ServletContainer( resourceConfig );
         dynamicHolder.setServlet( servlet );
 
         // Static handler:
@@ -134,6 +139,7 @@ public class WebServer
             {
                 LOGGER.info( "Shutting down the application..." );
                 jettyServer.stop();
+                telemetry.close();
             }
             catch ( Exception e )
             {
@@ -0,0 +1,125 @@
+package wres.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ExecutorQueueEvent}.
+ *
+ * @author James Brown
+ */
+
+class ExecutorQueueEventTest
+{
+    /** The name of the event. */
+    private static final String EXECUTOR_QUEUE_EVENT = "wres.pipeline.ExecutorQueueEvent";
+
+    /** Pool executor. */
+    private ThreadPoolExecutor poolExecutor;
+
+    /** Holds the tasks of the pool executor until released. */
+    private CountDownLatch release;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.poolExecutor = new ThreadPoolExecutor( 1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>() );
+        this.release = new CountDownLatch( 1 );
+    }
+
+    @Test
+    void testEventsRecordQueuedTasksAndActiveThreadsOfRegisteredExecutors() throws InterruptedException
+    {
+        // One task running and two tasks queued
+        CountDownLatch started = new CountDownLatch( 1 );
+        this.poolExecutor.submit( () -> {
+            started.countDown();
+            this.await();
+        } );
+        this.poolExecutor.submit( this::await );
+        this.poolExecutor.submit( this::await );
+
+        assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+
+        EvaluationExecutors executors = new EvaluationExecutors( null,
+                                                                 null,
+                                                                 this.poolExecutor,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null );
+
+        // The latest counts by executor
+        Map<String, int[]> counts = new ConcurrentHashMap<>();
+        CountDownLatch recorded = new CountDownLatch( 1 );
+
+        ExecutorQueueEvent.register( executors );
+
+        try ( RecordingStream stream = new RecordingStream() )
+        {
+            stream.enable( EXECUTOR_QUEUE_EVENT )
+                  .withPeriod( Duration.ofMillis( 100 ) );
+            stream.onEvent( EXECUTOR_QUEUE_EVENT, event -> {
+                counts.put( event.getString( "executor" ),
+                            new int[] { event.getInt( "queuedTaskCount" ), event.getInt( "activeThreadCount" ) } );
+
+                if ( counts.containsKey( "pool" )
+                     && counts.containsKey( "metric" ) )
+                {
+                    recorded.countDown();
+                }
+            } );
+            stream.startAsync();
+
+            assertTrue( recorded.await( 10, TimeUnit.SECONDS ) );
+        }
+        finally
+        {
+            ExecutorQueueEvent.unregister( executors );
+        }
+
+        assertEquals( 2, counts.get( "pool" )[0] );
+        assertEquals( 1, counts.get( "pool" )[1] );
+
+        // An executor that was not supplied or is not a thread pool contributes nothing
+        assertEquals( 0, counts.get( "metric" )[0] );
+        assertEquals( 0, counts.get( "metric" )[1] );
+    }
+
+    @AfterEach
+    void runAfterEachTest()
+    {
+        this.release.countDown();
+        this.poolExecutor.shutdownNow();
+    }
+
+    /**
+     * Waits until the tasks are released.
+     */
+
+    private void await()
+    {
+        try
+        {
+            this.release.await();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
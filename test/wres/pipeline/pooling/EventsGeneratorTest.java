@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -132,7 +133,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -217,7 +219,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -322,7 +325,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -406,7 +410,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -557,7 +562,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -658,7 +664,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -758,7 +765,8 @@ class EventsGeneratorTest
                                                          upscaler,
                                                          upscaler,
                                                          measurementUnit,
-                                                         detector );
+                                                         detector,
+                                                         ForkJoinPool.commonPool() );
 
         TimeSeries<Double> timeSeriesOne = this.getTestTimeSeriesWithOffset( Duration.ZERO );
 
@@ -0,0 +1,266 @@
+package wres.pipeline.pooling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wres.datamodel.messages.MessageFactory;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.space.Feature;
+import wres.datamodel.space.FeatureGroup;
+import wres.datamodel.space.FeatureTuple;
+import wres.io.retrieving.RetentionBudget;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.Evaluation;
+import wres.statistics.generated.GeometryGroup;
+import wres.statistics.generated.GeometryTuple;
+
+/**
+ * Tests the {@link PoolAdmissionScheduler}.
+ *
+ * @author James Brown
+ */
+
+class PoolAdmissionSchedulerTest
+{
+    /** Executor. */
+    private ExecutorService executor;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.executor = Executors.newFixedThreadPool( 3 );
+    }
+
+    @Test
+    void testPoolsAreGroupedByFeatureGroupAndAdmittedWithinBudget()
+    {
+        PoolRequest first = this.getPoolRequest( "DRRC2" );
+        PoolRequest second = this.getPoolRequest( "DOLC2" );
+
+        List<String> order = Collections.synchronizedList( new ArrayList<>() );
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+
+        List<PoolProcessor<Double, Double>> processors =
+                List.of( this.getPoolProcessor( first, "A1", order, running, maximumRunning ),
+                         this.getPoolProcessor( second, "B1", order, running, maximumRunning ),
+                         this.getPoolProcessor( first, "A2", order, running, maximumRunning ) );
+
+        // A budget of one byte admits one pool at a time
+        PoolAdmissionScheduler scheduler = PoolAdmissionScheduler.of( this.executor, 1, 0 );
+        List<CompletableFuture<PoolProcessingResult>> results = scheduler.submit( processors );
+
+        CompletableFuture.allOf( results.toArray( new CompletableFuture[0] ) )
+                         .join();
+
+        assertEquals( List.of( "A1", "A2", "B1" ), order );
+        assertEquals( 1, maximumRunning.get() );
+    }
+
+    @Test
+    void testEstimatedBytesAreCalibratedByCompletedPools()
+    {
+        PoolRequest request = this.getPoolRequest( "DRRC2" );
+        PoolProcessor<Double, Double> processor = this.getPoolProcessor( request,
+                                                                         "A1",
+                                                                         new ArrayList<>(),
+                                                                         new AtomicInteger(),
+                                                                         new AtomicInteger() );
+
+        PoolAdmissionScheduler scheduler = PoolAdmissionScheduler.of( this.executor, Long.MAX_VALUE, 3 );
+
+        // One feature in an unbounded time window, which is one estimation unit of 112 bytes plus three members
+        assertEquals( 136, scheduler.getEstimatedBytes( request ) );
+
+        scheduler.submit( List.of( processor ) )
+                 .get( 0 )
+                 .join();
+
+        // 1000 events were measured
+        assertEquals( 136_000, scheduler.getEstimatedBytes( request ) );
+    }
+
+    @Test
+    void testRetainedEventsCountAgainstBudget()
+    {
+        PoolRequest first = this.getPoolRequest( "DRRC2" );
+        PoolRequest second = this.getPoolRequest( "DOLC2" );
+
+        List<String> order = Collections.synchronizedList( new ArrayList<>() );
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+
+        List<PoolProcessor<Double, Double>> processors =
+                List.of( this.getPoolProcessor( first, "A1", order, running, maximumRunning ),
+                         this.getPoolProcessor( second, "B1", order, running, maximumRunning ) );
+
+        // A budget of 300 bytes admits two pools of 112 bytes and retains up to one event of 112 bytes
+        PoolAdmissionScheduler scheduler = PoolAdmissionScheduler.of( this.executor, 300, 0 );
+        RetentionBudget retention = scheduler.getRetentionBudget();
+
+        assertEquals( 1, retention.getMaximumEvents() );
+        assertTrue( retention.tryRetain( 1 ) );
+
+        // With one event retained, the second pool no longer fits alongside the first
+        List<CompletableFuture<PoolProcessingResult>> results = scheduler.submit( processors );
+
+        CompletableFuture.allOf( results.toArray( new CompletableFuture[0] ) )
+                         .join();
+
+        assertEquals( List.of( "A1", "B1" ), order );
+        assertEquals( 1, maximumRunning.get() );
+    }
+
+    @Test
+    void testRetainedEventsAreReleasedWhenPoolFails()
+    {
+        PoolRequest request = this.getPoolRequest( "DRRC2" );
+        PoolProcessor<Double, Double> processor = this.getPoolProcessor( request,
+                                                                         "A1",
+                                                                         new ArrayList<>(),
+                                                                         new AtomicInteger(),
+                                                                         new AtomicInteger() );
+        Mockito.when( processor.get() )
+               .thenThrow( new IllegalStateException( "A pool failed." ) );
+
+        PoolAdmissionScheduler scheduler = PoolAdmissionScheduler.of( this.executor, 300, 0 );
+        RetentionBudget retention = scheduler.getRetentionBudget();
+
+        // A holder of one retained event
+        assertTrue( retention.tryRetain( 1 ) );
+        retention.register( () -> retention.release( 1 ) );
+
+        CompletableFuture<PoolProcessingResult> result = scheduler.submit( List.of( processor ) )
+                                                                  .get( 0 );
+
+        assertThrows( CompletionException.class, result::join );
+        assertEquals( 0, retention.getRetainedEvents() );
+    }
+
+    @Test
+    void testPendingPoolsFailWhenExecutorIsShutDown() throws Exception
+    {
+        PoolRequest request = this.getPoolRequest( "DRRC2" );
+        List<String> order = Collections.synchronizedList( new ArrayList<>() );
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+
+        // The first pool shuts down the executor, as happens when a pool fails
+        PoolProcessor<Double, Double> first = this.getPoolProcessor( request, "A1", order, running, maximumRunning );
+        Mockito.when( first.get() )
+               .thenAnswer( invocation -> {
+                   this.executor.shutdown();
+                   return new PoolProcessingResult( request,
+                                                    PoolProcessingResult.Status.STATISTICS_PUBLISHED,
+                                                    List.of(),
+                                                    1000 );
+               } );
+
+        List<PoolProcessor<Double, Double>> processors =
+                List.of( first,
+                         this.getPoolProcessor( request, "A2", order, running, maximumRunning ),
+                         this.getPoolProcessor( request, "A3", order, running, maximumRunning ) );
+
+        // A budget of one byte admits one pool at a time, so the other pools are pending when the executor shuts down
+        PoolAdmissionScheduler scheduler = PoolAdmissionScheduler.of( this.executor, 1, 0 );
+        List<CompletableFuture<PoolProcessingResult>> results = scheduler.submit( processors );
+
+        assertEquals( 1000, results.get( 0 )
+                                   .get( 10, TimeUnit.SECONDS )
+                                   .getEventCount() );
+
+        for ( CompletableFuture<PoolProcessingResult> next : results.subList( 1, results.size() ) )
+        {
+            ExecutionException actual = assertThrows( ExecutionException.class,
+                                                      () -> next.get( 10, TimeUnit.SECONDS ) );
+            assertTrue( actual.getCause() instanceof RejectedExecutionException );
+        }
+
+        assertEquals( List.of(), order );
+    }
+
+    @AfterEach
+    void runAfterEachTest()
+    {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * @param request the pool request
+     * @param name the name to record when the pool is processed
+     * @param order the order in which pools were processed
+     * @param running the number of pools running
+     * @param maximumRunning the maximum number of pools running at once
+     * @return a pool processor that measures 1000 events
+     */
+
+    @SuppressWarnings( "unchecked" )
+    private PoolProcessor<Double, Double> getPoolProcessor( PoolRequest request,
+                                                            String name,
+                                                            List<String> order,
+                                                            AtomicInteger running,
+                                                            AtomicInteger maximumRunning )
+    {
+        PoolProcessor<Double, Double> processor = Mockito.mock( PoolProcessor.class );
+        Mockito.when( processor.getPoolRequest() )
+               .thenReturn( request );
+        Mockito.when( processor.get() )
+               .thenAnswer( invocation -> {
+                   maximumRunning.accumulateAndGet( running.incrementAndGet(), Math::max );
+                   order.add( name );
+                   running.decrementAndGet();
+                   return new PoolProcessingResult( request,
+                                                    PoolProcessingResult.Status.STATISTICS_PUBLISHED,
+                                                    List.of(),
+                                                    1000 );
+               } );
+
+        return processor;
+    }
+
+    /**
+     * @param featureName the feature name
+     * @return a pool request for a singleton feature group with an unbounded time window
+     */
+
+    private PoolRequest getPoolRequest( String featureName )
+    {
+        Evaluation evaluation = Evaluation.newBuilder()
+                                          .setRightVariableName( "STREAMFLOW" )
+                                          .setMeasurementUnit( "CMS" )
+                                          .build();
+
+        Feature feature = Feature.of( MessageUtilities.getGeometry( featureName ) );
+        GeometryTuple geoTuple = MessageFactory.getGeometryTuple( feature, feature, null );
+        FeatureTuple featureTuple = FeatureTuple.of( geoTuple );
+        GeometryGroup geoGroup = MessageUtilities.getGeometryGroup( featureTuple.toStringShort(), geoTuple );
+        FeatureGroup featureGroup = FeatureGroup.of( geoGroup );
+
+        wres.statistics.generated.Pool pool = MessageFactory.getPool( featureGroup,
+                                                                      null,
+                                                                      null,
+                                                                      null,
+                                                                      false );
+
+        return PoolRequest.of( PoolMetadata.of( evaluation, pool ) );
+    }
+}
@@ -4,8 +4,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
 
 import wres.config.components.DataType;
 import wres.config.components.Dataset;
@@ -34,8 +37,10 @@ import wres.config.components.VariableBuilder;
 import wres.datamodel.messages.MessageFactory;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.space.Feature;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeWindowOuter;
 import wres.datamodel.types.Ensemble;
 import wres.io.project.Project;
 import wres.io.retrieving.RetrieverFactory;
@@ -197,6 +202,8 @@ class PoolFactoryTest
                .thenReturn( () -> Stream.of( TimeSeries.of( null ) ) );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.anySet(), Mockito.any() ) )
                .thenReturn( () -> Stream.of( TimeSeries.of( null ) ) );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolFactoryTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         List<Pair<PoolRequest, Supplier<Pool<TimeSeries<Pair<Double, Double>>>>>> suppliers =
                 poolFactory.getSingleValuedPools( actual, retrieverFactory, poolParameters );
@@ -293,6 +300,8 @@ class PoolFactoryTest
                .thenReturn( Stream::of );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.any(), Mockito.any() ) )
                .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolFactoryTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         PoolFactory poolFactory = PoolFactory.of( project );
 
@@ -391,6 +400,8 @@ class PoolFactoryTest
                .thenReturn( Stream::of );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.any(), Mockito.any() ) )
                .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolFactoryTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         PoolFactory poolFactory = PoolFactory.of( project );
 
@@ -415,4 +426,22 @@ class PoolFactoryTest
             this.mocks.close();
         }
     }
+
+    /**
+     * Maps each time window to the right retriever of a mocked retriever factory.
+     * @param <R> the right data type
+     * @param retrieverFactory the retriever factory
+     * @param invocation the invocation of {@link RetrieverFactory#getRightRetrievers(Set, Set)}
+     * @return the retrievers
+     */
+
+    private static <R> Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>> getRightRetrievers( RetrieverFactory<?, R, ?> retrieverFactory,
+                                                                                                 InvocationOnMock invocation )
+    {
+        Set<Feature> features = invocation.getArgument( 0 );
+        Set<TimeWindowOuter> timeWindows = invocation.getArgument( 1 );
+        return timeWindows.stream()
+                          .collect( Collectors.toMap( Function.identity(),
+                                                      next -> retrieverFactory.getRightRetriever( features, next ) ) );
+    }
 }
@@ -584,6 +584,80 @@ class PoolSupplierTest
         assertEquals( poolOneExpected, poolOneActual );
     }
 
+    /**
+     * Tests that the upscaled observations are re-used by a second pool that shares the same rescaling cache and that
+     * the pairs are the same as the pairs of a pool without a cache.
+     */
+
+    @Test
+    void testGetReusesUpscaledLeftSeriesFromRescalingCache()
+    {
+        Mockito.when( this.observationRetriever.get() )
+               .thenReturn( Stream.of( this.observations ) );
+        Supplier<Stream<TimeSeries<Double>>> obsSupplier = CachingRetriever.of( this.observationRetriever );
+
+        Mockito.when( this.forecastRetriever.get() )
+               .thenReturn( Stream.of( this.forecastOne ),
+                            Stream.of( this.forecastOne ),
+                            Stream.of( this.forecastOne ) );
+
+        TimeWindow inner = MessageUtilities.getTimeWindow( T2551_03_17T00_00_00Z, //2551-03-17T00:00:00Z
+                                                           T2551_03_17T13_00_00Z, //2551-03-17T13:00:00Z
+                                                           Duration.ofHours( 0 ),
+                                                           Duration.ofHours( 23 ) );
+        TimeWindowOuter poolWindow = TimeWindowOuter.of( inner );
+
+        PoolMetadata poolMetadata = PoolMetadata.of( this.metadata,
+                                                     poolWindow,
+                                                     this.desiredTimeScale );
+
+        RescaledTimeSeriesCache<Double> cache = RescaledTimeSeriesCache.of( 1_000_000 );
+
+        Supplier<Pool<TimeSeries<Pair<Double, Double>>>> uncachedSupplier =
+                new PoolSupplier.Builder<Double, Double, Double>().setLeft( obsSupplier )
+                                                                  .setRight( this.forecastRetriever )
+                                                                  .setLeftUpscaler( this.upscaler )
+                                                                  .setPairer( this.pairer )
+                                                                  .setDesiredTimeScale( this.desiredTimeScale )
+                                                                  .setMetadata( poolMetadata )
+                                                                  .setBaselineShim( Function.identity() )
+                                                                  .build();
+
+        Supplier<Pool<TimeSeries<Pair<Double, Double>>>> firstSupplier =
+                new PoolSupplier.Builder<Double, Double, Double>().setLeft( obsSupplier )
+                                                                  .setRight( this.forecastRetriever )
+                                                                  .setLeftUpscaler( this.upscaler )
+                                                                  .setLeftRescalingCache( cache )
+                                                                  .setPairer( this.pairer )
+                                                                  .setDesiredTimeScale( this.desiredTimeScale )
+                                                                  .setMetadata( poolMetadata )
+                                                                  .setBaselineShim( Function.identity() )
+                                                                  .build();
+
+        Supplier<Pool<TimeSeries<Pair<Double, Double>>>> secondSupplier =
+                new PoolSupplier.Builder<Double, Double, Double>().setLeft( obsSupplier )
+                                                                  .setRight( this.forecastRetriever )
+                                                                  .setLeftUpscaler( this.upscaler )
+                                                                  .setLeftRescalingCache( cache )
+                                                                  .setPairer( this.pairer )
+                                                                  .setDesiredTimeScale( this.desiredTimeScale )
+                                                                  .setMetadata( poolMetadata )
+                                                                  .setBaselineShim( Function.identity() )
+                                                                  .build();
+
+        Pool<TimeSeries<Pair<Double, Double>>> expected = uncachedSupplier.get();
+        Pool<TimeSeries<Pair<Double, Double>>> first = firstSupplier.get();
+        Pool<TimeSeries<Pair<Double, Double>>> second = secondSupplier.get();
+
+        assertAll( () -> assertEquals( 7, PoolSlicer.getEventCount( expected ) ),
+                   () -> assertEquals( expected, first ),
+                   () -> assertEquals( expected, second ),
+                   () -> assertEquals( 1, cache.getStatistics()
+                                               .missCount() ),
+                   () -> assertEquals( 1, cache.getStatistics()
+                                               .hitCount() ) );
+    }
+
     /**
      * Tests the retrieval of expected pairs for the first of eighteen pools from system test scenario505 as of
      * commit 725345a6e23df36d3ad2661a068f93563caa07a8 where the pairs are baseline pairs.
@@ -4,9 +4,12 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
 
 import wres.config.components.DataType;
 import wres.config.components.Dataset;
@@ -41,6 +45,7 @@ import wres.datamodel.types.Ensemble;
 import wres.datamodel.messages.MessageFactory;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.space.Feature;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.time.TimeSeries;
 import wres.io.project.Project;
@@ -150,6 +155,8 @@ class PoolsGeneratorTest
                .thenReturn( Stream::of );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.any(), Mockito.any() ) )
                .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolsGeneratorTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         Evaluation evaluationDescription = MessageFactory.parse( declaration );
         PoolFactory poolFactory = PoolFactory.of( project );
@@ -269,6 +276,8 @@ class PoolsGeneratorTest
                .thenReturn( Stream::of );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.any(), Mockito.any() ) )
                .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolsGeneratorTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         PoolFactory poolFactory = PoolFactory.of( project );
 
@@ -376,6 +385,8 @@ class PoolsGeneratorTest
                .thenReturn( Stream::of );
         Mockito.when( retrieverFactory.getRightRetriever( Mockito.any(), Mockito.any( TimeWindowOuter.class ) ) )
                .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetrievers( Mockito.anySet(), Mockito.anySet() ) )
+               .thenAnswer( invocation -> PoolsGeneratorTest.getRightRetrievers( retrieverFactory, invocation ) );
 
         Evaluation evaluationDescription = MessageFactory.parse( declaration );
         PoolFactory poolFactory = PoolFactory.of( project );
@@ -431,4 +442,22 @@ class PoolsGeneratorTest
             this.mocks.close();
         }
     }
+
+    /**
+     * Maps each time window to the right retriever of a mocked retriever factory.
+     * @param <R> the right data type
+     * @param retrieverFactory the retriever factory
+     * @param invocation the invocation of {@link RetrieverFactory#getRightRetrievers(Set, Set)}
+     * @return the retrievers
+     */
+
+    private static <R> Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>> getRightRetrievers( RetrieverFactory<?, R, ?> retrieverFactory,
+                                                                                                 InvocationOnMock invocation )
+    {
+        Set<Feature> features = invocation.getArgument( 0 );
+        Set<TimeWindowOuter> timeWindows = invocation.getArgument( 1 );
+        return timeWindows.stream()
+                          .collect( Collectors.toMap( Function.identity(),
+                                                      next -> retrieverFactory.getRightRetriever( features, next ) ) );
+    }
 }
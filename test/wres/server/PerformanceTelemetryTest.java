@@ -0,0 +1,202 @@
+package wres.server;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PerformanceTelemetry}.
+ *
+ * @author James Brown
+ */
+
+class PerformanceTelemetryTest
+{
+    /** A metric descriptor line of the Prometheus text exposition format. */
+    private static final Pattern DESCRIPTOR = Pattern.compile( "# (HELP|TYPE) ([a-zA-Z_:][a-zA-Z0-9_:]*) (.+)" );
+
+    /** A sample line of the Prometheus text exposition format. */
+    private static final Pattern SAMPLE =
+            Pattern.compile( "([a-zA-Z_:][a-zA-Z0-9_:]*)"
+                             + "(\\{[a-zA-Z_][a-zA-Z0-9_]*=\"[^\"]*\"(,[a-zA-Z_][a-zA-Z0-9_]*=\"[^\"]*\")*})? (\\S+)" );
+
+    /** The name of the retrieval event. */
+    private static final String RETRIEVAL_EVENT = "wres.io.retrieving.RetrievalEvent";
+
+    /** The name of the pool creation event. */
+    private static final String POOL_CREATION_EVENT = "wres.pooling.pipeline.PoolCreationEvent";
+
+    /** The time at which the metrics are scraped. */
+    private static final Instant NOW = Instant.parse( "2026-10-17T12:00:00Z" );
+
+    /** The telemetry. */
+    private PerformanceTelemetry telemetry;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.telemetry = PerformanceTelemetry.of( new RecordingStream() );
+    }
+
+    @Test
+    void testScrapeRendersValidPrometheusText()
+    {
+        this.telemetry.recordStage( RETRIEVAL_EVENT, Duration.ofMillis( 20 ), NOW );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ofSeconds( 2 ), NOW );
+        this.telemetry.recordExecutor( "pool", 3, 2 );
+
+        String actual = this.telemetry.scrape( NOW );
+
+        assertTrue( actual.endsWith( "\n" ) );
+
+        // Each sample belongs to a metric family whose type was declared before it
+        Set<String> typed = new TreeSet<>();
+        for ( String line : actual.split( "\n" ) )
+        {
+            Matcher descriptor = DESCRIPTOR.matcher( line );
+            Matcher sample = SAMPLE.matcher( line );
+
+            if ( descriptor.matches() )
+            {
+                if ( "TYPE".equals( descriptor.group( 1 ) ) )
+                {
+                    assertTrue( Set.of( "counter", "gauge", "histogram" )
+                                   .contains( descriptor.group( 3 ) ), line );
+                    assertTrue( typed.add( descriptor.group( 2 ) ), line );
+                }
+            }
+            else
+            {
+                assertTrue( sample.matches(), line );
+
+                String family = sample.group( 1 )
+                                      .replaceAll( "_(bucket|sum|count)$", "" );
+                assertTrue( typed.contains( family ) || typed.contains( sample.group( 1 ) ), line );
+
+                // Throws an exception if the value is not a number
+                Double.parseDouble( sample.group( 4 ) );
+            }
+        }
+
+        assertAll( () -> assertTrue( actual.contains( "wres_stage_duration_seconds_count{stage=\"retrieval\"} "
+                                                      + "1\n" ) ),
+                   () -> assertTrue( actual.contains( "wres_stage_duration_seconds_count{stage=\"pool_creation\"} "
+                                                      + "1\n" ) ),
+                   () -> assertTrue( actual.contains( "wres_executor_queued_tasks{executor=\"pool\"} 3\n" ) ),
+                   () -> assertTrue( actual.contains( "wres_executor_active_threads{executor=\"pool\"} 2\n" ) ) );
+    }
+
+    @Test
+    void testStageDurationBucketsAreCumulative()
+    {
+        List<Duration> durations = List.of( Duration.ofNanos( 500_000 ),
+                                            Duration.ofMillis( 20 ),
+                                            Duration.ofSeconds( 1 ),
+                                            Duration.ofSeconds( 2 ),
+                                            Duration.ofHours( 1 ) );
+
+        for ( Duration next : durations )
+        {
+            this.telemetry.recordStage( RETRIEVAL_EVENT, next, NOW );
+        }
+
+        String actual = this.telemetry.scrape( NOW );
+
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        Pattern bucket = Pattern.compile( "wres_stage_duration_seconds_bucket"
+                                          + "\\{stage=\"retrieval\",le=\"([^\"]+)\"} (\\d+)" );
+        Matcher matcher = bucket.matcher( actual );
+        while ( matcher.find() )
+        {
+            buckets.put( matcher.group( 1 ), Long.parseLong( matcher.group( 2 ) ) );
+        }
+
+        // The bucket bounds are inclusive, so a duration of one second is counted in the bucket of one second
+        Map<String, Long> expected = new LinkedHashMap<>();
+        expected.put( "0.001", 1L );
+        expected.put( "0.005", 1L );
+        expected.put( "0.01", 1L );
+        expected.put( "0.05", 2L );
+        expected.put( "0.1", 2L );
+        expected.put( "0.5", 2L );
+        expected.put( "1.0", 3L );
+        expected.put( "5.0", 4L );
+        expected.put( "10.0", 4L );
+        expected.put( "30.0", 4L );
+        expected.put( "60.0", 4L );
+        expected.put( "300.0", 4L );
+        expected.put( "1800.0", 4L );
+        expected.put( "+Inf", 5L );
+
+        assertEquals( expected, buckets );
+
+        // The count equals the +Inf bucket
+        assertTrue( actual.contains( "wres_stage_duration_seconds_count{stage=\"retrieval\"} 5\n" ) );
+
+        Matcher sum = Pattern.compile( "wres_stage_duration_seconds_sum\\{stage=\"retrieval\"} (\\S+)" )
+                             .matcher( actual );
+        assertTrue( sum.find() );
+        assertEquals( 3603.0205, Double.parseDouble( sum.group( 1 ) ), 1.0e-9 );
+    }
+
+    @Test
+    void testPoolRateCountsPoolsCreatedWithinTheLastMinute()
+    {
+        // Outside the window
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW.minusSeconds( 61 ) );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW.minusSeconds( 60 ) );
+
+        // Inside the window
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW.minusSeconds( 59 ) );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW.minusSeconds( 30 ) );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW );
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW );
+
+        assertEquals( 5.0 / 60, this.getPoolRate( NOW ), 1.0e-12 );
+
+        // All pools have aged out of the window a minute later
+        assertEquals( 0.0, this.getPoolRate( NOW.plusSeconds( 60 ) ), 1.0e-12 );
+
+        // A pool created in a slot that was used a minute earlier replaces the stale count
+        this.telemetry.recordStage( POOL_CREATION_EVENT, Duration.ZERO, NOW.plusSeconds( 60 ) );
+
+        assertEquals( 1.0 / 60, this.getPoolRate( NOW.plusSeconds( 60 ) ), 1.0e-12 );
+    }
+
+    @AfterEach
+    void runAfterEachTest()
+    {
+        this.telemetry.close();
+    }
+
+    /**
+     * @param now the time at which to scrape the metrics
+     * @return the pool rate
+     */
+
+    private double getPoolRate( Instant now )
+    {
+        Matcher matcher = Pattern.compile( "^wres_pools_per_second (\\S+)$", Pattern.MULTILINE )
+                                 .matcher( this.telemetry.scrape( now ) );
+
+        assertTrue( matcher.find() );
+
+        return Double.parseDouble( matcher.group( 1 ) );
+    }
+}
@@ -0,0 +1,290 @@
+package wres.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.DoubleEvent;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * Creates synthetic datasets for benchmarking. The datasets resemble hourly streamflow with a seasonal cycle and noise.
+ * All datasets are generated from a fixed seed, so that repeated benchmark runs see identical data.
+ *
+ * @author James Brown
+ */
+
+public final class BenchmarkDataFactory
+{
+    /** The start of the synthetic observations. */
+    public static final Instant START = Instant.parse( "2000-01-01T00:00:00Z" );
+
+    /** The forecast horizon in hours, which is seven days. */
+    public static final int FORECAST_HOURS = 168;
+
+    /** The number of ensemble members. */
+    public static final int ENSEMBLE_MEMBERS = 40;
+
+    /** The measurement unit. */
+    public static final String UNIT = "CMS";
+
+    /** The variable name. */
+    private static final String VARIABLE_NAME = "STREAMFLOW";
+
+    /** The feature. */
+    private static final Feature FEATURE = Feature.of( MessageUtilities.getGeometry( "DRRC2" ) );
+
+    /** The random number seed. */
+    private static final long SEED = 12345678L;
+
+    /** The hours in a year. */
+    private static final double HOURS_PER_YEAR = 8766.0;
+
+    /**
+     * Creates an hourly time-series of observations.
+     *
+     * @param hours the number of hourly observations
+     * @return the observations
+     */
+
+    public static TimeSeries<Double> getObservations( int hours )
+    {
+        SplittableRandom random = new SplittableRandom( SEED );
+        TimeSeriesMetadata metadata = BenchmarkDataFactory.getMetadata( Map.of() );
+        TimeSeries.Builder<Double> builder = new TimeSeries.Builder<Double>().setMetadata( metadata );
+
+        for ( int i = 0; i < hours; i++ )
+        {
+            Instant time = START.plus( Duration.ofHours( i ) );
+            builder.addEvent( DoubleEvent.of( time, BenchmarkDataFactory.getValue( i, random ) ) );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates a sequence of hourly, single-valued, forecasts with a seven-day horizon, issued once per day.
+     *
+     * @param forecastCount the number of forecasts
+     * @return the forecasts
+     */
+
+    public static List<TimeSeries<Double>> getSingleValuedForecasts( int forecastCount )
+    {
+        SplittableRandom random = new SplittableRandom( SEED + 1 );
+        List<TimeSeries<Double>> forecasts = new ArrayList<>();
+
+        for ( int i = 0; i < forecastCount; i++ )
+        {
+            int issuedHour = i * 24;
+            Instant issued = START.plus( Duration.ofHours( issuedHour ) );
+            TimeSeriesMetadata metadata = BenchmarkDataFactory.getMetadata( Map.of( ReferenceTimeType.T0, issued ) );
+            TimeSeries.Builder<Double> builder = new TimeSeries.Builder<Double>().setMetadata( metadata );
+
+            for ( int j = 1; j <= FORECAST_HOURS; j++ )
+            {
+                Instant time = issued.plus( Duration.ofHours( j ) );
+                builder.addEvent( DoubleEvent.of( time, BenchmarkDataFactory.getValue( issuedHour + j, random ) ) );
+            }
+
+            forecasts.add( builder.build() );
+        }
+
+        return Collections.unmodifiableList( forecasts );
+    }
+
+    /**
+     * Creates a sequence of hourly ensemble forecasts with a seven-day horizon, issued once per day.
+     *
+     * @param forecastCount the number of forecasts
+     * @return the forecasts
+     */
+
+    public static List<TimeSeries<Ensemble>> getEnsembleForecasts( int forecastCount )
+    {
+        SplittableRandom random = new SplittableRandom( SEED + 2 );
+        List<TimeSeries<Ensemble>> forecasts = new ArrayList<>();
+        Ensemble.Labels labels = BenchmarkDataFactory.getLabels();
+
+        for ( int i = 0; i < forecastCount; i++ )
+        {
+            int issuedHour = i * 24;
+            Instant issued = START.plus( Duration.ofHours( issuedHour ) );
+            TimeSeriesMetadata metadata = BenchmarkDataFactory.getMetadata( Map.of( ReferenceTimeType.T0, issued ) );
+            TimeSeries.Builder<Ensemble> builder = new TimeSeries.Builder<Ensemble>().setMetadata( metadata );
+
+            for ( int j = 1; j <= FORECAST_HOURS; j++ )
+            {
+                Instant time = issued.plus( Duration.ofHours( j ) );
+                Ensemble ensemble = BenchmarkDataFactory.getEnsemble( issuedHour + j, random, labels );
+                builder.addEvent( Event.of( time, ensemble ) );
+            }
+
+            forecasts.add( builder.build() );
+        }
+
+        return Collections.unmodifiableList( forecasts );
+    }
+
+    /**
+     * Creates a pool of single-valued pairs.
+     *
+     * @param size the number of pairs
+     * @return the pool
+     */
+
+    public static Pool<Pair<Double, Double>> getSingleValuedPairs( int size )
+    {
+        SplittableRandom random = new SplittableRandom( SEED + 3 );
+        List<Pair<Double, Double>> pairs = new ArrayList<>( size );
+
+        for ( int i = 0; i < size; i++ )
+        {
+            double observed = BenchmarkDataFactory.getValue( i, random );
+            double predicted = observed * ( 0.8 + 0.4 * random.nextDouble() );
+            pairs.add( Pair.of( observed, predicted ) );
+        }
+
+        return Pool.of( pairs, PoolMetadata.of() );
+    }
+
+    /**
+     * Creates a pool of ensemble pairs.
+     *
+     * @param size the number of pairs
+     * @return the pool
+     */
+
+    public static Pool<Pair<Double, Ensemble>> getEnsemblePairs( int size )
+    {
+        SplittableRandom random = new SplittableRandom( SEED + 4 );
+        List<Pair<Double, Ensemble>> pairs = new ArrayList<>( size );
+        Ensemble.Labels labels = BenchmarkDataFactory.getLabels();
+
+        for ( int i = 0; i < size; i++ )
+        {
+            double observed = BenchmarkDataFactory.getValue( i, random );
+            pairs.add( Pair.of( observed, BenchmarkDataFactory.getEnsemble( i, random, labels ) ) );
+        }
+
+        return Pool.of( pairs, PoolMetadata.of() );
+    }
+
+    /**
+     * Creates a pool of dichotomous pairs.
+     *
+     * @param size the number of pairs
+     * @return the pool
+     */
+
+    public static Pool<Pair<Boolean, Boolean>> getDichotomousPairs( int size )
+    {
+        SplittableRandom random = new SplittableRandom( SEED + 5 );
+        List<Pair<Boolean, Boolean>> pairs = new ArrayList<>( size );
+
+        for ( int i = 0; i < size; i++ )
+        {
+            boolean observed = random.nextDouble() < 0.3;
+            boolean correct = random.nextDouble() < 0.8;
+            boolean predicted = correct ? observed : !observed;
+            pairs.add( Pair.of( observed, predicted ) );
+        }
+
+        return Pool.of( pairs, PoolMetadata.of() );
+    }
+
+    /**
+     * @return the time-scale of the synthetic data, which is instantaneous
+     */
+
+    public static TimeScaleOuter getTimeScale()
+    {
+        return TimeScaleOuter.of();
+    }
+
+    /**
+     * Creates a synthetic value with a seasonal cycle and multiplicative noise.
+     *
+     * @param hour the hour
+     * @param random the random number generator
+     * @return the value
+     */
+
+    private static double getValue( int hour, SplittableRandom random )
+    {
+        double seasonal = 100.0 + 80.0 * Math.sin( 2.0 * Math.PI * hour / HOURS_PER_YEAR );
+        return seasonal * ( 0.5 + random.nextDouble() );
+    }
+
+    /**
+     * Creates a synthetic ensemble.
+     *
+     * @param hour the hour
+     * @param random the random number generator
+     * @param labels the labels
+     * @return the ensemble
+     */
+
+    private static Ensemble getEnsemble( int hour, SplittableRandom random, Ensemble.Labels labels )
+    {
+        double[] members = new double[ENSEMBLE_MEMBERS];
+        for ( int i = 0; i < ENSEMBLE_MEMBERS; i++ )
+        {
+            members[i] = BenchmarkDataFactory.getValue( hour, random );
+        }
+
+        return Ensemble.of( members, labels );
+    }
+
+    /**
+     * @return the ensemble labels
+     */
+
+    private static Ensemble.Labels getLabels()
+    {
+        String[] labels = new String[ENSEMBLE_MEMBERS];
+        for ( int i = 0; i < ENSEMBLE_MEMBERS; i++ )
+        {
+            labels[i] = Integer.toString( 1980 + i );
+        }
+
+        return Ensemble.Labels.of( labels );
+    }
+
+    /**
+     * @param referenceTimes the reference times
+     * @return the time-series metadata
+     */
+
+    private static TimeSeriesMetadata getMetadata( Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        return TimeSeriesMetadata.of( referenceTimes,
+                                      BenchmarkDataFactory.getTimeScale(),
+                                      VARIABLE_NAME,
+                                      FEATURE,
+                                      UNIT );
+    }
+
+    /**
+     * Do not construct.
+     */
+
+    private BenchmarkDataFactory()
+    {
+    }
+}
@@ -0,0 +1,106 @@
+package wres.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wres.datamodel.pools.Pool;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.datamodel.types.Ensemble;
+import wres.metrics.categorical.ContingencyTable;
+import wres.metrics.ensemble.ContinuousRankedProbabilityScore;
+import wres.metrics.singlevalued.KlingGuptaEfficiency;
+
+/**
+ * Benchmarks a selection of metrics from each of the main metric groups, namely the
+ * {@link ContinuousRankedProbabilityScore}, the {@link KlingGuptaEfficiency} and the {@link ContingencyTable}.
+ *
+ * @author James Brown
+ */
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class MetricBenchmark
+{
+    /** The number of pairs in the pool. */
+    @Param( { "1000", "10000", "100000" } )
+    private int poolSize;
+
+    /** The single-valued pairs. */
+    private Pool<Pair<Double, Double>> singleValuedPairs;
+
+    /** The ensemble pairs. */
+    private Pool<Pair<Double, Ensemble>> ensemblePairs;
+
+    /** The dichotomous pairs. */
+    private Pool<Pair<Boolean, Boolean>> dichotomousPairs;
+
+    /** The CRPS. */
+    private ContinuousRankedProbabilityScore crps;
+
+    /** The KGE. */
+    private KlingGuptaEfficiency kge;
+
+    /** The contingency table. */
+    private ContingencyTable contingencyTable;
+
+    /**
+     * Creates the synthetic data and metrics.
+     */
+
+    @Setup
+    public void setup()
+    {
+        this.singleValuedPairs = BenchmarkDataFactory.getSingleValuedPairs( this.poolSize );
+        this.ensemblePairs = BenchmarkDataFactory.getEnsemblePairs( this.poolSize );
+        this.dichotomousPairs = BenchmarkDataFactory.getDichotomousPairs( this.poolSize );
+        this.crps = ContinuousRankedProbabilityScore.of();
+        this.kge = KlingGuptaEfficiency.of();
+        this.contingencyTable = ContingencyTable.of();
+    }
+
+    /**
+     * @return the continuous ranked probability score
+     */
+
+    @Benchmark
+    public DoubleScoreStatisticOuter continuousRankedProbabilityScore()
+    {
+        return this.crps.apply( this.ensemblePairs );
+    }
+
+    /**
+     * @return the Kling-Gupta efficiency
+     */
+
+    @Benchmark
+    public DoubleScoreStatisticOuter klingGuptaEfficiency()
+    {
+        return this.kge.apply( this.singleValuedPairs );
+    }
+
+    /**
+     * @return the contingency table
+     */
+
+    @Benchmark
+    public DoubleScoreStatisticOuter contingencyTable()
+    {
+        return this.contingencyTable.apply( this.dichotomousPairs );
+    }
+}
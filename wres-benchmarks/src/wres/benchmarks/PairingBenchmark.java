@@ -0,0 +1,101 @@
+package wres.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesPairer;
+import wres.datamodel.time.TimeSeriesPairerByExactTime;
+import wres.datamodel.types.Ensemble;
+
+/**
+ * Benchmarks the pairing of many forecasts against a long series of hourly observations using
+ * {@link TimeSeriesPairerByExactTime}.
+ *
+ * @author James Brown
+ */
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class PairingBenchmark
+{
+    /** The number of daily forecasts in the pool. */
+    @Param( { "30", "365" } )
+    private int forecastCount;
+
+    /** The observations. */
+    private TimeSeries<Double> observations;
+
+    /** The single-valued forecasts. */
+    private List<TimeSeries<Double>> singleValuedForecasts;
+
+    /** The ensemble forecasts. */
+    private List<TimeSeries<Ensemble>> ensembleForecasts;
+
+    /**
+     * Creates the synthetic data.
+     */
+
+    @Setup
+    public void setup()
+    {
+        int hours = ( this.forecastCount + 7 ) * 24;
+        this.observations = BenchmarkDataFactory.getObservations( hours );
+        this.singleValuedForecasts = BenchmarkDataFactory.getSingleValuedForecasts( this.forecastCount );
+        this.ensembleForecasts = BenchmarkDataFactory.getEnsembleForecasts( this.forecastCount );
+    }
+
+    /**
+     * Pairs each single-valued forecast with the observations.
+     *
+     * @param blackhole the blackhole
+     */
+
+    @Benchmark
+    public void pairSingleValued( Blackhole blackhole )
+    {
+        TimeSeriesPairer<Double, Double> pairer = TimeSeriesPairerByExactTime.of();
+
+        for ( TimeSeries<Double> next : this.singleValuedForecasts )
+        {
+            TimeSeries<Pair<Double, Double>> paired = pairer.pair( this.observations, next );
+            blackhole.consume( paired );
+        }
+    }
+
+    /**
+     * Pairs each ensemble forecast with the observations.
+     *
+     * @param blackhole the blackhole
+     */
+
+    @Benchmark
+    public void pairEnsemble( Blackhole blackhole )
+    {
+        TimeSeriesPairer<Double, Ensemble> pairer = TimeSeriesPairerByExactTime.of();
+
+        for ( TimeSeries<Ensemble> next : this.ensembleForecasts )
+        {
+            TimeSeries<Pair<Double, Ensemble>> paired = pairer.pair( this.observations, next );
+            blackhole.consume( paired );
+        }
+    }
+}
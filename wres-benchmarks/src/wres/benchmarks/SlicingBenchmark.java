@@ -0,0 +1,155 @@
+package wres.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import wres.config.components.ThresholdOperator;
+import wres.config.components.ThresholdOrientation;
+import wres.datamodel.Slicer;
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.thresholds.ThresholdOuter;
+import wres.datamodel.thresholds.ThresholdSlicer;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesSlicer;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.datamodel.types.OneOrTwoDoubles;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.TimeWindow;
+
+/**
+ * Benchmarks the slicing of pools by threshold with {@link PoolSlicer} and {@link ThresholdSlicer}, together with the
+ * slicing of time-series by time window with {@link TimeSeriesSlicer}.
+ *
+ * @author James Brown
+ */
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class SlicingBenchmark
+{
+    /** The number of pairs in the pool. */
+    @Param( { "1000", "100000" } )
+    private int poolSize;
+
+    /** The number of thresholds with which to slice the pool. */
+    @Param( { "20" } )
+    private int thresholdCount;
+
+    /** The pool of pairs. */
+    private Pool<Pair<Double, Double>> pool;
+
+    /** The filters, one per threshold. */
+    private Map<ThresholdOuter, Predicate<Pair<Double, Double>>> filters;
+
+    /** The observations to slice by time window. */
+    private TimeSeries<Double> observations;
+
+    /** The time windows with which to slice the observations, one per month. */
+    private TimeWindowOuter[] timeWindows;
+
+    /**
+     * Creates the synthetic data.
+     */
+
+    @Setup
+    public void setup()
+    {
+        this.pool = BenchmarkDataFactory.getSingleValuedPairs( this.poolSize );
+
+        Map<ThresholdOuter, ThresholdOuter> thresholds = new TreeMap<>();
+        for ( int i = 0; i < this.thresholdCount; i++ )
+        {
+            ThresholdOuter threshold = ThresholdOuter.of( OneOrTwoDoubles.of( 10.0 * i ),
+                                                          ThresholdOperator.GREATER,
+                                                          ThresholdOrientation.OBSERVED );
+            thresholds.put( threshold, threshold );
+        }
+
+        this.filters = ThresholdSlicer.getFiltersFromThresholds( thresholds, Slicer::left );
+
+        // Ten years of hourly observations, sliced into monthly windows
+        this.observations = BenchmarkDataFactory.getObservations( 87600 );
+        this.timeWindows = new TimeWindowOuter[120];
+        for ( int i = 0; i < this.timeWindows.length; i++ )
+        {
+            Instant earliest = BenchmarkDataFactory.START.plus( Duration.ofDays( 30L * i ) );
+            Instant latest = BenchmarkDataFactory.START.plus( Duration.ofDays( 30L * ( i + 1 ) ) );
+            TimeWindow window = MessageUtilities.getTimeWindow( earliest, latest );
+            this.timeWindows[i] = TimeWindowOuter.of( window );
+        }
+    }
+
+    /**
+     * Filters the pool once for each threshold.
+     *
+     * @param blackhole the blackhole
+     */
+
+    @Benchmark
+    public void filterPoolByThreshold( Blackhole blackhole )
+    {
+        for ( Predicate<Pair<Double, Double>> next : this.filters.values() )
+        {
+            Pool<Pair<Double, Double>> filtered = PoolSlicer.filter( this.pool, next, null );
+            blackhole.consume( filtered );
+        }
+    }
+
+    /**
+     * Transforms the pool into dichotomous pairs once for each threshold.
+     *
+     * @param blackhole the blackhole
+     */
+
+    @Benchmark
+    public void transformPoolByThreshold( Blackhole blackhole )
+    {
+        for ( ThresholdOuter next : this.filters.keySet() )
+        {
+            Pool<Pair<Boolean, Boolean>> transformed =
+                    PoolSlicer.transform( this.pool,
+                                          pair -> Pair.of( next.test( pair.getLeft() ),
+                                                           next.test( pair.getRight() ) ) );
+            blackhole.consume( transformed );
+        }
+    }
+
+    /**
+     * Filters the observations once for each time window.
+     *
+     * @param blackhole the blackhole
+     */
+
+    @Benchmark
+    public void filterTimeSeriesByTimeWindow( Blackhole blackhole )
+    {
+        for ( TimeWindowOuter next : this.timeWindows )
+        {
+            TimeSeries<Double> filtered = TimeSeriesSlicer.filter( this.observations, next );
+            blackhole.consume( filtered );
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package wres.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.time.RescaledTimeSeriesPlusValidation;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesOfDoubleUpscaler;
+import wres.statistics.generated.TimeScale.TimeScaleFunction;
+
+/**
+ * Benchmarks the upscaling of hourly observations to a daily time-scale using {@link TimeSeriesOfDoubleUpscaler}.
+ *
+ * @author James Brown
+ */
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class UpscalingBenchmark
+{
+    /** The number of hourly observations, i.e., one month, one year and ten years. */
+    @Param( { "720", "8760", "87600" } )
+    private int hours;
+
+    /** The function to apply when upscaling. */
+    @Param( { "MEAN", "MAXIMUM" } )
+    private TimeScaleFunction function;
+
+    /** The observations. */
+    private TimeSeries<Double> observations;
+
+    /** The desired time scale. */
+    private TimeScaleOuter desiredTimeScale;
+
+    /** The upscaler. */
+    private TimeSeriesOfDoubleUpscaler upscaler;
+
+    /**
+     * Creates the synthetic data.
+     */
+
+    @Setup
+    public void setup()
+    {
+        this.observations = BenchmarkDataFactory.getObservations( this.hours );
+        this.desiredTimeScale = TimeScaleOuter.of( Duration.ofHours( 24 ), this.function );
+        this.upscaler = TimeSeriesOfDoubleUpscaler.of();
+    }
+
+    /**
+     * Upscales the observations to a daily time-scale.
+     *
+     * @return the upscaled observations
+     */
+
+    @Benchmark
+    public RescaledTimeSeriesPlusValidation<Double> upscale()
+    {
+        return this.upscaler.upscale( this.observations, this.desiredTimeScale, BenchmarkDataFactory.UNIT );
+    }
+}
@@ -222,6 +222,28 @@ public interface DataProvider extends AutoCloseable
      */
     Integer[] getIntegerArray( final String columnName );
 
+    /**
+     * Returns a <code>double</code> array without boxing each value, where the implementation allows. Null values are
+     * returned as {@link MissingValues#DOUBLE}.
+     *
+     * @param columnName The name of the column containing the desired <code>double</code> array
+     * @return The <code>double</code> values contained within the desired column
+     * @throws IllegalStateException Thrown if the data has been closed down or the column name doesn't exist
+     * @throws IndexOutOfBoundsException Thrown if the data is empty
+     */
+    double[] getPrimitiveDoubleArray( final String columnName );
+
+    /**
+     * Returns a <code>long</code> array of whole numbers without boxing each value, where the implementation allows.
+     *
+     * @param columnName The name of the column containing the desired whole number array
+     * @return The <code>long</code> values contained within the desired column
+     * @throws IllegalStateException Thrown if the data has been closed down, the column name doesn't exist or the array
+     *            contains null values
+     * @throws IndexOutOfBoundsException Thrown if the data is empty
+     */
+    long[] getPrimitiveLongArray( final String columnName );
+
     /**
      * @param columnName The name of the column containing a time
      *                   representation
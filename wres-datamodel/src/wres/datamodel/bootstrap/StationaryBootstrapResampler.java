@@ -19,7 +19,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
-import org.apache.commons.math3.distribution.BinomialDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,14 +88,14 @@ public class StationaryBootstrapResampler<T>
 
     /** The probability, p, with which to sample the next valid time randomly, where 1-p is the probability with which
      * to sample the value adjacent to the last sample. */
-    private final BinomialDistribution p;
+    private final double p;
 
     /** The probability, q, with which to sample the next time-series randomly, where 1-q is the probability with which
-     * to sample the time-series adjacent to the last sample. There is one distribution for each gap between the first
+     * to sample the time-series adjacent to the last sample. There is one probability for each gap between the first
      * valid times of consecutive time-series, as well as between the last time-series and the first.*/
-    private final Map<Duration, BinomialDistribution> q;
+    private final Map<Duration, Double> q;
 
-    /** A random number generator. */
+    /** A random number generator, which is used by {@link #resample()}. */
     private final RandomGenerator randomGenerator;
 
     /** A resample executor. */
@@ -130,13 +129,46 @@ public class StationaryBootstrapResampler<T>
     }
 
     /**
-     * Generates a realization of the pool.
+     * Generates a realization of the pool using the random number generator supplied on construction.
      *
      * @return a realization
      * @throws ResamplingException if an exception was enountered on resampling
      */
 
     public Pool<TimeSeries<T>> resample()
+    {
+        return this.resample( this.randomGenerator, this.resampleExecutor );
+    }
+
+    /**
+     * Generates a realization of the pool using the prescribed random number generator. Unlike {@link #resample()},
+     * this method may be called concurrently, provided each caller supplies its own generator, and the time-series are
+     * resampled on the calling thread. Thus, several realizations can be generated in parallel and each realization
+     * depends only on the generator supplied for it, not on the order in which the realizations are generated.
+     *
+     * @param randomGenerator the random number generator
+     * @return a realization
+     * @throws NullPointerException if the randomGenerator is null
+     * @throws ResamplingException if an exception was enountered on resampling
+     */
+
+    public Pool<TimeSeries<T>> resample( RandomGenerator randomGenerator )
+    {
+        Objects.requireNonNull( randomGenerator );
+
+        return this.resample( randomGenerator, null );
+    }
+
+    /**
+     * Generates a realization of the pool.
+     *
+     * @param random the random number generator
+     * @param executor the executor for resampling the time-series in parallel, optional
+     * @return a realization
+     * @throws ResamplingException if an exception was enountered on resampling
+     */
+
+    private Pool<TimeSeries<T>> resample( RandomGenerator random, ExecutorService executor )
     {
         Pool.Builder<TimeSeries<T>> poolBuilder = new Pool.Builder<>();
         poolBuilder.setMetadata( this.pool.getMetadata() )
@@ -150,13 +182,13 @@ public class StationaryBootstrapResampler<T>
 
         // Generate the common indexes to resample across mini pools and both the main/baseline pairs. This assumes
         // perfect statistical dependence across the mini pools and main/baseline pairs
-        List<ResampleIndexes> indexes = this.generateResampleIndexes( this.main.get( 0 ) );
+        List<ResampleIndexes> indexes = this.generateResampleIndexes( this.main.get( 0 ), random );
 
         // Generate the samples using the common sample structure/indexes across the mini-pools and main/baseline series
         for ( int i = 0; i < this.main.size(); i++ )
         {
             BootstrapPool<T> nextPool = this.main.get( i );
-            List<TimeSeries<T>> nextMain = this.resample( nextPool, indexes );
+            List<TimeSeries<T>> nextMain = this.resample( nextPool, indexes, executor );
             Pool.Builder<TimeSeries<T>> innerPoolBuilder = new Pool.Builder<>();
             innerPoolBuilder.setMetadata( nextPool.getPool()
                                                   .getMetadata() )
@@ -167,7 +199,7 @@ public class StationaryBootstrapResampler<T>
             if ( this.pool.hasBaseline() )
             {
                 BootstrapPool<T> nextBaselinePool = this.baseline.get( i );
-                List<TimeSeries<T>> nextBaseline = this.resample( nextBaselinePool, indexes );
+                List<TimeSeries<T>> nextBaseline = this.resample( nextBaselinePool, indexes, executor );
                 innerPoolBuilder.setMetadataForBaseline( nextBaselinePool.getPool()
                                                                          .getMetadata() )
                                 .setClimatology( nextBaselinePool.getPool()
@@ -185,10 +217,11 @@ public class StationaryBootstrapResampler<T>
      * Generates the indexes for resampling the pool.
      *
      * @param pool the pool
+     * @param random the random number generator
      * @return the indexes to resample, which are based on the size-ordered time-series in the pool
      */
 
-    private List<ResampleIndexes> generateResampleIndexes( BootstrapPool<T> pool )
+    private List<ResampleIndexes> generateResampleIndexes( BootstrapPool<T> pool, RandomGenerator random )
     {
         // Group the time-series to resample based on the number of events within them and do the sampling separately
         // for each group. The resampled indexes are relative to series within each group, which are ordered by the
@@ -216,7 +249,8 @@ public class StationaryBootstrapResampler<T>
                     nextIndexes = this.generateResampleIndexesForForecastSeries( nextSeries,
                                                                                  i,
                                                                                  pool,
-                                                                                 innerIndexes );
+                                                                                 innerIndexes,
+                                                                                 random );
                 }
                 // Non-forecast time-series (of which there is only one, as established on construction)
                 else
@@ -224,7 +258,8 @@ public class StationaryBootstrapResampler<T>
                     nextIndexes = this.generateResampleIndexesForNonForecastSeries( nextSeries,
                                                                                     i,
                                                                                     pool,
-                                                                                    innerIndexes );
+                                                                                    innerIndexes,
+                                                                                    random );
                 }
 
                 innerIndexes.add( nextIndexes );
@@ -245,18 +280,21 @@ public class StationaryBootstrapResampler<T>
      * @param seriesIndex the series index
      * @param pool the pool
      * @param indexes the existing resampled indexes
+     * @param random the random number generator
      * @return the resample indexes for the current time-series
      */
 
     private ResampleIndexes generateResampleIndexesForForecastSeries( TimeSeries<T> series,
                                                                       int seriesIndex,
                                                                       BootstrapPool<T> pool,
-                                                                      List<ResampleIndexes> indexes )
+                                                                      List<ResampleIndexes> indexes,
+                                                                      RandomGenerator random )
     {
         int events = series.getEvents()
                            .size();
 
-        List<int[]> nextIndexes = new ArrayList<>();
+        int[] nextSeriesIndexes = new int[events];
+        int[] nextEventIndexes = new int[events];
         // Can only sample from time-series with as many events as the template series
         List<List<Event<T>>> eventsToSample = pool.getTimeSeriesWithAtLeastThisManyEvents( events );
         int seriesCount = eventsToSample.size();
@@ -270,12 +308,15 @@ public class StationaryBootstrapResampler<T>
             // Very first sample, select a series randomly
             if ( seriesIndex == 0 && eventIndex == 0 )
             {
-                nextSeriesIndex = this.getFirstSampleFromFirstSeries( seriesCount );
+                nextSeriesIndex = this.getFirstSampleFromFirstSeries( seriesCount, random );
             }
             // Remaining events in the first series
             else if ( seriesIndex == 0 )   // && eventIndex > 0 implied
             {
-                nextSeriesIndex = this.getSampleThatIsNotFirstFromFirstSeries( seriesCount, eventIndex, nextIndexes );
+                nextSeriesIndex = this.getSampleThatIsNotFirstFromFirstSeries( seriesCount,
+                                                                               eventIndex,
+                                                                               nextSeriesIndexes,
+                                                                               random );
             }
             // First event from a series that is not the first series
             else if ( seriesIndex > 0 && eventIndex == 0 )
@@ -283,31 +324,35 @@ public class StationaryBootstrapResampler<T>
                 nextSeriesIndex = this.getFirstSampleFromSeriesThatIsNotFirstSeries( seriesCount,
                                                                                      seriesIndex,
                                                                                      indexes,
-                                                                                     eventsToSample );
+                                                                                     eventsToSample,
+                                                                                     random );
             }
             // Event that is not the first event from a series that is not the first series
             else
             {
                 nextSeriesIndex = this.getSampleThatIsNotFirstFromSeriesThatIsNotFirst( seriesCount,
                                                                                         eventIndex,
-                                                                                        nextIndexes );
+                                                                                        nextSeriesIndexes,
+                                                                                        random );
             }
 
-            nextIndexes.add( new int[] { nextSeriesIndex, eventIndex } );
+            nextSeriesIndexes[eventIndex] = nextSeriesIndex;
+            nextEventIndexes[eventIndex] = eventIndex;
         }
 
-        return new ResampleIndexes( nextIndexes );
+        return new ResampleIndexes( nextSeriesIndexes, nextEventIndexes );
     }
 
     /**
      * Generate a resample index for the first sample from the first series.
      *
      * @param seriesCount the number of time-series
+     * @param random the random number generator
      * @return the randomly chosen time-series index
      */
-    private int getFirstSampleFromFirstSeries( int seriesCount )
+    private int getFirstSampleFromFirstSeries( int seriesCount, RandomGenerator random )
     {
-        return this.getRandomIndex( seriesCount );
+        return this.getRandomIndex( seriesCount, random );
     }
 
     /**
@@ -315,25 +360,26 @@ public class StationaryBootstrapResampler<T>
      *
      * @param seriesCount the number of time-series
      * @param eventIndex the event index
-     * @param existingIndexes the indexes already sampled for the first series
+     * @param existingSeriesIndexes the time-series indexes already sampled for the first series
+     * @param random the random number generator
      * @return the randomly chosen time-series index
      */
     private int getSampleThatIsNotFirstFromFirstSeries( int seriesCount,
                                                         int eventIndex,
-                                                        List<int[]> existingIndexes )
+                                                        int[] existingSeriesIndexes,
+                                                        RandomGenerator random )
     {
         int nextSeriesIndex;
 
         // Choose the next event from a randomly selected series with probability p
-        if ( this.p.sample() == 1 )
+        if ( this.sample( this.p, random ) )
         {
-            nextSeriesIndex = this.getRandomIndex( seriesCount );
+            nextSeriesIndex = this.getRandomIndex( seriesCount, random );
         }
         // Choose the next event from the series used for the last index with probability 1-p
         else
         {
-            int[] lastIndex = existingIndexes.get( eventIndex - 1 );
-            nextSeriesIndex = lastIndex[0];
+            nextSeriesIndex = existingSeriesIndexes[eventIndex - 1];
         }
 
         return nextSeriesIndex;
@@ -346,24 +392,23 @@ public class StationaryBootstrapResampler<T>
      * @param seriesIndex the series index
      * @param indexes the indexes already sampled for other series
      * @param eventsToSample the events to sample
+     * @param random the random number generator
      * @return the randomly chosen time-series index
      */
     private int getFirstSampleFromSeriesThatIsNotFirstSeries( int seriesCount,
                                                               int seriesIndex,
                                                               List<ResampleIndexes> indexes,
-                                                              List<List<Event<T>>> eventsToSample )
+                                                              List<List<Event<T>>> eventsToSample,
+                                                              RandomGenerator random )
     {
         // There should be a last series, by definition of this method being called
         ResampleIndexes lastSeriesIndexes = indexes.get( seriesIndex - 1 );
-        int[] lastIndex = lastSeriesIndexes.indexes()
-                                           .get( 0 );
-
-        int lastSeriesIndex = lastIndex[0];
+        int lastSeriesIndex = lastSeriesIndexes.series()[0];
         int nextSeriesIndex = lastSeriesIndex + 1;
 
         // Find the appropriate transition probability distribution, which depends on the gap. If the next index is
         // greater than the last available index, then circle back to the first index
-        BinomialDistribution sampler;
+        Double probability;
 
         // Gap when restarting the pool. In this case, assume the default transition probability of p, rather than the
         // potentially much larger q that corresponds to the gap between the first and last value in the series. This
@@ -374,7 +419,7 @@ public class StationaryBootstrapResampler<T>
         if ( nextSeriesIndex >= seriesCount )
         {
             nextSeriesIndex = 0;
-            sampler = this.p;
+            probability = this.p;
         }
         // Gap when not restarting the pool
         else
@@ -390,9 +435,9 @@ public class StationaryBootstrapResampler<T>
             // Absolute gap
             Duration gap = Duration.between( first, second )
                                    .abs();
-            sampler = this.q.get( gap );
+            probability = this.q.get( gap );
 
-            if ( Objects.isNull( sampler ) )
+            if ( Objects.isNull( probability ) )
             {
                 throw new IllegalStateException( "When attempting to resample time-series, could not find an "
                                                  + "appropriate resampler for an offset between time-series of "
@@ -409,9 +454,9 @@ public class StationaryBootstrapResampler<T>
         }
 
         // Choose the next event from a randomly selected series?
-        if ( sampler.sample() == 1 )
+        if ( this.sample( probability, random ) )
         {
-            nextSeriesIndex = this.getRandomIndex( seriesCount );
+            nextSeriesIndex = this.getRandomIndex( seriesCount, random );
         }
 
         return nextSeriesIndex;
@@ -422,15 +467,17 @@ public class StationaryBootstrapResampler<T>
      *
      * @param seriesCount the series count
      * @param eventIndex the event index
-     * @param existingIndexes the indexes already sampled for the first series
+     * @param existingSeriesIndexes the time-series indexes already sampled for the series
+     * @param random the random number generator
      * @return the randomly chosen time-series index
      */
     private int getSampleThatIsNotFirstFromSeriesThatIsNotFirst( int seriesCount,
                                                                  int eventIndex,
-                                                                 List<int[]> existingIndexes )
+                                                                 int[] existingSeriesIndexes,
+                                                                 RandomGenerator random )
     {
         // Same as acquiring a sample from the first series that is not the first sample
-        return this.getSampleThatIsNotFirstFromFirstSeries( seriesCount, eventIndex, existingIndexes );
+        return this.getSampleThatIsNotFirstFromFirstSeries( seriesCount, eventIndex, existingSeriesIndexes, random );
     }
 
     /**
@@ -442,13 +489,15 @@ public class StationaryBootstrapResampler<T>
      * @param seriesIndex the series index
      * @param pool the pool
      * @param indexes the existing resampled indexes
+     * @param random the random number generator
      * @return the resample indexes for the current time-series
      */
 
     private ResampleIndexes generateResampleIndexesForNonForecastSeries( TimeSeries<T> series,
                                                                          int seriesIndex,
                                                                          BootstrapPool<T> pool,
-                                                                         List<ResampleIndexes> indexes )
+                                                                         List<ResampleIndexes> indexes,
+                                                                         RandomGenerator random )
     {
         int eventCount = series.getEvents()
                                .size();
@@ -456,7 +505,8 @@ public class StationaryBootstrapResampler<T>
         List<List<Event<T>>> eventsToSample = pool.getTimeSeriesWithAllEvents();
         int seriesCount = eventsToSample.size();
 
-        List<int[]> nextIndexes = new ArrayList<>();
+        int[] nextSeriesIndexes = new int[eventCount];
+        int[] nextEventIndexes = new int[eventCount];
         for ( int eventIndex = 0; eventIndex < eventCount; eventIndex++ )
         {
             int nextSeriesIndex;
@@ -466,10 +516,10 @@ public class StationaryBootstrapResampler<T>
             if ( seriesIndex == 0
                  && eventIndex == 0 )
             {
-                nextSeriesIndex = this.getRandomIndex( seriesCount );
+                nextSeriesIndex = this.getRandomIndex( seriesCount, random );
                 int seriesEventCount = eventsToSample.get( nextSeriesIndex )
                                                      .size();
-                nextEventIndex = this.getRandomIndex( seriesEventCount );
+                nextEventIndex = this.getRandomIndex( seriesEventCount, random );
             }
             // Start of a new series or continuation of an existing series
             else
@@ -480,27 +530,28 @@ public class StationaryBootstrapResampler<T>
                 // Last sample comes from the local cache of indexes
                 if ( eventIndex > 0 )
                 {
-                    lastIndex = nextIndexes.get( eventIndex - 1 );
+                    lastIndex = new int[] { nextSeriesIndexes[eventIndex - 1], nextEventIndexes[eventIndex - 1] };
                 }
                 // Last sample comes from the global cache of indexes
                 else
                 {
                     ResampleIndexes cachedIndex = indexes.get( seriesIndex - 1 );
-                    List<int[]> lastIndexes = cachedIndex.indexes();
-                    lastIndex = lastIndexes.get( lastIndexes.size() - 1 );
+                    lastIndex = cachedIndex.getLast();
                 }
 
                 int[] nextIndex = this.generateResampleIndexForNonForecastSeries( lastIndex,
                                                                                   eventsToSample,
-                                                                                  seriesCount );
+                                                                                  seriesCount,
+                                                                                  random );
                 nextSeriesIndex = nextIndex[0];
                 nextEventIndex = nextIndex[1];
             }
 
-            nextIndexes.add( new int[] { nextSeriesIndex, nextEventIndex } );
+            nextSeriesIndexes[eventIndex] = nextSeriesIndex;
+            nextEventIndexes[eventIndex] = nextEventIndex;
         }
 
-        return new ResampleIndexes( nextIndexes );
+        return new ResampleIndexes( nextSeriesIndexes, nextEventIndexes );
     }
 
     /**
@@ -508,12 +559,14 @@ public class StationaryBootstrapResampler<T>
      * @param lastIndex the last sampled index
      * @param eventsToSample the events to sample
      * @param seriesCount the number of time-series
+     * @param random the random number generator
      * @return the resample index
      */
 
     private int[] generateResampleIndexForNonForecastSeries( int[] lastIndex,
                                                              List<List<Event<T>>> eventsToSample,
-                                                             int seriesCount )
+                                                             int seriesCount,
+                                                             RandomGenerator random )
     {
         int[] index;
 
@@ -522,7 +575,8 @@ public class StationaryBootstrapResampler<T>
         {
             index = this.generateResampleIndexWithinSeriesForNonForecastSeries( lastIndex,
                                                                                 eventsToSample,
-                                                                                seriesCount );
+                                                                                seriesCount,
+                                                                                random );
         }
         // Some values left to sample in the last series
         else if ( lastIndex[1] + 1 < eventsToSample.get( lastIndex[0] )
@@ -530,14 +584,16 @@ public class StationaryBootstrapResampler<T>
         {
             index = this.generateResampleIndexWithinSeriesForNonForecastSeries( lastIndex,
                                                                                 eventsToSample,
-                                                                                seriesCount );
+                                                                                seriesCount,
+                                                                                random );
         }
         // No values left to sample in the last series, so need to move to a new series
         else
         {
             index = this.generateResampleIndexFromAnotherSeriesForNonForecastSeries( lastIndex,
                                                                                      eventsToSample,
-                                                                                     seriesCount );
+                                                                                     seriesCount,
+                                                                                     random );
         }
 
         return index;
@@ -550,23 +606,25 @@ public class StationaryBootstrapResampler<T>
      * @param lastIndex the last sampled index
      * @param eventsToSample the events to sample
      * @param seriesCount the number of time-series
+     * @param random the random number generator
      * @return the resample index
      */
 
     private int[] generateResampleIndexWithinSeriesForNonForecastSeries( int[] lastIndex,
                                                                          List<List<Event<T>>> eventsToSample,
-                                                                         int seriesCount )
+                                                                         int seriesCount,
+                                                                         RandomGenerator random )
     {
         int nextSeriesIndex;
         int nextEventIndex;
 
         // Sample the next value randomly with probability p
-        if ( this.p.sample() == 1 )
+        if ( this.sample( this.p, random ) )
         {
-            nextSeriesIndex = this.getRandomIndex( seriesCount );
+            nextSeriesIndex = this.getRandomIndex( seriesCount, random );
             int seriesEventCount = eventsToSample.get( nextSeriesIndex )
                                                  .size();
-            nextEventIndex = this.getRandomIndex( seriesEventCount );
+            nextEventIndex = this.getRandomIndex( seriesEventCount, random );
         }
         else
         {
@@ -591,12 +649,14 @@ public class StationaryBootstrapResampler<T>
      * @param lastIndex the last sampled index
      * @param eventsToSample the events to sample
      * @param seriesCount the number of time-series
+     * @param random the random number generator
      * @return the resample index
      */
 
     private int[] generateResampleIndexFromAnotherSeriesForNonForecastSeries( int[] lastIndex,
                                                                               List<List<Event<T>>> eventsToSample,
-                                                                              int seriesCount )
+                                                                              int seriesCount,
+                                                                              RandomGenerator random )
     {
         int nextSeriesIndex;
         int nextEventIndex;
@@ -612,11 +672,11 @@ public class StationaryBootstrapResampler<T>
         // and last value in the series. This is debatable, but is the approach adopted in Politis and Romano (1994).
         // To use the appropriate q probability instead, simply calculate the gap as normal - the corresponding
         // distribution should be available, as the gap between the first and last series is among those created
-        BinomialDistribution sampler;
+        Double probability;
         if ( nextSeries >= seriesCount )
         {
             nextSeries = 0;
-            sampler = this.p;
+            probability = this.p;
         }
         else
         {
@@ -628,16 +688,16 @@ public class StationaryBootstrapResampler<T>
             Duration gap = Duration.between( first, second )
                                    .abs();
 
-            sampler = this.q.get( gap );
+            probability = this.q.get( gap );
         }
 
         // Choose the next event from a randomly selected series with probability q
-        if ( sampler.sample() == 1 )
+        if ( this.sample( probability, random ) )
         {
-            nextSeriesIndex = this.getRandomIndex( seriesCount );
+            nextSeriesIndex = this.getRandomIndex( seriesCount, random );
             int seriesEventCount = eventsToSample.get( nextSeriesIndex )
                                                  .size();
-            nextEventIndex = this.getRandomIndex( seriesEventCount );
+            nextEventIndex = this.getRandomIndex( seriesEventCount, random );
         }
         // Choose the first event from the next series
         else
@@ -653,9 +713,10 @@ public class StationaryBootstrapResampler<T>
      * Returns a random index between 0 and the specified value minus one.
      *
      * @param upperBoundExclusive the upper bound exclusive
+     * @param random the random number generator
      */
 
-    private int getRandomIndex( int upperBoundExclusive )
+    private int getRandomIndex( int upperBoundExclusive, RandomGenerator random )
     {
         // Zero-based indexing
         if ( upperBoundExclusive == 1 )
@@ -663,19 +724,38 @@ public class StationaryBootstrapResampler<T>
             return 0;
         }
 
-        return this.randomGenerator.nextInt( upperBoundExclusive );
+        return random.nextInt( upperBoundExclusive );
+    }
+
+    /**
+     * Samples a Bernoulli trial with the prescribed probability of success. This inverts the cumulative distribution
+     * function of the trial, as sampling a binomial distribution with one trial would do, but uses the supplied
+     * generator, which allows for concurrent resampling with one generator per caller.
+     *
+     * @param probability the probability of success
+     * @param random the random number generator
+     * @return true if the trial succeeded, otherwise false
+     */
+
+    private boolean sample( double probability, RandomGenerator random )
+    {
+        double u = random.nextDouble();
+        return probability >= 1.0 || u > 1.0 - probability;
     }
 
     /**
      * Generates a sample of a pool from the prescribed list of indexes, one set of indexes for each time-series in the
-     * pool. The indexes use the ordering imposed by {@link #generateResampleIndexes(BootstrapPool)}.
+     * pool. The indexes use the ordering imposed by {@link #generateResampleIndexes(BootstrapPool, RandomGenerator)}.
      *
      * @param pool the pool to resample
      * @param resampleIndexes the indexes to resample
+     * @param executor the executor for resampling the time-series in parallel, optional
      * @return the resampled pool
      */
 
-    private List<TimeSeries<T>> resample( BootstrapPool<T> pool, List<ResampleIndexes> resampleIndexes )
+    private List<TimeSeries<T>> resample( BootstrapPool<T> pool,
+                                          List<ResampleIndexes> resampleIndexes,
+                                          ExecutorService executor )
     {
         List<TimeSeries<T>> resampledPool = new ArrayList<>();
 
@@ -685,6 +765,19 @@ public class StationaryBootstrapResampler<T>
                                                      .flatMap( List::stream )
                                                      .toList();
 
+        // Resample on the calling thread when there is no executor, such as when each realization is generated by a
+        // separate task
+        if ( Objects.isNull( executor ) )
+        {
+            for ( int i = 0; i < sizeOrder.size(); i++ )
+            {
+                UnaryOperator<TimeSeries<T>> resampler = this.getTimeSeriesResampler( pool, resampleIndexes, i );
+                resampledPool.add( resampler.apply( sizeOrder.get( i ) ) );
+            }
+
+            return Collections.unmodifiableList( resampledPool );
+        }
+
         // Execute the time-series resampling in parallel as this can be time-consuming for large time-series, mainly
         // adding the time-series events to a sorted set. This will only improve performance when the series count is
         // greater than one, so not for a single, long, time-series
@@ -695,7 +788,7 @@ public class StationaryBootstrapResampler<T>
             UnaryOperator<TimeSeries<T>> resampler = this.getTimeSeriesResampler( pool, resampleIndexes, i );
             CompletableFuture<TimeSeries<T>> future =
                     CompletableFuture.supplyAsync( () -> resampler.apply( nextSeries ),
-                                                   this.resampleExecutor );
+                                                   executor );
             futures.add( future );
         }
 
@@ -723,7 +816,10 @@ public class StationaryBootstrapResampler<T>
     }
 
     /**
-     * Creates a function that resamples a time-series.
+     * Creates a function that resamples a time-series. The values are copied from each range of consecutive indexes
+     * within one source time-series, which corresponds to a block of the stationary bootstrap, and are then assigned
+     * to the valid times of the template time-series, which are already ordered and free from duplicates.
+     *
      * @param pool the pool
      * @param resampleIndexes the resample indexes
      * @param seriesIndex the series index
@@ -736,10 +832,10 @@ public class StationaryBootstrapResampler<T>
     {
         return nextSeries ->
         {
-            TimeSeries.Builder<T> builder = new TimeSeries.Builder<T>().setMetadata( nextSeries.getMetadata() );
             ResampleIndexes indexes = resampleIndexes.get( seriesIndex );
-            List<Event<T>> events = new ArrayList<>( nextSeries.getEvents() );
-            int eventCount = events.size();
+            int[] series = indexes.series();
+            int[] events = indexes.events();
+            int eventCount = series.length;
             List<List<Event<T>>> eventsToSample;
             if ( pool.hasForecasts() )
             {
@@ -750,44 +846,76 @@ public class StationaryBootstrapResampler<T>
                 eventsToSample = pool.getTimeSeriesWithAllEvents();
             }
 
-            for ( int j = 0; j < eventCount; j++ )
+            List<T> values = new ArrayList<>( eventCount );
+            int start = 0;
+            while ( start < eventCount )
             {
-                Event<T> nextEvent = events.get( j );
-                int[] index = indexes.indexes()
-                                     .get( j );
-
-                if ( eventsToSample.size() <= index[0] )
+                // Find the end of the range of consecutive events within the same source series
+                int end = start + 1;
+                while ( end < eventCount
+                        && series[end] == series[start]
+                        && events[end] == events[start] + ( end - start ) )
                 {
-                    throw new IndexOutOfBoundsException( "While attempting to resample a time-series at index "
-                                                         + index[0]
-                                                         + ", discovered a maximum time-series index of "
-                                                         + ( eventsToSample.size() - 1 )
-                                                         + ", which is smaller than the required index." );
+                    end++;
                 }
 
-                if ( eventsToSample.get( index[0] )
-                                   .size() <= index[1] )
+                List<Event<T>> range = this.getRangeToSample( eventsToSample,
+                                                              series[start],
+                                                              events[start],
+                                                              events[start] + ( end - start ) );
+                for ( Event<T> nextEvent : range )
                 {
-                    throw new IndexOutOfBoundsException( "While attempting to resample a time-series event at index "
-                                                         + index[1]
-                                                         + " of the time-series at index "
-                                                         + index[0]
-                                                         + ", discovered a maximum time-series event index of "
-                                                         + ( eventsToSample.get( index[0] )
-                                                                           .size() - 1 )
-                                                         + ", which is smaller than the required index." );
+                    values.add( nextEvent.getValue() );
                 }
 
-                Event<T> resampledValue = eventsToSample.get( index[0] )
-                                                        .get( index[1] );
-                Event<T> resampled = Event.of( nextEvent.getTime(), resampledValue.getValue() );
-                builder.addEvent( resampled );
+                start = end;
             }
 
-            return builder.build();
+            return nextSeries.withValues( values );
         };
     }
 
+    /**
+     * Returns the range of events to sample from the prescribed time-series.
+     *
+     * @param eventsToSample the events to sample
+     * @param seriesIndex the index of the time-series to sample
+     * @param fromIndex the index of the first event to sample, inclusive
+     * @param toIndex the index of the last event to sample, exclusive
+     * @return the events to sample
+     * @throws IndexOutOfBoundsException if either the time-series or the range of events is not available
+     */
+
+    private List<Event<T>> getRangeToSample( List<List<Event<T>>> eventsToSample,
+                                             int seriesIndex,
+                                             int fromIndex,
+                                             int toIndex )
+    {
+        if ( eventsToSample.size() <= seriesIndex )
+        {
+            throw new IndexOutOfBoundsException( "While attempting to resample a time-series at index "
+                                                 + seriesIndex
+                                                 + ", discovered a maximum time-series index of "
+                                                 + ( eventsToSample.size() - 1 )
+                                                 + ", which is smaller than the required index." );
+        }
+
+        List<Event<T>> seriesToSample = eventsToSample.get( seriesIndex );
+
+        if ( seriesToSample.size() < toIndex )
+        {
+            throw new IndexOutOfBoundsException( "While attempting to resample a time-series event at index "
+                                                 + ( toIndex - 1 )
+                                                 + " of the time-series at index "
+                                                 + seriesIndex
+                                                 + ", discovered a maximum time-series event index of "
+                                                 + ( seriesToSample.size() - 1 )
+                                                 + ", which is smaller than the required index." );
+        }
+
+        return seriesToSample.subList( fromIndex, toIndex );
+    }
+
     /**
      * Creates an instance.
      * @param pool the pool to resample, required
@@ -874,7 +1002,7 @@ public class StationaryBootstrapResampler<T>
         this.pool = crossPool;
 
         double pProb = 1.0 / meanBlockSizeInTimesteps;
-        this.p = new BinomialDistribution( randomGenerator, 1, pProb );
+        this.p = pProb;
         this.randomGenerator = randomGenerator;
         this.resampleExecutor = resampleExecutor;
 
@@ -901,8 +1029,7 @@ public class StationaryBootstrapResampler<T>
         // Create the distributions to transition between time-series based on time offset of the first valid time
         this.q = this.getTransitionProbabilitiesBetweenSeries( timestep,
                                                                uniqueTimeOffsets,
-                                                               meanBlockSizeInTimesteps,
-                                                               this.randomGenerator );
+                                                               meanBlockSizeInTimesteps );
 
         this.main = Collections.unmodifiableList( innerMain );
         this.baseline = Collections.unmodifiableList( innerBaseline );
@@ -945,12 +1072,6 @@ public class StationaryBootstrapResampler<T>
                                                  .sum();
             }
 
-            Map<Duration, Double> qProbs = this.q.entrySet()
-                                                 .stream()
-                                                 .collect( Collectors.toMap( Map.Entry::getKey,
-                                                                             n -> n.getValue()
-                                                                                   .getProbabilityOfSuccess() ) );
-
             LOGGER.debug( "Created a stationary bootstrap resampler with a mean block size of {} timesteps, a modal "
                           + "timestep of {}, a probability of {} for randomly sampling consecutive timesteps within "
                           + "the same time-series, probabilities of {} for randomly sampling consecutive time-series "
@@ -968,7 +1089,7 @@ public class StationaryBootstrapResampler<T>
                           meanBlockSizeInTimesteps,
                           timestep,
                           pProb,
-                          qProbs,
+                          this.q,
                           this.pool.get()
                                    .size(),
                           mainValueCount,
@@ -1275,24 +1396,22 @@ public class StationaryBootstrapResampler<T>
     }
 
     /**
-     * Creates a binomial distribution with probability of success that is proportional to the time offset between
-     * time-series relative to the timestep of the data.
+     * Creates a probability of success that is proportional to the time offset between time-series relative to the
+     * timestep of the data, one for each time offset.
      *
      * @param timestep the timestep
      * @param timeOffsets the time offsets
      * @param meanBlockSizeInTimesteps the mean block size
-     * @param random the random number generator
-     * @return the distributions for calculating transition probabilities between time-series
+     * @return the transition probabilities between time-series
      */
 
-    private Map<Duration, BinomialDistribution> getTransitionProbabilitiesBetweenSeries( Duration timestep,
-                                                                                         Set<Duration> timeOffsets,
-                                                                                         long meanBlockSizeInTimesteps,
-                                                                                         RandomGenerator random )
+    private Map<Duration, Double> getTransitionProbabilitiesBetweenSeries( Duration timestep,
+                                                                           Set<Duration> timeOffsets,
+                                                                           long meanBlockSizeInTimesteps )
     {
         LOGGER.debug( "Creating resamplers for the following time offsets between time-series: {}.", timeOffsets );
 
-        Map<Duration, BinomialDistribution> returnMe = new HashMap<>();
+        Map<Duration, Double> returnMe = new HashMap<>();
 
         if ( !timeOffsets.isEmpty() )
         {
@@ -1301,8 +1420,7 @@ public class StationaryBootstrapResampler<T>
                 double qProb = this.getTransitionProbabilityBetweenSeries( timestep,
                                                                            nextOffset,
                                                                            meanBlockSizeInTimesteps );
-                BinomialDistribution b = new BinomialDistribution( random, 1, qProb );
-                returnMe.put( nextOffset, b );
+                returnMe.put( nextOffset, qProb );
             }
         }
 
@@ -1350,22 +1468,33 @@ public class StationaryBootstrapResampler<T>
     }
 
     /**
-     * A record that contains the indexes to resample for a prescribed time-series. Each index pair refers to a
-     * position within a {@link BootstrapPool} for the time-series returned by
-     * {@link BootstrapPool#getTimeSeriesWithAtLeastThisManyEvents(int)}.
+     * A record that contains the indexes to resample for a prescribed time-series, one pair of indexes for each event
+     * in the time-series. Each index pair refers to a position within a {@link BootstrapPool} for the time-series
+     * returned by {@link BootstrapPool#getTimeSeriesWithAtLeastThisManyEvents(int)}.
      *
-     * @param indexes the sample indexes
+     * @param series the time-series indexes
+     * @param events the event indexes within each time-series
      */
 
-    private record ResampleIndexes( List<int[]> indexes )
+    private record ResampleIndexes( int[] series, int[] events )
     {
+        /**
+         * @return the last pair of indexes
+         */
+
+        int[] getLast()
+        {
+            int last = this.series.length - 1;
+            return new int[] { this.series[last], this.events[last] };
+        }
+
         @Override
         public String toString()
         {
             StringJoiner joiner = new StringJoiner( ",", "(", ")" );
-            for ( int[] next : indexes )
+            for ( int i = 0; i < this.series.length; i++ )
             {
-                joiner.add( Arrays.toString( next ) );
+                joiner.add( Arrays.toString( new int[] { this.series[i], this.events[i] } ) );
             }
 
             return joiner.toString();
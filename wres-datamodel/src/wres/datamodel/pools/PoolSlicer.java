@@ -14,6 +14,7 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +27,7 @@ import wres.datamodel.messages.MessageFactory;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.FeatureTuple;
 import wres.datamodel.thresholds.OneOrTwoThresholds;
+import wres.datamodel.thresholds.ThresholdOuter;
 import wres.datamodel.time.TimeSeriesSlicer;
 import wres.datamodel.time.TimeWindowOuter;
 import wres.statistics.generated.GeometryGroup;
@@ -420,6 +422,191 @@ public class PoolSlicer
         return poolBuilder.build();
     }
 
+    /**
+     * Sorts each pool of single-valued pairs once, so that the pools can be sliced by several thresholds in turn. See
+     * {@link #filter(Map, Map, Function, PoolMetadata, PoolMetadata, UnaryOperator, String)} and
+     * {@link #transformToDichotomous(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator)}.
+     *
+     * @param <T> the metadata attribute
+     * @param pools the pools to sort
+     * @return the sorted pools
+     * @throws NullPointerException if the pools are null
+     */
+
+    public static <T extends Comparable<T>> Map<T, SortedPool> sort( Map<T, Pool<Pair<Double, Double>>> pools )
+    {
+        Objects.requireNonNull( pools );
+
+        Map<T, SortedPool> sorted = new TreeMap<>();
+        pools.forEach( ( key, pool ) -> sorted.put( key, SortedPool.of( pool ) ) );
+
+        return Collections.unmodifiableMap( sorted );
+    }
+
+    /**
+     * Applies an attribute-specific threshold to the corresponding attribute-specific subset of sorted pairs and
+     * returns the union of those filtered subsets. Equivalent to
+     * {@link #filter(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator, String)} with the predicate that applies each
+     * threshold to the prescribed side of the pairs, but finds the pairs that meet each threshold with a binary search.
+     *
+     * @param <T> the metadata attribute
+     * @param pools the sorted pools to filter
+     * @param thresholds the thresholds to use
+     * @param sideMapper maps each threshold to the side of the pairs to which it is applied
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition
+     * @param metaTransformer the metadata transformer, not null
+     * @param filterName a human-readable filter name to help with messaging when filters and pools cannot be correlated
+     * @return the union of the subsets, each subset filtered by an attribute-specific threshold
+     * @throws NullPointerException if any required input is null
+     * @throws PoolException if the pool could not be filtered for any reason
+     */
+
+    public static <T extends Comparable<T>> Pool<Pair<Double, Double>> filter( Map<T, SortedPool> pools,
+                                                                               Map<T, ThresholdOuter> thresholds,
+                                                                               Function<ThresholdOuter, SortedPool.Side> sideMapper,
+                                                                               PoolMetadata composedMetadata,
+                                                                               PoolMetadata composedBaselineMetadata,
+                                                                               UnaryOperator<PoolMetadata> metaTransformer,
+                                                                               String filterName )
+    {
+        Objects.requireNonNull( pools );
+        Objects.requireNonNull( thresholds );
+        Objects.requireNonNull( sideMapper );
+        Objects.requireNonNull( composedMetadata );
+        Objects.requireNonNull( metaTransformer );
+
+        Pool.Builder<Pair<Double, Double>> poolBuilder = new Pool.Builder<>();
+        PoolSlicer.setComposedMetadata( poolBuilder, composedMetadata, composedBaselineMetadata, metaTransformer );
+
+        // Iterate the pools and apply the thresholds
+        Set<T> poolsWithoutThreshold = new HashSet<>();
+
+        for ( Map.Entry<T, SortedPool> nextEntry : pools.entrySet() )
+        {
+            T nextKey = nextEntry.getKey();
+            ThresholdOuter nextThreshold = thresholds.get( nextKey );
+
+            if ( Objects.nonNull( nextThreshold ) )
+            {
+                SortedPool.Side side = sideMapper.apply( nextThreshold );
+                Pool<Pair<Double, Double>> filtered = nextEntry.getValue()
+                                                               .filter( nextThreshold, side, metaTransformer );
+                poolBuilder.addPool( filtered );
+            }
+            else
+            {
+                poolsWithoutThreshold.add( nextKey );
+            }
+        }
+
+        // As for predicates, no pool can be filtered, so return the empty pool
+        if ( !pools.isEmpty()
+             && poolsWithoutThreshold.size() == pools.size() )
+        {
+            LOGGER.warn( "Failed to apply attribute-specific thresholds to a pool for the filter '{}'. This occurs when "
+                         + "a sub-pool and threshold are both available, but not for a common metadata attribute, such "
+                         + "as a common geographic feature. Consequently, the following pool is unavailable for the "
+                         + "filter '{}': {}.",
+                         filterName,
+                         filterName,
+                         composedMetadata );
+
+            Pool.Builder<Pair<Double, Double>> emptyBuilder = new Pool.Builder<>();
+            PoolSlicer.setComposedMetadata( emptyBuilder,
+                                            composedMetadata,
+                                            composedBaselineMetadata,
+                                            metaTransformer );
+            return emptyBuilder.build();
+        }
+        else if ( !poolsWithoutThreshold.isEmpty() )
+        {
+            LOGGER.debug( "When filtering a pool into smaller pools by metadata attribute, failed to correlate some "
+                          + "attributes with thresholds: {}. Consequently, no filtered pool was identified for any of "
+                          + "these attribute instances and they will not be included in the evaluation.",
+                          poolsWithoutThreshold );
+        }
+
+        return poolBuilder.build();
+    }
+
+    /**
+     * Applies an attribute-specific threshold to the corresponding attribute-specific subset of sorted pairs, mapping
+     * each pair to a dichotomous pair that indicates whether the left and right values meet the threshold, and returns
+     * the union of those transformed subsets. Equivalent to
+     * {@link #transform(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator)} with the corresponding transformers,
+     * except that the counts of each dichotomous outcome are found with a binary search and the dichotomous pairs are
+     * grouped by outcome.
+     *
+     * @param <T> the metadata attribute
+     * @param pools the sorted pools to transform
+     * @param thresholds the thresholds to use
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition
+     * @param metaTransformer the function that transforms the pool metadata to reflect the transformation of the pool
+     * @return the union of the transformed subsets
+     * @throws NullPointerException if any required input is null
+     * @throws PoolException if the pool could not be transformed for any reason
+     */
+
+    public static <T extends Comparable<T>> Pool<Pair<Boolean, Boolean>> transformToDichotomous( Map<T, SortedPool> pools,
+                                                                                                 Map<T, ThresholdOuter> thresholds,
+                                                                                                 PoolMetadata composedMetadata,
+                                                                                                 PoolMetadata composedBaselineMetadata,
+                                                                                                 UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( pools );
+        Objects.requireNonNull( thresholds );
+        Objects.requireNonNull( composedMetadata );
+        Objects.requireNonNull( metaTransformer );
+
+        Pool.Builder<Pair<Boolean, Boolean>> poolBuilder = new Pool.Builder<>();
+        PoolSlicer.setComposedMetadata( poolBuilder, composedMetadata, composedBaselineMetadata, metaTransformer );
+
+        // Iterate the pools and apply the thresholds
+        Set<T> keysWithoutThreshold = new HashSet<>();
+
+        for ( Map.Entry<T, SortedPool> nextEntry : pools.entrySet() )
+        {
+            T nextKey = nextEntry.getKey();
+            ThresholdOuter nextThreshold = thresholds.get( nextKey );
+
+            if ( Objects.nonNull( nextThreshold ) )
+            {
+                Pool<Pair<Boolean, Boolean>> transformed = nextEntry.getValue()
+                                                                    .transformToDichotomous( nextThreshold,
+                                                                                             metaTransformer );
+                poolBuilder.addPool( transformed );
+            }
+            else
+            {
+                keysWithoutThreshold.add( nextKey );
+            }
+        }
+
+        if ( !pools.isEmpty()
+             && keysWithoutThreshold.size() == pools.size() )
+        {
+            throw new PoolException( "Failed to apply attribute-specific thresholds to a pool. This probably occurred "
+                                     + "because one of the smaller pools from which the pool was constructed had "
+                                     + "incorrect metadata. Failed to identify a threshold for any of these metadata "
+                                     + "attribute instances: "
+                                     + keysWithoutThreshold
+                                     + ". These thresholds were available: "
+                                     + thresholds
+                                     + "." );
+        }
+        else if ( !keysWithoutThreshold.isEmpty() )
+        {
+            LOGGER.debug( "When transforming a pool into smaller pools by metadata attribute, failed to correlate some "
+                          + "attributes with thresholds: {}. Consequently, no transformed pool was identified for "
+                          + "any of these attribute instances and they will not be included in the evaluation.",
+                          keysWithoutThreshold );
+        }
+
+        return poolBuilder.build();
+    }
+
     /**
      * Counts the number of time-series events in the main pool.
      *
@@ -707,6 +894,30 @@ public class PoolSlicer
         return PoolMetadata.of( test.getEvaluation(), builder.build() );
     }
 
+    /**
+     * Sets the overall metadata of a composed pool.
+     *
+     * @param poolBuilder the pool builder
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition, possibly null
+     * @param metaTransformer the metadata transformer
+     */
+
+    private static void setComposedMetadata( Pool.Builder<?> poolBuilder,
+                                             PoolMetadata composedMetadata,
+                                             PoolMetadata composedBaselineMetadata,
+                                             UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        PoolMetadata mapped = metaTransformer.apply( composedMetadata );
+        poolBuilder.setMetadata( mapped );
+
+        if ( Objects.nonNull( composedBaselineMetadata ) )
+        {
+            PoolMetadata mappedBaseline = metaTransformer.apply( composedBaselineMetadata );
+            poolBuilder.setMetadataForBaseline( mappedBaseline );
+        }
+    }
+
     /**
      * Adds a region name to the set of region names.
      * @param regionNames the region names
@@ -0,0 +1,170 @@
+package wres.datamodel.pools;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import wres.datamodel.types.Ensemble;
+
+/**
+ * <p>The ensemble pairs of a {@link Pool} in a flat, row-major matrix, where each row contains the observed value and
+ * the sorted ensemble members of one pair, in the order of {@link Pool#get()}. The ensembles may contain a varying
+ * number of members. Each ensemble is sorted once when the matrix is built, rather than once for each metric that
+ * requires sorted members.
+ *
+ * <p>The matrix is not cached. A caller that computes several metrics for the same pool should build the matrix once and
+ * supply it to each metric.
+ *
+ * @author James Brown
+ */
+
+public class SortedEnsembleMatrix
+{
+    /** The observed values by row. */
+    private final double[] observed;
+
+    /** The sorted ensemble members of every row, one row after another. */
+    private final double[] members;
+
+    /** The offset of each row within the members, plus the total number of members at the end. */
+    private final int[] offsets;
+
+    /** The row indexes grouped by ensemble size, in ascending order of size. */
+    private final SortedMap<Integer, int[]> rowsBySize;
+
+    /**
+     * Builds a matrix from a list of pairs, such as the pairs of a {@link Pool}.
+     *
+     * @param pairs the pairs
+     * @return the matrix
+     * @throws NullPointerException if the pairs are null
+     */
+
+    public static SortedEnsembleMatrix of( List<Pair<Double, Ensemble>> pairs )
+    {
+        return new SortedEnsembleMatrix( pairs );
+    }
+
+    /**
+     * @return the number of rows, which is the number of pairs
+     */
+
+    public int getRowCount()
+    {
+        return this.observed.length;
+    }
+
+    /**
+     * @param row the row index
+     * @return the observed value
+     */
+
+    public double getObserved( int row )
+    {
+        return this.observed[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the number of ensemble members in the row
+     */
+
+    public int getMemberCount( int row )
+    {
+        return this.offsets[row + 1] - this.offsets[row];
+    }
+
+    /**
+     * @param row the row index
+     * @param index the index of the member within the sorted members
+     * @return the sorted ensemble member
+     * @throws IndexOutOfBoundsException if the index is not within the row
+     */
+
+    public double getMember( int row, int index )
+    {
+        Objects.checkIndex( index, this.getMemberCount( row ) );
+        return this.members[this.offsets[row] + index];
+    }
+
+    /**
+     * @param row the row index
+     * @return a copy of the sorted ensemble members in the row
+     */
+
+    public double[] getSortedMembers( int row )
+    {
+        return Arrays.copyOfRange( this.members, this.offsets[row], this.offsets[row + 1] );
+    }
+
+    /**
+     * Returns the row indexes grouped by the number of ensemble members, in ascending order of size and, within each
+     * group, in the order of the pairs. This is equivalent to
+     * {@link wres.datamodel.Slicer#filterByRightSize(List)}. The arrays of row indexes must not be modified.
+     *
+     * @return the row indexes by ensemble size
+     */
+
+    public SortedMap<Integer, int[]> getRowsBySize()
+    {
+        return this.rowsBySize;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param pairs the pairs
+     * @throws NullPointerException if the pairs are null
+     */
+
+    private SortedEnsembleMatrix( List<Pair<Double, Ensemble>> pairs )
+    {
+        Objects.requireNonNull( pairs );
+
+        int rows = pairs.size();
+        this.observed = new double[rows];
+        this.offsets = new int[rows + 1];
+
+        for ( int i = 0; i < rows; i++ )
+        {
+            this.offsets[i + 1] = this.offsets[i] + pairs.get( i )
+                                                         .getRight()
+                                                         .size();
+        }
+
+        this.members = new double[this.offsets[rows]];
+        Map<Integer, int[]> counts = new TreeMap<>();
+
+        for ( int i = 0; i < rows; i++ )
+        {
+            Pair<Double, Ensemble> pair = pairs.get( i );
+            this.observed[i] = pair.getLeft();
+
+            // Reuse the sorted members where the ensemble already caches them
+            double[] sorted = pair.getRight()
+                                  .getSortedMembers();
+            System.arraycopy( sorted, 0, this.members, this.offsets[i], sorted.length );
+
+            counts.computeIfAbsent( sorted.length, k -> new int[1] )[0]++;
+        }
+
+        SortedMap<Integer, int[]> bySize = new TreeMap<>();
+        counts.forEach( ( size, count ) -> bySize.put( size, new int[count[0]] ) );
+        Map<Integer, int[]> positions = new TreeMap<>();
+
+        for ( int i = 0; i < rows; i++ )
+        {
+            int size = this.getMemberCount( i );
+            int position = positions.computeIfAbsent( size, k -> new int[1] )[0]++;
+            bySize.get( size )[position] = i;
+        }
+
+        this.rowsBySize = Collections.unmodifiableSortedMap( bySize );
+    }
+}
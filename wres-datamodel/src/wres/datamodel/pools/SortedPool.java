@@ -0,0 +1,623 @@
+package wres.datamodel.pools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import wres.config.components.ThresholdOperator;
+import wres.datamodel.Slicer;
+import wres.datamodel.thresholds.ThresholdOuter;
+
+/**
+ * <p>A view of a {@link Pool} of single-valued pairs whose pairs are sorted once by the left value, the right value
+ * and the smaller and larger of the two values. A pool is often sliced by many thresholds in turn and each threshold
+ * selects a contiguous range of pairs in one of these orders, which is found with a binary search, rather than testing
+ * every pair against every threshold. The orders are computed on first use.
+ *
+ * <p>The subset of pairs selected by a threshold is returned in the original order of the pairs, so that slicing is
+ * equivalent to filtering the pool with the corresponding {@link java.util.function.Predicate}. Dichotomous pairs are
+ * returned in contingency table order, i.e., grouped by outcome, which preserves the counts of each outcome.
+ *
+ * <p>A threshold that does not select one contiguous range of sorted pairs, such as a {@link ThresholdOperator#EQUAL}
+ * threshold, which is tested with a tolerance, or a {@link ThresholdOperator#BETWEEN} threshold applied to both sides,
+ * is applied to each pair in turn.
+ *
+ * @author James Brown
+ */
+
+public class SortedPool
+{
+    /** The side of the pairs to which a threshold is applied. */
+    public enum Side
+    {
+        /** The left value. */
+        LEFT,
+        /** The right value. */
+        RIGHT,
+        /** Both the left and right values. */
+        LEFT_AND_RIGHT
+    }
+
+    /** A dichotomous pair whose left and right values both meet the threshold. */
+    private static final Pair<Boolean, Boolean> TRUE_TRUE = Pair.of( true, true );
+
+    /** A dichotomous pair whose left value meets the threshold and right value does not. */
+    private static final Pair<Boolean, Boolean> TRUE_FALSE = Pair.of( true, false );
+
+    /** A dichotomous pair whose right value meets the threshold and left value does not. */
+    private static final Pair<Boolean, Boolean> FALSE_TRUE = Pair.of( false, true );
+
+    /** A dichotomous pair whose left and right values both fail to meet the threshold. */
+    private static final Pair<Boolean, Boolean> FALSE_FALSE = Pair.of( false, false );
+
+    /** The pool. */
+    private final Pool<Pair<Double, Double>> pool;
+
+    /** The sorted pairs of each mini-pool. */
+    private final List<SortedPairs> main;
+
+    /** The sorted baseline pairs of each mini-pool, empty if there is no baseline. */
+    private final List<SortedPairs> baseline;
+
+    /**
+     * Creates an instance.
+     *
+     * @param pool the pool to sort
+     * @return the sorted pool
+     * @throws NullPointerException if the pool is null
+     */
+
+    public static SortedPool of( Pool<Pair<Double, Double>> pool )
+    {
+        return new SortedPool( pool );
+    }
+
+    /**
+     * @return the pool
+     */
+
+    public Pool<Pair<Double, Double>> getPool()
+    {
+        return this.pool;
+    }
+
+    /**
+     * Returns the subset of pairs that meet the threshold on the prescribed side, which is equivalent to
+     * {@link PoolSlicer#filter(Pool, java.util.function.Predicate, java.util.function.DoublePredicate, UnaryOperator)}
+     * without a climatological filter.
+     *
+     * @param threshold the threshold
+     * @param side the side of the pairs to which the threshold is applied
+     * @param metaTransformer the metadata transformer
+     * @return the subset of pairs that meet the threshold
+     * @throws NullPointerException if any input is null
+     */
+
+    public Pool<Pair<Double, Double>> filter( ThresholdOuter threshold,
+                                              Side side,
+                                              UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( threshold );
+        Objects.requireNonNull( side );
+        Objects.requireNonNull( metaTransformer );
+
+        Key key = SortedPool.getKey( threshold, side );
+        Predicate<Pair<Double, Double>> predicate = SortedPool.getPredicate( threshold, side );
+        Pool.Builder<Pair<Double, Double>> poolBuilder = new Pool.Builder<>();
+
+        if ( this.pool.hasClimatology() )
+        {
+            poolBuilder.setClimatology( this.pool.getClimatology() );
+        }
+
+        List<Pool<Pair<Double, Double>>> miniPools = this.pool.getMiniPools();
+        for ( int i = 0; i < miniPools.size(); i++ )
+        {
+            Pool<Pair<Double, Double>> next = miniPools.get( i );
+            Pool.Builder<Pair<Double, Double>> builder = new Pool.Builder<>();
+            builder.addData( this.main.get( i )
+                                      .filter( threshold, key, predicate ) )
+                   .setMetadata( metaTransformer.apply( next.getMetadata() ) );
+
+            if ( next.hasClimatology() )
+            {
+                builder.setClimatology( next.getClimatology() );
+            }
+
+            if ( next.hasBaseline() )
+            {
+                builder.addDataForBaseline( this.baseline.get( i )
+                                                         .filter( threshold, key, predicate ) )
+                       .setMetadataForBaseline( metaTransformer.apply( next.getBaselineData()
+                                                                           .getMetadata() ) );
+            }
+
+            poolBuilder.addPool( builder.build() );
+        }
+
+        this.setMetadata( poolBuilder, metaTransformer );
+
+        return poolBuilder.build();
+    }
+
+    /**
+     * Transforms the pairs to dichotomous pairs, each of which indicates whether the left and right values meet the
+     * threshold, which is equivalent to {@link PoolSlicer#transform(Pool, java.util.function.Function, UnaryOperator)}
+     * with the corresponding transformer, except that the pairs are grouped by outcome when the threshold selects a
+     * contiguous range of sorted pairs.
+     *
+     * @param threshold the threshold
+     * @param metaTransformer the metadata transformer
+     * @return the dichotomous pairs
+     * @throws NullPointerException if any input is null
+     */
+
+    public Pool<Pair<Boolean, Boolean>> transformToDichotomous( ThresholdOuter threshold,
+                                                                UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( threshold );
+        Objects.requireNonNull( metaTransformer );
+
+        Key both = SortedPool.getKey( threshold, Side.LEFT_AND_RIGHT );
+        Pool.Builder<Pair<Boolean, Boolean>> poolBuilder = new Pool.Builder<>();
+
+        if ( this.pool.hasClimatology() )
+        {
+            poolBuilder.setClimatology( this.pool.getClimatology() );
+        }
+
+        List<Pool<Pair<Double, Double>>> miniPools = this.pool.getMiniPools();
+        for ( int i = 0; i < miniPools.size(); i++ )
+        {
+            Pool<Pair<Double, Double>> next = miniPools.get( i );
+            Pool.Builder<Pair<Boolean, Boolean>> builder = new Pool.Builder<>();
+            builder.addData( this.main.get( i )
+                                      .transformToDichotomous( threshold, both ) )
+                   .setMetadata( metaTransformer.apply( next.getMetadata() ) );
+
+            if ( next.hasClimatology() )
+            {
+                builder.setClimatology( next.getClimatology() );
+            }
+
+            if ( next.hasBaseline() )
+            {
+                builder.addDataForBaseline( this.baseline.get( i )
+                                                         .transformToDichotomous( threshold, both ) )
+                       .setMetadataForBaseline( metaTransformer.apply( next.getBaselineData()
+                                                                           .getMetadata() ) );
+            }
+
+            poolBuilder.addPool( builder.build() );
+        }
+
+        this.setMetadata( poolBuilder, metaTransformer );
+
+        return poolBuilder.build();
+    }
+
+    /**
+     * Sets the overall metadata.
+     * @param poolBuilder the pool builder
+     * @param metaTransformer the metadata transformer
+     */
+
+    private void setMetadata( Pool.Builder<?> poolBuilder, UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        poolBuilder.setMetadata( metaTransformer.apply( this.pool.getMetadata() ) );
+
+        if ( this.pool.hasBaseline() )
+        {
+            poolBuilder.setMetadataForBaseline( metaTransformer.apply( this.pool.getBaselineData()
+                                                                                .getMetadata() ) );
+        }
+    }
+
+    /**
+     * Returns a predicate that applies the threshold to the prescribed side of each pair.
+     * @param threshold the threshold
+     * @param side the side
+     * @return the predicate
+     */
+
+    private static Predicate<Pair<Double, Double>> getPredicate( ThresholdOuter threshold, Side side )
+    {
+        return switch ( side )
+        {
+            case LEFT -> Slicer.left( threshold );
+            case RIGHT -> Slicer.right( threshold );
+            case LEFT_AND_RIGHT -> Slicer.leftAndRight( threshold );
+        };
+    }
+
+    /**
+     * Returns the sort key whose contiguous range of values meets the threshold applied to the prescribed side of the
+     * pairs. Both sides meet a lower bound when the smaller value meets it and an upper bound when the larger value
+     * meets it.
+     *
+     * @param threshold the threshold
+     * @param side the side
+     * @return the key or null if the threshold does not select a contiguous range of values
+     */
+
+    private static Key getKey( ThresholdOuter threshold, Side side )
+    {
+        ThresholdOperator operator = threshold.getOperator();
+        double[] bounds = SortedPool.getBounds( threshold );
+
+        if ( operator == ThresholdOperator.EQUAL
+             || Double.isNaN( bounds[0] )
+             || Double.isNaN( bounds[1] ) )
+        {
+            return null;
+        }
+
+        return switch ( side )
+        {
+            case LEFT -> Key.LEFT;
+            case RIGHT -> Key.RIGHT;
+            case LEFT_AND_RIGHT -> switch ( operator )
+            {
+                case GREATER, GREATER_EQUAL -> Key.MINIMUM;
+                case LESS, LESS_EQUAL -> Key.MAXIMUM;
+                default -> null;
+            };
+        };
+    }
+
+    /**
+     * Returns the lower and upper bounds of the threshold in the same way as {@link ThresholdOuter#test(double)}.
+     * @param threshold the threshold
+     * @return the lower and upper bounds, the upper bound equal to the lower bound for a one-sided threshold
+     */
+
+    private static double[] getBounds( ThresholdOuter threshold )
+    {
+        Double lower;
+        Double upper;
+
+        if ( threshold.hasValues() )
+        {
+            lower = threshold.getValues()
+                             .first();
+            upper = threshold.getValues()
+                             .second();
+        }
+        else
+        {
+            lower = threshold.getProbabilities()
+                             .first();
+            upper = threshold.getProbabilities()
+                             .second();
+        }
+
+        if ( Objects.isNull( upper ) )
+        {
+            upper = lower;
+        }
+
+        return new double[] { lower, upper };
+    }
+
+    /**
+     * A value of a pair by which the pairs are sorted.
+     */
+
+    private enum Key
+    {
+        /** The left value. */
+        LEFT,
+        /** The right value. */
+        RIGHT,
+        /** The smaller of the left and right values. */
+        MINIMUM,
+        /** The larger of the left and right values. */
+        MAXIMUM;
+
+        /**
+         * @param pair the pair
+         * @return the value of the pair for this key
+         */
+
+        private double apply( Pair<Double, Double> pair )
+        {
+            return switch ( this )
+            {
+                case LEFT -> pair.getLeft();
+                case RIGHT -> pair.getRight();
+                // Math.min and Math.max return NaN when either value is NaN, which never meets a threshold
+                case MINIMUM -> Math.min( pair.getLeft(), pair.getRight() );
+                case MAXIMUM -> Math.max( pair.getLeft(), pair.getRight() );
+            };
+        }
+    }
+
+    /**
+     * The positions of a list of pairs, sorted by the value of each key, together with the sorted values. Values that
+     * are NaN never meet a threshold and are omitted.
+     *
+     * @param pairs the pairs
+     * @param orders the sorted orders, computed on first use
+     */
+
+    private record SortedPairs( List<Pair<Double, Double>> pairs, Map<Key, SortedOrder> orders )
+    {
+        /**
+         * @param pairs the pairs
+         * @return the sorted pairs
+         */
+
+        private static SortedPairs of( List<Pair<Double, Double>> pairs )
+        {
+            return new SortedPairs( pairs, new EnumMap<>( Key.class ) );
+        }
+
+        /**
+         * Returns the pairs that meet the threshold in their original order.
+         * @param threshold the threshold
+         * @param key the sort key or null to apply the predicate to each pair
+         * @param predicate the predicate
+         * @return the pairs that meet the threshold
+         */
+
+        private List<Pair<Double, Double>> filter( ThresholdOuter threshold,
+                                                   Key key,
+                                                   Predicate<Pair<Double, Double>> predicate )
+        {
+            if ( Objects.isNull( key ) )
+            {
+                return this.pairs.stream()
+                                 .filter( predicate )
+                                 .toList();
+            }
+
+            SortedOrder order = this.getOrder( key );
+            int[] range = order.getRange( threshold );
+            int count = range[1] - range[0];
+
+            // All pairs meet the threshold
+            if ( count == this.pairs.size() )
+            {
+                return this.pairs;
+            }
+
+            // Restore the original order
+            int[] positions = Arrays.copyOfRange( order.positions(), range[0], range[1] );
+            Arrays.sort( positions );
+
+            List<Pair<Double, Double>> filtered = new ArrayList<>( count );
+            for ( int next : positions )
+            {
+                filtered.add( this.pairs.get( next ) );
+            }
+
+            return Collections.unmodifiableList( filtered );
+        }
+
+        /**
+         * Returns dichotomous pairs, grouped by outcome, whose outcome counts are found from the sorted orders.
+         * @param threshold the threshold
+         * @param both the sort key for pairs whose left and right values both meet the threshold or null to apply the
+         *            threshold to each pair
+         * @return the dichotomous pairs
+         */
+
+        private List<Pair<Boolean, Boolean>> transformToDichotomous( ThresholdOuter threshold, Key both )
+        {
+            if ( Objects.isNull( both ) )
+            {
+                return this.pairs.stream()
+                                 .map( pair -> Pair.of( threshold.test( pair.getLeft() ),
+                                                        threshold.test( pair.getRight() ) ) )
+                                 .toList();
+            }
+
+            int left = this.getCount( threshold, Key.LEFT );
+            int right = this.getCount( threshold, Key.RIGHT );
+            int leftAndRight = this.getCount( threshold, both );
+            int neither = this.pairs.size() - left - right + leftAndRight;
+
+            List<Pair<Boolean, Boolean>> transformed = new ArrayList<>( this.pairs.size() );
+            transformed.addAll( Collections.nCopies( leftAndRight, TRUE_TRUE ) );
+            transformed.addAll( Collections.nCopies( left - leftAndRight, TRUE_FALSE ) );
+            transformed.addAll( Collections.nCopies( right - leftAndRight, FALSE_TRUE ) );
+            transformed.addAll( Collections.nCopies( neither, FALSE_FALSE ) );
+
+            return Collections.unmodifiableList( transformed );
+        }
+
+        /**
+         * @param threshold the threshold
+         * @param key the sort key
+         * @return the number of pairs whose value for the key meets the threshold
+         */
+
+        private int getCount( ThresholdOuter threshold, Key key )
+        {
+            int[] range = this.getOrder( key )
+                              .getRange( threshold );
+            return range[1] - range[0];
+        }
+
+        /**
+         * @param key the sort key
+         * @return the sorted order for the key
+         */
+
+        private SortedOrder getOrder( Key key )
+        {
+            synchronized ( this.orders )
+            {
+                return this.orders.computeIfAbsent( key, k -> SortedOrder.of( this.pairs, k ) );
+            }
+        }
+    }
+
+    /**
+     * The positions of pairs sorted by value and the sorted values.
+     *
+     * @param positions the positions of the pairs in sorted order
+     * @param values the sorted values
+     */
+
+    private record SortedOrder( int[] positions, double[] values )
+    {
+        /**
+         * @param pairs the pairs
+         * @param key the sort key
+         * @return the sorted order
+         */
+
+        private static SortedOrder of( List<Pair<Double, Double>> pairs, Key key )
+        {
+            double[] unsorted = new double[pairs.size()];
+            for ( int i = 0; i < unsorted.length; i++ )
+            {
+                unsorted[i] = key.apply( pairs.get( i ) );
+            }
+
+            int[] positions = IntStream.range( 0, unsorted.length )
+                                       .filter( i -> !Double.isNaN( unsorted[i] ) )
+                                       .boxed()
+                                       .sorted( Comparator.comparingDouble( i -> unsorted[i] ) )
+                                       .mapToInt( Integer::intValue )
+                                       .toArray();
+
+            double[] values = new double[positions.length];
+            for ( int i = 0; i < positions.length; i++ )
+            {
+                values[i] = unsorted[positions[i]];
+            }
+
+            return new SortedOrder( positions, values );
+        }
+
+        /**
+         * Returns the range of sorted positions whose values meet the threshold, consistent with
+         * {@link ThresholdOuter#test(double)}.
+         *
+         * @param threshold the threshold
+         * @return the start (inclusive) and end (exclusive) of the range
+         */
+
+        private int[] getRange( ThresholdOuter threshold )
+        {
+            double[] bounds = SortedPool.getBounds( threshold );
+            double lower = bounds[0];
+
+            int[] range = switch ( threshold.getOperator() )
+            {
+                case GREATER -> new int[] { this.firstAbove( lower ), this.values.length };
+                case GREATER_EQUAL -> new int[] { this.firstAtOrAbove( lower ), this.values.length };
+                case LESS -> new int[] { 0, this.firstAtOrAbove( lower ) };
+                case LESS_EQUAL -> new int[] { 0, this.firstAbove( lower ) };
+                case BETWEEN -> new int[] { this.firstAbove( lower ), this.firstAbove( bounds[1] ) };
+                case EQUAL -> throw new IllegalArgumentException( "Cannot find the range of an equality "
+                                                                  + "threshold." );
+            };
+
+            // Empty range for an inverted interval
+            if ( range[1] < range[0] )
+            {
+                range[1] = range[0];
+            }
+
+            return range;
+        }
+
+        /**
+         * @param bound the bound
+         * @return the first sorted position whose value is greater than the bound
+         */
+
+        private int firstAbove( double bound )
+        {
+            int low = 0;
+            int high = this.values.length;
+            while ( low < high )
+            {
+                int middle = ( low + high ) >>> 1;
+                if ( this.values[middle] <= bound )
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * @param bound the bound
+         * @return the first sorted position whose value is greater than or equal to the bound
+         */
+
+        private int firstAtOrAbove( double bound )
+        {
+            int low = 0;
+            int high = this.values.length;
+            while ( low < high )
+            {
+                int middle = ( low + high ) >>> 1;
+                if ( this.values[middle] < bound )
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param pool the pool
+     * @throws NullPointerException if the pool is null
+     */
+
+    private SortedPool( Pool<Pair<Double, Double>> pool )
+    {
+        Objects.requireNonNull( pool );
+
+        this.pool = pool;
+
+        List<SortedPairs> mainInner = new ArrayList<>();
+        List<SortedPairs> baselineInner = new ArrayList<>();
+
+        for ( Pool<Pair<Double, Double>> next : pool.getMiniPools() )
+        {
+            mainInner.add( SortedPairs.of( next.get() ) );
+
+            if ( next.hasBaseline() )
+            {
+                baselineInner.add( SortedPairs.of( next.getBaselineData()
+                                                       .get() ) );
+            }
+            else
+            {
+                baselineInner.add( null );
+            }
+        }
+
+        this.main = Collections.unmodifiableList( mainInner );
+        this.baseline = Collections.unmodifiableList( baselineInner );
+    }
+}
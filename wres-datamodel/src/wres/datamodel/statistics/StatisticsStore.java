@@ -41,6 +41,9 @@ public class StatisticsStore
     /** Thread safe map for {@link PairsStatisticOuter}. */
     private final List<Future<List<PairsStatisticOuter>>> pairsStatistics = new ArrayList<>();
 
+    /** Thread safe map for the intermediate statistics, which may be combined across pools and completed later. */
+    private final List<Future<List<Statistic<?>>>> intermediateStatistics = new ArrayList<>();
+
     /** Minimum sample size used when forming the statistics. */
     private final int minimumSampleSize;
 
@@ -84,7 +87,7 @@ public class StatisticsStore
     public List<DoubleScoreStatisticOuter> getDoubleScoreStatistics()
             throws InterruptedException
     {
-        return this.unwrap( StatisticType.DOUBLE_SCORE, this.doubleScores );
+        return this.unwrap( StatisticType.DOUBLE_SCORE.name(), this.doubleScores );
     }
 
     /**
@@ -98,7 +101,7 @@ public class StatisticsStore
     public List<DurationScoreStatisticOuter> getDurationScoreStatistics()
             throws InterruptedException
     {
-        return this.unwrap( StatisticType.DURATION_SCORE, this.durationScores );
+        return this.unwrap( StatisticType.DURATION_SCORE.name(), this.durationScores );
     }
 
     /**
@@ -112,7 +115,7 @@ public class StatisticsStore
     public List<DiagramStatisticOuter> getDiagramStatistics()
             throws InterruptedException
     {
-        return this.unwrap( StatisticType.DIAGRAM, this.diagrams );
+        return this.unwrap( StatisticType.DIAGRAM.name(), this.diagrams );
     }
 
     /**
@@ -125,7 +128,7 @@ public class StatisticsStore
 
     public List<BoxplotStatisticOuter> getBoxPlotStatisticsPerPair() throws InterruptedException
     {
-        return this.unwrap( StatisticType.BOXPLOT_PER_PAIR, this.boxplotPerPair );
+        return this.unwrap( StatisticType.BOXPLOT_PER_PAIR.name(), this.boxplotPerPair );
     }
 
     /**
@@ -138,7 +141,7 @@ public class StatisticsStore
 
     public List<BoxplotStatisticOuter> getBoxPlotStatisticsPerPool() throws InterruptedException
     {
-        return this.unwrap( StatisticType.BOXPLOT_PER_POOL, this.boxplotPerPool );
+        return this.unwrap( StatisticType.BOXPLOT_PER_POOL.name(), this.boxplotPerPool );
     }
 
     /**
@@ -152,7 +155,7 @@ public class StatisticsStore
     public List<DurationDiagramStatisticOuter> getDurationDiagramStatistics()
             throws InterruptedException
     {
-        return this.unwrap( StatisticType.DURATION_DIAGRAM, this.durationDiagrams );
+        return this.unwrap( StatisticType.DURATION_DIAGRAM.name(), this.durationDiagrams );
     }
 
     /**
@@ -166,7 +169,23 @@ public class StatisticsStore
     public List<PairsStatisticOuter> getPairsStatistics()
             throws InterruptedException
     {
-        return this.unwrap( StatisticType.PAIRS, this.pairsStatistics );
+        return this.unwrap( StatisticType.PAIRS.name(), this.pairsStatistics );
+    }
+
+    /**
+     * Returns a {@link List} of intermediate statistics, such as the sufficient statistics of a pool, which may be
+     * combined with the intermediate statistics of other pools and completed later, such as when calculating summary
+     * statistics across pools.
+     *
+     * @return the intermediate statistics
+     * @throws StatisticException if the statistics could not be retrieved
+     * @throws InterruptedException if the retrieval was interrupted
+     */
+
+    public List<Statistic<?>> getIntermediateStatistics()
+            throws InterruptedException
+    {
+        return this.unwrap( "INTERMEDIATE", this.intermediateStatistics );
     }
 
     /**
@@ -233,6 +252,10 @@ public class StatisticsStore
         private final ConcurrentLinkedQueue<Future<List<PairsStatisticOuter>>> pairsStatisticsInternal =
                 new ConcurrentLinkedQueue<>();
 
+        /** Thread safe map for the intermediate statistics. */
+        private final ConcurrentLinkedQueue<Future<List<Statistic<?>>>> intermediateStatisticsInternal =
+                new ConcurrentLinkedQueue<>();
+
         /** Minimum sample size used when forming the statistics. */
         private int minimumSampleSize;
 
@@ -341,6 +364,20 @@ public class StatisticsStore
             return this;
         }
 
+        /**
+         * Adds the intermediate statistics for a collection of metrics to the internal store.
+         *
+         * @param result the result
+         * @return the builder
+         */
+
+        public Builder addIntermediateStatistics( Future<List<Statistic<?>>> result )
+        {
+            this.intermediateStatisticsInternal.add( result );
+
+            return this;
+        }
+
         /**
          * Adds an existing set of statistics to the builder.
          *
@@ -389,6 +426,11 @@ public class StatisticsStore
                 this.addPairsStatistics( CompletableFuture.completedFuture( project.getPairsStatistics() ) );
             }
 
+            if ( !project.intermediateStatistics.isEmpty() )
+            {
+                this.addIntermediateStatistics( CompletableFuture.completedFuture( project.getIntermediateStatistics() ) );
+            }
+
             return this;
         }
 
@@ -433,6 +475,7 @@ public class StatisticsStore
         this.boxplotPerPool.addAll( builder.boxplotPerPoolInternal );
         this.durationDiagrams.addAll( builder.durationDiagramsInternal );
         this.pairsStatistics.addAll( builder.pairsStatisticsInternal );
+        this.intermediateStatistics.addAll( builder.intermediateStatisticsInternal );
         this.minimumSampleSize = builder.minimumSampleSize;
     }
 
@@ -441,14 +484,14 @@ public class StatisticsStore
      * returning a map of the unwrapped entries.
      *
      * @param <T> the type of statistic
-     * @param statsGroup the {@link StatisticType} for error logging
+     * @param statsGroup the name of the statistics group for error logging
      * @param wrapped the list of values wrapped in {@link Future}
      * @return the unwrapped map
      * @throws InterruptedException if the retrieval is interrupted
      * @throws StatisticException if the result could not be produced
      */
 
-    private <T extends Statistic<?>> List<T> unwrap( StatisticType statsGroup,
+    private <T extends Statistic<?>> List<T> unwrap( String statsGroup,
                                                      List<Future<List<T>>> wrapped )
             throws InterruptedException
     {
@@ -66,6 +66,12 @@ public class DefaultEvent<T> implements Event<T>
     @Override
     public boolean equals( Object o )
     {
+        // Consistent with the equality of a real-valued event
+        if ( o instanceof DoubleEvent doubleEvent )
+        {
+            return doubleEvent.equals( this );
+        }
+
         if ( ! ( o instanceof DefaultEvent<?> inEvent ) )
         {
             return false;
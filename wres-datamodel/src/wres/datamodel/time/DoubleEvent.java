@@ -67,13 +67,16 @@ public final class DoubleEvent implements Event<Double>
     @Override
     public boolean equals( Object o )
     {
-        if ( !( o instanceof DoubleEvent inEvent ) )
+        // Equal to any event with a real value, regardless of implementation, since a time-series may store its
+        // events in columns and create events of this type on demand
+        if ( !( o instanceof Event<?> inEvent )
+             || !( inEvent.getValue() instanceof Double inValue ) )
         {
             return false;
         }
 
-        return Precision.equalsIncludingNaN( inEvent.value, this.value, Precision.EPSILON )
-               && inEvent.eventTime.equals( this.eventTime );
+        return Precision.equalsIncludingNaN( inValue, this.value, Precision.EPSILON )
+               && this.eventTime.equals( inEvent.getTime() );
     }
 
     @Override
@@ -0,0 +1,231 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * <p>A sorted, time-indexed, view of a {@link TimeSeries} that supports positional access to its events and a binary
+ * search by valid time. The view is intended to be built once for a time-series that is re-used many times, such as
+ * a long time-series of observations that is paired with many forecasts, and it avoids hashing or boxing the valid
+ * times on each use.
+ *
+ * <p>When the time-series is stored in {@link TimeSeriesColumns}, the view reads the columns directly and creates
+ * events on demand. Otherwise, the events are copied once into an indexed list and their valid times are decomposed
+ * into epoch seconds and nanoseconds.
+ *
+ * @param <T> the type of event value
+ * @author James Brown
+ */
+
+@Immutable
+public final class IndexedTimeSeries<T>
+{
+    /** The time-series. */
+    private final TimeSeries<T> timeSeries;
+
+    /** The columns, if available, else null. */
+    private final TimeSeriesColumns columns;
+
+    /** The events in time order when the time-series is not columnar, else null. */
+    private final List<Event<T>> events;
+
+    /** The epoch seconds of the valid times when the time-series is not columnar, else null. */
+    private final long[] seconds;
+
+    /** The nanoseconds of the valid times when the time-series is not columnar, else null. */
+    private final int[] nanos;
+
+    /**
+     * Creates an instance.
+     *
+     * @param <T> the type of event value
+     * @param timeSeries the time-series to index
+     * @return the indexed time-series
+     * @throws NullPointerException if the timeSeries is null
+     */
+
+    public static <T> IndexedTimeSeries<T> of( TimeSeries<T> timeSeries )
+    {
+        return new IndexedTimeSeries<>( timeSeries );
+    }
+
+    /**
+     * @return the time-series that is indexed
+     */
+
+    public TimeSeries<T> getTimeSeries()
+    {
+        return this.timeSeries;
+    }
+
+    /**
+     * @return the number of events
+     */
+
+    public int size()
+    {
+        if ( Objects.nonNull( this.columns ) )
+        {
+            return this.columns.size();
+        }
+
+        return this.events.size();
+    }
+
+    /**
+     * Returns the event at the prescribed index.
+     *
+     * @param index the index
+     * @return the event
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public Event<T> getEvent( int index )
+    {
+        if ( Objects.nonNull( this.columns ) )
+        {
+            return this.columns.getEvent( index );
+        }
+
+        return this.events.get( index );
+    }
+
+    /**
+     * Returns the epoch seconds of the valid time at the prescribed index.
+     *
+     * @param index the index
+     * @return the epoch seconds
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public long getSeconds( int index )
+    {
+        if ( Objects.nonNull( this.columns ) )
+        {
+            return this.columns.getTime( index );
+        }
+
+        return this.seconds[index];
+    }
+
+    /**
+     * Returns the nanosecond adjustment of the valid time at the prescribed index.
+     *
+     * @param index the index
+     * @return the nanoseconds
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public int getNanos( int index )
+    {
+        if ( Objects.nonNull( this.columns ) )
+        {
+            // Columnar times are whole seconds
+            Objects.checkIndex( index, this.columns.size() );
+            return 0;
+        }
+
+        return this.nanos[index];
+    }
+
+    /**
+     * Returns the index of the first event whose valid time is equal to or later than the prescribed time or
+     * {@link #size()} if there is no such event.
+     *
+     * @param seconds the epoch seconds
+     * @param nanos the nanoseconds
+     * @return the lower bound
+     */
+
+    public int getLowerBound( long seconds, int nanos )
+    {
+        int low = 0;
+        int high = this.size();
+
+        while ( low < high )
+        {
+            int mid = ( low + high ) >>> 1;
+            if ( this.compare( mid, seconds, nanos ) < 0 )
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Compares the valid time at the prescribed index with the prescribed time.
+     *
+     * @param index the index
+     * @param seconds the epoch seconds
+     * @param nanos the nanoseconds
+     * @return a negative integer, zero, or a positive integer as the valid time at the index is earlier than, equal
+     *            to, or later than the prescribed time
+     */
+
+    public int compare( int index, long seconds, int nanos )
+    {
+        int compare = Long.compare( this.getSeconds( index ), seconds );
+
+        if ( compare != 0 )
+        {
+            return compare;
+        }
+
+        return Integer.compare( this.getNanos( index ), nanos );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "IndexedTimeSeries[" + this.timeSeries.getMetadata() + ", size=" + this.size() + "]";
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param timeSeries the time-series to index
+     * @throws NullPointerException if the timeSeries is null
+     */
+
+    private IndexedTimeSeries( TimeSeries<T> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        this.timeSeries = timeSeries;
+
+        if ( timeSeries.hasColumns() )
+        {
+            this.columns = timeSeries.getColumns();
+            this.events = null;
+            this.seconds = null;
+            this.nanos = null;
+        }
+        else
+        {
+            this.columns = null;
+            this.events = new ArrayList<>( timeSeries.getEvents() );
+
+            int size = this.events.size();
+            this.seconds = new long[size];
+            this.nanos = new int[size];
+
+            for ( int i = 0; i < size; i++ )
+            {
+                Instant time = this.events.get( i )
+                                          .getTime();
+                this.seconds[i] = time.getEpochSecond();
+                this.nanos[i] = time.getNano();
+            }
+        }
+    }
+}
@@ -166,6 +166,42 @@ class RescalingHelper
                                                             Unit<?> desiredUnit,
                                                             SortedSet<Instant> endsAt,
                                                             boolean lenient )
+    {
+        return RescalingHelper.upscale( timeSeries,
+                                        upscaler,
+                                        null,
+                                        desiredTimeScale,
+                                        existingUnit,
+                                        desiredUnit,
+                                        endsAt,
+                                        lenient );
+    }
+
+    /**
+     * Conducts upscaling of a time-series, upscaling the events by index where an {@link IntervalUpscaler} is
+     * available for the time-series and the desired time scale has no month-days.
+     *
+     * @param <T> the type of event value to upscale
+     * @param timeSeries the time-series, required
+     * @param upscaler the function that upscales the event values
+     * @param intervalUpscalers the function that creates an interval upscaler or null, optional
+     * @param desiredTimeScale the desired time scale, required
+     * @param existingUnit the existing measurement unit, optional
+     * @param desiredUnit the desired measurement unit, optional
+     * @param endsAt the set of times at which upscaled values should end, required
+     * @param lenient is true to upscale irregularly spaced data (e.g., due to missing values)
+     * @return the upscaled time-series and associated validation events
+     * @throws NullPointerException if any required input is null
+     */
+
+    static <T> RescaledTimeSeriesPlusValidation<T> upscale( TimeSeries<T> timeSeries,
+                                                            Function<SortedSet<Event<T>>, T> upscaler,
+                                                            Function<TimeSeries<T>, IntervalUpscaler<T>> intervalUpscalers,
+                                                            TimeScaleOuter desiredTimeScale,
+                                                            Unit<?> existingUnit,
+                                                            Unit<?> desiredUnit,
+                                                            SortedSet<Instant> endsAt,
+                                                            boolean lenient )
     {
         Objects.requireNonNull( timeSeries );
         Objects.requireNonNull( desiredTimeScale );
@@ -282,6 +318,7 @@ class RescalingHelper
         // True upscaling needed
         return RescalingHelper.upscaleWithChangeOfPeriod( timeSeries,
                                                           upscaler,
+                                                          intervalUpscalers,
                                                           desiredTimeScale,
                                                           endsAt,
                                                           validationEvents,
@@ -355,6 +392,7 @@ class RescalingHelper
      * @param <T> the type of event value to upscale
      * @param timeSeries the time-series
      * @param upscaler the function that upscales the event values
+     * @param intervalUpscalers the function that creates an interval upscaler or null
      * @param desiredTimeScale the desired time scale
      * @param endsAt the set of times at which upscaled values should end
      * @param validationEvents the validation events
@@ -365,6 +403,7 @@ class RescalingHelper
 
     private static <T> RescaledTimeSeriesPlusValidation<T> upscaleWithChangeOfPeriod( TimeSeries<T> timeSeries,
                                                                                       Function<SortedSet<Event<T>>, T> upscaler,
+                                                                                      Function<TimeSeries<T>, IntervalUpscaler<T>> intervalUpscalers,
                                                                                       TimeScaleOuter desiredTimeScale,
                                                                                       SortedSet<Instant> endsAt,
                                                                                       List<EvaluationStatusMessage> validationEvents,
@@ -379,6 +418,25 @@ class RescalingHelper
         // Create a mutable copy of the validation events to add more, as needed
         validationEvents = new ArrayList<>( validationEvents );
 
+        // Upscale by index where possible, which avoids grouping the events for each interval
+        IntervalUpscaler<T> intervalUpscaler = null;
+        if ( Objects.nonNull( intervalUpscalers ) && !desiredTimeScale.hasMonthDays() )
+        {
+            intervalUpscaler = intervalUpscalers.apply( timeSeries );
+        }
+
+        if ( Objects.nonNull( intervalUpscaler ) )
+        {
+            TimeSeries.Builder<T> builder = RescalingHelper.upscaleByIndex( timeSeries,
+                                                                            intervalUpscaler,
+                                                                            desiredTimeScale,
+                                                                            endsAt,
+                                                                            validationEvents,
+                                                                            lenient );
+
+            return RescalingHelper.getUpscaledTimeSeries( builder, timeSeries, desiredTimeScale, validationEvents );
+        }
+
         // Get the grouped events to upscale
         Map<Instant, SortedSet<Event<T>>> groups = RescalingHelper.getGroupedEventsToUpscale( timeSeries,
                                                                                               desiredTimeScale,
@@ -411,6 +469,95 @@ class RescalingHelper
             }
         }
 
+        return RescalingHelper.getUpscaledTimeSeries( builder, timeSeries, desiredTimeScale, validationEvents );
+    }
+
+    /**
+     * Upscales the events within each interval by index, inspecting the events in full only when the interval contains
+     * fewer than two events or the events are not evenly spaced.
+     *
+     * @param <T> the type of event value to upscale
+     * @param timeSeries the time-series
+     * @param intervalUpscaler the interval upscaler
+     * @param desiredTimeScale the desired time scale, which has no month-days
+     * @param endsAt the set of times at which upscaled values should end
+     * @param validationEvents a mutable list of validation events
+     * @param lenient is true to upscale irregularly spaced data (e.g., due to missing values)
+     * @return the builder that contains the upscaled events
+     */
+
+    private static <T> TimeSeries.Builder<T> upscaleByIndex( TimeSeries<T> timeSeries,
+                                                             IntervalUpscaler<T> intervalUpscaler,
+                                                             TimeScaleOuter desiredTimeScale,
+                                                             SortedSet<Instant> endsAt,
+                                                             List<EvaluationStatusMessage> validationEvents,
+                                                             boolean lenient )
+    {
+        validationEvents.add( GROUPED_EVENTS_MESSAGE );
+
+        SortedSet<Instant> endsAtTime = endsAt;
+
+        // No times at which values should end, so start at the beginning
+        if ( endsAtTime.isEmpty() )
+        {
+            endsAtTime = RescalingHelper.getEndTimesFromSeries( timeSeries, desiredTimeScale );
+        }
+
+        Duration period = desiredTimeScale.getPeriod();
+        TimeSeries.Builder<T> builder = new TimeSeries.Builder<>();
+
+        // The end times are ordered, so both bounds of each interval are no earlier than the last
+        for ( Instant nextEnd : endsAtTime )
+        {
+            Instant nextStart = nextEnd.minus( period );
+            int fromIndex = intervalUpscaler.getFromIndex( nextStart );
+            int toIndex = intervalUpscaler.getToIndex( nextEnd );
+
+            // No events, so no group
+            if ( toIndex <= fromIndex )
+            {
+                continue;
+            }
+
+            boolean canRescale = true;
+
+            if ( !intervalUpscaler.isEvenlySpaced( fromIndex, toIndex, nextStart, nextEnd ) )
+            {
+                GroupRescalingStatus status =
+                        RescalingHelper.checkThatUpscalingIsPossible( intervalUpscaler.getEvents( fromIndex, toIndex ),
+                                                                      nextEnd,
+                                                                      desiredTimeScale,
+                                                                      lenient );
+                validationEvents.addAll( status.events() );
+                canRescale = status.canRescale();
+            }
+
+            if ( canRescale )
+            {
+                T result = intervalUpscaler.upscale( fromIndex, toIndex );
+                builder.addEvent( Event.of( nextEnd, result ) );
+            }
+        }
+
+        return builder;
+    }
+
+    /**
+     * Sets the metadata of an upscaled time-series and builds it.
+     *
+     * @param <T> the type of event value
+     * @param builder the builder that contains the upscaled events
+     * @param timeSeries the time-series that was upscaled
+     * @param desiredTimeScale the desired time scale
+     * @param validationEvents the validation events
+     * @return the upscaled time-series and associated validation events
+     */
+
+    private static <T> RescaledTimeSeriesPlusValidation<T> getUpscaledTimeSeries( TimeSeries.Builder<T> builder,
+                                                                                  TimeSeries<T> timeSeries,
+                                                                                  TimeScaleOuter desiredTimeScale,
+                                                                                  List<EvaluationStatusMessage> validationEvents )
+    {
         // Set the larger scale
         TimeSeriesMetadata templateMetadata = timeSeries.getMetadata();
         TimeSeriesMetadata metadata = TimeSeriesMetadata.of( templateMetadata.getReferenceTimes(),
@@ -1190,6 +1337,61 @@ class RescalingHelper
      */
     private record GroupRescalingStatus( boolean canRescale, List<EvaluationStatusMessage> events ) {}
 
+    /**
+     * Upscales the events of one time-series within intervals that are identified by the indexes of the ordered events.
+     * Implementations may reuse the work done for one interval when upscaling the next, such that the bounds of
+     * successive intervals should not decrease.
+     *
+     * @param <T> the type of event value
+     */
+
+    interface IntervalUpscaler<T>
+    {
+        /**
+         * @param lowerExclusive the lower exclusive bound of the interval
+         * @return the index of the first event whose valid time is later than the bound
+         */
+
+        int getFromIndex( Instant lowerExclusive );
+
+        /**
+         * @param upperInclusive the upper inclusive bound of the interval
+         * @return the index of the first event whose valid time is later than the bound
+         */
+
+        int getToIndex( Instant upperInclusive );
+
+        /**
+         * Returns {@code true} if the events within the interval are evenly spaced, including the bookends of the
+         * interval. May return {@code false} when this cannot be determined cheaply, in which case the events are
+         * inspected in full.
+         *
+         * @param fromIndex the start index, inclusive
+         * @param toIndex the end index, exclusive
+         * @param startsAt the lower exclusive bound of the interval
+         * @param endsAt the upper inclusive bound of the interval
+         * @return true if the events are known to be evenly spaced, otherwise false
+         */
+
+        boolean isEvenlySpaced( int fromIndex, int toIndex, Instant startsAt, Instant endsAt );
+
+        /**
+         * @param fromIndex the start index, inclusive
+         * @param toIndex the end index, exclusive
+         * @return the events within the interval
+         */
+
+        SortedSet<Event<T>> getEvents( int fromIndex, int toIndex );
+
+        /**
+         * @param fromIndex the start index, inclusive
+         * @param toIndex the end index, exclusive
+         * @return the upscaled value of the events within the interval
+         */
+
+        T upscale( int fromIndex, int toIndex );
+    }
+
     /**
      * Do not construct.
      */
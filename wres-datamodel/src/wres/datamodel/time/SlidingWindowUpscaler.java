@@ -0,0 +1,302 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import wres.datamodel.MissingValues;
+import wres.statistics.generated.TimeScale.TimeScaleFunction;
+
+/**
+ * <p>Upscales the single-valued events of a columnar time-series within intervals that are identified by index. This
+ * allows many overlapping intervals, such as a rolling total that ends at every valid time, to be upscaled in linear
+ * time overall, rather than in time proportional to the number of intervals multiplied by the interval width.
+ *
+ * <p>A {@link TimeScaleFunction#MEAN} or {@link TimeScaleFunction#TOTAL} is calculated from prefix sums of the finite
+ * values, which are accumulated with an error term to preserve precision. A {@link TimeScaleFunction#MINIMUM} or
+ * {@link TimeScaleFunction#MAXIMUM} is calculated with a monotone deque, which requires that both bounds of successive
+ * intervals do not decrease. The number of non-finite values within an interval is also obtained from a prefix count,
+ * so that lenient upscaling can skip them and strict upscaling can detect them without inspecting each value. The
+ * values within an interval are only inspected when strict upscaling encounters a non-finite value.
+ *
+ * @author James Brown
+ */
+
+final class SlidingWindowUpscaler implements RescalingHelper.IntervalUpscaler<Double>
+{
+    /** The columns to upscale. */
+    private final TimeSeriesColumns columns;
+
+    /** The function to apply. */
+    private final TimeScaleFunction function;
+
+    /** Is true to ignore non-finite values, false to return missing when they occur. */
+    private final boolean isLenient;
+
+    /** The prefix sums of the finite values. */
+    private final double[] sums;
+
+    /** The error terms of {@link #sums}. */
+    private final double[] sumErrors;
+
+    /** The prefix counts of the finite values. */
+    private final int[] finiteCounts;
+
+    /** For each gap between successive times, the index of the last gap that has the same duration without a break. */
+    private final int[] runEnds;
+
+    /** The indexes of the candidate extreme values within the current interval, from the front to the back. */
+    private final int[] deque;
+
+    /** The position of the front of the {@link #deque}. */
+    private int dequeFront;
+
+    /** The position after the back of the {@link #deque}. */
+    private int dequeBack;
+
+    /** The start index of the current interval of the {@link #deque}, inclusive. */
+    private int fromIndex;
+
+    /** The end index of the current interval of the {@link #deque}, exclusive. */
+    private int toIndex;
+
+    /**
+     * Creates an instance when the time-series and function are supported, otherwise returns null. A supported
+     * time-series contains single-valued events in columns.
+     *
+     * @param timeSeries the time-series
+     * @param function the function
+     * @param isLenient is true to ignore non-finite values, false to return missing when they occur
+     * @return an instance or null
+     * @throws NullPointerException if the time-series or function is null
+     */
+
+    static SlidingWindowUpscaler of( TimeSeries<Double> timeSeries, TimeScaleFunction function, boolean isLenient )
+    {
+        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( function );
+
+        TimeSeriesColumns columns = timeSeries.getColumns();
+
+        if ( Objects.isNull( columns )
+             || columns.isEnsemble()
+             || !( function == TimeScaleFunction.MEAN
+                   || function == TimeScaleFunction.TOTAL
+                   || function == TimeScaleFunction.MINIMUM
+                   || function == TimeScaleFunction.MAXIMUM ) )
+        {
+            return null;
+        }
+
+        return new SlidingWindowUpscaler( columns, function, isLenient );
+    }
+
+    @Override
+    public int getFromIndex( Instant lowerExclusive )
+    {
+        // Since the times are whole seconds, a fractional bound is equivalent to its whole seconds
+        return this.columns.getUpperBound( lowerExclusive.getEpochSecond() );
+    }
+
+    @Override
+    public int getToIndex( Instant upperInclusive )
+    {
+        return this.columns.getUpperBound( upperInclusive.getEpochSecond() );
+    }
+
+    @Override
+    public boolean isEvenlySpaced( int fromIndex, int toIndex, Instant startsAt, Instant endsAt )
+    {
+        // Fractional bookends and single events are left to a complete inspection
+        if ( toIndex - fromIndex < 2
+             || startsAt.getNano() != 0
+             || endsAt.getNano() != 0 )
+        {
+            return false;
+        }
+
+        long first = this.columns.getTime( fromIndex );
+        long last = this.columns.getTime( toIndex - 1 );
+        long gap = this.columns.getTime( fromIndex + 1 ) - first;
+        long end = endsAt.getEpochSecond();
+
+        return this.runEnds[fromIndex] >= toIndex - 2
+               && first - startsAt.getEpochSecond() == gap
+               && ( last == end || end - last == gap );
+    }
+
+    @Override
+    public SortedSet<Event<Double>> getEvents( int fromIndex, int toIndex )
+    {
+        return this.columns.slice( fromIndex, toIndex )
+                           .asEvents();
+    }
+
+    @Override
+    public Double upscale( int fromIndex, int toIndex )
+    {
+        int count = toIndex - fromIndex;
+        int finiteCount = this.finiteCounts[toIndex] - this.finiteCounts[fromIndex];
+
+        // Strict upscaling of a non-finite value depends on the function, so inspect the values
+        if ( !this.isLenient && finiteCount < count )
+        {
+            double[] values = new double[count];
+            for ( int i = 0; i < count; i++ )
+            {
+                values[i] = this.columns.getValue( fromIndex + i );
+            }
+
+            return TimeSeriesOfDoubleUpscaler.upscale( values, this.function );
+        }
+
+        // No data to upscale
+        if ( finiteCount == 0 )
+        {
+            return MissingValues.DOUBLE;
+        }
+
+        double upscaled = switch ( this.function )
+        {
+            case MEAN -> this.getSum( fromIndex, toIndex ) / finiteCount;
+            case TOTAL -> this.getSum( fromIndex, toIndex );
+            case MINIMUM, MAXIMUM -> this.getExtreme( fromIndex, toIndex );
+            default -> throw new UnsupportedOperationException( "Could not create an upscaling function for the "
+                                                                + "function identifier '"
+                                                                + this.function
+                                                                + "'." );
+        };
+
+        return MissingValues.isMissingValue( upscaled ) ? MissingValues.DOUBLE : upscaled;
+    }
+
+    /**
+     * @param fromIndex the start index, inclusive
+     * @param toIndex the end index, exclusive
+     * @return the sum of the finite values within the interval
+     */
+
+    private double getSum( int fromIndex, int toIndex )
+    {
+        double upper = this.sums[toIndex];
+        double lower = this.sums[fromIndex];
+        double difference = upper - lower;
+
+        // The rounding error of the difference, which may be large when the interval is small relative to the prefix
+        double virtual = difference - upper;
+        double error = ( upper - ( difference - virtual ) ) - ( lower + virtual );
+
+        return difference + ( error + ( this.sumErrors[toIndex] - this.sumErrors[fromIndex] ) );
+    }
+
+    /**
+     * Returns the minimum or maximum finite value within an interval, advancing the deque from the current interval.
+     *
+     * @param fromIndex the start index, inclusive
+     * @param toIndex the end index, exclusive
+     * @return the extreme value
+     */
+
+    private double getExtreme( int fromIndex, int toIndex )
+    {
+        // Not a successor of the current interval, so start again
+        if ( fromIndex < this.fromIndex || toIndex < this.toIndex || fromIndex > this.toIndex )
+        {
+            this.dequeFront = 0;
+            this.dequeBack = 0;
+            this.toIndex = fromIndex;
+        }
+
+        int sign = this.function == TimeScaleFunction.MAXIMUM ? 1 : -1;
+
+        // Add the new values to the back, removing any that can no longer be extreme
+        for ( int i = this.toIndex; i < toIndex; i++ )
+        {
+            double value = this.columns.getValue( i );
+
+            if ( Double.isFinite( value ) )
+            {
+                while ( this.dequeBack > this.dequeFront
+                        && sign * Double.compare( this.columns.getValue( this.deque[this.dequeBack - 1] ),
+                                                  value ) <= 0 )
+                {
+                    this.dequeBack--;
+                }
+
+                this.deque[this.dequeBack++] = i;
+            }
+        }
+
+        // Remove the old values from the front
+        while ( this.dequeBack > this.dequeFront && this.deque[this.dequeFront] < fromIndex )
+        {
+            this.dequeFront++;
+        }
+
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+
+        return this.columns.getValue( this.deque[this.dequeFront] );
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param columns the single-valued columns
+     * @param function the function
+     * @param isLenient is true to ignore non-finite values, false to return missing when they occur
+     */
+
+    private SlidingWindowUpscaler( TimeSeriesColumns columns, TimeScaleFunction function, boolean isLenient )
+    {
+        this.columns = columns;
+        this.function = function;
+        this.isLenient = isLenient;
+
+        int size = columns.size();
+        this.sums = new double[size + 1];
+        this.sumErrors = new double[size + 1];
+        this.finiteCounts = new int[size + 1];
+
+        double sum = 0;
+        double sumError = 0;
+        int finiteCount = 0;
+
+        for ( int i = 0; i < size; i++ )
+        {
+            double value = columns.getValue( i );
+
+            if ( Double.isFinite( value ) )
+            {
+                // Accumulate the exact rounding error of each addition
+                double next = sum + value;
+                double virtual = next - sum;
+                sumError += ( sum - ( next - virtual ) ) + ( value - virtual );
+                sum = next;
+                finiteCount++;
+            }
+
+            this.sums[i + 1] = sum;
+            this.sumErrors[i + 1] = sumError;
+            this.finiteCounts[i + 1] = finiteCount;
+        }
+
+        this.runEnds = new int[Math.max( size - 1, 0 )];
+
+        for ( int i = size - 2; i >= 0; i-- )
+        {
+            long gap = columns.getTime( i + 1 ) - columns.getTime( i );
+
+            if ( i < size - 2 && gap == columns.getTime( i + 2 ) - columns.getTime( i + 1 ) )
+            {
+                this.runEnds[i] = this.runEnds[i + 1];
+            }
+            else
+            {
+                this.runEnds[i] = i;
+            }
+        }
+
+        this.deque = new int[size];
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,12 +19,17 @@ import org.slf4j.LoggerFactory;
 import net.jcip.annotations.Immutable;
 
 import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.types.Ensemble;
 
 import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
 
 /**
  * <p>A time-series contains a time-ordered set of {@link Event}, together with {@link TimeSeriesMetadata}.
  *
+ * <p>When the event values are {@link Double} or {@link Ensemble} and the valid times can be represented in whole
+ * seconds, the events are stored in {@link TimeSeriesColumns} and {@link #getEvents()} returns a view of the columns.
+ * Performance-sensitive consumers should read the columns directly when {@link #hasColumns()} returns {@code true}.
+ *
  * @param <T> the type of time-series event value
  * @author James Brown
  * @author Jesse Bickel
@@ -41,6 +47,9 @@ public class TimeSeries<T>
     /** The events. */
     private final SortedSet<Event<T>> events;
 
+    /** The columnar events or null if the events cannot be represented in columns. */
+    private final TimeSeriesColumns columns;
+
     /**
      * Returns an empty {@link TimeSeries} with prescribed metadata.
      *
@@ -74,6 +83,70 @@ public class TimeSeries<T>
                                .build();
     }
 
+    /**
+     * Returns a single-valued {@link TimeSeries} with prescribed metadata and columnar events.
+     *
+     * @param timeSeriesMetadata the metadata
+     * @param columns the single-valued columns
+     * @return the time-series
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if the columns contain ensemble values
+     */
+
+    public static TimeSeries<Double> ofDoubles( TimeSeriesMetadata timeSeriesMetadata,
+                                                TimeSeriesColumns columns )
+    {
+        Objects.requireNonNull( columns );
+
+        if ( columns.isEnsemble() )
+        {
+            throw new IllegalArgumentException( "Cannot create a single-valued time-series from ensemble columns." );
+        }
+
+        return new TimeSeries<>( timeSeriesMetadata, columns );
+    }
+
+    /**
+     * Returns an ensemble {@link TimeSeries} with prescribed metadata and columnar events.
+     *
+     * @param timeSeriesMetadata the metadata
+     * @param columns the ensemble columns
+     * @return the time-series
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if the columns contain single-valued data
+     */
+
+    public static TimeSeries<Ensemble> ofEnsembles( TimeSeriesMetadata timeSeriesMetadata,
+                                                    TimeSeriesColumns columns )
+    {
+        Objects.requireNonNull( columns );
+
+        if ( !columns.isEnsemble() )
+        {
+            throw new IllegalArgumentException( "Cannot create an ensemble time-series from single-valued columns." );
+        }
+
+        return new TimeSeries<>( timeSeriesMetadata, columns );
+    }
+
+    /**
+     * Returns a {@link TimeSeries} with prescribed metadata and columnar events whose value type is inferred from the
+     * caller. The caller is responsible for ensuring that the columns are consistent with the event value type, such as
+     * when slicing the columns of an existing time-series of the same type.
+     *
+     * @param <T> the event type
+     * @param timeSeriesMetadata the metadata
+     * @param columns the columns
+     * @return the time-series
+     * @throws NullPointerException if either input is null
+     */
+
+    static <T> TimeSeries<T> ofColumns( TimeSeriesMetadata timeSeriesMetadata,
+                                        TimeSeriesColumns columns )
+    {
+        return new TimeSeries<>( timeSeriesMetadata, columns );
+    }
+
     /**
      * Returns the underlying events in the time-series.
      *
@@ -85,6 +158,79 @@ public class TimeSeries<T>
         return this.events; // Rendered immutable on construction
     }
 
+    /**
+     * Returns a time-series with the metadata and valid times of this time-series and the prescribed values, which are
+     * assigned to the events in valid time order. The valid times are not sorted or checked for duplicates again, so
+     * this is cheaper than building a time-series with a {@link Builder}, such as when resampling the values of a
+     * time-series. Single-valued columns share their valid times with this time-series.
+     *
+     * @param values the values, one for each event in valid time order
+     * @return a time-series with the prescribed values
+     * @throws NullPointerException if the values are null or contain a null value
+     * @throws IllegalArgumentException if the number of values differs from the number of events
+     */
+
+    public TimeSeries<T> withValues( List<T> values )
+    {
+        Objects.requireNonNull( values );
+
+        if ( values.size() != this.events.size() )
+        {
+            throw new IllegalArgumentException( "Expected "
+                                                + this.events.size()
+                                                + " values for the time-series, but found "
+                                                + values.size()
+                                                + ". The time-series metadata was: "
+                                                + this.metadata );
+        }
+
+        // Single-valued columns, so read the values into a new column alongside the existing valid times
+        if ( this.hasColumns()
+             && !this.columns.isEnsemble() )
+        {
+            double[] doubles = new double[values.size()];
+            for ( int i = 0; i < doubles.length; i++ )
+            {
+                doubles[i] = ( Double ) values.get( i );
+            }
+
+            return new TimeSeries<>( this.metadata, this.columns.withValues( doubles ) );
+        }
+
+        List<Event<T>> copied = new ArrayList<>( values.size() );
+        Iterator<Event<T>> iterator = this.events.iterator();
+        for ( T next : values )
+        {
+            Objects.requireNonNull( next );
+            copied.add( Event.of( iterator.next()
+                                          .getTime(), next ) );
+        }
+
+        return new TimeSeries<>( this.metadata, copied );
+    }
+
+    /**
+     * Returns the columnar events or <code>null</code> if {@link #hasColumns()} returns <code>false</code>.
+     *
+     * @return the columns or null
+     */
+
+    public TimeSeriesColumns getColumns()
+    {
+        return this.columns;
+    }
+
+    /**
+     * Returns <code>true</code> if the events are stored in columns, otherwise <code>false</code>.
+     *
+     * @return true if the events are stored in columns, otherwise false
+     */
+
+    public boolean hasColumns()
+    {
+        return Objects.nonNull( this.columns );
+    }
+
     /**
      * Returns the {@link TimeSeriesMetadata}. 
      *
@@ -148,6 +294,14 @@ public class TimeSeries<T>
         }
 
         TimeSeries<?> that = ( TimeSeries<?> ) o;
+
+        // Compare the columns directly where possible
+        if ( this.hasColumns() && that.hasColumns() )
+        {
+            return this.metadata.equals( that.metadata ) &&
+                   this.columns.equals( that.columns );
+        }
+
         return this.metadata.equals( that.metadata ) &&
                this.events.equals( that.events );
     }
@@ -316,19 +470,22 @@ public class TimeSeries<T>
             }
         }
 
-        this.events = Collections.unmodifiableSortedSet( new TreeSet<>( copied ) );
+        // No null events
+        copied.forEach( Objects::requireNonNull );
 
-        // All reference datetimes and types must be non-null
-        for ( Map.Entry<ReferenceTimeType, Instant> nextEntry : this.getReferenceTimes()
-                                                                    .entrySet() )
+        // Store the events in columns where possible
+        this.columns = TimeSeriesColumns.from( copied );
+
+        if ( Objects.nonNull( this.columns ) )
         {
-            Objects.requireNonNull( nextEntry.getKey() );
-            Objects.requireNonNull( nextEntry.getValue() );
+            this.events = this.columns.asEvents();
+        }
+        else
+        {
+            this.events = Collections.unmodifiableSortedSet( new TreeSet<>( copied ) );
         }
 
-        // No null events
-        this.getEvents()
-            .forEach( Objects::requireNonNull );
+        this.validateReferenceTimes();
 
         // Log absence of timescale
         if ( Objects.isNull( this.getMetadata()
@@ -340,5 +497,72 @@ public class TimeSeries<T>
         }
     }
 
+    /**
+     * Builds with columnar events.
+     *
+     * @param metadata the metadata
+     * @param columns the columns
+     * @throws NullPointerException if either input is null
+     */
+    private TimeSeries( TimeSeriesMetadata metadata, TimeSeriesColumns columns )
+    {
+        Objects.requireNonNull( metadata, "Cannot build a time-series without time-series metadata." );
+        Objects.requireNonNull( columns );
+
+        this.metadata = metadata;
+
+        // Empty columns are represented as an empty set of events for consistency with the builder
+        if ( columns.size() == 0 )
+        {
+            this.columns = null;
+            this.events = Collections.emptySortedSet();
+        }
+        else
+        {
+            this.columns = columns;
+            this.events = columns.asEvents();
+        }
+
+        this.validateReferenceTimes();
+    }
+
+    /**
+     * Builds with events that are sorted by valid time without duplicates and metadata whose reference times were
+     * validated already.
+     *
+     * @param metadata the metadata
+     * @param events the sorted events
+     */
+    private TimeSeries( TimeSeriesMetadata metadata, List<Event<T>> events )
+    {
+        this.metadata = metadata;
+        this.columns = TimeSeriesColumns.from( events );
+
+        if ( Objects.nonNull( this.columns ) )
+        {
+            this.events = this.columns.asEvents();
+        }
+        else
+        {
+            this.events = Collections.unmodifiableSortedSet( new TreeSet<>( events ) );
+        }
+    }
+
+    /**
+     * Validates the reference times.
+     * @throws NullPointerException if any reference time or type is null
+     */
+
+    private void validateReferenceTimes()
+    {
+        // All reference datetimes and types must be non-null
+        for ( Map.Entry<ReferenceTimeType, Instant> nextEntry : this.getReferenceTimes()
+                                                                    .entrySet() )
+        {
+            Objects.requireNonNull( nextEntry.getKey() );
+            Objects.requireNonNull( nextEntry.getValue() );
+        }
+    }
+
 }
 
@@ -0,0 +1,867 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import net.jcip.annotations.Immutable;
+import org.apache.commons.math3.util.Precision;
+
+import wres.datamodel.types.Ensemble;
+import wres.datamodel.types.Ensemble.Labels;
+
+/**
+ * <p>A columnar store of time-series events whose values are either single-valued or ensemble. The valid times are
+ * stored as epoch seconds in a {@code long[]} and the values in a {@code double[]}. Ensemble values are stored in a
+ * flat, member-major, {@code double[]}, i.e., the value of member {@code m} at time index {@code i} is stored at
+ * position {@code m * size() + i}. Each member is, therefore, a contiguous time-series of values.
+ *
+ * <p>This avoids the object overhead of an {@link Event} with a boxed value and an {@link Instant} per event, together
+ * with the tree nodes of a {@link java.util.TreeSet}, which otherwise dominate the memory footprint of long
+ * time-series. Only valid times that can be represented exactly in whole seconds are supported. An {@link Event} view
+ * of the columns is available from {@link #asEvents()}, which produces events on demand.
+ *
+ * <p>Performance-sensitive consumers should read the columns directly using the indexed accessors and the binary
+ * searches, such as {@link #getLowerBound(long)} and {@link #getUpperBound(long)}.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public final class TimeSeriesColumns
+{
+    /** The valid times in epoch seconds, strictly increasing. */
+    private final long[] times;
+
+    /** The values, member-major for ensembles. */
+    private final double[] values;
+
+    /** The number of ensemble members or one for single-valued data. */
+    private final int memberCount;
+
+    /** The ensemble labels or null for single-valued data. */
+    private final Labels labels;
+
+    /**
+     * Creates an instance for single-valued data.
+     *
+     * @param times the valid times in epoch seconds, strictly increasing
+     * @param values the values
+     * @return the columns
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if the times are not strictly increasing or the inputs have different sizes
+     */
+
+    public static TimeSeriesColumns ofDoubles( long[] times, double[] values )
+    {
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( values );
+
+        return new TimeSeriesColumns( times.clone(), values.clone(), 1, null, true );
+    }
+
+    /**
+     * Creates an instance for ensemble data.
+     *
+     * @param times the valid times in epoch seconds, strictly increasing
+     * @param values the member-major values
+     * @param memberCount the number of ensemble members
+     * @param labels the ensemble labels
+     * @return the columns
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the times are not strictly increasing or the inputs have inconsistent sizes
+     */
+
+    public static TimeSeriesColumns ofEnsembles( long[] times, double[] values, int memberCount, Labels labels )
+    {
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( values );
+        Objects.requireNonNull( labels );
+
+        return new TimeSeriesColumns( times.clone(), values.clone(), memberCount, labels, true );
+    }
+
+    /**
+     * @return the number of times in the columns
+     */
+
+    public int size()
+    {
+        return this.times.length;
+    }
+
+    /**
+     * @return true if the columns contain ensemble values, false for single-valued data
+     */
+
+    public boolean isEnsemble()
+    {
+        return Objects.nonNull( this.labels );
+    }
+
+    /**
+     * @return the number of ensemble members, which is one for single-valued data
+     */
+
+    public int getMemberCount()
+    {
+        return this.memberCount;
+    }
+
+    /**
+     * @return the ensemble labels or null for single-valued data
+     */
+
+    public Labels getLabels()
+    {
+        return this.labels;
+    }
+
+    /**
+     * @param index the time index
+     * @return the valid time in epoch seconds
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public long getTime( int index )
+    {
+        return this.times[index];
+    }
+
+    /**
+     * @param index the time index
+     * @return the valid time
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public Instant getInstant( int index )
+    {
+        return Instant.ofEpochSecond( this.times[index] );
+    }
+
+    /**
+     * Returns the single value at a prescribed index.
+     *
+     * @param index the time index
+     * @return the value
+     * @throws IllegalStateException if the columns contain ensemble values
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public double getValue( int index )
+    {
+        if ( this.isEnsemble() )
+        {
+            throw new IllegalStateException( "Cannot acquire a single value from ensemble columns." );
+        }
+
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value of an ensemble member at a prescribed index.
+     *
+     * @param index the time index
+     * @param member the member index
+     * @return the member value
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+
+    public double getMember( int index, int member )
+    {
+        Objects.checkIndex( index, this.times.length );
+        Objects.checkIndex( member, this.memberCount );
+
+        return this.values[member * this.times.length + index];
+    }
+
+    /**
+     * Returns the ensemble members at a prescribed index in label order.
+     *
+     * @param index the time index
+     * @return the members
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public double[] getMembers( int index )
+    {
+        Objects.checkIndex( index, this.times.length );
+
+        double[] members = new double[this.memberCount];
+        int size = this.times.length;
+        for ( int i = 0; i < this.memberCount; i++ )
+        {
+            members[i] = this.values[i * size + index];
+        }
+
+        return members;
+    }
+
+    /**
+     * Searches for the index of a prescribed time.
+     *
+     * @param time the time in epoch seconds
+     * @return the index of the time, if present, otherwise {@code (-(insertion point) - 1)}
+     */
+
+    public int indexOf( long time )
+    {
+        return Arrays.binarySearch( this.times, time );
+    }
+
+    /**
+     * Returns the index of the first time that is greater than or equal to the prescribed time.
+     *
+     * @param time the time in epoch seconds
+     * @return the index of the first time that is not smaller than the prescribed time, possibly {@link #size()}
+     */
+
+    public int getLowerBound( long time )
+    {
+        int index = this.indexOf( time );
+
+        if ( index < 0 )
+        {
+            return -index - 1;
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the index of the first time that is greater than the prescribed time.
+     *
+     * @param time the time in epoch seconds
+     * @return the index of the first time that is larger than the prescribed time, possibly {@link #size()}
+     */
+
+    public int getUpperBound( long time )
+    {
+        int index = this.indexOf( time );
+
+        if ( index < 0 )
+        {
+            return -index - 1;
+        }
+
+        return index + 1;
+    }
+
+    /**
+     * Returns the columns between the prescribed indexes.
+     *
+     * @param fromIndex the start index, inclusive
+     * @param toIndex the end index, exclusive
+     * @return the slice
+     * @throws IndexOutOfBoundsException if the indexes are out of bounds
+     */
+
+    public TimeSeriesColumns slice( int fromIndex, int toIndex )
+    {
+        Objects.checkFromToIndex( fromIndex, toIndex, this.times.length );
+
+        if ( fromIndex == 0 && toIndex == this.times.length )
+        {
+            return this;
+        }
+
+        long[] slicedTimes = Arrays.copyOfRange( this.times, fromIndex, toIndex );
+        int size = this.times.length;
+        int slicedSize = toIndex - fromIndex;
+        double[] slicedValues = new double[slicedSize * this.memberCount];
+        for ( int i = 0; i < this.memberCount; i++ )
+        {
+            System.arraycopy( this.values, i * size + fromIndex, slicedValues, i * slicedSize, slicedSize );
+        }
+
+        return new TimeSeriesColumns( slicedTimes, slicedValues, this.memberCount, this.labels, false );
+    }
+
+    /**
+     * Returns single-valued columns with the valid times of these columns and the prescribed values. The valid times
+     * are shared with these columns, not copied.
+     *
+     * @param values the values
+     * @return the columns
+     * @throws IllegalArgumentException if these columns are ensemble or the number of values is inconsistent
+     */
+
+    TimeSeriesColumns withValues( double[] values )
+    {
+        if ( this.isEnsemble()
+             || values.length != this.times.length )
+        {
+            throw new IllegalArgumentException( "Expected "
+                                                + this.times.length
+                                                + " single-valued values, but found "
+                                                + values.length
+                                                + " values for columns with "
+                                                + this.memberCount
+                                                + " members." );
+        }
+
+        return new TimeSeriesColumns( this.times, values, 1, null, false );
+    }
+
+    /**
+     * Creates an event at the prescribed index. The type of event value must be {@link Double} for single-valued
+     * columns or {@link Ensemble} for ensemble columns.
+     *
+     * @param <T> the type of event value
+     * @param index the index
+     * @return the event
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    @SuppressWarnings( "unchecked" )
+    <T> Event<T> getEvent( int index )
+    {
+        Instant time = this.getInstant( index );
+
+        if ( this.isEnsemble() )
+        {
+            Ensemble ensemble = Ensemble.of( this.getMembers( index ), this.labels );
+            return ( Event<T> ) Event.of( time, ensemble );
+        }
+
+        return ( Event<T> ) DoubleEvent.of( time, this.values[index] );
+    }
+
+    /**
+     * Returns a view of the columns as an unmodifiable set of events, which are created on demand and ordered by
+     * valid time.
+     *
+     * @param <T> the type of event value, which must be {@link Double} or {@link Ensemble}
+     * @return the events
+     */
+
+    public <T> SortedSet<Event<T>> asEvents()
+    {
+        return new EventView<>( this, 0, this.times.length );
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+
+        if ( !( o instanceof TimeSeriesColumns other ) )
+        {
+            return false;
+        }
+
+        if ( !Objects.equals( this.labels, other.labels )
+             || this.memberCount != other.memberCount
+             || !Arrays.equals( this.times, other.times ) )
+        {
+            return false;
+        }
+
+        // Consistent with the equality of the event values
+        if ( this.isEnsemble() )
+        {
+            return Arrays.equals( this.values, other.values );
+        }
+
+        for ( int i = 0; i < this.values.length; i++ )
+        {
+            if ( !Precision.equalsIncludingNaN( this.values[i], other.values[i], Precision.EPSILON ) )
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.getEventHashCode( 0, this.times.length );
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.asEvents()
+                   .toString();
+    }
+
+    /**
+     * Creates columns from a list of events that are sorted by valid time without duplicates, if possible.
+     *
+     * @param events the sorted events
+     * @return the columns or null if the events cannot be represented in columns
+     */
+
+    static TimeSeriesColumns from( List<? extends Event<?>> events )
+    {
+        if ( events.isEmpty() )
+        {
+            return null;
+        }
+
+        Object first = events.get( 0 )
+                             .getValue();
+
+        if ( first instanceof Double )
+        {
+            return TimeSeriesColumns.fromDoubles( events );
+        }
+        else if ( first instanceof Ensemble ensemble )
+        {
+            return TimeSeriesColumns.fromEnsembles( events, ensemble );
+        }
+
+        return null;
+    }
+
+    /**
+     * Computes the hash code of the events within the prescribed range in a way that is consistent with
+     * {@link java.util.Set#hashCode()} for the equivalent set of {@link Event}.
+     *
+     * @param fromIndex the start index, inclusive
+     * @param toIndex the end index, exclusive
+     * @return the hash code
+     */
+
+    private int getEventHashCode( int fromIndex, int toIndex )
+    {
+        int hash = 0;
+        int size = this.times.length;
+        for ( int i = fromIndex; i < toIndex; i++ )
+        {
+            // Instant::hashCode for an instant without nanoseconds
+            int timeHash = Long.hashCode( this.times[i] );
+            int valueHash;
+
+            if ( this.isEnsemble() )
+            {
+                // Ensemble::hashCode
+                int membersHash = 1;
+                for ( int j = 0; j < this.memberCount; j++ )
+                {
+                    membersHash = 31 * membersHash + Double.hashCode( this.values[j * size + i] );
+                }
+                valueHash = 31 * ( 31 + this.labels.hashCode() ) + membersHash;
+            }
+            else
+            {
+                valueHash = Double.hashCode( this.values[i] );
+            }
+
+            // Objects::hash for a value and time
+            hash += 31 * ( 31 + valueHash ) + timeHash;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Creates single-valued columns.
+     *
+     * @param events the events
+     * @return the columns or null if the events cannot be represented in columns
+     */
+
+    private static TimeSeriesColumns fromDoubles( List<? extends Event<?>> events )
+    {
+        int size = events.size();
+        long[] times = new long[size];
+        double[] values = new double[size];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            Event<?> next = events.get( i );
+            Instant time = next.getTime();
+
+            if ( time.getNano() != 0
+                 || !( next.getValue() instanceof Double value ) )
+            {
+                return null;
+            }
+
+            times[i] = time.getEpochSecond();
+            values[i] = value;
+        }
+
+        return new TimeSeriesColumns( times, values, 1, null, false );
+    }
+
+    /**
+     * Creates ensemble columns. The ensembles must have a common size and labels and should not cache their sorted
+     * members, since the columns cannot preserve the cache.
+     *
+     * @param events the events
+     * @param first the first ensemble
+     * @return the columns or null if the events cannot be represented in columns
+     */
+
+    private static TimeSeriesColumns fromEnsembles( List<? extends Event<?>> events, Ensemble first )
+    {
+        int size = events.size();
+        int memberCount = first.size();
+        Labels labels = first.getLabels();
+        long[] times = new long[size];
+        double[] values = new double[size * memberCount];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            Event<?> next = events.get( i );
+            Instant time = next.getTime();
+
+            if ( time.getNano() != 0
+                 || !( next.getValue() instanceof Ensemble ensemble )
+                 || ensemble.size() != memberCount
+                 || ensemble.areSortedMembersCached()
+                 || !labels.equals( ensemble.getLabels() ) )
+            {
+                return null;
+            }
+
+            times[i] = time.getEpochSecond();
+            double[] members = ensemble.getMembers();
+            for ( int j = 0; j < memberCount; j++ )
+            {
+                values[j * size + i] = members[j];
+            }
+        }
+
+        return new TimeSeriesColumns( times, values, memberCount, labels, false );
+    }
+
+    /**
+     * An unmodifiable view of a range of the columns as a set of events.
+     *
+     * @param <T> the type of event value
+     */
+
+    static final class EventView<T> extends AbstractSet<Event<T>> implements SortedSet<Event<T>>
+    {
+        /** The columns. */
+        private final TimeSeriesColumns columns;
+
+        /** The start index, inclusive. */
+        private final int fromIndex;
+
+        /** The end index, exclusive. */
+        private final int toIndex;
+
+        @Override
+        public Iterator<Event<T>> iterator()
+        {
+            return new Iterator<>()
+            {
+                private int next = EventView.this.fromIndex;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return this.next < EventView.this.toIndex;
+                }
+
+                @Override
+                public Event<T> next()
+                {
+                    if ( !this.hasNext() )
+                    {
+                        throw new NoSuchElementException();
+                    }
+
+                    return EventView.this.get( this.next++ );
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return this.toIndex - this.fromIndex;
+        }
+
+        @Override
+        public boolean contains( Object o )
+        {
+            if ( !( o instanceof Event<?> event )
+                 || Objects.isNull( event.getTime() )
+                 || event.getTime()
+                         .getNano() != 0 )
+            {
+                return false;
+            }
+
+            int index = this.getIndex( event.getTime() );
+
+            if ( index < this.fromIndex || index >= this.toIndex )
+            {
+                return false;
+            }
+
+            if ( this.columns.isEnsemble() )
+            {
+                return this.get( index )
+                           .getValue()
+                           .equals( event.getValue() );
+            }
+
+            return event.getValue() instanceof Double value
+                   && Precision.equalsIncludingNaN( value, this.columns.values[index], Precision.EPSILON );
+        }
+
+        @Override
+        public Comparator<? super Event<T>> comparator()
+        {
+            // Natural order
+            return null;
+        }
+
+        @Override
+        public SortedSet<Event<T>> subSet( Event<T> fromElement, Event<T> toElement )
+        {
+            int from = this.getLowerBound( fromElement );
+            int to = this.getLowerBound( toElement );
+
+            if ( from > to )
+            {
+                throw new IllegalArgumentException( "The lower bound of the subset is larger than the upper bound." );
+            }
+
+            return new EventView<>( this.columns, from, to );
+        }
+
+        @Override
+        public SortedSet<Event<T>> headSet( Event<T> toElement )
+        {
+            return new EventView<>( this.columns, this.fromIndex, this.getLowerBound( toElement ) );
+        }
+
+        @Override
+        public SortedSet<Event<T>> tailSet( Event<T> fromElement )
+        {
+            return new EventView<>( this.columns, this.getLowerBound( fromElement ), this.toIndex );
+        }
+
+        @Override
+        public Event<T> first()
+        {
+            if ( this.isEmpty() )
+            {
+                throw new NoSuchElementException();
+            }
+
+            return this.get( this.fromIndex );
+        }
+
+        @Override
+        public Event<T> last()
+        {
+            if ( this.isEmpty() )
+            {
+                throw new NoSuchElementException();
+            }
+
+            return this.get( this.toIndex - 1 );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.columns.getEventHashCode( this.fromIndex, this.toIndex );
+        }
+
+        /**
+         * Creates an event at the prescribed index.
+         *
+         * @param index the index
+         * @return the event
+         */
+
+        Event<T> get( int index )
+        {
+            return this.columns.getEvent( index );
+        }
+
+        /**
+         * @return the columns
+         */
+
+        TimeSeriesColumns getColumns()
+        {
+            return this.columns;
+        }
+
+        /**
+         * Returns a view of the events whose valid times fall within a right-closed interval.
+         *
+         * @param lowerExclusive the lower exclusive bound
+         * @param upperInclusive the upper inclusive bound
+         * @return the events within {@code (lowerExclusive, upperInclusive]}
+         */
+
+        EventView<T> subSetByTime( Instant lowerExclusive, Instant upperInclusive )
+        {
+            // Since the times are whole seconds, a fractional bound is equivalent to its whole seconds
+            int from = this.columns.getUpperBound( lowerExclusive.getEpochSecond() );
+            int to = this.columns.getUpperBound( upperInclusive.getEpochSecond() );
+
+            from = Math.max( this.fromIndex, Math.min( from, this.toIndex ) );
+            to = Math.max( from, Math.min( to, this.toIndex ) );
+
+            return new EventView<>( this.columns, from, to );
+        }
+
+        /**
+         * Returns the values of one ensemble member within the view.
+         *
+         * @param member the member index
+         * @return the member values
+         * @throws IndexOutOfBoundsException if the member index is out of bounds
+         */
+
+        double[] getMemberValues( int member )
+        {
+            Objects.checkIndex( member, this.columns.memberCount );
+
+            int offset = member * this.columns.times.length;
+            return Arrays.copyOfRange( this.columns.values, offset + this.fromIndex, offset + this.toIndex );
+        }
+
+        /**
+         * Returns the single values within the view.
+         *
+         * @return the values
+         * @throws IllegalStateException if the columns contain ensemble values
+         */
+
+        double[] getDoubleValues()
+        {
+            if ( this.columns.isEnsemble() )
+            {
+                throw new IllegalStateException( "Cannot acquire single values from ensemble columns." );
+            }
+
+            return Arrays.copyOfRange( this.columns.values, this.fromIndex, this.toIndex );
+        }
+
+        /**
+         * @param time the time
+         * @return the index of the time within the columns or a negative index if the time is not present
+         */
+
+        private int getIndex( Instant time )
+        {
+            return this.columns.indexOf( time.getEpochSecond() );
+        }
+
+        /**
+         * Returns the index of the first event whose time is not earlier than the prescribed event, constrained to the
+         * range of this view.
+         *
+         * @param event the event
+         * @return the index
+         */
+
+        private int getLowerBound( Event<T> event )
+        {
+            Objects.requireNonNull( event );
+
+            Instant time = event.getTime();
+            long seconds = time.getEpochSecond();
+            int index = this.columns.getLowerBound( seconds );
+
+            // Any fractional second is later than the whole second
+            if ( time.getNano() != 0 )
+            {
+                index = this.columns.getUpperBound( seconds );
+            }
+
+            return Math.max( this.fromIndex, Math.min( index, this.toIndex ) );
+        }
+
+        /**
+         * Creates an instance.
+         *
+         * @param columns the columns
+         * @param fromIndex the start index, inclusive
+         * @param toIndex the end index, exclusive
+         */
+
+        private EventView( TimeSeriesColumns columns, int fromIndex, int toIndex )
+        {
+            this.columns = columns;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param times the times
+     * @param values the values
+     * @param memberCount the number of ensemble members
+     * @param labels the ensemble labels, null for single-valued data
+     * @param validate is true to validate the inputs
+     * @throws IllegalArgumentException if validation is requested and the inputs are invalid
+     */
+
+    private TimeSeriesColumns( long[] times, double[] values, int memberCount, Labels labels, boolean validate )
+    {
+        if ( validate )
+        {
+            if ( memberCount < 1 && times.length > 0 )
+            {
+                throw new IllegalArgumentException( "Expected one or more ensemble members, but found "
+                                                    + memberCount
+                                                    + "." );
+            }
+
+            if ( ( long ) times.length * memberCount != values.length )
+            {
+                throw new IllegalArgumentException( "Expected "
+                                                    + ( ( long ) times.length * memberCount )
+                                                    + " values for "
+                                                    + times.length
+                                                    + " times and "
+                                                    + memberCount
+                                                    + " members, but found "
+                                                    + values.length
+                                                    + " values." );
+            }
+
+            if ( Objects.nonNull( labels ) && labels.getLabels().length > 0
+                 && labels.getLabels().length != memberCount )
+            {
+                throw new IllegalArgumentException( "Expected the same number of labels as ensemble members ("
+                                                    + memberCount
+                                                    + ")." );
+            }
+
+            for ( int i = 1; i < times.length; i++ )
+            {
+                if ( times[i] <= times[i - 1] )
+                {
+                    throw new IllegalArgumentException( "The times must be strictly increasing, but found "
+                                                        + Instant.ofEpochSecond( times[i] )
+                                                        + " after "
+                                                        + Instant.ofEpochSecond( times[i - 1] )
+                                                        + "." );
+                }
+            }
+        }
+
+        this.times = times;
+        this.values = values;
+        this.memberCount = memberCount;
+        this.labels = labels;
+    }
+}
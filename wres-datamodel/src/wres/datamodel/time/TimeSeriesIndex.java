@@ -0,0 +1,526 @@
+package wres.datamodel.time;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import wres.datamodel.space.Feature;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * <p>An index of time-series by feature and variable name, which supports a lookup of the time-series that may contain
+ * events within a {@link TimeWindowOuter} without visiting every time-series. The time-series for each feature and
+ * variable name are sorted by the valid time of their first event. The time-series whose events may fall within a
+ * time window are then found with a binary search on the valid time of the first event, bounded below by the longest
+ * span of valid times among the sorted time-series.
+ *
+ * <p>Forecast time-series, whose events are admitted with respect to reference times, are indexed separately from
+ * other time-series. Their valid times are bounded by the reference time and lead duration bounds of the time window,
+ * as well as the valid time bounds, so that a time window defined by reference times or lead durations is also found
+ * with a binary search.
+ *
+ * <p>Time-series are returned in the order in which they were indexed. When looking up time-series by time window, a
+ * time-series with no events within the time window is not returned.
+ *
+ * @param <T> the time-series event value type
+ * @author James Brown
+ */
+
+final class TimeSeriesIndex<T>
+{
+    /** The indexed time-series by feature and variable name. */
+    private final Map<Feature, Map<String, Intervals<T>>> index;
+
+    /** The number of time-series indexed. */
+    private final int size;
+
+    /**
+     * Creates an instance.
+     *
+     * @param <T> the time-series event value type
+     * @param series the time-series to index
+     * @return the index
+     * @throws NullPointerException if the series is null
+     */
+
+    static <T> TimeSeriesIndex<T> of( Collection<TimeSeries<T>> series )
+    {
+        return new TimeSeriesIndex<>( series );
+    }
+
+    /**
+     * @return true if the index contains no time-series, otherwise false
+     */
+
+    boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the time-series for the prescribed features and optional variable name.
+     *
+     * @param features the features
+     * @param variableName the optional variable name
+     * @return the time-series
+     */
+
+    Stream<TimeSeries<T>> get( Set<Feature> features, String variableName )
+    {
+        List<Entry<T>> entries = new ArrayList<>();
+
+        for ( Intervals<T> next : this.getIntervals( features, variableName ) )
+        {
+            entries.addAll( next.forecasts() );
+            entries.addAll( next.others() );
+            entries.addAll( next.empty() );
+        }
+
+        return TimeSeriesIndex.getInIndexedOrder( entries );
+    }
+
+    /**
+     * Returns the time-series for the prescribed features and optional variable name that contain events within the
+     * time window. Each time-series is filtered with {@link TimeSeriesSlicer#filter(TimeSeries, TimeWindowOuter)}.
+     *
+     * @param timeWindow the time window
+     * @param features the features
+     * @param variableName the optional variable name
+     * @return the time-series filtered by time window
+     */
+
+    Stream<TimeSeries<T>> get( TimeWindowOuter timeWindow, Set<Feature> features, String variableName )
+    {
+        Instant earliestValid = timeWindow.getEarliestValidTime();
+        Instant latestValid = timeWindow.getLatestValidTime();
+
+        // The events of a forecast are admitted with respect to reference times within the window, so their valid
+        // times are also bounded by the reference times plus the lead durations
+        Instant earliestForecastValid = TimeSeriesIndex.max( earliestValid,
+                                                             TimeSeriesIndex.plus( timeWindow.getEarliestReferenceTime(),
+                                                                                   timeWindow.getEarliestLeadDuration() ) );
+        Instant latestForecastValid = TimeSeriesIndex.min( latestValid,
+                                                           TimeSeriesIndex.plus( timeWindow.getLatestReferenceTime(),
+                                                                                 timeWindow.getLatestLeadDuration() ) );
+
+        List<Entry<T>> entries = new ArrayList<>();
+
+        for ( Intervals<T> next : this.getIntervals( features, variableName ) )
+        {
+            next.addCandidates( next.forecasts(),
+                                next.longestForecastSpan(),
+                                earliestForecastValid,
+                                latestForecastValid,
+                                entries );
+            next.addCandidates( next.others(),
+                                next.longestOtherSpan(),
+                                earliestValid,
+                                latestValid,
+                                entries );
+        }
+
+        // Remove any forecasts without a reference time inside the window
+        entries.removeIf( next -> next.isForecast()
+                                  && next.referenceTimes()
+                                         .stream()
+                                         .noneMatch( r -> TimeSeriesIndex.isContained( r,
+                                                                                       timeWindow.getEarliestReferenceTime(),
+                                                                                       timeWindow.getLatestReferenceTime() ) ) );
+
+        return TimeSeriesIndex.getInIndexedOrder( entries )
+                              .map( next -> TimeSeriesSlicer.filter( next, timeWindow ) );
+    }
+
+    /**
+     * @param features the features
+     * @param variableName the optional variable name
+     * @return the intervals for the prescribed features and variable name
+     */
+
+    private List<Intervals<T>> getIntervals( Set<Feature> features, String variableName )
+    {
+        List<Intervals<T>> intervals = new ArrayList<>();
+
+        for ( Feature feature : features )
+        {
+            Map<String, Intervals<T>> byVariable = this.index.get( feature );
+
+            if ( Objects.isNull( byVariable ) )
+            {
+                continue;
+            }
+
+            if ( Objects.isNull( variableName ) )
+            {
+                intervals.addAll( byVariable.values() );
+            }
+            else if ( byVariable.containsKey( variableName ) )
+            {
+                intervals.add( byVariable.get( variableName ) );
+            }
+        }
+
+        return intervals;
+    }
+
+    /**
+     * @param <T> the time-series event value type
+     * @param entries the entries
+     * @return the time-series in the order in which they were indexed
+     */
+
+    private static <T> Stream<TimeSeries<T>> getInIndexedOrder( List<Entry<T>> entries )
+    {
+        entries.sort( Comparator.comparingInt( Entry::position ) );
+        return entries.stream()
+                      .map( Entry::series );
+    }
+
+    /**
+     * Returns the instant plus the duration, saturating at {@link Instant#MIN} or {@link Instant#MAX} when either
+     * input is unbounded or the result overflows.
+     *
+     * @param instant the instant
+     * @param duration the duration
+     * @return the instant plus the duration
+     */
+
+    private static Instant plus( Instant instant, Duration duration )
+    {
+        if ( instant.equals( Instant.MIN )
+             || duration.equals( TimeWindowOuter.DURATION_MIN ) )
+        {
+            return Instant.MIN;
+        }
+
+        if ( instant.equals( Instant.MAX )
+             || duration.equals( TimeWindowOuter.DURATION_MAX ) )
+        {
+            return Instant.MAX;
+        }
+
+        try
+        {
+            return instant.plus( duration );
+        }
+        catch ( DateTimeException | ArithmeticException e )
+        {
+            return duration.isNegative() ? Instant.MIN : Instant.MAX;
+        }
+    }
+
+    /**
+     * @param instant the instant
+     * @param duration the duration
+     * @return the instant minus the duration, saturating at {@link Instant#MIN}
+     */
+
+    private static Instant minus( Instant instant, Duration duration )
+    {
+        if ( instant.equals( Instant.MIN ) )
+        {
+            return Instant.MIN;
+        }
+
+        try
+        {
+            return instant.minus( duration );
+        }
+        catch ( DateTimeException | ArithmeticException e )
+        {
+            return Instant.MIN;
+        }
+    }
+
+    /**
+     * @param first the first instant
+     * @param second the second instant
+     * @return the later instant
+     */
+
+    private static Instant max( Instant first, Instant second )
+    {
+        return first.isAfter( second ) ? first : second;
+    }
+
+    /**
+     * @param first the first instant
+     * @param second the second instant
+     * @return the earlier instant
+     */
+
+    private static Instant min( Instant first, Instant second )
+    {
+        return first.isBefore( second ) ? first : second;
+    }
+
+    /**
+     * Consistent with {@link TimeSeriesSlicer#filter(TimeSeries, TimeWindowOuter)}.
+     *
+     * @param time the time
+     * @param lowerExclusive the lower exclusive bound
+     * @param upperInclusive the upper inclusive bound
+     * @return true if the time is within (lowerExclusive, upperInclusive], otherwise false
+     */
+
+    private static boolean isContained( Instant time, Instant lowerExclusive, Instant upperInclusive )
+    {
+        if ( lowerExclusive.equals( Instant.MIN ) && upperInclusive.equals( Instant.MAX ) )
+        {
+            return true;
+        }
+
+        return time.isAfter( lowerExclusive ) && !time.isAfter( upperInclusive );
+    }
+
+    /**
+     * An indexed time-series.
+     *
+     * @param <T> the time-series event value type
+     * @param series the time-series
+     * @param position the position in which the time-series was indexed
+     * @param first the valid time of the first event, null if there are no events
+     * @param last the valid time of the last event, null if there are no events
+     * @param referenceTimes the reference times with respect to which events are admitted, empty if none
+     */
+
+    private record Entry<T>( TimeSeries<T> series,
+                             int position,
+                             Instant first,
+                             Instant last,
+                             List<Instant> referenceTimes )
+    {
+        /**
+         * @return true if the events are admitted with respect to reference times, otherwise false
+         */
+
+        private boolean isForecast()
+        {
+            return !this.referenceTimes.isEmpty();
+        }
+    }
+
+    /**
+     * The time-series for one feature and variable name, sorted by the valid time of their first event.
+     *
+     * @param <T> the time-series event value type
+     * @param forecasts the forecast time-series
+     * @param longestForecastSpan the longest span of valid times among the forecast time-series
+     * @param others the other time-series
+     * @param longestOtherSpan the longest span of valid times among the other time-series
+     * @param empty the time-series without events
+     */
+
+    private record Intervals<T>( List<Entry<T>> forecasts,
+                                 Duration longestForecastSpan,
+                                 List<Entry<T>> others,
+                                 Duration longestOtherSpan,
+                                 List<Entry<T>> empty )
+    {
+        /**
+         * @param <T> the time-series event value type
+         * @param entries the entries
+         * @return the intervals
+         */
+
+        private static <T> Intervals<T> of( List<Entry<T>> entries )
+        {
+            List<Entry<T>> forecasts = new ArrayList<>();
+            List<Entry<T>> others = new ArrayList<>();
+            List<Entry<T>> empty = new ArrayList<>();
+
+            for ( Entry<T> next : entries )
+            {
+                if ( Objects.isNull( next.first() ) )
+                {
+                    empty.add( next );
+                }
+                else if ( next.isForecast() )
+                {
+                    forecasts.add( next );
+                }
+                else
+                {
+                    others.add( next );
+                }
+            }
+
+            Comparator<Entry<T>> byFirst = Comparator.comparing( Entry::first );
+            forecasts.sort( byFirst );
+            others.sort( byFirst );
+
+            return new Intervals<>( List.copyOf( forecasts ),
+                                    Intervals.getLongestSpan( forecasts ),
+                                    List.copyOf( others ),
+                                    Intervals.getLongestSpan( others ),
+                                    List.copyOf( empty ) );
+        }
+
+        /**
+         * Adds the entries whose valid times overlap the right-closed interval.
+         *
+         * @param sorted the entries sorted by the valid time of their first event
+         * @param longestSpan the longest span of valid times among the entries
+         * @param lowerExclusive the lower exclusive bound
+         * @param upperInclusive the upper inclusive bound
+         * @param candidates the candidates to which entries are added
+         */
+
+        private void addCandidates( List<Entry<T>> sorted,
+                                    Duration longestSpan,
+                                    Instant lowerExclusive,
+                                    Instant upperInclusive,
+                                    List<Entry<T>> candidates )
+        {
+            if ( sorted.isEmpty()
+                 || !lowerExclusive.isBefore( upperInclusive ) )
+            {
+                return;
+            }
+
+            // An entry that overlaps must begin after the lower bound less the longest span and at or before the
+            // upper bound
+            int start = Intervals.firstAfter( sorted, TimeSeriesIndex.minus( lowerExclusive, longestSpan ) );
+            int stop = Intervals.firstAfter( sorted, upperInclusive );
+
+            for ( int i = start; i < stop; i++ )
+            {
+                Entry<T> next = sorted.get( i );
+                if ( next.last()
+                         .isAfter( lowerExclusive ) )
+                {
+                    candidates.add( next );
+                }
+            }
+        }
+
+        /**
+         * @param <T> the time-series event value type
+         * @param sorted the entries sorted by the valid time of their first event
+         * @param time the time
+         * @return the index of the first entry whose first valid time is after the prescribed time
+         */
+
+        private static <T> int firstAfter( List<Entry<T>> sorted, Instant time )
+        {
+            int low = 0;
+            int high = sorted.size();
+            while ( low < high )
+            {
+                int middle = ( low + high ) >>> 1;
+                if ( sorted.get( middle )
+                           .first()
+                           .isAfter( time ) )
+                {
+                    high = middle;
+                }
+                else
+                {
+                    low = middle + 1;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * @param <T> the time-series event value type
+         * @param entries the entries
+         * @return the longest span of valid times
+         */
+
+        private static <T> Duration getLongestSpan( List<Entry<T>> entries )
+        {
+            Duration longest = Duration.ZERO;
+
+            for ( Entry<T> next : entries )
+            {
+                Duration span = Duration.between( next.first(), next.last() );
+                if ( span.compareTo( longest ) > 0 )
+                {
+                    longest = span;
+                }
+            }
+
+            return longest;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param series the time-series to index
+     * @throws NullPointerException if the series is null
+     */
+
+    private TimeSeriesIndex( Collection<TimeSeries<T>> series )
+    {
+        Objects.requireNonNull( series );
+
+        Map<Feature, Map<String, List<Entry<T>>>> entries = new HashMap<>();
+
+        int position = 0;
+        for ( TimeSeries<T> next : series )
+        {
+            int nextPosition = position;
+            position++;
+
+            Map<ReferenceTimeType, Instant> referenceTimes = next.getReferenceTimes();
+
+            // The events are admitted with respect to reference times other than a generation time, unless there is a
+            // generation time, which is always retained
+            List<Instant> forecastReferenceTimes = List.of();
+            if ( !referenceTimes.containsKey( ReferenceTimeType.GENERATION_TIME ) )
+            {
+                forecastReferenceTimes = List.copyOf( referenceTimes.values() );
+            }
+
+            Entry<T> entry;
+
+            // A time-series without events never contains events within a time window
+            if ( next.getEvents()
+                     .isEmpty() )
+            {
+                entry = new Entry<>( next, nextPosition, null, null, forecastReferenceTimes );
+            }
+            else
+            {
+                entry = new Entry<>( next,
+                                     nextPosition,
+                                     next.getEvents()
+                                         .first()
+                                         .getTime(),
+                                     next.getEvents()
+                                         .last()
+                                         .getTime(),
+                                     forecastReferenceTimes );
+            }
+
+            TimeSeriesMetadata metadata = next.getMetadata();
+            entries.computeIfAbsent( metadata.getFeature(), k -> new HashMap<>() )
+                   .computeIfAbsent( metadata.getVariableName(), k -> new ArrayList<>() )
+                   .add( entry );
+        }
+
+        Map<Feature, Map<String, Intervals<T>>> innerIndex = new HashMap<>();
+        for ( Map.Entry<Feature, Map<String, List<Entry<T>>>> nextFeature : entries.entrySet() )
+        {
+            Map<String, Intervals<T>> byVariable = new HashMap<>();
+            nextFeature.getValue()
+                       .forEach( ( name, byName ) -> byVariable.put( name, Intervals.of( byName ) ) );
+            innerIndex.put( nextFeature.getKey(), byVariable );
+        }
+
+        this.index = innerIndex;
+        this.size = position;
+    }
+}
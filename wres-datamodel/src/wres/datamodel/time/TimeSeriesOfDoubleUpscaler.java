@@ -3,16 +3,16 @@ package wres.datamodel.time;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 import javax.measure.Unit;
 
@@ -144,10 +144,14 @@ public class TimeSeriesOfDoubleUpscaler implements TimeSeriesUpscaler<Double>
             timeScaleToUse = TimeScaleOuter.of( desiredTimeScale.getPeriod(), TimeScaleFunction.MEAN );
         }
 
-        // Rescale
-        ToDoubleFunction<SortedSet<Event<Double>>> upscaler = this.getDoubleUpscaler( timeScaleToUse.getFunction() );
+        // Rescale, upscaling overlapping intervals by index where possible
+        TimeScaleFunction function = timeScaleToUse.getFunction();
+        ToDoubleFunction<SortedSet<Event<Double>>> upscaler = this.getDoubleUpscaler( function );
+        Function<TimeSeries<Double>, RescalingHelper.IntervalUpscaler<Double>> intervalUpscalers =
+                series -> SlidingWindowUpscaler.of( series, function, this.isLenient() );
         RescaledTimeSeriesPlusValidation<Double> rescaled = RescalingHelper.upscale( timeSeries,
                                                                                      upscaler::applyAsDouble,
+                                                                                     intervalUpscalers,
                                                                                      timeScaleToUse,
                                                                                      existingUnit,
                                                                                      desiredUnit,
@@ -270,53 +274,85 @@ public class TimeSeriesOfDoubleUpscaler implements TimeSeriesUpscaler<Double>
 
     private ToDoubleFunction<SortedSet<Event<Double>>> getDoubleUpscaler( TimeScaleFunction function )
     {
-        return events -> {
-
-            double upscaled;
-
-            SortedSet<Event<Double>> eventsToUse = events;
-
-            if ( this.isLenient() )
-            {
-                eventsToUse = eventsToUse.stream()
-                                         .filter( next -> Double.isFinite( next.getValue() ) )
-                                         .collect( Collectors.toCollection( TreeSet::new ) );
-            }
-
-            // No data to upscale
-            if ( eventsToUse.isEmpty() )
-            {
-                LOGGER.debug( "While attempting to upscale a collection of events, discovered no events to upscale." );
-
-                return MissingValues.DOUBLE;
-            }
-
-            upscaled = switch ( function )
-                    {
-                        case MAXIMUM -> eventsToUse.stream()
-                                                   .mapToDouble( Event::getValue )
-                                                   .max()
-                                                   .getAsDouble();
-                        case MEAN -> eventsToUse.stream()
-                                                .mapToDouble( Event::getValue )
-                                                .average()
-                                                .orElseThrow();
-                        case MINIMUM -> eventsToUse.stream()
-                                                   .mapToDouble( Event::getValue )
-                                                   .min()
-                                                   .getAsDouble();
-                        case TOTAL -> eventsToUse.stream()
-                                                 .mapToDouble( Event::getValue )
-                                                 .sum();
-                        default -> throw new UnsupportedOperationException(
-                                "Could not create an upscaling function for the "
-                                + "function identifier '"
-                                + function
-                                + "'." );
-                    };
-
-            return RETURN_DOUBLE_OR_MISSING.applyAsDouble( upscaled );
-        };
+        return events -> TimeSeriesOfDoubleUpscaler.upscale( TimeSeriesOfDoubleUpscaler.getValues( events,
+                                                                                                   this.isLenient() ),
+                                                             function );
+    }
+
+    /**
+     * Upscales the values with a {@link TimeScaleFunction}. Returns {@link MissingValues#DOUBLE} when there are no
+     * values or the upscaled value is missing.
+     *
+     * @param values the values
+     * @param function the function
+     * @return the upscaled value
+     * @throws UnsupportedOperationException if the function is not recognized
+     */
+
+    static double upscale( double[] values, TimeScaleFunction function )
+    {
+        // No data to upscale
+        if ( values.length == 0 )
+        {
+            LOGGER.debug( "While attempting to upscale a collection of events, discovered no events to upscale." );
+
+            return MissingValues.DOUBLE;
+        }
+
+        double upscaled = switch ( function )
+                {
+                    case MAXIMUM -> Arrays.stream( values )
+                                          .max()
+                                          .getAsDouble();
+                    case MEAN -> Arrays.stream( values )
+                                       .average()
+                                       .orElseThrow();
+                    case MINIMUM -> Arrays.stream( values )
+                                          .min()
+                                          .getAsDouble();
+                    case TOTAL -> Arrays.stream( values )
+                                        .sum();
+                    default -> throw new UnsupportedOperationException(
+                            "Could not create an upscaling function for the "
+                            + "function identifier '"
+                            + function
+                            + "'." );
+                };
+
+        return RETURN_DOUBLE_OR_MISSING.applyAsDouble( upscaled );
+    }
+
+    /**
+     * Returns the event values to upscale, reading the columns directly when the events are columnar.
+     *
+     * @param events the events
+     * @param isLenient is true to remove non-finite values
+     * @return the values to upscale
+     */
+
+    private static double[] getValues( SortedSet<Event<Double>> events, boolean isLenient )
+    {
+        double[] values;
+
+        if ( events instanceof TimeSeriesColumns.EventView<Double> view )
+        {
+            values = view.getDoubleValues();
+        }
+        else
+        {
+            values = events.stream()
+                           .mapToDouble( Event::getValue )
+                           .toArray();
+        }
+
+        if ( isLenient )
+        {
+            values = Arrays.stream( values )
+                           .filter( Double::isFinite )
+                           .toArray();
+        }
+
+        return values;
     }
 
     /**
@@ -3,6 +3,7 @@ package wres.datamodel.time;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -163,26 +164,42 @@ public class TimeSeriesOfEnsembleUpscaler implements TimeSeriesUpscaler<Ensemble
 
     private Function<SortedSet<Event<Ensemble>>, Ensemble> getEnsembleUpscaler( TimeScaleFunction function )
     {
-        ToDoubleFunction<List<Double>> upscaler = this.getTraceUpscaler( function );
+        ToDoubleFunction<double[]> upscaler = this.getTraceUpscaler( function );
 
         return events -> {
 
+            // Columnar events? Then read each trace directly
+            if ( events instanceof TimeSeriesColumns.EventView<Ensemble> view )
+            {
+                return this.upscale( view, upscaler );
+            }
+
             int memberCount = this.getMemberCountAndValidateConstant( events );
 
             Labels labels = events.last()
                                   .getValue()
                                   .getLabels();
 
+            // Transpose the ensembles into traces
+            double[][] traces = new double[memberCount][events.size()];
+            int eventIndex = 0;
+            for ( Event<Ensemble> next : events )
+            {
+                double[] members = next.getValue()
+                                       .getMembers();
+                for ( int i = 0; i < memberCount; i++ )
+                {
+                    traces[i][eventIndex] = members[i];
+                }
+
+                eventIndex++;
+            }
+
             double[] upscaled = new double[memberCount];
 
             for ( int i = 0; i < memberCount; i++ )
             {
-                int nextIndex = i;
-                List<Double> doubles = events.stream()
-                                             .map( next -> next.getValue().getMembers()[nextIndex] )
-                                             .toList();
-
-                double nextUpscaled = upscaler.applyAsDouble( doubles );
+                double nextUpscaled = upscaler.applyAsDouble( traces[i] );
                 upscaled[i] = nextUpscaled;
             }
 
@@ -190,6 +207,28 @@ public class TimeSeriesOfEnsembleUpscaler implements TimeSeriesUpscaler<Ensemble
         };
     }
 
+    /**
+     * Upscales columnar events, reading each trace directly from the columns.
+     *
+     * @param events the events
+     * @param upscaler the trace upscaler
+     * @return the upscaled ensemble
+     */
+
+    private Ensemble upscale( TimeSeriesColumns.EventView<Ensemble> events, ToDoubleFunction<double[]> upscaler )
+    {
+        TimeSeriesColumns columns = events.getColumns();
+        int memberCount = columns.getMemberCount();
+        double[] upscaled = new double[memberCount];
+
+        for ( int i = 0; i < memberCount; i++ )
+        {
+            upscaled[i] = upscaler.applyAsDouble( events.getMemberValues( i ) );
+        }
+
+        return Ensemble.of( upscaled, columns.getLabels() );
+    }
+
     /**
      * Returns the number of ensemble members associated with every ensemble in the set of events.
      *
@@ -229,36 +268,32 @@ public class TimeSeriesOfEnsembleUpscaler implements TimeSeriesUpscaler<Ensemble
      * @throws UnsupportedOperationException if the nominated function is not recognized
      */
 
-    private ToDoubleFunction<List<Double>> getTraceUpscaler( TimeScaleFunction function )
+    private ToDoubleFunction<double[]> getTraceUpscaler( TimeScaleFunction function )
     {
         return events -> {
 
-            List<Double> eventsToUse = events;
+            double[] eventsToUse = events;
 
             if ( this.isLenient() )
             {
-                eventsToUse = eventsToUse.stream()
-                                         .filter( Double::isFinite )
-                                         .toList();
+                eventsToUse = Arrays.stream( eventsToUse )
+                                    .filter( Double::isFinite )
+                                    .toArray();
             }
 
             return switch ( function )
                     {
-                        case MAXIMUM -> eventsToUse.stream()
-                                                   .mapToDouble( Double::valueOf )
-                                                   .max()
-                                                   .orElse( MissingValues.DOUBLE );
-                        case MEAN -> eventsToUse.stream()
-                                                .mapToDouble( Double::valueOf )
-                                                .average()
-                                                .orElse( MissingValues.DOUBLE );
-                        case MINIMUM -> eventsToUse.stream()
-                                                   .mapToDouble( Double::valueOf )
-                                                   .min()
-                                                   .orElse( MissingValues.DOUBLE );
-                        case TOTAL -> eventsToUse.stream()
-                                                 .mapToDouble( Double::valueOf )
-                                                 .sum();
+                        case MAXIMUM -> Arrays.stream( eventsToUse )
+                                              .max()
+                                              .orElse( MissingValues.DOUBLE );
+                        case MEAN -> Arrays.stream( eventsToUse )
+                                           .average()
+                                           .orElse( MissingValues.DOUBLE );
+                        case MINIMUM -> Arrays.stream( eventsToUse )
+                                              .min()
+                                              .orElse( MissingValues.DOUBLE );
+                        case TOTAL -> Arrays.stream( eventsToUse )
+                                            .sum();
                         default -> throw new UnsupportedOperationException(
                                 "Could not create an upscaling function for the "
                                 + "function identifier '"
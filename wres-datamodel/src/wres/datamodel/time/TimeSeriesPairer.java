@@ -1,5 +1,7 @@
 package wres.datamodel.time;
 
+import java.util.Objects;
+
 import org.apache.commons.lang3.tuple.Pair;
 
 import wres.datamodel.pools.pairs.PairingException;
@@ -44,4 +46,23 @@ public interface TimeSeriesPairer<L, R>
      */
 
     TimeSeries<Pair<L, R>> pair( TimeSeries<L> left, TimeSeries<R> right );
+
+    /**
+     * Pairs an indexed left input with a right input. An {@link IndexedTimeSeries} should be built once for a left
+     * time-series that is paired with many right time-series, such as observations that are paired with forecasts.
+     * By default, pairs the underlying left time-series using {@link #pair(TimeSeries, TimeSeries)}.
+     *
+     * @param left the indexed left series
+     * @param right the right series
+     * @return the pairs
+     * @throws PairingException if the pairs could not be created
+     * @throws NullPointerException if either input is null
+     */
+
+    default TimeSeries<Pair<L, R>> pairIndexed( IndexedTimeSeries<L> left, TimeSeries<R> right )
+    {
+        Objects.requireNonNull( left, "Cannot pair a left time-series that is null." );
+
+        return this.pair( left.getTimeSeries(), right );
+    }
 }
@@ -31,7 +31,10 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  * 
  * <p>Can optionally add validation checks for admissible values on the left and right. If either the left or
  * right values are not admissible, no pair is added.
- * 
+ *
+ * <p>When a left time-series is paired with many right time-series, it should be indexed once and paired with
+ * {@link #pairIndexed(IndexedTimeSeries, TimeSeries)}, which conducts a merge join over the sorted valid times.
+ *
  * @param <L> the left type of event value
  * @param <R> the right type of event value
  * @author James Brown
@@ -134,22 +137,18 @@ public class TimeSeriesPairerByExactTime<L, R> implements TimeSeriesPairer<L, R>
         Map<ReferenceTimeType, Instant> referenceTimes = this.getLeftOrRightOrIntersectingReferenceTimes( left, right );
 
         // If pairing by reference time and both have reference times and none intersect, then there are no pairs
-        if ( this.getTimePairingType() == TimePairingType.REFERENCE_TIME_AND_VALID_TIME
-             && referenceTimes.isEmpty()
-             && !left.getReferenceTimes().isEmpty()
-             && !right.getReferenceTimes().isEmpty() )
+        if ( this.hasNoIntersectingReferenceTimes( left, right, referenceTimes ) )
         {
-            LOGGER.debug( "While attempting to pair left time-series {} with right time-series {} using a time-based "
-                          + "pairing strategy of {}, discovered no intersecting reference times in the two time series "
-                          + "and hence no pairs.",
-                          left.hashCode(),
-                          right.hashCode(),
-                          TimePairingType.REFERENCE_TIME_AND_VALID_TIME );
-
             return new Builder<Pair<L, R>>().setMetadata( right.getMetadata() )
                                             .build();
         }
 
+        // Columnar events on both sides? Then merge the sorted valid times directly
+        if ( left.hasColumns() && right.hasColumns() )
+        {
+            return this.pairByMerge( IndexedTimeSeries.of( left ), right, referenceTimes );
+        }
+
         // Map the left admissible values by valid time
         Map<Instant, Event<L>> mapper = new HashMap<>();
         left.getEvents()
@@ -197,6 +196,162 @@ public class TimeSeriesPairerByExactTime<L, R> implements TimeSeriesPairer<L, R>
         return builder.build();
     }
 
+    /**
+     * Pairs an indexed left time-series with a right time-series using a merge join over the sorted valid times. The
+     * search begins at the first left time that is not earlier than the first right time, so the cost of pairing
+     * each right time-series is proportional to its own size, plus a binary search, and not the size of the left
+     * time-series. Inadmissible values are only counted at intersecting times.
+     *
+     * @param left the indexed left series
+     * @param right the right series
+     * @return the pairs
+     * @throws PairingException if the pairs could not be created
+     * @throws NullPointerException if either input is null
+     */
+
+    @Override
+    public TimeSeries<Pair<L, R>> pairIndexed( IndexedTimeSeries<L> left, TimeSeries<R> right )
+    {
+        Objects.requireNonNull( left, "Cannot pair a left time-series that is null." );
+        Objects.requireNonNull( right, "Cannot pair a right time-series that is null." );
+
+        TimeSeries<L> leftSeries = left.getTimeSeries();
+
+        this.validateTimeScalesForPairing( leftSeries, right );
+
+        // Any reference times on one side only or that intersect in both type and value?
+        Map<ReferenceTimeType, Instant> referenceTimes =
+                this.getLeftOrRightOrIntersectingReferenceTimes( leftSeries, right );
+
+        // If pairing by reference time and both have reference times and none intersect, then there are no pairs
+        if ( this.hasNoIntersectingReferenceTimes( leftSeries, right, referenceTimes ) )
+        {
+            return new Builder<Pair<L, R>>().setMetadata( right.getMetadata() )
+                                            .build();
+        }
+
+        return this.pairByMerge( left, right, referenceTimes );
+    }
+
+    /**
+     * Returns <code>true</code> if pairing by reference time and valid time and both time-series have reference times,
+     * but none intersect, otherwise <code>false</code>.
+     *
+     * @param left the left time-series
+     * @param right the right time-series
+     * @param referenceTimes the reference times of the pairs
+     * @return true if there are no intersecting reference times to pair, otherwise false
+     */
+
+    private boolean hasNoIntersectingReferenceTimes( TimeSeries<L> left,
+                                                     TimeSeries<R> right,
+                                                     Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        if ( this.getTimePairingType() == TimePairingType.REFERENCE_TIME_AND_VALID_TIME
+             && referenceTimes.isEmpty()
+             && !left.getReferenceTimes().isEmpty()
+             && !right.getReferenceTimes().isEmpty() )
+        {
+            LOGGER.debug( "While attempting to pair left time-series {} with right time-series {} using a time-based "
+                          + "pairing strategy of {}, discovered no intersecting reference times in the two time series "
+                          + "and hence no pairs.",
+                          left.hashCode(),
+                          right.hashCode(),
+                          TimePairingType.REFERENCE_TIME_AND_VALID_TIME );
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Pairs an indexed left time-series with a right time-series by merging their sorted valid times, which avoids
+     * hashing the left events and only creates events at intersecting times. Inadmissible values are only counted
+     * at intersecting times.
+     *
+     * @param left the indexed left time-series
+     * @param right the right time-series
+     * @param referenceTimes the reference times of the pairs
+     * @return the paired time-series
+     */
+
+    private TimeSeries<Pair<L, R>> pairByMerge( IndexedTimeSeries<L> left,
+                                                TimeSeries<R> right,
+                                                Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        TimeSeries<L> leftSeries = left.getTimeSeries();
+        IndexedTimeSeries<R> indexedRight = IndexedTimeSeries.of( right );
+        int leftSize = left.size();
+        int rightSize = indexedRight.size();
+
+        TimeSeriesMetadata metadata =
+                new TimeSeriesMetadata.Builder( leftSeries.getMetadata() ).setReferenceTimes( referenceTimes )
+                                                                          .build();
+
+        TimeSeries.Builder<Pair<L, R>> builder = new TimeSeries.Builder<Pair<L, R>>().setMetadata( metadata );
+
+        if ( rightSize == 0 )
+        {
+            return builder.build();
+        }
+
+        int leftInadmissible = 0;
+        int rightInadmissible = 0;
+
+        // Begin at the first left time that is not earlier than the first right time
+        int leftIndex = left.getLowerBound( indexedRight.getSeconds( 0 ), indexedRight.getNanos( 0 ) );
+        int rightIndex = 0;
+
+        while ( leftIndex < leftSize && rightIndex < rightSize )
+        {
+            int compare = left.compare( leftIndex,
+                                        indexedRight.getSeconds( rightIndex ),
+                                        indexedRight.getNanos( rightIndex ) );
+
+            if ( compare < 0 )
+            {
+                leftIndex++;
+            }
+            else if ( compare > 0 )
+            {
+                rightIndex++;
+            }
+            else
+            {
+                Event<L> nextLeft = left.getEvent( leftIndex );
+                Event<R> nextRight = indexedRight.getEvent( rightIndex );
+                boolean leftAdmissible = this.leftAdmissibleValue.test( nextLeft.getValue() );
+                boolean rightAdmissible = this.rightAdmissibleValue.test( nextRight.getValue() );
+
+                if ( leftAdmissible && rightAdmissible )
+                {
+                    Pair<L, R> pair = Pair.of( nextLeft.getValue(), nextRight.getValue() );
+                    Event<Pair<L, R>> event = Event.of( nextLeft.getTime(), pair );
+                    builder.addEvent( event );
+                }
+
+                if ( !leftAdmissible )
+                {
+                    leftInadmissible++;
+                }
+
+                if ( !rightAdmissible )
+                {
+                    rightInadmissible++;
+                }
+
+                leftIndex++;
+                rightIndex++;
+            }
+        }
+
+        // Log inadmissible cases
+        this.logInadmissibleCases( leftSeries, right, leftInadmissible, rightInadmissible );
+
+        return builder.build();
+    }
+
     /**
      * Validates the time-scale information for pairing.
      * 
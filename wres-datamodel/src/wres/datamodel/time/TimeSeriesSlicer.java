@@ -398,6 +398,15 @@ public final class TimeSeriesSlicer
             return builder.build();
         }
 
+        // Columnar events? Then slice the columns directly
+        if ( input.hasColumns()
+             && referenceTimes.values()
+                              .stream()
+                              .allMatch( next -> next.getNano() == 0 ) )
+        {
+            return TimeSeriesSlicer.filter( input.getColumns(), metadata, timeWindow, referenceTimes.values() );
+        }
+
         // Iterate through the events and include events within the window
         for ( Event<T> nextEvent : input.getEvents() )
         {
@@ -492,6 +501,12 @@ public final class TimeSeriesSlicer
 
         Objects.requireNonNull( intervals, NULL_INPUT_EXCEPTION );
 
+        // Columnar events? Then search for each interval, which is O(m log n)
+        if ( events instanceof TimeSeriesColumns.EventView<T> view )
+        {
+            return TimeSeriesSlicer.groupEventsByInterval( view, intervals );
+        }
+
         Map<Instant, SortedSet<Event<T>>> grouped = new HashMap<>();
 
         // Events in a sorted list
@@ -2201,6 +2216,121 @@ public final class TimeSeriesSlicer
         return Collections.unmodifiableMap( returnMe );
     }
 
+    /**
+     * Returns a filtered {@link TimeSeries} whose columnar events are within the right-closed time intervals contained
+     * in the prescribed {@link TimeWindowOuter}. Uses a binary search on the valid times, rather than inspecting each
+     * event. The valid times and reference times must be whole seconds.
+     *
+     * @param <T> the type of time-series data
+     * @param columns the columns to slice
+     * @param metadata the metadata of the filtered time-series
+     * @param timeWindow the time window on which to slice
+     * @param referenceTimes the reference times whose lead durations should be considered
+     * @return the subset of the input that meets the condition
+     */
+
+    private static <T> TimeSeries<T> filter( TimeSeriesColumns columns,
+                                             TimeSeriesMetadata metadata,
+                                             TimeWindowOuter timeWindow,
+                                             Collection<Instant> referenceTimes )
+    {
+        Instant earliestValidTime = timeWindow.getEarliestValidTime();
+        Instant latestValidTime = timeWindow.getLatestValidTime();
+
+        // Right-closed bounds in epoch seconds. Since the event times are whole seconds, any fractional second in a
+        // bound is equivalent to the whole seconds of that bound
+        long lowerExclusive = earliestValidTime.getEpochSecond();
+        long upperInclusive = latestValidTime.getEpochSecond();
+
+        // Unbounded, which includes the minimum instant
+        if ( earliestValidTime.equals( Instant.MIN ) && latestValidTime.equals( Instant.MAX ) )
+        {
+            lowerExclusive = Long.MIN_VALUE;
+        }
+
+        // Constrain the valid times by the lead durations
+        long earliestLead = timeWindow.getEarliestLeadDuration()
+                                      .getSeconds();
+        long latestLead = timeWindow.getLatestLeadDuration()
+                                    .getSeconds();
+        for ( Instant nextReference : referenceTimes )
+        {
+            long reference = nextReference.getEpochSecond();
+            lowerExclusive = Math.max( lowerExclusive, TimeSeriesSlicer.addSaturated( reference, earliestLead ) );
+            upperInclusive = Math.min( upperInclusive, TimeSeriesSlicer.addSaturated( reference, latestLead ) );
+        }
+
+        int from = columns.getUpperBound( lowerExclusive );
+        int to = columns.getUpperBound( upperInclusive );
+
+        if ( from >= to )
+        {
+            return new TimeSeries.Builder<T>().setMetadata( metadata )
+                                              .build();
+        }
+
+        return TimeSeries.ofColumns( metadata, columns.slice( from, to ) );
+    }
+
+    /**
+     * Groups columnar events by interval using a binary search for each interval.
+     *
+     * @see #groupEventsByInterval(SortedSet, SortedSet)
+     * @param <T> the type of event value
+     * @param events the events to group
+     * @param intervals the intervals within which to group events
+     * @return the grouped events
+     */
+
+    private static <T> Map<Instant, SortedSet<Event<T>>> groupEventsByInterval( TimeSeriesColumns.EventView<T> events,
+                                                                                SortedSet<Pair<Instant, Instant>> intervals )
+    {
+        Map<Instant, SortedSet<Event<T>>> grouped = new HashMap<>();
+
+        for ( Pair<Instant, Instant> nextInterval : intervals )
+        {
+            Instant nextEnd = nextInterval.getRight();
+            SortedSet<Event<T>> nextGroup = events.subSetByTime( nextInterval.getLeft(), nextEnd );
+
+            if ( !nextGroup.isEmpty() )
+            {
+                // Intervals that share an end time contribute to the same group
+                SortedSet<Event<T>> existing = grouped.get( nextEnd );
+                if ( Objects.nonNull( existing ) )
+                {
+                    SortedSet<Event<T>> merged = new TreeSet<>( existing );
+                    merged.addAll( nextGroup );
+                    nextGroup = merged;
+                }
+
+                grouped.put( nextEnd, nextGroup );
+            }
+        }
+
+        return Collections.unmodifiableMap( grouped );
+    }
+
+    /**
+     * Adds two numbers, saturating at the minimum or maximum long value on overflow.
+     *
+     * @param first the first number
+     * @param second the second number
+     * @return the sum or the saturated sum
+     */
+
+    private static long addSaturated( long first, long second )
+    {
+        long sum = first + second;
+
+        // Overflow if both inputs have the opposite sign to the sum
+        if ( ( ( first ^ sum ) & ( second ^ sum ) ) < 0 )
+        {
+            return first < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+
+        return sum;
+    }
+
     /**
      * Returns true if the input time is contained within the right-closed bounds provided.
      *
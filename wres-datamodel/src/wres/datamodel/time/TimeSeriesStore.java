@@ -1,7 +1,10 @@
 package wres.datamodel.time;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
@@ -18,7 +21,9 @@ import wres.datamodel.types.Ensemble;
 import wres.datamodel.space.Feature;
 
 /**
- * Store of {@link TimeSeries} that is built incrementally with a {@link Builder}.
+ * Store of {@link TimeSeries} that is built incrementally with a {@link Builder}. When built, the time-series are
+ * indexed by orientation, feature and variable name and, within each of these, by valid time, so that the time-series
+ * for a pool are found without visiting every time-series in the store.
  * @author James Brown
  */
 
@@ -52,6 +57,12 @@ public class TimeSeriesStore
     /** Baseline-ish time-series of {@link Ensemble}. **/
     private final List<TimeSeries<Ensemble>> baselineEnsembleSeries;
 
+    /** Index of the single-valued time-series by orientation. **/
+    private final Map<DatasetOrientation, TimeSeriesIndex<Double>> singleValuedIndex;
+
+    /** Index of the ensemble time-series by orientation. **/
+    private final Map<DatasetOrientation, TimeSeriesIndex<Ensemble>> ensembleIndex;
+
     /**
      * Returns all single-valued series by feature.
      * @param orientation the orientation
@@ -69,18 +80,8 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
-                                                     this.rightSingleValuedSeries,
-                                                     this.baselineSingleValuedSeries,
-                                                     this.covariateSingleValuedSeries,
-                                                     orientation )
-                              .stream()
-                              .filter( next -> features.contains( next.getMetadata()
-                                                                      .getFeature() )
-                                               && ( Objects.isNull( variableName )
-                                                    || Objects.equals( next.getMetadata()
-                                                                           .getVariableName(),
-                                                                       variableName ) ) );
+        return this.singleValuedIndex.get( orientation )
+                                     .get( features, variableName );
     }
 
     /**
@@ -136,19 +137,8 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
-                                                     this.rightSingleValuedSeries,
-                                                     this.baselineSingleValuedSeries,
-                                                     this.covariateSingleValuedSeries,
-                                                     orientation )
-                              .stream()
-                              .filter( next -> features.contains( next.getMetadata()
-                                                                      .getFeature() )
-                                               && ( Objects.isNull( variableName )
-                                                    || Objects.equals( next.getMetadata()
-                                                                           .getVariableName(),
-                                                                       variableName ) ) )
-                              .map( next -> TimeSeriesSlicer.filter( next, timeWindow ) );
+        return this.singleValuedIndex.get( orientation )
+                                     .get( timeWindow, features, variableName );
     }
 
     /**
@@ -171,25 +161,17 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return this.getOrDeriveEnsemble( TimeSeriesStore.getEnsembleStore( this.leftEnsembleSeries,
-                                                                           this.rightEnsembleSeries,
-                                                                           this.baselineEnsembleSeries,
-                                                                           this.covariateEnsembleSeries,
-                                                                           orientation ),
-                                         TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
-                                                                               this.rightSingleValuedSeries,
-                                                                               this.baselineSingleValuedSeries,
-                                                                               this.covariateSingleValuedSeries,
-                                                                               orientation ) )
-                   .stream()
-                   .filter( next -> features.contains( next.getMetadata()
-                                                           .getFeature() )
-                                    && ( Objects.isNull( variableName )
-                                         || Objects.equals( next.getMetadata()
-                                                                .getVariableName(),
-                                                            variableName ) ) )
-                   .map( next -> TimeSeriesSlicer.filter( next,
-                                                          timeWindow ) );
+        TimeSeriesIndex<Ensemble> ensembles = this.ensembleIndex.get( orientation );
+
+        if ( !ensembles.isEmpty() )
+        {
+            return ensembles.get( timeWindow, features, variableName );
+        }
+
+        // Derive one-member ensembles from the single-valued time-series found, see GitHub #803
+        return this.singleValuedIndex.get( orientation )
+                                     .get( timeWindow, features, variableName )
+                                     .map( s -> TimeSeriesSlicer.transform( s, Ensemble::of, m -> m ) );
     }
 
     /**
@@ -416,6 +398,30 @@ public class TimeSeriesStore
         this.covariateSingleValuedSeries = List.copyOf( builder.covariateSingleValuedSeries );
         this.covariateEnsembleSeries = List.copyOf( builder.covariateEnsembleSeries );
 
+        Map<DatasetOrientation, TimeSeriesIndex<Double>> singleValuedIndexInner =
+                new EnumMap<>( DatasetOrientation.class );
+        Map<DatasetOrientation, TimeSeriesIndex<Ensemble>> ensembleIndexInner =
+                new EnumMap<>( DatasetOrientation.class );
+
+        for ( DatasetOrientation orientation : DatasetOrientation.values() )
+        {
+            singleValuedIndexInner.put( orientation,
+                                        TimeSeriesIndex.of( TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
+                                                                                                  this.rightSingleValuedSeries,
+                                                                                                  this.baselineSingleValuedSeries,
+                                                                                                  this.covariateSingleValuedSeries,
+                                                                                                  orientation ) ) );
+            ensembleIndexInner.put( orientation,
+                                    TimeSeriesIndex.of( TimeSeriesStore.getEnsembleStore( this.leftEnsembleSeries,
+                                                                                          this.rightEnsembleSeries,
+                                                                                          this.baselineEnsembleSeries,
+                                                                                          this.covariateEnsembleSeries,
+                                                                                          orientation ) ) );
+        }
+
+        this.singleValuedIndex = Collections.unmodifiableMap( singleValuedIndexInner );
+        this.ensembleIndex = Collections.unmodifiableMap( ensembleIndexInner );
+
         if ( LOGGER.isInfoEnabled() )
         {
             int size = this.leftSingleValuedSeries.size()
@@ -626,6 +626,111 @@ public class TabularDataset implements DataProvider
                                       "' cannot be casted as a integer array." );
     }
 
+    @Override
+    public double[] getPrimitiveDoubleArray( String columnName )
+    {
+        if ( this.isClosed() )
+        {
+            throw new IllegalStateException( THE_DATA_SET_IS_INACCESSIBLE );
+        }
+
+        Object array = this.getObject( columnName );
+
+        if ( array == null )
+        {
+            return new double[0];
+        }
+        else if ( array instanceof double[] v )
+        {
+            return v.clone();
+        }
+        else if ( array instanceof Number[] v )
+        {
+            double[] result = new double[v.length];
+
+            for ( int i = 0; i < v.length; ++i )
+            {
+                result[i] = v[i] == null ? MissingValues.DOUBLE : v[i].doubleValue();
+            }
+
+            return result;
+        }
+        else if ( array instanceof String[] v )
+        {
+            double[] result = new double[v.length];
+
+            for ( int i = 0; i < v.length; ++i )
+            {
+                result[i] = v[i] == null ? MissingValues.DOUBLE : Double.parseDouble( v[i] );
+            }
+
+            return result;
+        }
+
+        Double[] boxed = this.getDoubleArray( columnName );
+        double[] result = new double[boxed.length];
+
+        for ( int i = 0; i < boxed.length; ++i )
+        {
+            result[i] = boxed[i] == null ? MissingValues.DOUBLE : boxed[i];
+        }
+
+        return result;
+    }
+
+    @Override
+    public long[] getPrimitiveLongArray( String columnName )
+    {
+        if ( this.isClosed() )
+        {
+            throw new IllegalStateException( THE_DATA_SET_IS_INACCESSIBLE );
+        }
+
+        Object array = this.getObject( columnName );
+
+        if ( array == null )
+        {
+            return new long[0];
+        }
+        else if ( array instanceof long[] v )
+        {
+            return v.clone();
+        }
+        else if ( array instanceof Number[] v )
+        {
+            long[] result = new long[v.length];
+
+            for ( int i = 0; i < v.length; ++i )
+            {
+                if ( v[i] == null )
+                {
+                    throw new IllegalStateException( "The array in the column '" + columnName
+                                                     + "' contains a null value." );
+                }
+
+                result[i] = v[i].longValue();
+            }
+
+            return result;
+        }
+        else if ( array instanceof String[] v )
+        {
+            long[] result = new long[v.length];
+
+            for ( int i = 0; i < v.length; ++i )
+            {
+                result[i] = Long.parseLong( v[i] );
+            }
+
+            return result;
+        }
+
+        throw new ClassCastException( THE_TYPE +
+                                      array.getClass() +
+                                      IN_THE_COLUMN + columnName +
+                                      "' cannot be casted as a long array." );
+    }
+
     @Override
     public BigDecimal getBigDecimal( String columnName )
     {
@@ -133,6 +133,7 @@ class DefaultDataProviderTest
             assertEquals( provider.getFloat( FLOAT ), testFloat, 0.00001F );
             assertEquals( provider.getDouble( DOUBLE ), testDouble, 0.000001 );
             assertArrayEquals( provider.getDoubleArray( "double[]" ), testDoubles );
+            assertArrayEquals( new double[] { 1.0, 2.0, 3.0 }, provider.getPrimitiveDoubleArray( "double[]" ) );
             assertEquals( provider.getBigDecimal( "bigdecimal" ), testDecimal );
             assertEquals( provider.getBoolean( "boolean" ), testBoolean );
             assertEquals( provider.getDate( "localdate" ), testDate );
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well512a;
@@ -337,7 +338,46 @@ class StationaryBootstrapResamplerTest
 
         assertEquals( expected, actual );
     }
-    
+
+    @Test
+    void testResampleWithPrescribedGeneratorDependsOnlyOnGenerator()
+    {
+        TimeSeries.Builder<Double> builder = new TimeSeries.Builder<Double>()
+                .setMetadata( StationaryBootstrapResamplerTest.getBoilerplateMetadata( null ) );
+        Instant start = Instant.parse( "1988-10-04T17:00:00Z" );
+        for ( int i = 0; i < 100; i++ )
+        {
+            builder.addEvent( Event.of( start.plus( Duration.ofHours( i ) ), ( double ) i ) );
+        }
+
+        Pool<TimeSeries<Double>> pool = Pool.of( List.of( builder.build() ), PoolMetadata.of() );
+
+        StationaryBootstrapResampler<Double> resampler = StationaryBootstrapResampler.of( pool,
+                                                                                          3,
+                                                                                          Duration.ofHours( 1 ),
+                                                                                          new Well512a( 123456 ),
+                                                                                          ForkJoinPool.commonPool() );
+
+        // Resample with the same seeds sequentially and in parallel
+        List<Pool<TimeSeries<Double>>> sequential = IntStream.range( 0, 20 )
+                                                             .mapToObj( i -> resampler.resample( new Well512a( i ) ) )
+                                                             .toList();
+        List<Pool<TimeSeries<Double>>> parallel = IntStream.range( 0, 20 )
+                                                           .parallel()
+                                                           .mapToObj( i -> resampler.resample( new Well512a( i ) ) )
+                                                           .toList();
+
+        // The generator supplied on construction is independent and gives the same result for the same seed
+        StationaryBootstrapResampler<Double> another = StationaryBootstrapResampler.of( pool,
+                                                                                        3,
+                                                                                        Duration.ofHours( 1 ),
+                                                                                        new Well512a( 7 ),
+                                                                                        ForkJoinPool.commonPool() );
+
+        assertAll( () -> assertEquals( sequential, parallel ),
+                   () -> assertEquals( sequential.get( 7 ), another.resample() ) );
+    }
+
     @Test
     void testResampleProducesExpectedPoolShapeWhenPoolContainsMinipools()
     {
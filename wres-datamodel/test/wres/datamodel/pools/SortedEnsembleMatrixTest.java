@@ -0,0 +1,57 @@
+package wres.datamodel.pools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.Slicer;
+import wres.datamodel.types.Ensemble;
+
+/**
+ * Tests the {@link SortedEnsembleMatrix}.
+ *
+ * @author James Brown
+ */
+
+class SortedEnsembleMatrixTest
+{
+    /** Pairs with ragged ensembles. */
+    private static final List<Pair<Double, Ensemble>> PAIRS = List.of( Pair.of( 1.0, Ensemble.of( 3, 1, 2 ) ),
+                                                                       Pair.of( 2.0, Ensemble.of( 5, 4 ) ),
+                                                                       Pair.of( 3.0, Ensemble.of( 9, 7, 8 ) ),
+                                                                       Pair.of( 4.0, Ensemble.of( 6 ) ) );
+
+    @Test
+    void testRowsContainObservedValuesAndSortedMembers()
+    {
+        SortedEnsembleMatrix matrix = SortedEnsembleMatrix.of( PAIRS );
+
+        assertEquals( 4, matrix.getRowCount() );
+        assertEquals( 2.0, matrix.getObserved( 1 ) );
+        assertEquals( 3, matrix.getMemberCount( 2 ) );
+        assertArrayEquals( new double[] { 1, 2, 3 }, matrix.getSortedMembers( 0 ) );
+        assertArrayEquals( new double[] { 4, 5 }, matrix.getSortedMembers( 1 ) );
+        assertArrayEquals( new double[] { 7, 8, 9 }, matrix.getSortedMembers( 2 ) );
+        assertEquals( 6.0, matrix.getMember( 3, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> matrix.getMember( 3, 1 ) );
+    }
+
+    @Test
+    void testRowsBySizeMatchesFilterByRightSize()
+    {
+        SortedEnsembleMatrix matrix = SortedEnsembleMatrix.of( PAIRS );
+        Map<Integer, int[]> actual = matrix.getRowsBySize();
+        Map<Integer, List<Pair<Double, Ensemble>>> expected = Slicer.filterByRightSize( PAIRS );
+
+        assertEquals( expected.keySet(), actual.keySet() );
+        assertArrayEquals( new int[] { 3 }, actual.get( 1 ) );
+        assertArrayEquals( new int[] { 1 }, actual.get( 2 ) );
+        assertArrayEquals( new int[] { 0, 2 }, actual.get( 3 ) );
+    }
+}
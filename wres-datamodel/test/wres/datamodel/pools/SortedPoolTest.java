@@ -0,0 +1,172 @@
+package wres.datamodel.pools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wres.config.components.ThresholdOperator;
+import wres.config.components.ThresholdOrientation;
+import wres.datamodel.Slicer;
+import wres.datamodel.thresholds.ThresholdOuter;
+import wres.datamodel.types.OneOrTwoDoubles;
+
+/**
+ * Tests the {@link SortedPool}.
+ *
+ * @author James Brown
+ */
+
+class SortedPoolTest
+{
+    /** A pool with two mini-pools and a baseline, some pairs of which contain ties and missing values. */
+    private Pool<Pair<Double, Double>> pool;
+
+    /** Thresholds to test. */
+    private List<ThresholdOuter> thresholds;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        Random random = new Random( 12345 );
+
+        Pool.Builder<Pair<Double, Double>> builder = new Pool.Builder<>();
+        for ( int i = 0; i < 2; i++ )
+        {
+            Pool<Pair<Double, Double>> miniPool = new Pool.Builder<Pair<Double, Double>>()
+                    .addData( this.getPairs( random, 200 ) )
+                    .setMetadata( PoolMetadata.of() )
+                    .addDataForBaseline( this.getPairs( random, 150 ) )
+                    .setMetadataForBaseline( PoolMetadata.of( true ) )
+                    .build();
+            builder.addPool( miniPool );
+        }
+
+        this.pool = builder.build();
+
+        this.thresholds = new ArrayList<>();
+        for ( ThresholdOperator operator : ThresholdOperator.values() )
+        {
+            for ( double value : new double[] { Double.NEGATIVE_INFINITY, 0.0, 3.0, 7.0, 11.0 } )
+            {
+                // A two-sided threshold must have an upper bound larger than its lower bound
+                if ( operator == ThresholdOperator.BETWEEN
+                     && Double.isInfinite( value ) )
+                {
+                    continue;
+                }
+
+                OneOrTwoDoubles values = operator == ThresholdOperator.BETWEEN
+                                         ? OneOrTwoDoubles.of( value, value + 4.0 )
+                                         : OneOrTwoDoubles.of( value );
+                this.thresholds.add( ThresholdOuter.of( values, operator, ThresholdOrientation.OBSERVED ) );
+            }
+        }
+    }
+
+    @Test
+    void testFilterMatchesFilterByPredicate()
+    {
+        SortedPool sorted = SortedPool.of( this.pool );
+
+        Map<SortedPool.Side, Function<ThresholdOuter, Predicate<Pair<Double, Double>>>> predicates =
+                Map.of( SortedPool.Side.LEFT, Slicer::left,
+                        SortedPool.Side.RIGHT, Slicer::right,
+                        SortedPool.Side.LEFT_AND_RIGHT, Slicer::leftAndRight );
+
+        for ( ThresholdOuter threshold : this.thresholds )
+        {
+            for ( SortedPool.Side side : SortedPool.Side.values() )
+            {
+                Pool<Pair<Double, Double>> expected = PoolSlicer.filter( this.pool,
+                                                                         predicates.get( side )
+                                                                                   .apply( threshold ),
+                                                                         null,
+                                                                         meta -> meta );
+                Pool<Pair<Double, Double>> actual = sorted.filter( threshold, side, meta -> meta );
+
+                assertEquals( expected, actual, "Unexpected pairs for " + threshold + " applied to " + side + "." );
+            }
+        }
+    }
+
+    @Test
+    void testTransformToDichotomousMatchesTransformByPredicateCounts()
+    {
+        SortedPool sorted = SortedPool.of( this.pool );
+
+        for ( ThresholdOuter threshold : this.thresholds )
+        {
+            Pool<Pair<Boolean, Boolean>> expected =
+                    PoolSlicer.transform( this.pool,
+                                          pair -> Pair.of( threshold.test( pair.getLeft() ),
+                                                           threshold.test( pair.getRight() ) ),
+                                          meta -> meta );
+            Pool<Pair<Boolean, Boolean>> actual = sorted.transformToDichotomous( threshold, meta -> meta );
+
+            for ( int i = 0; i < expected.getMiniPools()
+                                         .size(); i++ )
+            {
+                Pool<Pair<Boolean, Boolean>> expectedMini = expected.getMiniPools()
+                                                                    .get( i );
+                Pool<Pair<Boolean, Boolean>> actualMini = actual.getMiniPools()
+                                                                .get( i );
+
+                assertEquals( this.getCounts( expectedMini.get() ), this.getCounts( actualMini.get() ) );
+                assertEquals( this.getCounts( expectedMini.getBaselineData()
+                                                          .get() ),
+                              this.getCounts( actualMini.getBaselineData()
+                                                        .get() ) );
+                assertEquals( expectedMini.getMetadata(), actualMini.getMetadata() );
+            }
+        }
+    }
+
+    /**
+     * @param pairs the dichotomous pairs
+     * @return the count of each outcome, in the order true/true, true/false, false/true and false/false
+     */
+
+    private List<Long> getCounts( List<Pair<Boolean, Boolean>> pairs )
+    {
+        List<Long> counts = new ArrayList<>();
+        for ( Pair<Boolean, Boolean> outcome : List.of( Pair.of( true, true ),
+                                                        Pair.of( true, false ),
+                                                        Pair.of( false, true ),
+                                                        Pair.of( false, false ) ) )
+        {
+            counts.add( pairs.stream()
+                             .filter( outcome::equals )
+                             .count() );
+        }
+
+        return counts;
+    }
+
+    /**
+     * @param random the random number generator
+     * @param count the number of pairs
+     * @return pairs of integer values, some of which are missing
+     */
+
+    private List<Pair<Double, Double>> getPairs( Random random, int count )
+    {
+        List<Pair<Double, Double>> pairs = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            double left = random.nextInt( 12 );
+            double right = random.nextInt( 10 ) == 0 ? Double.NaN : random.nextInt( 12 );
+            pairs.add( Pair.of( left, right ) );
+        }
+
+        return pairs;
+    }
+}
@@ -0,0 +1,200 @@
+package wres.datamodel.time;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.types.Ensemble;
+import wres.datamodel.types.Ensemble.Labels;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+import wres.statistics.generated.TimeWindow;
+
+/**
+ * Tests the {@link TimeSeriesColumns}.
+ *
+ * @author James Brown
+ */
+class TimeSeriesColumnsTest
+{
+    private static final Instant T0 = Instant.parse( "2023-01-01T00:00:00Z" );
+    private static final Instant T1 = Instant.parse( "2023-01-01T01:00:00Z" );
+    private static final Instant T2 = Instant.parse( "2023-01-01T02:00:00Z" );
+    private static final Instant T3 = Instant.parse( "2023-01-01T03:00:00Z" );
+    private static final Instant T4 = Instant.parse( "2023-01-01T04:00:00Z" );
+
+    /** Single-valued events. */
+    private SortedSet<Event<Double>> events;
+
+    /** Metadata. */
+    private TimeSeriesMetadata metadata;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.events = new TreeSet<>();
+        this.events.add( Event.of( T1, 1.0 ) );
+        this.events.add( Event.of( T2, 2.0 ) );
+        this.events.add( Event.of( T3, 3.0 ) );
+        this.events.add( Event.of( T4, 4.0 ) );
+
+        this.metadata = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, T0 ),
+                                               TimeScaleOuter.of(),
+                                               "STREAMFLOW",
+                                               Feature.of( MessageUtilities.getGeometry( "DRRC2" ) ),
+                                               "CMS" );
+    }
+
+    @Test
+    void testBuilderStoresDoubleEventsInColumns()
+    {
+        TimeSeries<Double> series = TimeSeries.of( this.metadata, this.events );
+
+        assertAll( () -> assertTrue( series.hasColumns() ),
+                   () -> assertEquals( 4, series.getColumns()
+                                                .size() ),
+                   () -> assertEquals( this.events, series.getEvents() ),
+                   () -> assertEquals( series.getEvents(), this.events ),
+                   () -> assertEquals( this.events.hashCode(), series.getEvents()
+                                                                     .hashCode() ),
+                   () -> assertEquals( this.events.toString(), series.getEvents()
+                                                                     .toString() ),
+                   () -> assertEquals( Event.of( T1, 1.0 ), series.getEvents()
+                                                                  .first() ),
+                   () -> assertEquals( Event.of( T4, 4.0 ), series.getEvents()
+                                                                  .last() ) );
+    }
+
+    @Test
+    void testBuilderDoesNotStoreFractionalSecondsInColumns()
+    {
+        SortedSet<Event<Double>> fractional = new TreeSet<>( this.events );
+        fractional.add( Event.of( T4.plusMillis( 1 ), 5.0 ) );
+
+        TimeSeries<Double> series = TimeSeries.of( this.metadata, fractional );
+
+        assertAll( () -> assertFalse( series.hasColumns() ),
+                   () -> assertEquals( fractional, series.getEvents() ) );
+    }
+
+    @Test
+    void testColumnarAndEventSeriesAreEqual()
+    {
+        TimeSeriesColumns columns = TimeSeriesColumns.ofDoubles( new long[] { T1.getEpochSecond(),
+                                                                              T2.getEpochSecond(),
+                                                                              T3.getEpochSecond(),
+                                                                              T4.getEpochSecond() },
+                                                                 new double[] { 1.0, 2.0, 3.0, 4.0 } );
+
+        TimeSeries<Double> actual = TimeSeries.ofDoubles( this.metadata, columns );
+        TimeSeries<Double> expected = TimeSeries.of( this.metadata, this.events );
+
+        assertAll( () -> assertEquals( expected, actual ),
+                   () -> assertEquals( expected.hashCode(), actual.hashCode() ) );
+    }
+
+    @Test
+    void testEnsembleColumnsAreMemberMajor()
+    {
+        Labels labels = Labels.of( "a", "b", "c" );
+        SortedSet<Event<Ensemble>> ensembles = new TreeSet<>();
+        ensembles.add( Event.of( T1, Ensemble.of( new double[] { 1, 2, 3 }, labels ) ) );
+        ensembles.add( Event.of( T2, Ensemble.of( new double[] { 4, 5, 6 }, labels ) ) );
+
+        TimeSeries<Ensemble> series = TimeSeries.of( this.metadata, ensembles );
+        TimeSeriesColumns columns = series.getColumns();
+
+        assertAll( () -> assertTrue( columns.isEnsemble() ),
+                   () -> assertEquals( 3, columns.getMemberCount() ),
+                   () -> assertEquals( labels, columns.getLabels() ),
+                   () -> assertEquals( 5.0, columns.getMember( 1, 1 ) ),
+                   () -> assertArrayEquals( new double[] { 4, 5, 6 }, columns.getMembers( 1 ) ),
+                   () -> assertEquals( ensembles, series.getEvents() ),
+                   () -> assertEquals( ensembles.hashCode(), series.getEvents()
+                                                                   .hashCode() ) );
+    }
+
+    @Test
+    void testSearchBounds()
+    {
+        TimeSeriesColumns columns = TimeSeries.of( this.metadata, this.events )
+                                              .getColumns();
+
+        long two = T2.getEpochSecond();
+
+        assertAll( () -> assertEquals( 1, columns.indexOf( two ) ),
+                   () -> assertTrue( columns.indexOf( two + 1 ) < 0 ),
+                   () -> assertEquals( 1, columns.getLowerBound( two ) ),
+                   () -> assertEquals( 2, columns.getUpperBound( two ) ),
+                   () -> assertEquals( 0, columns.getLowerBound( T0.getEpochSecond() ) ),
+                   () -> assertEquals( 4, columns.getUpperBound( T4.getEpochSecond() ) ) );
+    }
+
+    @Test
+    void testFilterByTimeWindowSlicesColumns()
+    {
+        TimeSeries<Double> series = TimeSeries.of( this.metadata, this.events );
+
+        TimeWindow window = MessageUtilities.getTimeWindow( T0,
+                                                            T0,
+                                                            Duration.ofHours( 1 ),
+                                                            Duration.ofHours( 3 ) );
+        TimeSeries<Double> actual = TimeSeriesSlicer.filter( series, TimeWindowOuter.of( window ) );
+
+        SortedSet<Event<Double>> expectedEvents = new TreeSet<>();
+        expectedEvents.add( Event.of( T2, 2.0 ) );
+        expectedEvents.add( Event.of( T3, 3.0 ) );
+
+        TimeSeries<Double> expected = TimeSeries.of( this.metadata, expectedEvents );
+
+        assertAll( () -> assertTrue( actual.hasColumns() ),
+                   () -> assertEquals( expected, actual ) );
+    }
+
+    @Test
+    void testGroupEventsByIntervalUsesColumns()
+    {
+        TimeSeries<Double> series = TimeSeries.of( this.metadata, this.events );
+
+        SortedSet<Pair<Instant, Instant>> intervals = new TreeSet<>();
+        intervals.add( Pair.of( T0, T2 ) );
+        intervals.add( Pair.of( T1, T3 ) );
+        intervals.add( Pair.of( T4, T4.plusSeconds( 3600 ) ) );
+
+        Map<Instant, SortedSet<Event<Double>>> actual =
+                TimeSeriesSlicer.groupEventsByInterval( series.getEvents(), intervals );
+
+        SortedSet<Event<Double>> first = new TreeSet<>();
+        first.add( Event.of( T1, 1.0 ) );
+        first.add( Event.of( T2, 2.0 ) );
+        SortedSet<Event<Double>> second = new TreeSet<>();
+        second.add( Event.of( T2, 2.0 ) );
+        second.add( Event.of( T3, 3.0 ) );
+
+        assertEquals( Map.of( T2, first, T3, second ), actual );
+    }
+
+    @Test
+    void testOfDoublesThrowsExpectedExceptionWhenTimesAreNotIncreasing()
+    {
+        long[] times = new long[] { 2, 1 };
+        double[] values = new double[] { 1.0, 2.0 };
+
+        assertThrows( IllegalArgumentException.class, () -> TimeSeriesColumns.ofDoubles( times, values ) );
+    }
+}
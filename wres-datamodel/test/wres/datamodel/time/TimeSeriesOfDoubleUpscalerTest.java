@@ -929,4 +929,58 @@ public class TimeSeriesOfDoubleUpscalerTest
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testUpscaleToRollingMaximumAndTotalAtEveryValidTime()
+    {
+        // Eight hourly values, one of which is missing
+        Instant start = Instant.parse( "2079-12-03T00:00:00Z" );
+        double[] values = { 3.0, 1.0, 4.0, 1.0, 5.0, MissingValues.DOUBLE, 2.0, 6.0 };
+
+        TimeScaleOuter existingScale = TimeScaleOuter.of( Duration.ofHours( 1 ), TimeScaleFunction.TOTAL );
+        TimeSeriesMetadata metadata = getBoilerplateMetadataWithTimeScale( existingScale );
+        Builder<Double> builder = new Builder<Double>().setMetadata( metadata );
+        SortedSet<Instant> endsAt = new TreeSet<>();
+
+        for ( int i = 0; i < values.length; i++ )
+        {
+            Instant time = start.plus( Duration.ofHours( i ) );
+            builder.addEvent( Event.of( time, values[i] ) );
+            endsAt.add( time );
+        }
+
+        TimeSeries<Double> timeSeries = builder.build();
+        TimeSeriesUpscaler<Double> lenientUpscaler = TimeSeriesOfDoubleUpscaler.of( true );
+
+        // Rolling maximum over PT3H, ending at every valid time, including incomplete intervals when lenient
+        TimeScaleOuter maximumScale = TimeScaleOuter.of( Duration.ofHours( 3 ), TimeScaleFunction.MAXIMUM );
+        TimeSeries<Double> actualMaximum = lenientUpscaler.upscale( timeSeries, maximumScale, endsAt, UNIT )
+                                                          .getTimeSeries();
+
+        // Rolling total over PT3H, which is missing in strict mode when the interval contains a missing value
+        TimeScaleOuter totalScale = TimeScaleOuter.of( Duration.ofHours( 3 ), TimeScaleFunction.TOTAL );
+        TimeSeries<Double> actualTotal = this.upscaler.upscale( timeSeries, totalScale, endsAt, UNIT )
+                                                      .getTimeSeries();
+
+        double[] expectedMaximum = { 3.0, 3.0, 4.0, 4.0, 5.0, 5.0, 5.0, 6.0 };
+        double[] expectedTotal = { 8.0, 6.0, 10.0, MissingValues.DOUBLE, MissingValues.DOUBLE, MissingValues.DOUBLE };
+
+        Builder<Double> maximumBuilder =
+                new Builder<Double>().setMetadata( getBoilerplateMetadataWithTimeScale( maximumScale ) );
+        Builder<Double> totalBuilder =
+                new Builder<Double>().setMetadata( getBoilerplateMetadataWithTimeScale( totalScale ) );
+
+        for ( int i = 0; i < expectedMaximum.length; i++ )
+        {
+            maximumBuilder.addEvent( Event.of( start.plus( Duration.ofHours( i ) ), expectedMaximum[i] ) );
+        }
+
+        // Strict upscaling skips the first two intervals, which are incomplete
+        for ( int i = 0; i < expectedTotal.length; i++ )
+        {
+            totalBuilder.addEvent( Event.of( start.plus( Duration.ofHours( i + 2L ) ), expectedTotal[i] ) );
+        }
+
+        assertEquals( maximumBuilder.build(), actualMaximum );
+        assertEquals( totalBuilder.build(), actualTotal );
+    }
 }
@@ -391,6 +391,70 @@ public class TimeSeriesPairerByExactTimeTest
         assertEquals( fourthExpected, fourthActual );
     }
 
+    @Test
+    public void testPairIndexedCreatesSamePairsAsPairForManyRightSeries()
+    {
+        // Create a long left series
+        SortedSet<Event<Double>> leftEvents = new TreeSet<>();
+        for ( int i = 0; i < 48; i++ )
+        {
+            leftEvents.add( Event.of( FIRST_TIME.plus( Duration.ofHours( i ) ), ( double ) i ) );
+        }
+
+        TimeSeries<Double> left = TimeSeries.of( getBoilerplateMetadata(), leftEvents );
+        IndexedTimeSeries<Double> indexedLeft = IndexedTimeSeries.of( left );
+
+        TimeSeriesPairer<Double, Double> pairer = TimeSeriesPairerByExactTime.of( Double::isFinite, Double::isFinite );
+
+        // Pair several right series that overlap the left series in different places
+        for ( int i = 0; i < 4; i++ )
+        {
+            Instant referenceTime = FIRST_TIME.plus( Duration.ofHours( i * 12L ) );
+            SortedSet<Event<Double>> rightEvents = new TreeSet<>();
+            for ( int j = 1; j <= 24; j += 2 )
+            {
+                rightEvents.add( Event.of( referenceTime.plus( Duration.ofHours( j ) ), ( double ) j ) );
+            }
+
+            TimeSeries<Double> right = TimeSeries.of( getBoilerplateMetadataWithT0( referenceTime ), rightEvents );
+
+            assertEquals( pairer.pair( left, right ), pairer.pairIndexed( indexedLeft, right ) );
+        }
+    }
+
+    @Test
+    public void testPairIndexedWithFractionalSecondsCreatesTwoPairs()
+    {
+        // Create a left series whose valid times cannot be stored in columns
+        SortedSet<Event<Double>> leftEvents = new TreeSet<>();
+        leftEvents.add( Event.of( FIRST_TIME.plusMillis( 1 ), 1.0 ) );
+        leftEvents.add( Event.of( T2039_01_12T03_00_00Z, 3.0 ) );
+        leftEvents.add( Event.of( T2039_01_12T03_00_00Z.plusMillis( 1 ), 4.0 ) );
+        leftEvents.add( Event.of( T2039_01_12T06_00_00Z, 6.0 ) );
+
+        TimeSeries<Double> left = TimeSeries.of( getBoilerplateMetadata(), leftEvents );
+
+        SortedSet<Event<Double>> rightEvents = new TreeSet<>();
+        rightEvents.add( Event.of( FIRST_TIME, 1.0 ) );
+        rightEvents.add( Event.of( T2039_01_12T03_00_00Z.plusMillis( 1 ), 4.0 ) );
+        rightEvents.add( Event.of( T2039_01_12T06_00_00Z, 6.0 ) );
+
+        TimeSeriesMetadata rightMetadata = getBoilerplateMetadataWithT0( FIRST_TIME );
+        TimeSeries<Double> right = TimeSeries.of( rightMetadata, rightEvents );
+
+        TimeSeriesPairer<Double, Double> pairer = TimeSeriesPairerByExactTime.of();
+
+        TimeSeries<Pair<Double, Double>> actualPairs = pairer.pairIndexed( IndexedTimeSeries.of( left ), right );
+
+        SortedSet<Event<Pair<Double, Double>>> expectedEvents = new TreeSet<>();
+        expectedEvents.add( Event.of( T2039_01_12T03_00_00Z.plusMillis( 1 ), Pair.of( 4.0, 4.0 ) ) );
+        expectedEvents.add( Event.of( T2039_01_12T06_00_00Z, Pair.of( 6.0, 6.0 ) ) );
+
+        TimeSeries<Pair<Double, Double>> expectedPairs = TimeSeries.of( rightMetadata, expectedEvents );
+
+        assertEquals( expectedPairs, actualPairs );
+    }
+
     @Test
     public void testPairThrowsExceptionWhenNullLeftIsNull()
     {
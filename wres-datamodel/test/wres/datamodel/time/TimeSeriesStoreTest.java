@@ -1,6 +1,8 @@
 package wres.datamodel.time;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +18,7 @@ import wres.datamodel.space.Feature;
 import wres.datamodel.types.Ensemble;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.ReferenceTime;
+import wres.statistics.generated.TimeWindow;
 
 /**
  * Tests the {@link TimeSeriesStore}.
@@ -161,4 +164,104 @@ class TimeSeriesStoreTest
                                                         "covariate" )
                                 .toList() );
     }
+
+    @Test
+    void testGetSingleValuedSeriesByTimeWindowMatchesFilterOfEachSeries()
+    {
+        TimeSeriesStore.Builder builder = new TimeSeriesStore.Builder();
+        Feature anotherFeature = Feature.of( MessageUtilities.getGeometry( "another_feature" ) );
+        Instant start = Instant.parse( "2123-12-01T00:00:00Z" );
+        List<TimeSeries<Double>> forecasts = new ArrayList<>();
+        List<TimeSeries<Double>> observations = new ArrayList<>();
+
+        // Forecasts issued every six hours with hourly leads up to one day and daily observations for two features
+        for ( Feature nextFeature : List.of( this.feature, anotherFeature ) )
+        {
+            for ( int i = 0; i < 40; i++ )
+            {
+                Instant referenceTime = start.plus( Duration.ofHours( 6L * i ) );
+                TimeSeriesMetadata metadata =
+                        TimeSeriesMetadata.of( Map.of( ReferenceTime.ReferenceTimeType.T0, referenceTime ),
+                                               TimeScaleOuter.of(),
+                                               "right",
+                                               nextFeature,
+                                               "right_unit" );
+                TimeSeries.Builder<Double> series = new TimeSeries.Builder<Double>().setMetadata( metadata );
+                for ( int j = 1; j <= 24; j++ )
+                {
+                    series.addEvent( Event.of( referenceTime.plus( Duration.ofHours( j ) ), ( double ) j ) );
+                }
+
+                TimeSeries<Double> forecast = series.build();
+                forecasts.add( forecast );
+                builder.addSingleValuedSeries( forecast, DatasetOrientation.RIGHT );
+            }
+
+            for ( int i = 0; i < 10; i++ )
+            {
+                TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of(),
+                                                                     TimeScaleOuter.of(),
+                                                                     "left",
+                                                                     nextFeature,
+                                                                     "left_unit" );
+                TimeSeries.Builder<Double> series = new TimeSeries.Builder<Double>().setMetadata( metadata );
+                for ( int j = 0; j < 24; j++ )
+                {
+                    series.addEvent( Event.of( start.plus( Duration.ofHours( 24L * i + j ) ), ( double ) j ) );
+                }
+
+                TimeSeries<Double> observation = series.build();
+                observations.add( observation );
+                builder.addSingleValuedSeries( observation, DatasetOrientation.LEFT );
+            }
+        }
+
+        TimeSeriesStore indexed = builder.build();
+
+        List<TimeWindow> timeWindows =
+                List.of( MessageUtilities.getTimeWindow( start.plus( Duration.ofHours( 30 ) ),
+                                                         start.plus( Duration.ofHours( 54 ) ),
+                                                         Duration.ofHours( 6 ),
+                                                         Duration.ofHours( 12 ) ),
+                         MessageUtilities.getTimeWindow( start.plus( Duration.ofHours( 47 ) ),
+                                                         start.plus( Duration.ofHours( 49 ) ) ),
+                         MessageUtilities.getTimeWindow( Duration.ofHours( 23 ),
+                                                         Duration.ofHours( 24 ) ),
+                         MessageUtilities.getTimeWindow() );
+
+        for ( TimeWindow next : timeWindows )
+        {
+            TimeWindowOuter timeWindow = TimeWindowOuter.of( next );
+
+            List<TimeSeries<Double>> expectedForecasts =
+                    forecasts.stream()
+                             .filter( f -> f.getMetadata()
+                                            .getFeature()
+                                            .equals( this.feature ) )
+                             .map( f -> TimeSeriesSlicer.filter( f, timeWindow ) )
+                             .filter( f -> !f.getEvents()
+                                             .isEmpty() )
+                             .toList();
+            List<TimeSeries<Double>> actualForecasts =
+                    indexed.getSingleValuedSeries( timeWindow, DatasetOrientation.RIGHT, Set.of( this.feature ), null )
+                           .toList();
+
+            assertEquals( expectedForecasts, actualForecasts );
+
+            List<TimeSeries<Double>> expectedObservations =
+                    observations.stream()
+                                .filter( o -> o.getMetadata()
+                                               .getFeature()
+                                               .equals( this.feature ) )
+                                .map( o -> TimeSeriesSlicer.filter( o, timeWindow ) )
+                                .filter( o -> !o.getEvents()
+                                                .isEmpty() )
+                                .toList();
+            List<TimeSeries<Double>> actualObservations =
+                    indexed.getSingleValuedSeries( timeWindow, DatasetOrientation.LEFT, Set.of( this.feature ), "left" )
+                           .toList();
+
+            assertEquals( expectedObservations, actualObservations );
+        }
+    }
 }
@@ -9,6 +9,7 @@ import java.time.Instant;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -260,6 +261,62 @@ public class TimeSeriesTest
                              .startsWith( "Discovered a duplicate event by valid time, which is not allowed" ) );
     }
 
+    /**
+     * Tests the {@link TimeSeries#withValues(List)} for a time-series whose events are stored in columns.
+     */
+
+    @Test
+    public void testWithValuesForColumnarTimeSeries()
+    {
+        TimeSeries<Double> actual = this.testSeries.withValues( List.of( 3.0, 1.0, 2.0 ) );
+
+        TimeSeries<Double> expected =
+                new Builder<Double>().setMetadata( this.metadata )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T06:00:00Z" ), 3.0 ) )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T12:00:00Z" ), 1.0 ) )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T18:00:00Z" ), 2.0 ) )
+                                     .build();
+
+        assertEquals( expected, actual );
+        assertTrue( actual.hasColumns() );
+    }
+
+    /**
+     * Tests the {@link TimeSeries#withValues(List)} for a time-series whose events are not stored in columns.
+     */
+
+    @Test
+    public void testWithValuesForTimeSeriesOfStrings()
+    {
+        TimeSeries<String> series =
+                new Builder<String>().setMetadata( this.metadata )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T06:00:00Z" ), "a" ) )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T12:00:00Z" ), "b" ) )
+                                     .build();
+
+        TimeSeries<String> actual = series.withValues( List.of( "b", "b" ) );
+
+        TimeSeries<String> expected =
+                new Builder<String>().setMetadata( this.metadata )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T06:00:00Z" ), "b" ) )
+                                     .addEvent( Event.of( Instant.parse( "2123-12-01T12:00:00Z" ), "b" ) )
+                                     .build();
+
+        assertEquals( expected, actual );
+    }
+
+    /**
+     * Tests the {@link TimeSeries#withValues(List)} throws an expected exception when the number of values differs
+     * from the number of events.
+     */
+
+    @Test
+    public void testWithValuesThrowsExpectedExceptionForInconsistentValueCount()
+    {
+        List<Double> values = List.of( 1.0 );
+        assertThrows( IllegalArgumentException.class, () -> this.testSeries.withValues( values ) );
+    }
+
     /**
      * Tests the {@link TimeSeries#toString()}.
      */
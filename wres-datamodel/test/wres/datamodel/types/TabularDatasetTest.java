@@ -0,0 +1,76 @@
+package wres.datamodel.types;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.MissingValues;
+
+/**
+ * Tests the {@link TabularDataset}.
+ *
+ * @author James Brown
+ */
+class TabularDatasetTest
+{
+    private static final String VALUES = "values";
+
+    @Test
+    void testGetPrimitiveDoubleArrayReturnsEmptyArrayForNullColumn()
+    {
+        TabularDataset dataset = TabularDatasetTest.getDataset( null );
+
+        assertArrayEquals( new double[0], dataset.getPrimitiveDoubleArray( VALUES ) );
+    }
+
+    @Test
+    void testGetPrimitiveDoubleArrayMapsNullElementsToMissingValues()
+    {
+        TabularDataset dataset = TabularDatasetTest.getDataset( new Double[] { 1.0, null, 3.0 } );
+
+        assertArrayEquals( new double[] { 1.0, MissingValues.DOUBLE, 3.0 },
+                           dataset.getPrimitiveDoubleArray( VALUES ) );
+    }
+
+    @Test
+    void testGetPrimitiveDoubleArrayMapsNullStringElementsToMissingValues()
+    {
+        TabularDataset dataset = TabularDatasetTest.getDataset( new String[] { "1.0", null } );
+
+        assertArrayEquals( new double[] { 1.0, MissingValues.DOUBLE },
+                           dataset.getPrimitiveDoubleArray( VALUES ) );
+    }
+
+    @Test
+    void testGetPrimitiveLongArrayReturnsEmptyArrayForNullColumn()
+    {
+        TabularDataset dataset = TabularDatasetTest.getDataset( null );
+
+        assertArrayEquals( new long[0], dataset.getPrimitiveLongArray( VALUES ) );
+    }
+
+    @Test
+    void testGetPrimitiveLongArrayThrowsExpectedExceptionForNullElements()
+    {
+        TabularDataset dataset = TabularDatasetTest.getDataset( new Long[] { 1L, null } );
+
+        assertThrows( IllegalStateException.class, () -> dataset.getPrimitiveLongArray( VALUES ) );
+    }
+
+    /**
+     * @param values the array in the only row of the only column
+     * @return a dataset positioned on its only row
+     */
+
+    private static TabularDataset getDataset( Object values )
+    {
+        List<Object[]> rows = List.<Object[]>of( new Object[] { values } );
+        TabularDataset dataset = TabularDataset.from( Map.of( VALUES, 0 ), rows );
+        dataset.next();
+        return dataset;
+    }
+}
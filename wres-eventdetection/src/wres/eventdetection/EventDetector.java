@@ -7,7 +7,8 @@ import wres.datamodel.time.TimeWindowOuter;
 
 /**
  * A protocol for detecting "events" in time-series data. AN "event" in this context is described by a
- * {@link TimeWindowOuter} with an earliest and latest valid datetime.
+ * {@link TimeWindowOuter} with an earliest and latest valid datetime. Implementations must be thread-safe because
+ * events may be detected in several time-series at once.
  *
  * @author James Brown
  */
@@ -5,19 +5,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.google.protobuf.Timestamp;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.math3.stat.descriptive.rank.Median;
 import org.apache.commons.math3.stat.ranking.NaNStrategy;
 import org.slf4j.Logger;
@@ -28,7 +23,7 @@ import wres.config.components.EventDetectionParametersBuilder;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
-import wres.datamodel.time.TimeSeriesSlicer;
+import wres.datamodel.time.TimeSeriesMetadata;
 import wres.datamodel.time.TimeWindowOuter;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.TimeWindow;
@@ -37,6 +32,7 @@ import wres.statistics.generated.TimeWindow;
  * An implementation of the method described in <a href="https://onlinelibrary.wiley.com/doi/10.1002/hyp.14405">
  * Regina and Ogden (2021)</a>. Ported from the original Python code, available here:
  * <a href="https://github.com/NOAA-OWP/hydrotools/blob/main/python/events/src/hydrotools/events/event_detection/decomposition.py">HydroTools</a>.
+ * This class is immutable and thread-safe.
  *
  * @author Jason Regina
  * @author James Brown
@@ -46,9 +42,6 @@ public class ReginaOgdenEventDetector implements EventDetector
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( ReginaOgdenEventDetector.class );
 
-    /** Median calculator. */
-    private static final Median MEDIAN = new Median().withNaNStrategy( NaNStrategy.REMOVED );
-
     /** The detection parameters. */
     private final EventDetectionParameters parameters;
 
@@ -101,7 +94,7 @@ public class ReginaOgdenEventDetector implements EventDetector
      * original codebase. Models the trend in a time series by taking the maximum of two rolling minimum filters
      * applied in a forward and backward fashion. Remove the trend and residual components. The method aims to produce
      * a detrended time series with a median of 0.0. It assumes any residual components less than twice the detrended
-     * median are random noise.
+     * median are random noise. Each step operates on the time-series values in time order and requires linear time.
      *
      * @param timeSeries the time-series
      * @param parameters the event detection parameters
@@ -111,36 +104,47 @@ public class ReginaOgdenEventDetector implements EventDetector
     private Set<TimeWindowOuter> detectEvents( TimeSeries<Double> timeSeries,
                                                EventDetectionParameters parameters )
     {
-        parameters = this.setDefaultParameterValues( parameters, timeSeries );
+        Values original = Values.of( timeSeries );
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+
+        parameters = this.setDefaultParameterValues( parameters, original.times(), metadata );
 
         // Smooth the time-series
-        TimeSeries<Double> smoothed = this.exponentialMovingAverage( timeSeries, parameters.halfLife() );
+        Values smoothed = this.exponentialMovingAverage( original, parameters.halfLife() );
 
         // Detrend the time-series
-        TimeSeries<Double> detrended = this.detrend( smoothed, parameters.halfLife(), parameters.windowSize() );
+        double[] detrended = this.detrend( smoothed, parameters.halfLife(), parameters.windowSize(), metadata );
 
         // Mark the events based on the smoothed, detrended flow
-        TimeSeries<Boolean> mapped = TimeSeriesSlicer.transform( detrended,
-                                                                 t -> t > 0.0,
-                                                                 m -> m );
+        boolean[] events = new boolean[detrended.length];
+        for ( int i = 0; i < detrended.length; i++ )
+        {
+            events[i] = detrended[i] > 0.0;
+        }
 
         // Filter events by duration
-        TimeSeries<Boolean> filtered = this.filterEventsByDuration( mapped, parameters.minimumEventDuration() );
+        Duration scaleAdjustment = this.getTimeScaleAdjustment( timeSeries.getTimeScale() );
+        this.filterEventsByDuration( smoothed.times(),
+                                     events,
+                                     parameters.minimumEventDuration(),
+                                     scaleAdjustment );
 
         // Get the provisional events
-        Set<TimeWindowOuter> provisional = this.getEventBoundaries( filtered );
+        List<int[]> provisional = this.getEventBoundaries( events );
 
         // Refine the events
-        return this.refineEvents( detrended, provisional, parameters.startRadius() );
+        return this.refineEvents( smoothed.times(), detrended, provisional, parameters.startRadius() );
     }
 
     /**
      * Sets the default parameter values, inspecting the timeseries where useful.
      * @param parameters parameters
-     * @param timeSeries the time-series
+     * @param times the times of the time-series
+     * @param metadata the time-series metadata
      */
     private EventDetectionParameters setDefaultParameterValues( EventDetectionParameters parameters,
-                                                                TimeSeries<Double> timeSeries )
+                                                                Instant[] times,
+                                                                TimeSeriesMetadata metadata )
     {
         EventDetectionParametersBuilder builder = EventDetectionParametersBuilder.builder( parameters );
         if ( Objects.isNull( builder.minimumEventDuration() )
@@ -162,7 +166,7 @@ public class ReginaOgdenEventDetector implements EventDetector
             builder.minimumEventDuration( Duration.ZERO );
         }
 
-        this.setSeriesSpecificParameterDefaults( builder, timeSeries, parameters );
+        this.setSeriesSpecificParameterDefaults( builder, times, metadata, parameters );
 
         return builder.build();
     }
@@ -171,18 +175,20 @@ public class ReginaOgdenEventDetector implements EventDetector
      * Sets the time-series specific event detection parameter estimates.
      *
      * @param builder the builder
-     * @param timeSeries the time-series
+     * @param times the times of the time-series
+     * @param metadata the time-series metadata
      * @param parameters the declared parameters
      */
     private void setSeriesSpecificParameterDefaults( EventDetectionParametersBuilder builder,
-                                                     TimeSeries<Double> timeSeries,
+                                                     Instant[] times,
+                                                     TimeSeriesMetadata metadata,
                                                      EventDetectionParameters parameters )
     {
         // Calculate the series-specific parameter defaults
         if ( Objects.isNull( builder.halfLife() )
              || Objects.isNull( builder.windowSize() ) )
         {
-            Duration averageTimestep = this.getAverageTimestep( timeSeries );
+            Duration averageTimestep = this.getAverageTimestep( times, metadata );
 
             if ( Objects.isNull( builder.halfLife() ) )
             {
@@ -237,69 +243,35 @@ public class ReginaOgdenEventDetector implements EventDetector
             }
         }
     }
-
     /**
      * Derives the event boundaries from the supplied dichotomous events.
      *
-     * @param dichotomousEvents the event markers
-     * @return the event boundaries
-     * @throws NullPointerException if the input is null
+     * @param events the event markers in time order
+     * @return the index of the first and last marker of each event, in time order
      */
-    private Set<TimeWindowOuter> getEventBoundaries( TimeSeries<Boolean> dichotomousEvents )
+    private List<int[]> getEventBoundaries( boolean[] events )
     {
-        Objects.requireNonNull( dichotomousEvents );
+        List<int[]> boundaries = new ArrayList<>();
 
-        // Short circuit
-        if ( dichotomousEvents.getEvents()
-                              .isEmpty() )
+        int i = 0;
+        while ( i < events.length )
         {
-            return Set.of();
-        }
-
-        Set<TimeWindowOuter> timeWindows = new TreeSet<>();
-
-        TimeWindow.Builder currentEvent = null;
-
-        Event<Boolean> lastEvent = null;
-        for ( Event<Boolean> nextEvent : dichotomousEvents.getEvents() )
-        {
-            if ( Boolean.TRUE.equals( nextEvent.getValue() ) )
+            if ( events[i] )
             {
-                if ( Objects.isNull( currentEvent ) )
+                int start = i;
+                while ( i + 1 < events.length
+                        && events[i + 1] )
                 {
-                    Timestamp nextTime = MessageUtilities.getTimestamp( nextEvent.getTime() );
-                    currentEvent = MessageUtilities.getTimeWindow()
-                                                   .toBuilder()
-                                                   .setEarliestValidTime( nextTime );
+                    i++;
                 }
-            }
-            else
-            {
-                if ( Objects.nonNull( currentEvent ) )
-                {
-                    Timestamp nextTime = MessageUtilities.getTimestamp( lastEvent.getTime() );
-                    currentEvent.setLatestValidTime( nextTime );
-                    TimeWindow timeWindow = currentEvent.build();
-                    TimeWindowOuter wrapped = TimeWindowOuter.of( timeWindow );
-                    timeWindows.add( wrapped );
-                    currentEvent = null;
-                }
-            }
 
-            lastEvent = nextEvent;
-        }
+                boundaries.add( new int[] { start, i } );
+            }
 
-        // Mop up an ongoing event
-        if ( Objects.nonNull( currentEvent ) )
-        {
-            Timestamp nextTime = MessageUtilities.getTimestamp( lastEvent.getTime() );
-            currentEvent.setLatestValidTime( nextTime );
-            TimeWindow timeWindow = currentEvent.build();
-            TimeWindowOuter wrapped = TimeWindowOuter.of( timeWindow );
-            timeWindows.add( wrapped );
+            i++;
         }
 
-        return Collections.unmodifiableSet( timeWindows );
+        return Collections.unmodifiableList( boundaries );
     }
 
     /**
@@ -308,28 +280,29 @@ public class ReginaOgdenEventDetector implements EventDetector
      * @param timeSeries the time-series.
      * @param halfLife the half-life
      * @param smoothingWindow the smoothing window duration
-     * @return the detrended series
+     * @param metadata the time-series metadata to help with messaging
+     * @return the detrended values
      * @throws EventDetectionException if the smoothing window spans fewer than two time-steps, on average
      */
-    private TimeSeries<Double> detrend( TimeSeries<Double> timeSeries, Duration halfLife, Duration smoothingWindow )
+    private double[] detrend( Values timeSeries,
+                              Duration halfLife,
+                              Duration smoothingWindow,
+                              TimeSeriesMetadata metadata )
     {
         Objects.requireNonNull( timeSeries );
         Objects.requireNonNull( halfLife );
 
-        double[] eventValues = timeSeries.getEvents()
-                                         .stream()
-                                         .mapToDouble( Event::getValue )
-                                         .toArray();
+        double[] eventValues = timeSeries.values();
 
         // Calculate the window size in integer steps
-        long windowSize = this.getWindowSizeFromDuration( timeSeries, smoothingWindow );
+        long windowSize = this.getWindowSizeFromDuration( timeSeries.times(), smoothingWindow, metadata );
 
         if ( windowSize < 2 )
         {
             throw new EventDetectionException( "The window size for event detection must be at least two time-steps, "
                                                + "as this is used to determine the trend in the time-series data. "
                                                + "However, the smoothing duration of "
-                                               + parameters.windowSize()
+                                               + smoothingWindow
                                                + " spans only "
                                                + windowSize
                                                + " time-steps, on average, which is insufficient. Please increase the "
@@ -340,89 +313,84 @@ public class ReginaOgdenEventDetector implements EventDetector
 
         double[] detrended = new double[eventValues.length];
 
-        // Subtract the trend and remove the residuals
+        // Subtract the trend
         for ( int i = 0; i < detrended.length; i++ )
         {
             detrended[i] = eventValues[i] - trend[i];
         }
 
-        double residual = MEDIAN.evaluate( detrended ) * 2.0;
+        // The median calculator is not thread-safe, so use one per time-series
+        Median median = new Median().withNaNStrategy( NaNStrategy.REMOVED );
+        double residual = median.evaluate( detrended ) * 2.0;
 
-        SortedSet<Event<Double>> detrendedEvents = new TreeSet<>();
-        Iterator<Event<Double>> iterator = timeSeries.getEvents()
-                                                     .iterator();
-        int current = 0;
-        while ( iterator.hasNext() )
+        // Remove the residuals
+        for ( int i = 0; i < detrended.length; i++ )
         {
-            Event<Double> nextValue = iterator.next();
-
-            double value = Math.max( 0.0, detrended[current] - residual );
-
-            Event<Double> detrendedEvent = Event.of( nextValue.getTime(), value );
-            detrendedEvents.add( detrendedEvent );
-            current++;
+            detrended[i] = Math.max( 0.0, detrended[i] - residual );
         }
 
-        return TimeSeries.of( timeSeries.getMetadata(), detrendedEvents );
+        return detrended;
     }
 
     /**
-     * Creates an exponential moving average of a time-series, handling missing values.
+     * Creates an exponential moving average of a time-series, handling missing values. The smoothing factor is only
+     * recalculated when the time-step changes.
      *
      * @param timeSeries the time-series
      * @param halfLife the half life
      * @return the smoothed series
      */
-    private TimeSeries<Double> exponentialMovingAverage( TimeSeries<Double> timeSeries,
-                                                         Duration halfLife )
+    private Values exponentialMovingAverage( Values timeSeries,
+                                             Duration halfLife )
     {
         Objects.requireNonNull( timeSeries );
         Objects.requireNonNull( halfLife );
 
-        if ( timeSeries.getEvents()
-                       .size() < 2 )
+        Instant[] times = timeSeries.times();
+        double[] values = timeSeries.values();
+        int count = times.length;
+
+        if ( count < 2 )
         {
-            LOGGER.debug( "Cannot exponentially smooth a time-series with fewer than two values: {}.", timeSeries );
+            LOGGER.debug( "Cannot exponentially smooth a time-series with fewer than two values: {}.", count );
             return timeSeries;
         }
 
-        Iterator<Event<Double>> iterator = timeSeries.getEvents()
-                                                     .iterator();
+        Instant[] smoothedTimes = new Instant[count];
+        double[] smoothedValues = new double[count];
 
-        Event<Double> firstEvent = iterator.next();
-        double lastValue = firstEvent.getValue();
+        // Initialize with first value
+        smoothedTimes[0] = times[0];
+        smoothedValues[0] = values[0];
+        int smoothedCount = 1;
 
+        double lastValue = values[0];
         double weight = 1.0;
+        double rate = -Math.log( 2 ) / halfLife.toMillis();
+        long lastTimestepMillis = Long.MIN_VALUE;
+        double alpha = Double.NaN;
 
-        SortedSet<Event<Double>> smoothed = new TreeSet<>();
-        smoothed.add( firstEvent ); // Initialize with first value
-        Instant lastTime = firstEvent.getTime();
-        long halfLifeMillis = halfLife.toMillis();
-        while ( iterator.hasNext() )
+        for ( int i = 1; i < count; i++ )
         {
-            Event<Double> currentValue = iterator.next();
-
             // Calculate alpha based on the current timestep
-            Duration timestep = Duration.between( lastTime, currentValue.getTime() );
-            long timestepMillis = timestep.toMillis();
+            long timestepMillis = Duration.between( times[i - 1], times[i] )
+                                          .toMillis();
+
+            if ( timestepMillis != lastTimestepMillis )
+            {
+                alpha = 1.0 - Math.exp( rate * timestepMillis );
+                lastTimestepMillis = timestepMillis;
+            }
 
-            double alpha = 1.0 - Math.exp( -Math.log( 2 ) / halfLifeMillis * timestepMillis );
+            double currentValue = values[i];
 
             // Current value is missing
-            if ( Double.isNaN( currentValue.getValue() ) )
+            if ( Double.isNaN( currentValue ) )
             {
-                // First event, then insert NaN
-                if ( currentValue == firstEvent )
-                {
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), Double.NaN );
-                    smoothed.add( smoothedEvent );
-                }
                 // Carry forward previous value
-                else
-                {
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), lastValue );
-                    smoothed.add( smoothedEvent );
-                }
+                smoothedTimes[smoothedCount] = times[i];
+                smoothedValues[smoothedCount] = lastValue;
+                smoothedCount++;
 
                 // Decay the weight
                 weight = weight * ( 1.0 - alpha );
@@ -433,37 +401,38 @@ public class ReginaOgdenEventDetector implements EventDetector
                 // Last value is missing
                 if ( Double.isNaN( lastValue ) )
                 {
-                    lastValue = currentValue.getValue();
+                    lastValue = currentValue;
                 }
                 // Current and last value are both present
                 else
                 {
-                    double smoothedValue = alpha * currentValue.getValue()
+                    double smoothedValue = alpha * currentValue
                                            + ( 1.0 - alpha ) * lastValue * weight;
                     lastValue = smoothedValue;
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), smoothedValue );
-                    smoothed.add( smoothedEvent );
+                    smoothedTimes[smoothedCount] = times[i];
+                    smoothedValues[smoothedCount] = smoothedValue;
+                    smoothedCount++;
                 }
                 weight = weight * ( 1.0 - alpha ) + alpha;
             }
-
-            lastTime = currentValue.getTime();
         }
 
-        return TimeSeries.of( timeSeries.getMetadata(), smoothed );
+        return new Values( Arrays.copyOf( smoothedTimes, smoothedCount ),
+                           Arrays.copyOf( smoothedValues, smoothedCount ) );
     }
 
     /**
      * Calculates the average duration between time-steps and returns the whole number of times this average fits inside
      * the smoothing window.
      *
-     * @param timeSeries the time-series to inspect
+     * @param times the times to inspect
      * @param smoothingWindow the smoothing window duration
+     * @param metadata the time-series metadata to help with messaging
      */
 
-    private long getWindowSizeFromDuration( TimeSeries<Double> timeSeries, Duration smoothingWindow )
+    private long getWindowSizeFromDuration( Instant[] times, Duration smoothingWindow, TimeSeriesMetadata metadata )
     {
-        Duration averageTimestep = this.getAverageTimestep( timeSeries );
+        Duration averageTimestep = this.getAverageTimestep( times, metadata );
 
         return smoothingWindow.dividedBy( averageTimestep );
     }
@@ -471,23 +440,17 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Calculates the modal time-step in the series.
      *
-     * @param timeSeries the time-series to inspect
+     * @param times the times to inspect
+     * @param metadata the time-series metadata to help with messaging
      */
 
-    private Duration getAverageTimestep( TimeSeries<Double> timeSeries )
+    private Duration getAverageTimestep( Instant[] times, TimeSeriesMetadata metadata )
     {
-
         List<Duration> durations = new ArrayList<>();
-        Instant lastTime = null;
-        for ( Event<Double> next : timeSeries.getEvents() )
+        for ( int i = 1; i < times.length; i++ )
         {
-            Instant nextTime = next.getTime();
-            if ( Objects.nonNull( lastTime ) )
-            {
-                Duration between = Duration.between( lastTime, nextTime );
-                durations.add( between );
-            }
-            lastTime = nextTime;
+            Duration between = Duration.between( times[i - 1], times[i] );
+            durations.add( between );
         }
 
         return durations.stream()
@@ -500,11 +463,11 @@ public class ReginaOgdenEventDetector implements EventDetector
                         .orElseThrow( () -> new EventDetectionException( "Insufficient data to calculate the modal "
                                                                          + "timestep for event detection. The "
                                                                          + "time-series had the following metadata: "
-                                                                         + timeSeries.getMetadata() ) );
+                                                                         + metadata ) );
     }
 
     /**
-     * Calculates a rolling minimum.
+     * Calculates a rolling minimum as the maximum of a forward and backward rolling minimum.
      *
      * @param values the time-series values in time order
      * @param windowSize the window size
@@ -512,19 +475,14 @@ public class ReginaOgdenEventDetector implements EventDetector
      */
     private double[] rollingMinimum( double[] values, long windowSize )
     {
-        // Forward pass
-        double[] forwardFiltered = this.rollingMinimumInner( values, windowSize );
+        // A window that is longer than the series spans the whole series
+        int window = ( int ) Math.min( windowSize, values.length );
 
-        // Reverse pass (flip the time series and values)
-        double[] reversedValues = new double[forwardFiltered.length];
-        System.arraycopy( values, 0, reversedValues, 0, values.length );
-        ArrayUtils.reverse( reversedValues );
-
-        // Backward pass on reversed data
-        double[] backwardFiltered = this.rollingMinimumInner( reversedValues, windowSize );
+        // Forward pass
+        double[] forwardFiltered = this.rollingMinimumInner( values, window, true );
 
-        // Reverse the backward result to align with the original time series
-        ArrayUtils.reverse( backwardFiltered );
+        // Backward pass
+        double[] backwardFiltered = this.rollingMinimumInner( values, window, false );
 
         // Combine forward and backward passes by taking the maximum
         double[] finalResult = new double[values.length];
@@ -537,203 +495,216 @@ public class ReginaOgdenEventDetector implements EventDetector
     }
 
     /**
-     * Calculates a rolling minimum value from the input.
+     * Calculates a rolling minimum value from the input in linear time, using a monotonic queue of candidate minima.
+     * The window at each position contains that position and the preceding positions in the direction of travel. The
+     * minimum is {@link Double#NaN} when the window contains a missing value.
+     *
      * @param values the values
-     * @param windowSize the window size
+     * @param windowSize the window size, which is no greater than the number of values
+     * @param forward is true to travel forward in time, false to travel backward
      * @return the rolling minimum
      */
-    private double[] rollingMinimumInner( double[] values, long windowSize )
+    private double[] rollingMinimumInner( double[] values, int windowSize, boolean forward )
     {
-        double[] result = new double[values.length];
-        Arrays.fill( result, Double.NaN );
+        int count = values.length;
+        double[] result = new double[count];
 
-        for ( int i = 0; i < values.length; i++ )
+        // Steps in the direction of travel whose values increase strictly from head to tail
+        int[] queue = new int[count];
+        int head = 0;
+        int tail = 0;
+        int lastMissing = Integer.MIN_VALUE;
+
+        for ( int step = 0; step < count; step++ )
         {
-            long start = Math.max( 0, ( i + 1 ) - windowSize );
-            double min = values[i];
+            int index = forward ? step : count - 1 - step;
+            double value = values[index];
+
+            if ( Double.isNaN( value ) )
+            {
+                lastMissing = step;
+            }
+            else
+            {
+                // Discard candidates that can no longer be the minimum
+                while ( tail > head
+                        && Double.compare( values[forward ? queue[tail - 1] : count - 1 - queue[tail - 1]],
+                                           value ) >= 0 )
+                {
+                    tail--;
+                }
+
+                queue[tail] = step;
+                tail++;
+            }
+
+            // Discard candidates that have left the window
+            int first = step - windowSize + 1;
+            while ( tail > head
+                    && queue[head] < first )
+            {
+                head++;
+            }
 
-            for ( int j = i; j >= start; j-- )
+            if ( lastMissing >= first )
             {
-                min = Math.min( min, values[j] );
+                result[index] = Double.NaN;
+            }
+            else
+            {
+                result[index] = values[forward ? queue[head] : count - 1 - queue[head]];
             }
-            result[i] = min;
         }
+
         return result;
     }
 
     /**
-     * Finds the time associated with the minimum value in the series using a search window.
+     * Finds the time associated with the minimum value in the series using a search window. When several values share
+     * the minimum, the earliest time is returned.
+     *
      * @param origin the origin
      * @param radius the search radius
-     * @param timeSeries the time-series
+     * @param times the times in time order
+     * @param values the values
      * @return the time of the local minimum
      */
     private Instant findLocalMinimum( Instant origin,
                                       Duration radius,
-                                      TimeSeries<Double> timeSeries )
+                                      Instant[] times,
+                                      double[] values )
     {
         Objects.requireNonNull( origin );
         Objects.requireNonNull( radius );
-        Objects.requireNonNull( timeSeries );
 
-        // Convert radius to duration and subtract one instant from the left bound because the snip method is
-        // right-closed
-        Instant left = origin.minus( radius )
-                             .minus( Duration.ofNanos( 1 ) );
+        Instant left = origin.minus( radius );
         Instant right = origin.plus( radius );
 
-        TimeWindow window = MessageUtilities.getTimeWindow( left, right );
-        TimeWindowOuter wrapped = TimeWindowOuter.of( window );
+        // Find the first and last positions within the closed search window
+        int start = Arrays.binarySearch( times, left );
+        if ( start < 0 )
+        {
+            start = -start - 1;
+        }
 
-        // Snip the series to the bounds
-        TimeSeries<Double> snipped = TimeSeriesSlicer.snip( timeSeries, wrapped );
+        int end = Arrays.binarySearch( times, right );
+        if ( end < 0 )
+        {
+            end = -end - 2;
+        }
 
-        if ( snipped.getEvents()
-                    .isEmpty() )
+        if ( start > end )
         {
-            throw new IllegalArgumentException( "Could not find any time-series values within the search window: "
-                                                + wrapped
-                                                + "." );
+            throw new IllegalArgumentException( "Could not find any time-series values within the search window: ["
+                                                + left
+                                                + ", "
+                                                + right
+                                                + "]." );
         }
 
-        // Sort the events by value
-        SortedSet<Event<Double>> sorted = new TreeSet<>( Comparator.comparingDouble( Event::getValue ) );
-        sorted.addAll( snipped.getEvents() );
+        int minimum = start;
+        for ( int i = start + 1; i <= end; i++ )
+        {
+            if ( Double.compare( values[i], values[minimum] ) < 0 )
+            {
+                minimum = i;
+            }
+        }
 
-        return sorted.iterator()
-                     .next()
-                     .getTime();
+        return times[minimum];
     }
 
     /**
-     * Retains only those events that span a minimum duration.
+     * Retains only those events that span a minimum duration, marking the events that are too short as non-events.
      *
-     * @param dichotomousEvents the time-series of event markers
+     * @param times the times in time order
+     * @param events the event markers to adjust
      * @param minimumEventDuration the minimum event duration
-     * @return the adjusted series with only those events included that span the minimum duration
+     * @param scaleAdjustment the timescale adjustment
      * @throws NullPointerException if any input is null
      */
-    private TimeSeries<Boolean> filterEventsByDuration( TimeSeries<Boolean> dichotomousEvents,
-                                                        Duration minimumEventDuration )
+    private void filterEventsByDuration( Instant[] times,
+                                         boolean[] events,
+                                         Duration minimumEventDuration,
+                                         Duration scaleAdjustment )
     {
-        Objects.requireNonNull( dichotomousEvents );
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( events );
         Objects.requireNonNull( minimumEventDuration );
+        Objects.requireNonNull( scaleAdjustment );
 
-        if ( minimumEventDuration == Duration.ZERO )
+        if ( minimumEventDuration.isZero() )
         {
             LOGGER.debug( "Events were not filtered by duration because the minimum duration was {}.", Duration.ZERO );
 
-            return dichotomousEvents;
+            return;
         }
 
-        // Create a series with only events
-        TimeSeries<Boolean> eventSeries = TimeSeriesSlicer.filterByEvent( dichotomousEvents, Event::getValue );
-
-        // Short-circuit
-        if ( eventSeries.getEvents()
-                        .isEmpty() )
+        int count = events.length;
+        int i = 0;
+        while ( i < count )
         {
-            LOGGER.debug( "Events were not filtered by duration because no events were detected." );
-
-            return dichotomousEvents;
-        }
-
-        // Determine whether the events meet the minimum span
-        SortedSet<Event<Boolean>> adjustedEvents = new TreeSet<>();
-        Iterator<Event<Boolean>> eventIterator = dichotomousEvents.getEvents()
-                                                                  .iterator();
+            // Not an event
+            if ( !events[i] )
+            {
+                i++;
+                continue;
+            }
 
-        // If the timescale period is non-instantaneous, then add to the event duration
-        Duration scaleAdjustment = this.getTimeScaleAdjustment( dichotomousEvents.getTimeScale() );
+            // Event is beginning, find the end and the span
+            int start = i;
+            int end = i;
+            while ( end + 1 < count
+                    && events[end + 1] )
+            {
+                end++;
+            }
 
-        while ( eventIterator.hasNext() )
-        {
-            Event<Boolean> start = eventIterator.next();
+            LOGGER.debug( "Event started at {}", times[start] );
 
-            // Event is beginning, find the end and the span
-            if ( Boolean.TRUE.equals( start.getValue() ) )
+            // Event is formally ending
+            if ( end + 1 < count )
             {
-                LOGGER.debug( "Event started at {}", start );
+                boolean valid = this.isValidEvent( times[start], times[end], scaleAdjustment, minimumEventDuration );
+                Arrays.fill( events, start, end + 1, valid );
 
-                SortedSet<Event<Boolean>> gathered = new TreeSet<>();
-                gathered.add( start );
-                Event<Boolean> last = start;
-                while ( eventIterator.hasNext() )  // NOSONAR only one conceptual break when event ends
-                {
-                    Event<Boolean> next = eventIterator.next();
-
-                    // Event is formally ending
-                    if ( Boolean.FALSE.equals( next.getValue() ) )
-                    {
-                        SortedSet<Event<Boolean>> validEvents = this.getValidEvents( start.getTime(),
-                                                                                     last.getTime(),
-                                                                                     scaleAdjustment,
-                                                                                     minimumEventDuration,
-                                                                                     gathered );
-                        // Add the new state for all values within the event period
-                        adjustedEvents.addAll( validEvents );
-
-                        // Add the current non-event
-                        adjustedEvents.add( next );
-
-                        break;
-                    }
-                    // Ending because no more values, so next is last
-                    else if ( !eventIterator.hasNext() )
-                    {
-                        SortedSet<Event<Boolean>> validEvents = this.getValidEvents( start.getTime(),
-                                                                                     next.getTime(),
-                                                                                     scaleAdjustment,
-                                                                                     minimumEventDuration,
-                                                                                     gathered );
-                        adjustedEvents.addAll( validEvents );
-
-                        // Add the current event
-                        adjustedEvents.add( next );
-
-                        break;
-                    }
-                    else
-                    {
-                        gathered.add( next );
-                    }
-
-                    last = next;
-                }
+                // Skip the current non-event
+                i = end + 2;
+            }
+            // Ending because no more values. The span extends to the last value, which retains its state
+            else if ( end > start )
+            {
+                boolean valid = this.isValidEvent( times[start], times[end], scaleAdjustment, minimumEventDuration );
+                Arrays.fill( events, start, end, valid );
+                i = count;
             }
+            // A lone event at the end of the series has no span
             else
             {
-                adjustedEvents.add( start );
+                events[start] = false;
+                i = count;
             }
         }
-
-        return TimeSeries.of( dichotomousEvents.getMetadata(), adjustedEvents );
     }
 
     /**
-     * Marks events that are within the minimum duration as events, otherwise non-events.
+     * Determines whether an event spans the minimum duration.
      * @param startTime the event start time
      * @param endTime the event end time
      * @param scaleAdjustment the timescale adjustment
      * @param minimumEventDuration the minimum event duration
-     * @param gathered the gathered data to adjust
-     * @return the valid events
+     * @return true if the event spans the minimum duration, otherwise false
      */
-    private SortedSet<Event<Boolean>> getValidEvents( Instant startTime,
-                                                      Instant endTime,
-                                                      Duration scaleAdjustment,
-                                                      Duration minimumEventDuration,
-                                                      SortedSet<Event<Boolean>> gathered )
+    private boolean isValidEvent( Instant startTime,
+                                  Instant endTime,
+                                  Duration scaleAdjustment,
+                                  Duration minimumEventDuration )
     {
         // Are the gathered values within an event of appropriate span?
         Duration duration = Duration.between( startTime, endTime )
                                     .plus( scaleAdjustment );
 
-        boolean valid = duration.compareTo( minimumEventDuration ) >= 0;
-
-        return gathered.stream()
-                       .map( e -> Event.of( e.getTime(), valid ) )
-                       .collect( Collectors.toCollection( TreeSet::new ) );
+        return duration.compareTo( minimumEventDuration ) >= 0;
     }
 
     /**
@@ -758,38 +729,44 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Refines the event points, returning a revised series of events.
      *
-     * @param timeSeries the time-series
-     * @param events the provisional events to refine
+     * @param times the times in time order
+     * @param values the values to search for a refined start
+     * @param events the index of the first and last marker of each provisional event
      * @param startRadius the start radius for searching
-     * @return the refined event markers
+     * @return the refined events
      * @throws NullPointerException if any input is null
      */
-    private Set<TimeWindowOuter> refineEvents( TimeSeries<Double> timeSeries,
-                                               Set<TimeWindowOuter> events,
+    private Set<TimeWindowOuter> refineEvents( Instant[] times,
+                                               double[] values,
+                                               List<int[]> events,
                                                Duration startRadius )
     {
-        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( values );
         Objects.requireNonNull( events );
         Objects.requireNonNull( startRadius );
 
         // Short-circuit
         if ( events.isEmpty() )
         {
-            return events;
+            return Set.of();
         }
 
         Set<TimeWindowOuter> adjustedWindows = new TreeSet<>();
-        for ( TimeWindowOuter nextEvent : events )
+        for ( int[] nextEvent : events )
         {
-            Instant eventStart = nextEvent.getEarliestValidTime();
+            Instant eventStart = times[nextEvent[0]];
             Instant refinedStart = this.findLocalMinimum( eventStart,
                                                           startRadius,
-                                                          timeSeries );
+                                                          times,
+                                                          values );
+            Instant eventEnd = times[nextEvent[1]];
 
-            TimeWindow adjusted = nextEvent.getTimeWindow()
-                                           .toBuilder()
-                                           .setEarliestValidTime( MessageUtilities.getTimestamp( refinedStart ) )
-                                           .build();
+            TimeWindow adjusted = MessageUtilities.getTimeWindow()
+                                                  .toBuilder()
+                                                  .setEarliestValidTime( MessageUtilities.getTimestamp( refinedStart ) )
+                                                  .setLatestValidTime( MessageUtilities.getTimestamp( eventEnd ) )
+                                                  .build();
 
             adjustedWindows.add( TimeWindowOuter.of( adjusted ) );
         }
@@ -797,6 +774,37 @@ public class ReginaOgdenEventDetector implements EventDetector
         return Collections.unmodifiableSet( adjustedWindows );
     }
 
+    /**
+     * The times and values of a time-series in time order.
+     *
+     * @param times the times
+     * @param values the values
+     */
+    private record Values( Instant[] times, double[] values )
+    {
+        /**
+         * @param timeSeries the time-series
+         * @return the times and values
+         */
+        private static Values of( TimeSeries<Double> timeSeries )
+        {
+            int count = timeSeries.getEvents()
+                                  .size();
+            Instant[] times = new Instant[count];
+            double[] values = new double[count];
+
+            int i = 0;
+            for ( Event<Double> next : timeSeries.getEvents() )
+            {
+                times[i] = next.getTime();
+                values[i] = next.getValue();
+                i++;
+            }
+
+            return new Values( times, values );
+        }
+    }
+
     /**
      * Hidden constructor.
      * @param parameters the event detection parameters
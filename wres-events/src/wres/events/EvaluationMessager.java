@@ -17,6 +17,7 @@ import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import jakarta.jms.JMSException;
@@ -188,6 +189,20 @@ public class EvaluationMessager implements Closeable
     /** A timer task to publish information about the status of the evaluation. */
     private final Timer timer;
 
+    /** The uncompressed size of an envelope of grouped statistics messages in bytes that triggers publication, zero to
+     * publish each statistics message separately. */
+    private final int statisticsEnvelopeBytes;
+
+    /** The age of the oldest statistics in an envelope in milliseconds that triggers publication. */
+    private final long statisticsEnvelopeMilliseconds;
+
+    /** The deflate level of an envelope of statistics messages, zero for no compression. */
+    private final int statisticsEnvelopeDeflateLevel;
+
+    /** Packs grouped statistics messages into envelopes when every negotiated subscriber can read them, otherwise
+     * null. Set once subscribers are negotiated. */
+    private final AtomicReference<StatisticsBatcher> statisticsBatcher;
+
     /**
      * Returns the unique evaluation identifier.
      *
@@ -379,11 +394,22 @@ public class EvaluationMessager implements Closeable
 
         try
         {
+            StatisticsBatcher batcher = this.statisticsBatcher.get();
 
-            ByteBuffer body = ByteBuffer.wrap( statistics.toByteArray() );
+            // Pack grouped statistics into an envelope for publication
+            if ( Objects.nonNull( groupId )
+                 && Objects.nonNull( batcher ) )
+            {
+                batcher.add( statistics, groupId );
+            }
+            else
+            {
+                ByteBuffer body = ByteBuffer.wrap( statistics.toByteArray() );
 
-            this.internalPublish( body, this.statisticsPublisher, EvaluationMessager.STATISTICS_QUEUE, groupId );
+                this.internalPublish( body, this.statisticsPublisher, EvaluationMessager.STATISTICS_QUEUE, groupId );
+            }
 
+            // Each statistics message is counted, regardless of envelope
             this.messageCount.getAndIncrement();
 
             // Record group
@@ -502,6 +528,13 @@ public class EvaluationMessager implements Closeable
                          groupId );
         }
 
+        // Publish any statistics in an envelope for this group
+        StatisticsBatcher batcher = this.statisticsBatcher.get();
+        if ( Objects.nonNull( batcher ) )
+        {
+            batcher.flush( groupId );
+        }
+
         CompletionStatus status = CompletionStatus.GROUP_PUBLICATION_COMPLETE;
 
         EvaluationStatus complete = EvaluationStatus.newBuilder()
@@ -590,6 +623,9 @@ public class EvaluationMessager implements Closeable
         // Notify that the evaluation is alive
         this.checkAndNotifyStatusAtFixedInterval( this, this.timer );
 
+        // Pack grouped statistics into envelopes if configured and every negotiated subscriber can read them
+        this.startStatisticsBatcher();
+
         LOGGER.info( "Started an evaluation messager for {}, which negotiated these subscribers by output format type: "
                      + "{}.",
                      this.evaluationId,
@@ -628,6 +664,13 @@ public class EvaluationMessager implements Closeable
             EvaluationStatus status = this.getStatusOnException( exception );
             this.publishEvaluationFailed( status );
 
+            // Discard any statistics awaiting publication in an envelope
+            StatisticsBatcher batcher = this.statisticsBatcher.get();
+            if ( Objects.nonNull( batcher ) )
+            {
+                batcher.clear();
+            }
+
             // Stop any flow control
             this.stopFlowControl();
 
@@ -879,6 +922,24 @@ public class EvaluationMessager implements Closeable
 
         private SubscriberApprover subscriberApprover;
 
+        /**
+         * Size of an envelope of statistics messages in bytes.
+         */
+
+        private int statisticsEnvelopeBytes = 0;
+
+        /**
+         * Age of an envelope of statistics messages in milliseconds.
+         */
+
+        private long statisticsEnvelopeMilliseconds = 1000;
+
+        /**
+         * Deflate level of an envelope of statistics messages.
+         */
+
+        private int statisticsEnvelopeDeflateLevel = 0;
+
         /**
          * Sets the broker.
          *
@@ -949,6 +1010,51 @@ public class EvaluationMessager implements Closeable
             return this;
         }
 
+        /**
+         * Sets the uncompressed size of an envelope of grouped statistics messages in bytes that triggers publication.
+         * When greater than zero, the statistics messages for each message group are packed into envelopes, provided
+         * every negotiated subscriber can read them. The default is zero, which publishes each statistics message
+         * separately.
+         *
+         * @param statisticsEnvelopeBytes the envelope size in bytes
+         * @return this builder
+         */
+
+        public Builder setStatisticsEnvelopeBytes( int statisticsEnvelopeBytes )
+        {
+            this.statisticsEnvelopeBytes = statisticsEnvelopeBytes;
+
+            return this;
+        }
+
+        /**
+         * Sets the age of the oldest statistics in an envelope in milliseconds that triggers publication.
+         *
+         * @param statisticsEnvelopeMilliseconds the envelope age in milliseconds
+         * @return this builder
+         */
+
+        public Builder setStatisticsEnvelopeMilliseconds( long statisticsEnvelopeMilliseconds )
+        {
+            this.statisticsEnvelopeMilliseconds = statisticsEnvelopeMilliseconds;
+
+            return this;
+        }
+
+        /**
+         * Sets the deflate level of an envelope of statistics messages between 0 and 9, where 0 is uncompressed.
+         *
+         * @param statisticsEnvelopeDeflateLevel the deflate level
+         * @return this builder
+         */
+
+        public Builder setStatisticsEnvelopeDeflateLevel( int statisticsEnvelopeDeflateLevel )
+        {
+            this.statisticsEnvelopeDeflateLevel = statisticsEnvelopeDeflateLevel;
+
+            return this;
+        }
+
         /**
          * Builds an evaluation.
          *
@@ -1335,6 +1441,26 @@ public class EvaluationMessager implements Closeable
         // Timer running in a daemon thread
         this.timer = new Timer( true );
 
+        this.statisticsEnvelopeBytes = builder.statisticsEnvelopeBytes;
+        this.statisticsEnvelopeMilliseconds = builder.statisticsEnvelopeMilliseconds;
+        this.statisticsEnvelopeDeflateLevel = builder.statisticsEnvelopeDeflateLevel;
+
+        if ( this.statisticsEnvelopeBytes < 0
+             || this.statisticsEnvelopeMilliseconds <= 0
+             || this.statisticsEnvelopeDeflateLevel < 0
+             || this.statisticsEnvelopeDeflateLevel > 9 )
+        {
+            throw new IllegalArgumentException( "Cannot create an evaluation with an invalid envelope for statistics "
+                                                + "messages. The size must not be negative, the age must be positive "
+                                                + "and the deflate level must be between 0 and 9. The size was "
+                                                + this.statisticsEnvelopeBytes
+                                                + " bytes, the age was "
+                                                + this.statisticsEnvelopeMilliseconds
+                                                + " milliseconds and the deflate level was "
+                                                + this.statisticsEnvelopeDeflateLevel
+                                                + "." );
+        }
+
         try
         {
             // Create the status tracker first so that subscribers can register
@@ -1369,6 +1495,7 @@ public class EvaluationMessager implements Closeable
         this.statusMessageCount = new AtomicInteger();
         this.pairsMessageCount = new AtomicInteger();
         this.messageGroups = new ConcurrentHashMap<>();
+        this.statisticsBatcher = new AtomicReference<>();
 
         LOGGER.info( "Created an evaluation messager for evaluation {}.", this.evaluationId );
     }
@@ -1387,6 +1514,26 @@ public class EvaluationMessager implements Closeable
                                   MessagePublisher publisher,
                                   String queue,
                                   String groupId )
+    {
+        this.internalPublish( body, publisher, queue, groupId, null );
+    }
+
+    /**
+     * Internal publish, do not expose.
+     *
+     * @param body the message body
+     * @param publisher the publisher
+     * @param queue the queue name on the amq.topic
+     * @param groupId the optional message group identifier
+     * @param encoding the encoding of an envelope of statistics messages, null for one message
+     * @throws EvaluationEventException if the message could not be published
+     */
+
+    private void internalPublish( ByteBuffer body,
+                                  MessagePublisher publisher,
+                                  String queue,
+                                  String groupId,
+                                  StatisticsBatcher.Encoding encoding )
     {
         this.validateStarted();
 
@@ -1403,6 +1550,11 @@ public class EvaluationMessager implements Closeable
             properties.put( MessageProperty.JMSX_GROUP_ID, groupId );
         }
 
+        if ( Objects.nonNull( encoding ) )
+        {
+            properties.put( MessageProperty.STATISTICS_ENCODING, encoding.name() );
+        }
+
         // Add the evaluation job identifier if this has been configured as a system property. See #84942. This is not
         // present in most contexts but, at the time of writing, is present when running in cluster mode with a short-
         // running wres process. In that case, it is needed by client subscribers to qualify the output directory
@@ -1489,6 +1641,75 @@ public class EvaluationMessager implements Closeable
         timer.schedule( updater, 0, EvaluationMessager.NOTIFY_ALIVE_MILLISECONDS );
     }
 
+    /**
+     * Creates a {@link StatisticsBatcher} when envelopes of statistics messages are configured and every negotiated
+     * subscriber can read them. Schedules the publication of envelopes whose oldest statistics have reached the
+     * maximum age.
+     */
+
+    private void startStatisticsBatcher()
+    {
+        if ( this.statisticsEnvelopeBytes == 0 )
+        {
+            return;
+        }
+
+        if ( !this.statusTracker.negotiatedSubscribersAcceptStatisticsEnvelopes() )
+        {
+            LOGGER.info( "Envelopes of statistics messages were requested for evaluation {}, but one or more of the "
+                         + "negotiated subscribers cannot read them. Each statistics message will be published "
+                         + "separately.",
+                         this.getEvaluationId() );
+
+            return;
+        }
+
+        StatisticsBatcher batcher =
+                new StatisticsBatcher( this.statisticsEnvelopeBytes,
+                                       this.statisticsEnvelopeMilliseconds,
+                                       this.statisticsEnvelopeDeflateLevel,
+                                       ( envelope, encoding, groupId, count ) ->
+                                               this.internalPublish( envelope,
+                                                                     this.statisticsPublisher,
+                                                                     EvaluationMessager.STATISTICS_QUEUE,
+                                                                     groupId,
+                                                                     encoding ) );
+        this.statisticsBatcher.set( batcher );
+
+        EvaluationMessager evaluation = this;
+        TimerTask flusher = new TimerTask()
+        {
+            @Override
+            public void run()
+            {
+                if ( evaluation.isAlive() )
+                {
+                    try
+                    {
+                        batcher.flushExpired();
+                    }
+                    catch ( RuntimeException e )
+                    {
+                        LOGGER.warn( "Failed to publish an envelope of statistics messages for evaluation {}.",
+                                     evaluation.getEvaluationId(),
+                                     e );
+                        evaluation.stop( e );
+                    }
+                }
+            }
+        };
+
+        long period = batcher.getMaximumMilliseconds();
+        this.timer.schedule( flusher, period, period );
+
+        LOGGER.info( "Grouped statistics messages for evaluation {} will be published in envelopes of up to {} bytes "
+                     + "or {} milliseconds with a deflate level of {}.",
+                     this.getEvaluationId(),
+                     this.statisticsEnvelopeBytes,
+                     this.statisticsEnvelopeMilliseconds,
+                     this.statisticsEnvelopeDeflateLevel );
+    }
+
     /**
      * Closes a closeable gracefully.
      *
@@ -423,6 +423,15 @@ class EvaluationStatusTracker implements Closeable
         return Collections.unmodifiableMap( this.negotiatedSubscribers );
     }
 
+    /**
+     * @return true if every negotiated subscriber can read envelopes of statistics messages, otherwise false
+     */
+
+    boolean negotiatedSubscribersAcceptStatisticsEnvelopes()
+    {
+        return this.subscriberNegotiator.acceptStatisticsEnvelopes( this.negotiatedSubscribers.values() );
+    }
+
     /**
      * Creates an instance.
      * @param evaluation the evaluation
@@ -0,0 +1,321 @@
+package wres.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.statistics.generated.Statistics;
+
+/**
+ * <p>Packs the {@link Statistics} messages for one message group into an envelope, which is published as one message
+ * when the envelope reaches a prescribed size, when the oldest statistics in the envelope reach a prescribed age or
+ * when the group is flushed. An envelope contains a sequence of length-delimited {@link Statistics} messages, which
+ * is optionally compressed with the DEFLATE algorithm. Use {@link #unpack(byte[], Encoding)} to read an envelope.
+ *
+ * @author James Brown
+ */
+
+public final class StatisticsBatcher
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( StatisticsBatcher.class );
+
+    /** The encoding of an envelope. */
+    public enum Encoding
+    {
+        /** A sequence of length-delimited messages. */
+        NONE,
+        /** A sequence of length-delimited messages compressed with the DEFLATE algorithm. */
+        DEFLATE
+    }
+
+    /** Publishes an envelope. */
+    @FunctionalInterface
+    interface EnvelopePublisher
+    {
+        /**
+         * Publishes an envelope.
+         * @param envelope the envelope
+         * @param encoding the envelope encoding
+         * @param groupId the message group identifier
+         * @param statisticsCount the number of statistics messages in the envelope
+         */
+        void publish( ByteBuffer envelope, Encoding encoding, String groupId, int statisticsCount );
+    }
+
+    /** The envelopes in progress by message group identifier. */
+    private final Map<String, Envelope> envelopes;
+
+    /** The uncompressed size of an envelope in bytes that triggers publication. */
+    private final int maximumBytes;
+
+    /** The age of the oldest statistics in an envelope in milliseconds that triggers publication. */
+    private final long maximumMilliseconds;
+
+    /** The deflate level, zero for no compression. */
+    private final int deflateLevel;
+
+    /** Publishes an envelope. */
+    private final EnvelopePublisher publisher;
+
+    /**
+     * Reads the statistics from an envelope.
+     *
+     * @param envelope the envelope
+     * @param encoding the envelope encoding
+     * @return the statistics in the order they were packed
+     * @throws NullPointerException if any input is null
+     * @throws IOException if the envelope could not be read
+     */
+
+    public static List<Statistics> unpack( byte[] envelope, Encoding encoding ) throws IOException
+    {
+        Objects.requireNonNull( envelope );
+        Objects.requireNonNull( encoding );
+
+        List<Statistics> statistics = new ArrayList<>();
+
+        try ( InputStream in = encoding == Encoding.DEFLATE
+                               ? new InflaterInputStream( new ByteArrayInputStream( envelope ) )
+                               : new ByteArrayInputStream( envelope ) )
+        {
+            Statistics next = Statistics.parseDelimitedFrom( in );
+            while ( Objects.nonNull( next ) )
+            {
+                statistics.add( next );
+                next = Statistics.parseDelimitedFrom( in );
+            }
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Adds a statistics message to the envelope for its group and publishes the envelope if it is full.
+     *
+     * @param statistics the statistics
+     * @param groupId the message group identifier
+     * @throws NullPointerException if any input is null
+     */
+
+    synchronized void add( Statistics statistics, String groupId )
+    {
+        Objects.requireNonNull( statistics );
+        Objects.requireNonNull( groupId );
+
+        Envelope envelope = this.envelopes.computeIfAbsent( groupId, k -> new Envelope( System.currentTimeMillis() ) );
+
+        try
+        {
+            statistics.writeDelimitedTo( envelope.bytes );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( "Failed to add a statistics message to the envelope for group "
+                                            + groupId
+                                            + ".",
+                                            e );
+        }
+
+        envelope.count++;
+
+        if ( envelope.bytes.size() >= this.maximumBytes )
+        {
+            this.flush( groupId );
+        }
+    }
+
+    /**
+     * Publishes the envelope for a group, if any.
+     *
+     * @param groupId the message group identifier
+     */
+
+    synchronized void flush( String groupId )
+    {
+        Envelope envelope = this.envelopes.remove( groupId );
+
+        if ( Objects.isNull( envelope ) )
+        {
+            return;
+        }
+
+        byte[] uncompressed = envelope.bytes.toByteArray();
+        byte[] body = uncompressed;
+        Encoding encoding = Encoding.NONE;
+
+        if ( this.deflateLevel > 0 )
+        {
+            body = this.deflate( uncompressed );
+            encoding = Encoding.DEFLATE;
+        }
+
+        if ( LOGGER.isDebugEnabled() )
+        {
+            LOGGER.debug( "Publishing an envelope of {} statistics messages for group {}, which contains {} bytes "
+                          + "with encoding {} and {} bytes without encoding.",
+                          envelope.count,
+                          groupId,
+                          body.length,
+                          encoding,
+                          uncompressed.length );
+        }
+
+        this.publisher.publish( ByteBuffer.wrap( body ), encoding, groupId, envelope.count );
+    }
+
+    /**
+     * Publishes every envelope whose oldest statistics have reached the maximum age.
+     */
+
+    synchronized void flushExpired()
+    {
+        long now = System.currentTimeMillis();
+
+        List<String> expired = this.envelopes.entrySet()
+                                             .stream()
+                                             .filter( next -> now - next.getValue().started
+                                                              >= this.maximumMilliseconds )
+                                             .map( Map.Entry::getKey )
+                                             .toList();
+
+        expired.forEach( this::flush );
+    }
+
+    /**
+     * Publishes every envelope.
+     */
+
+    synchronized void flushAll()
+    {
+        List<String> groups = List.copyOf( this.envelopes.keySet() );
+        groups.forEach( this::flush );
+    }
+
+    /**
+     * Discards every envelope without publishing it.
+     */
+
+    synchronized void clear()
+    {
+        this.envelopes.clear();
+    }
+
+    /**
+     * @return the age of the oldest statistics in an envelope in milliseconds that triggers publication
+     */
+
+    long getMaximumMilliseconds()
+    {
+        return this.maximumMilliseconds;
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param maximumBytes the uncompressed size of an envelope in bytes that triggers publication
+     * @param maximumMilliseconds the age of the oldest statistics in an envelope that triggers publication
+     * @param deflateLevel the deflate level, zero for no compression
+     * @param publisher publishes an envelope
+     * @throws NullPointerException if the publisher is null
+     * @throws IllegalArgumentException if any number is out of bounds
+     */
+
+    StatisticsBatcher( int maximumBytes,
+                       long maximumMilliseconds,
+                       int deflateLevel,
+                       EnvelopePublisher publisher )
+    {
+        Objects.requireNonNull( publisher );
+
+        if ( maximumBytes <= 0 )
+        {
+            throw new IllegalArgumentException( "The maximum size of an envelope must be greater than zero: "
+                                                + maximumBytes
+                                                + "." );
+        }
+
+        if ( maximumMilliseconds <= 0 )
+        {
+            throw new IllegalArgumentException( "The maximum age of an envelope must be greater than zero: "
+                                                + maximumMilliseconds
+                                                + "." );
+        }
+
+        if ( deflateLevel < 0 || deflateLevel > 9 )
+        {
+            throw new IllegalArgumentException( "The deflate level must be between 0 and 9: " + deflateLevel + "." );
+        }
+
+        this.maximumBytes = maximumBytes;
+        this.maximumMilliseconds = maximumMilliseconds;
+        this.deflateLevel = deflateLevel;
+        this.publisher = publisher;
+        this.envelopes = new HashMap<>();
+    }
+
+    /**
+     * @param bytes the bytes to compress
+     * @return the compressed bytes
+     */
+
+    private byte[] deflate( byte[] bytes )
+    {
+        Deflater deflater = new Deflater( this.deflateLevel );
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream( bytes.length / 2 + 16 );
+
+        try ( DeflaterOutputStream out = new DeflaterOutputStream( compressed, deflater ) )
+        {
+            out.write( bytes );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( "Failed to compress an envelope of statistics messages.", e );
+        }
+        finally
+        {
+            deflater.end();
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * An envelope in progress.
+     */
+
+    private static final class Envelope
+    {
+        /** The length-delimited statistics messages. */
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        /** The time at which the first statistics were added in epoch milliseconds. */
+        private final long started;
+
+        /** The number of statistics messages. */
+        private int count;
+
+        /**
+         * @param started the time at which the first statistics were added in epoch milliseconds
+         */
+
+        private Envelope( long started )
+        {
+            this.started = started;
+        }
+    }
+}
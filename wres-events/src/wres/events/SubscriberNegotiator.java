@@ -2,6 +2,7 @@ package wres.events;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
@@ -62,6 +63,9 @@ class SubscriberNegotiator
     /** The set of formats required by the evaluation. */
     private final Set<Format> formatsRequired;
 
+    /** The identifiers of the subscribers that offered to read envelopes of statistics messages. */
+    private final Set<String> subscribersThatAcceptStatisticsEnvelopes;
+
     /** One latch for each format required. The count of each latch is initially one. When a subscriber arrives that can
      * deliver the format, the corresponding latch is counted down. */
     private final Map<Format, TimedCountDownLatch> formatNegotiationLatches;
@@ -267,6 +271,13 @@ class SubscriberNegotiator
                          formatsOfferedByConsumer );
         }
 
+        // Register whether the subscriber can read envelopes of statistics messages
+        if ( message.getConsumer()
+                    .getAcceptsStatisticsEnvelopes() )
+        {
+            this.subscribersThatAcceptStatisticsEnvelopes.add( consumerId );
+        }
+
         // Register the offer
         for ( Format next : formatsOfferedByConsumer )
         {
@@ -312,6 +323,20 @@ class SubscriberNegotiator
         }
     }
 
+    /**
+     * Returns <code>true</code> if every prescribed subscriber offered to read envelopes of statistics messages,
+     * otherwise <code>false</code>.
+     *
+     * @param subscribers the subscriber identifiers
+     * @return true if every subscriber accepts envelopes of statistics messages, otherwise false
+     */
+
+    boolean acceptStatisticsEnvelopes( Collection<String> subscribers )
+    {
+        return !subscribers.isEmpty()
+               && this.subscribersThatAcceptStatisticsEnvelopes.containsAll( subscribers );
+    }
+
     /**
      * Stops the negotiation by counting down all format negotiation latches.
      */
@@ -544,6 +569,7 @@ class SubscriberNegotiator
         Objects.requireNonNull( subscriberApprover );
 
         this.subscriptionOffers = new ConcurrentHashMap<>();
+        this.subscribersThatAcceptStatisticsEnvelopes = ConcurrentHashMap.newKeySet();
         this.formatsRequired = formatsRequired;
         this.subscriberApprover = subscriberApprover;
         this.evaluation = evaluation;
@@ -57,6 +57,8 @@ public class MessagePublisher implements Closeable
         CONSUMER_ID,
         /** EvaluationMessager job ID. */
         EVALUATION_JOB_ID,
+        /** The encoding of an envelope of statistics messages, which is absent for one statistics message. */
+        STATISTICS_ENCODING,
         /** PNG format. */
         PNG,
         /** SVG format. */
@@ -82,6 +84,7 @@ public class MessagePublisher implements Closeable
                 case JMS_MESSAGE_ID -> "JMSMessageID";
                 case CONSUMER_ID -> "ConsumerID";
                 case EVALUATION_JOB_ID -> "EvaluationJobID";
+                case STATISTICS_ENCODING -> "StatisticsEncoding";
                 default -> super.toString();
             };
         }
@@ -7,6 +7,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -42,6 +43,7 @@ import net.jcip.annotations.ThreadSafe;
 import wres.events.EvaluationEventException;
 import wres.events.EvaluationEventUtilities;
 import wres.events.QueueType;
+import wres.events.StatisticsBatcher;
 import wres.events.broker.BrokerConnectionFactory;
 import wres.events.publish.MessagePublisher;
 import wres.events.publish.MessagePublisher.MessageProperty;
@@ -147,6 +149,9 @@ public class EvaluationSubscriber implements Closeable
     /** String representation of the {@link MessageProperty#JMSX_GROUP_ID}. */
     private static final String GROUP_ID_STRING = MessageProperty.JMSX_GROUP_ID.toString();
 
+    /** String representation of the {@link MessageProperty#STATISTICS_ENCODING}. */
+    private static final String STATISTICS_ENCODING_STRING = MessageProperty.STATISTICS_ENCODING.toString();
+
     /** The frequency with which to publish a subscriber-alive message in ms. */
     private static final long NOTIFY_ALIVE_MILLISECONDS = 100_000;
 
@@ -741,15 +746,41 @@ public class EvaluationSubscriber implements Closeable
 
                     receivedBytes.readBytes( messageContainer );
 
-                    ByteBuffer buffer = ByteBuffer.wrap( messageContainer );
+                    String encoding = message.getStringProperty( EvaluationSubscriber.STATISTICS_ENCODING_STRING );
 
-                    Statistics statistics = Statistics.parseFrom( buffer );
-                    messageBody = statistics;
+                    // One statistics message
+                    if ( Objects.isNull( encoding ) )
+                    {
+                        ByteBuffer buffer = ByteBuffer.wrap( messageContainer );
 
-                    consumer.acceptStatisticsMessage( statistics, groupId, messageId );
+                        Statistics statistics = Statistics.parseFrom( buffer );
+                        messageBody = statistics;
 
-                    // Register with the status monitor
-                    this.status.registerStatistics( messageId );
+                        consumer.acceptStatisticsMessage( statistics, groupId, messageId );
+
+                        // Register with the status monitor
+                        this.status.registerStatistics( messageId );
+                    }
+                    // An envelope of statistics messages, each of which is consumed as a separate message whose
+                    // identifier is qualified by its position in the envelope
+                    else
+                    {
+                        List<Statistics> envelope =
+                                StatisticsBatcher.unpack( messageContainer,
+                                                          StatisticsBatcher.Encoding.valueOf( encoding ) );
+
+                        for ( int i = 0; i < envelope.size(); i++ )
+                        {
+                            Statistics statistics = envelope.get( i );
+                            messageBody = statistics;
+                            String statisticsId = messageId + "-s" + i;
+
+                            consumer.acceptStatisticsMessage( statistics, groupId, statisticsId );
+
+                            // Register with the status monitor
+                            this.status.registerStatistics( statisticsId );
+                        }
+                    }
 
                     // Acknowledge first, then attempt to register complete
                     message.acknowledge();
@@ -770,7 +801,7 @@ public class EvaluationSubscriber implements Closeable
                               groupId );
             }
             // Attempt to recover
-            catch ( JMSException | InvalidProtocolBufferException | ConsumerException e )
+            catch ( JMSException | IOException | ConsumerException e )
             {
                 this.recover( messageId, messageBody, correlationId, this.statisticsSession, e );
             }
@@ -1682,10 +1713,15 @@ public class EvaluationSubscriber implements Closeable
         this.timer = new Timer( "EvaluationSubscriberTimer", true );
         this.maximumRetries = brokerConnectionFactory.getMaximumMessageRetries();
 
-        // Create the subscriber offerer to offer format writing services
+        // Create the subscriber offerer to offer format writing services. This subscriber reads envelopes of
+        // statistics messages, regardless of the formats offered
+        Consumer offeredConsumer = this.getConsumerDescription()
+                                       .toBuilder()
+                                       .setAcceptsStatisticsEnvelopes( true )
+                                       .build();
         EvaluationStatus serviceOffer = EvaluationStatus.newBuilder()
                                                         .setCompletionStatus( CompletionStatus.READY_TO_CONSUME )
-                                                        .setConsumer( this.getConsumerDescription() )
+                                                        .setConsumer( offeredConsumer )
                                                         .setClientId( this.getClientId() )
                                                         .build();
 
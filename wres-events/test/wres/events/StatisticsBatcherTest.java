@@ -0,0 +1,136 @@
+package wres.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import wres.statistics.generated.Statistics;
+
+/**
+ * Tests the {@link StatisticsBatcher}.
+ *
+ * @author James Brown
+ */
+
+class StatisticsBatcherTest
+{
+    /** Statistics to pack. */
+    private static final List<Statistics> STATISTICS = List.of( Statistics.newBuilder()
+                                                                          .setMinimumSampleSize( 1 )
+                                                                          .build(),
+                                                                Statistics.newBuilder()
+                                                                          .setMinimumSampleSize( 2 )
+                                                                          .build(),
+                                                                Statistics.newBuilder()
+                                                                          .setMinimumSampleSize( 3 )
+                                                                          .build() );
+
+    @Test
+    void testFlushPublishesUncompressedEnvelopeThatUnpacksToStatistics() throws IOException
+    {
+        List<Published> published = new ArrayList<>();
+        StatisticsBatcher batcher = new StatisticsBatcher( Integer.MAX_VALUE,
+                                                           1000,
+                                                           0,
+                                                           ( envelope, encoding, groupId, count ) ->
+                                                                   published.add( new Published( envelope,
+                                                                                                 encoding,
+                                                                                                 groupId,
+                                                                                                 count ) ) );
+
+        STATISTICS.forEach( next -> batcher.add( next, "a" ) );
+
+        assertTrue( published.isEmpty() );
+
+        batcher.flush( "a" );
+
+        assertEquals( 1, published.size() );
+
+        Published envelope = published.get( 0 );
+
+        assertEquals( StatisticsBatcher.Encoding.NONE, envelope.encoding() );
+        assertEquals( "a", envelope.groupId() );
+        assertEquals( 3, envelope.count() );
+        assertEquals( STATISTICS, StatisticsBatcher.unpack( envelope.bytes(), envelope.encoding() ) );
+    }
+
+    @Test
+    void testFullEnvelopeIsPublishedWithCompressionByGroup() throws IOException
+    {
+        List<Published> published = new ArrayList<>();
+
+        // Each statistics message occupies more than one byte, so every envelope is full after one message
+        StatisticsBatcher batcher = new StatisticsBatcher( 1,
+                                                           1000,
+                                                           6,
+                                                           ( envelope, encoding, groupId, count ) ->
+                                                                   published.add( new Published( envelope,
+                                                                                                 encoding,
+                                                                                                 groupId,
+                                                                                                 count ) ) );
+
+        batcher.add( STATISTICS.get( 0 ), "a" );
+        batcher.add( STATISTICS.get( 1 ), "b" );
+
+        assertEquals( 2, published.size() );
+
+        List<Statistics> unpacked = new ArrayList<>();
+        for ( Published next : published )
+        {
+            assertEquals( StatisticsBatcher.Encoding.DEFLATE, next.encoding() );
+            unpacked.addAll( StatisticsBatcher.unpack( next.bytes(), next.encoding() ) );
+        }
+
+        assertEquals( STATISTICS.subList( 0, 2 ), unpacked );
+        assertEquals( List.of( "a", "b" ), published.stream()
+                                                    .map( Published::groupId )
+                                                    .toList() );
+    }
+
+    @Test
+    void testClearDiscardsEnvelopes()
+    {
+        List<Published> published = new ArrayList<>();
+        StatisticsBatcher batcher = new StatisticsBatcher( Integer.MAX_VALUE,
+                                                           1000,
+                                                           0,
+                                                           ( envelope, encoding, groupId, count ) ->
+                                                                   published.add( new Published( envelope,
+                                                                                                 encoding,
+                                                                                                 groupId,
+                                                                                                 count ) ) );
+
+        batcher.add( STATISTICS.get( 0 ), "a" );
+        batcher.clear();
+        batcher.flushAll();
+
+        assertTrue( published.isEmpty() );
+    }
+
+    /**
+     * A published envelope.
+     * @param envelope the envelope
+     * @param encoding the encoding
+     * @param groupId the group identifier
+     * @param count the number of statistics messages
+     */
+    private record Published( ByteBuffer envelope, StatisticsBatcher.Encoding encoding, String groupId, int count )
+    {
+        /**
+         * @return the envelope bytes
+         */
+        private byte[] bytes()
+        {
+            byte[] bytes = new byte[this.envelope.remaining()];
+            this.envelope.duplicate()
+                         .get( bytes );
+            return bytes;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package wres.http;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -133,6 +135,166 @@ public class WebClient
 
     public ClientResponse getFromWeb( URI uri )
             throws IOException
+    {
+        return this.getFromWeb( uri, Headers.of() );
+    }
+
+    /**
+     * Get a pair of HTTP status and InputStream of body of given URI, using a persistent cache of responses. A cached
+     * response whose data ends earlier than the immutable age of the cache is returned without contacting the server.
+     * Otherwise, a cached response is revalidated with a conditional request and returned when the server reports that
+     * it has not been modified. A successful response that is not cached is stored in the cache before it is returned.
+     * Unsuccessful responses are returned without caching.
+     *
+     * @param uri The URI to GET
+     * @param cache the response cache, optional
+     * @param dataEnd the latest time covered by the response, such as the end of a chunked time range, optional
+     * @return the client response
+     * @throws IOException when sending/receiving fails after exhausting any retry policy or caching fails
+     * @throws IllegalArgumentException when non-http uri is passed in.
+     * @throws NullPointerException when the uri is null.
+     */
+
+    public ClientResponse getFromWeb( URI uri, WebResponseCache cache, Instant dataEnd )
+            throws IOException
+    {
+        if ( Objects.isNull( cache ) )
+        {
+            return this.getFromWeb( uri );
+        }
+
+        Objects.requireNonNull( uri );
+
+        WebResponseCache.Entry entry = cache.get( uri );
+
+        if ( Objects.nonNull( entry )
+             && entry.immutable() )
+        {
+            ClientResponse cached = WebClient.getCachedResponse( cache, entry, Headers.of() );
+
+            if ( Objects.nonNull( cached ) )
+            {
+                LOGGER.debug( "Using the cached response for {} without revalidation.", uri );
+                return cached;
+            }
+
+            // Evicted since the lookup, so request the body again
+            entry = null;
+        }
+
+        Headers.Builder conditional = new Headers.Builder();
+
+        if ( Objects.nonNull( entry ) )
+        {
+            if ( Objects.nonNull( entry.etag() ) )
+            {
+                conditional.add( "If-None-Match", entry.etag() );
+            }
+
+            if ( Objects.nonNull( entry.lastModified() ) )
+            {
+                conditional.add( "If-Modified-Since", entry.lastModified() );
+            }
+        }
+
+        ClientResponse response = this.getFromWeb( uri, conditional.build() );
+        Headers headers = response.getHeaders();
+        int httpStatus = response.getStatusCode();
+
+        if ( httpStatus == 304
+             && Objects.nonNull( entry ) )
+        {
+            response.close();
+
+            LOGGER.debug( "Revalidated the cached response for {}.", uri );
+
+            WebResponseCache.Entry revalidated = cache.revalidated( uri,
+                                                                    entry,
+                                                                    headers.get( "ETag" ),
+                                                                    headers.get( "Last-Modified" ),
+                                                                    dataEnd );
+            ClientResponse cached = WebClient.getCachedResponse( cache, revalidated, headers );
+
+            if ( Objects.nonNull( cached ) )
+            {
+                return cached;
+            }
+
+            // Evicted since the lookup, so request the body again without validators
+            response = this.getFromWeb( uri, Headers.of() );
+            headers = response.getHeaders();
+            httpStatus = response.getStatusCode();
+        }
+
+        if ( httpStatus == 200 )
+        {
+            try ( response )
+            {
+                WebResponseCache.Entry stored = cache.put( uri,
+                                                           response.getResponse(),
+                                                           headers.get( "ETag" ),
+                                                           headers.get( "Last-Modified" ),
+                                                           dataEnd );
+
+                LOGGER.debug( "Cached the response for {} in {}.", uri, stored.body() );
+
+                ClientResponse cached = WebClient.getCachedResponse( cache, stored, headers );
+
+                if ( Objects.nonNull( cached ) )
+                {
+                    return cached;
+                }
+            }
+
+            // Evicted as soon as it was stored, which happens when the response alone exceeds the cache size
+            return this.getFromWeb( uri, Headers.of() );
+        }
+
+        return response;
+    }
+
+    /**
+     * Opens the body of a cached response and marks the response as used. The cache may evict a response at any time,
+     * including between a lookup and this call, in which case the response is treated as a cache miss.
+     *
+     * @param cache the cache
+     * @param entry the cached response
+     * @param headers the response headers
+     * @return the client response or null if the cached response no longer exists
+     * @throws IOException if the cached response exists but could not be opened
+     */
+
+    private static ClientResponse getCachedResponse( WebResponseCache cache,
+                                                     WebResponseCache.Entry entry,
+                                                     Headers headers )
+            throws IOException
+    {
+        try
+        {
+            ClientResponse response = new ClientResponse( entry, headers );
+            cache.touch( entry );
+            return response;
+        }
+        catch ( NoSuchFileException e )
+        {
+            LOGGER.debug( "The cached response {} was evicted before it could be read.", entry.body() );
+            return null;
+        }
+    }
+
+    /**
+     * Get a pair of HTTP status and InputStream of body of given URI.
+     *
+     * @param uri The URI to GET
+     * @param headers additional request headers
+     * @return the client response
+     * @throws IOException when sending/receiving fails after exhausting any retry policy
+     * @throws IllegalArgumentException when non-http uri is passed in.
+     * @throws NullPointerException when the uri is null.
+     */
+
+    private ClientResponse getFromWeb( URI uri, Headers headers )
+            throws IOException
     {
         Objects.requireNonNull( uri );
 
@@ -153,6 +315,7 @@ public class WebClient
 
             Request request = new Request.Builder()
                     .url( uri.toURL() )
+                    .headers( headers )
                     .header( "Accept-Encoding", "gzip" )
                     .header( "User-Agent", this.getUserAgent() )
                     .build();
@@ -386,6 +549,13 @@ public class WebClient
 
             monitorEvent.setHttpResponseCode( httpStatus );
             monitorEvent.setRetryCount( retryCount );
+
+            if ( Objects.nonNull( httpResponse.body() ) )
+            {
+                monitorEvent.setResponseBytes( httpResponse.body()
+                                                           .contentLength() );
+            }
+
             monitorEvent.commit();
 
             if ( httpStatus >= 200 && httpStatus < 300 )
@@ -394,6 +564,13 @@ public class WebClient
                               uri,
                               duration );
             }
+            else if ( httpStatus == 304 )
+            {
+                // The caller sent validators and handles the revalidation of its cached response
+                LOGGER.debug( "Got not modified from {} in {}.",
+                              uri,
+                              duration );
+            }
             else if ( httpStatus >= 400 && httpStatus < 500 )
             {
                 LOGGER.debug( "Got client error from {} in {}.",
@@ -631,6 +808,19 @@ public class WebClient
             this.headers = httpResponse.headers();
         }
 
+        /**
+         * Creates an instance from a cached response, whose body has been decoded already.
+         * @param entry the cached response
+         * @param headers the response headers
+         * @throws IOException if the cached response could not be opened
+         */
+        private ClientResponse( WebResponseCache.Entry entry, Headers headers ) throws IOException
+        {
+            this.statusCode = 200;
+            this.response = Files.newInputStream( entry.body() );
+            this.headers = headers;
+        }
+
         /**
          * Creates an instance.
          * @param statusCode the status code
@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.Objects;
 
 import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
 import jdk.jfr.Description;
 import jdk.jfr.Event;
 import jdk.jfr.Label;
@@ -36,6 +37,11 @@ class WebClientEvent extends Event
                   + "on first attempt." )
     private int retryCount;
 
+    @Label( "Response Size" )
+    @Description( "The size of the response body in bytes, as declared by the web service, or -1 if undeclared." )
+    @DataAmount( DataAmount.BYTES )
+    private long responseBytes = -1;
+
     /**
      * @param uri the URI of the web resource
      * @return an instance
@@ -67,6 +73,16 @@ class WebClientEvent extends Event
         this.retryCount = retryCount;
     }
 
+    /**
+     * Sets the response size.
+     * @param responseBytes the size of the response body in bytes or -1 if unknown
+     */
+
+    void setResponseBytes( long responseBytes )
+    {
+        this.responseBytes = responseBytes;
+    }
+
     /**
      * Hidden constructor.
      * @param uri the URI of the web resource
@@ -0,0 +1,550 @@
+package wres.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>A persistent cache of successful web responses on disk, which is used by
+ * {@link WebClient#getFromWeb(URI, WebResponseCache, Instant)}. Each response body is stored in a file whose name is
+ * the SHA-256 digest of the canonical request URI, together with a small properties file that contains the validators
+ * returned by the server, namely the <code>ETag</code> and <code>Last-Modified</code> headers. The canonical URI
+ * contains the time range of a chunked request, so each chunk is stored separately.
+ *
+ * <p>A cached response is revalidated with a conditional request before it is used, unless the data it contains ends
+ * earlier than the immutable age, in which case it is used without contacting the server. Responses that have not been
+ * used for longer than the maximum age are evicted, as are the least recently used responses when the cache exceeds
+ * its maximum size.
+ *
+ * @author James Brown
+ */
+
+public final class WebResponseCache
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( WebResponseCache.class );
+
+    /** Extension of a response body file. */
+    private static final String BODY_EXTENSION = ".body";
+
+    /** Extension of a response properties file. */
+    private static final String PROPERTIES_EXTENSION = ".properties";
+
+    /** Property name for the request URI. */
+    private static final String URI_PROPERTY = "uri";
+
+    /** Property name for the ETag validator. */
+    private static final String ETAG_PROPERTY = "etag";
+
+    /** Property name for the Last-Modified validator. */
+    private static final String LAST_MODIFIED_PROPERTY = "lastModified";
+
+    /** Property name for the immutable flag. */
+    private static final String IMMUTABLE_PROPERTY = "immutable";
+
+    /** Names of query parameters that contain credentials and are omitted from the canonical uri. */
+    private static final Set<String> CREDENTIAL_PARAMETERS = Set.of( "api_key", "apikey", "access_token", "token" );
+
+    /** The cache directory. */
+    private final Path directory;
+
+    /** The maximum size of the cached response bodies in bytes. */
+    private final long maximumBytes;
+
+    /** The maximum period for which an unused response is retained. */
+    private final Duration maximumAge;
+
+    /** The age of data beyond which a response is treated as immutable. */
+    private final Duration immutableAge;
+
+    /**
+     * Creates an instance.
+     *
+     * @param directory the cache directory, which is created if it does not exist
+     * @param maximumBytes the maximum size of the cached response bodies in bytes
+     * @param maximumAge the maximum period for which an unused response is retained
+     * @param immutableAge the age of data beyond which a response is used without revalidation
+     * @return the cache
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the size or any duration is not positive
+     * @throws UncheckedIOException if the directory could not be created
+     */
+
+    public static WebResponseCache of( Path directory,
+                                       long maximumBytes,
+                                       Duration maximumAge,
+                                       Duration immutableAge )
+    {
+        return new WebResponseCache( directory, maximumBytes, maximumAge, immutableAge );
+    }
+
+    /**
+     * @return the cache directory
+     */
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    /**
+     * Returns the canonical form of a URI whose scheme and host are lower case and whose query parameters are sorted,
+     * such that equivalent requests share a cache entry. Credential parameters, such as an API key, are omitted, so
+     * that they are never written to disk.
+     *
+     * @param uri the uri
+     * @return the canonical uri string
+     * @throws NullPointerException if the uri is null
+     */
+
+    static String getCanonicalUri( URI uri )
+    {
+        Objects.requireNonNull( uri );
+
+        URI normalized = uri.normalize();
+        StringBuilder canonical = new StringBuilder();
+        canonical.append( Objects.toString( normalized.getScheme(), "" )
+                                 .toLowerCase( Locale.ROOT ) )
+                 .append( "://" )
+                 .append( Objects.toString( normalized.getRawAuthority(), "" )
+                                 .toLowerCase( Locale.ROOT ) )
+                 .append( Objects.toString( normalized.getRawPath(), "" ) );
+
+        String query = normalized.getRawQuery();
+
+        if ( Objects.nonNull( query ) && !query.isEmpty() )
+        {
+            String[] parameters = Arrays.stream( query.split( "&" ) )
+                                        .filter( next -> !WebResponseCache.isCredential( next ) )
+                                        .sorted()
+                                        .toArray( String[]::new );
+            if ( parameters.length > 0 )
+            {
+                canonical.append( '?' )
+                         .append( String.join( "&", parameters ) );
+            }
+        }
+
+        return canonical.toString();
+    }
+
+    /**
+     * Looks for a cached response.
+     *
+     * @param uri the request uri
+     * @return the cached response or null
+     */
+
+    Entry get( URI uri )
+    {
+        String key = WebResponseCache.getKey( uri );
+        Path body = this.directory.resolve( key + BODY_EXTENSION );
+        Path propertiesPath = this.directory.resolve( key + PROPERTIES_EXTENSION );
+
+        if ( !Files.exists( body ) || !Files.exists( propertiesPath ) )
+        {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try ( Reader reader = Files.newBufferedReader( propertiesPath, StandardCharsets.UTF_8 ) )
+        {
+            properties.load( reader );
+        }
+        catch ( NoSuchFileException e )
+        {
+            LOGGER.debug( "The cached response for {} was evicted while reading it.", uri );
+            return null;
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to read the cached response for {}. The response will be requested again.",
+                         uri,
+                         e );
+            return null;
+        }
+
+        // Guard against a digest collision
+        if ( !WebResponseCache.getCanonicalUri( uri )
+                              .equals( properties.getProperty( URI_PROPERTY ) ) )
+        {
+            return null;
+        }
+
+        return new Entry( body,
+                          properties.getProperty( ETAG_PROPERTY ),
+                          properties.getProperty( LAST_MODIFIED_PROPERTY ),
+                          Boolean.parseBoolean( properties.getProperty( IMMUTABLE_PROPERTY ) ) );
+    }
+
+    /**
+     * Stores a response body and its validators, replacing any existing response for the same request. The stream is
+     * read to completion.
+     *
+     * @param uri the request uri
+     * @param response the decoded response body
+     * @param etag the ETag validator, possibly null
+     * @param lastModified the Last-Modified validator, possibly null
+     * @param dataEnd the latest time covered by the response, possibly null
+     * @return the stored response
+     * @throws IOException if the response could not be stored
+     */
+
+    Entry put( URI uri, InputStream response, String etag, String lastModified, Instant dataEnd )
+            throws IOException
+    {
+        String key = WebResponseCache.getKey( uri );
+        Path body = this.directory.resolve( key + BODY_EXTENSION );
+        Path temporary = Files.createTempFile( this.directory, key, ".tmp" );
+
+        try
+        {
+            try ( OutputStream out = Files.newOutputStream( temporary ) )
+            {
+                response.transferTo( out );
+            }
+
+            Files.move( temporary, body, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( temporary );
+        }
+
+        Entry entry = new Entry( body, etag, lastModified, this.isImmutable( dataEnd ) );
+        this.writeProperties( uri, key, entry );
+        this.evict();
+
+        return entry;
+    }
+
+    /**
+     * Records that a cached response was revalidated, updating its validators where the server supplied new ones.
+     *
+     * @param uri the request uri
+     * @param entry the cached response
+     * @param etag the new ETag validator, possibly null
+     * @param lastModified the new Last-Modified validator, possibly null
+     * @param dataEnd the latest time covered by the response, possibly null
+     * @return the updated response
+     */
+
+    Entry revalidated( URI uri, Entry entry, String etag, String lastModified, Instant dataEnd )
+    {
+        Entry updated = new Entry( entry.body(),
+                                   Objects.requireNonNullElse( etag, entry.etag() ),
+                                   Objects.requireNonNullElse( lastModified, entry.lastModified() ),
+                                   this.isImmutable( dataEnd ) );
+        try
+        {
+            this.writeProperties( uri, WebResponseCache.getKey( uri ), updated );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to update the cached response for {}.", uri, e );
+        }
+
+        return updated;
+    }
+
+    /**
+     * Marks a cached response as recently used, which defers its eviction.
+     *
+     * @param entry the cached response
+     */
+
+    void touch( Entry entry )
+    {
+        try
+        {
+            Files.setLastModifiedTime( entry.body(), FileTime.from( Instant.now() ) );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.debug( "Failed to mark the cached response {} as used.", entry.body(), e );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "WebResponseCache[directory=" + this.directory
+               + ", maximumBytes="
+               + this.maximumBytes
+               + ", maximumAge="
+               + this.maximumAge
+               + ", immutableAge="
+               + this.immutableAge
+               + "]";
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param body the path to the response body
+     * @param etag the ETag validator, possibly null
+     * @param lastModified the Last-Modified validator, possibly null
+     * @param immutable is true if the response can be used without revalidation
+     */
+
+    record Entry( Path body, String etag, String lastModified, boolean immutable ) {}
+
+    /**
+     * @param dataEnd the latest time covered by a response, possibly null
+     * @return true if the data ends earlier than the immutable age, otherwise false
+     */
+
+    private boolean isImmutable( Instant dataEnd )
+    {
+        return Objects.nonNull( dataEnd )
+               && dataEnd.isBefore( Instant.now()
+                                           .minus( this.immutableAge ) );
+    }
+
+    /**
+     * Writes the properties of a response.
+     *
+     * @param uri the request uri
+     * @param key the cache key
+     * @param entry the cached response
+     * @throws IOException if the properties could not be written
+     */
+
+    private void writeProperties( URI uri, String key, Entry entry ) throws IOException
+    {
+        Properties properties = new Properties();
+        properties.setProperty( URI_PROPERTY, WebResponseCache.getCanonicalUri( uri ) );
+        properties.setProperty( IMMUTABLE_PROPERTY, Boolean.toString( entry.immutable() ) );
+
+        if ( Objects.nonNull( entry.etag() ) )
+        {
+            properties.setProperty( ETAG_PROPERTY, entry.etag() );
+        }
+
+        if ( Objects.nonNull( entry.lastModified() ) )
+        {
+            properties.setProperty( LAST_MODIFIED_PROPERTY, entry.lastModified() );
+        }
+
+        Path propertiesPath = this.directory.resolve( key + PROPERTIES_EXTENSION );
+        Path temporary = Files.createTempFile( this.directory, key, ".tmp" );
+
+        try
+        {
+            try ( Writer writer = Files.newBufferedWriter( temporary, StandardCharsets.UTF_8 ) )
+            {
+                properties.store( writer, null );
+            }
+
+            Files.move( temporary,
+                        propertiesPath,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( temporary );
+        }
+    }
+
+    /**
+     * Evicts the responses that have not been used within the maximum age and then the least recently used responses
+     * until the cache is no larger than its maximum size.
+     */
+
+    private synchronized void evict()
+    {
+        List<Path> bodies;
+        try ( Stream<Path> files = Files.list( this.directory ) )
+        {
+            bodies = files.filter( next -> next.getFileName()
+                                               .toString()
+                                               .endsWith( BODY_EXTENSION ) )
+                          .toList();
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to list the cached responses in {}.", this.directory, e );
+            return;
+        }
+
+        record Used( Path body, Instant lastUsed, long bytes ) {}
+
+        List<Used> used = new ArrayList<>();
+        for ( Path next : bodies )
+        {
+            try
+            {
+                used.add( new Used( next, Files.getLastModifiedTime( next )
+                                               .toInstant(), Files.size( next ) ) );
+            }
+            catch ( IOException e )
+            {
+                LOGGER.debug( "Failed to inspect the cached response {}.", next, e );
+            }
+        }
+
+        used.sort( Comparator.comparing( Used::lastUsed ) );
+
+        Instant oldest = Instant.now()
+                                .minus( this.maximumAge );
+        long bytes = used.stream()
+                         .mapToLong( Used::bytes )
+                         .sum();
+
+        for ( Used next : used )
+        {
+            if ( bytes <= this.maximumBytes
+                 && !next.lastUsed()
+                         .isBefore( oldest ) )
+            {
+                break;
+            }
+
+            this.delete( next.body() );
+            bytes -= next.bytes();
+        }
+    }
+
+    /**
+     * Deletes a cached response.
+     *
+     * @param body the response body
+     */
+
+    private void delete( Path body )
+    {
+        String name = body.getFileName()
+                          .toString();
+        String key = name.substring( 0, name.length() - BODY_EXTENSION.length() );
+
+        try
+        {
+            Files.deleteIfExists( this.directory.resolve( key + PROPERTIES_EXTENSION ) );
+            Files.deleteIfExists( body );
+
+            LOGGER.debug( "Evicted the cached response {}.", body );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.debug( "Failed to evict the cached response {}.", body, e );
+        }
+    }
+
+    /**
+     * @param parameter the query parameter
+     * @return true if the parameter contains a credential, otherwise false
+     */
+
+    private static boolean isCredential( String parameter )
+    {
+        String name = parameter.split( "=", 2 )[0].toLowerCase( Locale.ROOT );
+        return CREDENTIAL_PARAMETERS.contains( name );
+    }
+
+    /**
+     * @param uri the request uri
+     * @return the cache key, which is the hexadecimal SHA-256 digest of the canonical uri
+     */
+
+    private static String getKey( URI uri )
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+            byte[] hash = digest.digest( WebResponseCache.getCanonicalUri( uri )
+                                                         .getBytes( StandardCharsets.UTF_8 ) );
+            return HexFormat.of()
+                            .formatHex( hash );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( "The SHA-256 algorithm is unavailable.", e );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param directory the cache directory
+     * @param maximumBytes the maximum size of the cached response bodies in bytes
+     * @param maximumAge the maximum period for which an unused response is retained
+     * @param immutableAge the age of data beyond which a response is used without revalidation
+     */
+
+    private WebResponseCache( Path directory,
+                              long maximumBytes,
+                              Duration maximumAge,
+                              Duration immutableAge )
+    {
+        Objects.requireNonNull( directory );
+        Objects.requireNonNull( maximumAge );
+        Objects.requireNonNull( immutableAge );
+
+        if ( maximumBytes <= 0 )
+        {
+            throw new IllegalArgumentException( "The maximum size of the web response cache must be positive: "
+                                                + maximumBytes
+                                                + "." );
+        }
+
+        if ( maximumAge.isNegative() || maximumAge.isZero() )
+        {
+            throw new IllegalArgumentException( "The maximum age of a cached web response must be positive: "
+                                                + maximumAge
+                                                + "." );
+        }
+
+        if ( immutableAge.isNegative() || immutableAge.isZero() )
+        {
+            throw new IllegalArgumentException( "The age beyond which a cached web response is immutable must be "
+                                                + "positive: "
+                                                + immutableAge
+                                                + "." );
+        }
+
+        try
+        {
+            Files.createDirectories( directory );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( "Failed to create the web response cache directory " + directory + ".",
+                                            e );
+        }
+
+        this.directory = directory;
+        this.maximumBytes = maximumBytes;
+        this.maximumAge = maximumAge;
+        this.immutableAge = immutableAge;
+
+        LOGGER.debug( "Created {}.", this );
+    }
+}
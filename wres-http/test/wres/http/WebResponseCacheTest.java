@@ -0,0 +1,187 @@
+package wres.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests the {@link WebResponseCache}.
+ *
+ * @author James Brown
+ */
+
+class WebResponseCacheTest
+{
+    @RegisterExtension
+    private static final WireMockExtension WIREMOCK = WireMockExtension.newInstance()
+                                                                       .options( WireMockConfiguration.wireMockConfig()
+                                                                                                      .dynamicPort() )
+                                                                       .build();
+
+    /** Path to request. */
+    private static final String PATH = "/foo/bar";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testSuccessfulResponseIsCachedAndRevalidatedWithEtag() throws IOException
+    {
+        WIREMOCK.stubFor( WireMock.get( WireMock.urlPathEqualTo( PATH ) )
+                                  .withHeader( "If-None-Match", WireMock.absent() )
+                                  .willReturn( WireMock.aResponse()
+                                                       .withStatus( 200 )
+                                                       .withHeader( "ETag", "\"baz\"" )
+                                                       .withBody( "baz" ) ) );
+
+        WIREMOCK.stubFor( WireMock.get( WireMock.urlPathEqualTo( PATH ) )
+                                  .withHeader( "If-None-Match", WireMock.equalTo( "\"baz\"" ) )
+                                  .willReturn( WireMock.aResponse()
+                                                       .withStatus( 304 ) ) );
+
+        WebResponseCache cache = WebResponseCache.of( this.directory,
+                                                      1024,
+                                                      Duration.ofDays( 1 ),
+                                                      Duration.ofDays( 1 ) );
+        WebClient client = new WebClient();
+        URI uri = this.getUri( "?b=2&a=1" );
+
+        try ( WebClient.ClientResponse first = client.getFromWeb( uri, cache, null ) )
+        {
+            assertEquals( 200, first.getStatusCode() );
+            assertEquals( "baz", new String( first.getResponse()
+                                                  .readAllBytes(), StandardCharsets.UTF_8 ) );
+        }
+
+        // Same request with reordered parameters is revalidated and served from the cache
+        try ( WebClient.ClientResponse second = client.getFromWeb( this.getUri( "?a=1&b=2" ), cache, null ) )
+        {
+            assertEquals( 200, second.getStatusCode() );
+            assertEquals( "baz", new String( second.getResponse()
+                                                   .readAllBytes(), StandardCharsets.UTF_8 ) );
+        }
+
+        WIREMOCK.verify( 1, WireMock.getRequestedFor( WireMock.urlPathEqualTo( PATH ) )
+                                    .withHeader( "If-None-Match", WireMock.equalTo( "\"baz\"" ) ) );
+    }
+
+    @Test
+    void testImmutableResponseIsUsedWithoutContactingServer() throws IOException
+    {
+        WIREMOCK.stubFor( WireMock.get( WireMock.urlPathEqualTo( PATH ) )
+                                  .willReturn( WireMock.aResponse()
+                                                       .withStatus( 200 )
+                                                       .withBody( "qux" ) ) );
+
+        WebResponseCache cache = WebResponseCache.of( this.directory,
+                                                      1024,
+                                                      Duration.ofDays( 1 ),
+                                                      Duration.ofDays( 1 ) );
+        WebClient client = new WebClient();
+        URI uri = this.getUri( "" );
+        Instant dataEnd = Instant.now()
+                                 .minus( Duration.ofDays( 2 ) );
+
+        client.getFromWeb( uri, cache, dataEnd )
+              .close();
+
+        try ( WebClient.ClientResponse second = client.getFromWeb( uri, cache, dataEnd ) )
+        {
+            assertEquals( "qux", new String( second.getResponse()
+                                                   .readAllBytes(), StandardCharsets.UTF_8 ) );
+        }
+
+        WIREMOCK.verify( 1, WireMock.getRequestedFor( WireMock.urlPathEqualTo( PATH ) ) );
+    }
+
+    @Test
+    void testResponseEvictedBeforeItIsReadIsRequestedAgain() throws IOException
+    {
+        WIREMOCK.stubFor( WireMock.get( WireMock.urlPathEqualTo( PATH ) )
+                                  .willReturn( WireMock.aResponse()
+                                                       .withStatus( 200 )
+                                                       .withBody( "larger than the cache" ) ) );
+
+        // The response alone exceeds the cache size, so it is evicted as soon as it is stored
+        WebResponseCache cache = WebResponseCache.of( this.directory,
+                                                      4,
+                                                      Duration.ofDays( 1 ),
+                                                      Duration.ofDays( 1 ) );
+        WebClient client = new WebClient();
+
+        try ( WebClient.ClientResponse response = client.getFromWeb( this.getUri( "" ), cache, null ) )
+        {
+            assertEquals( 200, response.getStatusCode() );
+            assertEquals( "larger than the cache", new String( response.getResponse()
+                                                                       .readAllBytes(), StandardCharsets.UTF_8 ) );
+        }
+
+        WIREMOCK.verify( 2, WireMock.getRequestedFor( WireMock.urlPathEqualTo( PATH ) ) );
+    }
+
+    @Test
+    void testLeastRecentlyUsedResponseIsEvictedWhenCacheIsFull() throws IOException
+    {
+        WebResponseCache cache = WebResponseCache.of( this.directory,
+                                                      6,
+                                                      Duration.ofDays( 1 ),
+                                                      Duration.ofDays( 1 ) );
+
+        URI first = this.getUri( "?page=1" );
+        URI second = this.getUri( "?page=2" );
+
+        WebResponseCache.Entry entry = cache.put( first,
+                                                  new ByteArrayInputStream( "abcd".getBytes( StandardCharsets.UTF_8 ) ),
+                                                  null,
+                                                  null,
+                                                  null );
+        Files.setLastModifiedTime( entry.body(),
+                                   FileTime.from( Instant.now()
+                                                         .minus( Duration.ofHours( 1 ) ) ) );
+        cache.put( second, new ByteArrayInputStream( "efgh".getBytes( StandardCharsets.UTF_8 ) ), null, null, null );
+
+        try ( Stream<Path> files = Files.list( this.directory ) )
+        {
+            assertEquals( 2, files.count() );
+        }
+
+        assertFalse( Files.exists( entry.body() ) );
+        assertEquals( "efgh", Files.readString( cache.get( second )
+                                                     .body() ) );
+    }
+
+    @Test
+    void testCanonicalUriOmitsCredentials()
+    {
+        URI uri = URI.create( "HTTP://Example.COM/a/../b?z=1&api_key=secret&a=2" );
+
+        assertEquals( "http://example.com/b?a=2&z=1", WebResponseCache.getCanonicalUri( uri ) );
+    }
+
+    /**
+     * @param query the query string
+     * @return the uri to request
+     */
+
+    private URI getUri( String query )
+    {
+        return URI.create( "http://localhost:" + WIREMOCK.getPort() + PATH + query );
+    }
+}
@@ -589,6 +589,218 @@ public class DatabaseDataProvider implements DataProvider
         return rawResult;
     }
 
+    @Override
+    public double[] getPrimitiveDoubleArray( String columnName )
+    {
+        String text = this.getString( columnName );
+
+        if ( Objects.isNull( text ) )
+        {
+            return new double[0];
+        }
+        else if ( DatabaseDataProvider.isArrayText( text ) )
+        {
+            return DatabaseDataProvider.parseDoubles( text );
+        }
+
+        // Not a one-dimensional array in the PostgreSQL text format, so use the JDBC array
+        Object array = this.getArray( columnName );
+
+        if ( array instanceof double[] v )
+        {
+            return v;
+        }
+        else if ( array instanceof Number[] v )
+        {
+            double[] result = new double[v.length];
+
+            for ( int i = 0; i < v.length; i++ )
+            {
+                // Translate NULL in wres DB to missing value in wres Java
+                result[i] = Objects.isNull( v[i] ) ? MissingValues.DOUBLE : v[i].doubleValue();
+            }
+
+            return result;
+        }
+
+        throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                      + array.getClass()
+                                      + "' to a double[]." );
+    }
+
+    @Override
+    public long[] getPrimitiveLongArray( String columnName )
+    {
+        String text = this.getString( columnName );
+
+        if ( Objects.isNull( text ) )
+        {
+            return new long[0];
+        }
+        else if ( DatabaseDataProvider.isArrayText( text ) )
+        {
+            return DatabaseDataProvider.parseLongs( text );
+        }
+
+        // Not a one-dimensional array in the PostgreSQL text format, so use the JDBC array
+        Object array = this.getArray( columnName );
+
+        if ( array instanceof long[] v )
+        {
+            return v;
+        }
+        else if ( array instanceof Number[] v )
+        {
+            long[] result = new long[v.length];
+
+            for ( int i = 0; i < v.length; i++ )
+            {
+                if ( Objects.isNull( v[i] ) )
+                {
+                    throw new IllegalStateException( "The array in column " + columnName
+                                                     + " contains a null value, which cannot be read as a long." );
+                }
+
+                result[i] = v[i].longValue();
+            }
+
+            return result;
+        }
+
+        throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                      + array.getClass()
+                                      + "' to a long[]." );
+    }
+
+    /**
+     * Parses a one-dimensional array of floating point numbers in the PostgreSQL text format, such as
+     * <code>{1.5,NaN,NULL}</code>, without boxing each value.
+     *
+     * @param text the array text
+     * @return the values, with NULL translated to {@link MissingValues#DOUBLE}
+     * @throws NumberFormatException if a value could not be parsed
+     */
+
+    static double[] parseDoubles( String text )
+    {
+        int count = DatabaseDataProvider.getArrayTextCount( text );
+        double[] result = new double[count];
+        int start = 1;
+
+        for ( int i = 0; i < count; i++ )
+        {
+            int end = DatabaseDataProvider.getArrayTextEnd( text, start );
+
+            if ( DatabaseDataProvider.isArrayTextNull( text, start, end ) )
+            {
+                result[i] = MissingValues.DOUBLE;
+            }
+            else
+            {
+                result[i] = Double.parseDouble( text.substring( start, end ) );
+            }
+
+            start = end + 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses a one-dimensional array of whole numbers in the PostgreSQL text format, such as <code>{1,2,3}</code>,
+     * without boxing each value.
+     *
+     * @param text the array text
+     * @return the values
+     * @throws NumberFormatException if a value could not be parsed, including a NULL value
+     */
+
+    static long[] parseLongs( String text )
+    {
+        int count = DatabaseDataProvider.getArrayTextCount( text );
+        long[] result = new long[count];
+        int start = 1;
+
+        for ( int i = 0; i < count; i++ )
+        {
+            int end = DatabaseDataProvider.getArrayTextEnd( text, start );
+            result[i] = Long.parseLong( text, start, end, 10 );
+            start = end + 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * @param text the text of an array column
+     * @return whether the text is a one-dimensional array in the PostgreSQL text format, which can be parsed without
+     *            boxing each value
+     */
+
+    private static boolean isArrayText( String text )
+    {
+        // A non-default lower bound is prefixed with the dimensions and nested braces denote more than one dimension
+        return text.length() > 1
+               && text.charAt( 0 ) == '{'
+               && text.charAt( 1 ) != '{'
+               && text.charAt( text.length() - 1 ) == '}';
+    }
+
+    /**
+     * @param text the array text
+     * @return the number of values in the array text
+     */
+
+    private static int getArrayTextCount( String text )
+    {
+        if ( text.length() == 2 )
+        {
+            return 0;
+        }
+
+        int count = 1;
+
+        for ( int i = 1; i < text.length() - 1; i++ )
+        {
+            if ( text.charAt( i ) == ',' )
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @param text the array text
+     * @param start the start index of a value
+     * @return the end index of the value, exclusive
+     */
+
+    private static int getArrayTextEnd( String text, int start )
+    {
+        int end = text.indexOf( ',', start );
+
+        if ( end < 0 )
+        {
+            end = text.length() - 1;
+        }
+
+        return end;
+    }
+
+    /**
+     * @param text the array text
+     * @param start the start index of a value
+     * @param end the end index of a value, exclusive
+     * @return whether the value is NULL
+     */
+
+    private static boolean isArrayTextNull( String text, int start, int end )
+    {
+        return end - start == 4 && text.regionMatches( true, start, "NULL", 0, 4 );
+    }
+
     @Override
     public BigDecimal getBigDecimal( String columnName )
     {
@@ -3,11 +3,14 @@ package wres.io.database;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -49,6 +52,13 @@ public class DatabaseOperations
     /** Re-used string. */
     private static final String TRUNCATE_TABLE = "TRUNCATE TABLE ";
 
+    /** The signature at the start of the postgres binary copy format. */
+    private static final byte[] BINARY_COPY_SIGNATURE =
+            { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', ( byte ) 0xFF, '\r', '\n', 0 };
+
+    /** The size of the buffer for a binary copy. */
+    private static final int BINARY_COPY_BUFFER_BYTES = 65_536;
+
     /**
      * The log parameters.
      * @param arguments the arguments used to run the application, at least two
@@ -306,6 +316,44 @@ public class DatabaseOperations
         }
     }
 
+    /**
+     * Inserts numeric data into the database without formatting the values as strings. Uses a binary copy for
+     * postgres and a batch of prepared statements otherwise.
+     * @param database the database
+     * @param tableName The table name for the copy or insert statement.
+     * @param columns The columns to insert.
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if there are no rows to insert
+     * @throws IngestException if the data could not be inserted
+     */
+
+    public static void insertIntoDatabase( Database database,
+                                           String tableName,
+                                           NumericColumns columns )
+    {
+        Objects.requireNonNull( database );
+        Objects.requireNonNull( tableName );
+        Objects.requireNonNull( columns );
+
+        if ( columns.getRowCount() == 0 )
+        {
+            throw new IllegalArgumentException( "Cannot insert values unless some values are provided." );
+        }
+
+        if ( database.getSettings().getDatabaseType() == DatabaseType.POSTGRESQL )
+        {
+            DatabaseOperations.pgCopyBinary( database,
+                                             tableName,
+                                             columns );
+        }
+        else
+        {
+            DatabaseOperations.insertBatch( database,
+                                            tableName,
+                                            columns );
+        }
+    }
+
     /**
      * Logs information about the execution of the WRES into the database for aid in remote debugging.
      * @param database the database
@@ -796,6 +844,236 @@ public class DatabaseOperations
         }
     }
 
+    /**
+     * Sends a binary copy statement to the indicated table within a postgres db. The rows are written directly from
+     * the primitive columns into a buffer in the binary copy format, which avoids formatting each value as a string
+     * and parsing it again on the server.
+     * @param database the database
+     * @param tableName The table name.
+     * @param columns The columns to copy.
+     * @throws IngestException Thrown if an error was encountered when trying to
+     * copy data to the database.
+     */
+
+    private static void pgCopyBinary( Database database,
+                                      String tableName,
+                                      NumericColumns columns )
+    {
+        StringJoiner columnNames = new StringJoiner( ",", " ( ", " )" );
+
+        columns.getColumnNames()
+               .forEach( columnNames::add );
+
+        String copyDefinition = "COPY "
+                                + tableName
+                                + columnNames
+                                + " FROM STDIN WITH ( FORMAT binary )";
+
+        CopyIn copyIn = null;
+
+        try ( Connection connection = database.getConnection() )
+        {
+            PGConnection pgConnection = connection.unwrap( PGConnection.class );
+            CopyManager manager = pgConnection.getCopyAPI();
+            copyIn = manager.copyIn( copyDefinition );
+
+            // Big endian, as required by the binary copy format
+            ByteBuffer buffer = ByteBuffer.allocate( Math.max( BINARY_COPY_BUFFER_BYTES,
+                                                               columns.getMaximumBinaryRowBytes() ) );
+            buffer.put( BINARY_COPY_SIGNATURE )
+                  .putInt( 0 ) // Flags
+                  .putInt( 0 ); // Header extension length
+
+            int columnCount = columns.getColumnCount();
+            int rowBytes = columns.getMaximumBinaryRowBytes();
+
+            for ( int row = 0; row < columns.getRowCount(); row++ )
+            {
+                if ( buffer.remaining() < rowBytes )
+                {
+                    copyIn.writeToCopy( buffer.array(), 0, buffer.position() );
+                    buffer.clear();
+                }
+
+                buffer.putShort( ( short ) columnCount );
+
+                for ( int column = 0; column < columnCount; column++ )
+                {
+                    DatabaseOperations.putBinaryValue( columns, column, row, buffer );
+                }
+            }
+
+            // Trailer
+            if ( buffer.remaining() < Short.BYTES )
+            {
+                copyIn.writeToCopy( buffer.array(), 0, buffer.position() );
+                buffer.clear();
+            }
+
+            buffer.putShort( ( short ) -1 );
+            copyIn.writeToCopy( buffer.array(), 0, buffer.position() );
+            copyIn.endCopy();
+        }
+        catch ( SQLException e )
+        {
+            // From https://www.postgresql.org/message-id/8D1E8D0DC762E82-1320-C263%40webmail-vm124.sysops.aol.com
+            // Quoting Brett Wooldridge, author of HikariCP, "call cancelCopy()"
+            if ( copyIn != null )
+            {
+                try
+                {
+                    copyIn.cancelCopy();
+                }
+                catch ( SQLException se )
+                {
+                    LOGGER.warn( "Failed to cancel copy operation on table {}.",
+                                 tableName,
+                                 se );
+                }
+            }
+
+            throw new IngestException( "Data could not be copied to the database using " + copyDefinition
+                                       + " with "
+                                       + columns
+                                       + ".",
+                                       e );
+        }
+    }
+
+    /**
+     * Writes one field of the binary copy format to the buffer.
+     * @param columns the columns
+     * @param column the column index
+     * @param row the row index
+     * @param buffer the buffer to write
+     */
+
+    private static void putBinaryValue( NumericColumns columns, int column, int row, ByteBuffer buffer )
+    {
+        if ( columns.isNull( column, row ) )
+        {
+            buffer.putInt( -1 );
+            return;
+        }
+
+        NumericColumns.Type type = columns.getType( column );
+        buffer.putInt( type.getBytes() );
+
+        switch ( type )
+        {
+            case INTEGER -> buffer.putInt( ( int ) columns.getLong( column, row ) );
+            case BIGINT -> buffer.putLong( columns.getLong( column, row ) );
+            case DOUBLE -> buffer.putDouble( columns.getDouble( column, row ) );
+        }
+    }
+
+    /**
+     * Inserts numeric columns into a table using a batch of prepared statements.
+     * @param database the database
+     * @param tableName The table name.
+     * @param columns The columns to insert.
+     * @throws IngestException Thrown if the data could not be inserted.
+     */
+
+    private static void insertBatch( Database database,
+                                     String tableName,
+                                     NumericColumns columns )
+    {
+        StringJoiner columnNames = new StringJoiner( ",", " ( ", " ) " );
+        StringJoiner parameters = new StringJoiner( ",", "( ", " )" );
+
+        for ( String column : columns.getColumnNames() )
+        {
+            columnNames.add( column );
+            parameters.add( "?" );
+        }
+
+        String insert = "INSERT INTO " + tableName
+                        + columnNames
+                        + "VALUES "
+                        + parameters;
+
+        int columnCount = columns.getColumnCount();
+        int rowsModified = 0;
+
+        try ( Connection connection = database.getConnection();
+              PreparedStatement statement = connection.prepareStatement( insert ) )
+        {
+            connection.setAutoCommit( false );
+
+            for ( int row = 0; row < columns.getRowCount(); row++ )
+            {
+                for ( int column = 0; column < columnCount; column++ )
+                {
+                    DatabaseOperations.setParameter( columns, column, row, statement );
+                }
+
+                statement.addBatch();
+            }
+
+            for ( int next : statement.executeBatch() )
+            {
+                rowsModified += Math.max( next, 0 );
+            }
+
+            connection.commit();
+            connection.setAutoCommit( true );
+        }
+        catch ( SQLException se )
+        {
+            throw new IngestException( "Failed to insert data into "
+                                       + tableName,
+                                       se );
+        }
+
+        if ( rowsModified != columns.getRowCount() )
+        {
+            LOGGER.debug( "Expected to insert {} rows but the driver reported {} rows inserted.",
+                          columns.getRowCount(),
+                          rowsModified );
+        }
+    }
+
+    /**
+     * Sets one parameter of a prepared statement.
+     * @param columns the columns
+     * @param column the column index
+     * @param row the row index
+     * @param statement the statement
+     * @throws SQLException if the parameter could not be set
+     */
+
+    private static void setParameter( NumericColumns columns,
+                                      int column,
+                                      int row,
+                                      PreparedStatement statement ) throws SQLException
+    {
+        NumericColumns.Type type = columns.getType( column );
+
+        // Parameter indexes start at one
+        int index = column + 1;
+
+        if ( columns.isNull( column, row ) )
+        {
+            int sqlType = switch ( type )
+                    {
+                        case INTEGER -> Types.INTEGER;
+                        case BIGINT -> Types.BIGINT;
+                        case DOUBLE -> Types.DOUBLE;
+                    };
+
+            statement.setNull( index, sqlType );
+            return;
+        }
+
+        switch ( type )
+        {
+            case INTEGER -> statement.setInt( index, ( int ) columns.getLong( column, row ) );
+            case BIGINT -> statement.setLong( index, columns.getLong( column, row ) );
+            case DOUBLE -> statement.setDouble( index, columns.getDouble( column, row ) );
+        }
+    }
+
     /**
      * Copies a row to the database.
      * @param row the row
@@ -0,0 +1,377 @@
+package wres.io.database;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A growable batch of rows whose columns contain primitive numbers, which may be copied to a database with
+ * {@link DatabaseOperations#insertIntoDatabase(Database, String, NumericColumns)} without formatting each value as a
+ * string. The integer columns are stored in a <code>long[]</code> and the floating point columns in a
+ * <code>double[]</code>. A value that is not set in a row is null.
+ *
+ * <p>Rows are added with {@link #addRow()} and the values of the last row are then set by column index. This class is
+ * not thread-safe.
+ *
+ * @author James Brown
+ */
+
+public final class NumericColumns
+{
+    /** The initial number of rows. */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The type of a numeric column, which must match the type of the column in the database.
+     */
+
+    public enum Type
+    {
+        /** A 32-bit signed integer, such as a SQL <code>integer</code>. */
+        INTEGER( 4 ),
+        /** A 64-bit signed integer, such as a SQL <code>bigint</code>. */
+        BIGINT( 8 ),
+        /** A 64-bit floating point number, such as a SQL <code>double precision</code>. */
+        DOUBLE( 8 );
+
+        /** The number of bytes in the binary representation. */
+        private final int bytes;
+
+        /**
+         * @param bytes the number of bytes in the binary representation
+         */
+        Type( int bytes )
+        {
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return the number of bytes in the binary representation
+         */
+        int getBytes()
+        {
+            return this.bytes;
+        }
+    }
+
+    /** The column names. */
+    private final List<String> columnNames;
+
+    /** The column types. */
+    private final Type[] types;
+
+    /** The integer values by column or null for a floating point column. */
+    private final long[][] longs;
+
+    /** The floating point values by column or null for an integer column. */
+    private final double[][] doubles;
+
+    /** The rows with a non-null value by column. */
+    private final BitSet[] present;
+
+    /** The number of rows. */
+    private int rowCount;
+
+    /** The capacity of each column. */
+    private int capacity;
+
+    /**
+     * Creates an instance.
+     *
+     * @param columnNames the column names
+     * @param types the column types in the same order as the column names
+     * @return an instance
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if there are no columns or the names and types are inconsistent
+     */
+
+    public static NumericColumns of( List<String> columnNames, List<Type> types )
+    {
+        return new NumericColumns( columnNames, types );
+    }
+
+    /**
+     * Adds a row whose values are initially null.
+     */
+
+    public void addRow()
+    {
+        if ( this.rowCount == this.capacity )
+        {
+            this.grow();
+        }
+
+        this.rowCount++;
+    }
+
+    /**
+     * Sets an integer value in the last row.
+     *
+     * @param column the column index
+     * @param value the value
+     * @throws IllegalStateException if there are no rows
+     * @throws IllegalArgumentException if the column does not contain integers or an {@link Type#INTEGER} overflows
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+
+    public void setLong( int column, long value )
+    {
+        this.validate( column, false );
+
+        if ( this.types[column] == Type.INTEGER
+             && ( value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ) )
+        {
+            throw new IllegalArgumentException( "Cannot set the value of column '"
+                                                + this.columnNames.get( column )
+                                                + "' to "
+                                                + value
+                                                + " because it overflows a 32-bit integer." );
+        }
+
+        int row = this.rowCount - 1;
+        this.longs[column][row] = value;
+        this.present[column].set( row );
+    }
+
+    /**
+     * Sets a floating point value in the last row.
+     *
+     * @param column the column index
+     * @param value the value
+     * @throws IllegalStateException if there are no rows
+     * @throws IllegalArgumentException if the column does not contain floating point values
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+
+    public void setDouble( int column, double value )
+    {
+        this.validate( column, true );
+
+        int row = this.rowCount - 1;
+        this.doubles[column][row] = value;
+        this.present[column].set( row );
+    }
+
+    /**
+     * @return the column names
+     */
+
+    public List<String> getColumnNames()
+    {
+        return this.columnNames;
+    }
+
+    /**
+     * @return the number of columns
+     */
+
+    public int getColumnCount()
+    {
+        return this.types.length;
+    }
+
+    /**
+     * @param column the column index
+     * @return the column type
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+
+    public Type getType( int column )
+    {
+        return this.types[column];
+    }
+
+    /**
+     * @return the number of rows
+     */
+
+    public int getRowCount()
+    {
+        return this.rowCount;
+    }
+
+    /**
+     * @param column the column index
+     * @param row the row index
+     * @return true if the value is null, otherwise false
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+
+    public boolean isNull( int column, int row )
+    {
+        Objects.checkIndex( row, this.rowCount );
+        return !this.present[column].get( row );
+    }
+
+    /**
+     * @param column the column index
+     * @param row the row index
+     * @return the integer value, which is zero when null
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException if the column does not contain integers
+     */
+
+    public long getLong( int column, int row )
+    {
+        Objects.checkIndex( row, this.rowCount );
+
+        if ( Objects.isNull( this.longs[column] ) )
+        {
+            throw new IllegalArgumentException( "Column '" + this.columnNames.get( column )
+                                                + "' does not contain integers." );
+        }
+
+        return this.longs[column][row];
+    }
+
+    /**
+     * @param column the column index
+     * @param row the row index
+     * @return the floating point value, which is zero when null
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException if the column does not contain floating point values
+     */
+
+    public double getDouble( int column, int row )
+    {
+        Objects.checkIndex( row, this.rowCount );
+
+        if ( Objects.isNull( this.doubles[column] ) )
+        {
+            throw new IllegalArgumentException( "Column '" + this.columnNames.get( column )
+                                                + "' does not contain floating point values." );
+        }
+
+        return this.doubles[column][row];
+    }
+
+    @Override
+    public String toString()
+    {
+        return "NumericColumns[columns=" + this.columnNames
+               + ", types="
+               + Arrays.toString( this.types )
+               + ", rows="
+               + this.rowCount
+               + "]";
+    }
+
+    /**
+     * @return the maximum number of bytes in one row of the PostgreSQL binary copy format
+     */
+
+    int getMaximumBinaryRowBytes()
+    {
+        // Field count, then a length and value for each field
+        int bytes = Short.BYTES;
+        for ( Type type : this.types )
+        {
+            bytes += Integer.BYTES + type.getBytes();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Validates a column for setting a value in the last row.
+     *
+     * @param column the column index
+     * @param isDouble is true to set a floating point value, false to set an integer value
+     */
+
+    private void validate( int column, boolean isDouble )
+    {
+        if ( this.rowCount == 0 )
+        {
+            throw new IllegalStateException( "Add a row before setting a value." );
+        }
+
+        Objects.checkIndex( column, this.types.length );
+
+        if ( isDouble != ( this.types[column] == Type.DOUBLE ) )
+        {
+            throw new IllegalArgumentException( "Cannot set a "
+                                                + ( isDouble ? "floating point" : "integer" )
+                                                + " value in column '"
+                                                + this.columnNames.get( column )
+                                                + "', which has type "
+                                                + this.types[column]
+                                                + "." );
+        }
+    }
+
+    /**
+     * Doubles the capacity of each column.
+     */
+
+    private void grow()
+    {
+        int newCapacity = Math.max( INITIAL_CAPACITY, this.capacity * 2 );
+
+        for ( int i = 0; i < this.types.length; i++ )
+        {
+            if ( Objects.nonNull( this.longs[i] ) )
+            {
+                this.longs[i] = Arrays.copyOf( this.longs[i], newCapacity );
+            }
+            else
+            {
+                this.doubles[i] = Arrays.copyOf( this.doubles[i], newCapacity );
+            }
+        }
+
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param columnNames the column names
+     * @param types the column types
+     */
+
+    private NumericColumns( List<String> columnNames, List<Type> types )
+    {
+        Objects.requireNonNull( columnNames );
+        Objects.requireNonNull( types );
+
+        if ( columnNames.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Cannot create numeric columns without column names." );
+        }
+
+        if ( columnNames.size() != types.size() )
+        {
+            throw new IllegalArgumentException( "Found "
+                                                + columnNames.size()
+                                                + " column names and "
+                                                + types.size()
+                                                + " column types, but these must be equal." );
+        }
+
+        this.columnNames = List.copyOf( columnNames );
+        this.types = types.toArray( new Type[0] );
+
+        int columnCount = this.types.length;
+        this.longs = new long[columnCount][];
+        this.doubles = new double[columnCount][];
+        this.present = new BitSet[columnCount];
+
+        for ( int i = 0; i < columnCount; i++ )
+        {
+            Objects.requireNonNull( this.types[i] );
+
+            if ( this.types[i] == Type.DOUBLE )
+            {
+                this.doubles[i] = new double[0];
+            }
+            else
+            {
+                this.longs[i] = new long[0];
+            }
+
+            this.present[i] = new BitSet();
+        }
+    }
+}
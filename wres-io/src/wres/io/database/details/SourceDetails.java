@@ -2,6 +2,7 @@ package wres.io.database.details;
 
 import java.net.URI;
 import java.sql.SQLException;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -25,6 +26,8 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
     private Integer lead = null;
     private Long sourceId = null;
     private String hash = null;
+    private Integer hashVersion = null;
+    private String legacyHash = null;
     private boolean isPointData = true;
     private Long featureId = null;
     private Long timeScaleId = null;
@@ -83,6 +86,26 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
         this.hash = hash;
     }
 
+    /**
+     * Sets the version of the scheme used to compute the hash of a vector time-series. Null for a gridded source.
+     * @param hashVersion the hash version, possibly null
+     */
+    public void setHashVersion( Integer hashVersion )
+    {
+        this.hashVersion = hashVersion;
+    }
+
+    /**
+     * Sets the hash of the same time-series under the legacy version 1 scheme. When set and the source is not found
+     * by its hash, a source with the legacy hash is upgraded to the hash and hash version of this instance on
+     * {@link #save(Database)}, rather than inserting a duplicate source.
+     * @param legacyHash the legacy hash, possibly null
+     */
+    public void setLegacyHash( String legacyHash )
+    {
+        this.legacyHash = legacyHash;
+    }
+
     /**
      * Sets the point data status.
      * @param isPointData whether the data is point data
@@ -100,6 +123,14 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
         return this.hash;
     }
 
+    /**
+     * @return the hash version, possibly null
+     */
+    public Integer getHashVersion()
+    {
+        return this.hashVersion;
+    }
+
     /**
      * @return whether the data is point data
      */
@@ -239,10 +270,11 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
         script.setHighPriority( true );
 
         String insertStatement =
-                "INSERT INTO wres.Source ( path, lead, hash, is_point_data, feature_id, timescale_id, measurementunit_id, variable_name )";
+                "INSERT INTO wres.Source ( path, lead, hash, hash_version, is_point_data, feature_id, timescale_id, "
+                + "measurementunit_id, variable_name )";
         script.addLine( insertStatement );
         script.addTab()
-              .addLine( "SELECT ?, ?, ?, ?, ?, ?, ?, ?" );
+              .addLine( "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?" );
 
         if ( this.getSourcePath() != null )
         {
@@ -256,6 +288,7 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
 
         script.addArgument( this.getLead() );
         script.addArgument( this.getHash() );
+        script.addArgument( this.getHashVersion() );
         script.addArgument( this.getIsPointData() );
         script.addArgument( this.getFeatureId() );
         script.addArgument( this.getTimeScaleId() );
@@ -290,6 +323,11 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
     @Override
     public void save( Database database ) throws SQLException
     {
+        if ( Objects.nonNull( this.legacyHash ) )
+        {
+            this.upgradeLegacyHash( database );
+        }
+
         DataScripter script = this.getInsertSelect( database );
         this.performedInsert = script.execute() > 0;
 
@@ -331,6 +369,49 @@ public class SourceDetails extends CachedDetail<SourceDetails, String>
                       this.performedInsert );
     }
 
+    /**
+     * Upgrades the source with the legacy hash to the hash and hash version of this instance when no source has the
+     * hash, so that a time-series ingested under the legacy hash is found by {@link #save(Database)}.
+     * @param database the database
+     * @throws SQLException if the upgrade fails
+     */
+    private void upgradeLegacyHash( Database database ) throws SQLException
+    {
+        DataScripter exists = new DataScripter( database );
+        exists.setHighPriority( true );
+        exists.setUseTransaction( false );
+        exists.addLine( "SELECT 1" );
+        exists.addLine( "FROM wres.Source" );
+        exists.addLine( "WHERE hash = ?" );
+        exists.addArgument( this.hash );
+        exists.setMaxRows( 1 );
+
+        try ( DataProvider data = exists.getData() )
+        {
+            if ( !data.isEmpty() )
+            {
+                return;
+            }
+        }
+
+        DataScripter script = new DataScripter( database );
+        script.setHighPriority( true );
+        script.setUseTransaction( true );
+        script.retryOnSerializationFailure();
+        script.addLine( "UPDATE wres.Source" );
+        script.addLine( "SET hash = ?, hash_version = ?" );
+        script.addArgument( this.hash );
+        script.addArgument( this.hashVersion );
+        script.addLine( "WHERE hash = ?" );
+        script.addArgument( this.legacyHash );
+        script.addTab()
+              .addLine( "AND hash_version = 1" );
+
+        int upgraded = script.execute();
+
+        LOGGER.debug( "Upgraded {} source(s) with legacy hash {} to hash {}.", upgraded, this.legacyHash, this.hash );
+    }
+
     @Override
     protected Logger getLogger()
     {
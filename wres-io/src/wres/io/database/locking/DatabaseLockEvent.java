@@ -0,0 +1,73 @@
+package wres.io.database.locking;
+
+import java.util.Objects;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A custom event for monitoring the time spent waiting to acquire or release a database lock and exposing it to the
+ * Java Flight Recorder. The duration of the event is the wait time, including the time spent waiting for a connection.
+ *
+ * @author James Brown
+ */
+
+@Name( "wres.io.database.locking.DatabaseLockEvent" )
+@Label( "Database Lock Event" )
+@Category( { "Java Application", "Water Resources Evaluation Service", "Core", "Ingest" } )
+@SuppressWarnings( { "unused", "FieldCanBeLocal" } )
+class DatabaseLockEvent extends Event
+{
+    @Label( "Operation" )
+    @Description( "The lock operation." )
+    private final String operation;
+
+    @Label( "Stripe" )
+    @Description( "The stripe of connections on which the lock operation was performed." )
+    private final int stripe;
+
+    @Label( "Batch size" )
+    @Description( "The number of lock operations sent to the database together with this lock operation, including "
+                  + "this lock operation." )
+    private int batchSize;
+
+    /**
+     * @param operation the lock operation
+     * @param stripe the stripe of connections
+     * @return an instance
+     * @throws NullPointerException if the operation is null
+     */
+
+    static DatabaseLockEvent of( DatabaseLockFailed.Operation operation, int stripe )
+    {
+        return new DatabaseLockEvent( operation, stripe );
+    }
+
+    /**
+     * Sets the batch size.
+     * @param batchSize the number of lock operations sent together
+     */
+
+    void setBatchSize( int batchSize )
+    {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Hidden constructor.
+     * @param operation the lock operation
+     * @param stripe the stripe of connections
+     * @throws NullPointerException if the operation is null
+     */
+
+    private DatabaseLockEvent( DatabaseLockFailed.Operation operation, int stripe )
+    {
+        Objects.requireNonNull( operation );
+
+        this.operation = operation.toString();
+        this.stripe = stripe;
+    }
+}
@@ -121,7 +121,9 @@ public interface DatabaseLockManager
         }
         else if ( systemSettings.getDatabaseConfiguration().getDatabaseType() == DatabaseType.POSTGRESQL )
         {
-            return new DatabaseLockManagerPostgres( connectionSupplier );
+            // Batch the source locks of concurrent ingest threads
+            return DatabaseLockManagerPostgres.ofBatched( connectionSupplier,
+                                                          systemSettings.getMaximumIngestThreads() );
         }
         else if ( systemSettings.getDatabaseConfiguration().getDatabaseType() == DatabaseType.H2 )
         {
@@ -7,9 +7,13 @@ import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -31,7 +35,14 @@ import net.jcip.annotations.ThreadSafe;
  * <p>Manages application-level locks on PostgreSQL database objects.
  *
  * <p>Each semantic lock (caller-provided lock name) is a positive {@link Integer}. The opposite of the Integer is used
- * on the second {@link Connection} managed by this class.
+ * on the second {@link Connection} of each pair of connections managed by this class.
+ *
+ * <p>By default, all locks are held on one pair of connections and each lock is acquired or released with its own
+ * round trip to the database, which serializes the source locks of concurrent ingest threads. In batched mode, see
+ * {@link #ofBatched(Supplier, int)}, the source locks are spread across a small number of stripes, each with its own
+ * pair of connections, and the source lock requests that are pending on a connection are sent together in one
+ * statement by whichever thread next holds the connection. The shared and exclusive locks are always held on the first
+ * stripe. The time spent waiting for each source lock request is recorded as a {@link DatabaseLockEvent}.
  */
 
 @ThreadSafe
@@ -65,6 +76,12 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
      */
     private static final Integer INGEST_SOURCE_PREFIX = 2;
 
+    /** The maximum number of stripes in batched mode. */
+    private static final int MAXIMUM_STRIPES = 4;
+
+    /** The number of concurrent source lockers for each stripe in batched mode. */
+    private static final int LOCKERS_PER_STRIPE = 8;
+
     /** Producer that this manager can get new connections from. */
     private final Supplier<Connection> connectionProducer;
     /** Internal coarse (int) exclusive source locks held by this manager */
@@ -74,41 +91,76 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
     /** Internal coarse (int) exclusive locks held by this manager */
     private final Set<Integer> exclusiveLockNames;
 
-    /** First connection to use for any given semantic lock (left) */
-    private Connection connectionOne;
+    /** First connection to use for any given semantic lock (left), by stripe */
+    private final LockConnection[] firstConnections;
+
+    /** Second connection to use for any given semantic lock (right), by stripe */
+    private final LockConnection[] secondConnections;
+
+    /** Is true to send the pending source lock requests on each connection together, false to send each alone */
+    private final boolean isBatched;
 
-    /** Second connection to use for any given semantic lock (right)*/
-    private Connection connectionTwo;
+    private final ScheduledExecutorService connectionMonitorService;
 
     /**
-     * Internal lock to manage access to connectionOne
-     * Guards connectionOne
+     * Creates an instance that holds all locks on one pair of connections and sends each lock request alone.
+     * @param connectionProducer the connection producer
      */
-    private final ReentrantLock lockOne;
+    public DatabaseLockManagerPostgres( Supplier<Connection> connectionProducer )
+    {
+        this( connectionProducer, 1, false );
+    }
 
     /**
-     * Internal lock to manage access to connectionTwo
-     * Guards connectionTwo
+     * Creates an instance that spreads the source locks across stripes of connections and sends the source lock
+     * requests that are pending on each connection together. The number of stripes increases with the maximum number
+     * of threads expected to lock sources concurrently, up to a small maximum. Each stripe uses two connections.
+     *
+     * @param connectionProducer the connection producer
+     * @param maximumConcurrency the maximum number of threads expected to lock sources concurrently
+     * @return the lock manager
+     * @throws IllegalArgumentException if the maximum concurrency is not positive
      */
-    private final ReentrantLock lockTwo;
 
-    private final ScheduledExecutorService connectionMonitorService;
+    public static DatabaseLockManagerPostgres ofBatched( Supplier<Connection> connectionProducer,
+                                                         int maximumConcurrency )
+    {
+        if ( maximumConcurrency < 1 )
+        {
+            throw new IllegalArgumentException( "The maximum concurrency must be positive: "
+                                                + maximumConcurrency
+                                                + "." );
+        }
+
+        int stripeCount = Math.min( MAXIMUM_STRIPES, Math.max( 1, maximumConcurrency / LOCKERS_PER_STRIPE ) );
+        return new DatabaseLockManagerPostgres( connectionProducer, stripeCount, true );
+    }
 
     /**
-     * Creates an instance.
+     * Hidden constructor.
      * @param connectionProducer the connection producer
+     * @param stripeCount the number of stripes, each with a pair of connections
+     * @param isBatched is true to send the pending source lock requests on each connection together
      */
-    public DatabaseLockManagerPostgres( Supplier<Connection> connectionProducer )
+    private DatabaseLockManagerPostgres( Supplier<Connection> connectionProducer,
+                                         int stripeCount,
+                                         boolean isBatched )
     {
         LOGGER.debug( "Began construction of lock manager {}.", this );
         this.connectionProducer = connectionProducer;
-        this.connectionOne = connectionProducer.get();
-        this.connectionTwo = connectionProducer.get();
+        this.firstConnections = new LockConnection[stripeCount];
+        this.secondConnections = new LockConnection[stripeCount];
+
+        for ( int i = 0; i < stripeCount; i++ )
+        {
+            this.firstConnections[i] = new LockConnection( connectionProducer.get(), i, true );
+            this.secondConnections[i] = new LockConnection( connectionProducer.get(), i, false );
+        }
+
+        this.isBatched = isBatched;
         this.sourceLockNames = new ConcurrentSkipListSet<>();
         this.sharedLockNames = new ConcurrentSkipListSet<>();
         this.exclusiveLockNames = new ConcurrentSkipListSet<>();
-        this.lockOne = new ReentrantLock();
-        this.lockTwo = new ReentrantLock();
 
         ThreadFactory monitorServiceNaming = BasicThreadFactory.builder()
                                                                .namingPattern( "DatabaseLockManager %d" )
@@ -181,39 +233,10 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                          this.exclusiveLockNames );
         }
 
-
-        this.lockOne.lock();
-
-        try
-        {
-            this.connectionOne.close();
-        }
-        catch ( SQLException se )
-        {
-            LOGGER.warn( "Failed to close a connection (1) {}",
-                         this.connectionOne,
-                         se );
-        }
-        finally
+        for ( int i = 0; i < this.firstConnections.length; i++ )
         {
-            this.lockOne.unlock();
-        }
-
-        this.lockTwo.lock();
-
-        try
-        {
-            this.connectionTwo.close();
-        }
-        catch ( SQLException se )
-        {
-            LOGGER.warn( "Failed to close a connection (2) {}",
-                         this.connectionTwo,
-                         se );
-        }
-        finally
-        {
-            this.lockTwo.unlock();
+            this.close( this.firstConnections[i] );
+            this.close( this.secondConnections[i] );
         }
 
         LOGGER.debug( "Successfully shut down lock manager {}", this );
@@ -293,14 +316,13 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
 
         boolean firstLockSucceeded = false;
         boolean firstLockHadConnectionClosed = false;
-        this.lockOne.lock();
+        int stripe = this.getStripe( lockName );
 
         try
         {
-            firstLockSucceeded = this.acquireSingleLock( this.connectionOne,
-                                                         INGEST_SOURCE_PREFIX,
-                                                         lockName,
-                                                         true );
+            firstLockSucceeded = this.sendSourceLockRequest( this.firstConnections[stripe],
+                                                             lockName,
+                                                             true );
         }
         catch ( SQLException se )
         {
@@ -317,10 +339,6 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                 throw se;
             }
         }
-        finally
-        {
-            this.lockOne.unlock();
-        }
 
         // First lock failed and there was no lost connection during the attempt
         if ( !firstLockSucceeded && !firstLockHadConnectionClosed )
@@ -334,14 +352,12 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
 
         // At this point, the first lock succeeded or the connection was lost during the attempt
         boolean secondLockSucceeded = true;
-        this.lockTwo.lock();
 
         try
         {
-            secondLockSucceeded = this.acquireSingleLock( this.connectionTwo,
-                                                          INGEST_SOURCE_PREFIX,
-                                                          -lockName, // Inverse of first lock name
-                                                          true );
+            secondLockSucceeded = this.sendSourceLockRequest( this.secondConnections[stripe],
+                                                              -lockName, // Inverse of first lock name
+                                                              true );
         }
         catch ( SQLException se )
         {
@@ -358,10 +374,6 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                 throw se;
             }
         }
-        finally
-        {
-            this.lockTwo.unlock();
-        }
 
         if ( !secondLockSucceeded )
         {
@@ -407,15 +419,13 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
 
         boolean firstUnlockSucceeded = false;
         boolean firstUnlockHadConnectionClosed = false;
-
-        this.lockOne.lock();
+        int stripe = this.getStripe( lockName );
 
         try
         {
-            firstUnlockSucceeded = this.releaseSingleLock( this.connectionOne,
-                                                           INGEST_SOURCE_PREFIX,
-                                                           lockName,
-                                                           true );
+            firstUnlockSucceeded = this.sendSourceLockRequest( this.firstConnections[stripe],
+                                                               lockName,
+                                                               false );
         }
         catch ( SQLException se )
         {
@@ -432,10 +442,6 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                 throw se;
             }
         }
-        finally
-        {
-            this.lockOne.unlock();
-        }
 
         if ( !firstUnlockSucceeded && !firstUnlockHadConnectionClosed )
         {
@@ -448,14 +454,12 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         // connection meaning that we will definitely throw an exception when
         // both connections were lost but not when only one was lost.
         boolean secondUnlockSucceeded = true;
-        this.lockTwo.lock();
 
         try
         {
-            secondUnlockSucceeded = this.releaseSingleLock( this.connectionTwo,
-                                                            INGEST_SOURCE_PREFIX,
-                                                            -lockName,
-                                                            true );
+            secondUnlockSucceeded = this.sendSourceLockRequest( this.secondConnections[stripe],
+                                                                -lockName,
+                                                                false );
         }
         catch ( SQLException se )
         {
@@ -474,10 +478,6 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                 throw se;
             }
         }
-        finally
-        {
-            this.lockTwo.unlock();
-        }
 
         if ( !secondUnlockSucceeded )
         {
@@ -526,18 +526,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean firstLockSucceeded;
-        this.lockOne.lock();
+        LockConnection first = this.firstConnections[0];
+        first.lock.lock();
 
         try
         {
-            firstLockSucceeded = this.acquireSingleLock( this.connectionOne,
+            firstLockSucceeded = this.acquireSingleLock( first.connection,
                                                          PREFIX,
                                                          lockName,
                                                          true );
         }
         finally
         {
-            this.lockOne.unlock();
+            first.lock.unlock();
         }
 
         if ( !firstLockSucceeded )
@@ -547,18 +548,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean secondLockSucceeded;
-        this.lockTwo.lock();
+        LockConnection second = this.secondConnections[0];
+        second.lock.lock();
 
         try
         {
-            secondLockSucceeded = this.acquireSingleLock( this.connectionTwo,
+            secondLockSucceeded = this.acquireSingleLock( second.connection,
                                                           PREFIX,
                                                           -lockName,
                                                           true );
         }
         finally
         {
-            this.lockTwo.unlock();
+            second.lock.unlock();
         }
 
         if ( !secondLockSucceeded )
@@ -599,18 +601,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean firstUnlockSucceeded;
-        this.lockOne.lock();
+        LockConnection first = this.firstConnections[0];
+        first.lock.lock();
 
         try
         {
-            firstUnlockSucceeded = this.releaseSingleLock( this.connectionOne,
+            firstUnlockSucceeded = this.releaseSingleLock( first.connection,
                                                            PREFIX,
                                                            lockName,
                                                            true );
         }
         finally
         {
-            this.lockOne.unlock();
+            first.lock.unlock();
         }
 
         if ( !firstUnlockSucceeded )
@@ -619,18 +622,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean secondUnlockSucceeded;
-        this.lockTwo.lock();
+        LockConnection second = this.secondConnections[0];
+        second.lock.lock();
 
         try
         {
-            secondUnlockSucceeded = this.releaseSingleLock( this.connectionTwo,
+            secondUnlockSucceeded = this.releaseSingleLock( second.connection,
                                                             PREFIX,
                                                             -lockName,
                                                             true );
         }
         finally
         {
-            this.lockTwo.unlock();
+            second.lock.unlock();
         }
 
         if ( !secondUnlockSucceeded )
@@ -679,18 +683,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean firstLockSucceeded;
-        this.lockOne.lock();
+        LockConnection first = this.firstConnections[0];
+        first.lock.lock();
 
         try
         {
-            firstLockSucceeded = this.acquireSingleLock( this.connectionOne,
+            firstLockSucceeded = this.acquireSingleLock( first.connection,
                                                          PREFIX,
                                                          lockName,
                                                          false );
         }
         finally
         {
-            this.lockOne.unlock();
+            first.lock.unlock();
         }
 
         if ( !firstLockSucceeded )
@@ -700,18 +705,19 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
 
         boolean secondLockSucceeded;
-        this.lockTwo.lock();
+        LockConnection second = this.secondConnections[0];
+        second.lock.lock();
 
         try
         {
-            secondLockSucceeded = this.acquireSingleLock( this.connectionTwo,
+            secondLockSucceeded = this.acquireSingleLock( second.connection,
                                                           PREFIX,
                                                           -lockName,
                                                           false );
         }
         finally
         {
-            this.lockTwo.unlock();
+            second.lock.unlock();
         }
 
         if ( !secondLockSucceeded )
@@ -751,32 +757,34 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
                                                 + lockName );
         }
 
-        this.lockOne.lock();
+        LockConnection first = this.firstConnections[0];
+        first.lock.lock();
 
         try
         {
-            this.releaseSingleLock( this.connectionOne,
+            this.releaseSingleLock( first.connection,
                                     PREFIX,
                                     lockName,
                                     false );
         }
         finally
         {
-            this.lockOne.unlock();
+            first.lock.unlock();
         }
 
-        this.lockTwo.lock();
+        LockConnection second = this.secondConnections[0];
+        second.lock.lock();
 
         try
         {
-            this.releaseSingleLock( this.connectionTwo,
+            this.releaseSingleLock( second.connection,
                                     PREFIX,
                                     -lockName,
                                     false );
         }
         finally
         {
-            this.lockTwo.unlock();
+            second.lock.unlock();
         }
 
         boolean removed = this.sharedLockNames.remove( lockName );
@@ -791,11 +799,11 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
     }
 
     /**
-     * Tests the connections used for locks, if either connection has been lost,
+     * Tests the connections used for locks, if any connection has been lost,
      * re-creates the lost connection and re-acquires the lost locks for that
      * connection.
      * Should be called periodically by a recurring task.
-     * Yields when any other Thread holds a lock, returns without doing the work
+     * Yields when any other Thread holds a connection, skipping that connection
      * @throws IllegalStateException when a new connection cannot be established
      * @throws SQLException when a semantic lock cannot be translated to db lock
      * @throws DatabaseLockFailed when repeated attempts to acquire a lock fail.
@@ -804,236 +812,139 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
 
     private void testAndRefresh() throws SQLException, InterruptedException
     {
-        final int retryCount = 5;
-        final int retryMillis = 5;
         LOGGER.trace( "Began refreshing connections {} {}", this, Thread.currentThread() );
-        boolean isOneWorking;
-        boolean isTwoWorking;
 
-        if ( this.lockOne.tryLock() )
+        for ( int i = 0; i < this.firstConnections.length; i++ )
         {
-            try
-            {
-                isOneWorking = this.isAlive( connectionOne );
+            boolean isOneWorking = this.testAndRefresh( this.firstConnections[i] );
+            boolean isTwoWorking = this.testAndRefresh( this.secondConnections[i] );
 
-                if ( !isOneWorking )
-                {
-                    LOGGER.warn( "About to restore a connection to database (1), lost {}",
-                                 this.connectionOne );
-                    // Because we lost connection one, get a new connection.
-                    this.connectionOne = connectionProducer.get();
-
-                    // Because we lost the connection, we lost our locks, restore them.
-                    for ( Integer semanticLock : this.exclusiveLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionOne,
-                                                              PREFIX,
-                                                              semanticLock,
-                                                              true );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire exclusive lock {} on connection 1 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( PREFIX,
-                                                          semanticLock,
-                                                          LOCK_EXCLUSIVE );
-                        }
-                    }
-
-                    for ( Integer semanticLock : this.sharedLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionOne,
-                                                              PREFIX,
-                                                              semanticLock,
-                                                              false );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire shared lock {} on connection 1 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( PREFIX,
-                                                          semanticLock,
-                                                          LOCK_SHARED );
-                        }
-                    }
-
-                    for ( Integer semanticLock : this.sourceLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionOne,
-                                                              INGEST_SOURCE_PREFIX,
-                                                              semanticLock,
-                                                              true );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire source lock {} on connection 1 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( INGEST_SOURCE_PREFIX,
-                                                          semanticLock,
-                                                          LOCK_EXCLUSIVE );
-                        }
-                    }
-                }
-            }
-            finally
+            // We hope that this situation rarely occurs which is why we log a
+            // message when it does occur. It should be accompanied with at least
+            // one more SQLException that propagates and stops the evaluation.
+            // (Otherwise the premise of the two-connection setup is intractable.)
+            if ( !isOneWorking && !isTwoWorking )
             {
-                this.lockOne.unlock();
+                LOGGER.warn( "Lost two lock-holding database connections at once." );
             }
         }
-        else
+
+        LOGGER.trace( "Ended refreshing connections {}", this );
+    }
+
+    /**
+     * Tests one connection used for locks and, if the connection has been
+     * lost, re-creates the connection and re-acquires the locks held on it.
+     * The shared and exclusive locks are held on the first stripe only.
+     * @param lockConnection the connection to test
+     * @return false if the connection was lost, true if it was working or
+     * another Thread held it
+     * @throws IllegalStateException when a new connection cannot be established
+     * @throws SQLException when a semantic lock cannot be translated to db lock
+     * @throws DatabaseLockFailed when repeated attempts to acquire a lock fail.
+     * @throws InterruptedException when interrupted waiting to retry a lock.
+     */
+
+    private boolean testAndRefresh( LockConnection lockConnection ) throws SQLException, InterruptedException
+    {
+        if ( !lockConnection.lock.tryLock() )
         {
-            LOGGER.debug( "Yielded to another Thread for connection one. {} {}",
-                          this.lockOne,
+            LOGGER.debug( "Yielded to another Thread for {}. {} {}",
+                          lockConnection,
+                          lockConnection.lock,
                           this );
-            return;
+            return true;
         }
 
-        if ( this.lockTwo.tryLock() )
+        try
         {
-            try
+            if ( this.isAlive( lockConnection.connection ) )
             {
-                isTwoWorking = this.isAlive( connectionTwo );
+                return true;
+            }
+
+            LOGGER.warn( "About to restore {} to database, lost {}",
+                         lockConnection,
+                         lockConnection.connection );
+            // Because we lost the connection, get a new connection.
+            lockConnection.connection = this.connectionProducer.get();
 
-                if ( !isTwoWorking )
+            // Because we lost the connection, we lost our locks, restore them.
+            if ( lockConnection.stripe == 0 )
+            {
+                for ( Integer semanticLock : this.exclusiveLockNames )
                 {
-                    LOGGER.warn( "About to restore a connection to database (2), lost {}",
-                                 this.connectionTwo );
-                    // Because we lost connection two, get a new connection.
-                    this.connectionTwo = connectionProducer.get();
-
-                    // Because we lost the connection, we lost our locks, restore them.
-                    for ( Integer semanticLock : this.exclusiveLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionTwo,
-                                                              PREFIX,
-                                                              -semanticLock,
-                                                              true );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire exclusive lock {} on connection 2 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( PREFIX,
-                                                          -semanticLock,
-                                                          LOCK_EXCLUSIVE );
-                        }
-                    }
-
-                    for ( Integer semanticLock : this.sharedLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionTwo,
-                                                              PREFIX,
-                                                              -semanticLock,
-                                                              false );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire shared lock {} on connection 2 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( PREFIX,
-                                                          -semanticLock,
-                                                          LOCK_SHARED );
-                        }
-                    }
-
-                    for ( Integer semanticLock : this.sourceLockNames )
-                    {
-                        boolean success = false;
-
-                        for ( int i = 0; i <= retryCount && !success; i++ )
-                        {
-                            success = this.acquireSingleLock( this.connectionTwo,
-                                                              INGEST_SOURCE_PREFIX,
-                                                              -semanticLock,
-                                                              true );
-                            if ( !success && i != retryCount )
-                            {
-                                LOGGER.warn( "Re-attempting to acquire source lock {} on connection 2 in {}ms.",
-                                             semanticLock,
-                                             retryMillis );
-                                Thread.sleep( retryMillis );
-                            }
-                        }
-                        if ( !success )
-                        {
-                            throw new DatabaseLockFailed( INGEST_SOURCE_PREFIX,
-                                                          -semanticLock,
-                                                          LOCK_EXCLUSIVE );
-                        }
-                    }
+                    this.restoreLock( lockConnection, PREFIX, semanticLock, LOCK_EXCLUSIVE );
+                }
+
+                for ( Integer semanticLock : this.sharedLockNames )
+                {
+                    this.restoreLock( lockConnection, PREFIX, semanticLock, LOCK_SHARED );
                 }
             }
-            finally
+
+            for ( Integer semanticLock : this.sourceLockNames )
             {
-                this.lockTwo.unlock();
+                if ( this.getStripe( semanticLock ) == lockConnection.stripe )
+                {
+                    this.restoreLock( lockConnection, INGEST_SOURCE_PREFIX, semanticLock, LOCK_EXCLUSIVE );
+                }
             }
+
+            return false;
         }
-        else
+        finally
         {
-            LOGGER.debug( "Yielded to another Thread for connection two. {} {}",
-                          this.lockTwo,
-                          this );
-            return;
+            lockConnection.lock.unlock();
         }
+    }
+
+    /**
+     * Re-acquires a lock on a restored connection, retrying a few times.
+     * @param lockConnection the restored connection, which is held by the caller
+     * @param prefix the locking prefix
+     * @param semanticLock the semantic lock to acquire
+     * @param operation the lock operation, either shared or exclusive
+     * @throws SQLException when communication with the database fails
+     * @throws DatabaseLockFailed when repeated attempts to acquire the lock fail.
+     * @throws InterruptedException when interrupted waiting to retry the lock.
+     */
+
+    private void restoreLock( LockConnection lockConnection,
+                              Integer prefix,
+                              Integer semanticLock,
+                              DatabaseLockFailed.Operation operation )
+            throws SQLException, InterruptedException
+    {
+        final int retryCount = 5;
+        final int retryMillis = 5;
+        Integer lockName = lockConnection.getLockName( semanticLock );
+        boolean exclusive = operation == LOCK_EXCLUSIVE;
+        boolean success = false;
 
-        // We hope that this situation rarely occurs which is why we log a
-        // message when it does occur. It should be accompanied with at least
-        // one more SQLException that propagates and stops the evaluation.
-        // (Otherwise the premise of the two-connection setup is intractable.)
-        if ( !isOneWorking && !isTwoWorking )
+        for ( int i = 0; i <= retryCount && !success; i++ )
         {
-            LOGGER.warn( "Lost two lock-holding database connections at once." );
+            success = this.acquireSingleLock( lockConnection.connection,
+                                              prefix,
+                                              lockName,
+                                              exclusive );
+            if ( !success && i != retryCount )
+            {
+                LOGGER.warn( "Re-attempting to acquire lock {} with prefix {} on {} in {}ms.",
+                             semanticLock,
+                             prefix,
+                             lockConnection,
+                             retryMillis );
+                Thread.sleep( retryMillis );
+            }
         }
 
-        LOGGER.trace( "Ended refreshing connections {}", this );
+        if ( !success )
+        {
+            throw new DatabaseLockFailed( prefix,
+                                          lockName,
+                                          operation );
+        }
     }
 
 
@@ -1230,8 +1141,380 @@ public class DatabaseLockManagerPostgres implements DatabaseLockManager
         }
     }
 
+    /**
+     * Acquires or releases several exclusive locks on the backend database
+     * with one statement, in the order given.
+     * @param connection the connection to use
+     * @param prefix the locking prefix
+     * @param semanticLocks the names of the locks
+     * @param acquire is true to acquire the locks, false to release them
+     * @return whether each lock was acquired or released, in the order given
+     * @throws SQLException when communication with the database fails
+     */
+
+    private boolean[] sendMultipleLocks( Connection connection,
+                                         Integer prefix,
+                                         List<Integer> semanticLocks,
+                                         boolean acquire )
+            throws SQLException
+    {
+        String pgFunction;
+
+        if ( acquire )
+        {
+            pgFunction = "pg_try_advisory_lock";
+        }
+        else
+        {
+            pgFunction = "pg_advisory_unlock";
+        }
+
+        StringJoiner lockNames = new StringJoiner( ", ", "ARRAY[", "]::integer[]" );
+
+        for ( Integer semanticLock : semanticLocks )
+        {
+            lockNames.add( semanticLock.toString() );
+        }
+
+        final String batchScript = "SELECT " + pgFunction
+                                   + "( "
+                                   + prefix
+                                   + ", t.lock_name ) FROM unnest( "
+                                   + lockNames
+                                   + " ) WITH ORDINALITY AS t( lock_name, ordinal ) ORDER BY t.ordinal";
+
+        boolean[] results = new boolean[semanticLocks.size()];
+
+        try ( Statement statement = connection.createStatement();
+              ResultSet resultSet = statement.executeQuery( batchScript ) )
+        {
+            for ( int i = 0; i < results.length; i++ )
+            {
+                if ( !resultSet.next() )
+                {
+                    throw new SQLException( "Expected " + results.length
+                                            + " results from a batch of locks, but found "
+                                            + i
+                                            + "." );
+                }
+
+                results[i] = resultSet.getBoolean( 1 );
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Acquires or releases a source lock on the given connection. In batched
+     * mode, the request joins the queue of requests pending on the connection
+     * and the first Thread to hold the connection sends all pending requests
+     * together, otherwise the request is sent alone.
+     * @param lockConnection the connection to use
+     * @param semanticLock the name of the lock, which is negative on the second connection
+     * @param acquire is true to acquire the lock, false to release it
+     * @return true if the lock was acquired or released
+     * @throws SQLException when communication with the database fails
+     */
+
+    private boolean sendSourceLockRequest( LockConnection lockConnection,
+                                           Integer semanticLock,
+                                           boolean acquire )
+            throws SQLException
+    {
+        DatabaseLockEvent event = DatabaseLockEvent.of( acquire ? LOCK_EXCLUSIVE : UNLOCK_EXCLUSIVE,
+                                                        lockConnection.stripe );
+        event.begin();
+
+        SourceLockRequest request = new SourceLockRequest( semanticLock, acquire );
+        List<SourceLockRequest> batch = new ArrayList<>();
+
+        if ( this.isBatched )
+        {
+            lockConnection.pending.add( request );
+        }
+        else
+        {
+            batch.add( request );
+        }
+
+        lockConnection.lock.lock();
+
+        try
+        {
+            // Another Thread may have sent this request while this Thread waited for the connection
+            if ( !request.isSent )
+            {
+                SourceLockRequest next;
+
+                while ( Objects.nonNull( next = lockConnection.pending.poll() ) )
+                {
+                    batch.add( next );
+                }
+
+                this.sendBatch( lockConnection.connection, batch );
+            }
+        }
+        finally
+        {
+            lockConnection.lock.unlock();
+        }
+
+        event.setBatchSize( request.batchSize );
+        event.commit();
+
+        if ( !request.isSent )
+        {
+            throw new IllegalStateException( "Failed to send the source lock request for " + semanticLock
+                                             + " on "
+                                             + lockConnection
+                                             + "." );
+        }
+
+        if ( Objects.nonNull( request.exception ) )
+        {
+            // Preserve the SQLState, which determines whether the failure is recoverable
+            SQLException cause = request.exception;
+            throw new SQLException( cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause );
+        }
+
+        return request.isSucceeded;
+    }
+
+    /**
+     * Sends a batch of source lock requests, releasing before acquiring.
+     * When the database communication fails, the exception is recorded
+     * against each request affected.
+     * @param connection the connection to use
+     * @param batch the requests
+     */
+
+    private void sendBatch( Connection connection, List<SourceLockRequest> batch )
+    {
+        List<SourceLockRequest> releases = new ArrayList<>();
+        List<SourceLockRequest> acquires = new ArrayList<>();
+
+        for ( SourceLockRequest request : batch )
+        {
+            if ( request.acquire )
+            {
+                acquires.add( request );
+            }
+            else
+            {
+                releases.add( request );
+            }
+        }
+
+        this.sendRequests( connection, releases, false );
+        this.sendRequests( connection, acquires, true );
+    }
+
+    /**
+     * Sends source lock requests that either all acquire or all release.
+     * @param connection the connection to use
+     * @param requests the requests
+     * @param acquire is true to acquire the locks, false to release them
+     */
+
+    private void sendRequests( Connection connection, List<SourceLockRequest> requests, boolean acquire )
+    {
+        if ( requests.isEmpty() )
+        {
+            return;
+        }
+
+        int batchSize = requests.size();
+
+        try
+        {
+            if ( batchSize == 1 )
+            {
+                SourceLockRequest request = requests.get( 0 );
+                boolean succeeded;
+
+                if ( acquire )
+                {
+                    succeeded = this.acquireSingleLock( connection, INGEST_SOURCE_PREFIX, request.semanticLock, true );
+                }
+                else
+                {
+                    succeeded = this.releaseSingleLock( connection, INGEST_SOURCE_PREFIX, request.semanticLock, true );
+                }
+
+                request.complete( succeeded, null, batchSize );
+            }
+            else
+            {
+                List<Integer> semanticLocks = new ArrayList<>( batchSize );
+
+                for ( SourceLockRequest request : requests )
+                {
+                    semanticLocks.add( request.semanticLock );
+                }
+
+                boolean[] succeeded = this.sendMultipleLocks( connection,
+                                                              INGEST_SOURCE_PREFIX,
+                                                              semanticLocks,
+                                                              acquire );
+
+                for ( int i = 0; i < batchSize; i++ )
+                {
+                    requests.get( i )
+                            .complete( succeeded[i], null, batchSize );
+                }
+            }
+        }
+        catch ( SQLException se )
+        {
+            for ( SourceLockRequest request : requests )
+            {
+                request.complete( false, se, batchSize );
+            }
+        }
+    }
+
+    /**
+     * Closes a connection used for locks.
+     * @param lockConnection the connection to close
+     */
+
+    private void close( LockConnection lockConnection )
+    {
+        lockConnection.lock.lock();
+
+        try
+        {
+            lockConnection.connection.close();
+        }
+        catch ( SQLException se )
+        {
+            LOGGER.warn( "Failed to close {}: {}",
+                         lockConnection,
+                         lockConnection.connection,
+                         se );
+        }
+        finally
+        {
+            lockConnection.lock.unlock();
+        }
+    }
+
+    /**
+     * @param lockName the semantic lock of a source
+     * @return the stripe whose connections hold the source lock
+     */
+
+    private int getStripe( Integer lockName )
+    {
+        return lockName % this.firstConnections.length;
+    }
+
     static Integer getIntegerLockNameFromLong( Long id )
     {
         return id.intValue() & Integer.MAX_VALUE;
     }
+
+    /**
+     * A connection that holds locks, together with the internal lock that
+     * guards it and the source lock requests that are pending on it.
+     */
+    private static class LockConnection
+    {
+        /** Internal lock to manage access to the connection and the pending requests sent on it */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** Source lock requests waiting to be sent on the connection, in batched mode */
+        private final Queue<SourceLockRequest> pending = new ConcurrentLinkedQueue<>();
+
+        /** The stripe to which the connection belongs */
+        private final int stripe;
+
+        /** Is true for the first connection of the stripe, false for the second */
+        private final boolean isFirst;
+
+        /** The connection, guarded by the lock */
+        private Connection connection;
+
+        /**
+         * @param connection the connection
+         * @param stripe the stripe
+         * @param isFirst is true for the first connection of the stripe, false for the second
+         */
+        private LockConnection( Connection connection, int stripe, boolean isFirst )
+        {
+            this.connection = connection;
+            this.stripe = stripe;
+            this.isFirst = isFirst;
+        }
+
+        /**
+         * @param semanticLock the semantic lock
+         * @return the lock name to use on this connection
+         */
+        private Integer getLockName( Integer semanticLock )
+        {
+            if ( this.isFirst )
+            {
+                return semanticLock;
+            }
+
+            return -semanticLock;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "connection " + ( this.isFirst ? 1 : 2 ) + " of stripe " + this.stripe;
+        }
+    }
+
+    /**
+     * A request to acquire or release a source lock on one connection. The
+     * outcome is guarded by the lock of the connection on which it is sent.
+     */
+    private static class SourceLockRequest
+    {
+        /** The name of the lock, which is negative on the second connection */
+        private final Integer semanticLock;
+
+        /** Is true to acquire the lock, false to release it */
+        private final boolean acquire;
+
+        /** Is true when the request has been sent */
+        private boolean isSent;
+
+        /** Is true when the lock was acquired or released */
+        private boolean isSucceeded;
+
+        /** The exception encountered when sending the request, if any */
+        private SQLException exception;
+
+        /** The number of requests sent together with this request, including this request */
+        private int batchSize;
+
+        /**
+         * @param semanticLock the name of the lock
+         * @param acquire is true to acquire the lock, false to release it
+         */
+        private SourceLockRequest( Integer semanticLock, boolean acquire )
+        {
+            this.semanticLock = semanticLock;
+            this.acquire = acquire;
+        }
+
+        /**
+         * Records the outcome of the request.
+         * @param isSucceeded is true when the lock was acquired or released
+         * @param exception the exception encountered, if any
+         * @param batchSize the number of requests sent together
+         */
+        private void complete( boolean isSucceeded, SQLException exception, int batchSize )
+        {
+            this.isSent = true;
+            this.isSucceeded = isSucceeded;
+            this.exception = exception;
+            this.batchSize = batchSize;
+        }
+    }
 }
@@ -4,8 +4,6 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
@@ -31,13 +29,12 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.config.components.DataType;
+import wres.datamodel.DataProvider;
 import wres.datamodel.DataUtilities;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.MissingValues;
@@ -47,6 +44,7 @@ import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesMetadata;
 import wres.datamodel.time.TimeSeriesSlicer;
+import wres.io.database.DataScripter;
 import wres.io.database.DatabaseOperations;
 import wres.io.database.caching.DatabaseCaches;
 import wres.io.database.caching.DataSources;
@@ -74,7 +72,9 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  * <p>Ingests given {@link TimeSeries} data if not already ingested.
  *
  * <p>As of 2019-10-29, only supports data with one or more reference datetime.
- * <p>As of 2019-10-29, uses {@link TimeSeries#toString()} to identify data.
+ * <p>Identifies data with a {@link TimeSeriesHasher}. When the database contains sources that were identified with
+ * the legacy hash, a time-series that is not found by its hash is looked up by its legacy hash and the matching source
+ * is upgraded to the new hash, rather than being ingested again.
  *
  * <p>Identifies data for convenience (and parallelism).
  *
@@ -124,6 +124,9 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     /** A thread pool to process ingests. */
     private final ExecutorService executor;
 
+    /** Whether the database contains vector sources with a legacy hash, null until determined. Guarded by this. */
+    private Boolean legacySources;
+
     /**
      * Builds an instance incrementally.
      */
@@ -1105,6 +1108,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
         // Lead column is only for raster data as of 2022-01
         source.setLead( null );
         source.setIsPointData( true );
+        source.setHashVersion( TimeSeriesHasher.HASH_VERSION );
         source.setSourcePath( uri );
         TimeSeriesMetadata metadata = timeSeries.getMetadata();
         String measurementUnit = metadata.getUnit();
@@ -1128,6 +1132,13 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
             source.setMeasurementUnitId( measurementUnitId );
             source.setFeatureId( featureId );
             source.setTimeScaleId( timeScaleId );
+
+            // Only compute the legacy hash when it could match
+            if ( this.hasLegacySources() )
+            {
+                source.setLegacyHash( TimeSeriesHasher.hashLegacy( timeSeries ) );
+            }
+
             source.save( innerDatabase );
         }
         catch ( SQLException se )
@@ -1143,6 +1154,34 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
         return source;
     }
 
+    /**
+     * Determines whether the database contains vector sources whose hash is a legacy version 1 hash. Determined once,
+     * on first use, as new sources are never identified with the legacy hash.
+     * @return true if there are vector sources with a legacy hash, otherwise false
+     * @throws SQLException if the sources could not be queried
+     */
+
+    private synchronized boolean hasLegacySources() throws SQLException
+    {
+        if ( Objects.isNull( this.legacySources ) )
+        {
+            DataScripter script = new DataScripter( this.getDatabase() );
+            script.addLine( "SELECT 1" );
+            script.addLine( "FROM wres.Source" );
+            script.addLine( "WHERE hash_version = 1" );
+            script.setMaxRows( 1 );
+
+            try ( DataProvider data = script.getData() )
+            {
+                this.legacySources = !data.isEmpty();
+            }
+
+            LOGGER.debug( "Discovered vector sources with a legacy hash? {}", this.legacySources );
+        }
+
+        return this.legacySources;
+    }
+
     /**
      * Completes a new source.  Requires that locking semantics are handled by the caller.
      *
@@ -1895,35 +1934,13 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
 
     /**
      * @param timeSeries the time-series
-     * @return the time-series MD5 checksum as a hex string
+     * @return the time-series identity hash as a hex string
+     * @see TimeSeriesHasher
      */
 
     private String identifyTimeSeries( TimeSeries<?> timeSeries )
     {
-        MessageDigest md5Name;
-
-        try
-        {
-            md5Name = MessageDigest.getInstance( "MD5" );
-        }
-        catch ( NoSuchAlgorithmException nsae )
-        {
-            throw new IngestException( "Couldn't use MD5 algorithm.",
-                                       nsae );
-        }
-
-        DigestUtils digestUtils = new DigestUtils( md5Name );
-
-        // Here assuming that the toString represents all state of a timeseries.
-        byte[] hash = digestUtils.digest( timeSeries.toString() );
-
-        if ( hash.length < 16 )
-        {
-            throw new IngestException( "The MD5 sum of " + timeSeries
-                                       + " was shorter than expected." );
-        }
-
-        return Hex.encodeHexString( hash, false );
+        return TimeSeriesHasher.hash( timeSeries );
     }
 
     /**
@@ -1,6 +1,5 @@
 package wres.io.ingesting.database;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -12,10 +11,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import wres.datamodel.DefaultDataProvider;
-import wres.datamodel.DataProvider;
 import wres.io.database.Database;
 import wres.io.database.DatabaseOperations;
+import wres.io.database.NumericColumns;
 import wres.io.ingesting.IngestException;
 import wres.system.SystemSettings;
 
@@ -33,7 +31,7 @@ public final class IngestedValues
 
     // Key = partition name, i.e. "partitions.forecastvalue_lead_0"
     // Value = List of values to save to the partition
-    private static final ConcurrentMap<String, DefaultDataProvider> VALUES_TO_SAVE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, NumericColumns> VALUES_TO_SAVE = new ConcurrentHashMap<>();
 
     private static final ConcurrentMap<String, Pair<CountDownLatch, CountDownLatch>> VALUES_SAVED_LATCHES =
             new ConcurrentHashMap<>();
@@ -41,7 +39,12 @@ public final class IngestedValues
     /** Guards VALUES_TO_SAVE and VALUES_SAVED_LATCHES and DataBuilders */
     private static final Object VALUES_TO_SAVE_LOCK = new Object();
 
-    private static final String[] TIMESERIES_COLUMN_NAMES = { "timeseries_id", "lead", "series_value" };
+    private static final List<String> TIMESERIES_COLUMN_NAMES = List.of( "timeseries_id", "lead", "series_value" );
+
+    /** The column types, which match the types in the wres.TimeSeriesValue table. */
+    private static final List<NumericColumns.Type> TIMESERIES_COLUMN_TYPES = List.of( NumericColumns.Type.INTEGER,
+                                                                                     NumericColumns.Type.BIGINT,
+                                                                                     NumericColumns.Type.DOUBLE );
 
     private static final String TABLE_NAME = "wres.TimeSeriesValue";
 
@@ -65,14 +68,14 @@ public final class IngestedValues
                                                                            Double value )
             throws IngestException
     {
-        DefaultDataProvider freshDefaultDataProvider =
-                DefaultDataProvider.with( IngestedValues.TIMESERIES_COLUMN_NAMES );
+        NumericColumns freshColumns = NumericColumns.of( IngestedValues.TIMESERIES_COLUMN_NAMES,
+                                                         IngestedValues.TIMESERIES_COLUMN_TYPES );
 
-        // The data builder to add to, whether existing or fresh.
-        DefaultDataProvider defaultDataProviderToUse;
+        // The columns to add to, whether existing or fresh.
+        NumericColumns columnsToUse;
 
-        // The data builder removed from the collection, to be ingested.
-        DefaultDataProvider removedDefaultDataProvider = null;
+        // The columns removed from the collection, to be ingested.
+        NumericColumns removedColumns = null;
 
         // After copy has completed, this class will count down wasSavedLatch
         // This acts as a signal to callers that their data was saved.
@@ -99,17 +102,25 @@ public final class IngestedValues
         synchronized ( VALUES_TO_SAVE_LOCK )
         {
             // Add a list for the values if it isn't present
-            defaultDataProviderToUse = VALUES_TO_SAVE.putIfAbsent( TABLE_NAME,
-                                                                   freshDefaultDataProvider );
+            columnsToUse = VALUES_TO_SAVE.putIfAbsent( TABLE_NAME,
+                                                       freshColumns );
 
             // When putIfAbsent returns null, it means it successfully put.
-            if ( defaultDataProviderToUse == null )
+            if ( columnsToUse == null )
             {
-                defaultDataProviderToUse = freshDefaultDataProvider;
+                columnsToUse = freshColumns;
             }
 
-            // Add the values to the list for the partition
-            defaultDataProviderToUse.addRow( timeSeriesID, lead, value );
+            // Add the values to the columns for the partition
+            columnsToUse.addRow();
+            columnsToUse.setLong( 0, timeSeriesID );
+            columnsToUse.setLong( 1, lead );
+
+            // A null value remains null
+            if ( value != null )
+            {
+                columnsToUse.setDouble( 2, value );
+            }
 
             // Add latches for the values if not present
             latchesToUse = VALUES_SAVED_LATCHES.putIfAbsent( TABLE_NAME,
@@ -121,7 +132,7 @@ public final class IngestedValues
                 latchesToUse = freshLatches;
             }
 
-            int rowCount = defaultDataProviderToUse.getRowCount();
+            int rowCount = columnsToUse.getRowCount();
             int maximumCount = systemSettings.getMaximumCopies();
 
             // If the maximum number of values to copy has been reached, copy the
@@ -166,7 +177,7 @@ public final class IngestedValues
             if ( doSave )
             {
                 removedLatches = VALUES_SAVED_LATCHES.remove( TABLE_NAME );
-                removedDefaultDataProvider = VALUES_TO_SAVE.remove( TABLE_NAME );
+                removedColumns = VALUES_TO_SAVE.remove( TABLE_NAME );
                 // It is understood that another Thread will put fresh values.
             }
         }
@@ -190,8 +201,7 @@ public final class IngestedValues
                 // it might be better to have Thread B complete the ingest and
                 // leave Thread C to do other things. Even better might be to
                 // let Thread A do the ingest since it is the one waiting.
-                DataProvider provider = removedDefaultDataProvider.build();
-                IngestedValues.copy( provider, database, TABLE_NAME );
+                IngestedValues.copy( removedColumns, database, TABLE_NAME );
             }
             catch ( IngestException ce )
             {
@@ -234,8 +244,8 @@ public final class IngestedValues
     {
         LOGGER.trace( "Began flush for synchronizer {}...", synchronizer );
 
-        // The data builder removed from the collection, to be ingested.
-        DefaultDataProvider removedDefaultDataProvider = null;
+        // The columns removed from the collection, to be ingested.
+        NumericColumns removedColumns = null;
 
         // When save is needed, removedLatches will be set.
         Pair<CountDownLatch, CountDownLatch> removedLatches = null;
@@ -257,7 +267,7 @@ public final class IngestedValues
             if ( tableName != null )
             {
                 removedLatches = VALUES_SAVED_LATCHES.remove( tableName );
-                removedDefaultDataProvider = VALUES_TO_SAVE.remove( tableName );
+                removedColumns = VALUES_TO_SAVE.remove( tableName );
             }
         }
 
@@ -273,7 +283,7 @@ public final class IngestedValues
         // these objects will not be visible to Threads that were waiting to
         // enter the above synchronized block.
         LOGGER.trace( "Attempting to flush values for partition {} with {}",
-                      tableName, removedDefaultDataProvider );
+                      tableName, removedColumns );
 
         try
         {
@@ -284,8 +294,7 @@ public final class IngestedValues
             // it might be better to have Thread B complete the ingest and
             // leave Thread C to do other things. Even better might be to
             // let Thread A do the ingest since it is the one waiting.
-            DataProvider provider = removedDefaultDataProvider.build();
-            IngestedValues.copy( provider, database, tableName );
+            IngestedValues.copy( removedColumns, database, tableName );
         }
         catch ( IngestException ce )
         {
@@ -313,40 +322,20 @@ public final class IngestedValues
     }
 
     /**
-     * Copies the data within the provider from the current row through the last row into the schema and table
-     * <br>
-     * The position of the provider will be at the end of the dataset after function completion
+     * Copies the columns into the schema and table without formatting the values as strings.
+     * @param columns The columns to copy
      * @param database The database to use
      * @param table Fully qualified table name to copy data into
      * @throws IngestException When the copy fails.
      */
-    private static void copy( DataProvider provider, Database database, final String table )
+    private static void copy( NumericColumns columns, Database database, final String table )
     {
-        List<String> columnNames = provider.getColumnNames();
-        List<String[]> values = new ArrayList<>();
-        boolean[] charColumns = new boolean[columnNames.size()];
-
-        while ( provider.next() )
-        {
-            String[] row = new String[columnNames.size()];
-
-            for ( int col = 0; col < columnNames.size(); col++ )
-            {
-                String representation = provider.toString( columnNames.get( col ) );
-                row[col] = representation;
-            }
-
-            values.add( row );
-        }
-
         // Until we can figure out how to get exceptions to propagate from
         // submitting to the Database executor, run synchronously in caller's
         // Thread.
         DatabaseOperations.insertIntoDatabase( database,
                                                table,
-                                               columnNames,
-                                               values,
-                                               charColumns );
+                                               columns );
     }
 
 }
@@ -0,0 +1,303 @@
+package wres.io.ingesting.database;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesColumns;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * <p>Computes an identity hash for a {@link TimeSeries}, which is stored in <code>wres.Source.hash</code> and used to
+ * avoid ingesting the same time-series twice. The metadata and the primitive time and value of each event are fed
+ * directly into a 128-bit Murmur3 hash, without creating a string representation of the time-series. Columnar and
+ * event-based representations of the same time-series have the same hash.
+ *
+ * <p>The hash is not cryptographic. When the content that is hashed changes, the {@link #HASH_VERSION} must be
+ * incremented, so that sources ingested with an earlier version can be identified. Sources ingested with version 1
+ * are identified with {@link #hashLegacy(TimeSeries)}.
+ *
+ * @author James Brown
+ */
+
+final class TimeSeriesHasher
+{
+    /** The version of the hash, which is stored in <code>wres.Source.hash_version</code>. Version 1 was an MD5
+     * checksum of the string representation of the time-series. */
+    static final int HASH_VERSION = 2;
+
+    /** The hash function. */
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /** Marker for a null value. */
+    private static final byte NULL = 0;
+
+    /** Marker for a non-null value. */
+    private static final byte NOT_NULL = 1;
+
+    /**
+     * Computes the hash of a time-series.
+     *
+     * @param timeSeries the time-series
+     * @return the hash as an upper case hex string of 32 characters
+     * @throws NullPointerException if the timeSeries is null
+     */
+
+    static String hash( TimeSeries<?> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        hasher.putInt( HASH_VERSION );
+
+        TimeSeriesHasher.putMetadata( hasher, timeSeries.getMetadata() );
+
+        if ( timeSeries.hasColumns() )
+        {
+            TimeSeriesHasher.putColumns( hasher, timeSeries.getColumns() );
+        }
+        else
+        {
+            TimeSeriesHasher.putEvents( hasher, timeSeries );
+        }
+
+        return hasher.hash()
+                     .toString()
+                     .toUpperCase();
+    }
+
+    /**
+     * Computes the version 1 hash of a time-series, which is an MD5 checksum of its string representation. Used to find
+     * sources that were ingested before the {@link #HASH_VERSION}.
+     *
+     * @param timeSeries the time-series
+     * @return the legacy hash as an upper case hex string of 32 characters
+     * @throws NullPointerException if the timeSeries is null
+     */
+
+    static String hashLegacy( TimeSeries<?> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        // Assumes that the string representation contains all state of the time-series
+        return DigestUtils.md5Hex( timeSeries.toString() )
+                          .toUpperCase();
+    }
+
+    /**
+     * Adds the time-series metadata to the hash.
+     * @param hasher the hasher
+     * @param metadata the metadata
+     */
+
+    private static void putMetadata( Hasher hasher, TimeSeriesMetadata metadata )
+    {
+        Map<ReferenceTimeType, Instant> referenceTimes = metadata.getReferenceTimes();
+        hasher.putInt( referenceTimes.size() );
+
+        // Order by type for a deterministic hash
+        referenceTimes.entrySet()
+                      .stream()
+                      .sorted( Map.Entry.comparingByKey( Comparator.comparing( ReferenceTimeType::name ) ) )
+                      .forEach( next -> {
+                          TimeSeriesHasher.putString( hasher,
+                                                      next.getKey()
+                                                          .name() );
+                          TimeSeriesHasher.putInstant( hasher, next.getValue() );
+                      } );
+
+        TimeScaleOuter timeScale = metadata.getTimeScale();
+        if ( Objects.isNull( timeScale ) )
+        {
+            hasher.putByte( NULL );
+        }
+        else
+        {
+            hasher.putByte( NOT_NULL );
+            TimeSeriesHasher.putString( hasher, timeScale.toString() );
+        }
+
+        TimeSeriesHasher.putString( hasher, metadata.getVariableName() );
+        TimeSeriesHasher.putString( hasher, metadata.getUnit() );
+
+        Feature feature = metadata.getFeature();
+        if ( Objects.isNull( feature ) )
+        {
+            hasher.putByte( NULL );
+        }
+        else
+        {
+            hasher.putByte( NOT_NULL );
+            TimeSeriesHasher.putString( hasher, feature.getName() );
+            TimeSeriesHasher.putString( hasher, feature.getDescription() );
+            hasher.putInt( Objects.requireNonNullElse( feature.getSrid(), -1 ) );
+            TimeSeriesHasher.putString( hasher, feature.getWkt() );
+        }
+    }
+
+    /**
+     * Adds the events of a time-series to the hash.
+     * @param hasher the hasher
+     * @param timeSeries the time-series
+     */
+
+    private static void putEvents( Hasher hasher, TimeSeries<?> timeSeries )
+    {
+        hasher.putInt( timeSeries.getEvents()
+                                 .size() );
+
+        Ensemble.Labels lastLabels = null;
+
+        for ( Event<?> event : timeSeries.getEvents() )
+        {
+            TimeSeriesHasher.putInstant( hasher, event.getTime() );
+            Object value = event.getValue();
+
+            if ( value instanceof Double d )
+            {
+                TimeSeriesHasher.putDouble( hasher, d );
+            }
+            else if ( value instanceof Ensemble ensemble )
+            {
+                Ensemble.Labels labels = ensemble.getLabels();
+                TimeSeriesHasher.putLabels( hasher, labels, lastLabels );
+                lastLabels = labels;
+
+                hasher.putInt( ensemble.size() );
+                for ( double member : ensemble.getMembers() )
+                {
+                    TimeSeriesHasher.putDouble( hasher, member );
+                }
+            }
+            else
+            {
+                TimeSeriesHasher.putString( hasher, Objects.toString( value, null ) );
+            }
+        }
+    }
+
+    /**
+     * Adds the events of a columnar time-series to the hash, consistently with {@link #putEvents(Hasher, TimeSeries)}.
+     * @param hasher the hasher
+     * @param columns the columns
+     */
+
+    private static void putColumns( Hasher hasher, TimeSeriesColumns columns )
+    {
+        int size = columns.size();
+        hasher.putInt( size );
+
+        Ensemble.Labels lastLabels = null;
+
+        for ( int i = 0; i < size; i++ )
+        {
+            // Columnar times are whole seconds
+            hasher.putLong( columns.getTime( i ) );
+            hasher.putInt( 0 );
+
+            if ( columns.isEnsemble() )
+            {
+                Ensemble.Labels labels = columns.getLabels();
+                TimeSeriesHasher.putLabels( hasher, labels, lastLabels );
+                lastLabels = labels;
+
+                int memberCount = columns.getMemberCount();
+                hasher.putInt( memberCount );
+                for ( int j = 0; j < memberCount; j++ )
+                {
+                    TimeSeriesHasher.putDouble( hasher, columns.getMember( i, j ) );
+                }
+            }
+            else
+            {
+                TimeSeriesHasher.putDouble( hasher, columns.getValue( i ) );
+            }
+        }
+    }
+
+    /**
+     * Adds the ensemble labels to the hash when they differ from the labels of the previous event.
+     * @param hasher the hasher
+     * @param labels the labels
+     * @param lastLabels the labels of the previous event, possibly null
+     */
+
+    private static void putLabels( Hasher hasher, Ensemble.Labels labels, Ensemble.Labels lastLabels )
+    {
+        if ( Objects.equals( labels, lastLabels ) )
+        {
+            hasher.putByte( NULL );
+            return;
+        }
+
+        hasher.putByte( NOT_NULL );
+        String[] strings = labels.getLabels();
+        hasher.putInt( strings.length );
+        for ( String next : strings )
+        {
+            TimeSeriesHasher.putString( hasher, next );
+        }
+    }
+
+    /**
+     * Adds an instant to the hash.
+     * @param hasher the hasher
+     * @param instant the instant
+     */
+
+    private static void putInstant( Hasher hasher, Instant instant )
+    {
+        hasher.putLong( instant.getEpochSecond() );
+        hasher.putInt( instant.getNano() );
+    }
+
+    /**
+     * Adds a double to the hash, using a canonical representation of NaN.
+     * @param hasher the hasher
+     * @param value the value
+     */
+
+    private static void putDouble( Hasher hasher, double value )
+    {
+        hasher.putLong( Double.doubleToLongBits( value ) );
+    }
+
+    /**
+     * Adds a string to the hash, preceded by its length so that adjacent strings are unambiguous.
+     * @param hasher the hasher
+     * @param string the string, possibly null
+     */
+
+    private static void putString( Hasher hasher, String string )
+    {
+        if ( Objects.isNull( string ) )
+        {
+            hasher.putInt( -1 );
+            return;
+        }
+
+        hasher.putInt( string.length() );
+        hasher.putString( string, StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * Do not construct.
+     */
+
+    private TimeSeriesHasher()
+    {
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.config.components.DataType;
+import wres.config.components.EvaluationDeclaration;
 import wres.config.components.DatasetOrientation;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesSlicer;
@@ -20,7 +21,9 @@ import wres.reading.DataSource;
 import wres.reading.TimeSeriesTuple;
 
 /**
- * Facade for ingesting time-series into an in-memory {@link TimeSeriesStore}.
+ * Facade for ingesting time-series into an in-memory {@link TimeSeriesStore}. Optionally draws from and populates a
+ * {@link TimeSeriesSourceCache}, in which case the time-series stream of a cached source is closed without being
+ * consumed.
  * @author James Brown
  */
 
@@ -32,6 +35,12 @@ public class InMemoryTimeSeriesIngester implements TimeSeriesIngester
     /** The time-series store builder to populate with time-series. */
     private final TimeSeriesStore.Builder timeSeriesStoreBuilder;
 
+    /** The cache of time-series by source, null to read every source. */
+    private final TimeSeriesSourceCache sourceCache;
+
+    /** The declaration that constrains reading, which helps to identify the sources in the cache. */
+    private final EvaluationDeclaration declaration;
+
     /**
      * Create an instance.
      * @param timeSeriesStoreBuilder the time-series store builder to populate
@@ -41,7 +50,25 @@ public class InMemoryTimeSeriesIngester implements TimeSeriesIngester
 
     public static InMemoryTimeSeriesIngester of( TimeSeriesStore.Builder timeSeriesStoreBuilder )
     {
-        return new InMemoryTimeSeriesIngester( timeSeriesStoreBuilder );
+        return new InMemoryTimeSeriesIngester( timeSeriesStoreBuilder, null, null );
+    }
+
+    /**
+     * Create an instance with a cache of time-series by source.
+     * @param timeSeriesStoreBuilder the time-series store builder to populate
+     * @param sourceCache the cache of time-series by source, null to read every source
+     * @param declaration the declaration that constrains reading
+     * @return an instance
+     * @throws NullPointerException if the store builder or declaration is null
+     */
+
+    public static InMemoryTimeSeriesIngester of( TimeSeriesStore.Builder timeSeriesStoreBuilder,
+                                                 TimeSeriesSourceCache sourceCache,
+                                                 EvaluationDeclaration declaration )
+    {
+        Objects.requireNonNull( declaration );
+
+        return new InMemoryTimeSeriesIngester( timeSeriesStoreBuilder, sourceCache, declaration );
     }
 
     @Override
@@ -62,7 +89,7 @@ public class InMemoryTimeSeriesIngester implements TimeSeriesIngester
         // Close the stream on completion
         try ( timeSeriesTuple )
         {
-            List<TimeSeriesTuple> listedTuples = timeSeriesTuple.toList();
+            List<TimeSeriesTuple> listedTuples = this.getTimeSeries( timeSeriesTuple, outerSource );
             DataType dataType = null;
             for ( TimeSeriesTuple nextTuple : listedTuples )
             {
@@ -123,6 +150,41 @@ public class InMemoryTimeSeriesIngester implements TimeSeriesIngester
         }
     }
 
+    /**
+     * Returns the time-series to ingest, drawing from the cache when the source was read previously.
+     *
+     * @param timeSeriesTuple the time-series stream, which is not consumed when the source is cached
+     * @param source the source
+     * @return the time-series
+     */
+
+    private List<TimeSeriesTuple> getTimeSeries( Stream<TimeSeriesTuple> timeSeriesTuple, DataSource source )
+    {
+        if ( Objects.isNull( this.sourceCache ) )
+        {
+            return timeSeriesTuple.toList();
+        }
+
+        TimeSeriesSourceCache.Key key = this.sourceCache.getKey( source, this.declaration );
+
+        if ( Objects.isNull( key ) )
+        {
+            return timeSeriesTuple.toList();
+        }
+
+        List<TimeSeriesTuple> cached = this.sourceCache.get( key );
+
+        if ( Objects.nonNull( cached ) )
+        {
+            return cached;
+        }
+
+        List<TimeSeriesTuple> read = timeSeriesTuple.toList();
+        this.sourceCache.put( key, read );
+
+        return read;
+    }
+
     /**
      * Indicates whether non-missing values are present based on the existing state and new state. If the existing
      * state indicates there are non-missing values, always returns {@code true}, otherwise returns the new state.
@@ -145,10 +207,16 @@ public class InMemoryTimeSeriesIngester implements TimeSeriesIngester
     /**
      * Hidden constructor.
      * @param timeSeriesStoreBuilder the time-series store builder
+     * @param sourceCache the cache of time-series by source, possibly null
+     * @param declaration the declaration that constrains reading, possibly null when there is no cache
      */
-    private InMemoryTimeSeriesIngester( TimeSeriesStore.Builder timeSeriesStoreBuilder )
+    private InMemoryTimeSeriesIngester( TimeSeriesStore.Builder timeSeriesStoreBuilder,
+                                        TimeSeriesSourceCache sourceCache,
+                                        EvaluationDeclaration declaration )
     {
         Objects.requireNonNull( timeSeriesStoreBuilder );
         this.timeSeriesStoreBuilder = timeSeriesStoreBuilder;
+        this.sourceCache = sourceCache;
+        this.declaration = declaration;
     }
 }
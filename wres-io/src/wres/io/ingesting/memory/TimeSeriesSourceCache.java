@@ -0,0 +1,390 @@
+package wres.io.ingesting.memory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.config.DeclarationUtilities;
+import wres.config.components.EvaluationDeclaration;
+import wres.config.components.TimeInterval;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.types.Ensemble;
+import wres.reading.DataSource;
+import wres.reading.ReaderUtilities;
+import wres.reading.TimeSeriesTuple;
+import wres.statistics.generated.GeometryTuple;
+import wres.system.SystemSettings;
+
+/**
+ * <p>A cache of the time-series read from data sources, which is shared between the evaluations performed within one
+ * process, such as the evaluations performed by a long-running server. When an evaluation declares a source whose
+ * time-series were read by an earlier evaluation, the time-series are re-used and the source is not read again.
+ *
+ * <p>A source is identified by its {@link DataSource}, which includes the declared dataset, together with the parts of
+ * the declaration that constrain reading, namely the features and the valid and reference time intervals. A file
+ * source is additionally identified by its size and last modified time, so that a file is read again after it changes.
+ * A web source is only cached when the declared time intervals end before the time after which data is assumed not to
+ * change. Gridded sources are never cached because they are read on retrieval.
+ *
+ * <p>The cache is bounded by an estimate of the heap occupied by the cached time-series and evicts the least recently
+ * used sources first.
+ *
+ * @author James Brown
+ */
+
+public class TimeSeriesSourceCache
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( TimeSeriesSourceCache.class );
+
+    /** The estimated bytes occupied by each event, including the time, the value and the entry in the series. */
+    private static final long BYTES_PER_EVENT = 112;
+
+    /** The estimated bytes occupied by each ensemble member. */
+    private static final long BYTES_PER_MEMBER = Double.BYTES;
+
+    /** The cache that is shared between evaluations. */
+    private static final AtomicReference<TimeSeriesSourceCache> SHARED = new AtomicReference<>();
+
+    /** The cached time-series by source. */
+    private final Cache<Key, List<TimeSeriesTuple>> cache;
+
+    /** The maximum number of bytes occupied by the cached time-series. */
+    private final long maximumBytes;
+
+    /** The period after which the data from a web source is assumed not to change. */
+    private final Duration immutableAfter;
+
+    /**
+     * Returns the cache that is shared between evaluations, creating it when first requested and re-creating it when
+     * the settings change.
+     *
+     * @param systemSettings the system settings
+     * @return the shared cache or null if the settings disable the cache
+     * @throws NullPointerException if the settings are null
+     */
+
+    public static TimeSeriesSourceCache of( SystemSettings systemSettings )
+    {
+        Objects.requireNonNull( systemSettings );
+
+        double fraction = systemSettings.getSourceCacheHeapFraction();
+
+        if ( fraction <= 0 )
+        {
+            LOGGER.debug( "The cache of time-series sources is disabled." );
+            return null;
+        }
+
+        long maximumBytes = ( long ) ( Runtime.getRuntime()
+                                              .maxMemory() * fraction );
+        Duration immutableAfter = Duration.ofDays( systemSettings.getWebCacheImmutableDays() );
+
+        return SHARED.updateAndGet( existing -> Objects.nonNull( existing )
+                                                && existing.maximumBytes == maximumBytes
+                                                && existing.immutableAfter.equals( immutableAfter )
+                                                ? existing
+                                                : new TimeSeriesSourceCache( maximumBytes, immutableAfter ) );
+    }
+
+    /**
+     * Creates a cache that is not shared.
+     *
+     * @param maximumBytes the maximum number of bytes occupied by the cached time-series
+     * @param immutableAfter the period after which the data from a web source is assumed not to change
+     * @return the cache
+     * @throws NullPointerException if the immutable period is null
+     * @throws IllegalArgumentException if the maximum bytes is not positive or the immutable period is negative
+     */
+
+    public static TimeSeriesSourceCache of( long maximumBytes, Duration immutableAfter )
+    {
+        return new TimeSeriesSourceCache( maximumBytes, immutableAfter );
+    }
+
+    /**
+     * Returns the key for a source. The key should be obtained before the source is read, so that a file that changes
+     * while it is read is read again by the next evaluation.
+     *
+     * @param source the source
+     * @param declaration the declaration that constrains reading
+     * @return the key or null if the source should not be cached
+     */
+
+    Key getKey( DataSource source, EvaluationDeclaration declaration )
+    {
+        Objects.requireNonNull( source );
+        Objects.requireNonNull( declaration );
+
+        if ( source.isGridded() )
+        {
+            return null;
+        }
+
+        FileStamp stamp = null;
+
+        if ( ReaderUtilities.isWebSource( source ) )
+        {
+            if ( !this.isImmutable( declaration ) )
+            {
+                LOGGER.debug( "Not caching {} because the declared time intervals are not older than {}.",
+                              source,
+                              this.immutableAfter );
+
+                return null;
+            }
+        }
+        else
+        {
+            stamp = this.getFileStamp( source.uri() );
+
+            if ( Objects.isNull( stamp ) )
+            {
+                return null;
+            }
+        }
+
+        return new Key( source,
+                        stamp,
+                        DeclarationUtilities.getFeatures( declaration ),
+                        declaration.validDates(),
+                        declaration.referenceDates() );
+    }
+
+    /**
+     * @param key the key
+     * @return the cached time-series or null if the source is not cached
+     */
+
+    List<TimeSeriesTuple> get( Key key )
+    {
+        Objects.requireNonNull( key );
+
+        List<TimeSeriesTuple> cached = this.cache.getIfPresent( key );
+
+        if ( Objects.nonNull( cached ) )
+        {
+            LOGGER.debug( "Re-using {} time-series from {}, which were read by an earlier evaluation.",
+                          cached.size(),
+                          key.source() );
+        }
+
+        return cached;
+    }
+
+    /**
+     * @param key the key
+     * @param timeSeries the time-series read from the source
+     */
+
+    void put( Key key, List<TimeSeriesTuple> timeSeries )
+    {
+        Objects.requireNonNull( key );
+        Objects.requireNonNull( timeSeries );
+
+        this.cache.put( key, List.copyOf( timeSeries ) );
+    }
+
+    /**
+     * @return the estimated number of bytes occupied by the cached time-series
+     */
+
+    long getEstimatedBytes()
+    {
+        this.cache.cleanUp();
+
+        return this.cache.policy()
+                         .eviction()
+                         .map( e -> e.weightedSize()
+                                     .orElse( 0 ) )
+                         .orElse( 0L );
+    }
+
+    /**
+     * @param declaration the declaration
+     * @return whether every declared time interval ends before the data is assumed not to change
+     */
+
+    private boolean isImmutable( EvaluationDeclaration declaration )
+    {
+        TimeInterval validDates = declaration.validDates();
+        TimeInterval referenceDates = declaration.referenceDates();
+
+        if ( Objects.isNull( validDates )
+             && Objects.isNull( referenceDates ) )
+        {
+            return false;
+        }
+
+        Instant horizon = Instant.now()
+                                 .minus( this.immutableAfter );
+
+        return this.endsBefore( validDates, horizon )
+               && this.endsBefore( referenceDates, horizon );
+    }
+
+    /**
+     * @param interval the interval, possibly null
+     * @param horizon the horizon
+     * @return true if the interval is null or ends before the horizon, otherwise false
+     */
+
+    private boolean endsBefore( TimeInterval interval, Instant horizon )
+    {
+        return Objects.isNull( interval )
+               || ( Objects.nonNull( interval.maximum() )
+                    && interval.maximum()
+                               .isBefore( horizon ) );
+    }
+
+    /**
+     * @param uri the uri of a file source
+     * @return the file stamp or null if the source is not a regular file whose attributes can be read
+     */
+
+    private FileStamp getFileStamp( URI uri )
+    {
+        try
+        {
+            Path path = Path.of( uri );
+            BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+
+            if ( !attributes.isRegularFile() )
+            {
+                return null;
+            }
+
+            return new FileStamp( attributes.size(), attributes.lastModifiedTime() );
+        }
+        catch ( IllegalArgumentException | FileSystemNotFoundException | IOException e )
+        {
+            LOGGER.debug( "Not caching {} because its file attributes could not be read.", uri, e );
+
+            return null;
+        }
+    }
+
+    /**
+     * Estimates the bytes occupied by the time-series read from a source.
+     *
+     * @param key the key
+     * @param timeSeries the time-series
+     * @return the estimated bytes, up to {@link Integer#MAX_VALUE}
+     */
+
+    private static int getWeight( Key key, List<TimeSeriesTuple> timeSeries )
+    {
+        long bytes = 0;
+        for ( TimeSeriesTuple next : timeSeries )
+        {
+            if ( next.hasSingleValuedTimeSeries() )
+            {
+                bytes += next.getSingleValuedTimeSeries()
+                             .getEvents()
+                             .size() * BYTES_PER_EVENT;
+            }
+
+            if ( next.hasEnsembleTimeSeries() )
+            {
+                TimeSeries<Ensemble> ensemble = next.getEnsembleTimeSeries();
+                int events = ensemble.getEvents()
+                                     .size();
+
+                if ( events > 0 )
+                {
+                    int members = ensemble.getEvents()
+                                          .first()
+                                          .getValue()
+                                          .size();
+                    bytes += events * ( BYTES_PER_EVENT + members * BYTES_PER_MEMBER );
+                }
+            }
+        }
+
+        return ( int ) Math.min( Integer.MAX_VALUE, bytes );
+    }
+
+    /**
+     * Identifies the time-series read from a source.
+     *
+     * @param source the source
+     * @param stamp the file stamp, null for a web source
+     * @param features the declared features
+     * @param validDates the declared valid dates
+     * @param referenceDates the declared reference dates
+     */
+
+    record Key( DataSource source,
+                FileStamp stamp,
+                Set<GeometryTuple> features,
+                TimeInterval validDates,
+                TimeInterval referenceDates )
+    {
+    }
+
+    /**
+     * Identifies the content of a file.
+     *
+     * @param size the size in bytes
+     * @param lastModified the last modified time
+     */
+
+    private record FileStamp( long size, FileTime lastModified )
+    {
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param maximumBytes the maximum number of bytes occupied by the cached time-series
+     * @param immutableAfter the period after which the data from a web source is assumed not to change
+     * @throws NullPointerException if the immutable period is null
+     * @throws IllegalArgumentException if the maximum bytes is not positive or the immutable period is negative
+     */
+
+    private TimeSeriesSourceCache( long maximumBytes, Duration immutableAfter )
+    {
+        Objects.requireNonNull( immutableAfter );
+
+        if ( maximumBytes <= 0 )
+        {
+            throw new IllegalArgumentException( "The maximum bytes occupied by the cached time-series must be "
+                                                + "positive: "
+                                                + maximumBytes
+                                                + "." );
+        }
+
+        if ( immutableAfter.isNegative() )
+        {
+            throw new IllegalArgumentException( "The period after which web data is assumed not to change cannot be "
+                                                + "negative: "
+                                                + immutableAfter
+                                                + "." );
+        }
+
+        this.maximumBytes = maximumBytes;
+        this.immutableAfter = immutableAfter;
+        this.cache = Caffeine.newBuilder()
+                             .maximumWeight( maximumBytes )
+                             .weigher( TimeSeriesSourceCache::getWeight )
+                             .build();
+
+        LOGGER.info( "Created a cache of time-series sources that may occupy up to {} MB of heap.",
+                     maximumBytes / 1_000_000 );
+    }
+}
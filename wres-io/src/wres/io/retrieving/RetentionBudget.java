@@ -0,0 +1,179 @@
+package wres.io.retrieving;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * <p>A budget for the time-series events that are retrieved ahead of the pools that need them and held until they are
+ * requested, such as the time-series for the other time windows in a batch of time windows that are retrieved
+ * together. Events are retained only while they fit within the budget and are released when they are supplied. The
+ * retained events may be counted against a wider budget, such as the heap budget for admitting pools.
+ *
+ * <p>Each holder of retained events registers an action that discards them, so that all retained events can be
+ * released with {@link #releaseAll()} when they will not be requested, such as when a pool fails or the evaluation
+ * ends.
+ *
+ * @author James Brown
+ */
+@ThreadSafe
+public class RetentionBudget
+{
+    /** The maximum number of events that may be retained. */
+    private final long maximumEvents;
+
+    /** The number of events retained. Guarded by this instance. */
+    private long retainedEvents;
+
+    /** The actions that discard the events retained by each holder. Guarded by this instance. */
+    private final List<Runnable> holders = new ArrayList<>();
+
+    /**
+     * Provides an instance.
+     *
+     * @param maximumEvents the maximum number of events that may be retained
+     * @return a retention budget
+     * @throws IllegalArgumentException if the maximum number of events is negative
+     */
+
+    public static RetentionBudget of( long maximumEvents )
+    {
+        return new RetentionBudget( maximumEvents );
+    }
+
+    /**
+     * Retains the prescribed number of events if they fit within the budget.
+     *
+     * @param events the number of events to retain
+     * @return true if the events were retained, false if they do not fit within the budget
+     * @throws IllegalArgumentException if the number of events is negative
+     */
+
+    public synchronized boolean tryRetain( long events )
+    {
+        RetentionBudget.validate( events );
+
+        if ( events > this.maximumEvents - this.retainedEvents )
+        {
+            return false;
+        }
+
+        this.retainedEvents += events;
+
+        return true;
+    }
+
+    /**
+     * Releases the prescribed number of events that were retained previously.
+     *
+     * @param events the number of events to release
+     * @throws IllegalArgumentException if the number of events is negative or more than the number retained
+     */
+
+    public synchronized void release( long events )
+    {
+        RetentionBudget.validate( events );
+
+        if ( events > this.retainedEvents )
+        {
+            throw new IllegalArgumentException( "Cannot release " + events
+                                                + " events when only "
+                                                + this.retainedEvents
+                                                + " events are retained." );
+        }
+
+        this.retainedEvents -= events;
+    }
+
+    /**
+     * Registers a holder of retained events with an action that discards the events it retains, releasing them to this
+     * budget. The action is run once, by {@link #releaseAll()}, and must be safe to run concurrently with the holder.
+     *
+     * @param discard the action that discards the retained events
+     * @throws NullPointerException if the action is null
+     */
+
+    public synchronized void register( Runnable discard )
+    {
+        Objects.requireNonNull( discard );
+
+        this.holders.add( discard );
+    }
+
+    /**
+     * Discards the events retained by all registered holders, which releases them to this budget, and deregisters the
+     * holders.
+     */
+
+    public void releaseAll()
+    {
+        List<Runnable> discards;
+
+        synchronized ( this )
+        {
+            discards = new ArrayList<>( this.holders );
+            this.holders.clear();
+        }
+
+        // Discard outside the lock because each holder releases to this budget under its own lock
+        discards.forEach( Runnable::run );
+    }
+
+    /**
+     * @return the number of events retained
+     */
+
+    public synchronized long getRetainedEvents()
+    {
+        return this.retainedEvents;
+    }
+
+    /**
+     * @return the maximum number of events that may be retained
+     */
+
+    public long getMaximumEvents()
+    {
+        return this.maximumEvents;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RetentionBudget[maximumEvents=" + this.maximumEvents
+               + ", retainedEvents="
+               + this.getRetainedEvents()
+               + "]";
+    }
+
+    /**
+     * Validates a number of events.
+     *
+     * @param events the number of events
+     * @throws IllegalArgumentException if the number of events is negative
+     */
+
+    private static void validate( long events )
+    {
+        if ( events < 0 )
+        {
+            throw new IllegalArgumentException( "The number of events cannot be negative: " + events + "." );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param maximumEvents the maximum number of events that may be retained
+     * @throws IllegalArgumentException if the maximum number of events is negative
+     */
+
+    private RetentionBudget( long maximumEvents )
+    {
+        RetentionBudget.validate( maximumEvents );
+
+        this.maximumEvents = maximumEvents;
+    }
+}
@@ -1,5 +1,9 @@
 package wres.io.retrieving;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -59,6 +63,31 @@ public interface RetrieverFactory<L, R, B>
 
     Supplier<Stream<TimeSeries<R>>> getRightRetriever( Set<Feature> features, TimeWindowOuter timeWindow );
 
+    /**
+     * Creates a retriever of right-ish data for each of several {@link TimeWindowOuter}. An implementation may
+     * retrieve the data for several time windows together, rather than one time window at a time. By default, creates
+     * one retriever for each time window with {@link #getRightRetriever(Set, TimeWindowOuter)}.
+     *
+     * @param features the spatial features
+     * @param timeWindows the time windows
+     * @return a retriever for right data for each time window
+     * @throws DataAccessException if the retrievers could not be created for any reason
+     * @throws IllegalArgumentException if the set of features is empty
+     * @throws NullPointerException if any input is null
+     */
+
+    default Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>> getRightRetrievers( Set<Feature> features,
+                                                                                     Set<TimeWindowOuter> timeWindows )
+    {
+        Objects.requireNonNull( features );
+        Objects.requireNonNull( timeWindows );
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<R>>>> retrievers = new HashMap<>();
+        timeWindows.forEach( next -> retrievers.put( next, this.getRightRetriever( features, next ) ) );
+
+        return Collections.unmodifiableMap( retrievers );
+    }
+
     /**
      * Creates a retriever for all baseline-ish data without any pool boundaries.
      *
@@ -2,11 +2,16 @@ package wres.io.retrieving.database;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -140,7 +145,7 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
         this.validateForMultiSeriesRetrieval();
 
         Database database = super.getDatabase();
-        String start = this.getStartOfScriptForGetAllTimeSeries();
+        String start = this.getStartOfScriptForGetAllTimeSeries( false );
         DataScripter dataScripter = new DataScripter( database, start );
 
         // Add basic constraints at zero tabs
@@ -164,30 +169,70 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
         this.addSeasonClause( dataScripter, 1 );
 
         // Add GROUP BY clause
-        String groupBy = "GROUP BY metadata.series_id,"
-                         + "metadata.reference_time, "
-                         + "metadata.reference_time_type, "
-                         + "metadata.feature_id, "
-                         + "TSV.lead, "
-                         + "metadata.scale_period, "
-                         + "metadata.scale_function, "
-                         + "metadata.measurementunit_id,"
-                         + "metadata.occurrences";
+        dataScripter.addLine( this.getGroupByClause( false ) );
 
-        if ( !this.getVariable()
-                  .aliases()
-                  .isEmpty() )
+        // Log the script
+        super.logScript( dataScripter );
+
+        // Retrieve the time-series        
+        return this.getTimeSeriesFromScript( dataScripter, this.getDataSupplier() );
+    }
+
+    /**
+     * Overrides the default implementation to get the time-series for all time windows in one pull, rather than one
+     * pull for each time window.
+     *
+     * @param consumer the consumer of the time-series for each time window and the index of the time window
+     * @throws NullPointerException if the consumer is null
+     * @throws DataAccessException if the data could not be accessed for whatever reason
+     */
+
+    @Override
+    void getByTimeWindow( ObjIntConsumer<List<TimeSeries<Ensemble>>> consumer )
+    {
+        Objects.requireNonNull( consumer );
+
+        this.validateForMultiSeriesRetrieval();
+
+        if ( this.getTimeWindows()
+                 .isEmpty() )
         {
-            groupBy += ",metadata.variable_name";
+            return;
         }
 
-        dataScripter.addLine( groupBy );
+        Database database = super.getDatabase();
+        String start = this.getStartOfScriptForGetAllTimeSeries( true );
+        DataScripter dataScripter = new DataScripter( database, start );
+
+        // Add basic constraints at zero tabs
+        this.addProjectFeatureVariableAndMemberConstraints( dataScripter, 0 );
+
+        dataScripter.addTab().addLine( "GROUP BY S.source_id," );
+        dataScripter.addTab( 2 ).addLine( "S.measurementunit_id," );
+        dataScripter.addTab( 2 ).addLine( "TimeScale.duration_ms," );
+        dataScripter.addTab( 2 ).addLine( "TimeScale.function_name," );
+        dataScripter.addTab( 2 ).addLine( "TSRT.reference_time_type" );
+        dataScripter.addLine( ") AS metadata " );
+        dataScripter.addLine( "INNER JOIN wres.TimeSeries TS" );
+        dataScripter.addTab().addLine( "ON TS.source_id = metadata.series_id" );
+        dataScripter.addLine( "INNER JOIN wres.TimeSeriesValue TSV" );
+        dataScripter.addTab().addLine( "ON TSV.timeseries_id = TS.timeseries_id" );
+
+        // Add the time window constraints, one set for each time window
+        this.addTimeWindowsJoin( dataScripter );
+
+        // Add season constraint at one tab
+        this.addSeasonClause( dataScripter, 1 );
+
+        // Add GROUP BY and ORDER BY clauses
+        dataScripter.addLine( this.getGroupByClause( true ) );
+        dataScripter.addLine( "ORDER BY W.window_index, metadata.series_id;" );
 
         // Log the script
         super.logScript( dataScripter );
 
-        // Retrieve the time-series        
-        return this.getTimeSeriesFromScript( dataScripter, this.getDataSupplier() );
+        // Retrieve the time-series
+        this.getTimeSeriesByTimeWindowFromScript( dataScripter, this.getDataSupplier(), consumer );
     }
 
     @Override
@@ -197,55 +242,171 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
     }
 
     /**
-     * <p>Returns a function that obtains the measured value.
+     * <p>Returns a function that obtains the measured value. The members and their identifiers are decoded without
+     * boxing. The members are ordered by label, which requires the labels of the identifiers. Since the same
+     * identifiers are repeated across many ensembles, typically, the labels and the order of the members are cached
+     * for each distinct array of identifiers, once per query.
      *
-     * <p>TODO: include the labels too, once they are needed. See #56214-37 for the amended script. When processing these,
-     * obtain the labels from a local cache, because they will be repeated across many ensembles, typically, and 
-     * String[] are comparatively expensive.
+     * <p>TODO: include the labels too, once they are needed. See #56214-37 for the amended script.
      *
      * @return a function to obtain the measured value
      */
 
     private Function<DataProvider, Event<Ensemble>> getDataSupplier()
     {
+        Map<MemberIds, MemberOrder> orders = new ConcurrentHashMap<>();
+
         return provider -> {
 
-            Double[] members = provider.getDoubleArray( "ensemble_members" );
-            Integer[] ids = provider.getIntegerArray( "ensemble_ids" );
+            double[] members = provider.getPrimitiveDoubleArray( "ensemble_members" );
+            long[] ids = provider.getPrimitiveLongArray( "ensemble_ids" );
             Instant validTime = provider.getInstant( "valid_time" );
 
-            // Re-duplication is handled in the superclass, so do not consider here, instead map by label
-            Map<String, Double> ensemble = new TreeMap<>();
+            // Re-duplication is handled in the superclass, so do not consider here, instead order by label
+            MemberOrder order = orders.computeIfAbsent( new MemberIds( ids ), this::getMemberOrder );
+
+            return Event.of( validTime, Ensemble.of( order.apply( members ), order.labels() ) );
+        };
+    }
+
+    /**
+     * Creates the order of the members with the prescribed identifiers, which is the order of their labels. When two
+     * identifiers share a label, the later member is used.
+     *
+     * @param ids the member identifiers
+     * @return the member order
+     * @throws DataAccessException if an identifier could not be mapped to a label
+     */
 
-            // Iterate the members, map the units and discover the names and add to the map
-            for ( int i = 0; i < members.length; i++ )
+    private MemberOrder getMemberOrder( MemberIds ids )
+    {
+        Map<String, Integer> indexes = new TreeMap<>();
+
+        for ( int i = 0; i < ids.ids().length; i++ )
+        {
+            // Get the name from the cache
+            String name;
+            try
+            {
+                name = this.getEnsemblesCache()
+                           .getEnsembleName( ids.ids()[i] );
+            }
+            catch ( SQLException e )
             {
-                // Get the name from the cache
-                String name;
-                try
-                {
-                    name = this.getEnsemblesCache()
-                               .getEnsembleName( ids[i] );
-                }
-                catch ( SQLException e )
-                {
-                    throw new DataAccessException( "While attempting to map an ensemble identifier to a name.", e );
-                }
-
-                ensemble.put( name, members[i] );
+                throw new DataAccessException( "While attempting to map an ensemble identifier to a name.", e );
             }
 
-            // Labels are cached centrally
-            String[] names = ensemble.keySet()
-                                     .toArray( new String[0] );
-            Labels labels = Labels.of( names );
-            double[] unboxed = ensemble.values()
-                                       .stream()
-                                       .mapToDouble( Double::doubleValue )
-                                       .toArray();
+            indexes.put( name, i );
+        }
+
+        // Labels are cached centrally
+        Labels labels = Labels.of( indexes.keySet()
+                                          .toArray( new String[0] ) );
+        int[] order = indexes.values()
+                             .stream()
+                             .mapToInt( Integer::intValue )
+                             .toArray();
 
-            return Event.of( validTime, Ensemble.of( unboxed, labels ) );
-        };
+        // No need to re-order when the members are already ordered by label
+        boolean isOrdered = order.length == ids.ids().length
+                            && IntStream.range( 0, order.length )
+                                        .allMatch( i -> order[i] == i );
+
+        return new MemberOrder( labels, order, isOrdered );
+    }
+
+    /**
+     * The identifiers of the ensemble members in the order retrieved.
+     *
+     * @param ids the identifiers
+     */
+
+    private record MemberIds( long[] ids )
+    {
+        @Override
+        public boolean equals( Object o )
+        {
+            return o instanceof MemberIds m && Arrays.equals( this.ids, m.ids );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode( this.ids );
+        }
+
+        @Override
+        public String toString()
+        {
+            return Arrays.toString( this.ids );
+        }
+    }
+
+    /**
+     * The order of the ensemble members by label.
+     *
+     * @param labels the labels in order
+     * @param order the index of the retrieved member for each label
+     * @param isOrdered is true if the retrieved members are already in order
+     */
+
+    private record MemberOrder( Labels labels, int[] order, boolean isOrdered )
+    {
+        /**
+         * @param members the retrieved members
+         * @return the members in order
+         */
+
+        private double[] apply( double[] members )
+        {
+            if ( this.isOrdered )
+            {
+                return members;
+            }
+
+            double[] ordered = new double[this.order.length];
+
+            for ( int i = 0; i < this.order.length; i++ )
+            {
+                ordered[i] = members[this.order[i]];
+            }
+
+            return ordered;
+        }
+    }
+
+    /**
+     * Returns the <code>GROUP BY</code> clause that aggregates the ensemble members of each valid time.
+     *
+     * @param byTimeWindow is true to group by the index of the time window too
+     * @return the clause
+     */
+
+    private String getGroupByClause( boolean byTimeWindow )
+    {
+        String groupBy = "GROUP BY metadata.series_id,"
+                         + "metadata.reference_time, "
+                         + "metadata.reference_time_type, "
+                         + "metadata.feature_id, "
+                         + "TSV.lead, "
+                         + "metadata.scale_period, "
+                         + "metadata.scale_function, "
+                         + "metadata.measurementunit_id,"
+                         + "metadata.occurrences";
+
+        if ( !this.getVariable()
+                  .aliases()
+                  .isEmpty() )
+        {
+            groupBy += ",metadata.variable_name";
+        }
+
+        if ( byTimeWindow )
+        {
+            groupBy += ",W.window_index";
+        }
+
+        return groupBy;
     }
 
     /**
@@ -260,10 +421,11 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
     /**
      * Returns the start of a script to acquire a time-series from the WRES database for all time-series.
      *
+     * @param byTimeWindow is true to select the index of the time window to which each event belongs
      * @return the start of a script for the time-series
      */
 
-    private String getStartOfScriptForGetAllTimeSeries()
+    private String getStartOfScriptForGetAllTimeSeries( boolean byTimeWindow )
     {
         ScriptBuilder scripter = new ScriptBuilder();
 
@@ -272,6 +434,11 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
                                .isEmpty();
 
         scripter.addLine( "SELECT " );
+        if ( byTimeWindow )
+        {
+            scripter.addTab().addLine( "W.window_index," );
+        }
+
         scripter.addTab().addLine( "metadata.series_id AS series_id," );
         scripter.addTab().addLine( "metadata.reference_time + INTERVAL '1' "
                                    + DatabaseSettingsHelper.getLeadDurationString()
@@ -1,6 +1,7 @@
 package wres.io.retrieving.database;
 
 import java.time.MonthDay;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -24,6 +25,7 @@ import wres.io.database.caching.Features;
 import wres.io.database.caching.MeasurementUnits;
 import wres.io.database.Database;
 import wres.io.project.Project;
+import wres.io.retrieving.RetentionBudget;
 import wres.io.retrieving.RetrieverFactory;
 
 /**
@@ -65,8 +67,14 @@ public class EnsembleRetrieverFactory implements RetrieverFactory<Double, Ensemb
     /** A single-valued retriever factory for the left-ish data. */
     private final RetrieverFactory<Double, Double, Double> leftFactory;
 
+    /** The maximum number of time windows of forecasts to retrieve with one query. */
+    private final int timeWindowBatchSize;
+
+    /** The budget for the forecast time-series events retrieved ahead of the time windows that need them. */
+    private final RetentionBudget retention;
+
     /**
-     * Returns an instance.
+     * Returns an instance that retrieves each time window separately.
      *
      * @param project the project
      * @param database the database
@@ -79,7 +87,29 @@ public class EnsembleRetrieverFactory implements RetrieverFactory<Double, Ensemb
                                                Database database,
                                                DatabaseCaches caches )
     {
-        return new EnsembleRetrieverFactory( project, database, caches );
+        return new EnsembleRetrieverFactory( project, database, caches, 1, RetentionBudget.of( 0 ) );
+    }
+
+    /**
+     * Returns an instance.
+     *
+     * @param project the project
+     * @param database the database
+     * @param caches the caches
+     * @param timeWindowBatchSize the maximum number of time windows of forecasts to retrieve with one query
+     * @param retention the budget for the time-series events retrieved ahead of the time windows that need them
+     * @return a factory instance
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the timeWindowBatchSize is less than one
+     */
+
+    public static EnsembleRetrieverFactory of( Project project,
+                                               Database database,
+                                               DatabaseCaches caches,
+                                               int timeWindowBatchSize,
+                                               RetentionBudget retention )
+    {
+        return new EnsembleRetrieverFactory( project, database, caches, timeWindowBatchSize, retention );
     }
 
     @Override
@@ -104,23 +134,41 @@ public class EnsembleRetrieverFactory implements RetrieverFactory<Double, Ensemb
                       features,
                       timeWindow );
 
-        return this.getRightRetrieverBuilder( this.rightDataset.type() )
-                   .setEnsemblesCache( this.getEnsemblesCache() )
-                   .setDatabase( this.getDatabase() )
-                   .setFeaturesCache( this.getFeaturesCache() )
-                   .setMeasurementUnitsCache( this.getMeasurementUnitsCache() )
-                   .setProjectId( this.project.getId() )
-                   .setFeatures( features )
-                   .setVariable( this.project.getRightVariable() )
-                   .setDatasetOrientation( DatasetOrientation.RIGHT )
-                   .setDeclaredExistingTimeScale( this.getDeclaredExistingTimeScale( rightDataset ) )
-                   .setDesiredTimeScale( this.desiredTimeScale )
-                   .setSeasonStart( this.seasonStart )
-                   .setSeasonEnd( this.seasonEnd )
+        return this.getRightBuilder( features )
                    .setTimeWindow( timeWindow )
                    .build();
     }
 
+    /**
+     * Retrieves adjacent time windows together, up to the prescribed batch size.
+     *
+     * @param features the spatial features
+     * @param timeWindows the time windows
+     * @return a retriever for each time window
+     * @throws NullPointerException if any input is null
+     */
+
+    @Override
+    public Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Ensemble>>>> getRightRetrievers( Set<Feature> features,
+                                                                                            Set<TimeWindowOuter> timeWindows )
+    {
+        Objects.requireNonNull( features );
+        Objects.requireNonNull( timeWindows );
+
+        LOGGER.debug( "Creating right retrievers for project '{}', features '{}' and {} time windows.",
+                      this.project.getId(),
+                      features,
+                      timeWindows.size() );
+
+        return TimeWindowBatch.of( windows -> this.getRightBuilder( features )
+                                                  .setTimeWindows( windows )
+                                                  .build(),
+                                   window -> this.getRightRetriever( features, window ),
+                                   timeWindows,
+                                   this.timeWindowBatchSize,
+                                   this.retention );
+    }
+
     @Override
     public Supplier<Stream<TimeSeries<Ensemble>>> getBaselineRetriever( Set<Feature> features )
     {
@@ -175,6 +223,30 @@ public class EnsembleRetrieverFactory implements RetrieverFactory<Double, Ensemb
         return this.leftFactory.getCovariateRetriever( features, variableName, timeWindow );
     }
 
+    /**
+     * Returns a builder for a right-ish retriever without a time window.
+     *
+     * @param features the spatial features
+     * @return the builder
+     */
+
+    private TimeSeriesRetriever.Builder<Ensemble> getRightBuilder( Set<Feature> features )
+    {
+        return this.getRightRetrieverBuilder( this.rightDataset.type() )
+                   .setEnsemblesCache( this.getEnsemblesCache() )
+                   .setDatabase( this.getDatabase() )
+                   .setFeaturesCache( this.getFeaturesCache() )
+                   .setMeasurementUnitsCache( this.getMeasurementUnitsCache() )
+                   .setProjectId( this.project.getId() )
+                   .setFeatures( features )
+                   .setVariable( this.project.getRightVariable() )
+                   .setDatasetOrientation( DatasetOrientation.RIGHT )
+                   .setDeclaredExistingTimeScale( this.getDeclaredExistingTimeScale( rightDataset ) )
+                   .setDesiredTimeScale( this.desiredTimeScale )
+                   .setSeasonStart( this.seasonStart )
+                   .setSeasonEnd( this.seasonEnd );
+    }
+
     /**
      * Returns <code>true</code> if the project associated with this retriever factory has a baseline, otherwise
      * <code>false</code>.
@@ -273,16 +345,32 @@ public class EnsembleRetrieverFactory implements RetrieverFactory<Double, Ensemb
      * @param project the project
      * @param database the database,
      * @param caches the caches
+     * @param timeWindowBatchSize the maximum number of time windows of forecasts to retrieve with one query
+     * @param retention the budget for the time-series events retrieved ahead of the time windows that need them
      * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the timeWindowBatchSize is less than one
      */
 
     private EnsembleRetrieverFactory( Project project,
                                       Database database,
-                                      DatabaseCaches caches )
+                                      DatabaseCaches caches,
+                                      int timeWindowBatchSize,
+                                      RetentionBudget retention )
     {
         Objects.requireNonNull( project );
         Objects.requireNonNull( database );
         Objects.requireNonNull( caches );
+        Objects.requireNonNull( retention );
+
+        if ( timeWindowBatchSize < 1 )
+        {
+            throw new IllegalArgumentException( "The time window batch size must be at least one: "
+                                                + timeWindowBatchSize
+                                                + "." );
+        }
+
+        this.timeWindowBatchSize = timeWindowBatchSize;
+        this.retention = retention;
 
         this.project = project;
         this.database = database;
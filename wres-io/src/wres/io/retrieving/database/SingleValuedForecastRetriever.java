@@ -3,9 +3,11 @@ package wres.io.retrieving.database;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -34,6 +36,12 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
 
     private static final String ORDER_BY_METADATA = "ORDER BY metadata.series_id;";
 
+    /**
+     * <code>ORDER BY</code> clause when retrieving several time windows together.
+     */
+
+    private static final String ORDER_BY_WINDOW_AND_METADATA = "ORDER BY W.window_index, metadata.series_id;";
+
     /**
      * <code>GROUP BY</code> clause, which is repeated several times.
      */
@@ -85,7 +93,7 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
         this.validateForMultiSeriesRetrieval();
 
         Database database = super.getDatabase();
-        String start = this.getStartOfScriptForGetAllTimeSeries();
+        String start = this.getStartOfScriptForGetAllTimeSeries( false );
         DataScripter dataScripter = new DataScripter( database, start );
 
         // Add basic constraints at zero tabs
@@ -119,6 +127,62 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
     }
 
 
+    /**
+     * Overrides the default implementation to get the time-series for all time windows in one pull, rather than one
+     * pull for each time window.
+     *
+     * @param consumer the consumer of the time-series for each time window and the index of the time window
+     * @throws NullPointerException if the consumer is null
+     * @throws DataAccessException if the data could not be accessed for whatever reason
+     */
+
+    @Override
+    void getByTimeWindow( ObjIntConsumer<List<TimeSeries<Double>>> consumer )
+    {
+        Objects.requireNonNull( consumer );
+
+        this.validateForMultiSeriesRetrieval();
+
+        if ( this.getTimeWindows()
+                 .isEmpty() )
+        {
+            return;
+        }
+
+        Database database = super.getDatabase();
+        String start = this.getStartOfScriptForGetAllTimeSeries( true );
+        DataScripter dataScripter = new DataScripter( database, start );
+
+        // Add basic constraints at zero tabs
+        this.addProjectFeatureVariableAndMemberConstraints( dataScripter, 1 );
+
+        dataScripter.addTab().addLine( "GROUP BY S.source_id," );
+        dataScripter.addTab( 2 ).addLine( S_MEASUREMENTUNIT_ID );
+        dataScripter.addTab( 2 ).addLine( "TimeScale.duration_ms," );
+        dataScripter.addTab( 2 ).addLine( "TimeScale.function_name," );
+        dataScripter.addTab( 2 ).addLine( "TSRT.reference_time_type" );
+        dataScripter.addLine( ") AS metadata " );
+        dataScripter.addLine( "INNER JOIN wres.TimeSeries TS" );
+        dataScripter.addTab().addLine( "ON TS.source_id = metadata.series_id" );
+        dataScripter.addLine( "INNER JOIN wres.TimeSeriesValue TSV" );
+        dataScripter.addTab().addLine( "ON TSV.timeseries_id = TS.timeseries_id" );
+
+        // Add the time window constraints, one set for each time window
+        this.addTimeWindowsJoin( dataScripter );
+
+        // Add season constraint at one tab
+        this.addSeasonClause( dataScripter, 1 );
+
+        // Add ORDER BY clause
+        dataScripter.addLine( ORDER_BY_WINDOW_AND_METADATA );
+
+        // Log
+        super.logScript( dataScripter );
+
+        // Retrieve the time-series
+        this.getTimeSeriesByTimeWindowFromScript( dataScripter, this.getDataSupplier(), consumer );
+    }
+
     /**
      * Reads a time-series by <code>wres.TimeSeries.timeseries_id</code>.
      *
@@ -189,7 +253,7 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
         this.validateForMultiSeriesRetrieval();
 
         Database database = super.getDatabase();
-        String start = this.getStartOfScriptForGetAllTimeSeries();
+        String start = this.getStartOfScriptForGetAllTimeSeries( false );
         DataScripter dataScripter = new DataScripter( database, start );
 
         // Add basic constraints at zero tabs
@@ -259,10 +323,11 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
     /**
      * Returns the start of a script to acquire a time-series from the WRES database for all time-series.
      *
+     * @param byTimeWindow is true to select the index of the time window to which each event belongs
      * @return the start of a script for the time-series
      */
 
-    private String getStartOfScriptForGetAllTimeSeries()
+    private String getStartOfScriptForGetAllTimeSeries( boolean byTimeWindow )
     {
         ScriptBuilder scripter = new ScriptBuilder();
 
@@ -271,6 +336,11 @@ class SingleValuedForecastRetriever extends TimeSeriesRetriever<Double>
                                .isEmpty();
 
         scripter.addLine( SELECT );
+        if ( byTimeWindow )
+        {
+            scripter.addTab().addLine( "W.window_index," );
+        }
+
         scripter.addTab().addLine( "metadata.series_id AS series_id," );
         scripter.addTab().addLine( "metadata.reference_time + INTERVAL '1' "
                                    + DatabaseSettingsHelper.getLeadDurationString()
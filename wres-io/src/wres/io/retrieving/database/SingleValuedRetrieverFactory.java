@@ -3,6 +3,7 @@ package wres.io.retrieving.database;
 import java.time.Duration;
 import java.time.MonthDay;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -27,6 +28,7 @@ import wres.io.database.caching.MeasurementUnits;
 import wres.io.database.Database;
 import wres.io.project.Project;
 import wres.io.retrieving.DataAccessException;
+import wres.io.retrieving.RetentionBudget;
 import wres.io.retrieving.RetrieverFactory;
 import wres.io.retrieving.DuplicatePolicy;
 
@@ -76,8 +78,14 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
     /** Declared <code>desiredTimeScale</code>, if any. */
     private final TimeScaleOuter desiredTimeScale;
 
+    /** The maximum number of time windows of forecasts to retrieve with one query. */
+    private final int timeWindowBatchSize;
+
+    /** The budget for the forecast time-series events retrieved ahead of the time windows that need them. */
+    private final RetentionBudget retention;
+
     /**
-     * Returns an instance.
+     * Returns an instance that retrieves each time window separately.
      *
      * @param project the project
      * @param database the database
@@ -92,7 +100,35 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
     {
         return new SingleValuedRetrieverFactory( project,
                                                  database,
-                                                 caches );
+                                                 caches,
+                                                 1,
+                                                 RetentionBudget.of( 0 ) );
+    }
+
+    /**
+     * Returns an instance.
+     *
+     * @param project the project
+     * @param database the database
+     * @param caches the caches
+     * @param timeWindowBatchSize the maximum number of time windows of forecasts to retrieve with one query
+     * @param retention the budget for the time-series events retrieved ahead of the time windows that need them
+     * @return a factory instance
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the timeWindowBatchSize is less than one
+     */
+
+    public static SingleValuedRetrieverFactory of( Project project,
+                                                   Database database,
+                                                   DatabaseCaches caches,
+                                                   int timeWindowBatchSize,
+                                                   RetentionBudget retention )
+    {
+        return new SingleValuedRetrieverFactory( project,
+                                                 database,
+                                                 caches,
+                                                 timeWindowBatchSize,
+                                                 retention );
     }
 
     @Override
@@ -127,6 +163,43 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
                          Collections.emptySet() );
     }
 
+    /**
+     * Retrieves adjacent time windows of single-valued forecasts together, up to the prescribed batch size. Otherwise,
+     * retrieves each time window separately.
+     *
+     * @param features the spatial features
+     * @param timeWindows the time windows
+     * @return a retriever for each time window
+     * @throws NullPointerException if any input is null
+     */
+
+    @Override
+    public Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> getRightRetrievers( Set<Feature> features,
+                                                                                          Set<TimeWindowOuter> timeWindows )
+    {
+        Objects.requireNonNull( features );
+        Objects.requireNonNull( timeWindows );
+
+        if ( this.rightDataset.type() != DataType.SINGLE_VALUED_FORECASTS
+             || this.getProject()
+                    .usesGriddedData( DatasetOrientation.RIGHT ) )
+        {
+            return RetrieverFactory.super.getRightRetrievers( features, timeWindows );
+        }
+
+        return TimeWindowBatch.of( windows -> this.getBuilder( this.rightDataset,
+                                                               DatasetOrientation.RIGHT,
+                                                               features,
+                                                               null,
+                                                               Collections.emptySet() )
+                                                  .setTimeWindows( windows )
+                                                  .build(),
+                                   window -> this.getRightRetriever( features, window ),
+                                   timeWindows,
+                                   this.timeWindowBatchSize,
+                                   this.retention );
+    }
+
     @Override
     public Supplier<Stream<TimeSeries<Double>>> getBaselineRetriever( Set<Feature> features )
     {
@@ -191,6 +264,27 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
                                                       Set<Feature> features,
                                                       TimeWindowOuter timeWindow,
                                                       Set<CovariatePurpose> covariatePurposes )
+    {
+        return this.getBuilder( dataset, orientation, features, timeWindow, covariatePurposes )
+                   .build();
+    }
+
+    /**
+     * Returns a builder for a retriever of time-series.
+     *
+     * @param dataset the data source configuration
+     * @param orientation the orientation of the data source
+     * @param features the features
+     * @param timeWindow the time window, possibly null
+     * @param covariatePurposes the possibly empty set of covariate purposes for retrieval of a covariate
+     * @return the builder
+     */
+
+    private TimeSeriesRetriever.Builder<Double> getBuilder( Dataset dataset,
+                                                            DatasetOrientation orientation,
+                                                            Set<Feature> features,
+                                                            TimeWindowOuter timeWindow,
+                                                            Set<CovariatePurpose> covariatePurposes )
     {
         Objects.requireNonNull( dataset );
         Objects.requireNonNull( orientation );
@@ -266,7 +360,7 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
                    .setSeasonEnd( this.seasonEnd );
         }
 
-        return builder.build();
+        return builder;
     }
 
     /**
@@ -403,16 +497,32 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
      * @param project the project
      * @param database the database,
      * @param caches the caches
+     * @param timeWindowBatchSize the maximum number of time windows of forecasts to retrieve with one query
+     * @param retention the budget for the time-series events retrieved ahead of the time windows that need them
      * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the timeWindowBatchSize is less than one
      */
 
     private SingleValuedRetrieverFactory( Project project,
                                           Database database,
-                                          DatabaseCaches caches )
+                                          DatabaseCaches caches,
+                                          int timeWindowBatchSize,
+                                          RetentionBudget retention )
     {
         Objects.requireNonNull( project );
         Objects.requireNonNull( database );
         Objects.requireNonNull( caches );
+        Objects.requireNonNull( retention );
+
+        if ( timeWindowBatchSize < 1 )
+        {
+            throw new IllegalArgumentException( "The time window batch size must be at least one: "
+                                                + timeWindowBatchSize
+                                                + "." );
+        }
+
+        this.timeWindowBatchSize = timeWindowBatchSize;
+        this.retention = retention;
 
         this.project = project;
         this.database = database;
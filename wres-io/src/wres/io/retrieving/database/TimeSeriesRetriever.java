@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -80,6 +81,9 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
                                                                 + DatabaseSettingsHelper.getLeadDurationString()
                                                                 + " * ";
     private static final String LESS_EQUAL = " <= ?";
+    private static final String WINDOW_INDEX = "window_index";
+    private static final String CAST_TO_BIGINT = "CAST( ? AS BIGINT )";
+    private static final String CAST_TO_TIMESTAMP = "CAST( ? AS TIMESTAMP WITH TIME ZONE )";
 
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( TimeSeriesRetriever.class );
@@ -100,6 +104,9 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
     /** Time window filter. */
     private final TimeWindowOuter timeWindow;
 
+    /** Time windows whose time-series are retrieved together, one collection of time-series for each window. */
+    private final List<TimeWindowOuter> timeWindows;
+
     /** The desired timescale, which is used to adjust retrieval when a forecast lead duration ends within
      * the {@link #timeWindow} but starts outside it. */
     private final TimeScaleOuter desiredTimeScale;
@@ -164,6 +171,12 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
 
         private TimeWindowOuter timeWindow;
 
+        /**
+         * Time windows whose time-series are retrieved together.
+         */
+
+        private final List<TimeWindowOuter> timeWindows = new ArrayList<>();
+
         /**
          * The <code>wres.Project.project_id</code>.
          */
@@ -317,6 +330,24 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
             return this;
         }
 
+        /**
+         * Sets the time windows whose time-series are retrieved together with {@link #getByTimeWindow()}. Cannot be
+         * combined with a time window filter.
+         *
+         * @param timeWindows the time windows
+         * @return the builder
+         */
+
+        Builder<S> setTimeWindows( List<TimeWindowOuter> timeWindows )
+        {
+            if ( Objects.nonNull( timeWindows ) )
+            {
+                this.timeWindows.addAll( timeWindows );
+            }
+
+            return this;
+        }
+
         /**
          * Sets the desired timescale, which is used to adjust retrieval when a forecast lead duration ends within
          * the {@link #timeWindow} but starts outside it.
@@ -382,6 +413,33 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
 
     abstract boolean isForecast();
 
+    /**
+     * Retrieves the time-series for each of the {@link #getTimeWindows()} with one statement, rather than one statement
+     * for each time window. The time-series for each window are the same as those retrieved by {@link #get()} when the
+     * window is the time window filter. The time-series are supplied to the consumer one time window at a time, in the
+     * order of the time windows and together with the index of the time window, so that only one time window is held
+     * here and the consumer decides which time windows to retain. A time window without any time-series is not
+     * supplied.
+     *
+     * <p>Only the forecast retrievers whose time column is a reference time support retrieval by time window, namely
+     * the {@link SingleValuedForecastRetriever} and the {@link EnsembleForecastRetriever}, which override this default.
+     * Accordingly, the retriever factories only batch the time windows of those retrievers.
+     *
+     * @param consumer the consumer of the time-series for each time window and the index of the time window
+     * @throws NullPointerException if the consumer is null
+     * @throws UnsupportedOperationException if the retriever does not support retrieval by time window
+     * @throws DataAccessException if the data could not be accessed for whatever reason
+     */
+
+    void getByTimeWindow( ObjIntConsumer<List<TimeSeries<T>>> consumer )
+    {
+        throw new UnsupportedOperationException( "Retrieval of time-series for several time windows together is not "
+                                                 + "supported by "
+                                                 + this.getClass()
+                                                       .getSimpleName()
+                                                 + "." );
+    }
+
     /**
      * @return the database.
      */
@@ -512,6 +570,193 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
         }
     }
 
+    /**
+     * Creates the {@link TimeSeries} for each of the {@link #getTimeWindows()} from a script that retrieves time-series
+     * data for several time windows together. Assumes that the script returns a <code>window_index</code> column, which
+     * is the index of the time window within {@link #getTimeWindows()}, and that the time-series events are ordered by
+     * window index and then by time-series id. A time-series that appears in more than one time window is supplied once
+     * for each time window, containing the events that fall within that window. The time-series for each time window
+     * are supplied to the consumer as soon as the time window is complete, so that only one time window is held here.
+     *
+     * @param <S> the time-series data type
+     * @param scripter the scripter
+     * @param mapper a function that retrieves a time-series value from a prescribed column in a {@link DataProvider}
+     * @param consumer the consumer of the time-series for each time window and the index of the time window
+     * @throws NullPointerException if any input is null
+     * @throws DataAccessException if the data could not be accessed for any reason
+     */
+
+    <S> void getTimeSeriesByTimeWindowFromScript( DataScripter scripter,
+                                                  Function<DataProvider, Event<S>> mapper,
+                                                  ObjIntConsumer<List<TimeSeries<S>>> consumer )
+    {
+        Objects.requireNonNull( scripter );
+        Objects.requireNonNull( mapper );
+        Objects.requireNonNull( consumer );
+
+        LOGGER.debug( "Submitting a script to obtain time-series data for {} time windows from an underlying data "
+                      + "store.",
+                      this.getTimeWindows()
+                          .size() );
+
+        // JFR monitoring, no single time window
+        RetrievalEvent retrievalEvent = RetrievalEvent.of( this.getDatasetOrientation(),
+                                                           null,
+                                                           this.getFeatures(),
+                                                           this.getVariable()
+                                                               .name() );
+
+        retrievalEvent.begin();
+
+        // Last series, builder, scale and id
+        TimeSeries.Builder<S> lastBuilder = new TimeSeries.Builder<>();
+        AtomicReference<TimeScaleOuter> lastScale = new AtomicReference<>();
+        AtomicLong lastSeriesId = new AtomicLong( -1 );
+        AtomicInteger replicateCount = new AtomicInteger();
+        int lastWindowIndex = -1;
+        List<TimeSeries<S>> windowSeries = new ArrayList<>();
+
+        // Unlike a stream of time-series, the results are read in full before returning, so the connection is closed
+        // here
+        try ( Connection connection = this.getDatabase()
+                                          .getConnection();
+              DataProvider provider = scripter.buffer( connection ) )
+        {
+            retrievalEvent.commit();
+
+            while ( provider.next() )
+            {
+                int windowIndex = provider.getInt( WINDOW_INDEX );
+
+                // New time window, so complete the last time-series of the last window and supply the last window
+                if ( lastWindowIndex != -1
+                     && windowIndex != lastWindowIndex )
+                {
+                    List<TimeSeries<S>> completed = this.completeSeries( lastBuilder,
+                                                                         lastSeriesId,
+                                                                         replicateCount,
+                                                                         lastScale );
+                    windowSeries.addAll( completed );
+                    consumer.accept( Collections.unmodifiableList( windowSeries ), lastWindowIndex );
+                    windowSeries = new ArrayList<>();
+                }
+
+                lastWindowIndex = windowIndex;
+
+                List<TimeSeries<S>> completed = this.incrementOrCompleteSeries( mapper,
+                                                                                provider,
+                                                                                lastBuilder,
+                                                                                lastSeriesId,
+                                                                                replicateCount,
+                                                                                lastScale );
+                windowSeries.addAll( completed );
+            }
+
+            // Complete the final time-series and supply the final window, if any
+            if ( lastWindowIndex != -1 )
+            {
+                List<TimeSeries<S>> completed = this.completeSeries( lastBuilder,
+                                                                     lastSeriesId,
+                                                                     replicateCount,
+                                                                     lastScale );
+                windowSeries.addAll( completed );
+                consumer.accept( Collections.unmodifiableList( windowSeries ), lastWindowIndex );
+            }
+        }
+        catch ( SQLException e )
+        {
+            throw new DataAccessException( "Failed to access the time-series data.", e );
+        }
+    }
+
+    /**
+     * Adds a join to the retrieval script that selects the time-series events within each of the
+     * {@link #getTimeWindows()} and labels them with the <code>W.window_index</code> of the time window. The bounds of
+     * each time window are applied in the same way as {@link #addTimeWindowClause(DataScripter)}, which allows several
+     * time windows to be retrieved with one statement. An event that falls within more than one time window is
+     * returned once for each time window. Only supported for forecasts whose time column is a reference time.
+     *
+     * @param script the script to augment
+     * @throws NullPointerException if the input is null
+     * @throws IllegalStateException if there are no time windows or the retriever does not support the join
+     */
+
+    void addTimeWindowsJoin( DataScripter script )
+    {
+        Objects.requireNonNull( script );
+
+        if ( this.getTimeWindows()
+                 .isEmpty() )
+        {
+            throw new IllegalStateException( "Cannot add a join on time windows without any time windows." );
+        }
+
+        if ( !this.isForecast()
+             || !this.timeColumnIsReferenceTime() )
+        {
+            throw new IllegalStateException( "Cannot add a join on time windows for a retriever of "
+                                             + this.getDatasetOrientation()
+                                             + " time-series whose time column is not a reference time." );
+        }
+
+        script.addLine( "INNER JOIN ( VALUES" );
+
+        List<TimeWindowOuter> windows = this.getTimeWindows();
+        for ( int i = 0; i < windows.size(); i++ )
+        {
+            TimeWindowOuter window = windows.get( i );
+            String separator = i < windows.size() - 1 ? "," : "";
+            script.addTab()
+                  .addLine( "( "
+                            + i
+                            + ", "
+                            + CAST_TO_BIGINT
+                            + ", "
+                            + CAST_TO_BIGINT
+                            + ", "
+                            + CAST_TO_TIMESTAMP
+                            + ", "
+                            + CAST_TO_TIMESTAMP
+                            + ", "
+                            + CAST_TO_TIMESTAMP
+                            + ", "
+                            + CAST_TO_TIMESTAMP
+                            + " )"
+                            + separator );
+
+            // Unbounded limits are null
+            script.addArgument( this.getLeadOrNull( window.getEarliestLeadDuration() ) );
+            script.addArgument( this.getLeadOrNull( window.getLatestLeadDuration() ) );
+            script.addArgument( this.getTimeOrNull( window.getEarliestReferenceTime() ) );
+            script.addArgument( this.getTimeOrNull( window.getLatestReferenceTime() ) );
+            script.addArgument( this.getTimeOrNull( window.getEarliestValidTime() ) );
+            script.addArgument( this.getTimeOrNull( window.getLatestValidTime() ) );
+        }
+
+        script.addLine( ") AS W ( window_index, earliest_lead, latest_lead, earliest_reference_time, "
+                        + "latest_reference_time, earliest_valid_time, latest_valid_time )" );
+
+        String validTime = this.getTimeColumnName()
+                           + INTERVAL_1_LEAD_DURATION_UNIT
+                           + this.getLeadDurationColumnName();
+
+        script.addTab()
+              .addLine( "ON ",
+                        this.getTimeWindowsJoinPredicate( this.getLeadDurationColumnName(),
+                                                          "W.earliest_lead",
+                                                          "W.latest_lead" ) );
+        script.addTab()
+              .addLine( "AND ",
+                        this.getTimeWindowsJoinPredicate( this.getTimeColumnName(),
+                                                          "W.earliest_reference_time",
+                                                          "W.latest_reference_time" ) );
+        script.addTab()
+              .addLine( "AND ",
+                        this.getTimeWindowsJoinPredicate( validTime,
+                                                          "W.earliest_valid_time",
+                                                          "W.latest_valid_time" ) );
+    }
+
     /**
      * Adds a {@link TimeWindowOuter} constraint to the retrieval script, if available. All intervals are treated as
      * right-closed.
@@ -695,6 +940,17 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
         return this.timeWindow;
     }
 
+    /**
+     * Returns the time windows whose time-series are retrieved together.
+     *
+     * @return the time windows, possibly empty
+     */
+
+    List<TimeWindowOuter> getTimeWindows()
+    {
+        return this.timeWindows;
+    }
+
     /**
      * Returns the desired timescale.
      *
@@ -1701,6 +1957,106 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
         }
     }
 
+    /**
+     * Returns a join predicate that selects values of a column within bounds, which may be null when unbounded. As for
+     * a single time window filter, the interval is right-closed, unless the bounds are equal, in which case the value
+     * must equal the bounds.
+     *
+     * @param column the column or expression to constrain
+     * @param lower the lower bound column
+     * @param upper the upper bound column
+     * @return the predicate
+     */
+
+    private String getTimeWindowsJoinPredicate( String column, String lower, String upper )
+    {
+        return "( "
+               + lower
+               + " IS NULL OR "
+               + column
+               + " > "
+               + lower
+               + " OR ( "
+               + lower
+               + " = "
+               + upper
+               + " AND "
+               + column
+               + " = "
+               + lower
+               + " ) ) AND ( "
+               + upper
+               + " IS NULL OR "
+               + column
+               + " <= "
+               + upper
+               + " )";
+    }
+
+    /**
+     * @param lead the lead duration
+     * @return the lead duration in database units or null if unbounded
+     */
+
+    private Long getLeadOrNull( Duration lead )
+    {
+        if ( lead.equals( TimeWindowOuter.DURATION_MIN )
+             || lead.equals( TimeWindowOuter.DURATION_MAX ) )
+        {
+            return null;
+        }
+
+        return DataUtilities.durationToNumericUnits( lead, DatabaseSettings.LEAD_DURATION_UNIT )
+                            .longValue();
+    }
+
+    /**
+     * @param time the time
+     * @return the time in UTC or null if unbounded
+     */
+
+    private OffsetDateTime getTimeOrNull( Instant time )
+    {
+        if ( time.equals( Instant.MIN )
+             || time.equals( Instant.MAX ) )
+        {
+            return null;
+        }
+
+        return OffsetDateTime.ofInstant( time, ZoneId.of( "UTC" ) );
+    }
+
+    /**
+     * Completes the last time-series, if any, and resets the builder and state for re-use.
+     *
+     * @param <S> the time-series event value type
+     * @param lastBuilder the builder for the last time-series
+     * @param lastSeriesId the last time-series id
+     * @param replicateCount the number of replicates of the last series
+     * @param lastScale the last timescale
+     * @return the replicates of the completed time-series, possibly empty
+     */
+
+    private <S> List<TimeSeries<S>> completeSeries( TimeSeries.Builder<S> lastBuilder,
+                                                    AtomicLong lastSeriesId,
+                                                    AtomicInteger replicateCount,
+                                                    AtomicReference<TimeScaleOuter> lastScale )
+    {
+        if ( lastSeriesId.get() == -1 )
+        {
+            return List.of();
+        }
+
+        TimeSeries<S> replicate = lastBuilder.build();
+        List<TimeSeries<S>> replicates = this.getReplicates( replicate, replicateCount.get() );
+
+        lastBuilder.clear();
+        lastScale.set( null );
+        lastSeriesId.set( -1 );
+
+        return replicates;
+    }
+
     /**
      * Returns the time column name.
      *
@@ -1743,6 +2099,7 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
         this.features = Set.copyOf( builder.features );
         this.orientation = builder.orientation;
         this.timeWindow = builder.timeWindow;
+        this.timeWindows = List.copyOf( builder.timeWindows );
         this.desiredTimeScale = builder.desiredTimeScale;
         this.declaredExistingTimeScale = builder.declaredExistingTimeScale;
         this.seasonStart = builder.seasonStart;
@@ -1772,6 +2129,12 @@ abstract class TimeSeriesRetriever<T> implements Retriever<TimeSeries<T>>
             throw new IllegalArgumentException( validationStart + "set of one or more features." );
         }
 
+        if ( Objects.nonNull( this.timeWindow ) && !this.timeWindows.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Cannot build a time-series retriever with both a time window filter "
+                                                + "and a collection of time windows to retrieve together." );
+        }
+
         // Log missing information
         if ( LOGGER.isDebugEnabled() )
         {
@@ -0,0 +1,348 @@
+package wres.io.retrieving.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.io.retrieving.RetentionBudget;
+
+/**
+ * <p>Retrieves the time-series for a batch of adjacent time windows with one query, using
+ * {@link TimeSeriesRetriever#getByTimeWindow(java.util.function.ObjIntConsumer)}, and supplies them one time window at
+ * a time. The query is issued when the time-series for any time window in the batch are first requested. The
+ * time-series for the requested time window are supplied at once. The time-series for the other time windows are held
+ * until they are requested only while they fit within a {@link RetentionBudget}, which is shared by all batches and
+ * released as each time window is supplied. The time-series for a time window that was not held, or that is requested
+ * more than once, are retrieved again, separately.
+ *
+ * <p>The batch is queried once, by the first caller, and concurrent callers wait for that query rather than repeating
+ * it. Each batch registers with the {@link RetentionBudget}, which discards the batch when the held time-series will
+ * not be requested, such as when a pool fails or the evaluation ends. A discarded batch releases the time-series it
+ * holds and the time-series for any time window requested afterwards are retrieved separately.
+ *
+ * @param <T> the time-series event value type
+ * @author James Brown
+ */
+
+final class TimeWindowBatch<T>
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( TimeWindowBatch.class );
+
+    /** Creates a retriever for all time windows in the batch. */
+    private final Function<List<TimeWindowOuter>, TimeSeriesRetriever<T>> batchRetriever;
+
+    /** Creates a retriever for one time window. */
+    private final Function<TimeWindowOuter, Supplier<Stream<TimeSeries<T>>>> windowRetriever;
+
+    /** The time windows in the batch. */
+    private final List<TimeWindowOuter> timeWindows;
+
+    /** The budget for the time-series events that are held until requested. */
+    private final RetentionBudget retention;
+
+    /** The time-series that have been retrieved and not yet supplied. */
+    private final Map<TimeWindowOuter, Retained<T>> timeSeries = new ConcurrentHashMap<>();
+
+    /** The query of the batch, which completes when the query completes, or null before the query. Guarded by this. */
+    private CompletableFuture<Void> retrieval;
+
+    /** Is true when the batch has been discarded. */
+    private volatile boolean discarded;
+
+    /**
+     * Returns a retriever for each time window, which retrieves the time windows in batches of adjacent time windows.
+     * When the retention budget does not allow any events to be held, the time windows are not batched.
+     *
+     * @param <T> the time-series event value type
+     * @param batchRetriever creates a retriever for a batch of time windows
+     * @param windowRetriever creates a retriever for one time window
+     * @param timeWindows the time windows
+     * @param batchSize the maximum number of time windows in a batch
+     * @param retention the budget for the time-series events that are held until requested
+     * @return a retriever for each time window
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the batch size is less than one
+     */
+
+    static <T> Map<TimeWindowOuter, Supplier<Stream<TimeSeries<T>>>> of( Function<List<TimeWindowOuter>, TimeSeriesRetriever<T>> batchRetriever,
+                                                                         Function<TimeWindowOuter, Supplier<Stream<TimeSeries<T>>>> windowRetriever,
+                                                                         Set<TimeWindowOuter> timeWindows,
+                                                                         int batchSize,
+                                                                         RetentionBudget retention )
+    {
+        Objects.requireNonNull( batchRetriever );
+        Objects.requireNonNull( windowRetriever );
+        Objects.requireNonNull( timeWindows );
+        Objects.requireNonNull( retention );
+
+        if ( batchSize < 1 )
+        {
+            throw new IllegalArgumentException( "The batch size must be at least one: " + batchSize + "." );
+        }
+
+        // Adjacent time windows in natural order
+        List<TimeWindowOuter> sorted = new ArrayList<>( new TreeSet<>( timeWindows ) );
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<T>>>> retrievers = new HashMap<>();
+
+        // Nothing to batch
+        if ( batchSize == 1
+             || sorted.size() < 2
+             || retention.getMaximumEvents() == 0 )
+        {
+            sorted.forEach( next -> retrievers.put( next, windowRetriever.apply( next ) ) );
+
+            return Collections.unmodifiableMap( retrievers );
+        }
+
+        for ( int i = 0; i < sorted.size(); i += batchSize )
+        {
+            List<TimeWindowOuter> windows = List.copyOf( sorted.subList( i, Math.min( i + batchSize,
+                                                                                   sorted.size() ) ) );
+            TimeWindowBatch<T> batch = new TimeWindowBatch<>( batchRetriever, windowRetriever, windows, retention );
+            windows.forEach( next -> retrievers.put( next, () -> batch.get( next ) ) );
+        }
+
+        LOGGER.debug( "Created retrievers for {} time windows in batches of up to {} time windows with {}.",
+                      sorted.size(),
+                      batchSize,
+                      retention );
+
+        return Collections.unmodifiableMap( retrievers );
+    }
+
+    /**
+     * Returns the time-series for a time window in the batch.
+     *
+     * @param timeWindow the time window
+     * @return the time-series
+     */
+
+    private Stream<TimeSeries<T>> get( TimeWindowOuter timeWindow )
+    {
+        this.retrieve( timeWindow );
+
+        List<TimeSeries<T>> series = this.release( timeWindow );
+
+        // Not held, supplied already or discarded, so retrieve again
+        if ( Objects.isNull( series ) )
+        {
+            LOGGER.debug( "The time-series for time window {} were not held, were requested more than once or were "
+                          + "discarded and will be retrieved again.",
+                          timeWindow );
+
+            return this.windowRetriever.apply( timeWindow )
+                                       .get();
+        }
+
+        return series.stream();
+    }
+
+    /**
+     * Retrieves the time-series for all time windows in the batch unless they were retrieved already or the batch was
+     * discarded. The batch is queried once, by the first caller, without holding the lock of this instance, and any
+     * concurrent callers wait for the query to complete.
+     *
+     * @param timeWindow the requested time window
+     */
+
+    private void retrieve( TimeWindowOuter timeWindow )
+    {
+        CompletableFuture<Void> future;
+        boolean query = false;
+
+        synchronized ( this )
+        {
+            if ( Objects.isNull( this.retrieval ) )
+            {
+                // Nothing to retrieve
+                if ( this.discarded )
+                {
+                    return;
+                }
+
+                this.retrieval = new CompletableFuture<>();
+                query = true;
+            }
+
+            future = this.retrieval;
+        }
+
+        if ( query )
+        {
+            this.query( timeWindow, future );
+        }
+        else
+        {
+            future.join();
+        }
+    }
+
+    /**
+     * Queries the time-series for all time windows in the batch. If the query fails, the batch is discarded, so that
+     * any concurrent callers retrieve their time windows separately, and the failure is propagated to this caller.
+     *
+     * @param timeWindow the requested time window
+     * @param future the future that completes when the query completes
+     */
+
+    private void query( TimeWindowOuter timeWindow, CompletableFuture<Void> future )
+    {
+        this.retention.register( this::discard );
+
+        try
+        {
+            // A time window without any time-series is not supplied by the retriever, so it begins empty
+            this.timeWindows.forEach( next -> this.hold( next, new Retained<>( List.of(), 0 ) ) );
+
+            this.batchRetriever.apply( this.timeWindows )
+                               .getByTimeWindow( ( series, index ) -> this.retain( this.timeWindows.get( index ),
+                                                                                   series,
+                                                                                   timeWindow ) );
+        }
+        catch ( RuntimeException e )
+        {
+            this.discard();
+            throw e;
+        }
+        finally
+        {
+            future.complete( null );
+        }
+    }
+
+    /**
+     * Holds the time-series for a time window until requested, if they fit within the retention budget. The time-series
+     * for the requested time window are supplied at once and are not counted against the budget.
+     *
+     * @param timeWindow the time window
+     * @param series the time-series for the time window
+     * @param requested the requested time window
+     */
+
+    private void retain( TimeWindowOuter timeWindow, List<TimeSeries<T>> series, TimeWindowOuter requested )
+    {
+        if ( timeWindow.equals( requested ) )
+        {
+            this.hold( timeWindow, new Retained<>( series, 0 ) );
+            return;
+        }
+
+        long events = series.stream()
+                            .mapToLong( next -> next.getEvents()
+                                                    .size() )
+                            .sum();
+
+        if ( this.retention.tryRetain( events ) )
+        {
+            this.hold( timeWindow, new Retained<>( series, events ) );
+        }
+        else
+        {
+            this.timeSeries.remove( timeWindow );
+
+            LOGGER.debug( "The {} time-series events for time window {} did not fit within the {} and will be "
+                          + "retrieved separately when requested.",
+                          events,
+                          timeWindow,
+                          this.retention );
+        }
+    }
+
+    /**
+     * Holds the time-series for a time window, unless the batch was discarded, in which case they are released at once.
+     *
+     * @param timeWindow the time window
+     * @param retained the time-series to hold
+     */
+
+    private void hold( TimeWindowOuter timeWindow, Retained<T> retained )
+    {
+        this.timeSeries.put( timeWindow, retained );
+
+        // Discarded concurrently, so do not hold
+        if ( this.discarded )
+        {
+            this.release( timeWindow );
+        }
+    }
+
+    /**
+     * Removes the time-series held for a time window and releases their events to the retention budget.
+     *
+     * @param timeWindow the time window
+     * @return the time-series or null if they were not held
+     */
+
+    private List<TimeSeries<T>> release( TimeWindowOuter timeWindow )
+    {
+        Retained<T> retained = this.timeSeries.remove( timeWindow );
+
+        if ( Objects.isNull( retained ) )
+        {
+            return null;
+        }
+
+        this.retention.release( retained.events() );
+
+        return retained.timeSeries();
+    }
+
+    /**
+     * Discards the batch, releasing all time-series that are held. The time-series for any time window that is
+     * requested afterwards are retrieved separately.
+     */
+
+    private void discard()
+    {
+        this.discarded = true;
+        this.timeWindows.forEach( this::release );
+
+        LOGGER.debug( "Discarded the batch of time windows {}.", this.timeWindows );
+    }
+
+    /**
+     * The time-series for a time window and the number of events counted against the retention budget.
+     *
+     * @param <T> the time-series event value type
+     * @param timeSeries the time-series
+     * @param events the number of events counted against the retention budget
+     */
+
+    private record Retained<T>( List<TimeSeries<T>> timeSeries, long events ) {}
+
+    /**
+     * Hidden constructor.
+     *
+     * @param batchRetriever creates a retriever for the batch of time windows
+     * @param windowRetriever creates a retriever for one time window
+     * @param timeWindows the time windows in the batch
+     * @param retention the budget for the time-series events that are held until requested
+     */
+
+    private TimeWindowBatch( Function<List<TimeWindowOuter>, TimeSeriesRetriever<T>> batchRetriever,
+                             Function<TimeWindowOuter, Supplier<Stream<TimeSeries<T>>>> windowRetriever,
+                             List<TimeWindowOuter> timeWindows,
+                             RetentionBudget retention )
+    {
+        this.batchRetriever = batchRetriever;
+        this.windowRetriever = windowRetriever;
+        this.timeWindows = timeWindows;
+        this.retention = retention;
+    }
+}
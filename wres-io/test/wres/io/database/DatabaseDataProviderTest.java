@@ -0,0 +1,44 @@
+package wres.io.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import wres.datamodel.MissingValues;
+
+/**
+ * Tests the {@link DatabaseDataProvider}.
+ */
+
+public class DatabaseDataProviderTest
+{
+    @Test
+    public void testParseDoubles()
+    {
+        double[] actual = DatabaseDataProvider.parseDoubles( "{1.5,-2,NULL,NaN,-Infinity,1e-05}" );
+        double[] expected = { 1.5, -2, MissingValues.DOUBLE, Double.NaN, Double.NEGATIVE_INFINITY, 1.0E-5 };
+
+        assertArrayEquals( expected, actual, 0.0 );
+    }
+
+    @Test
+    public void testParseDoublesWhenEmpty()
+    {
+        assertArrayEquals( new double[0], DatabaseDataProvider.parseDoubles( "{}" ), 0.0 );
+    }
+
+    @Test
+    public void testParseLongs()
+    {
+        long[] actual = DatabaseDataProvider.parseLongs( "{3,-17,9223372036854775807}" );
+
+        assertArrayEquals( new long[] { 3, -17, Long.MAX_VALUE }, actual );
+    }
+
+    @Test
+    public void testParseLongsThrowsExpectedExceptionWhenNull()
+    {
+        assertThrows( NumberFormatException.class, () -> DatabaseDataProvider.parseLongs( "{1,NULL}" ) );
+    }
+}
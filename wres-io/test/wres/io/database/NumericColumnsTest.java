@@ -0,0 +1,84 @@
+package wres.io.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link NumericColumns}.
+ */
+
+public class NumericColumnsTest
+{
+    private NumericColumns columns;
+
+    @Before
+    public void runBeforeEachTest()
+    {
+        this.columns = NumericColumns.of( List.of( "timeseries_id", "lead", "series_value" ),
+                                          List.of( NumericColumns.Type.INTEGER,
+                                                   NumericColumns.Type.BIGINT,
+                                                   NumericColumns.Type.DOUBLE ) );
+    }
+
+    @Test
+    public void testAddRowsBeyondInitialCapacity()
+    {
+        int rowCount = 5000;
+        for ( int i = 0; i < rowCount; i++ )
+        {
+            this.columns.addRow();
+            this.columns.setLong( 0, i );
+            this.columns.setLong( 1, i * 3600L );
+
+            // Every tenth value is null
+            if ( i % 10 != 0 )
+            {
+                this.columns.setDouble( 2, i + 0.5 );
+            }
+        }
+
+        assertEquals( rowCount, this.columns.getRowCount() );
+        assertEquals( 4321, this.columns.getLong( 0, 4321 ) );
+        assertEquals( 4321 * 3600L, this.columns.getLong( 1, 4321 ) );
+        assertEquals( 4321.5, this.columns.getDouble( 2, 4321 ), 0.0 );
+        assertFalse( this.columns.isNull( 2, 4321 ) );
+        assertTrue( this.columns.isNull( 2, 4320 ) );
+    }
+
+    @Test
+    public void testMaximumBinaryRowBytes()
+    {
+        // Field count + ( length + int4 ) + ( length + int8 ) + ( length + float8 )
+        assertEquals( 2 + 8 + 12 + 12, this.columns.getMaximumBinaryRowBytes() );
+    }
+
+    @Test
+    public void testSetValueOfWrongTypeThrowsExpectedException()
+    {
+        this.columns.addRow();
+
+        assertThrows( IllegalArgumentException.class, () -> this.columns.setDouble( 0, 1.0 ) );
+        assertThrows( IllegalArgumentException.class, () -> this.columns.setLong( 2, 1 ) );
+    }
+
+    @Test
+    public void testSetIntegerThatOverflowsThrowsExpectedException()
+    {
+        this.columns.addRow();
+
+        assertThrows( IllegalArgumentException.class, () -> this.columns.setLong( 0, Integer.MAX_VALUE + 1L ) );
+    }
+
+    @Test
+    public void testSetValueBeforeAddingRowThrowsExpectedException()
+    {
+        assertThrows( IllegalStateException.class, () -> this.columns.setLong( 0, 1 ) );
+    }
+}
@@ -210,6 +210,10 @@ public class TestDatabase
                                              new ClassLoaderResourceAccessor(),
                                              liquibaseDatabase );
         liquibase2.update( new Contexts() );
+        Liquibase liquibase3 = new Liquibase( "database/wres.Source_v9.xml",
+                                             new ClassLoaderResourceAccessor(),
+                                             liquibaseDatabase );
+        liquibase3.update( new Contexts() );
     }
 
 
@@ -2,7 +2,9 @@ package wres.io.database.details;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Random;
 
 import com.zaxxer.hikari.HikariDataSource;
@@ -15,6 +17,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -93,6 +97,39 @@ public class SourceDetailsTest
         this.testDatabase.dropLiquibaseChangeTables( this.rawConnection );
     }
 
+    @Test
+    public void saveSourceDetailsUpgradesSourceWithLegacyHash() throws SQLException, LiquibaseException
+    {
+        // Add the source table
+        this.testDatabase.createSourceTable( this.liquibaseDatabase );
+
+        // A source ingested with the legacy hash
+        SourceDetails legacySource = this.getSourceDetails( "ABC123", 1 );
+        legacySource.save( this.wresDatabase );
+
+        // The same time-series identified with the current hash
+        SourceDetails sourceDetails = this.getSourceDetails( "DEF456", 2 );
+        sourceDetails.setLegacyHash( "ABC123" );
+        sourceDetails.save( this.wresDatabase );
+
+        assertFalse( "Expected the source with the legacy hash to be found rather than inserted.",
+                     sourceDetails.performedInsert() );
+        assertEquals( legacySource.getId(), sourceDetails.getId() );
+
+        try ( Statement statement = this.rawConnection.createStatement();
+              ResultSet resultSet = statement.executeQuery( "SELECT hash, hash_version FROM wres.Source" ) )
+        {
+            assertTrue( resultSet.next() );
+            assertEquals( "DEF456", resultSet.getString( "hash" ) );
+            assertEquals( 2, resultSet.getInt( "hash_version" ) );
+            assertFalse( "Expected no duplicate source.", resultSet.next() );
+        }
+
+        // Remove the source table now that assertions have finished.
+        this.testDatabase.dropSourceTable( this.rawConnection );
+        this.testDatabase.dropLiquibaseChangeTables( this.rawConnection );
+    }
+
     @After
     public void tearDown() throws SQLException
     {
@@ -103,4 +140,19 @@ public class SourceDetailsTest
         this.dataSource = null;
     }
 
+    /**
+     * @param hash the hash
+     * @param hashVersion the hash version
+     * @return the source details for a vector time-series
+     */
+    private SourceDetails getSourceDetails( String hash, int hashVersion )
+    {
+        SourceDetails sourceDetails = new SourceDetails( hash );
+        sourceDetails.setHashVersion( hashVersion );
+        sourceDetails.setVariableName( "V" );
+        sourceDetails.setMeasurementUnitId( 1L );
+        sourceDetails.setFeatureId( 1L );
+        return sourceDetails;
+    }
+
 }
@@ -1,8 +1,21 @@
 package wres.io.database.locking;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DatabaseLockManagerPostgresTest
 {
@@ -21,4 +34,74 @@ public class DatabaseLockManagerPostgresTest
         Integer secondLockName = DatabaseLockManagerPostgres.getIntegerLockNameFromLong( second );
         assertEquals( firstLockName, secondLockName );
     }
+
+    /**
+     * Verify that a batched lock manager opens a pair of connections for each
+     * stripe and locks and unlocks a source on both connections of its stripe.
+     */
+    @Test
+    public void TestBatchedLockSourceUsesBothConnectionsOfStripe() throws SQLException
+    {
+        List<String> queries = new ArrayList<>();
+        AtomicInteger connectionCount = new AtomicInteger();
+        Supplier<Connection> connections = () -> {
+            connectionCount.incrementAndGet();
+            return this.getConnection( queries );
+        };
+
+        DatabaseLockManager lockManager = DatabaseLockManagerPostgres.ofBatched( connections, 16 );
+
+        try
+        {
+            // Two stripes
+            assertEquals( 4, connectionCount.get() );
+
+            assertTrue( lockManager.lockSource( 5L ) );
+            assertTrue( lockManager.unlockSource( 5L ) );
+        }
+        finally
+        {
+            lockManager.shutdown();
+        }
+
+        List<String> expected = List.of( "SELECT pg_try_advisory_lock( 2, 5 )",
+                                         "SELECT pg_try_advisory_lock( 2, -5 )",
+                                         "SELECT pg_advisory_unlock( 2, 5 )",
+                                         "SELECT pg_advisory_unlock( 2, -5 )" );
+        assertEquals( expected, queries );
+    }
+
+    /**
+     * @param queries the queries executed
+     * @return a connection on which every query succeeds
+     * @throws IllegalStateException if the mocking fails
+     */
+    private Connection getConnection( List<String> queries )
+    {
+        try
+        {
+            ResultSet resultSet = mock( ResultSet.class );
+            when( resultSet.next() ).thenReturn( true );
+            when( resultSet.getBoolean( 1 ) ).thenReturn( true );
+
+            Statement statement = mock( Statement.class );
+            when( statement.executeQuery( anyString() ) ).thenAnswer( invocation -> {
+                synchronized ( queries )
+                {
+                    queries.add( invocation.getArgument( 0 ) );
+                }
+                return resultSet;
+            } );
+
+            Connection connection = mock( Connection.class );
+            when( connection.createStatement() ).thenReturn( statement );
+            when( connection.isValid( 1 ) ).thenReturn( true );
+
+            return connection;
+        }
+        catch ( SQLException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
 }
@@ -1,9 +1,14 @@
 package wres.io.ingesting;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -12,12 +17,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import wres.config.components.DataType;
 import wres.config.components.DatasetOrientation;
+import wres.config.components.EvaluationDeclaration;
+import wres.config.components.EvaluationDeclarationBuilder;
 import wres.datamodel.MissingValues;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesSlicer;
 import wres.datamodel.time.TimeSeriesStore;
 import wres.io.TestData;
 import wres.io.ingesting.memory.InMemoryTimeSeriesIngester;
+import wres.io.ingesting.memory.TimeSeriesSourceCache;
 import wres.reading.DataSource;
 import wres.reading.TimeSeriesTuple;
 
@@ -68,4 +76,48 @@ class InMemoryTimeSeriesIngesterTest
         assertAll( () -> assertEquals( expected, actual ),
                    () -> assertFalse( results.get( 0 ).hasNonMissingData() ) );
     }
+
+    @Test
+    void testIngestDrawsFromSourceCacheUntilFileChanges( @TempDir Path directory ) throws IOException
+    {
+        Path file = Files.writeString( directory.resolve( "some.csv" ), "foo" );
+        DataSource dataSource = TestData.generateDataSource( DatasetOrientation.LEFT, DataType.SIMULATIONS )
+                                        .toBuilder()
+                                        .uri( file.toUri() )
+                                        .build();
+        EvaluationDeclaration declaration = EvaluationDeclarationBuilder.builder()
+                                                                        .build();
+        TimeSeriesSourceCache cache = TimeSeriesSourceCache.of( 1_000_000, Duration.ofDays( 7 ) );
+
+        TimeSeries<Double> timeSeries = TestData.generateTimeSeriesDoubleWithNoReferenceTimes();
+        TimeSeriesTuple tuple = TimeSeriesTuple.ofSingleValued( timeSeries, dataSource );
+
+        // First evaluation reads the source
+        TimeSeriesStore.Builder firstBuilder = new TimeSeriesStore.Builder();
+        InMemoryTimeSeriesIngester.of( firstBuilder, cache, declaration )
+                                  .ingest( Stream.of( tuple ), dataSource );
+
+        // Second evaluation draws from the cache without consuming the stream
+        TimeSeriesStore.Builder secondBuilder = new TimeSeriesStore.Builder();
+        List<IngestResult> results =
+                InMemoryTimeSeriesIngester.of( secondBuilder, cache, declaration )
+                                          .ingest( Stream.generate( () -> { throw new IllegalStateException(); } ),
+                                                   dataSource );
+
+        List<TimeSeries<Double>> actual = secondBuilder.build()
+                                                       .getSingleValuedSeries( DatasetOrientation.LEFT )
+                                                       .toList();
+
+        // Third evaluation reads the source again after it changes
+        Files.writeString( file, "foobar" );
+        TimeSeriesStore.Builder thirdBuilder = new TimeSeriesStore.Builder();
+        InMemoryTimeSeriesIngester.of( thirdBuilder, cache, declaration )
+                                  .ingest( Stream.of(), dataSource );
+
+        assertAll( () -> assertEquals( List.of( timeSeries ), actual ),
+                   () -> assertTrue( results.get( 0 ).hasNonMissingData() ),
+                   () -> assertEquals( List.of(), thirdBuilder.build()
+                                                              .getSingleValuedSeries( DatasetOrientation.LEFT )
+                                                              .toList() ) );
+    }
 }
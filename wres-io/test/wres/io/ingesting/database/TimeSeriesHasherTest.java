@@ -0,0 +1,148 @@
+package wres.io.ingesting.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.DoubleEvent;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * Tests the {@link TimeSeriesHasher}.
+ * @author James Brown
+ */
+
+class TimeSeriesHasherTest
+{
+    private static final Instant T0 = Instant.parse( "2023-04-01T00:00:00Z" );
+    private static final Instant T1 = Instant.parse( "2023-04-01T01:00:00Z" );
+    private static final Instant T2 = Instant.parse( "2023-04-01T02:00:00Z" );
+
+    @Test
+    void testHashIsDeterministicHexString()
+    {
+        String first = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DRRC2", 1.0 ) );
+        String second = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DRRC2", 1.0 ) );
+
+        assertEquals( first, second );
+        assertTrue( first.matches( "[0-9A-F]{32}" ) );
+    }
+
+    @Test
+    void testHashChangesWithEventValue()
+    {
+        String first = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DRRC2", 1.0 ) );
+        String second = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DRRC2", 1.5 ) );
+
+        assertNotEquals( first, second );
+    }
+
+    @Test
+    void testHashChangesWithMetadata()
+    {
+        String first = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DRRC2", 1.0 ) );
+        String second = TimeSeriesHasher.hash( this.getSingleValuedSeries( "DOLC2", 1.0 ) );
+
+        assertNotEquals( first, second );
+    }
+
+    @Test
+    void testHashDistinguishesSubsecondTimes()
+    {
+        TimeSeriesMetadata metadata = this.getMetadata( "DRRC2" );
+        TimeSeries<Double> first = new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                                                   .addEvent( DoubleEvent.of( T1, 1.0 ) )
+                                                                   .build();
+        TimeSeries<Double> second = new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                                                    .addEvent( DoubleEvent.of( T1.plusMillis( 1 ),
+                                                                                               1.0 ) )
+                                                                    .build();
+
+        assertNotEquals( TimeSeriesHasher.hash( first ), TimeSeriesHasher.hash( second ) );
+    }
+
+    @Test
+    void testHashOfEnsembleChangesWithLabels()
+    {
+        TimeSeriesMetadata metadata = this.getMetadata( "DRRC2" );
+        Ensemble.Labels labels = Ensemble.Labels.of( "1980", "1981" );
+        Ensemble.Labels otherLabels = Ensemble.Labels.of( "1981", "1982" );
+
+        TimeSeries<Ensemble> first =
+                new TimeSeries.Builder<Ensemble>().setMetadata( metadata )
+                                                  .addEvent( Event.of( T1, Ensemble.of( new double[] { 1, 2 },
+                                                                                        labels ) ) )
+                                                  .addEvent( Event.of( T2, Ensemble.of( new double[] { 3, 4 },
+                                                                                        labels ) ) )
+                                                  .build();
+        TimeSeries<Ensemble> second =
+                new TimeSeries.Builder<Ensemble>().setMetadata( metadata )
+                                                  .addEvent( Event.of( T1, Ensemble.of( new double[] { 1, 2 },
+                                                                                        otherLabels ) ) )
+                                                  .addEvent( Event.of( T2, Ensemble.of( new double[] { 3, 4 },
+                                                                                        otherLabels ) ) )
+                                                  .build();
+
+        assertNotEquals( TimeSeriesHasher.hash( first ), TimeSeriesHasher.hash( second ) );
+    }
+
+    @Test
+    void testHashLegacyIsMd5OfStringRepresentation() throws NoSuchAlgorithmException
+    {
+        TimeSeries<Double> series = this.getSingleValuedSeries( "DRRC2", 1.0 );
+
+        byte[] md5 = MessageDigest.getInstance( "MD5" )
+                                  .digest( series.toString()
+                                                 .getBytes( StandardCharsets.UTF_8 ) );
+        String expected = HexFormat.of()
+                                   .withUpperCase()
+                                   .formatHex( md5 );
+
+        assertEquals( expected, TimeSeriesHasher.hashLegacy( series ) );
+        assertNotEquals( expected, TimeSeriesHasher.hash( series ) );
+    }
+
+    /**
+     * @param featureName the feature name
+     * @param value the value of the second event
+     * @return a time-series
+     */
+
+    private TimeSeries<Double> getSingleValuedSeries( String featureName, double value )
+    {
+        return new TimeSeries.Builder<Double>().setMetadata( this.getMetadata( featureName ) )
+                                               .addEvent( DoubleEvent.of( T1, 0.5 ) )
+                                               .addEvent( DoubleEvent.of( T2, value ) )
+                                               .build();
+    }
+
+    /**
+     * @param featureName the feature name
+     * @return the metadata
+     */
+
+    private TimeSeriesMetadata getMetadata( String featureName )
+    {
+        return TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, T0 ),
+                                      TimeScaleOuter.of(),
+                                      "STREAMFLOW",
+                                      Feature.of( MessageUtilities.getGeometry( featureName ) ),
+                                      "CMS" );
+    }
+}
@@ -13,6 +13,7 @@ import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -287,6 +288,62 @@ public class SingleValuedForecastRetrieverTest
         assertEquals( expectedSeriesTwo, actualSeriesTwo );
     }
 
+    @Test
+    public void testRetrievalByTimeWindowMatchesRetrievalOfEachTimeWindow()
+    {
+        // Three time windows: bounded on all dimensions, bounded by lead duration only and a single lead duration
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Instant.parse( "2023-03-31T23:00:00Z" ),
+                                                                                    T2023_04_01T19_00_00Z,
+                                                                                    Instant.parse( "2023-04-01T03:00:00Z" ),
+                                                                                    T2023_04_01T19_00_00Z,
+                                                                                    Duration.ofHours( 1 ),
+                                                                                    Duration.ofHours( 4 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                     Duration.ofHours( 2 ) ) );
+        TimeWindowOuter third = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Instant.parse( "2023-03-31T23:00:00Z" ),
+                                                                                    T2023_04_01T19_00_00Z,
+                                                                                    Duration.ofHours( 3 ) ) );
+        List<TimeWindowOuter> timeWindows = List.of( first, second, third );
+
+        // Build the retriever
+        TimeSeriesRetriever<Double> forecastRetriever =
+                new SingleValuedForecastRetriever.Builder().setDatabase( this.wresDatabase )
+                                                           .setFeaturesCache( this.caches.getFeaturesCache() )
+                                                           .setMeasurementUnitsCache( this.caches.getMeasurementUnitsCache() )
+                                                           .setProjectId( PROJECT_ID )
+                                                           .setVariable( VARIABLE )
+                                                           .setFeatures( Set.of( FEATURE ) )
+                                                           .setTimeWindows( timeWindows )
+                                                           .setDatasetOrientation( DatasetOrientation.RIGHT )
+                                                           .build();
+
+        // Get the time-series for each time window together
+        Map<Integer, List<TimeSeries<Double>>> actual = new HashMap<>();
+        forecastRetriever.getByTimeWindow( ( series, index ) -> actual.put( index, series ) );
+
+        assertEquals( 3, actual.size() );
+
+        // Get the time-series for each time window separately
+        for ( int i = 0; i < timeWindows.size(); i++ )
+        {
+            Retriever<TimeSeries<Double>> windowRetriever =
+                    new SingleValuedForecastRetriever.Builder().setDatabase( this.wresDatabase )
+                                                               .setFeaturesCache( this.caches.getFeaturesCache() )
+                                                               .setMeasurementUnitsCache( this.caches.getMeasurementUnitsCache() )
+                                                               .setProjectId( PROJECT_ID )
+                                                               .setVariable( VARIABLE )
+                                                               .setFeatures( Set.of( FEATURE ) )
+                                                               .setTimeWindow( timeWindows.get( i ) )
+                                                               .setDatasetOrientation( DatasetOrientation.RIGHT )
+                                                               .build();
+
+            List<TimeSeries<Double>> expected = windowRetriever.get()
+                                                               .toList();
+
+            assertEquals( expected, actual.get( i ) );
+        }
+    }
+
     @Test
     public void testGetRetrievalOfTimeSeriesIdentifiersReturnsTwoIdentifiers()
     {
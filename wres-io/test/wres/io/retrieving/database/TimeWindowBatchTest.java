@@ -0,0 +1,350 @@
+package wres.io.retrieving.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.io.retrieving.RetentionBudget;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.Geometry;
+
+/**
+ * Tests the {@link TimeWindowBatch}.
+ *
+ * @author James Brown
+ */
+
+class TimeWindowBatchTest
+{
+    @Test
+    void testTimeWindowsThatExceedRetentionBudgetAreRetrievedSeparately()
+    {
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                    Duration.ofHours( 1 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 1 ),
+                                                                                     Duration.ofHours( 2 ) ) );
+        TimeWindowOuter third = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 2 ),
+                                                                                    Duration.ofHours( 3 ) ) );
+
+        // Two events in each time window
+        Map<TimeWindowOuter, List<TimeSeries<Double>>> timeSeries =
+                Map.of( first, List.of( this.getTimeSeries( 1.0 ) ),
+                        second, List.of( this.getTimeSeries( 2.0 ) ),
+                        third, List.of( this.getTimeSeries( 3.0 ) ) );
+
+        AtomicInteger batchCount = new AtomicInteger();
+        Function<List<TimeWindowOuter>, TimeSeriesRetriever<Double>> batchRetriever = windows -> {
+            batchCount.incrementAndGet();
+            return this.getBatchRetriever( windows, timeSeries );
+        };
+
+        AtomicInteger windowCount = new AtomicInteger();
+        Function<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> windowRetriever = window -> () -> {
+            windowCount.incrementAndGet();
+            return timeSeries.get( window )
+                             .stream();
+        };
+
+        // Room for one time window besides the requested one
+        RetentionBudget retention = RetentionBudget.of( 2 );
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> retrievers =
+                TimeWindowBatch.of( batchRetriever, windowRetriever, Set.of( first, second, third ), 3, retention );
+
+        assertEquals( timeSeries.get( first ), retrievers.get( first )
+                                                         .get()
+                                                         .toList() );
+
+        // The second time window is retained and the third time window is not
+        assertEquals( 2, retention.getRetainedEvents() );
+
+        assertEquals( timeSeries.get( second ), retrievers.get( second )
+                                                          .get()
+                                                          .toList() );
+        assertEquals( 0, retention.getRetainedEvents() );
+
+        assertEquals( timeSeries.get( third ), retrievers.get( third )
+                                                         .get()
+                                                         .toList() );
+
+        assertEquals( 1, batchCount.get() );
+        assertEquals( 1, windowCount.get() );
+    }
+
+    @Test
+    void testTimeWindowsAreNotBatchedWithoutRetentionBudget()
+    {
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                    Duration.ofHours( 1 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 1 ),
+                                                                                     Duration.ofHours( 2 ) ) );
+
+        AtomicInteger batchCount = new AtomicInteger();
+        Function<List<TimeWindowOuter>, TimeSeriesRetriever<Double>> batchRetriever = windows -> {
+            batchCount.incrementAndGet();
+            return this.getBatchRetriever( windows, Map.of() );
+        };
+
+        Function<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> windowRetriever = window -> Stream::of;
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> retrievers =
+                TimeWindowBatch.of( batchRetriever,
+                                    windowRetriever,
+                                    Set.of( first, second ),
+                                    2,
+                                    RetentionBudget.of( 0 ) );
+
+        assertEquals( List.of(), retrievers.get( first )
+                                           .get()
+                                           .toList() );
+        assertEquals( List.of(), retrievers.get( second )
+                                           .get()
+                                           .toList() );
+        assertEquals( 0, batchCount.get() );
+    }
+
+    @Test
+    void testReleaseAllDiscardsHeldTimeWindows()
+    {
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                    Duration.ofHours( 1 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 1 ),
+                                                                                     Duration.ofHours( 2 ) ) );
+
+        Map<TimeWindowOuter, List<TimeSeries<Double>>> timeSeries =
+                Map.of( first, List.of( this.getTimeSeries( 1.0 ) ),
+                        second, List.of( this.getTimeSeries( 2.0 ) ) );
+
+        AtomicInteger windowCount = new AtomicInteger();
+        Function<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> windowRetriever = window -> () -> {
+            windowCount.incrementAndGet();
+            return timeSeries.get( window )
+                             .stream();
+        };
+
+        RetentionBudget retention = RetentionBudget.of( 10 );
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> retrievers =
+                TimeWindowBatch.of( windows -> this.getBatchRetriever( windows, timeSeries ),
+                                    windowRetriever,
+                                    Set.of( first, second ),
+                                    2,
+                                    retention );
+
+        assertEquals( timeSeries.get( first ), retrievers.get( first )
+                                                         .get()
+                                                         .toList() );
+        assertEquals( 2, retention.getRetainedEvents() );
+
+        // The evaluation ends or a pool fails, so the second time window will not be requested
+        retention.releaseAll();
+
+        assertEquals( 0, retention.getRetainedEvents() );
+
+        // A discarded time window is retrieved separately if requested anyway
+        assertEquals( timeSeries.get( second ), retrievers.get( second )
+                                                          .get()
+                                                          .toList() );
+        assertEquals( 1, windowCount.get() );
+    }
+
+    @Test
+    void testBatchIsQueriedOnceWhenRequestedConcurrently() throws Exception
+    {
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                    Duration.ofHours( 1 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 1 ),
+                                                                                     Duration.ofHours( 2 ) ) );
+
+        Map<TimeWindowOuter, List<TimeSeries<Double>>> timeSeries =
+                Map.of( first, List.of( this.getTimeSeries( 1.0 ) ),
+                        second, List.of( this.getTimeSeries( 2.0 ) ) );
+
+        // The query blocks until released
+        CountDownLatch querying = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        AtomicInteger batchCount = new AtomicInteger();
+        Function<List<TimeWindowOuter>, TimeSeriesRetriever<Double>> batchRetriever = windows -> {
+            batchCount.incrementAndGet();
+            querying.countDown();
+            this.await( release );
+            return this.getBatchRetriever( windows, timeSeries );
+        };
+
+        AtomicInteger windowCount = new AtomicInteger();
+        Function<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> windowRetriever = window -> () -> {
+            windowCount.incrementAndGet();
+            return timeSeries.get( window )
+                             .stream();
+        };
+
+        RetentionBudget retention = RetentionBudget.of( 10 );
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> retrievers =
+                TimeWindowBatch.of( batchRetriever, windowRetriever, Set.of( first, second ), 2, retention );
+
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+        try
+        {
+            Future<List<TimeSeries<Double>>> firstResult = executor.submit( () -> retrievers.get( first )
+                                                                                            .get()
+                                                                                            .toList() );
+            assertTrue( querying.await( 10, TimeUnit.SECONDS ) );
+
+            Future<List<TimeSeries<Double>>> secondResult = executor.submit( () -> retrievers.get( second )
+                                                                                             .get()
+                                                                                             .toList() );
+
+            release.countDown();
+
+            assertEquals( timeSeries.get( first ), firstResult.get( 10, TimeUnit.SECONDS ) );
+            assertEquals( timeSeries.get( second ), secondResult.get( 10, TimeUnit.SECONDS ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals( 1, batchCount.get() );
+        assertEquals( 0, windowCount.get() );
+        assertEquals( 0, retention.getRetainedEvents() );
+    }
+
+    @Test
+    void testTimeWindowsAreRetrievedSeparatelyWhenBatchQueryFails()
+    {
+        TimeWindowOuter first = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ZERO,
+                                                                                    Duration.ofHours( 1 ) ) );
+        TimeWindowOuter second = TimeWindowOuter.of( MessageUtilities.getTimeWindow( Duration.ofHours( 1 ),
+                                                                                     Duration.ofHours( 2 ) ) );
+
+        Map<TimeWindowOuter, List<TimeSeries<Double>>> timeSeries =
+                Map.of( first, List.of( this.getTimeSeries( 1.0 ) ),
+                        second, List.of( this.getTimeSeries( 2.0 ) ) );
+
+        // Supplies the first time window and then fails
+        Function<List<TimeWindowOuter>, TimeSeriesRetriever<Double>> batchRetriever = windows -> {
+            TimeSeriesRetriever<Double> retriever = this.getBatchRetriever( windows, timeSeries );
+            Mockito.doAnswer( invocation -> {
+                       ObjIntConsumer<List<TimeSeries<Double>>> consumer = invocation.getArgument( 0 );
+                       consumer.accept( timeSeries.get( windows.get( 1 ) ), 1 );
+                       throw new IllegalStateException( "The query failed." );
+                   } )
+                   .when( retriever )
+                   .getByTimeWindow( Mockito.any() );
+            return retriever;
+        };
+
+        AtomicInteger windowCount = new AtomicInteger();
+        Function<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> windowRetriever = window -> () -> {
+            windowCount.incrementAndGet();
+            return timeSeries.get( window )
+                             .stream();
+        };
+
+        RetentionBudget retention = RetentionBudget.of( 10 );
+
+        Map<TimeWindowOuter, Supplier<Stream<TimeSeries<Double>>>> retrievers =
+                TimeWindowBatch.of( batchRetriever, windowRetriever, Set.of( first, second ), 2, retention );
+
+        Supplier<Stream<TimeSeries<Double>>> firstRetriever = retrievers.get( first );
+        assertThrows( IllegalStateException.class, firstRetriever::get );
+
+        // The events retained before the failure were released
+        assertEquals( 0, retention.getRetainedEvents() );
+
+        assertEquals( timeSeries.get( second ), retrievers.get( second )
+                                                          .get()
+                                                          .toList() );
+        assertEquals( 1, windowCount.get() );
+    }
+
+    /**
+     * @param latch the latch to await
+     */
+
+    private void await( CountDownLatch latch )
+    {
+        try
+        {
+            assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * @param windows the time windows in the batch
+     * @param timeSeries the time-series for each time window
+     * @return a retriever that supplies the time-series for each time window in the batch
+     */
+
+    @SuppressWarnings( "unchecked" )
+    private TimeSeriesRetriever<Double> getBatchRetriever( List<TimeWindowOuter> windows,
+                                                           Map<TimeWindowOuter, List<TimeSeries<Double>>> timeSeries )
+    {
+        TimeSeriesRetriever<Double> retriever = Mockito.mock( TimeSeriesRetriever.class );
+        Mockito.doAnswer( invocation -> {
+                   ObjIntConsumer<List<TimeSeries<Double>>> consumer = invocation.getArgument( 0 );
+                   for ( int i = 0; i < windows.size(); i++ )
+                   {
+                       consumer.accept( timeSeries.get( windows.get( i ) ), i );
+                   }
+                   return null;
+               } )
+               .when( retriever )
+               .getByTimeWindow( Mockito.any() );
+
+        return retriever;
+    }
+
+    /**
+     * @param value the value of each event
+     * @return a time-series with two events
+     */
+
+    private TimeSeries<Double> getTimeSeries( double value )
+    {
+        Feature feature = Feature.of( Geometry.newBuilder()
+                                              .setName( "a feature" )
+                                              .build() );
+        TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of(),
+                                                             null,
+                                                             "a variable",
+                                                             feature,
+                                                             "a unit" );
+
+        return new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                               .addEvent( Event.of( Instant.parse( "2023-04-01T01:00:00Z" ), value ) )
+                                               .addEvent( Event.of( Instant.parse( "2023-04-01T02:00:00Z" ), value ) )
+                                               .build();
+    }
+}
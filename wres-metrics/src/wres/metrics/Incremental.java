@@ -2,13 +2,14 @@ package wres.metrics;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.statistics.Statistic;
 
 /**
  * An interface that allows for a statistic to be computed incrementally. Statistics may be separated into intermediate 
  * and final. Intermediate statistics may be combined with other intermediate statistics using 
- * {@link #combine(Pool, Statistic)}. Final statistics are generated from intermediate statistics using 
- * {@link #complete(Statistic)}.
+ * {@link #combine(Pool, Statistic)} or {@link #combine(Statistic, Statistic, PoolMetadata)}. Final statistics are
+ * generated from intermediate statistics using {@link #complete(Statistic)}.
  * 
  * @param <T> the intermediate statistic
  * @param <U> the final statistic
@@ -29,6 +30,19 @@ public interface Incremental<S extends Pool<?>, T extends Statistic<?>, U extend
 
     T combine( S pool, T statistic );
 
+    /**
+     * Combines two intermediate statistics, such as the intermediate statistics of two mini-pools within a larger
+     * pool, and assigns the prescribed metadata to the combined statistic.
+     *
+     * @param statistic the intermediate statistic
+     * @param other the intermediate statistic to combine
+     * @param metadata the metadata of the combined statistic
+     * @return the combined statistic
+     * @throws NullPointerException if any input is null
+     */
+
+    T combine( T statistic, T other, PoolMetadata metadata );
+
     /**
      * Returns a final statistic from an intermediate statistic.
      * 
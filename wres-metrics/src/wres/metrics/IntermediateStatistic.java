@@ -0,0 +1,206 @@
+package wres.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import net.jcip.annotations.Immutable;
+
+import wres.config.MetricConstants;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.statistics.Statistic;
+import wres.statistics.generated.SummaryStatistic;
+
+/**
+ * <p>The intermediate statistic of a pool for a group of {@link Incremental} metrics that share a common intermediate
+ * statistic, such as the {@link wres.metrics.singlevalued.SufficientStatistics} of several single-valued scores or the
+ * {@link wres.metrics.categorical.ContingencyTable} of several dichotomous scores.
+ *
+ * <p>The intermediate statistics of separate pools may be combined with
+ * {@link #combine(IntermediateStatistic, PoolMetadata)} and then completed with {@link #complete()}, which is
+ * equivalent to computing the metrics for the pool that contains the pairs of all the separate pools. This allows for
+ * the statistics of a larger pool, such as a feature group, to be accumulated from the statistics of smaller pools
+ * without retaining their pairs.
+ *
+ * @author James Brown
+ * @param <V> the intermediate statistic type
+ * @param <U> the statistic type of the completed metrics
+ */
+
+@Immutable
+public final class IntermediateStatistic<V extends Statistic<?>, U extends Statistic<?>> implements Statistic<V>
+{
+    /** The intermediate statistic. */
+    private final V statistic;
+
+    /** The metrics to complete from the intermediate statistic, indexed by name. */
+    private final Map<MetricConstants, Incremental<?, V, U>> metrics;
+
+    /**
+     * Creates an instance.
+     *
+     * @param <V> the intermediate statistic type
+     * @param <U> the statistic type of the completed metrics
+     * @param statistic the intermediate statistic
+     * @param metrics the metrics to complete from the intermediate statistic
+     * @return an intermediate statistic
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if there are no metrics
+     */
+
+    public static <V extends Statistic<?>, U extends Statistic<?>> IntermediateStatistic<V, U>
+    of( V statistic, Map<MetricConstants, ? extends Incremental<?, V, U>> metrics )
+    {
+        return new IntermediateStatistic<>( statistic, metrics );
+    }
+
+    /**
+     * Combines this intermediate statistic with another intermediate statistic of the same type and assigns the
+     * prescribed metadata to the combined statistic. The metrics to complete are the union of the metrics of each.
+     *
+     * @param other the other intermediate statistic
+     * @param metadata the metadata of the combined statistic
+     * @return the combined statistic
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if the intermediate statistics have a different type
+     */
+
+    @SuppressWarnings( "unchecked" )
+    public IntermediateStatistic<V, U> combine( IntermediateStatistic<?, ?> other, PoolMetadata metadata )
+    {
+        Objects.requireNonNull( other );
+        Objects.requireNonNull( metadata );
+
+        if ( this.statistic.getClass() != other.statistic.getClass() )
+        {
+            throw new IllegalArgumentException( "Cannot combine an intermediate statistic of type '"
+                                                + this.statistic.getClass()
+                                                                .getSimpleName()
+                                                + "' with an intermediate statistic of type '"
+                                                + other.statistic.getClass()
+                                                                 .getSimpleName()
+                                                + "'." );
+        }
+
+        // The intermediate statistics have the same type, which is computed and completed by metrics of the same type
+        IntermediateStatistic<V, U> cast = ( IntermediateStatistic<V, U> ) other;
+
+        Incremental<?, V, U> baseMetric = this.metrics.values()
+                                                      .iterator()
+                                                      .next();
+        V combined = baseMetric.combine( this.statistic, cast.statistic, metadata );
+
+        Map<MetricConstants, Incremental<?, V, U>> union = new EnumMap<>( this.metrics );
+        union.putAll( cast.metrics );
+
+        return new IntermediateStatistic<>( combined, union );
+    }
+
+    /**
+     * Completes each metric from the intermediate statistic.
+     *
+     * @return the statistics, one for each metric
+     */
+
+    public List<U> complete()
+    {
+        return this.metrics.values()
+                           .stream()
+                           .map( next -> next.complete( this.statistic ) )
+                           .toList();
+    }
+
+    /**
+     * @return the metrics to complete from the intermediate statistic
+     */
+
+    public Map<MetricConstants, Incremental<?, V, U>> getMetrics()
+    {
+        return this.metrics; // Immutable on construction
+    }
+
+    @Override
+    public V getStatistic()
+    {
+        return this.statistic;
+    }
+
+    @Override
+    public PoolMetadata getPoolMetadata()
+    {
+        return this.statistic.getPoolMetadata();
+    }
+
+    @Override
+    public MetricConstants getMetricName()
+    {
+        return this.statistic.getMetricName();
+    }
+
+    @Override
+    public SummaryStatistic getSummaryStatistic()
+    {
+        return null;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( o == this )
+        {
+            return true;
+        }
+
+        if ( !( o instanceof IntermediateStatistic<?, ?> s ) )
+        {
+            return false;
+        }
+
+        return Objects.equals( this.statistic, s.statistic )
+               && Objects.equals( this.metrics.keySet(), s.metrics.keySet() );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( this.statistic, this.metrics.keySet() );
+    }
+
+    @Override
+    public String toString()
+    {
+        return new ToStringBuilder( this, ToStringStyle.SHORT_PREFIX_STYLE ).append( "statistic", this.statistic )
+                                                                            .append( "metrics",
+                                                                                     this.metrics.keySet() )
+                                                                            .toString();
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param statistic the intermediate statistic
+     * @param metrics the metrics to complete from the intermediate statistic
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if there are no metrics
+     */
+
+    private IntermediateStatistic( V statistic, Map<MetricConstants, ? extends Incremental<?, V, U>> metrics )
+    {
+        Objects.requireNonNull( statistic );
+        Objects.requireNonNull( metrics );
+
+        if ( metrics.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Specify one or more metrics to complete from the intermediate "
+                                                + "statistic." );
+        }
+
+        this.statistic = statistic;
+        this.metrics = Collections.unmodifiableMap( new EnumMap<MetricConstants, Incremental<?, V, U>>( metrics ) );
+    }
+}
@@ -19,14 +19,19 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.statistics.Statistic;
+import wres.datamodel.types.Ensemble;
 import wres.metrics.categorical.ContingencyTable;
+import wres.metrics.ensemble.SortedEnsembleMetric;
 
 /**
  * <p>An immutable collection of {@link Metric} that consume a common type of {@link Pool} and return a common
@@ -38,6 +43,20 @@ import wres.metrics.categorical.ContingencyTable;
  * extend {@link ContingencyTable} and implement {@link Collectable}, the contingency table will be computed once, 
  * with all dependent scores using this result.
  *
+ * <p>Likewise, for groups of metrics that implement {@link Incremental} with a common intermediate statistic, the
+ * intermediate statistic is computed once with {@link Incremental#combine(Pool, Statistic)} and each metric in the
+ * group completes its statistic from this result with {@link Incremental#complete(Statistic)}. For example, several
+ * single-valued scores may be completed from the same sufficient statistics of a pool. The intermediate statistics
+ * may also be obtained with {@link #getIntermediateStatistics(Pool, Set)}, combined with the intermediate statistics
+ * of other pools and completed later, such as when computing the statistics of a feature group or the summary
+ * statistics across several pools. The intermediate statistics of a pool that was built from mini-pools are combined
+ * from the intermediate statistics of each mini-pool. Once obtained, the other metrics may be computed and the
+ * intermediate statistics completed with {@link #applyIntermediate(Pool, Set, List)}.
+ *
+ * <p>For metrics that implement {@link SortedEnsembleMetric}, the caller may build a {@link SortedEnsembleMatrix} once
+ * for the pool and supply it with {@link #apply(Pool, Set, SortedEnsembleMatrix)}, in which case each such metric
+ * consumes that matrix instead of sorting the ensemble members again.
+ *
  * <p>Build a collection with a {@link Builder#of()}.
  *
  * <p>When a group contains a collection of metrics that do not need to be computed for all inputs, a non-empty set of
@@ -63,6 +82,9 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
 
     private final Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics;
 
+    /** Groups of {@link Metric} that are {@link Incremental} with a common intermediate statistic. */
+    private final List<IncrementalGroup<S, ?, U>> incrementalMetrics;
+
     /** All metrics in the collection. */
 
     private final Set<MetricConstants> collected;
@@ -87,7 +109,7 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
 
         LOGGER.debug( "Received a request to compute all metrics within the collection: {}.", this.getMetrics() );
 
-        return this.apply( pool, this.metrics, this.collectableMetrics );
+        return this.apply( pool, this.metrics, this.collectableMetrics, this.incrementalMetrics, List.of(), null );
     }
 
     /**
@@ -103,56 +125,106 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
      */
 
     public List<U> apply( S pool, Set<MetricConstants> metrics )
+    {
+        return this.apply( pool, metrics, ( SortedEnsembleMatrix ) null );
+    }
+
+    /**
+     * Computes a subset of metrics, supplying the matrix of sorted ensemble members that was built from the pool to
+     * each metric that is a {@link SortedEnsembleMetric}, so that the ensemble members are sorted once for all metrics
+     * in the collection, rather than once for each metric.
+     *
+     * @see #apply(Pool, Set)
+     * @param pool the pool
+     * @param metrics the subset of metrics to calculate
+     * @param matrix the matrix of sorted ensemble members, which was built from the pool, or null to build none
+     * @return the statistics
+     * @throws NullPointerException if the pool or metrics is null
+     * @throws IllegalArgumentException if the subset is invalid
+     * @throws MetricCalculationException if the calculation fails for any other reason
+     */
+
+    public List<U> apply( S pool, Set<MetricConstants> metrics, SortedEnsembleMatrix matrix )
+    {
+        return this.applySubset( pool, metrics, matrix, null );
+    }
+
+    /**
+     * Computes the intermediate statistics for each group of {@link Incremental} metrics within a subset of metrics.
+     * When the pool was built from mini-pools, the intermediate statistics are combined from the intermediate
+     * statistics of each mini-pool. The intermediate statistics may be combined with the intermediate statistics of
+     * other pools using {@link IntermediateStatistic#combine(IntermediateStatistic, PoolMetadata)}.
+     *
+     * @see #applyIntermediate(Pool, Set, List)
+     * @param pool the pool
+     * @param metrics the subset of metrics whose intermediate statistics should be calculated
+     * @return the intermediate statistics, one for each group of incremental metrics in the subset
+     * @throws NullPointerException if either input is null
+     * @throws MetricCalculationException if the calculation fails for any other reason
+     */
+
+    public List<IntermediateStatistic<?, U>> getIntermediateStatistics( S pool, Set<MetricConstants> metrics )
     {
         Objects.requireNonNull( pool, "Specify non-null input to the metric collection." );
-        Objects.requireNonNull( pool, "Specify some metrics to calculate." );
+        Objects.requireNonNull( metrics, "Specify some metrics to calculate." );
 
-        if ( metrics.isEmpty() )
+        List<CompletableFuture<IntermediateStatistic<?, U>>> futures = new ArrayList<>();
+        for ( IncrementalGroup<S, ?, U> next : this.incrementalMetrics )
         {
-            throw new IllegalArgumentException( "Supply a valid subset of metrics to compute. No metrics were "
-                                                + "supplied." );
+            IncrementalGroup<S, ?, U> filtered = next.filter( metrics );
+            if ( !filtered.metrics()
+                          .isEmpty() )
+            {
+                futures.add( CompletableFuture.supplyAsync( () -> filtered.getIntermediateStatistic( pool ),
+                                                            this.metricPool ) );
+            }
         }
 
-        LOGGER.debug( "Received a request to compute the following metrics within the collection: {}.", metrics );
+        List<IntermediateStatistic<?, U>> intermediates = new ArrayList<>();
 
-        // None match?
-        if ( this.collected.stream()
-                           .noneMatch( metrics::contains ) )
+        try
         {
-            throw new IllegalArgumentException( "This metric collection did not contain any of " + metrics
-                                                + ". The available metrics are: "
-                                                + this.getMetrics() );
+            for ( CompletableFuture<IntermediateStatistic<?, U>> next : futures )
+            {
+                intermediates.add( next.get() ); //This is blocking
+            }
         }
+        catch ( ExecutionException e )
+        {
+            throw new MetricCalculationException( "Computation of the intermediate statistics failed: ", e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
 
-        // Filtered metrics
-        Map<MetricConstants, Metric<S, U>> filtered =
-                this.metrics.entrySet()
-                            .stream()
-                            .filter( next -> metrics.contains( next.getKey() ) )
-                            .collect( Collectors.toMap( Entry::getKey, Entry::getValue ) );
-
-        // Filtered collectable metrics
-        Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> cFiltered =
-                new EnumMap<>( MetricConstants.class );
+            throw new MetricCalculationException( "Computation of the intermediate statistics was cancelled: ", e );
+        }
 
-        for ( Entry<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> next : this.collectableMetrics.entrySet() )
-        {
-            MetricConstants aggregator = next.getKey();
-            Map<MetricConstants, Collectable<S, T, U>> aggregated = next.getValue();
+        return Collections.unmodifiableList( intermediates );
+    }
 
-            Map<MetricConstants, Collectable<S, T, U>> fAggregated =
-                    aggregated.entrySet()
-                              .stream()
-                              .filter( nextEntry -> metrics.contains( nextEntry.getKey() ) )
-                              .collect( Collectors.toMap( Entry::getKey, Entry::getValue ) );
+    /**
+     * Computes a subset of metrics, completing the {@link Incremental} metrics from the intermediate statistics that
+     * were obtained for the same pool with {@link #getIntermediateStatistics(Pool, Set)}, rather than computing them
+     * again.
+     *
+     * @see #getIntermediateStatistics(Pool, Set)
+     * @param pool the pool
+     * @param metrics the subset of metrics to calculate
+     * @param intermediates the intermediate statistics of the pool for the incremental metrics in the subset
+     * @return the statistics
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the subset is invalid
+     * @throws MetricCalculationException if the calculation fails for any other reason
+     */
 
-            if ( !fAggregated.isEmpty() )
-            {
-                cFiltered.put( aggregator, fAggregated );
-            }
-        }
+    public List<U> applyIntermediate( S pool,
+                                      Set<MetricConstants> metrics,
+                                      List<IntermediateStatistic<?, U>> intermediates )
+    {
+        Objects.requireNonNull( intermediates, "Specify the intermediate statistics to complete." );
 
-        return this.apply( pool, filtered, cFiltered );
+        return this.applySubset( pool, metrics, null, intermediates );
     }
 
     /**
@@ -176,6 +248,11 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
                                              .stream()
                                              .collect( Collectors.toMap( Entry::getKey,
                                                                          b -> b.getValue().keySet() ) ) );
+        joiner.add( "; and incremental metrics by group: "
+                    + this.incrementalMetrics.stream()
+                                             .map( next -> next.metrics()
+                                                               .keySet() )
+                                             .toList() );
         return joiner.toString();
     }
 
@@ -209,6 +286,12 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
         private final Map<MetricConstants, Collectable<S, T, U>> collectableMetrics =
                 new EnumMap<>( MetricConstants.class );
 
+        /**
+         * The groups of {@link Incremental}.
+         */
+
+        private final List<IncrementalGroup<S, ?, U>> incrementalMetrics = new ArrayList<>();
+
         /**
          * Returns a builder.
          *
@@ -250,6 +333,26 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
             return this;
         }
 
+        /**
+         * Add a group of {@link Incremental} metrics to the collection. The metrics share a common intermediate
+         * statistic, which is computed once per pool and completed by each metric.
+         *
+         * @param <V> the type of intermediate statistic
+         * @param metrics the metrics, indexed by name
+         * @return the builder
+         */
+
+        protected <V extends Statistic<?>> Builder<S, T, U>
+        addIncrementalMetrics( final Map<MetricConstants, Incremental<S, V, U>> metrics )
+        {
+            if ( !metrics.isEmpty() )
+            {
+                this.incrementalMetrics.add( new IncrementalGroup<>( new EnumMap<>( metrics ) ) );
+            }
+
+            return this;
+        }
+
         /**
          * Sets the {@link ExecutorService} for parallel computations.
          *
@@ -277,26 +380,120 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
 
     }
 
+    /**
+     * Computes a subset of metrics.
+     *
+     * @param pool the pool
+     * @param metrics the subset of metrics to calculate
+     * @param matrix the matrix of sorted ensemble members, which was built from the pool, or null to build none
+     * @param intermediates the intermediate statistics from which to complete the incremental metrics or null to
+     *            compute the incremental metrics from the pool
+     * @return the statistics
+     * @throws NullPointerException if the pool or metrics is null
+     * @throws IllegalArgumentException if the subset is invalid
+     * @throws MetricCalculationException if the calculation fails for any other reason
+     */
+
+    private List<U> applySubset( S pool,
+                                 Set<MetricConstants> metrics,
+                                 SortedEnsembleMatrix matrix,
+                                 List<IntermediateStatistic<?, U>> intermediates )
+    {
+        Objects.requireNonNull( pool, "Specify non-null input to the metric collection." );
+        Objects.requireNonNull( metrics, "Specify some metrics to calculate." );
+
+        if ( metrics.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Supply a valid subset of metrics to compute. No metrics were "
+                                                + "supplied." );
+        }
+
+        LOGGER.debug( "Received a request to compute the following metrics within the collection: {}.", metrics );
+
+        // None match?
+        if ( this.collected.stream()
+                           .noneMatch( metrics::contains ) )
+        {
+            throw new IllegalArgumentException( "This metric collection did not contain any of " + metrics
+                                                + ". The available metrics are: "
+                                                + this.getMetrics() );
+        }
+
+        // Filtered metrics
+        Map<MetricConstants, Metric<S, U>> filtered =
+                this.metrics.entrySet()
+                            .stream()
+                            .filter( next -> metrics.contains( next.getKey() ) )
+                            .collect( Collectors.toMap( Entry::getKey, Entry::getValue ) );
+
+        // Filtered collectable metrics
+        Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> cFiltered =
+                new EnumMap<>( MetricConstants.class );
+
+        for ( Entry<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> next : this.collectableMetrics.entrySet() )
+        {
+            MetricConstants aggregator = next.getKey();
+            Map<MetricConstants, Collectable<S, T, U>> aggregated = next.getValue();
+
+            Map<MetricConstants, Collectable<S, T, U>> fAggregated =
+                    aggregated.entrySet()
+                              .stream()
+                              .filter( nextEntry -> metrics.contains( nextEntry.getKey() ) )
+                              .collect( Collectors.toMap( Entry::getKey, Entry::getValue ) );
+
+            if ( !fAggregated.isEmpty() )
+            {
+                cFiltered.put( aggregator, fAggregated );
+            }
+        }
+
+        // Filtered incremental metrics, unless they are completed from intermediate statistics
+        List<IncrementalGroup<S, ?, U>> iFiltered = List.of();
+        List<IntermediateStatistic<?, U>> completeMe = List.of();
+        if ( Objects.isNull( intermediates ) )
+        {
+            iFiltered = this.incrementalMetrics.stream()
+                                               .map( next -> next.filter( metrics ) )
+                                               .filter( next -> !next.metrics()
+                                                                     .isEmpty() )
+                                               .collect( Collectors.toList() );
+        }
+        else
+        {
+            completeMe = intermediates;
+        }
+
+        return this.apply( pool, filtered, cFiltered, iFiltered, completeMe, matrix );
+    }
+
     /**
      * Computes the results for the prescribed metrics.
      *
      * @param input the metric input
      * @param metrics the metrics to compute
      * @param collectableMetrics the collectable metrics to compute
+     * @param incrementalMetrics the groups of incremental metrics to compute
+     * @param intermediates the intermediate statistics of incremental metrics to complete
+     * @param matrix the matrix of sorted ensemble members, possibly null
      * @return the output for each metric, contained in a collection
      * @throws MetricCalculationException if the metric calculation fails for any reason
      */
 
     private List<U> apply( S input,
                            Map<MetricConstants, Metric<S, U>> metrics,
-                           Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics )
+                           Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics,
+                           List<IncrementalGroup<S, ?, U>> incrementalMetrics,
+                           List<IntermediateStatistic<?, U>> intermediates,
+                           SortedEnsembleMatrix matrix )
     {
-        LOGGER.debug( "Computing the following metrics: {} and the following collectable metrics: {}.",
+        LOGGER.debug( "Computing the following metrics: {}, the following collectable metrics: {} and the following "
+                      + "incremental metrics: {}.",
                       metrics,
-                      collectableMetrics );
+                      collectableMetrics,
+                      incrementalMetrics );
         try
         {
-            return this.applyInternal( input, metrics, collectableMetrics );
+            return this.applyInternal( input, metrics, collectableMetrics, incrementalMetrics, intermediates, matrix );
         }
         catch ( ExecutionException e )
         {
@@ -316,6 +513,9 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
      * @param input the metric input
      * @param metrics the metrics to compute
      * @param collectableMetrics the collectable metrics to compute
+     * @param incrementalMetrics the groups of incremental metrics to compute
+     * @param intermediates the intermediate statistics of incremental metrics to complete
+     * @param matrix the matrix of sorted ensemble members, possibly null
      * @return the output for each metric, contained in a collection
      * @throws ExecutionException if the execution fails
      * @throws InterruptedException if the execution is cancelled
@@ -324,7 +524,10 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
 
     private List<U> applyInternal( S input,
                                    Map<MetricConstants, Metric<S, U>> metrics,
-                                   Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics )
+                                   Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics,
+                                   List<IncrementalGroup<S, ?, U>> incrementalMetrics,
+                                   List<IntermediateStatistic<?, U>> intermediates,
+                                   SortedEnsembleMatrix matrix )
             throws InterruptedException, ExecutionException
     {
 
@@ -355,14 +558,27 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
                 }
             }
         }
+        // Create the futures for the incremental metrics
+        for ( IncrementalGroup<S, ?, U> next : incrementalMetrics )
+        {
+            metricFutures.addAll( next.apply( input, this.metricPool ) );
+        }
+        // Complete the incremental metrics whose intermediate statistics were supplied, which is cheap
+        for ( IntermediateStatistic<?, U> next : intermediates )
+        {
+            next.complete()
+                .forEach( statistic -> metricFutures.add( CompletableFuture.completedFuture( statistic ) ) );
+        }
         // Create the futures for the ordinary metrics
-        metrics.forEach( ( key,
-                           value ) -> metricFutures.add( CompletableFuture.supplyAsync( () -> value.apply( input ),
-                                                                                        this.metricPool ) ) );
+        for ( Metric<S, U> next : metrics.values() )
+        {
+            metricFutures.add( CompletableFuture.supplyAsync( () -> this.applyMetric( next, input, matrix ),
+                                                              this.metricPool ) );
+        }
         // Compute the results
         List<U> unpacked = new ArrayList<>();
 
-        this.logStartOfCalculation( metrics, collectableMetrics );
+        this.logStartOfCalculation( metrics, collectableMetrics, incrementalMetrics );
 
         for ( CompletableFuture<U> nextResult : metricFutures )
         {
@@ -371,11 +587,33 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
 
         List<U> returnMe = Collections.unmodifiableList( unpacked );
 
-        this.logEndOfCalculation( metrics, collectableMetrics, returnMe );
+        this.logEndOfCalculation( metrics, collectableMetrics, incrementalMetrics, returnMe );
 
         return returnMe;
     }
 
+    /**
+     * Computes a metric, supplying the matrix of sorted ensemble members when the metric consumes one.
+     *
+     * @param metric the metric
+     * @param pool the pool
+     * @param matrix the matrix of sorted ensemble members, possibly null
+     * @return the statistic
+     */
+
+    @SuppressWarnings( "unchecked" )
+    private U applyMetric( Metric<S, U> metric, S pool, SortedEnsembleMatrix matrix )
+    {
+        // A metric that consumes sorted ensemble members is a metric of ensemble pairs, so the casts are safe
+        if ( Objects.nonNull( matrix )
+             && metric instanceof SortedEnsembleMetric<?> sorted )
+        {
+            return ( ( SortedEnsembleMetric<U> ) sorted ).apply( ( Pool<Pair<Double, Ensemble>> ) pool, matrix );
+        }
+
+        return metric.apply( pool );
+    }
+
     /**
      * Hidden constructor.
      *
@@ -414,8 +652,14 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
             localCollected.add( id );
         } );
 
+        //Set the incremental metrics
+        List<IncrementalGroup<S, ?, U>> localIncrementalMetrics = List.copyOf( builder.incrementalMetrics );
+        localIncrementalMetrics.forEach( next -> localCollected.addAll( next.metrics()
+                                                                            .keySet() ) );
+
         this.metrics = Collections.unmodifiableMap( localMetrics );
         this.collectableMetrics = Collections.unmodifiableMap( localCollectableMetrics );
+        this.incrementalMetrics = localIncrementalMetrics;
         this.collected = Collections.unmodifiableSet( localCollected );
 
         this.validate();
@@ -435,7 +679,8 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
             throw new MetricParameterException( "Cannot construct the metric collection without an executor service." );
         }
         if ( this.metrics.isEmpty()
-             && this.collectableMetrics.isEmpty() )
+             && this.collectableMetrics.isEmpty()
+             && this.incrementalMetrics.isEmpty() )
         {
             throw new MetricParameterException( "Cannot construct a metric collection without any metrics." );
         }
@@ -446,10 +691,12 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
      *
      * @param metrics the metrics
      * @param collectableMetrics the collectable metrics
+     * @param incrementalMetrics the groups of incremental metrics
      */
 
     private void logStartOfCalculation( Map<MetricConstants, Metric<S, U>> metrics,
-                                        Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics )
+                                        Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics,
+                                        List<IncrementalGroup<S, ?, U>> incrementalMetrics )
     {
         if ( LOGGER.isTraceEnabled() )
         {
@@ -457,6 +704,7 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
             Set<MetricConstants> started = new TreeSet<>();
             Set<MetricConstants> collect = new TreeSet<>();
             collectableMetrics.values().forEach( next -> collect.addAll( next.keySet() ) );
+            incrementalMetrics.forEach( next -> collect.addAll( next.metrics().keySet() ) );
             started.addAll( metrics.keySet() );
             started.addAll( collect );
 
@@ -473,11 +721,13 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
      *
      * @param metrics the metrics
      * @param collectableMetrics the collectable metrics
+     * @param incrementalMetrics the groups of incremental metrics
      * @param results the results to log
      */
 
     private void logEndOfCalculation( Map<MetricConstants, Metric<S, U>> metrics,
                                       Map<MetricConstants, Map<MetricConstants, Collectable<S, T, U>>> collectableMetrics,
+                                      List<IncrementalGroup<S, ?, U>> incrementalMetrics,
                                       List<U> results )
     {
         if ( LOGGER.isTraceEnabled() )
@@ -485,6 +735,7 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
             // Determine the metrics computed
             Set<MetricConstants> collect = new TreeSet<>();
             collectableMetrics.values().forEach( next -> collect.addAll( next.keySet() ) );
+            incrementalMetrics.forEach( next -> collect.addAll( next.metrics().keySet() ) );
             Set<MetricConstants> completed = Slicer.discover( results, U::getMetricName );
 
             LOGGER.trace( "Finished computing metrics for a collection that contains {} ordinary metric(s) and {} "
@@ -498,4 +749,105 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
         }
     }
 
+    /**
+     * A group of {@link Incremental} metrics that share a common intermediate statistic, which is computed once for a
+     * pool and then completed by each metric in the group.
+     *
+     * @param <S> the pool data type
+     * @param <V> the intermediate statistic type
+     * @param <U> the statistics type
+     * @param metrics the metrics, indexed by name
+     */
+
+    private record IncrementalGroup<S extends Pool<?>, V extends Statistic<?>, U extends Statistic<?>>(
+            Map<MetricConstants, Incremental<S, V, U>> metrics )
+    {
+        /**
+         * Returns the subset of metrics in this group.
+         *
+         * @param names the metrics to retain
+         * @return the filtered group
+         */
+
+        private IncrementalGroup<S, V, U> filter( Set<MetricConstants> names )
+        {
+            Map<MetricConstants, Incremental<S, V, U>> filtered = new EnumMap<>( MetricConstants.class );
+            this.metrics.forEach( ( name, metric ) -> {
+                if ( names.contains( name ) )
+                {
+                    filtered.put( name, metric );
+                }
+            } );
+
+            return new IncrementalGroup<>( filtered );
+        }
+
+        /**
+         * Computes the intermediate statistic of the pool. When the pool was built from mini-pools, the intermediate
+         * statistic is combined from the intermediate statistics of each mini-pool.
+         *
+         * @param pool the pool
+         * @return the intermediate statistic
+         */
+
+        private IntermediateStatistic<V, U> getIntermediateStatistic( S pool )
+        {
+            Incremental<S, V, U> baseMetric = this.metrics.values()
+                                                          .iterator()
+                                                          .next();
+
+            List<? extends Pool<?>> miniPools = pool.getMiniPools();
+
+            if ( miniPools.size() < 2 )
+            {
+                return IntermediateStatistic.of( baseMetric.combine( pool, null ), this.metrics );
+            }
+
+            // Combine the intermediate statistics of each mini-pool, such as each feature within a feature group, and
+            // assign the metadata of the overall pool
+            V combined = null;
+            for ( Pool<?> next : miniPools )
+            {
+                @SuppressWarnings( "unchecked" )
+                S miniPool = ( S ) next;
+                V nextStatistic = baseMetric.combine( miniPool, null );
+
+                if ( Objects.isNull( combined ) )
+                {
+                    combined = nextStatistic;
+                }
+                else
+                {
+                    combined = baseMetric.combine( combined, nextStatistic, pool.getMetadata() );
+                }
+            }
+
+            return IntermediateStatistic.of( combined, this.metrics );
+        }
+
+        /**
+         * Creates the futures that compute the intermediate statistic once and complete each metric from it.
+         *
+         * @param pool the pool
+         * @param executor the executor
+         * @return the futures, one for each metric
+         */
+
+        private List<CompletableFuture<U>> apply( S pool, ExecutorService executor )
+        {
+            Incremental<S, V, U> baseMetric = this.metrics.values()
+                                                          .iterator()
+                                                          .next();
+            CompletableFuture<V> baseFuture = CompletableFuture.supplyAsync( () -> baseMetric.combine( pool, null ),
+                                                                             executor );
+
+            List<CompletableFuture<U>> futures = new ArrayList<>();
+            for ( Incremental<S, V, U> metric : this.metrics.values() )
+            {
+                futures.add( baseFuture.thenApplyAsync( metric::complete, executor ) );
+            }
+
+            return Collections.unmodifiableList( futures );
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package wres.metrics;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -60,6 +61,7 @@ import wres.metrics.singlevalued.QuantileQuantileDiagram;
 import wres.metrics.singlevalued.RootMeanSquareError;
 import wres.metrics.singlevalued.RootMeanSquareErrorNormalized;
 import wres.metrics.singlevalued.ScatterPlot;
+import wres.metrics.singlevalued.SufficientStatistics;
 import wres.metrics.singlevalued.SumOfSquareError;
 import wres.metrics.singlevalued.VolumetricEfficiency;
 import wres.metrics.singlevalued.univariate.Maximum;
@@ -285,11 +287,21 @@ public final class MetricFactory
         Builder<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> builder =
                 Builder.of();
 
+        // Scores that are completed from the sufficient statistics of the pool, which are computed once
+        Map<MetricConstants, Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>>
+                incremental = new EnumMap<>( MetricConstants.class );
+
         // Add the metrics
         for ( MetricConstants next : metric )
         {
             Metric<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter> m = MetricFactory.ofSingleValuedScore( next );
-            if ( MetricFactory.isCollectable( next ) )
+            if ( MetricFactory.isIncremental( next ) )
+            {
+                Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter> i =
+                        ( Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter> ) m;
+                incremental.put( next, i );
+            }
+            else if ( MetricFactory.isCollectable( next ) )
             {
                 Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> c =
                         ( Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> ) m;
@@ -301,6 +313,7 @@ public final class MetricFactory
             }
         }
 
+        builder.addIncrementalMetrics( incremental );
         builder.setExecutorService( executor );
         return builder.build();
     }
@@ -398,11 +411,23 @@ public final class MetricFactory
     {
         Builder<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> builder =
                 Builder.of();
+
+        // Scores that are completed from the contingency table of the pool, which is computed once
+        Map<MetricConstants,
+                Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>>
+                incremental = new EnumMap<>( MetricConstants.class );
+
         for ( MetricConstants next : metric )
         {
             Metric<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter> m =
                     MetricFactory.ofDichotomousScore( next );
-            if ( MetricFactory.isCollectable( next ) )
+            if ( MetricFactory.isIncremental( next ) )
+            {
+                Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> i =
+                        ( Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> ) m;
+                incremental.put( next, i );
+            }
+            else if ( MetricFactory.isCollectable( next ) )
             {
                 Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> c =
                         ( Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> ) m;
@@ -413,6 +438,8 @@ public final class MetricFactory
                 builder.addMetric( m );
             }
         }
+
+        builder.addIncrementalMetrics( incremental );
         builder.setExecutorService( executor );
         return builder.build();
     }
@@ -984,6 +1011,32 @@ public final class MetricFactory
         return builder.build();
     }
 
+    /**
+     * Returns <code>true</code> if the input metric is an instance of {@link Incremental}, otherwise <code>false</code>.
+     * The single-valued scores are completed from {@link SufficientStatistics} and the dichotomous scores are completed
+     * from a {@link ContingencyTable}.
+     *
+     * @param metric the metric
+     * @return true if the metric is {@link Incremental}, otherwise false
+     */
+
+    private static boolean isIncremental( MetricConstants metric )
+    {
+        Objects.requireNonNull( metric, "Specify a non-null metric to test." );
+
+        return metric == MetricConstants.MEAN_ERROR
+               || metric == MetricConstants.MEAN_ABSOLUTE_ERROR
+               || metric == MetricConstants.SUM_OF_SQUARE_ERROR
+               || metric == MetricConstants.MEAN_SQUARE_ERROR
+               || metric == MetricConstants.ROOT_MEAN_SQUARE_ERROR
+               || metric == MetricConstants.PEARSON_CORRELATION_COEFFICIENT
+               || metric == MetricConstants.COEFFICIENT_OF_DETERMINATION
+               || metric == MetricConstants.KLING_GUPTA_EFFICIENCY
+               || metric == MetricConstants.MEAN_SQUARE_ERROR_SKILL_SCORE
+               // DoubleScoreDifference does not implement Incremental
+               || ( !metric.isDifferenceMetric() && metric.isInGroup( SampleDataGroup.DICHOTOMOUS ) );
+    }
+
     /**
      * Returns <code>true</code> if the input metric is an instance of {@link Collectable}, otherwise
      * <code>false</code>.
@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.config.MetricConstants;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.BoxplotStatistic;
@@ -47,6 +48,12 @@ import wres.statistics.generated.Statistics;
  * reliability diagram with five bins, then all other reliability diagrams provided to the same instance must contain
  * five bins. However, some of the blobs of statistics may contain no reliability diagrams.
  *
+ * <p>Optionally, accepts the {@link IntermediateStatistic} of each pool with {@link #combine(IntermediateStatistic)},
+ * such as the sufficient statistics of several single-valued scores. The intermediate statistics are combined across
+ * pools and completed on request, which is equivalent to calculating the scores for the pool that contains the pairs of
+ * all pools registered with the calculator. These pooled scores are returned as a {@link Statistics} without a summary
+ * statistic.
+ *
  * <p>Implementation notes:
  *
  * <p>This is an in-memory implementation, not backed by a database and is, therefore, constrained by system memory.
@@ -130,6 +137,9 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
     /** A lock to allow foratomic updating of the {@link #nominal} statistics. */
     private final ReentrantLock nominalStatisticsLock = new ReentrantLock();
 
+    /** The intermediate statistics combined across pools, indexed by the type of intermediate statistic. */
+    private final Map<Class<?>, IntermediateStatistic<?, ?>> intermediateStatistics;
+
     /**
      * Creates an instance.
      * @param scalarStatistics the scalar summary statistics to calculate
@@ -228,6 +238,47 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
         return true;
     }
 
+    /**
+     * Combines the intermediate statistic of a pool with the intermediate statistics of other pools that were added
+     * to this instance, so that the metrics can be completed for all pools together.
+     *
+     * @param statistic the intermediate statistic
+     * @throws NullPointerException if the statistic is null
+     * @throws IllegalArgumentException if this instance has been completed and no further statistics are expected
+     * @return whether the statistic was accepted based on a filter supplied on construction
+     */
+
+    public boolean combine( IntermediateStatistic<?, ?> statistic )
+    {
+        Objects.requireNonNull( statistic );
+
+        if ( this.isComplete.get() )
+        {
+            throw new IllegalArgumentException( "No further statistics can be added, as this instance has been marked "
+                                                + "complete." );
+        }
+
+        // Filter on the pool metadata, in common with the raw statistics of the same pool
+        Statistics poolOnly = Statistics.newBuilder()
+                                        .setPool( statistic.getPoolMetadata()
+                                                           .getPoolDescription() )
+                                        .build();
+        if ( !this.filter.test( poolOnly ) )
+        {
+            LOGGER.trace( "Rejected the intermediate statistic as it does not meet the filter: {}.", statistic );
+
+            return false;
+        }
+
+        // The metadata is reported from the nominal statistics, so retain the metadata of the first statistic
+        this.intermediateStatistics.merge( statistic.getStatistic()
+                                                    .getClass(),
+                                           statistic,
+                                           ( a, b ) -> a.combine( b, a.getPoolMetadata() ) );
+
+        return true;
+    }
+
     /**
      * Updates the summary statistics metadata to reflect the latest raw statistics.
      *
@@ -633,6 +684,25 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
             }
         }
 
+        // Complete the intermediate statistics combined across pools
+        if ( !this.intermediateStatistics.isEmpty() )
+        {
+            Statistics.Builder builder = this.nominal.toBuilder()
+                                                     .clearSummaryStatistic();
+
+            this.intermediateStatistics.values()
+                                       .stream()
+                                       .flatMap( next -> next.complete()
+                                                             .stream() )
+                                       .filter( DoubleScoreStatisticOuter.class::isInstance )
+                                       .map( next -> ( ( DoubleScoreStatisticOuter ) next ).getStatistic() )
+                                       .sorted( Comparator.comparing( a -> a.getMetric()
+                                                                            .getName() ) )
+                                       .forEach( builder::addScores );
+
+            this.statistics.add( builder.build() );
+        }
+
         LOGGER.debug( "Finished setting the summary statistics." );
     }
 
@@ -1078,6 +1148,9 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
         this.diagramTemplates = new ConcurrentHashMap<>();
         this.durationScoreTemplates = new ConcurrentHashMap<>();
         this.durationDiagramTemplates = new ConcurrentHashMap<>();
+
+        // Create the container for the intermediate statistics
+        this.intermediateStatistics = new ConcurrentHashMap<>();
     }
 
     /**
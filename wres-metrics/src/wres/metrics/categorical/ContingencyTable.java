@@ -1,5 +1,6 @@
 package wres.metrics.categorical;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -8,9 +9,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolSlicer;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.datamodel.units.Units;
 import wres.metrics.Collectable;
+import wres.metrics.Incremental;
 import wres.metrics.Metric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric;
@@ -29,7 +33,8 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
  */
 
 public class ContingencyTable implements Metric<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter>,
-                                         Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                                         Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+                                         Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -208,6 +213,64 @@ public class ContingencyTable implements Metric<Pool<Pair<Boolean, Boolean>>, Do
         return MetricConstants.CONTINGENCY_TABLE;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Boolean, Boolean>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        DoubleScoreStatisticOuter next = this.apply( pool );
+
+        if ( Objects.isNull( statistic ) )
+        {
+            return next;
+        }
+
+        PoolMetadata metadata = statistic.getPoolMetadata();
+        if ( !metadata.equals( next.getPoolMetadata() ) )
+        {
+            metadata = PoolSlicer.unionOf( List.of( metadata, next.getPoolMetadata() ) );
+        }
+
+        return this.combine( statistic, next, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter combine( DoubleScoreStatisticOuter statistic,
+                                              DoubleScoreStatisticOuter other,
+                                              PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+        Objects.requireNonNull( other );
+
+        // Add the counts of each outcome
+        DoubleScoreStatistic.Builder builder = other.getStatistic()
+                                                    .toBuilder();
+        for ( DoubleScoreStatisticComponent.Builder component : builder.getStatisticsBuilderList() )
+        {
+            MetricName name = component.getMetric()
+                                       .getName();
+            double prior = statistic.getStatistic()
+                                    .getStatisticsList()
+                                    .stream()
+                                    .filter( c -> c.getMetric()
+                                                   .getName() == name )
+                                    .mapToDouble( DoubleScoreStatisticComponent::getValue )
+                                    .sum();
+            component.setValue( component.getValue() + prior );
+        }
+
+        return DoubleScoreStatisticOuter.of( builder.build(), metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        return statistic;
+    }
+
     /**
      * Hidden constructor.
      */
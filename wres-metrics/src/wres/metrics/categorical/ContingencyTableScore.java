@@ -9,20 +9,25 @@ import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
+import wres.metrics.Incremental;
 import wres.metrics.Metric;
 import wres.metrics.MetricCalculationException;
 import wres.metrics.Score;
 
 /**
- * A generic implementation of an error score that applies to the components of a {@link ContingencyTable}.
+ * A generic implementation of an error score that applies to the components of a {@link ContingencyTable}. The score
+ * may be computed incrementally by combining the contingency tables of separate pools and completing the score from
+ * the combined table.
  * 
  * @author James Brown
  */
 
 abstract class ContingencyTableScore implements Score<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter>,
-        Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /** A {@link ContingencyTable} to compute. */
     private final ContingencyTable table;
@@ -47,6 +52,32 @@ abstract class ContingencyTableScore implements Score<Pool<Pair<Boolean, Boolean
         return this.table.apply( s );
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Boolean, Boolean>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        return this.table.combine( pool, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter combine( DoubleScoreStatisticOuter statistic,
+                                              DoubleScoreStatisticOuter other,
+                                              PoolMetadata metadata )
+    {
+        return this.table.combine( statistic, other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        // The scores are computed from the contingency table alone, without reference to the pool
+        return this.applyIntermediate( statistic, null );
+    }
+
     @Override
     public boolean isDecomposable()
     {
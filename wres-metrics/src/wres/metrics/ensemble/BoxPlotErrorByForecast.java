@@ -5,9 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.ToDoubleFunction;
 
-import org.apache.commons.lang3.tuple.Pair;
 
-import wres.datamodel.types.Ensemble;
 import wres.datamodel.Slicer;
 import wres.datamodel.types.VectorOfDoubles;
 import wres.config.MetricConstants;
@@ -102,24 +100,22 @@ public class BoxPlotErrorByForecast extends EnsembleBoxPlot
     }
 
     /**
-     * Creates a box from an ensemble pair.
+     * Creates a box from the observed value and sorted ensemble members of an ensemble pair.
      * 
-     * @param pair an ensemble pair
+     * @param observed the observed value
+     * @param sorted the ensemble members in ascending order
      * @return a box
      * @throws MetricCalculationException if the box cannot be constructed
      */
 
     @Override
-    Box getBox( Pair<Double, Ensemble> pair )
+    Box getBox( double observed, double[] sorted )
     {
         // Get the sorted errors
         List<Double> probs = this.getMetric()
                                  .getQuantilesList();
-        double[] sorted = pair.getRight()
-                              .getMembers();
-        Arrays.sort( sorted );
         double[] sortedErrors = Arrays.stream( sorted )
-                                      .map( x -> x - pair.getLeft() )
+                                      .map( x -> x - observed )
                                       .toArray();
 
         // Compute the quantiles
@@ -3,9 +3,7 @@ package wres.metrics.ensemble;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.tuple.Pair;
 
-import wres.datamodel.types.Ensemble;
 import wres.datamodel.Slicer;
 import wres.datamodel.types.VectorOfDoubles;
 import wres.config.MetricConstants;
@@ -64,16 +62,13 @@ public class BoxPlotErrorByObserved extends EnsembleBoxPlot
     }
 
     @Override
-    Box getBox( Pair<Double, Ensemble> pair )
+    Box getBox( double observed, double[] sorted )
     {
         // Get the sorted errors
         List<Double> probs = this.getMetric()
                                  .getQuantilesList();
-        double[] sorted = pair.getRight()
-                              .getMembers();
-        Arrays.sort( sorted );
         double[] sortedErrors = Arrays.stream( sorted )
-                                      .map( x -> x - pair.getLeft() )
+                                      .map( x -> x - observed )
                                       .toArray();
 
         // Compute the quantiles
@@ -84,7 +79,7 @@ public class BoxPlotErrorByObserved extends EnsembleBoxPlot
                                 .toList();
 
         return Box.newBuilder()
-                  .setLinkedValue( pair.getLeft() )
+                  .setLinkedValue( observed )
                   .addAllQuantiles( box )
                   .build();
     }
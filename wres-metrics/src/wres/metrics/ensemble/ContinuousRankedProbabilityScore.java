@@ -1,10 +1,7 @@
 package wres.metrics.ensemble;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiConsumer;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -13,7 +10,7 @@ import org.slf4j.LoggerFactory;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
-import wres.datamodel.Slicer;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
@@ -41,7 +38,8 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * @author James Brown
  */
 public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pair<Double, Ensemble>>>
-        implements ProbabilityScore<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter>
+        implements ProbabilityScore<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter>,
+        SortedEnsembleMetric<DoubleScoreStatisticOuter>
 {
     /** Basic description of the metric. */
     public static final DoubleScoreMetric BASIC_METRIC =
@@ -87,23 +85,41 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
             throw new PoolException( "Specify non-null input to the '" + this + "'." );
         }
 
+        return this.apply( pool, SortedEnsembleMatrix.of( pool.get() ) );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter apply( Pool<Pair<Double, Ensemble>> pool, SortedEnsembleMatrix matrix )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+
+        if ( Objects.isNull( matrix )
+             || matrix.getRowCount() != pool.get()
+                                            .size() )
+        {
+            throw new PoolException( "Specify a sorted ensemble matrix with one row for each pair in the pool for "
+                                     + "the '"
+                                     + this
+                                     + "'." );
+        }
+
         LOGGER.trace( "Found {} pairs in the input to the {} for '{}'.",
                       pool.get().size(),
                       this.getMetricNameString(),
                       pool.getMetadata() );
 
-        // Slice the data into groups with an equal number of ensemble members
-        Map<Integer, List<Pair<Double, Ensemble>>> grouped =
-                Slicer.filterByRightSize( pool.get() );
-
-        // CRPS, currently without decomposition
+        // CRPS from the sorted pairs grouped by the number of ensemble members, currently without decomposition
         // TODO: implement the decomposition
         double crps = 0;
-        for ( Map.Entry<Integer, List<Pair<Double, Ensemble>>> nextGroup : grouped.entrySet() )
+        for ( Map.Entry<Integer, int[]> nextGroup : matrix.getRowsBySize()
+                                                          .entrySet() )
         {
             int count = nextGroup.getKey();
-            List<Pair<Double, Ensemble>> pairs = nextGroup.getValue();
-            double[] crpsSum = this.getSumCRPS( pairs, count );
+            int[] rows = nextGroup.getValue();
+            double[] crpsSum = this.getSumCRPS( matrix, rows, count );
             crps += crpsSum[0]; // Main score in index 0
         }
 
@@ -178,37 +194,24 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
      *
      * <p>TODO: implement the decomposition
      *
-     * @param pairs the pairs
+     * @param matrix the sorted pairs
+     * @param rows the rows of the sorted pairs to include
      * @param memberCount the number of ensemble members
      * @return the mean CRPS, with decomposition if required
      */
 
-    private double[] getSumCRPS( List<Pair<Double, Ensemble>> pairs, int memberCount )
+    private double[] getSumCRPS( SortedEnsembleMatrix matrix, int[] rows, int memberCount )
     {
         double totCRPS = 0.0;
 
-        // Form the sorted pairs: #93061
-        List<double[]> sortedPairs = new ArrayList<>();
-        for ( Pair<Double, Ensemble> nextPair : pairs )
-        {
-            // Combine and sort forecast
-            Ensemble ensemble = nextPair.getRight();
-            double[] sorted = ensemble.getSortedMembers();
-            double[] withLeft = new double[memberCount + 1];
-            withLeft[0] = nextPair.getLeft();
-            System.arraycopy( sorted, 0, withLeft, 1, sorted.length );
-            sortedPairs.add( withLeft );
-        }
-
         // Iterate through the member positions and determine the mean alpha and beta
-        BiConsumer<double[], Incrementer> summer = ContinuousRankedProbabilityScore.sumAlphaBeta();
         for ( int i = 0; i < memberCount + 1; i++ )
         {
             Incrementer incrementer = new Incrementer( i, memberCount );
-            for ( double[] nextSorted : sortedPairs )
+            for ( int row : rows )
             {
                 // Increment
-                summer.accept( nextSorted, incrementer );
+                ContinuousRankedProbabilityScore.sumAlphaBeta( matrix, row, incrementer );
             }
 
             totCRPS += incrementer.totCRPS;
@@ -218,108 +221,108 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
     }
 
     /**
-     * Returns a consumer that increments the parameters within an {@link Incrementer} for each input pair with sorted
-     * forecasts. 
+     * Increments the parameters within an {@link Incrementer} for one pair with sorted forecasts.
      *
-     * @return a consumer that increments the parameters in the {@link Incrementer} for each input pair
+     * @param matrix the sorted pairs
+     * @param row the row of the pair
+     * @param inc the incrementer
      */
 
-    private static BiConsumer<double[], Incrementer> sumAlphaBeta()
+    private static void sumAlphaBeta( SortedEnsembleMatrix matrix, int row, Incrementer inc )
     {
-        // Handle three possibilities
-        BiConsumer<double[], Incrementer> low = ContinuousRankedProbabilityScore.sumAlphaBetaLow();
-        BiConsumer<double[], Incrementer> middle = ContinuousRankedProbabilityScore.sumAlphaBetaMiddle();
-        BiConsumer<double[], Incrementer> high = ContinuousRankedProbabilityScore.sumAlphaBetaHigh();
-        return ( pair, inc ) -> {
-            if ( inc.member == 0 )
-            {
-                low.accept( pair, inc );
-            }
-            // Deal with high outlier: case 2
-            else if ( inc.member == inc.totalMembers )
-            {
-                high.accept( pair, inc );
-            }
-            // Deal with remaining 3 cases, for 0 < i < N
-            else
-            {
-                middle.accept( pair, inc );
-            }
-        };
+        double observed = matrix.getObserved( row );
+
+        // Deal with low outlier: case 1
+        if ( inc.member == 0 )
+        {
+            ContinuousRankedProbabilityScore.sumAlphaBetaLow( observed, matrix.getMember( row, 0 ), inc );
+        }
+        // Deal with high outlier: case 2
+        else if ( inc.member == inc.totalMembers )
+        {
+            ContinuousRankedProbabilityScore.sumAlphaBetaHigh( observed,
+                                                               matrix.getMember( row, inc.member - 1 ),
+                                                               inc );
+        }
+        // Deal with remaining 3 cases, for 0 < i < N
+        else
+        {
+            ContinuousRankedProbabilityScore.sumAlphaBetaMiddle( observed,
+                                                                 matrix.getMember( row, inc.member - 1 ),
+                                                                 matrix.getMember( row, inc.member ),
+                                                                 inc );
+        }
     }
 
     /**
-     * Returns a consumer that increments the parameters within an {@link Incrementer} for each input pair with sorted
-     * forecasts. Appropriate for low outliers, where the observation falls below the lowest member.
+     * Increments the parameters within an {@link Incrementer} for one pair with sorted forecasts. Appropriate for low
+     * outliers, where the observation falls below the lowest member.
      *
-     * @return a consumer that increments the parameters in the {@link Incrementer} for each input pair
+     * @param observed the observed value
+     * @param lowest the lowest member
+     * @param inc the incrementer
      */
 
-    private static BiConsumer<double[], Incrementer> sumAlphaBetaLow()
+    private static void sumAlphaBetaLow( double observed, double lowest, Incrementer inc )
     {
-        return ( pair, inc ) -> {
-            // Deal with low outlier: case 1
-            if ( pair[0] < pair[1] )
-            {
-                final double nextBeta = pair[1] - pair[0];
-                //                    inc.betaSum += nextBeta; // Alpha unchanged
-                inc.totCRPS += ( nextBeta * inc.invProbSquared );
-            }
-        };
+        if ( observed < lowest )
+        {
+            final double nextBeta = lowest - observed;
+            inc.totCRPS += ( nextBeta * inc.invProbSquared );
+        }
     }
 
     /**
-     * Returns a consumer that increments the parameters within an {@link Incrementer} for each input pair with sorted
-     * forecasts. Appropriate where the observation falls within the ensemble forecast distribution.
+     * Increments the parameters within an {@link Incrementer} for one pair with sorted forecasts. Appropriate where
+     * the observation falls within the ensemble forecast distribution.
      *
-     * @return a consumer that increments the parameters in the {@link Incrementer} for each input pair
+     * @param observed the observed value
+     * @param lower the lower member of the interval
+     * @param upper the upper member of the interval
+     * @param inc the incrementer
      */
 
-    private static BiConsumer<double[], Incrementer> sumAlphaBetaMiddle()
+    private static void sumAlphaBetaMiddle( double observed, double lower, double upper, Incrementer inc )
     {
         // Hersbach 2000 has an error in table/eqn (26) and should read >= for the first entry in table, so that
         // the alpha is incremented when the observation is exactly equal to the upper bound of the interval.
         // Likewise the third entry should be <= to include the beta when the observation is exactly equal to the
         // lower bound of the interval
-        return ( pair, inc ) -> {
-            // Case 3: observed exceeds ith + 1
-            if ( pair[0] >= pair[inc.member + 1] ) // Correction to Hersbach
-            {
-                final double nextAlpha = pair[inc.member + 1] - pair[inc.member];
-                inc.totCRPS += nextAlpha * inc.probSquared;
-            } // Case 4: observed falls below ith
-            else if ( pair[0] <= pair[inc.member] ) // Correction to Hersbach
-            {
-                final double nextBeta = pair[inc.member + 1] - pair[inc.member];
-                inc.totCRPS += nextBeta * inc.invProbSquared;
-            } // Case 5: observed falls between ith and ith+1
-            else if ( pair[0] > pair[inc.member] && pair[0] < pair[inc.member + 1] )
-            {
-                final double nextAlpha = pair[0] - pair[inc.member];
-                final double nextBeta = pair[inc.member + 1] - pair[0];
-                inc.totCRPS += ( ( nextAlpha * inc.probSquared ) + ( nextBeta * inc.invProbSquared ) );
-            }
-        };
+        // Case 3: observed exceeds ith + 1
+        if ( observed >= upper ) // Correction to Hersbach
+        {
+            final double nextAlpha = upper - lower;
+            inc.totCRPS += nextAlpha * inc.probSquared;
+        } // Case 4: observed falls below ith
+        else if ( observed <= lower ) // Correction to Hersbach
+        {
+            final double nextBeta = upper - lower;
+            inc.totCRPS += nextBeta * inc.invProbSquared;
+        } // Case 5: observed falls between ith and ith+1
+        else if ( observed > lower && observed < upper )
+        {
+            final double nextAlpha = observed - lower;
+            final double nextBeta = upper - observed;
+            inc.totCRPS += ( ( nextAlpha * inc.probSquared ) + ( nextBeta * inc.invProbSquared ) );
+        }
     }
 
     /**
-     * Returns a consumer that increments the parameters within an {@link Incrementer} for each input pair with sorted
-     * forecasts. Appropriate for high outliers, where the observation falls above the highest member.
+     * Increments the parameters within an {@link Incrementer} for one pair with sorted forecasts. Appropriate for
+     * high outliers, where the observation falls above the highest member.
      *
-     * @return a consumer that increments the parameters in the {@link Incrementer} for each input pair
+     * @param observed the observed value
+     * @param highest the highest member
+     * @param inc the incrementer
      */
 
-    private static BiConsumer<double[], Incrementer> sumAlphaBetaHigh()
+    private static void sumAlphaBetaHigh( double observed, double highest, Incrementer inc )
     {
-        return ( pair, inc ) -> {
-            // Deal with high outlier: case 2
-            if ( pair[0] > pair[inc.member] )
-            {
-                final double nextAlpha = pair[0] - pair[inc.member];
-                //                inc.alphaSum += nextAlpha; //Beta unchanged
-                inc.totCRPS += ( nextAlpha * inc.probSquared );
-            }
-        };
+        if ( observed > highest )
+        {
+            final double nextAlpha = observed - highest;
+            inc.totCRPS += ( nextAlpha * inc.probSquared );
+        }
     }
 
     /**
@@ -9,6 +9,7 @@ import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.FunctionFactory;
 import wres.statistics.generated.DoubleScoreMetric;
@@ -71,8 +72,18 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
         return new ContinuousRankedProbabilitySkillScore();
     }
 
+    /**
+     * Computes the skill score from a pool and the matrix of sorted ensemble members that was built from the main pairs
+     * of the pool. The matrix for the baseline pairs is built here.
+     *
+     * @param pool the pool
+     * @param matrix the matrix of sorted ensemble members for the main pairs
+     * @return the skill score
+     * @throws PoolException if the pool is null, has no baseline or the matrix does not correspond to the pool
+     */
+
     @Override
-    public DoubleScoreStatisticOuter apply( Pool<Pair<Double, Ensemble>> pool )
+    public DoubleScoreStatisticOuter apply( Pool<Pair<Double, Ensemble>> pool, SortedEnsembleMatrix matrix )
     {
         if ( Objects.isNull( pool ) )
         {
@@ -84,11 +95,12 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
         }
         // CRPSS, currently without decomposition
         // TODO: implement the decomposition
-        double numerator = super.apply( pool )
+        Pool<Pair<Double, Ensemble>> baseline = pool.getBaselineData();
+        double numerator = super.apply( pool, matrix )
                                 .getComponent( MetricConstants.MAIN )
                                 .getStatistic()
                                 .getValue();
-        double denominator = super.apply( pool.getBaselineData() )
+        double denominator = super.apply( baseline, SortedEnsembleMatrix.of( baseline.get() ) )
                                   .getComponent( MetricConstants.MAIN )
                                   .getStatistic()
                                   .getValue();
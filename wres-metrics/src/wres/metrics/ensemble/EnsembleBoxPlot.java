@@ -13,6 +13,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.types.VectorOfDoubles;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.BoxplotStatisticOuter;
 import wres.metrics.Diagram;
@@ -33,6 +34,7 @@ import wres.statistics.generated.BoxplotStatistic.Box;
  */
 
 abstract class EnsembleBoxPlot extends Diagram<Pool<Pair<Double, Ensemble>>, BoxplotStatisticOuter>
+        implements SortedEnsembleMetric<BoxplotStatisticOuter>
 {
 
     /**
@@ -48,14 +50,15 @@ abstract class EnsembleBoxPlot extends Diagram<Pool<Pair<Double, Ensemble>>, Box
     private static final Comparator<? super Box> BOX_COMPARATOR = EnsembleBoxPlot.getBoxComparator();
 
     /**
-     * Creates a box from an ensemble pair.
+     * Creates a box from the observed value and sorted ensemble members of an ensemble pair.
      * 
-     * @param pair the pair
+     * @param observed the observed value
+     * @param sorted the ensemble members in ascending order
      * @return a box
      * @throws MetricCalculationException if the box cannot be constructed
      */
 
-    abstract Box getBox( Pair<Double, Ensemble> pair );
+    abstract Box getBox( double observed, double[] sorted );
 
     /**
      * Returns the metric definition.
@@ -73,12 +76,33 @@ abstract class EnsembleBoxPlot extends Diagram<Pool<Pair<Double, Ensemble>>, Box
             throw new PoolException( "Specify non-null input to the '" + this + "'." );
         }
 
-        List<Box> boxes = new ArrayList<>();
+        return this.apply( pool, SortedEnsembleMatrix.of( pool.get() ) );
+    }
+
+    @Override
+    public BoxplotStatisticOuter apply( Pool<Pair<Double, Ensemble>> pool, SortedEnsembleMatrix matrix )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+
+        if ( Objects.isNull( matrix )
+             || matrix.getRowCount() != pool.get()
+                                            .size() )
+        {
+            throw new PoolException( "Specify a sorted ensemble matrix with one row for each pair in the pool for "
+                                     + "the '"
+                                     + this
+                                     + "'." );
+        }
+
+        List<Box> boxes = new ArrayList<>( matrix.getRowCount() );
 
         // Create each box
-        for ( Pair<Double, Ensemble> next : pool.get() )
+        for ( int row = 0; row < matrix.getRowCount(); row++ )
         {
-            boxes.add( this.getBox( next ) );
+            boxes.add( this.getBox( matrix.getObserved( row ), matrix.getSortedMembers( row ) ) );
         }
 
         // Sort the boxes by value: #70986
@@ -2,22 +2,20 @@ package wres.metrics.ensemble;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
-import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.MissingValues;
-import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.statistics.DiagramStatisticOuter;
 import wres.datamodel.units.Units;
 import wres.metrics.Diagram;
@@ -42,6 +40,7 @@ import wres.statistics.generated.DiagramStatistic.DiagramStatisticComponent;
  */
 
 public class RankHistogram extends Diagram<Pool<Pair<Double, Ensemble>>, DiagramStatisticOuter>
+        implements SortedEnsembleMetric<DiagramStatisticOuter>
 {
     /**
      * Rank order.
@@ -124,6 +123,27 @@ public class RankHistogram extends Diagram<Pool<Pair<Double, Ensemble>>, Diagram
             throw new PoolException( "Specify non-null input to the '" + this + "'." );
         }
 
+        return this.apply( pool, SortedEnsembleMatrix.of( pool.get() ) );
+    }
+
+    @Override
+    public DiagramStatisticOuter apply( Pool<Pair<Double, Ensemble>> pool, SortedEnsembleMatrix matrix )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+
+        if ( Objects.isNull( matrix )
+             || matrix.getRowCount() != pool.get()
+                                            .size() )
+        {
+            throw new PoolException( "Specify a sorted ensemble matrix with one row for each pair in the pool for "
+                                     + "the '"
+                                     + this
+                                     + "'." );
+        }
+
         // Empty diagram
         if ( pool.get()
                  .isEmpty() )
@@ -150,36 +170,33 @@ public class RankHistogram extends Diagram<Pool<Pair<Double, Ensemble>>, Diagram
         double[] ranks = new double[] { MissingValues.DOUBLE };
         double[] relativeFrequencies = new double[] { MissingValues.DOUBLE };
 
-        // Acquire subsets in case of missing data
-        Map<Integer, List<Pair<Double, Ensemble>>> sliced =
-                Slicer.filterByRightSize( pool.get() );
-
         // Find the subset with the most elements
-        Optional<List<Pair<Double, Ensemble>>> useMe = sliced.values()
-                                                             .stream()
-                                                             .max( Comparator.comparingInt( List::size ) );
+        Optional<Map.Entry<Integer, int[]>> useMe = matrix.getRowsBySize()
+                                                          .entrySet()
+                                                          .stream()
+                                                          .max( Comparator.comparingInt( e -> e.getValue().length ) );
 
         if ( useMe.isPresent() )
         {
             // Set the ranked positions as 1:N+1
             ranks = IntStream.range( 1, useMe.get()
-                                             .get( 0 )
-                                             .getRight()
-                                             .size() + 2 )
+                                             .getKey() + 2 )
                              .asDoubleStream()
                              .toArray();
             double[] sumRanks = new double[ranks.length]; // Total falling in each ranked position
 
             // Compute the sum of ranks
             Random random = this.getRandomNumberGenerator();
-            BiConsumer<Pair<Double, Ensemble>, double[]> ranker = RankHistogram.rankWithTies( random );
-            useMe.get()
-                 .forEach( nextPair -> ranker.accept( nextPair, sumRanks ) );
+            int[] rows = useMe.get()
+                              .getValue();
+            for ( int row : rows )
+            {
+                RankHistogram.rankWithTies( matrix, row, sumRanks, random );
+            }
 
             // Compute relative frequencies
             relativeFrequencies = Arrays.stream( sumRanks )
-                                        .map( a -> a / useMe.get()
-                                                            .size() )
+                                        .map( a -> a / rows.length )
                                         .toArray();
         }
 
@@ -256,126 +273,118 @@ public class RankHistogram extends Diagram<Pool<Pair<Double, Ensemble>>, Diagram
      * When the right-hand side contains ties, the rank position is assigned randomnly. Increments the input array by 
      * one at the corresponding index.
      *
+     * @param matrix the sorted pairs
+     * @param row the row of the pair
+     * @param sumRanks the sum of ranks to increment
      * @param rng the random number generator for handling ties
-     * @return a function that increments the second argument based on the rank position of the observation within the ensemble
      */
 
-    private static BiConsumer<Pair<Double, Ensemble>, double[]> rankWithTies( Random rng )
+    private static void rankWithTies( SortedEnsembleMatrix matrix, int row, double[] sumRanks, Random rng )
     {
-        final TriConsumer<double[], Double, double[]> containedRanker = RankHistogram.getContainedRanker( rng );
-        return ( pair, sumRanks ) -> {
-
-            // Sort the RHS
-            double[] sorted = pair.getRight()
-                                  .getMembers();
-            double obs = pair.getLeft();
-
-            Arrays.sort( sorted );
+        double obs = matrix.getObserved( row );
+        int memberCount = matrix.getMemberCount( row );
 
-            // Miss low
-            if ( obs < sorted[0] )
-            {
-                sumRanks[0] += 1;
-            }
+        // Miss low
+        if ( obs < matrix.getMember( row, 0 ) )
+        {
+            sumRanks[0] += 1;
+        }
 
-            // Greater or equal to upper bound
-            else if ( obs >= sorted[sorted.length - 1] )
-            {
-                sumRanks[sumRanks.length - 1] += 1;
-            }
+        // Greater or equal to upper bound
+        else if ( obs >= matrix.getMember( row, memberCount - 1 ) )
+        {
+            sumRanks[sumRanks.length - 1] += 1;
+        }
 
-            // Contained
-            else
-            {
-                containedRanker.accept( sorted, obs, sumRanks );
-            }
-        };
+        // Contained
+        else
+        {
+            RankHistogram.rankContained( matrix, row, obs, sumRanks, rng );
+        }
     }
 
     /**
      * Increments the ranked position within the input array when the observation is contained by the ensemble.
      *
+     * @param matrix the sorted pairs
+     * @param row the row of the pair
+     * @param obs the observed value
+     * @param sumRanks the sum of ranks to increment
      * @param rng the random number generator for handling ties
-     * @return a function that increments the ranked position with the observation is contained
      */
 
-    private static TriConsumer<double[], Double, double[]> getContainedRanker( Random rng )
+    private static void rankContained( SortedEnsembleMatrix matrix,
+                                       int row,
+                                       double obs,
+                                       double[] sumRanks,
+                                       Random rng )
     {
-        final TriConsumer<double[], Integer, double[]> tiedRanker = RankHistogram.getTiedRanker( rng );
-        return ( sorted, obs, sumRanks ) -> {
-            for ( int k = 0; k < sorted.length; k++ )
+        int memberCount = matrix.getMemberCount( row );
+
+        for ( int k = 0; k < memberCount; k++ )
+        {
+            // Bin located
+            if ( obs <= matrix.getMember( row, k ) )
             {
-                // Bin located
-                if ( obs <= sorted[k] )
+                // Unique
+                if ( k < ( memberCount - 1 )
+                     && matrix.getMember( row, k ) < matrix.getMember( row, k + 1 ) )
                 {
-                    // Unique
-                    if ( k < ( sorted.length - 1 )
-                         && sorted[k] < sorted[k + 1] )
-                    {
-                        sumRanks[k] += 1;
-                    }
-                    // Tied, find the random rank
-                    else
-                    {
-                        tiedRanker.accept( sorted, k, sumRanks );
-                    }
-                    break;
+                    sumRanks[k] += 1;
                 }
+                // Tied, find the random rank
+                else
+                {
+                    RankHistogram.rankTied( matrix, row, k, sumRanks, rng );
+                }
+                break;
             }
-        };
+        }
     }
 
     /**
      * Increments the ranked position within the input array when the observation is contained by the ensemble and
      * the ensemble includes tied ranks.
      *
+     * @param matrix the sorted pairs
+     * @param row the row of the pair
+     * @param lowerBound the lower bound of the tie
+     * @param sumRanks the sum of ranks to increment
      * @param rng the random number generator for handling ties
-     * @return a function that increments the ranked position when the observation is contained and the ensemble 
-     *            includes ties
      */
 
-    private static TriConsumer<double[], Integer, double[]> getTiedRanker( Random rng )
+    private static void rankTied( SortedEnsembleMatrix matrix,
+                                  int row,
+                                  int lowerBound,
+                                  double[] sumRanks,
+                                  Random rng )
     {
-        return ( sorted, lowerBound, sumRanks ) -> {
-            int startRank = lowerBound; // Lower bound of tie
-            int endRank = lowerBound; // Upper bound of tie, TBD
-            // Locate upper bound
-            for ( int j = lowerBound + 1; j < sorted.length; j++ )
-            {
-                if ( Math.abs( sorted[lowerBound] - sorted[j] ) < .0000001 )
-                {
-                    endRank += 1;
-                }
-                else
-                {
-                    break;
-                }
-            }
-            // Same lower and upper bound
-            if ( startRank == endRank )
+        int memberCount = matrix.getMemberCount( row );
+        int startRank = lowerBound; // Lower bound of tie
+        int endRank = lowerBound; // Upper bound of tie, TBD
+        // Locate upper bound
+        for ( int j = lowerBound + 1; j < memberCount; j++ )
+        {
+            if ( Math.abs( matrix.getMember( row, lowerBound ) - matrix.getMember( row, j ) ) < .0000001 )
             {
-                sumRanks[startRank] += 1;
+                endRank += 1;
             }
-            // Select a random rank between upper and lower
             else
             {
-                int randomIndex = rng.nextInt( endRank - startRank + 1 ) + startRank;
-                sumRanks[randomIndex] += 1;
+                break;
             }
-        };
-    }
-
-    @FunctionalInterface
-    private interface TriConsumer<T, U, S>
-    {
-        /**
-         * Consume three inputs.
-         *
-         * @param t the first input
-         * @param u the second input
-         * @param s the third input
-         */
-        void accept( T t, U u, S s );
+        }
+        // Same lower and upper bound
+        if ( startRank == endRank )
+        {
+            sumRanks[startRank] += 1;
+        }
+        // Select a random rank between upper and lower
+        else
+        {
+            int randomIndex = rng.nextInt( endRank - startRank + 1 ) + startRank;
+            sumRanks[randomIndex] += 1;
+        }
     }
 
 }
@@ -0,0 +1,37 @@
+package wres.metrics.ensemble;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SortedEnsembleMatrix;
+import wres.datamodel.statistics.Statistic;
+import wres.datamodel.types.Ensemble;
+import wres.metrics.Metric;
+import wres.metrics.MetricCalculationException;
+import wres.metrics.MetricCollection;
+
+/**
+ * A {@link Metric} that consumes the sorted ensemble members of a pool, which may be computed from a
+ * {@link SortedEnsembleMatrix} that is built once for the pool by the caller and shared between several metrics. See
+ * also {@link MetricCollection#apply(Pool, java.util.Set, SortedEnsembleMatrix)}, which supplies a matrix to each metric
+ * in the collection that implements this interface. The {@link #apply(Pool)} of an implementation should build the
+ * matrix for the pool and delegate to {@link #apply(Pool, SortedEnsembleMatrix)}.
+ *
+ * @param <U> the statistic type
+ * @author James Brown
+ */
+public interface SortedEnsembleMetric<U extends Statistic<?>> extends Metric<Pool<Pair<Double, Ensemble>>, U>
+{
+    /**
+     * Computes a statistic from a pool and the matrix of sorted ensemble members that was built from the pool.
+     *
+     * @param pool the pool
+     * @param matrix the matrix of sorted ensemble members, which contains one row for each pair in the pool
+     * @return the statistic
+     * @throws PoolException if the pool is null or the matrix does not correspond to the pool
+     * @throws MetricCalculationException if the metric calculation fails
+     */
+
+    U apply( Pool<Pair<Double, Ensemble>> pool, SortedEnsembleMatrix matrix );
+}
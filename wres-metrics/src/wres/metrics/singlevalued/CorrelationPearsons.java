@@ -10,12 +10,14 @@ import org.slf4j.LoggerFactory;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.metrics.MetricCollection;
 import wres.metrics.Score;
 import wres.statistics.generated.DoubleScoreMetric;
@@ -32,7 +34,8 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * @author James Brown
  */
 public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter>,
-                                            Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                                            Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+                                            Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
     /** Basic description of the metric. */
     public static final DoubleScoreMetric BASIC_METRIC = DoubleScoreMetric.newBuilder()
@@ -92,18 +95,7 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
                                                                                     Slicer.getRightSide( pool ) ) );
         }
 
-        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
-                                                                               .setMetric( CorrelationPearsons.MAIN )
-                                                                               .setValue( returnMe )
-                                                                               .build();
-
-        DoubleScoreStatistic score =
-                DoubleScoreStatistic.newBuilder()
-                                    .setMetric( CorrelationPearsons.BASIC_METRIC )
-                                    .addStatistics( component )
-                                    .build();
-
-        return DoubleScoreStatisticOuter.of( score, pool.getMetadata() );
+        return CorrelationPearsons.getCorrelation( returnMe, pool.getMetadata() );
     }
 
     @Override
@@ -157,6 +149,45 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
         return MetricConstants.PEARSON_CORRELATION_COEFFICIENT;
     }
 
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
+
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        double returnMe = Double.NaN;
+
+        // Minimum sample size of 1
+        if ( statistic.getSampleSize() > 1 )
+        {
+            returnMe = FunctionFactory.finiteOrMissing()
+                                      .applyAsDouble( statistic.getCorrelation() );
+        }
+
+        DoubleScoreStatisticOuter correlation = CorrelationPearsons.getCorrelation( returnMe,
+                                                                                    statistic.getPoolMetadata() );
+
+        return this.applyIntermediate( correlation, null );
+    }
+
     @Override
     public String toString()
     {
@@ -164,6 +195,30 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
                    .toString();
     }
 
+    /**
+     * Creates the correlation statistic.
+     *
+     * @param correlation the correlation coefficient
+     * @param metadata the pool metadata
+     * @return the statistic
+     */
+
+    private static DoubleScoreStatisticOuter getCorrelation( double correlation, PoolMetadata metadata )
+    {
+        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
+                                                                               .setMetric( CorrelationPearsons.MAIN )
+                                                                               .setValue( correlation )
+                                                                               .build();
+
+        DoubleScoreStatistic score =
+                DoubleScoreStatistic.newBuilder()
+                                    .setMetric( CorrelationPearsons.BASIC_METRIC )
+                                    .addStatistics( component )
+                                    .build();
+
+        return DoubleScoreStatisticOuter.of( score, metadata );
+    }
+
     /**
      * Hidden constructor.
      */
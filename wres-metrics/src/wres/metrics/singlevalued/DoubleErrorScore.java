@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.MissingValues;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
@@ -70,6 +71,19 @@ public abstract class DoubleErrorScore<S extends Pool<Pair<Double, Double>>>
                               .applyAsDouble( doubles );
         }
 
+        return this.getScore( doubleScore, pool.getMetadata() );
+    }
+
+    /**
+     * Creates a score statistic from a score value.
+     *
+     * @param doubleScore the score value
+     * @param metadata the pool metadata
+     * @return the score statistic
+     */
+
+    DoubleScoreStatisticOuter getScore( double doubleScore, PoolMetadata metadata )
+    {
         Optional<DoubleScoreMetricComponent> main = this.metric.getComponentsList()
                                                                .stream()
                                                                .filter( next -> next.getName() == MetricName.MAIN )
@@ -86,9 +100,8 @@ public abstract class DoubleErrorScore<S extends Pool<Pair<Double, Double>>>
             if ( toSet.getUnits()
                       .isBlank() )
             {
-                String unit = pool.getMetadata()
-                                  .getMeasurementUnit()
-                                  .toString();
+                String unit = metadata.getMeasurementUnit()
+                                      .toString();
                 toSet = toSet.toBuilder()
                              .setUnits( unit )
                              .build();
@@ -112,7 +125,7 @@ public abstract class DoubleErrorScore<S extends Pool<Pair<Double, Double>>>
                                     .addStatistics( component )
                                     .build();
 
-        return DoubleScoreStatisticOuter.of( score, pool.getMetadata() );
+        return DoubleScoreStatisticOuter.of( score, metadata );
     }
 
     @Override
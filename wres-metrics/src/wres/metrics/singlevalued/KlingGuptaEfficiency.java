@@ -9,10 +9,11 @@ import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
-import wres.metrics.Collectable;
 import wres.metrics.DecomposableScore;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
@@ -29,13 +30,13 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * climate change scenarios. <i>Journal of Hydrology</i>, <b>424-425</b>, pp. 264-277, 
  * DOI:10.1016/j.jhydrol.2012.01.011</p>
  *
- * <p>TODO: add this to a {@link Collectable} with {@link CorrelationPearsons} and have both use a {DoubleScoreOutput}
- * that contains the relevant components for computing both, including the marginal means and variances and the 
- * covariances. Do the same for any other scores that uses these components.
+ * <p>The score may be computed incrementally from the {@link SufficientStatistics} of several pools, which contain the
+ * marginal means and variances and the covariance that are shared with the {@link CorrelationPearsons}.
  *
  * @author James Brown
  */
 public class KlingGuptaEfficiency extends DecomposableScore<Pool<Pair<Double, Double>>>
+        implements Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
 
     /**
@@ -125,7 +126,6 @@ public class KlingGuptaEfficiency extends DecomposableScore<Pool<Pair<Double, Do
 
         // TODO: implement any required decompositions, based on the instance parameters and return the decomposition
         // template as the componentID in the metadata
-        double result = Double.NaN;
 
         // Compute the components
         double[] leftValues = Slicer.getLeftSide( pool );
@@ -149,6 +149,83 @@ public class KlingGuptaEfficiency extends DecomposableScore<Pool<Pair<Double, Do
 
         double rhoVal = numerator / ( sdObs * sdPred * ( leftValues.length - 1 ) );
 
+        return this.getScore( meanObs, meanPred, sdObs, sdPred, rhoVal, pool.getMetadata() );
+    }
+
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
+
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        SufficientStatistics.Moments moments = statistic.getStatistic();
+
+        double meanPred = Double.NaN;
+        double meanObs = Double.NaN;
+        if ( moments.sampleSize() > 0 )
+        {
+            meanPred = moments.meanRight();
+            meanObs = moments.meanLeft();
+        }
+
+        double sdPred = statistic.getStandardDeviationRight();
+        double sdObs = statistic.getStandardDeviationLeft();
+        double rhoVal = moments.sumCrossProducts() / ( sdObs * sdPred * ( moments.sampleSize() - 1 ) );
+
+        return this.getScore( meanObs, meanPred, sdObs, sdPred, rhoVal, statistic.getPoolMetadata() );
+    }
+
+    @Override
+    public MetricConstants getMetricName()
+    {
+        return MetricConstants.KLING_GUPTA_EFFICIENCY;
+    }
+
+    @Override
+    public boolean hasRealUnits()
+    {
+        return false;
+    }
+
+    /**
+     * Computes the score from its components.
+     *
+     * @param meanObs the mean of the observations
+     * @param meanPred the mean of the predictions
+     * @param sdObs the standard deviation of the observations
+     * @param sdPred the standard deviation of the predictions
+     * @param rhoVal the correlation of the observations and predictions
+     * @param metadata the pool metadata
+     * @return the score
+     */
+
+    private DoubleScoreStatisticOuter getScore( double meanObs,
+                                                double meanPred,
+                                                double sdObs,
+                                                double sdPred,
+                                                double rhoVal,
+                                                PoolMetadata metadata )
+    {
+        double result = Double.NaN;
+
         // Check for finite correlation
         if ( Double.isFinite( rhoVal ) )
         {
@@ -172,19 +249,7 @@ public class KlingGuptaEfficiency extends DecomposableScore<Pool<Pair<Double, Do
                                     .addStatistics( component )
                                     .build();
 
-        return DoubleScoreStatisticOuter.of( score, pool.getMetadata() );
-    }
-
-    @Override
-    public MetricConstants getMetricName()
-    {
-        return MetricConstants.KLING_GUPTA_EFFICIENCY;
-    }
-
-    @Override
-    public boolean hasRealUnits()
-    {
-        return false;
+        return DoubleScoreStatisticOuter.of( score, metadata );
     }
 
     /**
@@ -9,9 +9,11 @@ import org.slf4j.LoggerFactory;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
@@ -23,7 +25,8 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
  * @author James Brown
  */
 public class MeanAbsoluteError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -107,6 +110,33 @@ public class MeanAbsoluteError extends DoubleErrorScore<Pool<Pair<Double, Double
         return MetricConstants.MEAN_ABSOLUTE_ERROR;
     }
 
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
+
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        return this.getScore( statistic.getMeanAbsoluteError(), statistic.getPoolMetadata() );
+    }
+
     /**
      * Hidden constructor.
      */
@@ -1,9 +1,15 @@
 package wres.metrics.singlevalued;
 
+import java.util.Objects;
+
 import org.apache.commons.lang3.tuple.Pair;
 
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
@@ -15,6 +21,7 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
  * @author James Brown
  */
 public class MeanError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
+        implements Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -68,6 +75,33 @@ public class MeanError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
         return true;
     }
 
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
+
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        return this.getScore( statistic.getMeanError(), statistic.getPoolMetadata() );
+    }
+
     /**
      * Hidden constructor.
      */
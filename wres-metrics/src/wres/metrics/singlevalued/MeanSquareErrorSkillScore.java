@@ -10,12 +10,14 @@ import org.slf4j.LoggerFactory;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.DecomposableScore;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.metrics.MetricCalculationException;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
@@ -31,7 +33,8 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * @author James Brown
  */
 public class MeanSquareErrorSkillScore extends DecomposableScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
     /** Basic description of the metric. */
     public static final DoubleScoreMetric BASIC_METRIC = DoubleScoreMetric.newBuilder()
@@ -159,18 +162,7 @@ public class MeanSquareErrorSkillScore extends DecomposableScore<Pool<Pair<Doubl
                                     .applyAsDouble( numerator, denominator );
         }
 
-        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
-                                                                               .setMetric( MeanSquareErrorSkillScore.MAIN )
-                                                                               .setValue( result )
-                                                                               .build();
-
-        DoubleScoreStatistic score =
-                DoubleScoreStatistic.newBuilder()
-                                    .setMetric( MeanSquareErrorSkillScore.BASIC_METRIC )
-                                    .addStatistics( component )
-                                    .build();
-
-        return DoubleScoreStatisticOuter.of( score, output.getPoolMetadata() );
+        return MeanSquareErrorSkillScore.getScore( result, output.getPoolMetadata() );
     }
 
     @Override
@@ -185,6 +177,97 @@ public class MeanSquareErrorSkillScore extends DecomposableScore<Pool<Pair<Doubl
         return MetricConstants.SUM_OF_SQUARE_ERROR;
     }
 
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
+
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        LOGGER.debug( "Computing the {} from the sufficient statistics.", this );
+
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
+
+        if ( this.getScoreOutputGroup() != MetricGroup.NONE )
+        {
+            throw new MetricCalculationException( "Decomposition is not currently implemented for the '" + this
+                                                  + "'." );
+        }
+
+        SufficientStatistics.Moments moments = statistic.getStatistic();
+        double result = Double.NaN;
+
+        // Some data, proceed
+        if ( moments.sampleSize() > 0 )
+        {
+            double numerator = FunctionFactory.finiteOrMissing()
+                                              .applyAsDouble( moments.sumSquareError() );
+            double denominator;
+
+            // A baseline without any pairs gives a missing score, as it does when computing from the pool
+            if ( moments.hasBaseline() )
+            {
+                denominator = moments.baselineSumSquareError();
+
+                // Divide?
+                if ( moments.sampleSize() != moments.baselineSampleSize() )
+                {
+                    numerator = numerator / moments.sampleSize();
+                    denominator = denominator / moments.baselineSampleSize();
+                }
+            }
+            // Default baseline is the average observation, which results in the so-called Nash-Sutcliffe Efficiency
+            else
+            {
+                denominator = moments.sumSquaresLeft();
+            }
+
+            result = FunctionFactory.skill()
+                                    .applyAsDouble( numerator, denominator );
+        }
+
+        return MeanSquareErrorSkillScore.getScore( result, statistic.getPoolMetadata() );
+    }
+
+    /**
+     * Creates the score statistic.
+     *
+     * @param result the score
+     * @param metadata the pool metadata
+     * @return the statistic
+     */
+
+    private static DoubleScoreStatisticOuter getScore( double result, PoolMetadata metadata )
+    {
+        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
+                                                                               .setMetric( MeanSquareErrorSkillScore.MAIN )
+                                                                               .setValue( result )
+                                                                               .build();
+
+        DoubleScoreStatistic score =
+                DoubleScoreStatistic.newBuilder()
+                                    .setMetric( MeanSquareErrorSkillScore.BASIC_METRIC )
+                                    .addStatistics( component )
+                                    .build();
+
+        return DoubleScoreStatisticOuter.of( score, metadata );
+    }
+
     /**
      * Hidden constructor.
      */
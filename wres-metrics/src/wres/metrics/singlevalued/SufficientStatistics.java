@@ -0,0 +1,499 @@
+package wres.metrics.singlevalued;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.jcip.annotations.Immutable;
+
+import wres.config.MetricConstants;
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.statistics.Statistic;
+import wres.statistics.generated.SummaryStatistic;
+
+/**
+ * <p>An intermediate statistic that contains the sufficient statistics of a pool of single-valued pairs, from which
+ * several single-valued scores may be computed without reference to the pairs. The sufficient statistics from
+ * separate pools may be combined with {@link #combine(SufficientStatistics)}, which allows for scores to be
+ * accumulated incrementally across pools, such as the mini-pools or feature groups within a larger pool.
+ *
+ * <p>The second-order statistics are stored as sums of squared deviations and cross-products about the mean, which
+ * are combined using the pairwise algorithm of Chan et al. (1979). This is numerically more stable than combining raw
+ * sums of squares and cross-products.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public final class SufficientStatistics implements Statistic<SufficientStatistics.Moments>
+{
+    /** The moments. */
+    private final Moments moments;
+
+    /** The pool metadata. */
+    private final PoolMetadata metadata;
+
+    /** The name of the metric for which the statistics were computed. */
+    private final MetricConstants metricName;
+
+    /**
+     * The sufficient statistics of a pool of single-valued pairs.
+     *
+     * @param sampleSize the number of pairs
+     * @param meanLeft the mean of the left values
+     * @param meanRight the mean of the right values
+     * @param sumSquaresLeft the sum of squared deviations of the left values about their mean
+     * @param sumSquaresRight the sum of squared deviations of the right values about their mean
+     * @param sumCrossProducts the sum of the cross-products of the left and right deviations about their means
+     * @param sumError the sum of the errors, where each error is the right value minus the left value
+     * @param sumAbsoluteError the sum of the absolute errors
+     * @param sumSquareError the sum of the square errors
+     * @param baselineSampleSize the number of baseline pairs
+     * @param baselineSumSquareError the sum of the square errors of the baseline pairs
+     * @param hasBaseline is true if the pool has a baseline, which may contain no pairs, otherwise false
+     */
+
+    public record Moments( long sampleSize,
+                           double meanLeft,
+                           double meanRight,
+                           double sumSquaresLeft,
+                           double sumSquaresRight,
+                           double sumCrossProducts,
+                           double sumError,
+                           double sumAbsoluteError,
+                           double sumSquareError,
+                           long baselineSampleSize,
+                           double baselineSumSquareError,
+                           boolean hasBaseline )
+    {
+        /**
+         * Combines these moments with the prescribed moments.
+         *
+         * @param other the moments to combine
+         * @return the combined moments
+         * @throws NullPointerException if the other moments are null
+         */
+
+        public Moments combine( Moments other )
+        {
+            Objects.requireNonNull( other );
+
+            long size = this.sampleSize() + other.sampleSize();
+
+            double meanLeftCombined = this.meanLeft();
+            double meanRightCombined = this.meanRight();
+            double sumSquaresLeftCombined = this.sumSquaresLeft() + other.sumSquaresLeft();
+            double sumSquaresRightCombined = this.sumSquaresRight() + other.sumSquaresRight();
+            double sumCrossProductsCombined = this.sumCrossProducts() + other.sumCrossProducts();
+
+            if ( this.sampleSize() == 0 )
+            {
+                meanLeftCombined = other.meanLeft();
+                meanRightCombined = other.meanRight();
+            }
+            else if ( other.sampleSize() > 0 )
+            {
+                double deltaLeft = other.meanLeft() - this.meanLeft();
+                double deltaRight = other.meanRight() - this.meanRight();
+                double weight = ( double ) this.sampleSize() * other.sampleSize() / size;
+
+                meanLeftCombined += deltaLeft * other.sampleSize() / size;
+                meanRightCombined += deltaRight * other.sampleSize() / size;
+                sumSquaresLeftCombined += deltaLeft * deltaLeft * weight;
+                sumSquaresRightCombined += deltaRight * deltaRight * weight;
+                sumCrossProductsCombined += deltaLeft * deltaRight * weight;
+            }
+
+            return new Moments( size,
+                                meanLeftCombined,
+                                meanRightCombined,
+                                sumSquaresLeftCombined,
+                                sumSquaresRightCombined,
+                                sumCrossProductsCombined,
+                                this.sumError() + other.sumError(),
+                                this.sumAbsoluteError() + other.sumAbsoluteError(),
+                                this.sumSquareError() + other.sumSquareError(),
+                                this.baselineSampleSize() + other.baselineSampleSize(),
+                                this.baselineSumSquareError() + other.baselineSumSquareError(),
+                                this.hasBaseline() || other.hasBaseline() );
+        }
+
+        /**
+         * Computes the moments of a pool of pairs, including the square errors of any baseline pairs.
+         *
+         * @param pool the pool
+         * @return the moments
+         * @throws NullPointerException if the pool is null
+         */
+
+        private static Moments of( Pool<Pair<Double, Double>> pool )
+        {
+            Objects.requireNonNull( pool );
+
+            List<Pair<Double, Double>> pairs = pool.get();
+            int size = pairs.size();
+
+            long baselineSize = 0;
+            double baselineSumSquareError = 0;
+            if ( pool.hasBaseline() )
+            {
+                List<Pair<Double, Double>> baselinePairs = pool.getBaselineData()
+                                                               .get();
+                baselineSize = baselinePairs.size();
+                for ( Pair<Double, Double> next : baselinePairs )
+                {
+                    baselineSumSquareError += Math.pow( next.getRight() - next.getLeft(), 2 );
+                }
+            }
+
+            if ( size == 0 )
+            {
+                return new Moments( 0,
+                                    0,
+                                    0,
+                                    0,
+                                    0,
+                                    0,
+                                    0,
+                                    0,
+                                    0,
+                                    baselineSize,
+                                    baselineSumSquareError,
+                                    pool.hasBaseline() );
+            }
+
+            // Two passes: the first for the sums and the second for the deviations about the means
+            double sumLeft = 0;
+            double sumRight = 0;
+            double sumError = 0;
+            double sumAbsoluteError = 0;
+            double sumSquareError = 0;
+            for ( Pair<Double, Double> next : pairs )
+            {
+                double left = next.getLeft();
+                double right = next.getRight();
+                double error = right - left;
+                sumLeft += left;
+                sumRight += right;
+                sumError += error;
+                sumAbsoluteError += Math.abs( error );
+                sumSquareError += error * error;
+            }
+
+            double meanLeft = sumLeft / size;
+            double meanRight = sumRight / size;
+            double sumSquaresLeft = 0;
+            double sumSquaresRight = 0;
+            double sumCrossProducts = 0;
+            for ( Pair<Double, Double> next : pairs )
+            {
+                double deviationLeft = next.getLeft() - meanLeft;
+                double deviationRight = next.getRight() - meanRight;
+                sumSquaresLeft += deviationLeft * deviationLeft;
+                sumSquaresRight += deviationRight * deviationRight;
+                sumCrossProducts += deviationLeft * deviationRight;
+            }
+
+            return new Moments( size,
+                                meanLeft,
+                                meanRight,
+                                sumSquaresLeft,
+                                sumSquaresRight,
+                                sumCrossProducts,
+                                sumError,
+                                sumAbsoluteError,
+                                sumSquareError,
+                                baselineSize,
+                                baselineSumSquareError,
+                                pool.hasBaseline() );
+        }
+    }
+
+    /**
+     * Computes the sufficient statistics of a pool.
+     *
+     * @param pool the pool
+     * @param metricName the name of the metric for which the statistics are computed
+     * @return the sufficient statistics
+     * @throws PoolException if the pool is null
+     * @throws NullPointerException if the metricName is null
+     */
+
+    public static SufficientStatistics of( Pool<Pair<Double, Double>> pool, MetricConstants metricName )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify a non-null pool from which to compute the sufficient statistics." );
+        }
+
+        return new SufficientStatistics( Moments.of( pool ), pool.getMetadata(), metricName );
+    }
+
+    /**
+     * Creates an instance from existing moments.
+     *
+     * @param moments the moments
+     * @param metadata the pool metadata
+     * @param metricName the name of the metric for which the statistics are computed
+     * @return the sufficient statistics
+     * @throws NullPointerException if any input is null
+     */
+
+    public static SufficientStatistics of( Moments moments, PoolMetadata metadata, MetricConstants metricName )
+    {
+        return new SufficientStatistics( moments, metadata, metricName );
+    }
+
+    /**
+     * Computes the sufficient statistics of a pool and combines them with any prior statistics. Used to implement
+     * {@link wres.metrics.Incremental#combine(Pool, Statistic)}.
+     *
+     * @param pool the pool
+     * @param prior the prior statistics, may be null
+     * @param metricName the name of the metric for which the statistics are computed
+     * @return the combined statistics
+     * @throws PoolException if the pool is null
+     * @throws wres.datamodel.pools.PoolMetadataException if the metadata could not be combined
+     */
+
+    static SufficientStatistics combine( Pool<Pair<Double, Double>> pool,
+                                         SufficientStatistics prior,
+                                         MetricConstants metricName )
+    {
+        SufficientStatistics next = SufficientStatistics.of( pool, metricName );
+
+        if ( Objects.isNull( prior ) )
+        {
+            return next;
+        }
+
+        return prior.combine( next );
+    }
+
+    /**
+     * Combines these statistics with the prescribed statistics. The combined statistics have the union of the pool
+     * metadata, as defined by {@link PoolSlicer#unionOf(List)}.
+     *
+     * @param other the statistics to combine
+     * @return the combined statistics
+     * @throws NullPointerException if the other statistics are null
+     * @throws wres.datamodel.pools.PoolMetadataException if the metadata could not be combined
+     */
+
+    public SufficientStatistics combine( SufficientStatistics other )
+    {
+        Objects.requireNonNull( other );
+
+        PoolMetadata combinedMetadata = this.getPoolMetadata();
+        if ( !combinedMetadata.equals( other.getPoolMetadata() ) )
+        {
+            combinedMetadata = PoolSlicer.unionOf( List.of( combinedMetadata, other.getPoolMetadata() ) );
+        }
+
+        return this.combine( other, combinedMetadata );
+    }
+
+    /**
+     * Combines these statistics with the prescribed statistics and assigns the prescribed metadata to the combined
+     * statistics, such as the metadata of a pool whose mini-pools are combined.
+     *
+     * @param other the statistics to combine
+     * @param metadata the metadata of the combined statistics
+     * @return the combined statistics
+     * @throws NullPointerException if any input is null
+     */
+
+    public SufficientStatistics combine( SufficientStatistics other, PoolMetadata metadata )
+    {
+        Objects.requireNonNull( other );
+
+        return new SufficientStatistics( this.getStatistic()
+                                             .combine( other.getStatistic() ),
+                                         metadata,
+                                         this.getMetricName() );
+    }
+
+    /**
+     * @return the number of pairs
+     */
+
+    public long getSampleSize()
+    {
+        return this.moments.sampleSize();
+    }
+
+    /**
+     * @return the mean error or {@link Double#NaN} if there are no pairs
+     */
+
+    public double getMeanError()
+    {
+        return this.getMean( this.moments.sumError() );
+    }
+
+    /**
+     * @return the mean absolute error or {@link Double#NaN} if there are no pairs
+     */
+
+    public double getMeanAbsoluteError()
+    {
+        return this.getMean( this.moments.sumAbsoluteError() );
+    }
+
+    /**
+     * @return the mean square error or {@link Double#NaN} if there are no pairs
+     */
+
+    public double getMeanSquareError()
+    {
+        return this.getMean( this.moments.sumSquareError() );
+    }
+
+    /**
+     * @return the sample standard deviation of the left values or {@link Double#NaN} if there are fewer than two pairs
+     */
+
+    public double getStandardDeviationLeft()
+    {
+        return this.getStandardDeviation( this.moments.sumSquaresLeft() );
+    }
+
+    /**
+     * @return the sample standard deviation of the right values or {@link Double#NaN} if there are fewer than two
+     * pairs
+     */
+
+    public double getStandardDeviationRight()
+    {
+        return this.getStandardDeviation( this.moments.sumSquaresRight() );
+    }
+
+    /**
+     * @return the Pearson product-moment correlation coefficient or {@link Double#NaN} if there are fewer than two
+     * pairs
+     */
+
+    public double getCorrelation()
+    {
+        if ( this.moments.sampleSize() < 2 )
+        {
+            return Double.NaN;
+        }
+
+        return this.moments.sumCrossProducts()
+               / Math.sqrt( this.moments.sumSquaresLeft() * this.moments.sumSquaresRight() );
+    }
+
+    @Override
+    public Moments getStatistic()
+    {
+        return this.moments;
+    }
+
+    @Override
+    public PoolMetadata getPoolMetadata()
+    {
+        return this.metadata;
+    }
+
+    @Override
+    public MetricConstants getMetricName()
+    {
+        return this.metricName;
+    }
+
+    @Override
+    public SummaryStatistic getSummaryStatistic()
+    {
+        return null;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( o == this )
+        {
+            return true;
+        }
+
+        if ( !( o instanceof SufficientStatistics s ) )
+        {
+            return false;
+        }
+
+        return Objects.equals( this.moments, s.moments )
+               && Objects.equals( this.metadata, s.metadata )
+               && this.metricName == s.metricName;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( this.moments, this.metadata, this.metricName );
+    }
+
+    @Override
+    public String toString()
+    {
+        return new ToStringBuilder( this, ToStringStyle.SHORT_PREFIX_STYLE ).append( "metricName", this.metricName )
+                                                                            .append( "moments", this.moments )
+                                                                            .append( "metadata", this.metadata )
+                                                                            .toString();
+    }
+
+    /**
+     * @param sum the sum
+     * @return the mean of the sum over the pairs or {@link Double#NaN} if there are no pairs
+     */
+
+    private double getMean( double sum )
+    {
+        if ( this.moments.sampleSize() == 0 )
+        {
+            return Double.NaN;
+        }
+
+        return sum / this.moments.sampleSize();
+    }
+
+    /**
+     * @param sumSquares the sum of squared deviations about the mean
+     * @return the sample standard deviation or {@link Double#NaN} if there are fewer than two pairs
+     */
+
+    private double getStandardDeviation( double sumSquares )
+    {
+        if ( this.moments.sampleSize() < 2 )
+        {
+            return Double.NaN;
+        }
+
+        return Math.sqrt( sumSquares / ( this.moments.sampleSize() - 1 ) );
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param moments the moments
+     * @param metadata the metadata
+     * @param metricName the metric name
+     * @throws NullPointerException if any input is null
+     */
+
+    private SufficientStatistics( Moments moments, PoolMetadata metadata, MetricConstants metricName )
+    {
+        Objects.requireNonNull( moments );
+        Objects.requireNonNull( metadata );
+        Objects.requireNonNull( metricName );
+
+        this.moments = moments;
+        this.metadata = metadata;
+        this.metricName = metricName;
+    }
+}
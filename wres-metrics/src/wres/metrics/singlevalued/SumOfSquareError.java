@@ -8,11 +8,13 @@ import org.slf4j.LoggerFactory;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.MissingValues;
 import wres.config.MetricConstants;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.DecomposableScore;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
@@ -25,7 +27,8 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * @author James Brown
  */
 public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>
 {
 
     /** Basic description of the metric. */
@@ -106,25 +109,39 @@ public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double
             returnMe = sum;
         }
 
-        // Set the real-valued measurement units
-        DoubleScoreMetricComponent.Builder metricCompBuilder = SumOfSquareError.MAIN.toBuilder()
-                                                                                    .setUnits( input.getMetadata()
-                                                                                                    .getMeasurementUnit()
-                                                                                                    .toString() );
+        return SumOfSquareError.getSumOfSquareError( returnMe,
+                                                     input.get()
+                                                          .size(),
+                                                     input.getMetadata() );
+    }
 
-        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
-                                                                               .setMetric( metricCompBuilder )
-                                                                               .setValue( returnMe )
-                                                                               .build();
+    @Override
+    public SufficientStatistics combine( Pool<Pair<Double, Double>> pool, SufficientStatistics statistic )
+    {
+        return SufficientStatistics.combine( pool, statistic, this.getMetricName() );
+    }
 
-        DoubleScoreStatistic score =
-                DoubleScoreStatistic.newBuilder()
-                                    .setMetric( SumOfSquareError.BASIC_METRIC )
-                                    .addStatistics( component )
-                                    .setSampleSize( input.get().size() )
-                                    .build();
+    @Override
+    public SufficientStatistics combine( SufficientStatistics statistic,
+                                         SufficientStatistics other,
+                                         PoolMetadata metadata )
+    {
+        Objects.requireNonNull( statistic );
+
+        return statistic.combine( other, metadata );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( SufficientStatistics statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete when computing the '" + this + "'." );
+        }
 
-        return DoubleScoreStatisticOuter.of( score, input.getMetadata() );
+        DoubleScoreStatisticOuter sse = SumOfSquareError.getSumOfSquareError( statistic );
+
+        return this.applyIntermediate( sse, null );
     }
 
     @Override
@@ -145,6 +162,60 @@ public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double
         return MetricConstants.SUM_OF_SQUARE_ERROR;
     }
 
+    /**
+     * Creates the intermediate sum of square errors from the sufficient statistics of a pool.
+     *
+     * @param statistic the sufficient statistics
+     * @return the sum of square errors
+     * @throws ArithmeticException if the sample size overflows an int
+     */
+
+    static DoubleScoreStatisticOuter getSumOfSquareError( SufficientStatistics statistic )
+    {
+        double sse = MissingValues.DOUBLE;
+
+        if ( statistic.getSampleSize() > 0 )
+        {
+            sse = statistic.getStatistic()
+                           .sumSquareError();
+        }
+
+        return SumOfSquareError.getSumOfSquareError( sse,
+                                                     Math.toIntExact( statistic.getSampleSize() ),
+                                                     statistic.getPoolMetadata() );
+    }
+
+    /**
+     * Creates the sum of square errors statistic.
+     *
+     * @param sse the sum of square errors
+     * @param sampleSize the sample size
+     * @param metadata the pool metadata
+     * @return the statistic
+     */
+
+    private static DoubleScoreStatisticOuter getSumOfSquareError( double sse, int sampleSize, PoolMetadata metadata )
+    {
+        // Set the real-valued measurement units
+        DoubleScoreMetricComponent.Builder metricCompBuilder = SumOfSquareError.MAIN.toBuilder()
+                                                                                    .setUnits( metadata.getMeasurementUnit()
+                                                                                                       .toString() );
+
+        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
+                                                                               .setMetric( metricCompBuilder )
+                                                                               .setValue( sse )
+                                                                               .build();
+
+        DoubleScoreStatistic score =
+                DoubleScoreStatistic.newBuilder()
+                                    .setMetric( SumOfSquareError.BASIC_METRIC )
+                                    .addStatistics( component )
+                                    .setSampleSize( sampleSize )
+                                    .build();
+
+        return DoubleScoreStatisticOuter.of( score, metadata );
+    }
+
     /**
      * Hidden constructor.
      */
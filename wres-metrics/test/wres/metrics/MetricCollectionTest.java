@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -27,8 +28,10 @@ import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.datamodel.statistics.Statistic;
+import wres.datamodel.types.Ensemble;
 import wres.metrics.MetricCollection.Builder;
 import wres.metrics.categorical.EquitableThreatScore;
 import wres.metrics.categorical.PeirceSkillScore;
@@ -37,6 +40,7 @@ import wres.metrics.categorical.ProbabilityOfFalseDetection;
 import wres.metrics.categorical.ThreatScore;
 import wres.metrics.discreteprobability.BrierScore;
 import wres.metrics.discreteprobability.BrierSkillScore;
+import wres.metrics.ensemble.ContinuousRankedProbabilityScore;
 import wres.metrics.singlevalued.MeanError;
 import wres.metrics.singlevalued.MeanSquareError;
 import wres.metrics.singlevalued.MeanSquareErrorSkillScore;
@@ -271,6 +275,50 @@ public class MetricCollectionTest
         assertTrue( testMe.test( expectedSecond, actualSecond ) );
     }
 
+    @Test
+    public void testApplyWithIncrementalMetricsMatchesApplyOfEachMetric() throws MetricParameterException
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsTwo();
+
+        // Several scores that are completed from the same sufficient statistics, together with an ordinary metric
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> collection =
+                MetricFactory.ofSingleValuedScores( this.metricPool,
+                                                    MetricConstants.MEAN_ERROR,
+                                                    MetricConstants.ROOT_MEAN_SQUARE_ERROR,
+                                                    MetricConstants.MEAN_SQUARE_ERROR_SKILL_SCORE,
+                                                    MetricConstants.SAMPLE_SIZE );
+
+        assertEquals( 4, collection.apply( input )
+                                   .size() );
+
+        List<DoubleScoreStatisticOuter> actual =
+                collection.apply( input,
+                                  Set.of( MetricConstants.MEAN_ERROR,
+                                          MetricConstants.MEAN_SQUARE_ERROR_SKILL_SCORE ) );
+
+        assertEquals( 2, actual.size() );
+
+        BiPredicate<Double, Double> testMe = FunctionFactory.doubleEquals();
+
+        List<Metric<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter>> metrics =
+                List.of( MeanError.of(), MeanSquareErrorSkillScore.of() );
+
+        for ( Metric<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter> next : metrics )
+        {
+            double expectedScore = next.apply( input )
+                                       .getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+            double actualScore = Slicer.filter( actual, next.getMetricName() )
+                                       .get( 0 )
+                                       .getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+
+            assertTrue( testMe.test( expectedScore, actualScore ) );
+        }
+    }
+
     @Test
     public void testApplyWithSubsetOfMetrics() throws MetricParameterException
     {
@@ -440,6 +488,38 @@ public class MetricCollectionTest
         assertEquals( "Computation of the metric collection failed: ", expected.getMessage() );
     }
 
+    @Test
+    public void testApplyWithSortedEnsembleMatrixSuppliesMatrixToEachMetric() throws MetricParameterException
+    {
+        Pool<Pair<Double, Ensemble>> input = Pool.of( List.of( Pair.of( 1.0, Ensemble.of( 3, 1, 2 ) ),
+                                                               Pair.of( 2.0, Ensemble.of( 5, 4 ) ) ),
+                                                      PoolMetadata.of() );
+        SortedEnsembleMatrix matrix = SortedEnsembleMatrix.of( input.get() );
+        DoubleScoreStatisticOuter expected = ContinuousRankedProbabilityScore.of()
+                                                                             .apply( input );
+
+        ContinuousRankedProbabilityScore crps = Mockito.mock( ContinuousRankedProbabilityScore.class );
+        Mockito.when( crps.getMetricName() )
+               .thenReturn( MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE );
+        Mockito.when( crps.apply( input, matrix ) )
+               .thenReturn( expected );
+
+        Builder<Pool<Pair<Double, Ensemble>>, Statistic<?>, DoubleScoreStatisticOuter> builder = new Builder<>();
+        MetricCollection<Pool<Pair<Double, Ensemble>>, Statistic<?>, DoubleScoreStatisticOuter> collection =
+                builder.setExecutorService( this.metricPool )
+                       .addMetric( crps )
+                       .build();
+
+        List<DoubleScoreStatisticOuter> actual =
+                collection.apply( input, Set.of( MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE ), matrix );
+
+        assertEquals( List.of( expected ), actual );
+
+        // The matrix was not built again
+        Mockito.verify( crps, Mockito.never() )
+               .apply( input );
+    }
+
     @Test
     public void testOfSingleValuedPairsWithCollectableMetrics() throws MetricParameterException
     {
@@ -509,6 +589,136 @@ public class MetricCollectionTest
 
     }
 
+    @Test
+    public void testApplyIntermediateWithCombinedMiniPoolsMatchesApplyOfConcatenatedPool()
+            throws MetricParameterException
+    {
+        Pool<Pair<Double, Double>> first = MetricTestDataFactory.getSingleValuedPairsOne();
+        Pool<Pair<Double, Double>> second = Pool.of( List.of( Pair.of( 3.0, 4.5 ),
+                                                              Pair.of( 17.2, 15.1 ),
+                                                              Pair.of( 41.0, 44.8 ),
+                                                              Pair.of( 0.5, 0.9 ) ),
+                                                     PoolMetadata.of() );
+
+        // A pool built from two mini-pools, such as two features within a feature group
+        Pool<Pair<Double, Double>> input = new Pool.Builder<Pair<Double, Double>>().addPool( first )
+                                                                                   .addPool( second )
+                                                                                   .build();
+
+        // The same pairs without the mini-pools
+        Pool<Pair<Double, Double>> concatenated = Pool.of( input.get(), input.getMetadata() );
+
+        Set<MetricConstants> names = Set.of( MetricConstants.MEAN_ERROR,
+                                             MetricConstants.MEAN_ABSOLUTE_ERROR,
+                                             MetricConstants.ROOT_MEAN_SQUARE_ERROR,
+                                             MetricConstants.PEARSON_CORRELATION_COEFFICIENT,
+                                             MetricConstants.KLING_GUPTA_EFFICIENCY,
+                                             MetricConstants.MEAN_SQUARE_ERROR_SKILL_SCORE );
+
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> collection =
+                MetricFactory.ofSingleValuedScores( this.metricPool,
+                                                    names.toArray( new MetricConstants[0] ) );
+
+        List<IntermediateStatistic<?, DoubleScoreStatisticOuter>> intermediates =
+                collection.getIntermediateStatistics( input, names );
+
+        assertEquals( 1, intermediates.size() );
+        assertEquals( input.getMetadata(), intermediates.get( 0 )
+                                                        .getPoolMetadata() );
+
+        List<DoubleScoreStatisticOuter> actual = collection.applyIntermediate( input, names, intermediates );
+
+        assertEquals( names.size(), actual.size() );
+
+        BiPredicate<Double, Double> testMe = FunctionFactory.doubleEquals();
+
+        for ( MetricConstants next : names )
+        {
+            DoubleScoreStatisticOuter expected = MetricFactory.ofSingleValuedScore( next )
+                                                              .apply( concatenated );
+            DoubleScoreStatisticOuter actualScore = Slicer.filter( actual, next )
+                                                          .get( 0 );
+
+            assertEquals( expected.getPoolMetadata(), actualScore.getPoolMetadata() );
+
+            for ( MetricConstants component : expected.getComponents() )
+            {
+                double expectedValue = expected.getComponent( component )
+                                               .getStatistic()
+                                               .getValue();
+                double actualValue = actualScore.getComponent( component )
+                                                .getStatistic()
+                                                .getValue();
+
+                assertTrue( next + ": expected " + expectedValue + " but got " + actualValue,
+                            testMe.test( expectedValue, actualValue ) );
+            }
+        }
+    }
+
+    @Test
+    public void testCombinedIntermediateStatisticsOfDichotomousPairsMatchApplyOfConcatenatedPool()
+            throws MetricParameterException
+    {
+        Pool<Pair<Boolean, Boolean>> first = MetricTestDataFactory.getDichotomousPairsOne();
+        Pool<Pair<Boolean, Boolean>> second = Pool.of( List.of( Pair.of( true, true ),
+                                                                Pair.of( true, false ),
+                                                                Pair.of( false, true ),
+                                                                Pair.of( false, true ),
+                                                                Pair.of( false, false ) ),
+                                                       first.getMetadata() );
+
+        List<Pair<Boolean, Boolean>> pairs = new ArrayList<>( first.get() );
+        pairs.addAll( second.get() );
+        Pool<Pair<Boolean, Boolean>> concatenated = Pool.of( pairs, first.getMetadata() );
+
+        Set<MetricConstants> names = Set.of( MetricConstants.CONTINGENCY_TABLE,
+                                             MetricConstants.THREAT_SCORE,
+                                             MetricConstants.PROBABILITY_OF_DETECTION,
+                                             MetricConstants.PEIRCE_SKILL_SCORE,
+                                             MetricConstants.EQUITABLE_THREAT_SCORE );
+
+        MetricCollection<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                collection = MetricFactory.ofDichotomousScores( this.metricPool,
+                                                                names.toArray( new MetricConstants[0] ) );
+
+        // Combine the contingency tables of the separate pools and complete the scores
+        IntermediateStatistic<?, DoubleScoreStatisticOuter> firstIntermediate =
+                collection.getIntermediateStatistics( first, names )
+                          .get( 0 );
+        IntermediateStatistic<?, DoubleScoreStatisticOuter> secondIntermediate =
+                collection.getIntermediateStatistics( second, names )
+                          .get( 0 );
+
+        List<DoubleScoreStatisticOuter> actual = firstIntermediate.combine( secondIntermediate, first.getMetadata() )
+                                                                  .complete();
+
+        assertEquals( names.size(), actual.size() );
+
+        BiPredicate<Double, Double> testMe = FunctionFactory.doubleEquals();
+
+        for ( MetricConstants next : names )
+        {
+            DoubleScoreStatisticOuter expected = MetricFactory.ofDichotomousScore( next )
+                                                              .apply( concatenated );
+            DoubleScoreStatisticOuter actualScore = Slicer.filter( actual, next )
+                                                          .get( 0 );
+
+            for ( MetricConstants component : expected.getComponents() )
+            {
+                double expectedValue = expected.getComponent( component )
+                                               .getStatistic()
+                                               .getValue();
+                double actualValue = actualScore.getComponent( component )
+                                                .getStatistic()
+                                                .getValue();
+
+                assertTrue( next + ": expected " + expectedValue + " but got " + actualValue,
+                            testMe.test( expectedValue, actualValue ) );
+            }
+        }
+    }
+
     @After
     public void tearDownAfterEachTest()
     {
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
@@ -16,12 +17,17 @@ import java.util.function.Predicate;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.BoxplotMetric;
 import wres.statistics.generated.BoxplotStatistic;
@@ -1292,4 +1298,84 @@ class SummaryStatisticsCalculatorTest
 
         assertEquals( expected, actual );
     }
+
+    @Test
+    void testGetPooledScoresFromCombinedIntermediateStatistics()
+    {
+        Pool<Pair<Double, Double>> first = MetricTestDataFactory.getSingleValuedPairsOne();
+        Pool<Pair<Double, Double>> second = Pool.of( List.of( Pair.of( 3.0, 4.5 ),
+                                                              Pair.of( 17.2, 15.1 ),
+                                                              Pair.of( 41.0, 44.8 ),
+                                                              Pair.of( 0.5, 0.9 ) ),
+                                                     PoolMetadata.of() );
+
+        Set<MetricConstants> names = Set.of( MetricConstants.MEAN_ERROR,
+                                             MetricConstants.ROOT_MEAN_SQUARE_ERROR,
+                                             MetricConstants.PEARSON_CORRELATION_COEFFICIENT );
+
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> collection =
+                MetricFactory.ofSingleValuedScores( ForkJoinPool.commonPool(),
+                                                    names.toArray( new MetricConstants[0] ) );
+
+        SummaryStatistic mean = MessageUtilities.getSummaryStatistic( SummaryStatistic.StatisticName.MEAN,
+                                                                      Set.of( SummaryStatistic.StatisticDimension.FEATURES ),
+                                                                      null );
+
+        ScalarSummaryStatisticFunction meanFunction = FunctionFactory.ofScalarSummaryStatistic( mean );
+
+        Set<ScalarSummaryStatisticFunction> summaryStatistics = Set.of( meanFunction );
+        SummaryStatisticsCalculator calculator =
+                SummaryStatisticsCalculator.of( summaryStatistics, Set.of(), Set.of(), null, ( a, b ) -> a, null );
+
+        // Register the raw statistics and the intermediate statistics of each pool
+        for ( Pool<Pair<Double, Double>> next : List.of( first, second ) )
+        {
+            List<IntermediateStatistic<?, DoubleScoreStatisticOuter>> intermediates =
+                    collection.getIntermediateStatistics( next, names );
+            List<DoubleScoreStatisticOuter> scores = collection.applyIntermediate( next, names, intermediates );
+
+            Statistics raw = Statistics.newBuilder()
+                                       .setPool( next.getMetadata()
+                                                     .getPoolDescription() )
+                                       .addAllScores( scores.stream()
+                                                            .map( DoubleScoreStatisticOuter::getStatistic )
+                                                            .toList() )
+                                       .build();
+
+            calculator.test( raw );
+            intermediates.forEach( calculator::combine );
+        }
+
+        List<Statistics> actual = calculator.get();
+
+        // The pooled scores have no summary statistic
+        List<Statistics> pooled = actual.stream()
+                                        .filter( next -> !next.hasSummaryStatistic() )
+                                        .toList();
+
+        assertEquals( 1, pooled.size() );
+        assertEquals( names.size(), pooled.get( 0 )
+                                          .getScoresCount() );
+
+        // The pooled scores match the scores of the pool that contains the pairs of both pools
+        List<Pair<Double, Double>> pairs = new ArrayList<>( first.get() );
+        pairs.addAll( second.get() );
+        Pool<Pair<Double, Double>> concatenated = Pool.of( pairs, PoolMetadata.of() );
+
+        for ( DoubleScoreStatistic next : pooled.get( 0 )
+                                                .getScoresList() )
+        {
+            MetricConstants name = MetricConstants.valueOf( next.getMetric()
+                                                                .getName()
+                                                                .name() );
+            double expected = MetricFactory.ofSingleValuedScore( name )
+                                           .apply( concatenated )
+                                           .getComponent( MetricConstants.MAIN )
+                                           .getStatistic()
+                                           .getValue();
+
+            assertEquals( expected, next.getStatistics( 0 )
+                                        .getValue(), 1.0E-8, name::toString );
+        }
+    }
 }
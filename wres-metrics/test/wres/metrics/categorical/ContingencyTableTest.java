@@ -3,6 +3,8 @@ package wres.metrics.categorical;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
+import java.util.List;
+
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
 import org.junit.Test;
@@ -102,4 +104,20 @@ public final class ContingencyTableTest
         assertEquals( expectedMessage, exception.getMessage() );
     }
 
+    @Test
+    public void testCombineAndCompleteMatchesApply()
+    {
+        Pool<Pair<Boolean, Boolean>> input = MetricTestDataFactory.getDichotomousPairsOne();
+        List<Pair<Boolean, Boolean>> pairs = input.get();
+        int split = pairs.size() / 3;
+
+        Pool<Pair<Boolean, Boolean>> first = Pool.of( pairs.subList( 0, split ), input.getMetadata() );
+        Pool<Pair<Boolean, Boolean>> second = Pool.of( pairs.subList( split, pairs.size() ), input.getMetadata() );
+
+        DoubleScoreStatisticOuter combined = this.table.combine( first, null );
+        combined = this.table.combine( second, combined );
+
+        assertEquals( this.table.apply( input ), this.table.complete( combined ) );
+    }
+
 }
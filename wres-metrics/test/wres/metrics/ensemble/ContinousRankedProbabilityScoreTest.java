@@ -20,6 +20,7 @@ import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
 import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.SortedEnsembleMatrix;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 import wres.statistics.generated.DoubleScoreStatistic;
@@ -285,4 +286,28 @@ public final class ContinousRankedProbabilityScoreTest
 
         assertEquals( "Specify non-null input to the '" + this.crps.getMetricNameString() + "'.", actual.getMessage() );
     }
+
+    @Test
+    public void testApplyWithSortedEnsembleMatrixMatchesApply()
+    {
+        List<Pair<Double, Ensemble>> pairs = new ArrayList<>();
+        pairs.add( Pair.of( 25.7, Ensemble.of( 23, 43, 45, 23, 54 ) ) );
+        pairs.add( Pair.of( 21.4, Ensemble.of( 19, 16, 57 ) ) );
+        pairs.add( Pair.of( 32.1, Ensemble.of( 23, 54, 23, 12, 32 ) ) );
+        Pool<Pair<Double, Ensemble>> input = Pool.of( pairs, PoolMetadata.of() );
+
+        DoubleScoreStatisticOuter actual = this.crps.apply( input, SortedEnsembleMatrix.of( pairs ) );
+
+        assertEquals( this.crps.apply( input ), actual );
+    }
+
+    @Test
+    public void testExceptionOnSortedEnsembleMatrixThatDoesNotMatchPool()
+    {
+        Pool<Pair<Double, Ensemble>> input = Pool.of( List.of( Pair.of( 25.7, Ensemble.of( 23, 43 ) ) ),
+                                                      PoolMetadata.of() );
+        SortedEnsembleMatrix matrix = SortedEnsembleMatrix.of( List.of() );
+
+        assertThrows( PoolException.class, () -> this.crps.apply( input, matrix ) );
+    }
 }
@@ -0,0 +1,210 @@
+package wres.metrics.singlevalued;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import wres.config.MetricConstants;
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.metrics.Incremental;
+import wres.metrics.Metric;
+import wres.metrics.MetricTestDataFactory;
+
+/**
+ * Tests the {@link SufficientStatistics} and the single-valued scores that may be computed incrementally from them.
+ *
+ * @author James Brown
+ */
+public final class SufficientStatisticsTest
+{
+    /** Tolerance for comparing scores computed incrementally with scores computed from all pairs. */
+    private static final double TOLERANCE = 1.0E-10;
+
+    @Test
+    public void testCombinedMomentsMatchMomentsOfAllPairs()
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsTwo();
+        SufficientStatistics expected = SufficientStatistics.of( input, MetricConstants.MEAN_ERROR );
+
+        SufficientStatistics actual = null;
+        for ( Pool<Pair<Double, Double>> next : SufficientStatisticsTest.split( input ) )
+        {
+            actual = SufficientStatistics.combine( next, actual, MetricConstants.MEAN_ERROR );
+        }
+
+        assertTrue( actual != null );
+
+        SufficientStatistics.Moments e = expected.getStatistic();
+        SufficientStatistics.Moments a = actual.getStatistic();
+
+        assertEquals( e.sampleSize(), a.sampleSize() );
+        assertEquals( e.baselineSampleSize(), a.baselineSampleSize() );
+        assertEquals( e.meanLeft(), a.meanLeft(), TOLERANCE );
+        assertEquals( e.meanRight(), a.meanRight(), TOLERANCE );
+        assertEquals( 1.0, a.sumSquaresLeft() / e.sumSquaresLeft(), TOLERANCE );
+        assertEquals( 1.0, a.sumSquaresRight() / e.sumSquaresRight(), TOLERANCE );
+        assertEquals( 1.0, a.sumCrossProducts() / e.sumCrossProducts(), TOLERANCE );
+        assertEquals( 1.0, a.sumSquareError() / e.sumSquareError(), TOLERANCE );
+        assertEquals( 1.0, a.baselineSumSquareError() / e.baselineSumSquareError(), TOLERANCE );
+        assertEquals( expected.getPoolMetadata(), actual.getPoolMetadata() );
+    }
+
+    @Test
+    public void testIncrementalScoresMatchScoresOfAllPairs()
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsTwo();
+
+        SufficientStatisticsTest.assertIncrementalMatchesApply( MeanError.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( MeanAbsoluteError.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( SumOfSquareError.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( MeanSquareError.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( RootMeanSquareError.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( CorrelationPearsons.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( CoefficientOfDetermination.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( KlingGuptaEfficiency.of(), input );
+        SufficientStatisticsTest.assertIncrementalMatchesApply( MeanSquareErrorSkillScore.of(), input );
+    }
+
+    @Test
+    public void testIncrementalNashSutcliffeEfficiencyMatchesScoreOfAllPairs()
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsOne();
+
+        SufficientStatisticsTest.assertIncrementalMatchesApply( MeanSquareErrorSkillScore.of(), input );
+    }
+
+    @Test
+    public void testIncrementalScoresWithNoData()
+    {
+        Pool<Pair<Double, Double>> input = Pool.of( List.of(), PoolMetadata.of() );
+
+        MeanError meanError = MeanError.of();
+        DoubleScoreStatisticOuter actual = meanError.complete( meanError.combine( input, null ) );
+
+        assertEquals( meanError.apply( input ), actual );
+
+        CorrelationPearsons correlation = CorrelationPearsons.of();
+        DoubleScoreStatisticOuter actualCorrelation = correlation.complete( correlation.combine( input, null ) );
+
+        assertEquals( correlation.apply( input ), actualCorrelation );
+    }
+
+    @Test
+    public void testIncrementalSkillScoreWithEmptyBaselineMatchesScoreOfAllPairs()
+    {
+        Pool<Pair<Double, Double>> pairs = MetricTestDataFactory.getSingleValuedPairsTwo();
+        Pool<Pair<Double, Double>> input = Pool.of( pairs.get(),
+                                                    pairs.getMetadata(),
+                                                    List.of(),
+                                                    pairs.getBaselineData()
+                                                         .getMetadata(),
+                                                    null );
+
+        MeanSquareErrorSkillScore skill = MeanSquareErrorSkillScore.of();
+        DoubleScoreStatisticOuter expected = skill.apply( input );
+        DoubleScoreStatisticOuter actual = skill.complete( skill.combine( input, null ) );
+
+        assertEquals( expected, actual );
+        assertTrue( Double.isNaN( actual.getComponent( MetricConstants.MAIN )
+                                        .getStatistic()
+                                        .getValue() ) );
+    }
+
+    @Test
+    public void testCompleteThrowsExpectedExceptionWithNullInput()
+    {
+        MeanError meanError = MeanError.of();
+
+        PoolException actual = assertThrows( PoolException.class, () -> meanError.complete( null ) );
+
+        assertEquals( "Specify a non-null statistic to complete when computing the 'MEAN ERROR'.",
+                      actual.getMessage() );
+    }
+
+    @Test
+    public void testOfThrowsExpectedExceptionWithNullInput()
+    {
+        assertThrows( PoolException.class, () -> SufficientStatistics.of( null, MetricConstants.MEAN_ERROR ) );
+    }
+
+    /**
+     * Asserts that the score computed incrementally from several parts of a pool matches the score computed from all
+     * pairs.
+     *
+     * @param <T> the metric type
+     * @param metric the metric
+     * @param input the pool
+     */
+
+    private static <T extends Metric<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter>
+            & Incremental<Pool<Pair<Double, Double>>, SufficientStatistics, DoubleScoreStatisticOuter>> void
+            assertIncrementalMatchesApply( T metric, Pool<Pair<Double, Double>> input )
+    {
+        SufficientStatistics statistics = null;
+        for ( Pool<Pair<Double, Double>> next : SufficientStatisticsTest.split( input ) )
+        {
+            statistics = metric.combine( next, statistics );
+        }
+
+        DoubleScoreStatisticOuter expected = metric.apply( input );
+        DoubleScoreStatisticOuter actual = metric.complete( statistics );
+
+        double expectedScore = expected.getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+        double actualScore = actual.getComponent( MetricConstants.MAIN )
+                                   .getStatistic()
+                                   .getValue();
+
+        assertEquals( metric.toString(), expectedScore, actualScore, Math.abs( expectedScore ) * TOLERANCE );
+        assertEquals( expected.getPoolMetadata(), actual.getPoolMetadata() );
+    }
+
+    /**
+     * Splits a pool into three parts of unequal size.
+     *
+     * @param pool the pool
+     * @return the parts
+     */
+
+    private static List<Pool<Pair<Double, Double>>> split( Pool<Pair<Double, Double>> pool )
+    {
+        List<Pair<Double, Double>> pairs = pool.get();
+        int size = pairs.size();
+
+        if ( !pool.hasBaseline() )
+        {
+            return List.of( Pool.of( pairs.subList( 0, 2 ), pool.getMetadata() ),
+                            Pool.of( pairs.subList( 2, 7 ), pool.getMetadata() ),
+                            Pool.of( pairs.subList( 7, size ), pool.getMetadata() ) );
+        }
+
+        Pool<Pair<Double, Double>> baseline = pool.getBaselineData();
+        List<Pair<Double, Double>> baselinePairs = baseline.get();
+        int baselineSize = baselinePairs.size();
+
+        return List.of( Pool.of( pairs.subList( 0, 2 ),
+                                 pool.getMetadata(),
+                                 baselinePairs.subList( 0, 2 ),
+                                 baseline.getMetadata(),
+                                 null ),
+                        Pool.of( pairs.subList( 2, 7 ),
+                                 pool.getMetadata(),
+                                 baselinePairs.subList( 2, 7 ),
+                                 baseline.getMetadata(),
+                                 null ),
+                        Pool.of( pairs.subList( 7, size ),
+                                 pool.getMetadata(),
+                                 baselinePairs.subList( 7, baselineSize ),
+                                 baseline.getMetadata(),
+                                 null ) );
+    }
+}
@@ -38,6 +38,7 @@ import java.util.StringJoiner;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -49,6 +50,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import wres.http.RetryPolicy;
+import wres.http.WebResponseCache;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -116,6 +118,9 @@ public class ReaderUtilities
     /** A web client to help with reading data from the web. */
     private static final WebClient WEB_CLIENT = new WebClient( WebClientUtils.defaultTimeoutHttpClient() );
 
+    /** The persistent caches of web responses by cache directory. */
+    private static final Map<Path, WebResponseCache> WEB_RESPONSE_CACHES = new ConcurrentHashMap<>();
+
     /**
      * Resolves any implicit declaration of features that require service calls to external web services. Currently,
      * the only supported web services are those within the umbrella of the Water Resources Data Service (WRDS), which
@@ -1030,6 +1035,39 @@ public class ReaderUtilities
                                                         dataSource.datasetOrientation() );
     }
 
+    /**
+     * Returns the persistent cache of web responses declared in the system settings, which is shared by all readers
+     * that use the same cache directory.
+     *
+     * @param systemSettings the system settings
+     * @return the cache or null if no cache directory is declared
+     * @throws NullPointerException if the systemSettings is null
+     */
+
+    public static WebResponseCache getWebResponseCache( SystemSettings systemSettings )
+    {
+        Objects.requireNonNull( systemSettings );
+
+        String directory = systemSettings.getWebCacheDirectory();
+
+        if ( Objects.isNull( directory )
+             || directory.isBlank() )
+        {
+            return null;
+        }
+
+        Path path = Paths.get( directory )
+                         .toAbsolutePath()
+                         .normalize();
+
+        return WEB_RESPONSE_CACHES.computeIfAbsent( path,
+                                                    p -> WebResponseCache.of( p,
+                                                                              systemSettings.getWebCacheMegabytes()
+                                                                              * 1_048_576L,
+                                                                              Duration.ofDays( systemSettings.getWebCacheDays() ),
+                                                                              Duration.ofDays( systemSettings.getWebCacheImmutableDays() ) ) );
+    }
+
     /**
      * Returns a byte stream from a web source or null if the web source returns no data and that is considered nominal.
      *
@@ -1048,12 +1086,47 @@ public class ReaderUtilities
                                                           IntPredicate isErrorResponse,
                                                           Function<WebClient.ClientResponse, String> errorUnpacker,
                                                           WebClient webClient )
+    {
+        return ReaderUtilities.getByteStreamFromWebSource( uri,
+                                                           isMissingResponse,
+                                                           isErrorResponse,
+                                                           errorUnpacker,
+                                                           webClient,
+                                                           null,
+                                                           null );
+    }
+
+    /**
+     * Returns a byte stream from a web source or null if the web source returns no data and that is considered nominal.
+     * Uses the prescribed cache of web responses, if any.
+     *
+     * @see #getResponseFromWebSource(URI, IntPredicate, IntPredicate, Function, WebClient, WebResponseCache, Instant)
+     * @param uri the uri
+     * @param isMissingResponse a test to determine whether the http response code indicates missing data
+     * @param isErrorResponse a test to determine whether the http response code indicates an error
+     * @param errorUnpacker unpacks an error message from the web client response for onward communication, optional
+     * @param webClient an optional web client instance, otherwise the default will be used
+     * @param cache an optional cache of web responses
+     * @param dataEnd the latest time covered by the request, which informs the cache, optional
+     * @return the byte stream, possibly null
+     * @throws ReadException if the uri does not point to a web source or the stream could not be created for any reason
+     */
+
+    public static InputStream getByteStreamFromWebSource( URI uri,
+                                                          IntPredicate isMissingResponse,
+                                                          IntPredicate isErrorResponse,
+                                                          Function<WebClient.ClientResponse, String> errorUnpacker,
+                                                          WebClient webClient,
+                                                          WebResponseCache cache,
+                                                          Instant dataEnd )
     {
         WebClient.ClientResponse response = ReaderUtilities.getResponseFromWebSource( uri,
                                                                                       isMissingResponse,
                                                                                       isErrorResponse,
                                                                                       errorUnpacker,
-                                                                                      webClient );
+                                                                                      webClient,
+                                                                                      cache,
+                                                                                      dataEnd );
 
         if ( Objects.nonNull( response ) )
         {
@@ -1082,6 +1155,39 @@ public class ReaderUtilities
                                                                      IntPredicate isErrorResponse,
                                                                      Function<WebClient.ClientResponse, String> errorUnpacker,
                                                                      WebClient webClient )
+    {
+        return ReaderUtilities.getResponseFromWebSource( uri,
+                                                         isMissingResponse,
+                                                         isErrorResponse,
+                                                         errorUnpacker,
+                                                         webClient,
+                                                         null,
+                                                         null );
+    }
+
+    /**
+     * Returns a full client response from a web source or null if the web source returns no data and that is considered
+     * nominal. Uses the prescribed cache of web responses, if any.
+     *
+     * @see #getByteStreamFromWebSource(URI, IntPredicate, IntPredicate, Function, WebClient, WebResponseCache, Instant)
+     * @param uri the uri
+     * @param isMissingResponse a test to determine whether the http response code indicates missing data
+     * @param isErrorResponse a test to determine whether the http response code indicates an error
+     * @param errorUnpacker unpacks an error message from the web client response for onward communication, optional
+     * @param webClient an optional web client instance, otherwise the default will be used
+     * @param cache an optional cache of web responses
+     * @param dataEnd the latest time covered by the request, which informs the cache, optional
+     * @return the byte stream, possibly null
+     * @throws ReadException if the uri does not point to a web source or the stream could not be created for any reason
+     */
+
+    public static WebClient.ClientResponse getResponseFromWebSource( URI uri,
+                                                                     IntPredicate isMissingResponse,
+                                                                     IntPredicate isErrorResponse,
+                                                                     Function<WebClient.ClientResponse, String> errorUnpacker,
+                                                                     WebClient webClient,
+                                                                     WebResponseCache cache,
+                                                                     Instant dataEnd )
     {
         Objects.requireNonNull( uri );
         Objects.requireNonNull( isMissingResponse );
@@ -1109,7 +1215,7 @@ public class ReaderUtilities
         try
         {
             // Stream is closed on completion of streaming data, unless there is an error response
-            WebClient.ClientResponse response = webClient.getFromWeb( uri );
+            WebClient.ClientResponse response = webClient.getFromWeb( uri, cache, dataEnd );
 
             int httpStatus = response.getStatusCode();
 
@@ -17,30 +17,42 @@ import wres.reading.netcdf.Netcdf;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ucar.ma2.Array;
+import ucar.ma2.Index;
+import ucar.ma2.InvalidRangeException;
 
+import ucar.nc2.dataset.CoordinateAxis;
 import ucar.nc2.dataset.DatasetUrl;
 import ucar.nc2.dataset.NetcdfDataset;
 import ucar.nc2.dataset.NetcdfDatasets;
+import ucar.nc2.dataset.VariableDS;
+import ucar.nc2.dt.GridCoordSystem;
 import ucar.nc2.dt.GridDatatype;
 import ucar.nc2.dt.grid.GridDataset;
 
@@ -55,6 +67,20 @@ public class GridReader
     private static final Map<String, GridFileReader> FILE_READERS = new ConcurrentHashMap<>();
     private static final Logger LOGGER = LoggerFactory.getLogger( GridReader.class );
 
+    /** The maximum number of files to read concurrently. */
+    private static final int MAXIMUM_CONCURRENT_READS = Math.max( 1,
+                                                                   Runtime.getRuntime()
+                                                                          .availableProcessors() );
+
+    /**
+     * The maximum number of cells in a section of a grid that is read in one call. Beyond this size, the features are
+     * read cell by cell, which avoids reading a large section of the grid for a few widely dispersed features.
+     */
+    private static final long MAXIMUM_SECTION_CELLS = 1_048_576;
+
+    /** The executor that reads gridded files, which is shared by all requests to bound the total reading threads. */
+    private static final ThreadPoolExecutor READ_EXECUTOR = GridReader.getReadExecutor();
+
     /**
      * Returns a single-valued time-series response for the input request.
      *
@@ -83,45 +109,29 @@ public class GridReader
             LOGGER.debug( "Processing the following request for gridded data {}.", request );
         }
 
-        GridValue griddedValue;
-
-        Queue<String> paths = new LinkedList<>( request.paths() );
+        // Read each file once for all features, reading the files in parallel
+        List<Feature> features = List.copyOf( request.features() );
+        List<List<GridValue>> valuesPerPath = GridReader.read( request, features );
 
         // Events per feature, where each event is indexed by reference time in a pair
         Map<Feature, List<Pair<Instant, Event<Double>>>> eventsPerFeature = new HashMap<>();
 
         String measurementUnit = "UNKNOWN";
 
-        while ( !paths.isEmpty() )
+        for ( List<GridValue> nextValues : valuesPerPath )
         {
-            String path = paths.remove();
-            GridFileReader reader = GridReader.getReader( path, request.isForecast() );
-
-            if ( reader.isLocked() )
-            {
-                paths.add( path );
-            }
-            else
+            for ( int i = 0; i < features.size(); i++ )
             {
-                for ( Feature feature : request.features() )
-                {
-                    List<Pair<Instant, Event<Double>>> events = eventsPerFeature.get( feature );
-                    if ( Objects.isNull( events ) )
-                    {
-                        events = new ArrayList<>();
-                        eventsPerFeature.put( feature, events );
-                    }
-
-                    // We'll need to eventually iterate through time, but now is
-                    // not the... time!
-                    griddedValue = reader.read( request.variableName(),
-                                                feature.getWkt() );
-
-                    Event<Double> event = DoubleEvent.of( griddedValue.validTime(), griddedValue.value() );
-                    Pair<Instant, Event<Double>> eventPlusIssueTime = Pair.of( griddedValue.issueTime(), event );
-                    events.add( eventPlusIssueTime );
-                    measurementUnit = griddedValue.measurementUnit();
-                }
+                Feature feature = features.get( i );
+                GridValue griddedValue = nextValues.get( i );
+
+                List<Pair<Instant, Event<Double>>> events =
+                        eventsPerFeature.computeIfAbsent( feature, k -> new ArrayList<>() );
+
+                Event<Double> event = DoubleEvent.of( griddedValue.validTime(), griddedValue.value() );
+                Pair<Instant, Event<Double>> eventPlusIssueTime = Pair.of( griddedValue.issueTime(), event );
+                events.add( eventPlusIssueTime );
+                measurementUnit = griddedValue.measurementUnit();
             }
         }
 
@@ -143,6 +153,139 @@ public class GridReader
         return Collections.unmodifiableMap( seriesPerFeature );
     }
 
+    /**
+     * Reads the gridded values for all features from each path in the request. Each file is opened once and the
+     * files are read in parallel using a pool of workers that is shared by all requests. The XY indexes of the features
+     * are resolved once for each distinct grid.
+     *
+     * @param request the request
+     * @param features the features to read
+     * @return the gridded values for each path in request order, each containing one value per feature in order
+     * @throws IOException if the gridded values cannot be read for any reason
+     */
+
+    private static List<List<GridValue>> read( GridRequest request, List<Feature> features ) throws IOException
+    {
+        List<String> paths = request.paths();
+        String variableName = request.variableName();
+        Map<GridKey, int[][]> xyIndexCache = new ConcurrentHashMap<>();
+        List<Future<List<GridValue>>> futures = new ArrayList<>( Collections.nCopies( paths.size(), null ) );
+
+        try
+        {
+            List<GridFileReader> readers = new ArrayList<>( paths.size() );
+            for ( String path : paths )
+            {
+                readers.add( GridReader.getReader( path, request.isForecast() ) );
+            }
+
+            // Submit the files that are being read by another request last, so that the workers read the other files
+            // while the locked files become free, rather than waiting for them. The results remain in request order.
+            for ( int i = 0; i < readers.size(); i++ )
+            {
+                if ( !readers.get( i )
+                             .isLocked() )
+                {
+                    futures.set( i, GridReader.submit( readers.get( i ), variableName, features, xyIndexCache ) );
+                }
+            }
+
+            for ( int i = 0; i < readers.size(); i++ )
+            {
+                if ( Objects.isNull( futures.get( i ) ) )
+                {
+                    futures.set( i, GridReader.submit( readers.get( i ), variableName, features, xyIndexCache ) );
+                }
+            }
+
+            List<List<GridValue>> returnMe = new ArrayList<>( paths.size() );
+            for ( Future<List<GridValue>> future : futures )
+            {
+                returnMe.add( future.get() );
+            }
+
+            return Collections.unmodifiableList( returnMe );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new IOException( "Interrupted while reading gridded data for request: " + request, e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof IOException ioException )
+            {
+                throw ioException;
+            }
+
+            if ( e.getCause() instanceof RuntimeException runtimeException )
+            {
+                throw runtimeException;
+            }
+
+            throw new IOException( "Failed to read gridded data for request: " + request, e );
+        }
+        finally
+        {
+            // Stop reading any files that remain after a failure, since the executor is shared
+            for ( Future<List<GridValue>> future : futures )
+            {
+                if ( Objects.nonNull( future ) )
+                {
+                    future.cancel( true );
+                }
+            }
+        }
+    }
+
+    /**
+     * Submits a task to read the gridded values for all features from one file.
+     *
+     * @param reader the file reader
+     * @param variableName the variable name
+     * @param features the features to read
+     * @param xyIndexCache a cache of XY indexes for each grid
+     * @return the future values
+     */
+
+    private static Future<List<GridValue>> submit( GridFileReader reader,
+                                                   String variableName,
+                                                   List<Feature> features,
+                                                   Map<GridKey, int[][]> xyIndexCache )
+    {
+        Callable<List<GridValue>> task = () -> reader.read( variableName, features, xyIndexCache );
+        return READ_EXECUTOR.submit( task );
+    }
+
+    /**
+     * Creates the executor that reads gridded files. The executor is bounded and shared by all requests, so concurrent
+     * requests do not multiply the reading threads. When the queue is full, the requesting thread reads the file.
+     *
+     * @return the executor
+     */
+
+    private static ThreadPoolExecutor getReadExecutor()
+    {
+        ThreadFactory gridReaderThreadFactory = BasicThreadFactory.builder()
+                                                                  .namingPattern( "GridReader Reader %d" )
+                                                                  .daemon( true )
+                                                                  .build();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor( MAXIMUM_CONCURRENT_READS,
+                                                              MAXIMUM_CONCURRENT_READS,
+                                                              60,
+                                                              TimeUnit.SECONDS,
+                                                              new ArrayBlockingQueue<>( MAXIMUM_CONCURRENT_READS * 4 ),
+                                                              gridReaderThreadFactory,
+                                                              new ThreadPoolExecutor.CallerRunsPolicy() );
+
+        // Release the threads when gridded data is not being read
+        executor.allowCoreThreadTimeOut( true );
+
+        return executor;
+    }
+
     /**
      * Attempts to compose a list of {@link TimeSeries} from a list of events.
      * TODO: replace with retrieval based around uniquely identified time-series. In the presence of duplicate events
@@ -289,6 +432,48 @@ public class GridReader
     {
     }
 
+    /**
+     * Identifies a grid for which the XY indexes of the features are resolved once.
+     * @param variableName the variable name
+     * @param name the coordinate system name
+     * @param xSize the number of x coordinates
+     * @param ySize the number of y coordinates
+     * @param xMinimum the minimum x coordinate
+     * @param xMaximum the maximum x coordinate
+     * @param yMinimum the minimum y coordinate
+     * @param yMaximum the maximum y coordinate
+     */
+    private record GridKey( String variableName,
+                            String name,
+                            long xSize,
+                            long ySize,
+                            double xMinimum,
+                            double xMaximum,
+                            double yMinimum,
+                            double yMaximum )
+    {
+        /**
+         * Creates an instance from a coordinate system.
+         * @param variableName the variable name
+         * @param coordinateSystem the coordinate system
+         * @return the grid key
+         */
+        private static GridKey of( String variableName, GridCoordSystem coordinateSystem )
+        {
+            CoordinateAxis xAxis = coordinateSystem.getXHorizAxis();
+            CoordinateAxis yAxis = coordinateSystem.getYHorizAxis();
+
+            return new GridKey( variableName,
+                                coordinateSystem.getName(),
+                                xAxis.getSize(),
+                                yAxis.getSize(),
+                                xAxis.getMinValue(),
+                                xAxis.getMaxValue(),
+                                yAxis.getMinValue(),
+                                yAxis.getMaxValue() );
+        }
+    }
+
     /**
      * Reader.
      */
@@ -301,15 +486,21 @@ public class GridReader
             this.readLock = new ReentrantLock();
         }
 
-        GridValue read( String variableName, String wkt )
+        /**
+         * Reads the values of all features from the file, opening the file once.
+         * @param variableName the variable name
+         * @param features the features to read
+         * @param xyIndexCache a cache of XY indexes for each grid, which is updated as needed
+         * @return the gridded values, one per feature, in feature order
+         * @throws IOException if the values could not be read
+         */
+        List<GridValue> read( String variableName,
+                              List<Feature> features,
+                              Map<GridKey, int[][]> xyIndexCache )
                 throws IOException
         {
-            // Time always 0 for now
-            int time = 0;
             this.readLock.lock();
 
-            Coordinate point = getLatLonCoordFromSridWkt( wkt );
-
             // This is underlying THREDDS code. It generally expects some semi-remote location for its data, but we're
             // local, so we're using
             DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
@@ -330,17 +521,24 @@ public class GridReader
                                            + "correct the declared variable name or the source and try again." );
                 }
 
-                // Returns XY from YX parameters
-                int[] xIndexYIndex = variable.getCoordinateSystem()
-                                             .findXYindexFromLatLon( point.getY(), point.getX(), null );
+                GridCoordSystem coordinateSystem = variable.getCoordinateSystem();
+                GridKey key = GridKey.of( variableName, coordinateSystem );
+                int[][] xyIndexes = xyIndexCache.computeIfAbsent( key,
+                                                                  k -> GridFileReader.getXYIndexes( coordinateSystem,
+                                                                                                    features ) );
 
-                // readDataSlice takes (time, z, y, x) as parameters. Since the previous call was XY, we need to flip
-                // the two, yielding indexes 1 then 0
-                Array data = variable.readDataSlice( time, 0, xIndexYIndex[1], xIndexYIndex[0] );
+                double[] values = GridFileReader.readValues( variable, xyIndexes );
+                String unit = variable.getUnitsString();
+                Instant issue = this.getIssueTime( dataset );
+                Instant valid = this.getValidTime( dataset );
 
-                double value = data.getDouble( 0 );
+                List<GridValue> returnMe = new ArrayList<>( values.length );
+                for ( double value : values )
+                {
+                    returnMe.add( new GridValue( value, unit, issue, valid ) );
+                }
 
-                return new GridValue( value, variable.getUnitsString(), this.getIssueTime(), this.getValidTime() );
+                return Collections.unmodifiableList( returnMe );
             }
             finally
             {
@@ -348,11 +546,154 @@ public class GridReader
             }
         }
 
+        /**
+         * @return true if the file is being read, otherwise false
+         */
         boolean isLocked()
         {
             return this.readLock.isLocked();
         }
 
+        /**
+         * Resolves the XY indexes of each feature within a grid.
+         * @param coordinateSystem the coordinate system of the grid
+         * @param features the features
+         * @return the XY indexes of each feature, in feature order
+         */
+        private static int[][] getXYIndexes( GridCoordSystem coordinateSystem, List<Feature> features )
+        {
+            int[][] xyIndexes = new int[features.size()][];
+            for ( int i = 0; i < xyIndexes.length; i++ )
+            {
+                Coordinate point = getLatLonCoordFromSridWkt( features.get( i )
+                                                                      .getWkt() );
+
+                // Returns XY from YX parameters
+                xyIndexes[i] = coordinateSystem.findXYindexFromLatLon( point.getY(), point.getX(), null );
+            }
+
+            return xyIndexes;
+        }
+
+        /**
+         * Reads the values at the prescribed XY indexes. When the indexes fall within a modest bounding box, the
+         * values are read in one section of the grid. Otherwise, they are read cell by cell.
+         * @param variable the variable
+         * @param xyIndexes the XY indexes
+         * @return the values, in index order
+         * @throws IOException if the values could not be read
+         */
+        private static double[] readValues( GridDatatype variable, int[][] xyIndexes ) throws IOException
+        {
+            // Time always 0 for now
+            int time = 0;
+
+            int xDimension = variable.getXDimensionIndex();
+            int yDimension = variable.getYDimensionIndex();
+
+            // Bounding box of the indexes inside the grid
+            int minimumX = Integer.MAX_VALUE;
+            int maximumX = Integer.MIN_VALUE;
+            int minimumY = Integer.MAX_VALUE;
+            int maximumY = Integer.MIN_VALUE;
+            for ( int[] next : xyIndexes )
+            {
+                if ( GridFileReader.isInsideGrid( next ) )
+                {
+                    minimumX = Math.min( minimumX, next[0] );
+                    maximumX = Math.max( maximumX, next[0] );
+                    minimumY = Math.min( minimumY, next[1] );
+                    maximumY = Math.max( maximumY, next[1] );
+                }
+            }
+
+            long cells = ( long ) ( maximumX - minimumX + 1 ) * ( maximumY - minimumY + 1 );
+            boolean readSection = xDimension >= 0
+                                  && yDimension >= 0
+                                  && minimumX <= maximumX
+                                  && cells <= MAXIMUM_SECTION_CELLS;
+
+            Array section = null;
+            Index index = null;
+            if ( readSection )
+            {
+                section = GridFileReader.readSection( variable, minimumX, maximumX, minimumY, maximumY );
+                index = section.getIndex();
+            }
+
+            double[] values = new double[xyIndexes.length];
+            for ( int i = 0; i < values.length; i++ )
+            {
+                int[] next = xyIndexes[i];
+
+                if ( readSection && GridFileReader.isInsideGrid( next ) )
+                {
+                    index.setDim( xDimension, next[0] - minimumX );
+                    index.setDim( yDimension, next[1] - minimumY );
+                    values[i] = section.getDouble( index );
+                }
+                else
+                {
+                    // readDataSlice takes (time, z, y, x) as parameters. Since the index is XY, we need to flip
+                    // the two, yielding indexes 1 then 0
+                    Array data = variable.readDataSlice( time, 0, next[1], next[0] );
+                    values[i] = data.getDouble( 0 );
+                }
+            }
+
+            return values;
+        }
+
+        /**
+         * Reads a section of the grid at the first time and z index that spans the prescribed XY bounding box.
+         * @param variable the variable
+         * @param minimumX the minimum x index
+         * @param maximumX the maximum x index
+         * @param minimumY the minimum y index
+         * @param maximumY the maximum y index
+         * @return the section
+         * @throws IOException if the section could not be read
+         */
+        private static Array readSection( GridDatatype variable,
+                                          int minimumX,
+                                          int maximumX,
+                                          int minimumY,
+                                          int maximumY )
+                throws IOException
+        {
+            VariableDS data = variable.getVariable();
+
+            // Origin zero and size one in every dimension other than x and y
+            int[] origin = new int[data.getRank()];
+            int[] shape = new int[data.getRank()];
+            Arrays.fill( shape, 1 );
+
+            origin[variable.getXDimensionIndex()] = minimumX;
+            shape[variable.getXDimensionIndex()] = maximumX - minimumX + 1;
+            origin[variable.getYDimensionIndex()] = minimumY;
+            shape[variable.getYDimensionIndex()] = maximumY - minimumY + 1;
+
+            try
+            {
+                return data.read( origin, shape );
+            }
+            catch ( InvalidRangeException e )
+            {
+                throw new IOException( "Unable to read a section of the gridded variable " + variable.getName()
+                                       + ".",
+                                       e );
+            }
+        }
+
+        /**
+         * @param xyIndex the XY index
+         * @return true if the XY index is inside the grid, otherwise false
+         */
+        private static boolean isInsideGrid( int[] xyIndex )
+        {
+            return xyIndex[0] >= 0 && xyIndex[1] >= 0;
+        }
+
         /**
          * Parse a point from a point WKT, ignoring srid.
          * TODO: do an affine transform, not just parse a point.
@@ -362,33 +703,25 @@ public class GridReader
             return DataUtilities.getLonLatFromPointWkt( wkt );
         }
 
-        private Instant getValidTime() throws IOException
+        private Instant getValidTime( NetcdfFile file ) throws IOException
         {
             if ( this.validTime == null )
             {
-                DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
-                try ( NetcdfFile file = NetcdfDatasets.acquireFile( url, null ) )
-                {
-                    this.validTime = Netcdf.getTime( file );
-                }
+                this.validTime = Netcdf.getTime( file );
             }
 
             return this.validTime;
         }
 
-        private Instant getIssueTime() throws IOException
+        private Instant getIssueTime( NetcdfFile file ) throws IOException
         {
             if ( this.issueTime == null && this.isForecast )
             {
-                DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
-                try ( NetcdfFile file = NetcdfDatasets.acquireFile( url, null ) )
-                {
-                    this.issueTime = Netcdf.getReferenceTime( file );
-                }
+                this.issueTime = Netcdf.getReferenceTime( file );
             }
             else if ( this.issueTime == null )
             {
-                this.issueTime = this.getValidTime();
+                this.issueTime = this.getValidTime( file );
             }
 
             return this.issueTime;
@@ -35,6 +35,7 @@ import wres.config.DeclarationException;
 import wres.config.DeclarationUtilities;
 import wres.config.components.EvaluationDeclaration;
 import wres.config.components.Variable;
+import wres.http.WebResponseCache;
 import wres.reading.DataSource;
 import wres.reading.ReadException;
 import wres.reading.ReaderUtilities;
@@ -91,6 +92,9 @@ public class NwisIvReader implements TimeSeriesReader
     /** The time chunker. */
     private final TimeChunker timeChunker;
 
+    /** A persistent cache of web responses, possibly null. */
+    private final WebResponseCache webResponseCache;
+
     /**
      * @see #of(EvaluationDeclaration, SystemSettings, TimeChunker)
      * @param systemSettings the system settings
@@ -297,7 +301,9 @@ public class NwisIvReader implements TimeSeriesReader
                     LOGGER.debug( "Created data source for chunk, {}.", innerSource );
 
                     // Get the next time-series as a future
-                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource );
+                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource,
+                                                                                    nextChunk.getRight()
+                                                                                             .getRight() );
 
                     results.add( future );
                 }
@@ -340,10 +346,11 @@ public class NwisIvReader implements TimeSeriesReader
 
     /**
      * @param dataSource the data source
+     * @param dataEnd the end of the time range requested
      * @return a time-series task
      */
 
-    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource )
+    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource, Instant dataEnd )
     {
         LOGGER.debug( "Submitting a task for retrieving a time-series." );
 
@@ -354,7 +361,9 @@ public class NwisIvReader implements TimeSeriesReader
                                                                                          NO_DATA_PREDICATE,
                                                                                          ERROR_RESPONSE_PREDICATE,
                                                                                          null,
-                                                                                         null ) )
+                                                                                         null,
+                                                                                         this.webResponseCache,
+                                                                                         dataEnd ) )
                        {
                            if ( Objects.nonNull( s ) )
                            {
@@ -499,6 +508,7 @@ public class NwisIvReader implements TimeSeriesReader
 
         this.declaration = declaration;
         this.timeChunker = timeChunker;
+        this.webResponseCache = ReaderUtilities.getWebResponseCache( systemSettings );
 
         ThreadFactory webClientFactory = BasicThreadFactory.builder()
                                                            .namingPattern( "USGS NWIS Reading Thread %d" )
@@ -4,14 +4,15 @@ import static org.apache.commons.math3.util.Precision.EPSILON;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,17 +20,20 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.StringJoiner;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.math3.util.Precision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
@@ -67,20 +71,14 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  *
  * <p>Implementation notes:
  *
- * <p>This reader currently performs eager reading of time-series data. It relies on the Jackson framework, 
- * specifically an {@link ObjectMapper}, which maps a WaterML byte array into time-series objects. An improved 
- * implementation would stream the underlying bytes into {@link TimeSeries} on demand. Thus, particularly when the 
- * underlying data source is a large file or a large stream that is not chunked at a higher level, this implementation
- * is not very memory efficient, contrary to the recommended implementation in {@link TimeSeriesReader}.
+ * <p>This reader performs incremental reading of time-series data. It walks the response with the Jackson streaming
+ * API, specifically a {@link JsonParser}, and binds one WaterML time-series at a time with an {@link ObjectMapper},
+ * returning the {@link TimeSeries} for each site as it is read. Thus, the memory required is bounded by the largest
+ * site, rather than the size of the response, as recommended in {@link TimeSeriesReader}.
  *
  * <p>This implementation currently assumes time-series with a fixed time-scale. This it obtained from the URI embedded
  * within the data source via {@link ReaderUtilities#getTimeScaleFromUri(java.net.URI)}.
  *
- * <p>TODO: consider a more memory efficient implementation by using the Jackson streaming API. For example:
- * <a href="https://www.baeldung.com/jackson-streaming-api">Jackson</a>. As of v6.7, this is not a tremendous problem
- * because the main application of this class is reading from USGS NWIS whereby the responses are chunked. However,
- * this limitation would become more acute were there a need to read a large waterml file from a local disk.
- *
  * @author James Brown
  * @author Christopher Tubbs
  * @author Jesse Bickel
@@ -151,7 +149,6 @@ public class NwisIvResponseReader implements TimeSeriesReader
         Supplier<TimeSeriesTuple> supplier = this.getTimeSeriesSupplier( dataSource, inputStream );
 
         // Generate a stream of time-series.
-        // This is merely a facade on incremental reading until the underlying supplier reads incrementally
         return Stream.generate( supplier )
                      // Finite stream, proceeds while a time-series is returned
                      .takeWhile( Objects::nonNull )
@@ -172,9 +169,8 @@ public class NwisIvResponseReader implements TimeSeriesReader
     }
 
     /**
-     * <p>Returns a time-series supplier from the inputs. Currently, this method performs eager reading.
-     *
-     * <p>TODO: implement incremental reading using the Jackson Streaming API or similar.
+     * Returns a time-series supplier from the inputs. The supplier reads the response incrementally, one site at a
+     * time, using the Jackson streaming API to walk the response and binding each WaterML time-series in turn.
      *
      * @param dataSource the data source
      * @param inputStream the stream to read
@@ -185,88 +181,158 @@ public class NwisIvResponseReader implements TimeSeriesReader
     private Supplier<TimeSeriesTuple> getTimeSeriesSupplier( DataSource dataSource,
                                                              InputStream inputStream )
     {
-        AtomicInteger iterator = new AtomicInteger();
-        AtomicReference<List<TimeSeriesTuple>> timeSeriesTuples = new AtomicReference<>();
+        AtomicReference<JsonParser> parser = new AtomicReference<>();
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicInteger count = new AtomicInteger();
+        Deque<TimeSeriesTuple> pending = new ArrayDeque<>();
 
         // Create a supplier that returns the time-series
         return () -> {
+            try
+            {
+                // Create the parser on first use and advance it to the array of time-series: this delays any read
+                // until a terminal stream operation pulls from the supplier
+                if ( Objects.isNull( parser.get() )
+                     && !finished.get() )
+                {
+                    parser.set( this.getParserAtTimeSeries( dataSource, inputStream ) );
+                    finished.set( Objects.isNull( parser.get() ) );
+                }
+
+                // Read one WaterML time-series at a time until some internal time-series are found
+                while ( pending.isEmpty()
+                        && !finished.get() )
+                {
+                    wres.reading.usgs.iv.response.timeseries.TimeSeries next =
+                            this.getNextTimeSeries( parser.get() );
+
+                    if ( Objects.isNull( next ) )
+                    {
+                        finished.set( true );
+                        parser.get()
+                              .close();
 
-            // Read all the time-series eagerly on first use: this will still delay any read until a terminal stream
-            // operation pulls from the supplier (which is why we use a reference holder and do not request the 
-            // time-series outside of this lambda), but it will then acquire all the time-series eagerly, i.e., now
-            if ( Objects.isNull( timeSeriesTuples.get() ) )
+                        LOGGER.debug( "Read {} time series from {}.", count.get(), dataSource.uri() );
+                    }
+                    else
+                    {
+                        LOGGER.trace( "Read a WaterML time-series from {}: {}.", dataSource.uri(), next );
+                        pending.addAll( this.transform( dataSource, next ) );
+                    }
+                }
+            }
+            catch ( JacksonException e )
             {
-                List<TimeSeriesTuple> eagerSeries = this.getTimeSeries( dataSource, inputStream );
-                timeSeriesTuples.set( eagerSeries );
+                throw new ReadException( "Failed to read the WaterML data stream.", e );
             }
 
-            List<TimeSeriesTuple> tuples = timeSeriesTuples.get();
+            TimeSeriesTuple next = pending.poll();
 
-            // More time-series to return?
-            if ( iterator.get() < tuples.size() )
+            if ( Objects.nonNull( next ) )
             {
-                return tuples.get( iterator.getAndIncrement() );
+                count.incrementAndGet();
             }
 
             // Null sentinel to close stream
-            return null;
+            return next;
         };
     }
 
     /**
-     * Returns the time-series from the inputs.
+     * Creates a parser and advances it to the start of the array of time-series within the response value.
      *
      * @param dataSource the data source
      * @param inputStream the stream to read
-     * @return a time-series supplier
-     * @throws ReadException if the data could not be read for any reason
+     * @return the parser or null if the response contains no time-series
+     * @throws ReadException if the response is not a JSON object
      */
 
-    private List<TimeSeriesTuple> getTimeSeries( DataSource dataSource,
-                                                 InputStream inputStream )
+    private JsonParser getParserAtTimeSeries( DataSource dataSource, InputStream inputStream )
     {
-        try
+        JsonParser parser = OBJECT_MAPPER.createParser( inputStream );
+        JsonToken token = parser.nextToken();
+
+        if ( Objects.isNull( token ) )
         {
-            // Get the bytes using a buffer
-            byte[] rawForecast = IOUtils.toByteArray( inputStream );
+            LOGGER.debug( "Discovered an empty WaterML response from {}.", dataSource.uri() );
+            parser.close();
+            return null;
+        }
 
-            if ( LOGGER.isTraceEnabled() )
-            {
-                LOGGER.trace( "Time-series from {} as UTF-8: {}",
-                              dataSource.uri(),
-                              new String( rawForecast,
-                                          StandardCharsets.UTF_8 ) );
-            }
+        if ( token != JsonToken.START_OBJECT )
+        {
+            parser.close();
+            throw new ReadException( "Expected a JSON object at the root of the WaterML response from "
+                                     + dataSource.uri()
+                                     + ", but found "
+                                     + token
+                                     + "." );
+        }
 
-            Response response = OBJECT_MAPPER.readValue( rawForecast, Response.class );
+        // Find the value, then the time-series within it
+        if ( this.advanceToProperty( parser, "value", JsonToken.START_OBJECT )
+             && this.advanceToProperty( parser, "timeSeries", JsonToken.START_ARRAY ) )
+        {
+            return parser;
+        }
 
-            List<TimeSeriesTuple> allTimeSeries = new ArrayList<>();
+        LOGGER.debug( "Discovered a WaterML response without time-series from {}.", dataSource.uri() );
+        parser.close();
+        return null;
+    }
 
-            // Some time-series with data
-            if ( response.getValue()
-                         .getNumberOfPopulatedTimeSeries() > 0 )
-            {
-                for ( wres.reading.usgs.iv.response.timeseries.TimeSeries series : response.getValue()
-                                                                                           .getTimeSeries() )
-                {
-                    List<TimeSeriesTuple> nextSeries = this.transform( dataSource, series );
-                    allTimeSeries.addAll( nextSeries );
-                }
-            }
+    /**
+     * Advances the parser within the current object to the value of the named property, skipping other properties.
+     *
+     * @param parser the parser, positioned within an object
+     * @param name the property name
+     * @param expected the expected token at the start of the property value
+     * @return true if the property was found with the expected token, false if the object ended without it
+     */
+
+    private boolean advanceToProperty( JsonParser parser, String name, JsonToken expected )
+    {
+        while ( parser.nextToken() == JsonToken.PROPERTY_NAME )
+        {
+            String nextName = parser.currentName();
+            JsonToken value = parser.nextToken();
 
-            if ( LOGGER.isDebugEnabled() )
+            if ( name.equals( nextName )
+                 && value == expected )
             {
-                LOGGER.debug( "Read {} time series from {}.",
-                              allTimeSeries.size(),
-                              dataSource.uri() );
+                return true;
             }
 
-            return Collections.unmodifiableList( allTimeSeries );
+            parser.skipChildren();
         }
-        catch ( IOException e )
+
+        return false;
+    }
+
+    /**
+     * Reads the next WaterML time-series from a parser that is positioned within the array of time-series.
+     *
+     * @param parser the parser
+     * @return the next time-series or null if the array has ended
+     */
+
+    private wres.reading.usgs.iv.response.timeseries.TimeSeries getNextTimeSeries( JsonParser parser )
+    {
+        JsonToken token = parser.nextToken();
+
+        while ( Objects.nonNull( token )
+                && token != JsonToken.END_ARRAY )
         {
-            throw new ReadException( "Failed to read the WaterML data stream.", e );
+            if ( token == JsonToken.START_OBJECT )
+            {
+                return OBJECT_MAPPER.readValue( parser, wres.reading.usgs.iv.response.timeseries.TimeSeries.class );
+            }
+
+            parser.skipChildren();
+            token = parser.nextToken();
         }
+
+        return null;
     }
 
     /**
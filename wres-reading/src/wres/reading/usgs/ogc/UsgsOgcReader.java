@@ -54,6 +54,7 @@ import wres.config.components.Source;
 import wres.config.components.Variable;
 import wres.datamodel.time.TimeSeriesSlicer;
 import wres.http.WebClient;
+import wres.http.WebResponseCache;
 import wres.reading.DataSource;
 import wres.reading.ReadException;
 import wres.reading.ReaderUtilities;
@@ -161,6 +162,9 @@ public class UsgsOgcReader implements TimeSeriesReader
     /** A reader for reading formatted GeoJson responses. */
     private final TimeSeriesReader geoJsonReader;
 
+    /** A cache of web responses, possibly null. */
+    private final WebResponseCache webResponseCache;
+
     /**
      * @param declaration the declaration, which is used to perform chunking of a data source
      * @param systemSettings the system settings
@@ -373,7 +377,10 @@ public class UsgsOgcReader implements TimeSeriesReader
                                 .submit( () ->
                                          {
                                              List<TimeSeriesTuple> unconsolidated =
-                                                     this.readAllPages( innerSource, this.getReader() );
+                                                     this.readAllPages( innerSource,
+                                                                        this.getReader(),
+                                                                        nextChunk.getRight()
+                                                                                 .getRight() );
                                              return this.consolidateTimeSeries( unconsolidated, dataSource );
                                          } );
 
@@ -422,19 +429,21 @@ public class UsgsOgcReader implements TimeSeriesReader
      *
      * @param dataSource the data source with one or more pages
      * @param reader the reader
+     * @param dataEnd the latest time covered by the data source, which is used to cache responses
      * @return the time-series
      * @throws ReadException if the time-series could not be read for any reason
      */
 
     private List<TimeSeriesTuple> readAllPages( DataSource dataSource,
-                                                TimeSeriesReader reader )
+                                                TimeSeriesReader reader,
+                                                Instant dataEnd )
     {
         if ( LOGGER.isDebugEnabled() )
         {
             LOGGER.debug( "Reading all pages of data from: {}.", dataSource.uri() );
         }
 
-        List<TimeSeriesTuple> firstPage = this.readOnePage( dataSource, reader );
+        List<TimeSeriesTuple> firstPage = this.readOnePage( dataSource, reader, dataEnd );
 
         if ( firstPage.isEmpty() )
         {
@@ -469,7 +478,7 @@ public class UsgsOgcReader implements TimeSeriesReader
                 DataSource newSource = dataSource.toBuilder()
                                                  .uri( builder.build() )
                                                  .build();
-                List<TimeSeriesTuple> nextNextPage = this.readOnePage( newSource, reader );
+                List<TimeSeriesTuple> nextNextPage = this.readOnePage( newSource, reader, dataEnd );
                 allPages.addAll( nextNextPage );
                 if ( !nextNextPage.isEmpty() )
                 {
@@ -501,12 +510,14 @@ public class UsgsOgcReader implements TimeSeriesReader
      * Reads one page from a data source.
      * @param dataSource the data source
      * @param reader the reader
+     * @param dataEnd the latest time covered by the data source, which is used to cache responses
      * @return the time-series
      * @throws ReadException if the page could not be read for any reason
      */
 
     private List<TimeSeriesTuple> readOnePage( DataSource dataSource,
-                                               TimeSeriesReader reader )
+                                               TimeSeriesReader reader,
+                                               Instant dataEnd )
     {
         // Unpack an HTTP 429 response code and report
         Function<WebClient.ClientResponse, String> errorUnpacker = response ->
@@ -545,7 +556,9 @@ public class UsgsOgcReader implements TimeSeriesReader
                                                                                           NO_DATA_PREDICATE,
                                                                                           ERROR_RESPONSE_PREDICATE,
                                                                                           errorUnpacker,
-                                                                                          null );
+                                                                                          null,
+                                                                                          this.webResponseCache,
+                                                                                          dataEnd );
             if ( Objects.nonNull( response ) )
             {
                 // Log rate limit info.
@@ -1072,6 +1085,7 @@ public class UsgsOgcReader implements TimeSeriesReader
         this.declaration = declaration;
         this.timeChunker = timeChunker;
         this.geoJsonReader = geoJsonReader;
+        this.webResponseCache = ReaderUtilities.getWebResponseCache( systemSettings );
 
         ThreadFactory webClientFactory = BasicThreadFactory.builder()
                                                            .namingPattern( "USGS Reading Thread %d" )
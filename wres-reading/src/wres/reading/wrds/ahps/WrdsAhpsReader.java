@@ -39,6 +39,7 @@ import org.slf4j.LoggerFactory;
 import wres.config.DeclarationUtilities;
 import wres.config.components.EvaluationDeclaration;
 import wres.http.WebClientUtils;
+import wres.http.WebResponseCache;
 import wres.reading.PreReadException;
 import wres.reading.DataSource;
 import wres.reading.ReadException;
@@ -94,6 +95,9 @@ public class WrdsAhpsReader implements TimeSeriesReader
     /** The time chunker. */
     private final TimeChunker timeChunker;
 
+    /** A persistent cache of web responses, possibly null. */
+    private final WebResponseCache webResponseCache;
+
     static
     {
         try
@@ -325,7 +329,9 @@ public class WrdsAhpsReader implements TimeSeriesReader
                     LOGGER.debug( "Created data source for chunk, {}.", innerSource );
 
                     // Get the next time-series as a future
-                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource );
+                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource,
+                                                                                    nextChunk.getRight()
+                                                                                             .getRight() );
 
                     results.add( future );
                 }
@@ -366,10 +372,11 @@ public class WrdsAhpsReader implements TimeSeriesReader
 
     /**
      * @param dataSource the data source
+     * @param dataEnd the end of the time range requested
      * @return a time-series task
      */
 
-    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource )
+    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource, Instant dataEnd )
     {
         LOGGER.debug( "Submitting a task for retrieving a time-series." );
 
@@ -380,7 +387,9 @@ public class WrdsAhpsReader implements TimeSeriesReader
                                                                                                    NO_DATA_PREDICATE,
                                                                                                    ERROR_RESPONSE_PREDICATE,
                                                                                                    null,
-                                                                                                   CUSTOM_WEB_CLIENT ) )
+                                                                                                   CUSTOM_WEB_CLIENT,
+                                                                                                   this.webResponseCache,
+                                                                                                   dataEnd ) )
                        {
                            if ( Objects.isNull( inputStream ) )
                            {
@@ -531,6 +540,7 @@ public class WrdsAhpsReader implements TimeSeriesReader
 
         this.declaration = declaration;
         this.timeChunker = timeChunker;
+        this.webResponseCache = ReaderUtilities.getWebResponseCache( systemSettings );
 
         ThreadFactory webClientFactory = BasicThreadFactory.builder()
                                                            .namingPattern( "WRDS AHPS Reading Thread %d" )
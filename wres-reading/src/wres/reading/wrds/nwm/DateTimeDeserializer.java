@@ -19,6 +19,10 @@ import wres.reading.ReaderUtilities;
  */
 public class DateTimeDeserializer extends ValueDeserializer<Instant>
 {
+    /** Lenient formatter for the "basic" ISO8601 format, with optional minutes and seconds. */
+    private static final DateTimeFormatter FORMATTER =
+            DateTimeFormatter.ofPattern( "[yyyyMMdd'T'HH[:mm[:ss]]'Z'][yyyy-MM-dd'T'HH:mm:ss'Z']" )
+                             .withZone( ReaderUtilities.UTC );
 
     @Override
     public Instant deserialize( JsonParser jp, DeserializationContext context )
@@ -38,11 +42,19 @@ public class DateTimeDeserializer extends ValueDeserializer<Instant>
             throw new ReadException( "Could not find a datetime field in the document, which is not allowed." );
         }
 
-        // Lenient formatting in the "basic" ISO8601 format, hours and seconds are optional
-        DateTimeFormatter formatter =
-                DateTimeFormatter.ofPattern( "[yyyyMMdd'T'HH[:mm[:ss]]'Z'][yyyy-MM-dd'T'HH:mm:ss'Z']" )
-                                 .withZone( ReaderUtilities.UTC );
+        return DateTimeDeserializer.parse( time );
+    }
+
+    /**
+     * Parses a datetime string in the ISO8601 "basic" format with optional minutes and seconds.
+     *
+     * @param time the datetime string
+     * @return the instant
+     */
 
-        return formatter.parse( time, Instant::from );
+    static Instant parse( String time )
+    {
+        // Lenient formatting in the "basic" ISO8601 format, hours and seconds are optional
+        return FORMATTER.parse( time, Instant::from );
     }
 }
\ No newline at end of file
@@ -8,14 +8,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -23,6 +22,10 @@ import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
@@ -38,6 +41,7 @@ import wres.reading.ReaderUtilities;
 import wres.reading.TimeSeriesReader;
 import wres.reading.TimeSeriesTuple;
 import wres.reading.DataSource.DataDisposition;
+import wres.reading.wrds.ahps.ParameterCodes;
 import wres.reading.wrds.ahps.TimeScaleFromParameterCodes;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.Geometry;
@@ -49,17 +53,13 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  *
  * <p>Implementation notes:
  *
- * <p>This reader currently performs eager reading of time-series data. It relies on the Jackson framework, 
- * specifically an {@link ObjectMapper}, which maps a JSON byte array into time-series objects. An improved 
- * implementation would stream the underlying bytes into {@link TimeSeries} on demand. Thus, particularly when the 
- * underlying data source is a large file or a large stream that is not chunked at a higher level, this implementation
- * is not very memory efficient, contrary to the recommended implementation in {@link TimeSeriesReader}.
- *
- * <p>TODO: consider a more memory efficient implementation by using the Jackson streaming API. For example:
- * <a href="https://www.baeldung.com/jackson-streaming-api">Jackson</a>. As of v6.7, this is not a tremendous problem
- * because the main application of this class is reading directly from WRDS whereby the responses are chunked at a
- * higher level. However, this limitation would become more acute were there a need to read a large WRDS-formatted
- * JSON file from a local disk.
+ * <p>This reader performs incremental reading of time-series data. It walks the document with the Jackson streaming
+ * API, specifically a {@link JsonParser}, and binds one feature at a time with an {@link ObjectMapper}, returning a
+ * {@link TimeSeries} for each feature as it is read. Thus, the memory required is bounded by the largest feature,
+ * rather than the size of the document, as recommended in {@link TimeSeriesReader}. The forecasts are only read in
+ * full when they precede the variable, which WRDS does not do. The parameter codes are optional and WRDS writes them
+ * before the forecasts, when present. Parameter codes that describe a time scale and follow some time-series that were
+ * already supplied are not allowed, since the time scale cannot be applied to those time-series.
  *
  * @author James Brown
  * @author Christopher Tubbs
@@ -77,6 +77,16 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
                       .configure( DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, true )
                       .build();
 
+    /** Type of the variable description. */
+    private static final TypeReference<Map<String, String>> VARIABLE_TYPE = new TypeReference<>()
+    {
+    };
+
+    /** Type of the warnings. */
+    private static final TypeReference<List<String>> WARNINGS_TYPE = new TypeReference<>()
+    {
+    };
+
     /**
      * @return an instance
      */
@@ -119,7 +129,6 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
         Supplier<TimeSeriesTuple> supplier = this.getTimeSeriesSupplier( dataSource, inputStream );
 
         // Generate a stream of time-series.
-        // This is merely a facade on incremental reading until the underlying supplier reads incrementally
         return Stream.generate( supplier )
                      // Finite stream, proceeds while a time-series is returned
                      .takeWhile( Objects::nonNull )
@@ -140,9 +149,8 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
     }
 
     /**
-     * <p>Returns a time-series supplier from the inputs. Currently, this method performs eager reading.
-     *
-     * <p>TODO: implement incremental reading using the Jackson Streaming API or similar.
+     * Returns a time-series supplier from the inputs. The supplier reads the document incrementally, returning one
+     * time-series for each feature in each forecast.
      *
      * @param dataSource the data source
      * @param inputStream the stream to read
@@ -153,70 +161,40 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
     private Supplier<TimeSeriesTuple> getTimeSeriesSupplier( DataSource dataSource,
                                                              InputStream inputStream )
     {
-        AtomicInteger iterator = new AtomicInteger();
-        AtomicReference<List<TimeSeriesTuple>> timeSeriesTuples = new AtomicReference<>();
+        AtomicReference<DocumentReader> documentReader = new AtomicReference<>();
 
         // Create a supplier that returns a time-series once complete
         return () -> {
 
-            // Read the time-series eagerly on first use: this will still delay any read until a terminal stream
-            // operation pulls from the supplier (which is why we use a reference holder and do not request the 
-            // time-series outside of this lambda), but it will then acquire all the time-series eagerly, i.e., now
-            if ( Objects.isNull( timeSeriesTuples.get() ) )
+            // Create the document reader on first use, which delays any read until a terminal stream operation pulls
+            // from the supplier
+            if ( Objects.isNull( documentReader.get() ) )
             {
-                List<TimeSeriesTuple> eagerSeries = this.getTimeSeries( dataSource, inputStream );
-
-                LOGGER.debug( "Read {} time-series from {}.", eagerSeries.size(), dataSource );
-
-                timeSeriesTuples.set( eagerSeries );
+                documentReader.set( new DocumentReader( dataSource, inputStream ) );
             }
 
-            List<TimeSeriesTuple> tuples = timeSeriesTuples.get();
-
-            // More time-series to return?
-            if ( iterator.get() < tuples.size() )
+            try
             {
-                return tuples.get( iterator.getAndIncrement() );
+                return documentReader.get()
+                                     .next();
+            }
+            catch ( JacksonException e )
+            {
+                throw new ReadException( "Failed to read a WRDS NWM source from " + dataSource.uri() + ".", e );
             }
-
-            // Null sentinel to close stream
-            return null;
         };
     }
 
     /**
-     * Returns the time-series from the inputs.
+     * Validates the variable that is described by a document.
      *
-     * @param dataSource the data source
-     * @param inputStream the stream to read
-     * @return a time-series supplier
-     * @throws ReadException if the data could not be read for any reason
+     * @param variable the variable
+     * @param uri the uri of the document
+     * @throws ReadException if the variable is invalid
      */
 
-    private List<TimeSeriesTuple> getTimeSeries( DataSource dataSource,
-                                                 InputStream inputStream )
+    private void validateVariable( Map<String, String> variable, URI uri )
     {
-        URI uri = dataSource.uri();
-        NwmRootDocument rootDocument = this.getNwmRootDocument( inputStream, uri );
-
-        // Validate
-        if ( Objects.isNull( rootDocument ) )
-        {
-            LOGGER.debug( "Failed to read a root document from {}.", uri );
-            return Collections.emptyList();
-        }
-
-        List<String> wrdsWarnings = rootDocument.getWarnings();
-
-        if ( Objects.nonNull( wrdsWarnings ) && !wrdsWarnings.isEmpty() )
-        {
-            LOGGER.warn( "These warnings were in the document from {}: {}",
-                         uri,
-                         wrdsWarnings );
-        }
-
-        Map<String, String> variable = rootDocument.getVariable();
-
         if ( Objects.isNull( variable )
              || variable.isEmpty()
              || !variable.containsKey( "name" )
@@ -249,60 +227,11 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
                                      + "document was from "
                                      + uri );
         }
-
-        return this.readFromNwmRootDocument( rootDocument, dataSource, variableName, measurementUnit );
-    }
-
-    /**
-     * Transforms a root document of time-series into internal time-series.
-     * @param rootDocument the root document
-     * @param dataSource the data source
-     * @param variableName the variable name
-     * @param measurementUnit the measurement unit
-     * @return the internal time-series
-     */
-    private List<TimeSeriesTuple> readFromNwmRootDocument( NwmRootDocument rootDocument,
-                                                           DataSource dataSource,
-                                                           String variableName,
-                                                           String measurementUnit )
-    {
-        URI uri = dataSource.uri();
-
-        // Time scale if available
-        TimeScaleOuter timeScale = null;
-
-        if ( Objects.nonNull( rootDocument.getParameterCodes() ) )
-        {
-            timeScale = TimeScaleFromParameterCodes.getTimeScale( rootDocument.getParameterCodes(), uri );
-            LOGGER.debug( "While processing source {} discovered a time scale of {}.",
-                          uri,
-                          timeScale );
-        }
-
-        List<TimeSeriesTuple> timeSeriesTuples = new ArrayList<>();
-
-        // Iterate through the results
-        for ( NwmForecast forecast : rootDocument.getForecasts() )
-        {
-            for ( NwmFeature nwmFeature : forecast.getFeatures() )
-            {
-                TimeSeriesTuple tuple = this.getTimeSeries( dataSource,
-                                                            forecast,
-                                                            nwmFeature,
-                                                            timeScale,
-                                                            variableName,
-                                                            measurementUnit );
-
-                timeSeriesTuples.add( tuple );
-            }
-        }
-
-        return Collections.unmodifiableList( timeSeriesTuples );
     }
 
     /**
      * @param dataSource the data source
-     * @param forecast the nwm forecast
+     * @param referenceTime the forecast reference time
      * @param nwmFeature the nwm feature
      * @param timeScale the time scale, if available
      * @param variableName the variable name
@@ -311,7 +240,7 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
      */
 
     private TimeSeriesTuple getTimeSeries( DataSource dataSource,
-                                           NwmForecast forecast,
+                                           Instant referenceTime,
                                            NwmFeature nwmFeature,
                                            TimeScaleOuter timeScale,
                                            String variableName,
@@ -337,7 +266,7 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
                 {
                     LOGGER.debug( "Found null datapoint in member trace={} at referenceDatetime={} for nwm feature={}.",
                                   i,
-                                  forecast.getReferenceDatetime(),
+                                  referenceTime,
                                   rawLocationId );
                     continue;
                 }
@@ -349,7 +278,7 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
                 {
                     throw new ReadException( "Discovered a time-series with duplicate valid datetimes, which is not "
                                              + "allowed. The duplicate occurred for reference time "
-                                             + forecast.getReferenceDatetime()
+                                             + referenceTime
                                              + ", valid time "
                                              + validTime
                                              + " and trace name "
@@ -382,7 +311,7 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
         Geometry geometry = MessageUtilities.getGeometry( locationId );
         Feature feature = Feature.of( geometry );
         TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of( referenceTimeType,
-                                                                     forecast.getReferenceDatetime() ),
+                                                                     referenceTime ),
                                                              timeScale,
                                                              variableName,
                                                              feature,
@@ -430,17 +359,389 @@ public class WrdsNwmJsonReader implements TimeSeriesReader
     }
 
     /**
-     * Reads the root document from a stream.
-     * @param inputStream the stream
-     * @param uri the origin of the stream
-     * @return the root document
+     * Reads a document incrementally with a {@link JsonParser}, binding one feature at a time. The variable, time scale
+     * and warnings are read from the root of the document. When the variable precedes the forecasts, each feature is
+     * transformed as soon as it is read. Otherwise, the forecasts are bound in full and transformed at the end of the
+     * document. Parameter codes that describe a time scale and follow some supplied time-series are rejected.
      */
-    private NwmRootDocument getNwmRootDocument( InputStream inputStream, URI uri )
+
+    private final class DocumentReader
     {
-        LOGGER.debug( "Reading a WRDS NWM source from {}.", uri );
-        NwmRootDocument document = OBJECT_MAPPER.readValue( inputStream, NwmRootDocument.class );
-        LOGGER.debug( "Parsed this document: {}", document );
-        return document;
+        /** The data source. */
+        private final DataSource dataSource;
+
+        /** The stream to read. */
+        private final InputStream inputStream;
+
+        /** Time-series that were read together and are awaiting return. */
+        private final Deque<TimeSeriesTuple> pending = new ArrayDeque<>();
+
+        /** The parser, which is created on first read. */
+        private JsonParser parser;
+
+        /** The variable name. */
+        private String variableName;
+
+        /** The measurement unit. */
+        private String measurementUnit;
+
+        /** The time scale, if available. */
+        private TimeScaleOuter timeScale;
+
+        /** Forecasts that preceded the variable in the document. */
+        private NwmForecast[] forecasts;
+
+        /** The reference time of the current forecast. */
+        private Instant referenceTime;
+
+        /** Is true when the parser is inside the forecasts array. */
+        private boolean inForecasts;
+
+        /** Is true when the parser is inside the features array of a forecast. */
+        private boolean inFeatures;
+
+        /** Is true when the document has been read. */
+        private boolean finished;
+
+        /** The number of time-series read. */
+        private int count;
+
+        /**
+         * @return the next time-series or null when the document has been read
+         * @throws ReadException if the document is invalid
+         */
+
+        private TimeSeriesTuple next()
+        {
+            while ( this.pending.isEmpty()
+                    && !this.finished )
+            {
+                if ( Objects.isNull( this.parser ) )
+                {
+                    this.start();
+                }
+                else if ( this.inFeatures )
+                {
+                    this.readFeature();
+                }
+                else if ( this.inForecasts )
+                {
+                    this.readForecast();
+                }
+                else
+                {
+                    this.readRootProperty();
+                }
+            }
+
+            TimeSeriesTuple next = this.pending.poll();
+
+            if ( Objects.nonNull( next ) )
+            {
+                this.count++;
+            }
+
+            return next;
+        }
+
+        /**
+         * Creates the parser and advances it to the root object.
+         */
+
+        private void start()
+        {
+            URI uri = this.dataSource.uri();
+
+            LOGGER.debug( "Reading a WRDS NWM source from {}.", uri );
+
+            this.parser = OBJECT_MAPPER.createParser( this.inputStream );
+            JsonToken token = this.parser.nextToken();
+
+            if ( Objects.isNull( token ) )
+            {
+                LOGGER.debug( "Failed to read a root document from {}.", uri );
+                this.finish();
+            }
+            else if ( token != JsonToken.START_OBJECT )
+            {
+                throw new ReadException( "Expected a JSON object at the root of the WRDS NWM document from "
+                                         + uri
+                                         + ", but found "
+                                         + token
+                                         + "." );
+            }
+        }
+
+        /**
+         * Reads the next property at the root of the document.
+         */
+
+        private void readRootProperty()
+        {
+            JsonToken token = this.parser.nextToken();
+
+            if ( Objects.isNull( token )
+                 || token == JsonToken.END_OBJECT )
+            {
+                this.finishDocument();
+                return;
+            }
+
+            String name = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+            URI uri = this.dataSource.uri();
+
+            if ( "variable".equals( name ) )
+            {
+                this.setVariable( OBJECT_MAPPER.readValue( this.parser, VARIABLE_TYPE ) );
+            }
+            else if ( "parameter_codes".equals( name ) )
+            {
+                this.setTimeScale( OBJECT_MAPPER.readValue( this.parser, ParameterCodes.class ) );
+            }
+            else if ( "_warnings".equals( name ) )
+            {
+                List<String> warnings = OBJECT_MAPPER.readValue( this.parser, WARNINGS_TYPE );
+
+                if ( Objects.nonNull( warnings ) && !warnings.isEmpty() )
+                {
+                    LOGGER.warn( "These warnings were in the document from {}: {}",
+                                 uri,
+                                 warnings );
+                }
+            }
+            else if ( "forecasts".equals( name )
+                      && value == JsonToken.START_ARRAY
+                      && Objects.nonNull( this.variableName ) )
+            {
+                // Return to the caller and read one forecast at a time
+                this.inForecasts = true;
+            }
+            else if ( "forecasts".equals( name )
+                      && value == JsonToken.START_ARRAY )
+            {
+                LOGGER.debug( "The forecasts preceded the variable in {}, reading them in full.", uri );
+                this.forecasts = OBJECT_MAPPER.readValue( this.parser, NwmForecast[].class );
+            }
+            else
+            {
+                this.parser.skipChildren();
+            }
+        }
+
+        /**
+         * Reads the next forecast in the forecasts array up to its features.
+         */
+
+        private void readForecast()
+        {
+            JsonToken token = this.parser.nextToken();
+
+            if ( token == JsonToken.END_ARRAY )
+            {
+                this.inForecasts = false;
+                return;
+            }
+
+            if ( token != JsonToken.START_OBJECT )
+            {
+                this.parser.skipChildren();
+                return;
+            }
+
+            this.referenceTime = null;
+            NwmFeature[] features = null;
+
+            while ( this.parser.nextToken() == JsonToken.PROPERTY_NAME )
+            {
+                String name = this.parser.currentName();
+                JsonToken value = this.parser.nextToken();
+
+                if ( "reference_time".equals( name )
+                     && value == JsonToken.VALUE_STRING )
+                {
+                    this.referenceTime = DateTimeDeserializer.parse( this.parser.getValueAsString() );
+                }
+                else if ( "features".equals( name )
+                          && value == JsonToken.START_ARRAY
+                          && Objects.nonNull( this.referenceTime ) )
+                {
+                    // Return to the caller and read one feature at a time
+                    this.inFeatures = true;
+                    return;
+                }
+                else if ( "features".equals( name )
+                          && value == JsonToken.START_ARRAY )
+                {
+                    features = OBJECT_MAPPER.readValue( this.parser, NwmFeature[].class );
+                }
+                else
+                {
+                    this.parser.skipChildren();
+                }
+            }
+
+            // Features that preceded the reference time
+            if ( Objects.nonNull( features ) )
+            {
+                for ( NwmFeature feature : features )
+                {
+                    this.pending.add( this.transform( feature ) );
+                }
+            }
+        }
+
+        /**
+         * Reads the next feature in the features array of a forecast.
+         */
+
+        private void readFeature()
+        {
+            JsonToken token = this.parser.nextToken();
+
+            if ( token == JsonToken.START_OBJECT )
+            {
+                NwmFeature feature = OBJECT_MAPPER.readValue( this.parser, NwmFeature.class );
+                this.pending.add( this.transform( feature ) );
+                return;
+            }
+
+            if ( token != JsonToken.END_ARRAY )
+            {
+                this.parser.skipChildren();
+                return;
+            }
+
+            // End of features, skip the remainder of the forecast
+            this.inFeatures = false;
+
+            while ( this.parser.nextToken() == JsonToken.PROPERTY_NAME )
+            {
+                this.parser.nextToken();
+                this.parser.skipChildren();
+            }
+        }
+
+        /**
+         * Validates and sets the variable.
+         * @param variable the variable
+         */
+
+        private void setVariable( Map<String, String> variable )
+        {
+            WrdsNwmJsonReader.this.validateVariable( variable, this.dataSource.uri() );
+            this.variableName = variable.get( "name" );
+            this.measurementUnit = variable.get( "unit" );
+        }
+
+        /**
+         * Sets the time scale from the parameter codes.
+         * @param parameterCodes the parameter codes
+         * @throws ReadException if the parameter codes describe a time scale and follow some time-series
+         */
+
+        private void setTimeScale( ParameterCodes parameterCodes )
+        {
+            if ( Objects.isNull( parameterCodes ) )
+            {
+                return;
+            }
+
+            URI uri = this.dataSource.uri();
+            TimeScaleOuter scale = TimeScaleFromParameterCodes.getTimeScale( parameterCodes, uri );
+
+            // The time-series read already cannot be given the time scale
+            if ( Objects.nonNull( scale )
+                 && ( this.count > 0 || !this.pending.isEmpty() ) )
+            {
+                throw new ReadException( "The parameter codes in the WRDS NWM document from "
+                                         + uri
+                                         + " followed some of the forecasts, which is not allowed because the time "
+                                         + "scale they describe, "
+                                         + scale
+                                         + ", cannot be applied to the time-series that were read before them. "
+                                         + "Please ensure that the parameter codes precede the forecasts." );
+            }
+
+            this.timeScale = scale;
+
+            LOGGER.debug( "While processing source {} discovered a time scale of {}.",
+                          uri,
+                          this.timeScale );
+        }
+
+        /**
+         * Completes the document, transforming any forecasts that preceded the variable.
+         */
+
+        private void finishDocument()
+        {
+            URI uri = this.dataSource.uri();
+
+            if ( Objects.isNull( this.variableName ) )
+            {
+                WrdsNwmJsonReader.this.validateVariable( null, uri );
+            }
+
+            if ( Objects.nonNull( this.forecasts ) )
+            {
+                for ( NwmForecast forecast : this.forecasts )
+                {
+                    this.referenceTime = forecast.getReferenceDatetime();
+
+                    for ( NwmFeature feature : forecast.getFeatures() )
+                    {
+                        this.pending.add( this.transform( feature ) );
+                    }
+                }
+
+                this.forecasts = null;
+            }
+
+            this.finish();
+        }
+
+        /**
+         * Closes the parser and marks the document as read.
+         */
+
+        private void finish()
+        {
+            this.finished = true;
+
+            LOGGER.debug( "Read {} time-series from {}.", this.count + this.pending.size(), this.dataSource );
+
+            if ( Objects.nonNull( this.parser ) )
+            {
+                this.parser.close();
+            }
+        }
+
+        /**
+         * @param feature the feature
+         * @return the time-series
+         */
+
+        private TimeSeriesTuple transform( NwmFeature feature )
+        {
+            return WrdsNwmJsonReader.this.getTimeSeries( this.dataSource,
+                                                         this.referenceTime,
+                                                         feature,
+                                                         this.timeScale,
+                                                         this.variableName,
+                                                         this.measurementUnit );
+        }
+
+        /**
+         * @param dataSource the data source
+         * @param inputStream the stream to read
+         */
+
+        private DocumentReader( DataSource dataSource, InputStream inputStream )
+        {
+            this.dataSource = dataSource;
+            this.inputStream = inputStream;
+        }
     }
 
     /**
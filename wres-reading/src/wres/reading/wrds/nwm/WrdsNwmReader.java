@@ -52,6 +52,7 @@ import wres.config.components.DataType;
 import wres.config.components.EvaluationDeclaration;
 import wres.config.components.TimeInterval;
 import wres.http.WebClientUtils;
+import wres.http.WebResponseCache;
 import wres.reading.PreReadException;
 import wres.reading.DataSource;
 import wres.reading.ReadException;
@@ -131,6 +132,9 @@ public class WrdsNwmReader implements TimeSeriesReader
     /** The feature chunk size. */
     private final int featureChunkSize;
 
+    /** A persistent cache of web responses, possibly null. */
+    private final WebResponseCache webResponseCache;
+
     /**
      * @see #of(EvaluationDeclaration, SystemSettings)
      * @param systemSettings the system settings
@@ -357,7 +361,9 @@ public class WrdsNwmReader implements TimeSeriesReader
                     LOGGER.debug( "Created data source for chunk, {}.", innerSource );
 
                     // Get the next time-series as a future
-                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource );
+                    Future<List<TimeSeriesTuple>> future = this.getTimeSeriesTuple( innerSource,
+                                                                                    nextChunk.getRight()
+                                                                                             .getRight() );
 
                     results.add( future );
                 }
@@ -398,10 +404,11 @@ public class WrdsNwmReader implements TimeSeriesReader
 
     /**
      * @param dataSource the data source
+     * @param dataEnd the end of the time range requested
      * @return a time-series task
      */
 
-    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource )
+    private Future<List<TimeSeriesTuple>> getTimeSeriesTuple( DataSource dataSource, Instant dataEnd )
     {
         LOGGER.debug( "Submitting a task for retrieving a time-series." );
 
@@ -413,7 +420,9 @@ public class WrdsNwmReader implements TimeSeriesReader
                                                                                  NO_DATA_PREDICATE,
                                                                                  ERROR_RESPONSE_PREDICATE,
                                                                                  r -> WrdsNwmReader.tryToReadError( r.getResponse() ),
-                                                                                 CUSTOM_WEB_CLIENT ) )
+                                                                                 CUSTOM_WEB_CLIENT,
+                                                                                 this.webResponseCache,
+                                                                                 dataEnd ) )
                        {
                            if ( Objects.nonNull( s ) )
                            {
@@ -781,6 +790,7 @@ public class WrdsNwmReader implements TimeSeriesReader
 
         this.declaration = declaration;
         this.featureChunkSize = featureChunkSize;
+        this.webResponseCache = ReaderUtilities.getWebResponseCache( systemSettings );
 
         ThreadFactory webClientFactory = BasicThreadFactory.builder()
                                                            .namingPattern( "WRDS NWM Reading Thread %d" )
@@ -0,0 +1,233 @@
+package wres.reading.netcdf.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.Attribute;
+import ucar.nc2.write.NetcdfFormatWriter;
+
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.DoubleEvent;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.Geometry;
+
+/**
+ * Tests the {@link GridReader}.
+ * @author James Brown
+ */
+
+class GridReaderTest
+{
+    /** The variable name. */
+    private static final String VARIABLE_NAME = "RAINRATE";
+
+    /** The latitudes of the grid. */
+    private static final double[] LATITUDES = { 40, 41, 42 };
+
+    /** The longitudes of the grid. */
+    private static final double[] LONGITUDES = { -100, -99, -98, -97 };
+
+    /** A feature at the second latitude and second longitude. */
+    private static final Feature FEATURE_ONE = Feature.of( Geometry.newBuilder()
+                                                                   .setName( "one" )
+                                                                   .setWkt( "POINT ( -99 41 )" )
+                                                                   .build() );
+
+    /** A feature at the third latitude and fourth longitude. */
+    private static final Feature FEATURE_TWO = Feature.of( Geometry.newBuilder()
+                                                                   .setName( "two" )
+                                                                   .setWkt( "POINT ( -97 42 )" )
+                                                                   .build() );
+
+    /** A temporary directory for the gridded files. */
+    @TempDir
+    private Path directory;
+
+    /** The paths to the gridded files. */
+    private List<String> paths;
+
+    @BeforeEach
+    void runBeforeEachTest() throws IOException, InvalidRangeException
+    {
+        // Three files, each with one valid time and values that depend on the file and the cell
+        Path first = this.directory.resolve( "grid_one.nc" );
+        Path second = this.directory.resolve( "grid_two.nc" );
+        Path third = this.directory.resolve( "grid_three.nc" );
+        GridReaderTest.writeGrid( first, 60, 100 );
+        GridReaderTest.writeGrid( second, 120, 200 );
+        GridReaderTest.writeGrid( third, 180, 300 );
+        this.paths = List.of( first.toString(), second.toString(), third.toString() );
+    }
+
+    @Test
+    void testGetSingleValuedTimeSeriesReadsEachFeatureFromEachFile() throws IOException
+    {
+        GridRequest request = this.getRequest();
+
+        Map<Feature, List<TimeSeries<Double>>> actual = GridReaderTest.read( request );
+
+        Map<Feature, List<Event<Double>>> expected =
+                Map.of( FEATURE_ONE,
+                        List.of( DoubleEvent.of( Instant.parse( "1970-01-01T01:00:00Z" ), 111.0 ),
+                                 DoubleEvent.of( Instant.parse( "1970-01-01T02:00:00Z" ), 211.0 ),
+                                 DoubleEvent.of( Instant.parse( "1970-01-01T03:00:00Z" ), 311.0 ) ),
+                        FEATURE_TWO,
+                        List.of( DoubleEvent.of( Instant.parse( "1970-01-01T01:00:00Z" ), 123.0 ),
+                                 DoubleEvent.of( Instant.parse( "1970-01-01T02:00:00Z" ), 223.0 ),
+                                 DoubleEvent.of( Instant.parse( "1970-01-01T03:00:00Z" ), 323.0 ) ) );
+
+        assertEquals( expected, GridReaderTest.getEvents( actual ) );
+    }
+
+    @Test
+    void testGetSingleValuedTimeSeriesReturnsSameValuesForConcurrentRequests()
+    {
+        GridRequest request = this.getRequest();
+
+        // Many concurrent requests for the same files, which share the reading executor and the file locks
+        List<CompletableFuture<Map<Feature, List<TimeSeries<Double>>>>> futures =
+                Stream.generate( () -> CompletableFuture.supplyAsync( () -> GridReaderTest.readUnchecked( request ) ) )
+                      .limit( 8 )
+                      .toList();
+
+        Map<Feature, List<Event<Double>>> expected = GridReaderTest.getEvents( futures.get( 0 )
+                                                                                     .join() );
+
+        for ( CompletableFuture<Map<Feature, List<TimeSeries<Double>>>> future : futures )
+        {
+            assertEquals( expected, GridReaderTest.getEvents( future.join() ) );
+        }
+
+        assertEquals( 3, expected.get( FEATURE_ONE )
+                                 .size() );
+    }
+
+    /**
+     * @return a request for two features from each file
+     */
+
+    private GridRequest getRequest()
+    {
+        return new GridRequest( this.paths,
+                                Set.of( FEATURE_ONE, FEATURE_TWO ),
+                                VARIABLE_NAME,
+                                TimeWindowOuter.of( MessageUtilities.getTimeWindow() ),
+                                false,
+                                null );
+    }
+
+    /**
+     * @param request the request
+     * @return the time-series by feature
+     * @throws IOException if the time-series could not be read
+     */
+
+    private static Map<Feature, List<TimeSeries<Double>>> read( GridRequest request ) throws IOException
+    {
+        return GridReader.getSingleValuedTimeSeries( request )
+                         .entrySet()
+                         .stream()
+                         .collect( Collectors.toMap( Map.Entry::getKey,
+                                                     e -> e.getValue()
+                                                           .toList() ) );
+    }
+
+    /**
+     * @param request the request
+     * @return the time-series by feature
+     * @throws IllegalStateException if the time-series could not be read
+     */
+
+    private static Map<Feature, List<TimeSeries<Double>>> readUnchecked( GridRequest request )
+    {
+        try
+        {
+            return GridReaderTest.read( request );
+        }
+        catch ( IOException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * @param timeSeries the time-series by feature
+     * @return the events of the time-series by feature, in time order
+     */
+
+    private static Map<Feature, List<Event<Double>>> getEvents( Map<Feature, List<TimeSeries<Double>>> timeSeries )
+    {
+        return timeSeries.entrySet()
+                         .stream()
+                         .collect( Collectors.toMap( Map.Entry::getKey,
+                                                     e -> e.getValue()
+                                                           .stream()
+                                                           .flatMap( s -> s.getEvents()
+                                                                           .stream() )
+                                                           .toList() ) );
+    }
+
+    /**
+     * Writes a small grid with one valid time. The value of each cell is the offset plus ten times the latitude index
+     * plus the longitude index.
+     *
+     * @param path the path
+     * @param minutes the valid time in minutes since the epoch
+     * @param offset the offset to add to each value
+     * @throws IOException if the grid could not be written
+     * @throws InvalidRangeException if the values do not match the variable shape
+     */
+
+    private static void writeGrid( Path path, int minutes, double offset ) throws IOException, InvalidRangeException
+    {
+        NetcdfFormatWriter.Builder builder = NetcdfFormatWriter.createNewNetcdf3( path.toString() );
+        builder.addAttribute( new Attribute( "Conventions", "CF-1.6" ) );
+        builder.addDimension( "time", 1 );
+        builder.addDimension( "lat", LATITUDES.length );
+        builder.addDimension( "lon", LONGITUDES.length );
+        builder.addVariable( "time", DataType.INT, "time" )
+               .addAttribute( new Attribute( "units", "minutes since 1970-01-01 00:00:00 UTC" ) )
+               .addAttribute( new Attribute( "standard_name", "time" ) );
+        builder.addVariable( "lat", DataType.DOUBLE, "lat" )
+               .addAttribute( new Attribute( "units", "degrees_north" ) );
+        builder.addVariable( "lon", DataType.DOUBLE, "lon" )
+               .addAttribute( new Attribute( "units", "degrees_east" ) );
+        builder.addVariable( VARIABLE_NAME, DataType.DOUBLE, "time lat lon" )
+               .addAttribute( new Attribute( "units", "mm s^-1" ) );
+
+        double[][][] values = new double[1][LATITUDES.length][LONGITUDES.length];
+        for ( int y = 0; y < LATITUDES.length; y++ )
+        {
+            for ( int x = 0; x < LONGITUDES.length; x++ )
+            {
+                values[0][y][x] = offset + 10 * y + x;
+            }
+        }
+
+        try ( NetcdfFormatWriter writer = builder.build() )
+        {
+            writer.write( writer.findVariable( "time" ), Array.makeFromJavaArray( new int[] { minutes } ) );
+            writer.write( writer.findVariable( "lat" ), Array.makeFromJavaArray( LATITUDES ) );
+            writer.write( writer.findVariable( "lon" ), Array.makeFromJavaArray( LONGITUDES ) );
+            writer.write( writer.findVariable( VARIABLE_NAME ), Array.makeFromJavaArray( values ) );
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package wres.reading.wrds.nwm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -8,6 +10,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -25,6 +28,7 @@ import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesMetadata;
 import wres.reading.DataSource;
+import wres.reading.ReadException;
 import wres.reading.TimeSeriesTuple;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
@@ -157,4 +161,91 @@ class WrdsNwmJsonReaderTest
             assertEquals( expected, actual );
         }
     }
+
+    @Test
+    void testReadObservationsFromStreamWhenForecastsPrecedeVariable() throws IOException
+    {
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        // Move the variable to the end of the document
+        int variableStart = this.jsonString.indexOf( "\"variable\"" );
+        int forecastsStart = this.jsonString.indexOf( "\"forecasts\"" );
+        int variableEnd = this.jsonString.lastIndexOf( '}', forecastsStart ) + 1;
+        String variable = this.jsonString.substring( variableStart, variableEnd );
+        String reordered = this.jsonString.substring( 0, variableStart )
+                           + this.jsonString.substring( forecastsStart, this.jsonString.lastIndexOf( '}' ) )
+                           + ", "
+                           + variable
+                           + "}";
+
+        try ( InputStream inputStream = new ByteArrayInputStream( reordered.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            List<TimeSeries<Double>> actual = tupleStream.map( TimeSeriesTuple::getSingleValuedTimeSeries )
+                                                         .toList();
+
+            assertEquals( 1, actual.size() );
+            assertEquals( "streamflow", actual.get( 0 )
+                                              .getMetadata()
+                                              .getVariableName() );
+            assertEquals( 3, actual.get( 0 )
+                                   .getEvents()
+                                   .size() );
+        }
+    }
+
+    @Test
+    void testReadObservationsFromStreamSuppliesEachFeatureBeforeReadingTheNext() throws IOException
+    {
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        // The production order of fields, namely the variable followed by the forecasts and no parameter codes. The
+        // second feature is truncated, so the first feature can only be supplied when the features are streamed
+        int featuresEnd = this.jsonString.lastIndexOf( ']', this.jsonString.lastIndexOf( ']' ) - 1 );
+        String truncated = this.jsonString.substring( 0, featuresEnd )
+                           + """
+                                   ,
+                                   {
+                                     "location": {""";
+
+        try ( InputStream inputStream = new ByteArrayInputStream( truncated.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            Iterator<TimeSeriesTuple> iterator = tupleStream.iterator();
+
+            assertTrue( iterator.hasNext() );
+
+            TimeSeries<Double> actual = iterator.next()
+                                                .getSingleValuedTimeSeries();
+
+            assertEquals( 3, actual.getEvents()
+                                   .size() );
+            assertEquals( "streamflow", actual.getMetadata()
+                                              .getVariableName() );
+
+            assertThrows( ReadException.class, iterator::hasNext );
+        }
+    }
+
+    @Test
+    void testReadObservationsFromStreamThrowsExpectedExceptionWhenParameterCodesFollowForecasts() throws IOException
+    {
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        // Add instantaneous parameter codes at the end of the document
+        String reordered = this.jsonString.substring( 0, this.jsonString.lastIndexOf( '}' ) )
+                           + """
+                                   ,
+                                     "parameter_codes": {
+                                       "physicalElement": "QR",
+                                       "duration": "I"
+                                     }
+                                   }""";
+
+        try ( InputStream inputStream = new ByteArrayInputStream( reordered.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            assertThrows( ReadException.class, tupleStream::toList );
+        }
+    }
 }
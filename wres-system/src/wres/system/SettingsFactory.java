@@ -180,6 +180,12 @@ public class SettingsFactory
             systemBuilder.netcdfStorePath( storePath );
         }
 
+        String webCacheDirectory = System.getProperty( "wres.webCacheDirectory" );
+        if ( webCacheDirectory != null )
+        {
+            systemBuilder.webCacheDirectory( webCacheDirectory );
+        }
+
         SettingsFactory.setMaximumIngestThreads( systemBuilder, systemSettings );
         SettingsFactory.setFetchSize( systemBuilder, systemSettings );
         SettingsFactory.setMaximumCopies( systemBuilder, systemSettings );
@@ -197,6 +203,16 @@ public class SettingsFactory
         SettingsFactory.setMaximumReadThreads( systemBuilder, systemSettings );
         SettingsFactory.setFeatureBatchSize( systemBuilder, systemSettings );
         SettingsFactory.setFeatureBatchThreshold( systemBuilder, systemSettings );
+        SettingsFactory.setTimeWindowBatchSize( systemBuilder, systemSettings );
+        SettingsFactory.setNetcdfDeflateLevel( systemBuilder, systemSettings );
+        SettingsFactory.setStatisticsEnvelopeBytes( systemBuilder, systemSettings );
+        SettingsFactory.setStatisticsEnvelopeMilliseconds( systemBuilder, systemSettings );
+        SettingsFactory.setStatisticsEnvelopeDeflateLevel( systemBuilder, systemSettings );
+        SettingsFactory.setWebCacheMegabytes( systemBuilder, systemSettings );
+        SettingsFactory.setWebCacheDays( systemBuilder, systemSettings );
+        SettingsFactory.setWebCacheImmutableDays( systemBuilder, systemSettings );
+        SettingsFactory.setPoolHeapFraction( systemBuilder, systemSettings );
+        SettingsFactory.setSourceCacheHeapFraction( systemBuilder, systemSettings );
         SettingsFactory.setMaximumSamplingUncertaintyThreads( systemBuilder, systemSettings );
     }
 
@@ -424,6 +440,153 @@ public class SettingsFactory
                                                                0 );
     }
 
+    /**
+     * Sets the time window batch size.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setTimeWindowBatchSize( SystemSettingsBuilder systemBuilder,
+                                                SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.timeWindowBatchSize",
+                                                               systemSettings.getTimeWindowBatchSize(),
+                                                               systemBuilder::timeWindowBatchSize,
+                                                               0 );
+    }
+
+    /**
+     * Sets the deflate level of NetCDF statistics outputs.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setNetcdfDeflateLevel( SystemSettingsBuilder systemBuilder,
+                                               SystemSettings systemSettings )
+    {
+        String propertyName = "wres.netcdfDeflateLevel";
+        int defaultSetting = systemSettings.getNetcdfDeflateLevel();
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( propertyName,
+                                                               defaultSetting,
+                                                               level -> {
+                                                                   if ( level <= 9 )
+                                                                   {
+                                                                       systemBuilder.netcdfDeflateLevel( level );
+                                                                   }
+                                                                   else
+                                                                   {
+                                                                       LOGGER.warn( "'{}' is not a valid value for "
+                                                                                    + "{}, which must be an integer "
+                                                                                    + "no greater than 9. Falling "
+                                                                                    + "back to {}.",
+                                                                                    level,
+                                                                                    propertyName,
+                                                                                    defaultSetting );
+                                                                   }
+                                                               },
+                                                               -1 );
+    }
+
+    /**
+     * Sets the size of an envelope of grouped statistics messages in bytes.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setStatisticsEnvelopeBytes( SystemSettingsBuilder systemBuilder,
+                                                    SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.statisticsEnvelopeBytes",
+                                                               systemSettings.getStatisticsEnvelopeBytes(),
+                                                               systemBuilder::statisticsEnvelopeBytes,
+                                                               -1 );
+    }
+
+    /**
+     * Sets the age of an envelope of grouped statistics messages in milliseconds.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setStatisticsEnvelopeMilliseconds( SystemSettingsBuilder systemBuilder,
+                                                           SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.statisticsEnvelopeMilliseconds",
+                                                               systemSettings.getStatisticsEnvelopeMilliseconds(),
+                                                               systemBuilder::statisticsEnvelopeMilliseconds,
+                                                               0 );
+    }
+
+    /**
+     * Sets the deflate level of an envelope of grouped statistics messages.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setStatisticsEnvelopeDeflateLevel( SystemSettingsBuilder systemBuilder,
+                                                           SystemSettings systemSettings )
+    {
+        String propertyName = "wres.statisticsEnvelopeDeflateLevel";
+        int defaultSetting = systemSettings.getStatisticsEnvelopeDeflateLevel();
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( propertyName,
+                                                               defaultSetting,
+                                                               level -> {
+                                                                   if ( level <= 9 )
+                                                                   {
+                                                                       systemBuilder.statisticsEnvelopeDeflateLevel(
+                                                                               level );
+                                                                   }
+                                                                   else
+                                                                   {
+                                                                       LOGGER.warn( "'{}' is not a valid value for "
+                                                                                    + "{}, which must be an integer "
+                                                                                    + "no greater than 9. Falling "
+                                                                                    + "back to {}.",
+                                                                                    level,
+                                                                                    propertyName,
+                                                                                    defaultSetting );
+                                                                   }
+                                                               },
+                                                               -1 );
+    }
+
+    /**
+     * Sets the maximum size of the web response cache.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setWebCacheMegabytes( SystemSettingsBuilder systemBuilder,
+                                              SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.webCacheMegabytes",
+                                                               systemSettings.getWebCacheMegabytes(),
+                                                               systemBuilder::webCacheMegabytes,
+                                                               0 );
+    }
+
+    /**
+     * Sets the number of days for which an unused web response is cached.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setWebCacheDays( SystemSettingsBuilder systemBuilder,
+                                         SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.webCacheDays",
+                                                               systemSettings.getWebCacheDays(),
+                                                               systemBuilder::webCacheDays,
+                                                               0 );
+    }
+
+    /**
+     * Sets the number of days after which data in a cached web response is assumed not to change.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setWebCacheImmutableDays( SystemSettingsBuilder systemBuilder,
+                                                  SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.webCacheImmutableDays",
+                                                               systemSettings.getWebCacheImmutableDays(),
+                                                               systemBuilder::webCacheImmutableDays,
+                                                               0 );
+    }
+
     /**
      * Sets the feature batch threshold.
      * @param systemBuilder the system settings builder to update
@@ -438,6 +601,78 @@ public class SettingsFactory
                                                                0 );
     }
 
+    /**
+     * Sets the fraction of the heap that may be occupied by the pools in progress.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setPoolHeapFraction( SystemSettingsBuilder systemBuilder,
+                                             SystemSettings systemSettings )
+    {
+        String propertyName = "wres.poolHeapFraction";
+        String overrideProperty = System.getProperty( propertyName );
+
+        if ( overrideProperty != null )
+        {
+            try
+            {
+                double fraction = Double.parseDouble( overrideProperty );
+
+                if ( fraction > 0 && fraction <= 1 )
+                {
+                    systemBuilder.poolHeapFraction( fraction );
+                    return;
+                }
+            }
+            catch ( NumberFormatException e )
+            {
+                LOGGER.debug( "Failed to parse {} as a number.", propertyName, e );
+            }
+
+            LOGGER.warn( "'{}' is not a valid value for {}, which must be a number greater than 0 and less than or "
+                         + "equal to 1. Falling back to {}.",
+                         overrideProperty,
+                         propertyName,
+                         systemSettings.getPoolHeapFraction() );
+        }
+    }
+
+    /**
+     * Sets the fraction of the heap that may be occupied by time-series cached between evaluations.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setSourceCacheHeapFraction( SystemSettingsBuilder systemBuilder,
+                                                    SystemSettings systemSettings )
+    {
+        String propertyName = "wres.sourceCacheHeapFraction";
+        String overrideProperty = System.getProperty( propertyName );
+
+        if ( overrideProperty != null )
+        {
+            try
+            {
+                double fraction = Double.parseDouble( overrideProperty );
+
+                if ( fraction >= 0 && fraction < 1 )
+                {
+                    systemBuilder.sourceCacheHeapFraction( fraction );
+                    return;
+                }
+            }
+            catch ( NumberFormatException e )
+            {
+                LOGGER.debug( "Failed to parse {} as a number.", propertyName, e );
+            }
+
+            LOGGER.warn( "'{}' is not a valid value for {}, which must be a number greater than or equal to 0 and "
+                         + "less than 1. Falling back to {}.",
+                         overrideProperty,
+                         propertyName,
+                         systemSettings.getSourceCacheHeapFraction() );
+        }
+    }
+
     /**
      * Sets a property whose value us greater than or equal to one.
      * @param propertyName the property NAME
@@ -69,6 +69,38 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "netcdf_store_path" )
     String netcdfStorePath = "systests/data/";
+    /** The deflate level of NetCDF statistics outputs, 0 for uncompressed NetCDF-3 and 1-9 for chunked NetCDF-4. **/
+    @Builder.Default
+    @XmlElement( name = "netcdf_deflate_level" )
+    int netcdfDeflateLevel = 0;
+    /** The size of an envelope of grouped statistics messages in bytes, 0 to publish each message separately. **/
+    @Builder.Default
+    @XmlElement( name = "statistics_envelope_bytes" )
+    int statisticsEnvelopeBytes = 0;
+    /** The age of the oldest statistics in an envelope in milliseconds that triggers publication. **/
+    @Builder.Default
+    @XmlElement( name = "statistics_envelope_milliseconds" )
+    int statisticsEnvelopeMilliseconds = 1000;
+    /** The deflate level of an envelope of statistics messages, 0 for uncompressed and 1-9 for compressed. **/
+    @Builder.Default
+    @XmlElement( name = "statistics_envelope_deflate_level" )
+    int statisticsEnvelopeDeflateLevel = 0;
+    /** The directory of a persistent cache of web responses, null to disable the cache. **/
+    @Builder.Default
+    @XmlElement( name = "web_cache_directory" )
+    String webCacheDirectory = null;
+    /** The maximum size of the web response cache in megabytes. **/
+    @Builder.Default
+    @XmlElement( name = "web_cache_megabytes" )
+    int webCacheMegabytes = 1024;
+    /** The number of days for which an unused web response is retained in the cache. **/
+    @Builder.Default
+    @XmlElement( name = "web_cache_days" )
+    int webCacheDays = 30;
+    /** The number of days after which data in a cached web response is assumed not to change. **/
+    @Builder.Default
+    @XmlElement( name = "web_cache_immutable_days" )
+    int webCacheImmutableDays = 7;
     @Builder.Default
     @XmlElement( name = "maximum_archive_threads" )
     Integer maximumArchiveThreads = null;
@@ -108,6 +140,18 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "feature_batch_size" )
     int featureBatchSize = 50;
+    /** The maximum number of adjacent time windows of forecasts retrieved from the database with one query. **/
+    @Builder.Default
+    @XmlElement( name = "time_window_batch_size" )
+    int timeWindowBatchSize = 8;
+    /** The fraction of the maximum heap that may be occupied by the estimated footprint of the pools in progress. **/
+    @Builder.Default
+    @XmlElement( name = "pool_heap_fraction" )
+    double poolHeapFraction = 0.5;
+    /** The fraction of the maximum heap that may be occupied by time-series cached between evaluations, 0 to disable. **/
+    @Builder.Default
+    @XmlElement( name = "source_cache_heap_fraction" )
+    double sourceCacheHeapFraction = 0.0;
 
     /**
      * Creates and returns a copy of the system settings with any PII or BII redacted. This should be used to publish
@@ -138,6 +138,12 @@ public class ChartFactory
     /** Character limit for qualifying covariates. */
     private static final int COVARIATE_CHARACTER_LIMIT = 53;
 
+    /** The maximum number of points to plot for each time-series of pairs, beyond which the points are decimated. */
+    private static final int MAXIMUM_POINTS_PER_PAIRS_SERIES = 10_000;
+
+    /** The maximum number of points to plot for each scatter plot series, beyond which the points are decimated. */
+    private static final int MAXIMUM_POINTS_PER_SCATTER_PLOT_SERIES = 250_000;
+
     /** Grid paint. */
     private static final Paint GRID_PAINT = new Color( 225, 225, 225 );
 
@@ -874,7 +880,7 @@ public class ChartFactory
         ChartType chartType = ChartFactory.getChartType( metricName, GraphicShape.DEFAULT );
 
         // Build the dataset
-        XYDataset source = ChartDataFactory.ofPairsStatistics( statistics );
+        XYDataset source = ChartDataFactory.ofPairsStatistics( statistics, MAXIMUM_POINTS_PER_PAIRS_SERIES );
 
         int seriesCount = source.getSeriesCount();
         int maxPairs = 0;
@@ -981,7 +987,8 @@ public class ChartFactory
             dataset = ChartDataFactory.ofDiagramStatisticsByLeadAndThreshold( slicedStatistics,
                                                                               domainDimension,
                                                                               rangeDimension,
-                                                                              durationUnits );
+                                                                              durationUnits,
+                                                                              MAXIMUM_POINTS_PER_SCATTER_PLOT_SERIES );
         }
         // One threshold and up to many lead durations
         else
@@ -989,7 +996,8 @@ public class ChartFactory
             dataset = ChartDataFactory.ofDiagramStatisticsByThresholdAndLead( slicedStatistics,
                                                                               domainDimension,
                                                                               rangeDimension,
-                                                                              durationUnits );
+                                                                              durationUnits,
+                                                                              MAXIMUM_POINTS_PER_SCATTER_PLOT_SERIES );
         }
 
         return dataset;
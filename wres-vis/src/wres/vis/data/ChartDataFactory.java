@@ -6,6 +6,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -455,12 +456,41 @@ public class ChartDataFactory
                                                                    MetricDimension domainDimension,
                                                                    MetricDimension rangeDimension,
                                                                    ChronoUnit durationUnits )
+    {
+        return ChartDataFactory.ofDiagramStatisticsByLeadAndThreshold( statistics,
+                                                                       domainDimension,
+                                                                       rangeDimension,
+                                                                       durationUnits,
+                                                                       Integer.MAX_VALUE );
+    }
+
+    /**
+     * Returns a dataset for a verification diagram organized by lead duration (one) and then threshold (up to many).
+     * Any {@link MetricConstants#SCATTER_PLOT} series that contains more than the prescribed number of points is
+     * decimated with density binning, which preserves the extent and shape of the point cloud.
+     * @param statistics the statistics
+     * @param domainDimension the metric dimension for the X axis
+     * @param rangeDimension the metric dimension for the Y axis
+     * @param durationUnits the duration units
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
+     * @return a data source that can be used to draw a plot
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the dataset contains more than one lead duration or the maximum number
+     *            of points is not positive
+     */
+    public static XYDataset ofDiagramStatisticsByLeadAndThreshold( List<DiagramStatisticOuter> statistics,
+                                                                   MetricDimension domainDimension,
+                                                                   MetricDimension rangeDimension,
+                                                                   ChronoUnit durationUnits,
+                                                                   int maximumPointsPerSeries )
     {
         Objects.requireNonNull( statistics );
         Objects.requireNonNull( domainDimension );
         Objects.requireNonNull( rangeDimension );
         Objects.requireNonNull( durationUnits );
 
+        ChartDataFactory.validateMaximumPointsPerSeries( maximumPointsPerSeries );
+
         DiagramStatisticOuter first = statistics.get( 0 );
         MetricConstants metricName = first.getMetricName();
 
@@ -527,7 +557,8 @@ public class ChartDataFactory
                                                    sorted.size(),
                                                    baseName,
                                                    dataset,
-                                                   Pair.of( domainDimension, rangeDimension ) );
+                                                   Pair.of( domainDimension, rangeDimension ),
+                                                   maximumPointsPerSeries );
             }
         }
 
@@ -548,12 +579,41 @@ public class ChartDataFactory
                                                                    MetricDimension domainDimension,
                                                                    MetricDimension rangeDimension,
                                                                    ChronoUnit durationUnits )
+    {
+        return ChartDataFactory.ofDiagramStatisticsByThresholdAndLead( statistics,
+                                                                       domainDimension,
+                                                                       rangeDimension,
+                                                                       durationUnits,
+                                                                       Integer.MAX_VALUE );
+    }
+
+    /**
+     * Returns a dataset for a verification diagram organized by threshold (one) and then lead duration (up to many).
+     * Any {@link MetricConstants#SCATTER_PLOT} series that contains more than the prescribed number of points is
+     * decimated with density binning, which preserves the extent and shape of the point cloud.
+     * @param statistics the statistics
+     * @param domainDimension the metric dimension for the X axis
+     * @param rangeDimension the metric dimension for the Y axis
+     * @param durationUnits the duration units
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
+     * @return a data source that can be used to draw a plot
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the dataset contains more than one threshold or the maximum number
+     *            of points is not positive
+     */
+    public static XYDataset ofDiagramStatisticsByThresholdAndLead( List<DiagramStatisticOuter> statistics,
+                                                                   MetricDimension domainDimension,
+                                                                   MetricDimension rangeDimension,
+                                                                   ChronoUnit durationUnits,
+                                                                   int maximumPointsPerSeries )
     {
         Objects.requireNonNull( statistics );
         Objects.requireNonNull( domainDimension );
         Objects.requireNonNull( rangeDimension );
         Objects.requireNonNull( durationUnits );
 
+        ChartDataFactory.validateMaximumPointsPerSeries( maximumPointsPerSeries );
+
         DiagramStatisticOuter first = statistics.get( 0 );
         MetricConstants metricName = first.getMetricName();
 
@@ -622,7 +682,8 @@ public class ChartDataFactory
                                                    sorted.size(),
                                                    baseName,
                                                    dataset,
-                                                   Pair.of( domainDimension, rangeDimension ) );
+                                                   Pair.of( domainDimension, rangeDimension ),
+                                                   maximumPointsPerSeries );
             }
         }
 
@@ -671,19 +732,33 @@ public class ChartDataFactory
      * @throws IllegalArgumentException if the dataset contains more than one threshold
      */
     public static XYDataset ofPairsStatistics( PairsStatisticOuter statistics )
+    {
+        return ChartDataFactory.ofPairsStatistics( statistics, Integer.MAX_VALUE );
+    }
+
+    /**
+     * Returns a dataset for pairs statistics. Any time-series that contains more than the prescribed number of points
+     * is decimated with the largest-triangle-three-buckets method, which preserves the peaks and troughs of the
+     * time-series when plotted as a line.
+     *
+     * @param statistics the statistics
+     * @param maximumPointsPerSeries the maximum number of points to plot for each time-series
+     * @return a data source that can be used to draw a plot
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if the maximum number of points is not positive
+     */
+    public static XYDataset ofPairsStatistics( PairsStatisticOuter statistics, int maximumPointsPerSeries )
     {
         Objects.requireNonNull( statistics );
 
+        ChartDataFactory.validateMaximumPointsPerSeries( maximumPointsPerSeries );
+
         int seriesNumber = 1;
         List<TimeSeries> allSeries = new ArrayList<>();
         for ( Pairs.TimeSeriesOfPairs nextSeries : statistics.getStatistic()
                                                              .getStatistics()
                                                              .getTimeSeriesList() )
         {
-            // Add a placeholder series for each variable
-            List<TimeSeries> leftSeries = new ArrayList<>();
-            List<TimeSeries> rightSeries = new ArrayList<>();
-
             // Names aer either common to all series or vary by series, determine which. See GitHub #711
             List<String> leftNames = ChartDataFactory.getVariableNames( statistics.getStatistic()
                                                                                   .getStatistics()
@@ -694,17 +769,14 @@ public class ChartDataFactory
                                                                                    .getRightVariableNamesList(),
                                                                          nextSeries.getRightVariableNamesList() );
 
-            // Create a placeholder time-series for each variable
-            for ( String nextLeftName : leftNames )
-            {
-                TimeSeries next = new TimeSeries( nextLeftName + PAIR_THEME_SEPARATOR + seriesNumber );
-                leftSeries.add( next );
-            }
-            for ( String nextRightName : rightNames )
-            {
-                TimeSeries next = new TimeSeries( nextRightName + PAIR_THEME_SEPARATOR + seriesNumber );
-                rightSeries.add( next );
-            }
+            // Gather the times and values for each variable before decimating them
+            int pairCount = nextSeries.getPairsCount();
+            double[][] leftTimes = new double[leftNames.size()][pairCount];
+            double[][] rightTimes = new double[rightNames.size()][pairCount];
+            double[][] leftValues = new double[leftNames.size()][pairCount];
+            double[][] rightValues = new double[rightNames.size()][pairCount];
+            int[] leftCounts = new int[leftNames.size()];
+            int[] rightCounts = new int[rightNames.size()];
 
             for ( Pairs.Pair pair : nextSeries.getPairsList() )
             {
@@ -713,34 +785,101 @@ public class ChartDataFactory
                 // Millisecond precision
                 Instant instant = MessageUtilities.getInstant( validTime );
                 long millis = instant.toEpochMilli();
-                FixedMillisecond time = new FixedMillisecond( millis );
 
                 // Add the value for each left series
                 int leftCount = pair.getLeftCount();
                 for ( int i = 0; i < leftCount; i++ )
                 {
-                    double nextValue = pair.getLeft( i );
-                    leftSeries.get( i )
-                              .add( time, nextValue );
+                    leftTimes[i][leftCounts[i]] = millis;
+                    leftValues[i][leftCounts[i]] = pair.getLeft( i );
+                    leftCounts[i]++;
                 }
 
                 // Add the values for each right series
                 for ( int i = 0; i < pair.getRightCount(); i++ )
                 {
-                    double nextValue = pair.getRight( i );
-                    rightSeries.get( i )
-                               .add( time, nextValue );
+                    rightTimes[i][rightCounts[i]] = millis;
+                    rightValues[i][rightCounts[i]] = pair.getRight( i );
+                    rightCounts[i]++;
                 }
             }
 
-            allSeries.addAll( leftSeries );
-            allSeries.addAll( rightSeries );
+            // Create a time-series for each variable
+            for ( int i = 0; i < leftNames.size(); i++ )
+            {
+                TimeSeries next = ChartDataFactory.getTimeSeries( leftNames.get( i )
+                                                                  + PAIR_THEME_SEPARATOR
+                                                                  + seriesNumber,
+                                                                  leftTimes[i],
+                                                                  leftValues[i],
+                                                                  leftCounts[i],
+                                                                  maximumPointsPerSeries );
+                allSeries.add( next );
+            }
+            for ( int i = 0; i < rightNames.size(); i++ )
+            {
+                TimeSeries next = ChartDataFactory.getTimeSeries( rightNames.get( i )
+                                                                  + PAIR_THEME_SEPARATOR
+                                                                  + seriesNumber,
+                                                                  rightTimes[i],
+                                                                  rightValues[i],
+                                                                  rightCounts[i],
+                                                                  maximumPointsPerSeries );
+                allSeries.add( next );
+            }
+
             seriesNumber++;
         }
 
         return PerformantTimeSeriesCollection.of( Collections.unmodifiableList( allSeries ) );
     }
 
+    /**
+     * Creates a time-series from the inputs, decimating the points if there are more than the prescribed maximum.
+     * @param name the series name
+     * @param times the times in milliseconds since the epoch
+     * @param values the values
+     * @param count the number of points to read from the times and values
+     * @param maximumPoints the maximum number of points to add
+     * @return the time-series
+     */
+
+    private static TimeSeries getTimeSeries( String name,
+                                             double[] times,
+                                             double[] values,
+                                             int count,
+                                             int maximumPoints )
+    {
+        TimeSeries series = new TimeSeries( name );
+
+        double[] x = times;
+        double[] y = values;
+
+        if ( count < times.length )
+        {
+            x = Arrays.copyOf( times, count );
+            y = Arrays.copyOf( values, count );
+        }
+
+        int[] indexes = PointDecimator.largestTriangleThreeBuckets( x, y, maximumPoints );
+
+        if ( indexes.length < count )
+        {
+            LOGGER.debug( "Decimated the time-series named {} from {} points to {} points.",
+                          name,
+                          count,
+                          indexes.length );
+        }
+
+        for ( int index : indexes )
+        {
+            FixedMillisecond time = new FixedMillisecond( ( long ) x[index] );
+            series.add( time, y[index] );
+        }
+
+        return series;
+    }
+
     /**
      * Slices a list of {@link DiagramStatisticOuter} by key type and decomposes by component name.
      * @param keyInstance the key instance corresponding to the slice to create
@@ -1002,6 +1141,7 @@ public class ChartDataFactory
      * @param baseName the base name of the dataset
      * @param dataset the plotting dataset to which series will be added
      * @param dimensions the plot dimensions
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
      */
     private static void addDiagramSeries( DatasetOrientation orientation,
                                           List<DiagramStatisticOuter> statistics,
@@ -1009,7 +1149,8 @@ public class ChartDataFactory
                                           int scenarioCount,
                                           String baseName,
                                           XYIntervalSeriesCollection dataset,
-                                          Pair<MetricDimension, MetricDimension> dimensions )
+                                          Pair<MetricDimension, MetricDimension> dimensions,
+                                          int maximumPointsPerSeries )
     {
         String orientationQualifier = "";
 
@@ -1040,7 +1181,8 @@ public class ChartDataFactory
             XYIntervalSeries nextSeries = ChartDataFactory.getIntervalSeries( statistics,
                                                                               name,
                                                                               dimensions.getLeft(),
-                                                                              dimensions.getRight() );
+                                                                              dimensions.getRight(),
+                                                                              maximumPointsPerSeries );
             dataset.addSeries( nextSeries );
         }
         // Slice by qualifier
@@ -1056,7 +1198,8 @@ public class ChartDataFactory
                 XYIntervalSeries nextSeries = ChartDataFactory.getIntervalSeries( slicedInner,
                                                                                   name,
                                                                                   dimensions.getLeft(),
-                                                                                  dimensions.getRight() );
+                                                                                  dimensions.getRight(),
+                                                                                  maximumPointsPerSeries );
                 dataset.addSeries( nextSeries );
             }
         }
@@ -1351,13 +1494,15 @@ public class ChartDataFactory
      * @param name the series name
      * @param xDimension the domain axis dimension
      * @param yDimension the range axis dimension
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
      * @return the series
      */
 
     private static XYIntervalSeries getIntervalSeries( List<DiagramStatisticOuter> diagram,
                                                        String name,
                                                        MetricDimension xDimension,
-                                                       MetricDimension yDimension )
+                                                       MetricDimension yDimension,
+                                                       int maximumPointsPerSeries )
     {
         ToDoubleFunction<DiagramStatisticOuter> toDouble = score ->
         {
@@ -1450,7 +1595,8 @@ public class ChartDataFactory
                                                    upperMapped,
                                                    name,
                                                    xDimension,
-                                                   yDimension );
+                                                   yDimension,
+                                                   maximumPointsPerSeries );
     }
 
     /**
@@ -1461,6 +1607,7 @@ public class ChartDataFactory
      * @param name the series name
      * @param xDimension the domain axis dimension
      * @param yDimension the range axis dimension
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
      * @return the series
      * @throws NullPointerException if ay input is null
      */
@@ -1470,7 +1617,8 @@ public class ChartDataFactory
                                                        Map<PoolMetadata, DiagramStatisticOuter> upperMapped,
                                                        String name,
                                                        MetricDimension xDimension,
-                                                       MetricDimension yDimension )
+                                                       MetricDimension yDimension,
+                                                       int maximumPointsPerSeries )
     {
         Objects.requireNonNull( centralMapped );
         Objects.requireNonNull( lowerMapped );
@@ -1505,7 +1653,8 @@ public class ChartDataFactory
                                                         nextUpper,
                                                         xDimension,
                                                         yDimension,
-                                                        series );
+                                                        series,
+                                                        maximumPointsPerSeries );
         }
 
         return series;
@@ -1519,13 +1668,15 @@ public class ChartDataFactory
      * @param xDimension the domain axis dimension
      * @param yDimension the range axis dimension
      * @param series the series to adjust
+     * @param maximumPointsPerSeries the maximum number of points to plot for each scatter plot series
      */
     private static void addDiagramDatasetToSeries( DiagramStatisticOuter central,
                                                    DiagramStatisticOuter lower,
                                                    DiagramStatisticOuter upper,
                                                    MetricDimension xDimension,
                                                    MetricDimension yDimension,
-                                                   XYIntervalSeries series )
+                                                   XYIntervalSeries series,
+                                                   int maximumPointsPerSeries )
     {
         if ( Objects.isNull( central ) )
         {
@@ -1561,8 +1712,14 @@ public class ChartDataFactory
             valueCount = xUpper.getValuesCount();
         }
 
+        int[] indexes = ChartDataFactory.getScatterPlotIndexes( central,
+                                                                xCentral,
+                                                                yCentral,
+                                                                valueCount,
+                                                                maximumPointsPerSeries );
+
         // Add the series data
-        for ( int j = 0; j < valueCount; j++ )
+        for ( int j : indexes )
         {
             double xC = Double.NaN;
             double yC = Double.NaN;
@@ -1602,6 +1759,64 @@ public class ChartDataFactory
         }
     }
 
+    /**
+     * Returns the indexes of the diagram values to add to a series. When the diagram is a
+     * {@link MetricConstants#SCATTER_PLOT} with more than the prescribed number of values, the values are decimated
+     * with density binning, otherwise all values are returned.
+     * @param central the central dataset
+     * @param xCentral the central domain axis values
+     * @param yCentral the central range axis values
+     * @param valueCount the number of values
+     * @param maximumPoints the maximum number of points to plot
+     * @return the indexes of the values to add
+     */
+
+    private static int[] getScatterPlotIndexes( DiagramStatisticOuter central,
+                                                DiagramStatisticComponent xCentral,
+                                                DiagramStatisticComponent yCentral,
+                                                int valueCount,
+                                                int maximumPoints )
+    {
+        if ( central.getMetricName() != MetricConstants.SCATTER_PLOT
+             || valueCount <= maximumPoints
+             || xCentral.getValuesCount() != valueCount )
+        {
+            int[] indexes = new int[valueCount];
+            Arrays.setAll( indexes, i -> i );
+            return indexes;
+        }
+
+        double[] x = new double[valueCount];
+        double[] y = new double[valueCount];
+        Arrays.setAll( x, xCentral::getValues );
+        Arrays.setAll( y, yCentral::getValues );
+
+        int[] indexes = PointDecimator.densityBins( x, y, maximumPoints );
+
+        LOGGER.debug( "Decimated a scatter plot series from {} points to {} points.",
+                      valueCount,
+                      indexes.length );
+
+        return indexes;
+    }
+
+    /**
+     * Validates the maximum number of points to plot for each series.
+     * @param maximumPointsPerSeries the maximum number of points
+     * @throws IllegalArgumentException if the maximum number of points is not positive
+     */
+
+    private static void validateMaximumPointsPerSeries( int maximumPointsPerSeries )
+    {
+        if ( maximumPointsPerSeries < 1 )
+        {
+            throw new IllegalArgumentException( "The maximum number of points to plot for each series must be "
+                                                + "positive: "
+                                                + maximumPointsPerSeries
+                                                + "." );
+        }
+    }
+
     /**
      * Returns the time label for the legend name in pooling window datasets.
      * @param currentTime the current time
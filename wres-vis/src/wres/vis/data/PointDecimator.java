@@ -0,0 +1,259 @@
+package wres.vis.data;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Selects a subset of points to plot from a large series, such that the plotted series is visually faithful to the
+ * complete series. A chart that is rendered at a fixed resolution cannot distinguish more points than it has pixels,
+ * so rendering every point of a long series costs time without adding detail.
+ *
+ * <p>Two methods are offered:
+ *
+ * <ol>
+ * <li>{@link #largestTriangleThreeBuckets(double[], double[], int)}, which is suited to series that are plotted as
+ * lines in the order of the domain axis, such as time-series. The points are divided into buckets of equal size and
+ * one point is selected from each bucket, namely the point that forms the largest triangle with the point selected
+ * from the previous bucket and the average point of the next bucket. This preserves the peaks and troughs of the
+ * series. See Steinarsson, S. (2013). Downsampling Time Series for Visual Representation. University of Iceland.</li>
+ * <li>{@link #densityBins(double[], double[], int)}, which is suited to series that are plotted as unconnected points,
+ * such as scatter plots. The plotting area is divided into a grid of cells and one point is selected from each
+ * occupied cell. This preserves the extent and shape of the point cloud, which is all that a chart with overlapping
+ * points can show.</li>
+ * </ol>
+ *
+ * @author James Brown
+ */
+
+final class PointDecimator
+{
+    /**
+     * Selects the points to plot from a series that is plotted as a line, such as a time-series, using the
+     * largest-triangle-three-buckets method. The first point and, when the maximum points allows, the last point are
+     * always selected. Points whose coordinates are not finite are never preferred to points whose coordinates are
+     * finite.
+     *
+     * @param x the domain axis values in ascending order
+     * @param y the range axis values
+     * @param maximumPoints the maximum number of points to select
+     * @return the indexes of the selected points in ascending order
+     * @throws NullPointerException if either array is null
+     * @throws IllegalArgumentException if the arrays have different lengths or the maximum points is not positive
+     */
+
+    static int[] largestTriangleThreeBuckets( double[] x, double[] y, int maximumPoints )
+    {
+        PointDecimator.validate( x, y, maximumPoints );
+
+        int count = x.length;
+
+        if ( count <= maximumPoints )
+        {
+            return PointDecimator.getAllIndexes( count );
+        }
+
+        // Too few points to select the interior points
+        if ( maximumPoints < 3 )
+        {
+            return maximumPoints == 1 ? new int[] { 0 } : new int[] { 0, count - 1 };
+        }
+
+        int[] selected = new int[maximumPoints];
+        int selectedCount = 0;
+
+        // The interior points are divided between the interior buckets
+        double bucketSize = ( double ) ( count - 2 ) / ( maximumPoints - 2 );
+        int previous = 0;
+        selected[selectedCount++] = previous;
+
+        for ( int i = 0; i < maximumPoints - 2; i++ )
+        {
+            // Average point of the next bucket, which is the last point for the last bucket
+            int nextStart = ( int ) ( ( i + 1 ) * bucketSize ) + 1;
+            int nextEnd = Math.min( ( int ) ( ( i + 2 ) * bucketSize ) + 1, count );
+            double averageX = 0;
+            double averageY = 0;
+            int averageCount = 0;
+
+            for ( int j = nextStart; j < nextEnd; j++ )
+            {
+                if ( Double.isFinite( x[j] ) && Double.isFinite( y[j] ) )
+                {
+                    averageX += x[j];
+                    averageY += y[j];
+                    averageCount++;
+                }
+            }
+
+            averageX /= averageCount;
+            averageY /= averageCount;
+
+            // Point of the current bucket that forms the largest triangle
+            int start = ( int ) ( i * bucketSize ) + 1;
+            int end = ( int ) ( ( i + 1 ) * bucketSize ) + 1;
+            double previousX = x[previous];
+            double previousY = y[previous];
+            double largestArea = -1;
+            int largest = start;
+
+            for ( int j = start; j < end; j++ )
+            {
+                // Twice the area, which selects the same point
+                double area = Math.abs( ( previousX - averageX ) * ( y[j] - previousY )
+                                        - ( previousX - x[j] ) * ( averageY - previousY ) );
+
+                if ( area > largestArea )
+                {
+                    largestArea = area;
+                    largest = j;
+                }
+            }
+
+            previous = largest;
+            selected[selectedCount++] = previous;
+        }
+
+        selected[selectedCount] = count - 1;
+
+        return selected;
+    }
+
+    /**
+     * Selects the points to plot from a series that is plotted as unconnected points, such as a scatter plot, using
+     * density binning. The extent of the finite points is divided into a square grid of cells and the first point
+     * within each occupied cell is selected. Points whose coordinates are not finite cannot be plotted and are never
+     * selected when decimating.
+     *
+     * @param x the domain axis values
+     * @param y the range axis values
+     * @param maximumPoints the maximum number of points to select
+     * @return the indexes of the selected points in ascending order
+     * @throws NullPointerException if either array is null
+     * @throws IllegalArgumentException if the arrays have different lengths or the maximum points is not positive
+     */
+
+    static int[] densityBins( double[] x, double[] y, int maximumPoints )
+    {
+        PointDecimator.validate( x, y, maximumPoints );
+
+        int count = x.length;
+
+        if ( count <= maximumPoints )
+        {
+            return PointDecimator.getAllIndexes( count );
+        }
+
+        double minimumX = Double.POSITIVE_INFINITY;
+        double maximumX = Double.NEGATIVE_INFINITY;
+        double minimumY = Double.POSITIVE_INFINITY;
+        double maximumY = Double.NEGATIVE_INFINITY;
+
+        for ( int i = 0; i < count; i++ )
+        {
+            if ( Double.isFinite( x[i] ) && Double.isFinite( y[i] ) )
+            {
+                minimumX = Math.min( minimumX, x[i] );
+                maximumX = Math.max( maximumX, x[i] );
+                minimumY = Math.min( minimumY, y[i] );
+                maximumY = Math.max( maximumY, y[i] );
+            }
+        }
+
+        // The grid has no more cells than the maximum points
+        int binsPerAxis = ( int ) Math.max( 1, Math.sqrt( maximumPoints ) );
+        boolean[] occupied = new boolean[binsPerAxis * binsPerAxis];
+        int[] selected = new int[Math.min( count, occupied.length )];
+        int selectedCount = 0;
+
+        for ( int i = 0; i < count; i++ )
+        {
+            if ( Double.isFinite( x[i] ) && Double.isFinite( y[i] ) )
+            {
+                int column = PointDecimator.getBin( x[i], minimumX, maximumX, binsPerAxis );
+                int row = PointDecimator.getBin( y[i], minimumY, maximumY, binsPerAxis );
+                int cell = row * binsPerAxis + column;
+
+                if ( !occupied[cell] )
+                {
+                    occupied[cell] = true;
+                    selected[selectedCount++] = i;
+                }
+            }
+        }
+
+        return Arrays.copyOf( selected, selectedCount );
+    }
+
+    /**
+     * @param value the value
+     * @param minimum the minimum value
+     * @param maximum the maximum value
+     * @param bins the number of bins
+     * @return the bin of the value
+     */
+
+    private static int getBin( double value, double minimum, double maximum, int bins )
+    {
+        if ( maximum <= minimum )
+        {
+            return 0;
+        }
+
+        int bin = ( int ) ( ( value - minimum ) / ( maximum - minimum ) * bins );
+
+        return Math.min( bin, bins - 1 );
+    }
+
+    /**
+     * @param count the number of points
+     * @return the indexes of all points
+     */
+
+    private static int[] getAllIndexes( int count )
+    {
+        int[] indexes = new int[count];
+        Arrays.setAll( indexes, i -> i );
+        return indexes;
+    }
+
+    /**
+     * Validates the inputs.
+     *
+     * @param x the domain axis values
+     * @param y the range axis values
+     * @param maximumPoints the maximum number of points to select
+     * @throws NullPointerException if either array is null
+     * @throws IllegalArgumentException if the arrays have different lengths or the maximum points is not positive
+     */
+
+    private static void validate( double[] x, double[] y, int maximumPoints )
+    {
+        Objects.requireNonNull( x );
+        Objects.requireNonNull( y );
+
+        if ( x.length != y.length )
+        {
+            throw new IllegalArgumentException( "The domain and range axis values must have the same number of "
+                                                + "points, but found "
+                                                + x.length
+                                                + " and "
+                                                + y.length
+                                                + " points, respectively." );
+        }
+
+        if ( maximumPoints < 1 )
+        {
+            throw new IllegalArgumentException( "The maximum number of points to select must be positive: "
+                                                + maximumPoints
+                                                + "." );
+        }
+    }
+
+    /**
+     * Do not construct.
+     */
+
+    private PointDecimator()
+    {
+    }
+}
@@ -5,13 +5,13 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -82,29 +82,29 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, SPECIFY_NON_NULL_INPUT_DATA_WHEN_WRITING_BOX_PLOT_OUTPUTS );
 
-        Set<Path> perPairPaths = this.writeBoxPlotsPerPair( output );
-        Set<Path> perPoolPaths = this.writeBoxPlotsPerPool( output );
+        List<CompletableFuture<Set<Path>>> perPairGraphics = this.writeBoxPlotsPerPair( output );
+        List<CompletableFuture<Set<Path>>> perPoolGraphics = this.writeBoxPlotsPerPool( output );
 
-        Set<Path> paths = new HashSet<>( perPairPaths );
-        paths.addAll( perPoolPaths );
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>( perPairGraphics );
+        graphics.addAll( perPoolGraphics );
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
      * Writes all output for the {@link StatisticType#BOXPLOT_PER_PAIR}.
      *
      * @param output the box plot output
-     * @return the paths written
+     * @return the charts being written
      * @throws NullPointerException if the input is null
      * @throws GraphicsWriteException if the output cannot be written
      */
 
-    private Set<Path> writeBoxPlotsPerPair( List<BoxplotStatisticOuter> output )
+    private List<CompletableFuture<Set<Path>>> writeBoxPlotsPerPair( List<BoxplotStatisticOuter> output )
     {
         Objects.requireNonNull( output, SPECIFY_NON_NULL_INPUT_DATA_WHEN_WRITING_BOX_PLOT_OUTPUTS );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through types per pair
         List<BoxplotStatisticOuter> perPair =
@@ -124,31 +124,31 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
 
             for ( List<BoxplotStatisticOuter> nextGroup : groups.values() )
             {
-                Set<Path> innerPathsWrittenTo =
+                List<CompletableFuture<Set<Path>>> innerGraphics =
                         BoxplotGraphicsWriter.writeOneBoxPlotChartPerMetricAndPool( super.getOutputDirectory(),
                                                                                     super.getOutputsDescription(),
                                                                                     nextGroup );
-                paths.addAll( innerPathsWrittenTo );
+                graphics.addAll( innerGraphics );
             }
         }
 
-        return Collections.unmodifiableSet( paths );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
      * Writes all output for the {@link StatisticType#BOXPLOT_PER_POOL}.
      *
      * @param output the box plot output
-     * @return the paths written
+     * @return the charts being written
      * @throws NullPointerException if the input is null
      * @throws GraphicsWriteException if the output cannot be written
      */
 
-    private Set<Path> writeBoxPlotsPerPool( List<BoxplotStatisticOuter> output )
+    private List<CompletableFuture<Set<Path>>> writeBoxPlotsPerPool( List<BoxplotStatisticOuter> output )
     {
         Objects.requireNonNull( output, SPECIFY_NON_NULL_INPUT_DATA_WHEN_WRITING_BOX_PLOT_OUTPUTS );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through the pool types
         List<BoxplotStatisticOuter> perPool =
@@ -174,16 +174,16 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
 
                 for ( List<BoxplotStatisticOuter> nextSlice : sliced )
                 {
-                    Set<Path> innerPathsWrittenTo =
+                    List<CompletableFuture<Set<Path>>> innerGraphics =
                             BoxplotGraphicsWriter.writeOneBoxPlotChartPerMetricAndLeadDurationSequence( super.getOutputDirectory(),
                                                                                                         super.getOutputsDescription(),
                                                                                                         nextSlice );
-                    paths.addAll( innerPathsWrittenTo );
+                    graphics.addAll( innerGraphics );
                 }
             }
         }
 
-        return Collections.unmodifiableSet( paths );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -195,14 +195,15 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
      * @param outputsDescription a description of the outputs required
      * @param statistics the metric results, which contains all results for one metric across several pools
      * @throws GraphicsWriteException when an error occurs during writing
-     * @return the paths actually written to
+     * @return the charts being written
      */
 
-    private static Set<Path> writeOneBoxPlotChartPerMetricAndPool( Path outputDirectory,
-                                                                   Outputs outputsDescription,
-                                                                   List<BoxplotStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>>
+    writeOneBoxPlotChartPerMetricAndPool( Path outputDirectory,
+                                          Outputs outputsDescription,
+                                          List<BoxplotStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -245,12 +246,13 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
                     JFreeChart chart = nextEntry.getValue();
 
                     // Write formats
-                    Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                           chart,
-                                                                           metricName.getCanonicalName(),
-                                                                           nextOutput );
+                    CompletableFuture<Set<Path>> graphic =
+                            GraphicsWriter.writeGraphicAsync( outputImage,
+                                                              chart,
+                                                              metricName.getCanonicalName(),
+                                                              nextOutput );
 
-                    pathsWrittenTo.addAll( finishedPaths );
+                    graphics.add( graphic );
                 }
             }
         }
@@ -259,7 +261,7 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating box plot charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -325,14 +327,15 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
      * @param outputDirectory the directory into which to write
      * @param outputsDescription the outputs
      * @throws GraphicsWriteException when an error occurs during writing
-     * @return the paths actually written to
+     * @return the charts being written
      */
 
-    private static Set<Path> writeOneBoxPlotChartPerMetricAndLeadDurationSequence( Path outputDirectory,
-                                                                                   Outputs outputsDescription,
-                                                                                   List<BoxplotStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>>
+    writeOneBoxPlotChartPerMetricAndLeadDurationSequence( Path outputDirectory,
+                                                          Outputs outputsDescription,
+                                                          List<BoxplotStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory factory = GraphicsWriter.getChartFactory();
 
@@ -374,12 +377,13 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
                                                                               null );
 
                     // Write formats
-                    Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                           chart,
-                                                                           metricName.getCanonicalName(),
-                                                                           nextOutput );
+                    CompletableFuture<Set<Path>> graphic =
+                            GraphicsWriter.writeGraphicAsync( outputImage,
+                                                              chart,
+                                                              metricName.getCanonicalName(),
+                                                              nextOutput );
 
-                    pathsWrittenTo.addAll( finishedPaths );
+                    graphics.add( graphic );
                 }
             }
         }
@@ -388,7 +392,7 @@ public class BoxplotGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating box plot charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
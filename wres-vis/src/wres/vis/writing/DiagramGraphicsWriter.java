@@ -5,7 +5,6 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -13,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -73,7 +73,7 @@ public class DiagramGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, "Specify non-null input data when writing diagram outputs." );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through each metric 
         SortedSet<MetricConstants> metrics = Slicer.discover( output, DiagramStatisticOuter::getMetricName );
@@ -87,15 +87,15 @@ public class DiagramGraphicsWriter extends GraphicsWriter
 
             for ( List<DiagramStatisticOuter> nextSlice : sliced )
             {
-                Set<Path> innerPathsWrittenTo =
+                List<CompletableFuture<Set<Path>>> innerGraphics =
                         DiagramGraphicsWriter.writeDiagrams( super.getOutputDirectory(),
                                                              super.getOutputsDescription(),
                                                              nextSlice );
-                paths.addAll( innerPathsWrittenTo );
+                graphics.addAll( innerGraphics );
             }
         }
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
@@ -105,15 +105,15 @@ public class DiagramGraphicsWriter extends GraphicsWriter
      * @param outputDirectory the directory into which to write
      * @param outputsDescription a description of the outputs required
      * @param statistics the metric results
-     * @return the paths written
+     * @return the charts being written
      * @throws GraphicsWriteException when an error occurs during writing
      */
 
-    private static Set<Path> writeDiagrams( Path outputDirectory,
-                                            Outputs outputsDescription,
-                                            List<DiagramStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>> writeDiagrams( Path outputDirectory,
+                                                                     Outputs outputsDescription,
+                                                                     List<DiagramStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -152,12 +152,13 @@ public class DiagramGraphicsWriter extends GraphicsWriter
                     JFreeChart chart = nextEntry.getValue();
 
                     // Write formats
-                    Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                           chart,
-                                                                           metricName.getCanonicalName(),
-                                                                           nextOutput );
+                    CompletableFuture<Set<Path>> graphic =
+                            GraphicsWriter.writeGraphicAsync( outputImage,
+                                                              chart,
+                                                              metricName.getCanonicalName(),
+                                                              nextOutput );
 
-                    pathsWrittenTo.addAll( finishedPaths );
+                    graphics.add( graphic );
                 }
             }
         }
@@ -166,7 +167,7 @@ public class DiagramGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating diagram charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -13,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -73,7 +73,7 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, "Specify non-null input data when writing duration score outputs." );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through each metric 
         SortedSet<MetricConstants> metrics = Slicer.discover( output, DoubleScoreStatisticOuter::getMetricName );
@@ -87,15 +87,15 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
             {
                 List<DoubleScoreStatisticOuter> filtered = Slicer.filter( output, next );
 
-                Set<Path> innerPathsWrittenTo =
+                List<CompletableFuture<Set<Path>>> innerGraphics =
                         DoubleScoreGraphicsWriter.writeScoreCharts( super.getOutputDirectory(),
                                                                     super.getOutputsDescription(),
                                                                     filtered );
-                paths.addAll( innerPathsWrittenTo );
+                graphics.addAll( innerGraphics );
             }
         }
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
@@ -105,15 +105,15 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
      * @param outputDirectory the directory into which to write
      * @param outputsDescription a description of the outputs required
      * @param statistics the metric output
-     * @return the paths written
+     * @return the charts being written
      * @throws GraphicsWriteException when an error occurs during writing
      */
 
-    private static Set<Path> writeScoreCharts( Path outputDirectory,
-                                               Outputs outputsDescription,
-                                               List<DoubleScoreStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>> writeScoreCharts( Path outputDirectory,
+                                                                        Outputs outputsDescription,
+                                                                        List<DoubleScoreStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -146,14 +146,15 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
 
                     String append = DoubleScoreGraphicsWriter.getPathQualifier( nextOutput );
 
-                    Set<Path> paths = DoubleScoreGraphicsWriter.writeNextGroupOfDestinations( outputDirectory,
-                                                                                              metadata,
-                                                                                              engines,
-                                                                                              metricName,
-                                                                                              append,
-                                                                                              nextOutputs );
+                    List<CompletableFuture<Set<Path>>> innerGraphics =
+                            DoubleScoreGraphicsWriter.writeNextGroupOfDestinations( outputDirectory,
+                                                                                    metadata,
+                                                                                    engines,
+                                                                                    metricName,
+                                                                                    append,
+                                                                                    nextOutputs );
 
-                    pathsWrittenTo.addAll( paths );
+                    graphics.addAll( innerGraphics );
                 }
             }
         }
@@ -162,7 +163,7 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating double score charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -395,18 +396,19 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
      * @param metricName the metric name
      * @param append a string to append to the path
      * @param outputsDescription a description of the outputs required
-     * @return the paths written
+     * @return the charts being written
      * @throws ChartBuildingException if the chart could not be created
      */
 
-    private static Set<Path> writeNextGroupOfDestinations( Path outputDirectory,
-                                                           PoolMetadata metadata,
-                                                           Map<MetricConstants, JFreeChart> engines,
-                                                           MetricConstants metricName,
-                                                           String append,
-                                                           Outputs outputsDescription )
+    private static List<CompletableFuture<Set<Path>>>
+    writeNextGroupOfDestinations( Path outputDirectory,
+                                  PoolMetadata metadata,
+                                  Map<MetricConstants, JFreeChart> engines,
+                                  MetricConstants metricName,
+                                  String append,
+                                  Outputs outputsDescription )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Build the outputs
         for ( Entry<MetricConstants, JFreeChart> nextEntry : engines.entrySet() )
@@ -429,15 +431,16 @@ public class DoubleScoreGraphicsWriter extends GraphicsWriter
             JFreeChart chart = nextEntry.getValue();
 
             // Write formats
-            Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                   chart,
-                                                                   metricName.getCanonicalName(),
-                                                                   outputsDescription );
+            CompletableFuture<Set<Path>> graphic =
+                    GraphicsWriter.writeGraphicAsync( outputImage,
+                                                      chart,
+                                                      metricName.getCanonicalName(),
+                                                      outputsDescription );
 
-            pathsWrittenTo.addAll( finishedPaths );
+            graphics.add( graphic );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -1,15 +1,16 @@
 package wres.vis.writing;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -64,7 +65,7 @@ public class DurationDiagramGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, "Specify non-null input data when writing duration diagram outputs." );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through each metric 
         SortedSet<MetricConstants> metrics =
@@ -73,14 +74,14 @@ public class DurationDiagramGraphicsWriter extends GraphicsWriter
         {
             List<DurationDiagramStatisticOuter> filtered = Slicer.filter( output, next );
 
-            Set<Path> innerPathsWrittenTo =
+            List<CompletableFuture<Set<Path>>> innerGraphics =
                     DurationDiagramGraphicsWriter.writePairedOutputByInstantDurationCharts( super.getOutputDirectory(),
                                                                                             super.getOutputsDescription(),
                                                                                             filtered );
-            paths.addAll( innerPathsWrittenTo );
+            graphics.addAll( innerGraphics );
         }
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
@@ -91,14 +92,15 @@ public class DurationDiagramGraphicsWriter extends GraphicsWriter
      * @param outputsDescription a description of the outputs required
      * @param statistics the metric results
      * @throws GraphicsWriteException when an error occurs during writing
-     * @return the paths actually written to
+     * @return the charts being written
      */
 
-    private static Set<Path> writePairedOutputByInstantDurationCharts( Path outputDirectory,
-                                                                       Outputs outputsDescription,
-                                                                       List<DurationDiagramStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>>
+    writePairedOutputByInstantDurationCharts( Path outputDirectory,
+                                              Outputs outputsDescription,
+                                              List<DurationDiagramStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -159,12 +161,13 @@ public class DurationDiagramGraphicsWriter extends GraphicsWriter
                                                                                   null );
 
                         // Write formats
-                        Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                               chart,
-                                                                               metricName.getCanonicalName(),
-                                                                               nextOutput );
+                        CompletableFuture<Set<Path>> graphic =
+                                GraphicsWriter.writeGraphicAsync( outputImage,
+                                                                  chart,
+                                                                  metricName.getCanonicalName(),
+                                                                  nextOutput );
 
-                        pathsWrittenTo.addAll( finishedPaths );
+                        graphics.add( graphic );
                     }
                 }
             }
@@ -174,7 +177,7 @@ public class DurationDiagramGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating duration diagram charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
@@ -1,15 +1,16 @@
 package wres.vis.writing;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -65,7 +66,7 @@ public class DurationScoreGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, "Specify non-null input data when writing duration score outputs." );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through each metric 
         SortedSet<MetricConstants> metrics = Slicer.discover( output, DurationScoreStatisticOuter::getMetricName );
@@ -73,14 +74,14 @@ public class DurationScoreGraphicsWriter extends GraphicsWriter
         {
             List<DurationScoreStatisticOuter> filtered = Slicer.filter( output, next );
 
-            Set<Path> innerPathsWrittenTo =
+            List<CompletableFuture<Set<Path>>> innerGraphics =
                     DurationScoreGraphicsWriter.writeScoreCharts( super.getOutputDirectory(),
                                                                   super.getOutputsDescription(),
                                                                   filtered );
-            paths.addAll( innerPathsWrittenTo );
+            graphics.addAll( innerGraphics );
         }
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
@@ -91,14 +92,14 @@ public class DurationScoreGraphicsWriter extends GraphicsWriter
      * @param outputsDescription a description of the required outputs
      * @param statistics the metric output
      * @throws GraphicsWriteException when an error occurs during writing
-     * @return the paths actually written to
+     * @return the charts being written
      */
 
-    private static Set<Path> writeScoreCharts( Path outputDirectory,
-                                               Outputs outputsDescription,
-                                               List<DurationScoreStatisticOuter> statistics )
+    private static List<CompletableFuture<Set<Path>>> writeScoreCharts( Path outputDirectory,
+                                                                        Outputs outputsDescription,
+                                                                        List<DurationScoreStatisticOuter> statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -153,12 +154,13 @@ public class DurationScoreGraphicsWriter extends GraphicsWriter
                                                                               null );
 
                     // Write formats
-                    Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                           chart,
-                                                                           metricName.getCanonicalName(),
-                                                                           nextOutput );
+                    CompletableFuture<Set<Path>> graphic =
+                            GraphicsWriter.writeGraphicAsync( outputImage,
+                                                              chart,
+                                                              metricName.getCanonicalName(),
+                                                              nextOutput );
 
-                    pathsWrittenTo.addAll( finishedPaths );
+                    graphics.add( graphic );
                 }
             }
         }
@@ -167,7 +169,7 @@ public class DurationScoreGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating duration score charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
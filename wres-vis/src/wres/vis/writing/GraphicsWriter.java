@@ -1,8 +1,13 @@
 package wres.vis.writing;
 
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.temporal.ChronoUnit;
@@ -15,12 +20,20 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.imageio.ImageIO;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jfree.chart.ChartUtils;
 import org.jfree.chart.JFreeChart;
@@ -71,6 +84,15 @@ abstract class GraphicsWriter
     /** Default chart width in pixels. */
     private static final int DEFAULT_GRAPHIC_WIDTH = 800;
 
+    /** The number of charts that may wait to be rendered for each rendering thread. */
+    private static final int RENDERING_QUEUE_LENGTH_PER_THREAD = 4;
+
+    /** Renders charts concurrently, falling back to the writing thread when the rendering queue is full. */
+    private static final ExecutorService RENDERING_EXECUTOR = GraphicsWriter.getRenderingExecutor();
+
+    /** A raster buffer for each rendering thread, which is re-used for all charts of the same size. */
+    private static final ThreadLocal<BufferedImage> RASTER_BUFFER = new ThreadLocal<>();
+
     /** A description of the outputs required. */
     private final Outputs outputs;
 
@@ -149,10 +171,8 @@ abstract class GraphicsWriter
                     // Add now to enable clean-up on failure
                     returnMe.add( resolvedPath );
 
-                    File outputImageFile = resolvedPath.toFile();
-
                     // #58735-18
-                    ChartUtils.saveChartAsPNG( outputImageFile, chart, width, height );
+                    GraphicsWriter.writePng( resolvedPath, chart, width, height );
                 }
             }
             if ( outputs.hasSvg()
@@ -197,6 +217,72 @@ abstract class GraphicsWriter
         }
     }
 
+    /**
+     * Writes an output chart to a prescribed set of graphics formats on a separate thread. Use
+     * {@link #awaitGraphics(List)} to obtain the paths written.
+     *
+     * @see #writeGraphic(Path, JFreeChart, MetricName, Outputs)
+     * @param path the path to write, without the image format extension
+     * @param chart the chart, which should not be modified until it has been written
+     * @param metric the metric whose statistics will be written to a format, unless the metric/format is suppressed
+     * @param outputs the outputs
+     * @return the paths to be written
+     */
+
+    static CompletableFuture<Set<Path>> writeGraphicAsync( Path path,
+                                                           JFreeChart chart,
+                                                           MetricName metric,
+                                                           Outputs outputs )
+    {
+        return CompletableFuture.supplyAsync( () -> GraphicsWriter.writeGraphic( path, chart, metric, outputs ),
+                                              GraphicsWriter.RENDERING_EXECUTOR );
+    }
+
+    /**
+     * Waits for charts to be written and returns the paths written. Waits for all charts before throwing an exception
+     * for any chart that could not be written, so that no chart is being written when the exception is thrown.
+     *
+     * @param graphics the charts being written
+     * @return the paths written
+     * @throws GraphicsWriteException if any chart could not be written
+     */
+
+    static Set<Path> awaitGraphics( List<CompletableFuture<Set<Path>>> graphics )
+    {
+        Objects.requireNonNull( graphics );
+
+        Set<Path> pathsWrittenTo = new TreeSet<>();
+        GraphicsWriteException firstException = null;
+
+        for ( CompletableFuture<Set<Path>> next : graphics )
+        {
+            try
+            {
+                pathsWrittenTo.addAll( next.join() );
+            }
+            catch ( CompletionException e )
+            {
+                GraphicsWriteException nextException = GraphicsWriter.getGraphicsWriteException( e );
+
+                if ( Objects.isNull( firstException ) )
+                {
+                    firstException = nextException;
+                }
+                else
+                {
+                    firstException.addSuppressed( nextException );
+                }
+            }
+        }
+
+        if ( Objects.nonNull( firstException ) )
+        {
+            throw firstException;
+        }
+
+        return Collections.unmodifiableSet( pathsWrittenTo );
+    }
+
     /**
      * Slices the statistics into two groups, one containing summary statistics the other containing raw statistics.
      * @param statistics the statistics to slice
@@ -537,6 +623,100 @@ abstract class GraphicsWriter
         LOGGER.debug( "Created a graphics format writer." );
     }
 
+    /**
+     * Writes a chart to a PNG file, rendering it into the raster buffer of the current thread.
+     *
+     * @param path the path to write
+     * @param chart the chart
+     * @param width the width in pixels
+     * @param height the height in pixels
+     * @throws IOException if the chart could not be written
+     */
+
+    private static void writePng( Path path, JFreeChart chart, int width, int height ) throws IOException
+    {
+        BufferedImage image = RASTER_BUFFER.get();
+
+        if ( Objects.isNull( image )
+             || image.getWidth() != width
+             || image.getHeight() != height )
+        {
+            image = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+            RASTER_BUFFER.set( image );
+        }
+
+        Graphics2D graphics = image.createGraphics();
+
+        try
+        {
+            // Clear the previous chart, leaving transparent pixels as in a new image
+            graphics.setComposite( AlphaComposite.Clear );
+            graphics.fillRect( 0, 0, width, height );
+            graphics.setComposite( AlphaComposite.SrcOver );
+
+            chart.draw( graphics, new Rectangle2D.Double( 0, 0, width, height ), null, null );
+        }
+        finally
+        {
+            graphics.dispose();
+        }
+
+        try ( OutputStream out = new BufferedOutputStream( Files.newOutputStream( path ) ) )
+        {
+            ChartUtils.writeBufferedImageAsPNG( out, image );
+        }
+    }
+
+    /**
+     * Returns the exception to throw when a chart could not be written.
+     *
+     * @param e the exception encountered while writing the chart
+     * @return the exception to throw
+     */
+
+    private static GraphicsWriteException getGraphicsWriteException( CompletionException e )
+    {
+        if ( e.getCause() instanceof GraphicsWriteException graphicsWriteException )
+        {
+            return graphicsWriteException;
+        }
+
+        return new GraphicsWriteException( "Error while writing a chart.", e.getCause() );
+    }
+
+    /**
+     * Creates an executor for rendering charts.
+     *
+     * @return the executor
+     */
+
+    private static ExecutorService getRenderingExecutor()
+    {
+        // Rendering is CPU and memory intensive, so use a small number of threads
+        int threadCount = Math.max( 1, Math.min( 4, Runtime.getRuntime()
+                                                           .availableProcessors() / 2 ) );
+
+        ThreadFactory renderingFactory = BasicThreadFactory.builder()
+                                                           .namingPattern( "Chart Rendering Thread %d" )
+                                                           .daemon( true )
+                                                           .build();
+
+        LOGGER.debug( "Creating an executor for rendering charts with {} threads.", threadCount );
+
+        // Render on the writing thread when the queue is full, which limits the charts held in memory
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor( threadCount,
+                                        threadCount,
+                                        60,
+                                        TimeUnit.SECONDS,
+                                        new ArrayBlockingQueue<>( threadCount * RENDERING_QUEUE_LENGTH_PER_THREAD ),
+                                        renderingFactory,
+                                        new ThreadPoolExecutor.CallerRunsPolicy() );
+        executor.allowCoreThreadTimeOut( true );
+
+        return executor;
+    }
+
     /**
      * Validates that the file object represented by the path does not already exist.
      *
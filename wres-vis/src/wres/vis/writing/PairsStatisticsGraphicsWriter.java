@@ -5,12 +5,12 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.jfree.chart.JFreeChart;
@@ -67,7 +67,7 @@ public class PairsStatisticsGraphicsWriter extends GraphicsWriter
     {
         Objects.requireNonNull( output, "Specify non-null input data when writing pairs statistics." );
 
-        Set<Path> paths = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         // Iterate through each metric
         SortedSet<MetricConstants> metrics = Slicer.discover( output, PairsStatisticOuter::getMetricName );
@@ -88,15 +88,15 @@ public class PairsStatisticsGraphicsWriter extends GraphicsWriter
                                                       + " pairs statistics, but only 1 was expected. " );
                 }
 
-                Set<Path> innerPathsWrittenTo =
+                List<CompletableFuture<Set<Path>>> innerGraphics =
                         PairsStatisticsGraphicsWriter.writePlot( super.getOutputDirectory(),
                                                                  super.getOutputsDescription(),
                                                                  nextSlice.get( 0 ) );
-                paths.addAll( innerPathsWrittenTo );
+                graphics.addAll( innerGraphics );
             }
         }
 
-        return Collections.unmodifiableSet( paths );
+        return GraphicsWriter.awaitGraphics( graphics );
     }
 
     /**
@@ -105,15 +105,15 @@ public class PairsStatisticsGraphicsWriter extends GraphicsWriter
      * @param outputDirectory the directory into which to write
      * @param outputsDescription a description of the outputs required
      * @param statistics the metric results
-     * @return the paths written
+     * @return the charts being written
      * @throws GraphicsWriteException when an error occurs during writing
      */
 
-    private static Set<Path> writePlot( Path outputDirectory,
-                                        Outputs outputsDescription,
-                                        PairsStatisticOuter statistics )
+    private static List<CompletableFuture<Set<Path>>> writePlot( Path outputDirectory,
+                                                                 Outputs outputsDescription,
+                                                                 PairsStatisticOuter statistics )
     {
-        Set<Path> pathsWrittenTo = new HashSet<>();
+        List<CompletableFuture<Set<Path>>> graphics = new ArrayList<>();
 
         ChartFactory chartFactory = GraphicsWriter.getChartFactory();
 
@@ -144,12 +144,13 @@ public class PairsStatisticsGraphicsWriter extends GraphicsWriter
                                                                           metricName,
                                                                           null );
                 // Write formats
-                Set<Path> finishedPaths = GraphicsWriter.writeGraphic( outputImage,
-                                                                       chart,
-                                                                       metricName.getCanonicalName(),
-                                                                       nextOutput );
+                CompletableFuture<Set<Path>> graphic =
+                        GraphicsWriter.writeGraphicAsync( outputImage,
+                                                          chart,
+                                                          metricName.getCanonicalName(),
+                                                          nextOutput );
 
-                pathsWrittenTo.addAll( finishedPaths );
+                graphics.add( graphic );
             }
         }
         catch ( ChartBuildingException e )
@@ -157,7 +158,7 @@ public class PairsStatisticsGraphicsWriter extends GraphicsWriter
             throw new GraphicsWriteException( "Error while generating diagram charts: ", e );
         }
 
-        return Collections.unmodifiableSet( pathsWrittenTo );
+        return Collections.unmodifiableList( graphics );
     }
 
     /**
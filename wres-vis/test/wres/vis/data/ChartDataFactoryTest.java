@@ -26,6 +26,7 @@ import wres.datamodel.statistics.DiagramStatisticOuter;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter.DoubleScoreComponentOuter;
 import wres.datamodel.statistics.DurationDiagramStatisticOuter;
 import wres.datamodel.statistics.DurationScoreStatisticOuter;
+import wres.datamodel.statistics.PairsStatisticOuter;
 import wres.datamodel.thresholds.OneOrTwoThresholds;
 import wres.datamodel.thresholds.ThresholdOuter;
 import wres.datamodel.time.TimeWindowOuter;
@@ -39,6 +40,8 @@ import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.Evaluation;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.Outputs.GraphicFormat.GraphicShape;
+import wres.statistics.generated.Pairs;
+import wres.statistics.generated.PairsStatistic;
 import wres.statistics.generated.Pool;
 import wres.statistics.generated.TimeWindow;
 import wres.vis.TestDataGenerator;
@@ -389,4 +392,58 @@ class ChartDataFactoryTest
         assertEquals( 7.0, dataset.getY( 0, 6 ) );
         assertEquals( ThresholdOuter.ALL_DATA.toString(), dataset.getSeriesKey( 0 ) );
     }
+
+    @Test
+    void testOfPairsStatisticsDecimatesLongTimeSeries()
+    {
+        PairsStatisticOuter template = TestDataGenerator.getPairsStatisticsForOnePoolWithTwoTimeSeries();
+
+        // One long time-series with a peak
+        Pairs.TimeSeriesOfPairs.Builder timeSeries = Pairs.TimeSeriesOfPairs.newBuilder();
+
+        for ( int i = 0; i < 1000; i++ )
+        {
+            double right = i == 567 ? 100.0 : 1.0;
+            timeSeries.addPairs( Pairs.Pair.newBuilder()
+                                           .addLeft( 1.0 )
+                                           .addRight( right )
+                                           .setValidTime( Timestamp.newBuilder()
+                                                                   .setSeconds( i * 3600L ) ) );
+        }
+
+        Pairs pairs = template.getStatistic()
+                              .getStatistics()
+                              .toBuilder()
+                              .clearTimeSeries()
+                              .addTimeSeries( timeSeries )
+                              .build();
+        PairsStatistic statistic = template.getStatistic()
+                                           .toBuilder()
+                                           .setStatistics( pairs )
+                                           .build();
+        PairsStatisticOuter statistics = PairsStatisticOuter.of( statistic, template.getPoolMetadata() );
+
+        XYDataset dataset = ChartDataFactory.ofPairsStatistics( statistics, 100 );
+
+        assertEquals( 2, dataset.getSeriesCount() );
+        assertEquals( 100, dataset.getItemCount( 0 ) );
+        assertEquals( 100, dataset.getItemCount( 1 ) );
+
+        // The first and last pairs and the peak are retained
+        assertEquals( 0.0, dataset.getXValue( 1, 0 ) );
+        assertEquals( 999 * 3600_000.0, dataset.getXValue( 1, 99 ) );
+
+        double maximum = Double.NEGATIVE_INFINITY;
+        for ( int i = 0; i < dataset.getItemCount( 1 ); i++ )
+        {
+            maximum = Math.max( maximum, dataset.getYValue( 1, i ) );
+        }
+
+        assertEquals( 100.0, maximum );
+
+        // No decimation by default
+        XYDataset complete = ChartDataFactory.ofPairsStatistics( statistics );
+
+        assertEquals( 1000, complete.getItemCount( 1 ) );
+    }
 }
@@ -0,0 +1,111 @@
+package wres.vis.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PointDecimator}.
+ *
+ * @author James Brown
+ */
+
+class PointDecimatorTest
+{
+    @Test
+    void testLargestTriangleThreeBucketsReturnsAllPointsWhenBelowMaximum()
+    {
+        double[] x = { 1, 2, 3, 4 };
+        double[] y = { 5, 6, 7, 8 };
+
+        int[] actual = PointDecimator.largestTriangleThreeBuckets( x, y, 4 );
+
+        assertArrayEquals( new int[] { 0, 1, 2, 3 }, actual );
+    }
+
+    @Test
+    void testLargestTriangleThreeBucketsSelectsPeaksAndTroughs()
+    {
+        // A flat series with one peak and one trough
+        double[] x = new double[100];
+        double[] y = new double[100];
+        Arrays.setAll( x, i -> i );
+        y[23] = 10.0;
+        y[71] = -10.0;
+
+        int[] actual = PointDecimator.largestTriangleThreeBuckets( x, y, 10 );
+
+        assertEquals( 10, actual.length );
+        assertEquals( 0, actual[0] );
+        assertEquals( 99, actual[9] );
+        assertTrue( Arrays.stream( actual )
+                          .anyMatch( i -> i == 23 ) );
+        assertTrue( Arrays.stream( actual )
+                          .anyMatch( i -> i == 71 ) );
+
+        // Ascending order
+        for ( int i = 1; i < actual.length; i++ )
+        {
+            assertTrue( actual[i] > actual[i - 1] );
+        }
+    }
+
+    @Test
+    void testLargestTriangleThreeBucketsDoesNotPreferNonFiniteValues()
+    {
+        double[] x = { 0, 1, 2, 3, 4, 5 };
+        double[] y = { 0, Double.NaN, 1, Double.NaN, 7, 0 };
+
+        int[] actual = PointDecimator.largestTriangleThreeBuckets( x, y, 4 );
+
+        assertArrayEquals( new int[] { 0, 2, 4, 5 }, actual );
+    }
+
+    @Test
+    void testDensityBinsSelectsOnePointPerOccupiedCell()
+    {
+        // Two clusters of points in opposite corners and one outlier
+        double[] x = new double[1001];
+        double[] y = new double[1001];
+
+        for ( int i = 0; i < 500; i++ )
+        {
+            x[i] = 0.001 * i;
+            y[i] = 0.001 * i;
+            x[i + 500] = 100 - 0.001 * i;
+            y[i + 500] = 100 - 0.001 * i;
+        }
+
+        x[1000] = 50;
+        y[1000] = 50;
+
+        int[] actual = PointDecimator.densityBins( x, y, 100 );
+
+        assertArrayEquals( new int[] { 0, 500, 1000 }, actual );
+    }
+
+    @Test
+    void testDensityBinsIgnoresNonFiniteValues()
+    {
+        double[] x = { 0, Double.NaN, 1, 2, Double.POSITIVE_INFINITY };
+        double[] y = { 0, 1, Double.NaN, 2, 3 };
+
+        int[] actual = PointDecimator.densityBins( x, y, 4 );
+
+        assertArrayEquals( new int[] { 0, 3 }, actual );
+    }
+
+    @Test
+    void testDecimationThrowsExpectedExceptionWhenMaximumPointsIsNotPositive()
+    {
+        double[] x = { 1 };
+        double[] y = { 1 };
+
+        assertThrows( IllegalArgumentException.class, () -> PointDecimator.densityBins( x, y, 0 ) );
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.slf4j.Logger;
@@ -29,6 +30,8 @@ import ucar.nc2.Attribute;
 import ucar.nc2.Dimension;
 import ucar.nc2.NetcdfFileWriter;
 import ucar.nc2.Variable;
+import ucar.nc2.write.Nc4Chunking;
+import ucar.nc2.write.Nc4ChunkingStrategy;
 
 import wres.config.components.DatasetOrientation;
 import wres.config.DeclarationUtilities;
@@ -73,6 +76,12 @@ class NetcdfOutputFileCreator2
     public static final String FAILED = " failed: ";
     public static final String ABOUT_TO_CALL_WRITE_ON = "About to call write on {}, {}, {}";
 
+    /** Is <code>true</code> if the native library that writes NetCDF-4 is available. */
+    private static final boolean IS_NETCDF4_SUPPORTED = NetcdfOutputFileCreator2.isNetcdf4Supported();
+
+    /** Is <code>true</code> if a warning has been logged about NetCDF-4 being unavailable. */
+    private static final AtomicBoolean NETCDF4_WARNING_LOGGED = new AtomicBoolean();
+
     /**
      * Create and set up dimensions of the Netcdf files for a given project.
      * @param declaration the declaration
@@ -81,6 +90,7 @@ class NetcdfOutputFileCreator2
      * @param window The outermost time window (TODO: support N windows)
      * @param analysisTime A time to label as "analysis time" in the blob.
      * @param metricVariables The variables to add to this blob.
+     * @param deflateLevel The deflate level, 0 for an uncompressed NetCDF-3 blob and 1-9 for a chunked NetCDF-4 blob.
      * @return The writer created
      * @throws WriteException when something goes wrong when creating or writing
      * @throws NullPointerException when any non-primitive arg is null
@@ -91,7 +101,8 @@ class NetcdfOutputFileCreator2
                           Set<FeatureGroup> featureGroups,
                           TimeWindowOuter window,
                           ZonedDateTime analysisTime,
-                          Collection<MetricVariable> metricVariables )
+                          Collection<MetricVariable> metricVariables,
+                          int deflateLevel )
     {
         if ( Files.exists( targetPath ) )
         {
@@ -109,7 +120,8 @@ class NetcdfOutputFileCreator2
                                                                featureGroups,
                                                                window,
                                                                analysisTime,
-                                                               metricVariables ) )
+                                                               metricVariables,
+                                                               deflateLevel ) )
         {
             ArrayInt.D1 duration = new ArrayInt.D1( 1, false );
             duration.set( 0, ( int ) window.getLatestLeadDuration().toMinutes() );
@@ -158,6 +170,7 @@ class NetcdfOutputFileCreator2
      * @param window The outermost time window (TODO: support N windows)
      * @param analysisTime A time to label as "analysis time" in the blob.
      * @param metricVariables The variables to add to this blob.
+     * @param deflateLevel The deflate level, 0 for an uncompressed NetCDF-3 blob and 1-9 for a chunked NetCDF-4 blob.
      * @return The writer created
      * @throws WriteException when something goes wrong when creating or writing
      * @throws NullPointerException when any non-primitive arg is null
@@ -168,7 +181,8 @@ class NetcdfOutputFileCreator2
                                                     Set<FeatureGroup> featureGroups,
                                                     TimeWindowOuter window,
                                                     ZonedDateTime analysisTime,
-                                                    Collection<MetricVariable> metricVariables )
+                                                    Collection<MetricVariable> metricVariables,
+                                                    int deflateLevel )
     {
         Objects.requireNonNull( declaration );
         Objects.requireNonNull( featureGroups );
@@ -178,9 +192,7 @@ class NetcdfOutputFileCreator2
 
         try
         {
-            NetcdfFileWriter writer =
-                    NetcdfFileWriter.createNew( NetcdfFileWriter.Version.netcdf3,
-                                                targetPath.toString() );
+            NetcdfFileWriter writer = NetcdfOutputFileCreator2.createNew( targetPath, deflateLevel );
             writer.addGlobalAttribute( "Conventions", "CF-1.6" );
 
             // featureType="profile" may be a better way to represent stats.
@@ -202,6 +214,63 @@ class NetcdfOutputFileCreator2
     }
 
 
+    /**
+     * Creates a writer for a new blob. When the deflate level is positive and the native library is available, the
+     * blob is NetCDF-4 with the standard chunking strategy and the prescribed deflate level, otherwise NetCDF-3.
+     *
+     * @param targetPath the path into which to write
+     * @param deflateLevel the deflate level
+     * @return the writer
+     * @throws IOException if the writer could not be created
+     */
+
+    static NetcdfFileWriter createNew( Path targetPath, int deflateLevel ) throws IOException
+    {
+        if ( deflateLevel > 0 )
+        {
+            if ( IS_NETCDF4_SUPPORTED )
+            {
+                Nc4Chunking chunking = Nc4ChunkingStrategy.factory( Nc4Chunking.Strategy.standard,
+                                                                    deflateLevel,
+                                                                    true );
+                return NetcdfFileWriter.createNew( NetcdfFileWriter.Version.netcdf4,
+                                                   targetPath.toString(),
+                                                   chunking );
+            }
+
+            if ( !NETCDF4_WARNING_LOGGED.getAndSet( true ) )
+            {
+                LOGGER.warn( "A NetCDF deflate level of {} was requested, but the native netCDF library that writes "
+                             + "compressed NetCDF-4 files is unavailable. Writing uncompressed NetCDF-3 files "
+                             + "instead.",
+                             deflateLevel );
+            }
+        }
+
+        return NetcdfFileWriter.createNew( NetcdfFileWriter.Version.netcdf3,
+                                           targetPath.toString() );
+    }
+
+    /**
+     * @return true if the native library that writes NetCDF-4 is available, otherwise false
+     */
+
+    static boolean isNetcdf4Supported()
+    {
+        // The native library is an optional runtime dependency, so look for it reflectively
+        try
+        {
+            Class<?> iosp = Class.forName( "ucar.nc2.jni.netcdf.Nc4Iosp" );
+            return Boolean.TRUE.equals( iosp.getMethod( "isClibraryPresent" )
+                                            .invoke( null ) );
+        }
+        catch ( ReflectiveOperationException | LinkageError e )
+        {
+            LOGGER.debug( "The native netCDF library is unavailable.", e );
+            return false;
+        }
+    }
+
     /**
      * Given a writer to use and the context needed, set up the dimensions of
      * the netcdf file. Calls create() which makes writer out of define mode.
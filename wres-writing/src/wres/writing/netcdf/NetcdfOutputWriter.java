@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.StringJoiner;
 import java.util.TreeMap;
@@ -33,9 +34,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
-import org.apache.commons.math3.util.Precision;
 import org.locationtech.jts.geom.Coordinate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +41,6 @@ import org.slf4j.LoggerFactory;
 import net.jcip.annotations.GuardedBy;
 import ucar.ma2.Array;
 import ucar.ma2.DataType;
-import ucar.ma2.Index;
 import ucar.ma2.InvalidRangeException;
 import ucar.nc2.Dimension;
 import ucar.nc2.NetcdfFile;
@@ -106,7 +103,7 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
     private static final String DEFAULT_GRID_TEMPLATE = "lcc_grid_template.nc";
     private static final String FEATURE_TUPLE_VARIABLE_NAME = "lid";
     private static final String FEATURE_GROUP_VARIABLE_NAME = "feature_group_name";
-    private static final int VALUE_SAVE_LIMIT = 500;
+    private static final int VALUE_SAVE_LIMIT = 10_000;
 
     // TODO: it is very unlikely that classloading datetime should be used here.
     private static final ZonedDateTime ANALYSIS_TIME = ZonedDateTime.now( ZoneId.of( "UTC" ) );
@@ -134,6 +131,12 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
 
     private final EvaluationDeclaration declaration;
 
+    /**
+     * The deflate level of the blobs, 0 for uncompressed NetCDF-3.
+     */
+
+    private final int deflateLevel;
+
     /**
      * Records whether the writer is ready to write. It is ready when all blobs have been created.
      */
@@ -314,6 +317,7 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
         this.durationUnits = durationUnits;
         this.outputDirectory = outputDirectory;
         this.declaration = declaration;
+        this.deflateLevel = systemSettings.getNetcdfDeflateLevel();
         this.isReadyToWrite = new AtomicBoolean();
 
         // Set the quantile names for sampling uncertainty
@@ -566,7 +570,8 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
                                                      featureGroups,
                                                      nextWindow,
                                                      NetcdfOutputWriter.ANALYSIS_TIME,
-                                                     variables );
+                                                     variables,
+                                                     this.deflateLevel );
 
             returnMe.add( targetPath );
 
@@ -1234,53 +1239,12 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
         return this.standardQuantileNamesForSummaryStatistics;
     }
 
-    /**
-     * Metadata about a NetCDF value.
-     * @param variableName
-     * @param origin
-     * @param value
-     */
-    private record NetcdfValueKey( String variableName, int[] origin, double value )
-    {
-        @Override
-        public boolean equals( Object o )
-        {
-            if ( this == o )
-            {
-                return true;
-            }
-            if ( o == null || this.getClass() != o.getClass() )
-            {
-                return false;
-            }
-            NetcdfValueKey in = ( NetcdfValueKey ) o;
-            return Objects.equals( this.variableName(), in.variableName() )
-                   && Arrays.equals( this.origin(), in.origin() ) && Precision.equals( this.value(), in.value() );
-        }
-
-        @Override
-        public int hashCode()
-        {
-            return Objects.hash( this.variableName(), Arrays.hashCode( this.origin() ), this.value() );
-        }
-
-        @Override
-        public String toString()
-        {
-            return new ToStringBuilder( this, ToStringStyle.SHORT_PREFIX_STYLE )
-                    .append( "variableName", this.variableName() )
-                    .append( "origin", this.origin() )
-                    .append( "value", this.value() )
-                    .toString();
-        }
-    }
-
     /**
      * Writes output for a specific pair of lead times, representing the {@link TimeWindowOuter#getEarliestLeadDuration()} and
      * the {@link TimeWindowOuter#getLatestLeadDuration()}.
      */
 
-    private static class TimeWindowWriter implements Closeable
+    static class TimeWindowWriter implements Closeable
     {
 
         private static final String WHILE_ATTEMPTING_TO_WRITE_STATISTICS_TO =
@@ -1292,7 +1256,11 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
         private boolean useLidForLocationIdentifier;
         private final Map<Object, Integer> vectorCoordinatesMap = new ConcurrentHashMap<>();
 
-        private final List<NetcdfValueKey> valuesToSave = new ArrayList<>();
+        /** The values to write, by variable name and vector coordinate, which are written in contiguous blocks. */
+        private final Map<String, SortedMap<Integer, Double>> valuesToSave = new TreeMap<>();
+
+        /** The number of values to write. */
+        private int valueCount;
 
         private final String outputPath;
         private final TimeWindowOuter timeWindow;
@@ -1403,47 +1371,100 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
                     LOGGER.trace( "Opened an underlying netcdf writer {} for pool {}.", this.writer, this.timeWindow );
                 }
 
-                for ( NetcdfValueKey key : this.valuesToSave )
+                for ( Map.Entry<String, SortedMap<Integer, Double>> nextVariable : this.valuesToSave.entrySet() )
                 {
-                    Array netcdfValue;
-                    Index ima;
-                    int[] shape = new int[key.origin().length];
-                    Arrays.fill( shape, 1 );
+                    this.writeBlocks( nextVariable.getKey(), nextVariable.getValue() );
+                }
 
-                    netcdfValue = Array.factory( DataType.DOUBLE, shape );
-                    ima = netcdfValue.getIndex();
-                    double value = key.value();
+                this.writer.flush();
 
-                    if ( MissingValues.isMissingValue( value ) )
-                    {
-                        value = NetcdfOutputFileCreator2.DOUBLE_FILL_VALUE;
-                    }
+                this.valuesToSave.clear();
+                this.valueCount = 0;
+            }
+        }
 
-                    LOGGER.trace( "Value found for {}: {}", ima, value );
-                    netcdfValue.setDouble( ima, value );
+        /**
+         * Writes the values of one variable with one array write for each block of contiguous vector coordinates.
+         *
+         * @param variableName the variable name
+         * @param values the values by vector coordinate
+         * @throws IOException if the values could not be written
+         */
 
-                    try
-                    {
-                        this.writer.write( key.variableName(), key.origin(), netcdfValue );
-                    }
-                    catch ( NullPointerException | IOException | InvalidRangeException e )
-                    {
-                        String exceptionMessage = "While attempting to write data value "
-                                                  + key.value()
-                                                  + " with variable name "
-                                                  + key.variableName()
-                                                  + " to index "
-                                                  + Arrays.toString( key.origin() )
-                                                  + " within file "
-                                                  + this.outputPath
-                                                  + ": ";
-                        throw new IOException( exceptionMessage, e );
-                    }
+        private void writeBlocks( String variableName, SortedMap<Integer, Double> values ) throws IOException
+        {
+            double[] block = new double[values.size()];
+            int blockStart = -1;
+            int blockLength = 0;
+
+            for ( Map.Entry<Integer, Double> nextValue : values.entrySet() )
+            {
+                int coordinate = nextValue.getKey();
+
+                // Not contiguous with the current block, so write the current block and start a new one
+                if ( blockLength > 0
+                     && coordinate != blockStart + blockLength )
+                {
+                    this.writeBlock( variableName, blockStart, block, blockLength );
+                    blockLength = 0;
                 }
 
-                this.writer.flush();
+                if ( blockLength == 0 )
+                {
+                    blockStart = coordinate;
+                }
 
-                this.valuesToSave.clear();
+                double value = nextValue.getValue();
+
+                if ( MissingValues.isMissingValue( value ) )
+                {
+                    value = NetcdfOutputFileCreator2.DOUBLE_FILL_VALUE;
+                }
+
+                block[blockLength] = value;
+                blockLength++;
+            }
+
+            if ( blockLength > 0 )
+            {
+                this.writeBlock( variableName, blockStart, block, blockLength );
+            }
+        }
+
+        /**
+         * Writes a block of contiguous values as one hyperslab.
+         *
+         * @param variableName the variable name
+         * @param start the vector coordinate of the first value
+         * @param block the values, starting at index zero
+         * @param length the number of values to write
+         * @throws IOException if the block could not be written
+         */
+
+        private void writeBlock( String variableName, int start, double[] block, int length ) throws IOException
+        {
+            Array netcdfValues = Array.factory( DataType.DOUBLE,
+                                                new int[] { length },
+                                                Arrays.copyOf( block, length ) );
+
+            LOGGER.trace( "Writing {} values to variable {} from index {}.", length, variableName, start );
+
+            try
+            {
+                this.writer.write( variableName, new int[] { start }, netcdfValues );
+            }
+            catch ( NullPointerException | IOException | InvalidRangeException e )
+            {
+                String exceptionMessage = "While attempting to write "
+                                          + length
+                                          + " data values with variable name "
+                                          + variableName
+                                          + " from index "
+                                          + start
+                                          + " within file "
+                                          + this.outputPath
+                                          + ": ";
+                throw new IOException( exceptionMessage, e );
             }
         }
 
@@ -1696,14 +1717,28 @@ public class NetcdfOutputWriter implements NetcdfWriter<DoubleScoreStatisticOute
             return null;
         }
 
-        private void saveValues( String name, int[] origin, double value )
+        /**
+         * Saves a value for writing in contiguous blocks, writing the saved values when the limit is exceeded.
+         *
+         * @param name the variable name
+         * @param origin the vector coordinate of the value
+         * @param value the value
+         * @throws IOException if the saved values could not be written
+         * @throws InvalidRangeException if the saved values could not be written
+         */
+
+        void saveValues( String name, int[] origin, double value )
                 throws IOException, InvalidRangeException
         {
             synchronized ( this.writeLock )
             {
-                this.valuesToSave.add( new NetcdfValueKey( name, origin, value ) );
+                // Vector coordinates only. A later value for the same coordinate replaces an earlier one, as though
+                // written in sequence
+                this.valuesToSave.computeIfAbsent( name, k -> new TreeMap<>() )
+                                 .put( origin[0], value );
+                this.valueCount++;
 
-                if ( this.valuesToSave.size() > VALUE_SAVE_LIMIT )
+                if ( this.valueCount > VALUE_SAVE_LIMIT )
                 {
                     this.writeMetricResults();
                     LOGGER.trace( "Output {} values to {}", VALUE_SAVE_LIMIT, this.outputPath );
@@ -1,10 +1,12 @@
 package wres.writing.netcdf;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -15,14 +17,21 @@ import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFileWriter;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.Variable;
 
 import wres.config.MetricConstants;
-import wres.config.components.DataType;
 import wres.config.components.Dataset;
 import wres.config.components.EvaluationDeclaration;
 import wres.config.components.Formats;
@@ -32,6 +41,7 @@ import wres.config.components.SourceInterface;
 import wres.config.components.ThresholdType;
 import wres.config.components.TimePools;
 import wres.config.components.TimePoolsBuilder;
+import wres.datamodel.MissingValues;
 import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.space.FeatureTuple;
@@ -65,6 +75,12 @@ class NetcdfOutputWriterTest
     /**  Temp dir to write. Cannot use an in-memory file system because the low-level writer does not use java.nio. */
     private static final Path TEMP_DIR = Paths.get( System.getProperty( "java.io.tmpdir" ) );
 
+    /** The name of the variable in a blob written by a time window writer. */
+    private static final String VARIABLE = "statistic";
+
+    /** The value of each coordinate in a blob before writing, which identifies coordinates that were not written. */
+    private static final double UNWRITTEN = -1.0;
+
     @BeforeEach
     void runBeforeEachTest() throws IOException
     {
@@ -132,7 +148,7 @@ class NetcdfOutputWriterTest
         Mockito.when( rightSources.sources() )
                .thenReturn( List.of( rightSource ) );
         Mockito.when( rightSources.type() )
-               .thenReturn( DataType.ENSEMBLE_FORECASTS );
+               .thenReturn( wres.config.components.DataType.ENSEMBLE_FORECASTS );
 
         Mockito.when( declaration.left() )
                .thenReturn( leftSources );
@@ -316,4 +332,128 @@ class NetcdfOutputWriterTest
             Assertions.assertDoesNotThrow( () -> writer.apply( statistics ) );
         }
     }
+
+    @Test
+    void testTimeWindowWriterWritesContiguousBlocksAndLeavesGapsUnwritten() throws IOException, InvalidRangeException
+    {
+        Path blob = this.createBlob( 7 );
+
+        try ( NetcdfOutputWriter.TimeWindowWriter writer = new NetcdfOutputWriter.TimeWindowWriter( null,
+                                                                                                    blob.toString(),
+                                                                                                    null ) )
+        {
+            // Saved out of order, with gaps at coordinates 2, 5 and 6
+            writer.saveValues( VARIABLE, new int[] { 4 }, 5.0 );
+            writer.saveValues( VARIABLE, new int[] { 0 }, 1.0 );
+            writer.saveValues( VARIABLE, new int[] { 3 }, 4.0 );
+            writer.saveValues( VARIABLE, new int[] { 1 }, 2.0 );
+        }
+
+        double[] expected = new double[] { 1.0, 2.0, UNWRITTEN, 4.0, 5.0, UNWRITTEN, UNWRITTEN };
+
+        Assertions.assertArrayEquals( expected, this.readBlob( blob ) );
+    }
+
+    @Test
+    void testTimeWindowWriterWritesLastValueSavedForRepeatedCoordinate() throws IOException, InvalidRangeException
+    {
+        Path blob = this.createBlob( 3 );
+
+        try ( NetcdfOutputWriter.TimeWindowWriter writer = new NetcdfOutputWriter.TimeWindowWriter( null,
+                                                                                                    blob.toString(),
+                                                                                                    null ) )
+        {
+            writer.saveValues( VARIABLE, new int[] { 1 }, 1.0 );
+            writer.saveValues( VARIABLE, new int[] { 2 }, 3.0 );
+            writer.saveValues( VARIABLE, new int[] { 1 }, 2.0 );
+        }
+
+        double[] expected = new double[] { UNWRITTEN, 2.0, 3.0 };
+
+        Assertions.assertArrayEquals( expected, this.readBlob( blob ) );
+    }
+
+    @Test
+    void testTimeWindowWriterWritesFillValueForMissingValue() throws IOException, InvalidRangeException
+    {
+        Path blob = this.createBlob( 3 );
+
+        try ( NetcdfOutputWriter.TimeWindowWriter writer = new NetcdfOutputWriter.TimeWindowWriter( null,
+                                                                                                    blob.toString(),
+                                                                                                    null ) )
+        {
+            writer.saveValues( VARIABLE, new int[] { 0 }, 1.0 );
+            writer.saveValues( VARIABLE, new int[] { 1 }, MissingValues.DOUBLE );
+            writer.saveValues( VARIABLE, new int[] { 2 }, 3.0 );
+        }
+
+        double[] expected = new double[] { 1.0, NetcdfOutputFileCreator2.DOUBLE_FILL_VALUE, 3.0 };
+
+        Assertions.assertArrayEquals( expected, this.readBlob( blob ) );
+    }
+
+    @Test
+    void testCreateNewWritesNetcdf3BlobWhenDeflateIsRequestedWithoutNativeLibrary() throws IOException
+    {
+        Assumptions.assumeFalse( NetcdfOutputFileCreator2.isNetcdf4Supported(),
+                                 "The native netCDF library is available, so NetCDF-4 is written." );
+
+        Path blob = TEMP_DIR.resolve( "testpath" )
+                            .resolve( "deflated.nc" );
+
+        try ( NetcdfFileWriter writer = NetcdfOutputFileCreator2.createNew( blob, 5 ) )
+        {
+            writer.addDimension( null, "geo_feature_tuple", 1 );
+            writer.create();
+        }
+
+        // A NetCDF-3 blob begins with "CDF", whereas a NetCDF-4 blob begins with the HDF5 signature
+        byte[] magic = Arrays.copyOf( Files.readAllBytes( blob ), 3 );
+
+        Assertions.assertArrayEquals( "CDF".getBytes( StandardCharsets.US_ASCII ), magic );
+    }
+
+    /**
+     * Creates a NetCDF-3 blob with one variable whose coordinates are all {@link #UNWRITTEN}.
+     *
+     * @param featureCount the number of vector coordinates
+     * @return the path to the blob
+     * @throws IOException if the blob could not be created
+     * @throws InvalidRangeException if the blob could not be initialized
+     */
+
+    private Path createBlob( int featureCount ) throws IOException, InvalidRangeException
+    {
+        Path blob = TEMP_DIR.resolve( "testpath" )
+                            .resolve( "blob.nc" );
+
+        try ( NetcdfFileWriter writer = NetcdfOutputFileCreator2.createNew( blob, 0 ) )
+        {
+            writer.addDimension( null, "geo_feature_tuple", featureCount );
+            Variable variable = writer.addVariable( null, VARIABLE, DataType.DOUBLE, "geo_feature_tuple" );
+            writer.create();
+
+            double[] unwritten = new double[featureCount];
+            Arrays.fill( unwritten, UNWRITTEN );
+            writer.write( variable, Array.factory( DataType.DOUBLE, new int[] { featureCount }, unwritten ) );
+        }
+
+        return blob;
+    }
+
+    /**
+     * @param blob the path to the blob
+     * @return the values of the variable in the blob
+     * @throws IOException if the blob could not be read
+     */
+
+    private double[] readBlob( Path blob ) throws IOException
+    {
+        try ( NetcdfFile file = NetcdfFiles.open( blob.toString() ) )
+        {
+            return ( double[] ) file.findVariable( VARIABLE )
+                                    .read()
+                                    .copyTo1DJavaArray();
+        }
+    }
 }